@@ -3,6 +3,7 @@ package com.techno.backend.config;
 import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheManagerProxy;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
@@ -18,9 +19,19 @@ public class CacheConfig {
      * - Redis (Spring Data Redis)
      * - Hazelcast
      * - Caffeine with distributed sync
+     *
+     * Caches:
+     * - systemConfig: configuration values by key
+     * - attendanceClosures: closed flag per attendance date
+     * - timeSchedules: applicable schedule per (department, project)
+     * - holidays / weekendDays: calendar flags used by check-in and calculations
+     *
+     * Puts and evictions are applied after the surrounding transaction commits,
+     * so a rolled back change never reaches the cache.
      */
     @Bean
     public CacheManager cacheManager() {
-        return new ConcurrentMapCacheManager("systemConfig");
+        return new TransactionAwareCacheManagerProxy(new ConcurrentMapCacheManager(
+                "systemConfig", "attendanceClosures", "timeSchedules", "holidays", "weekendDays"));
     }
 }
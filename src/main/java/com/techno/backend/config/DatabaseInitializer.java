@@ -3,32 +3,75 @@ package com.techno.backend.config;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.InitializingBean;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.DependsOn;
 import org.springframework.core.annotation.Order;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Component;
 
 import javax.sql.DataSource;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.sql.Connection;
 import java.sql.DatabaseMetaData;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 /**
- * Custom database initializer that ensures schema is correct.
- * Runs after schema.sql to ensure the is_paid column exists before data.sql
- * executes.
+ * Versioned database migration runner.
+ *
+ * Every migration is recorded in the SCHEMA_MIGRATIONS table with the checksum
+ * of its content. On startup the applied versions are read with one query and
+ * only migrations that are new, changed, or previously failed are executed, so
+ * restart time stays flat as scripts and data grow.
+ *
+ * Failure policy:
+ * - V1/V2 predate this runner and some of their statements fail on databases
+ *   that already have the data. Failed statements are logged and the script is
+ *   recorded with success = 'N', but it is not retried until its content changes.
+ * - V3+ scripts must run cleanly: a failing statement is recorded and startup is
+ *   aborted, so the error surfaces instead of being retried on every boot.
+ *
+ * Migrations:
+ * - V1: migrate-language-fields.sql (legacy location, kept for external tooling)
+ * - V2: data-seed.sql (legacy location, kept for external tooling)
+ * - V3+: classpath:db/migration/V{n}__{description}.sql
+ * - Java migrations registered through {@link #applyOnce} (e.g. seeding in SchemaMigration)
+ *
+ * Scripts must stay idempotent: an edited script (new checksum) is re-applied.
+ *
+ * The V3+ scripts alter tables created by Hibernate (ddl-auto=update), so the
+ * runner depends on the entityManagerFactory bean: the schema update has run
+ * before the first migration, on a fresh database too.
  */
 @Component
+@DependsOn("entityManagerFactory")
 @Order(0) // Run as early as possible
 public class DatabaseInitializer implements InitializingBean {
 
     private static final Logger log = LoggerFactory.getLogger(DatabaseInitializer.class);
 
+    private static final String MIGRATION_LOCATION = "classpath:db/migration/V*__*.sql";
+    private static final Pattern VERSION_PATTERN = Pattern.compile("^V(\\d+)__(.+)\\.sql$");
+    private static final int LAST_LEGACY_VERSION = 2;
+
     private final JdbcTemplate jdbcTemplate;
     private final DataSource dataSource;
     private boolean initialized = false;
+    private boolean enabled = false;
+    private final Map<String, AppliedMigration> applied = new HashMap<>();
 
     @Autowired
     public DatabaseInitializer(JdbcTemplate jdbcTemplate, DataSource dataSource) {
@@ -37,7 +80,7 @@ public class DatabaseInitializer implements InitializingBean {
     }
 
     /**
-     * Run migrations on startup.
+     * Run pending migrations on startup.
      */
     @Override
     public void afterPropertiesSet() {
@@ -52,30 +95,59 @@ public class DatabaseInitializer implements InitializingBean {
             return;
         }
 
+        List<ScriptMigration> migrations;
         try {
-            log.info("Starting manual database initialization...");
+            ensureMigrationTable();
+            loadAppliedMigrations();
+            migrations = collectScriptMigrations();
+        } catch (Exception e) {
+            log.error("Database initialization failed: {}", e.getMessage(), e);
+            return;
+        }
+        enabled = true;
 
-            // 1. Run Migration Script (Schema Changes)
-            executeScript("migrate-language-fields.sql");
+        long start = System.currentTimeMillis();
+        int executed = 0;
+        for (ScriptMigration migration : migrations) {
+            if (applyScript(migration)) {
+                executed++;
+            }
+        }
 
-            // 2. Run Data Seed Script (Data Insertion)
-            executeScript("data-seed.sql");
+        log.info("Database migrations completed: {} executed, {} up to date ({} ms)",
+                executed, migrations.size() - executed, System.currentTimeMillis() - start);
+    }
 
-            // 3. Run legacy fix for is_paid column
-            try {
-                jdbcTemplate
-                        .execute("ALTER TABLE eids_holidays ADD COLUMN IF NOT EXISTS is_paid VARCHAR(1) DEFAULT 'Y'");
-                jdbcTemplate.execute("UPDATE eids_holidays SET is_paid = 'Y' WHERE is_paid IS NULL");
-                log.debug("Verified is_paid column exists in eids_holidays table");
-            } catch (Exception e) {
-                log.debug("Could not verify/add is_paid column: {}", e.getMessage());
-            }
+    /**
+     * Run a Java migration once. The action is executed only if the version has not
+     * been applied successfully before with the same checksum.
+     *
+     * @param version     unique version id (e.g. "J1")
+     * @param description short description
+     * @param checksumKey content identifying the migration; change it to force a re-run
+     * @param action      migration body; throwing marks the migration as failed
+     * @return true if the action was executed
+     */
+    public boolean applyOnce(String version, String description, String checksumKey, Runnable action) {
+        if (!enabled) {
+            return false;
+        }
 
-            log.info("Database initialization completed.");
+        String checksum = checksum(checksumKey);
+        if (isUpToDate(version, checksum)) {
+            return false;
+        }
 
+        long start = System.currentTimeMillis();
+        boolean success = true;
+        try {
+            action.run();
         } catch (Exception e) {
-            log.error("Database initialization failed: {}", e.getMessage(), e);
+            success = false;
+            log.error("Java migration {} ({}) failed: {}", version, description, e.getMessage());
         }
+        recordMigration(version, description, "java", checksum, System.currentTimeMillis() - start, success);
+        return true;
     }
 
     /**
@@ -92,73 +164,191 @@ public class DatabaseInitializer implements InitializingBean {
         }
     }
 
-    private void executeScript(String filename) {
-        try {
-            log.info("Executing script: {}", filename);
-            org.springframework.core.io.ClassPathResource resource = new org.springframework.core.io.ClassPathResource(
-                    filename);
-
-            if (resource.exists()) {
-                try (java.io.BufferedReader reader = new java.io.BufferedReader(
-                        new java.io.InputStreamReader(resource.getInputStream(),
-                                java.nio.charset.StandardCharsets.UTF_8))) {
-
-                    String sql = reader.lines().collect(java.util.stream.Collectors.joining("\n"));
-
-                    
-                    // Handle DO blocks (PostgreSQL) - they must be executed as single statements
-                    // If SQL contains DO $$ block, execute as single statement
-                    String sqlUpper = sql.toUpperCase().trim();
-                    if (sqlUpper.startsWith("DO $$") || sqlUpper.startsWith("--") && sqlUpper.contains("DO $$")) {
-                        // Execute entire SQL as single statement (DO block)
-                        try {
-                            jdbcTemplate.execute(sql);
-                            log.info("Executed DO block from {}", filename);
-                        } catch (Exception e) {
-                            log.warn("Error executing DO block in {}: {}", filename, e.getMessage());
-                        }
-                        return;
-                    }
-
-                    // Split by semicolon to get individual statements
-                    String[] statements = sql.split(";");
-
-                    for (String statement : statements) {
-                        String trimmed = statement.trim();
-                        
-                        // Skip empty statements
-                        if (trimmed.isEmpty()) {
-                            continue;
-                        }
-                        
-                        // Skip comment-only lines (lines starting with --)
-                        if (trimmed.startsWith("--")) {
-                            continue;
-                        }
-                        
-                        // Skip multi-line comments (/* ... */)
-                        if (trimmed.startsWith("/*") || trimmed.contains("/*")) {
-                            continue;
-                        }
-
-                        try {
-                            // log.debug("Executing SQL: {}", trimmed);
-                            jdbcTemplate.execute(trimmed);
-                        } catch (Exception e) {
-                            // Log but continue, as some changes might already be applied (idempotency)
-                            log.warn("Error executing statement in {}: {}. Error: {}",
-                                    filename,
-                                    trimmed.substring(0, Math.min(trimmed.length(), 50)) + "...",
-                                    e.getMessage());
-                        }
-                    }
-                    log.info("Script {} executed successfully.", filename);
-                }
+    private void ensureMigrationTable() {
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS schema_migrations (" +
+                "version VARCHAR(50) PRIMARY KEY, " +
+                "description VARCHAR(200), " +
+                "script VARCHAR(200), " +
+                "checksum VARCHAR(64) NOT NULL, " +
+                "execution_ms BIGINT, " +
+                "success VARCHAR(1) NOT NULL DEFAULT 'Y', " +
+                "installed_on TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP)");
+    }
+
+    private void loadAppliedMigrations() {
+        jdbcTemplate.query("SELECT version, checksum, success FROM schema_migrations", rs -> {
+            applied.put(rs.getString("version"),
+                    new AppliedMigration(rs.getString("checksum"), "Y".equals(rs.getString("success"))));
+        });
+    }
+
+    private boolean isUpToDate(String version, String checksum) {
+        AppliedMigration existing = applied.get(version);
+        return existing != null && existing.success() && existing.checksum().equals(checksum);
+    }
+
+    /**
+     * A legacy script that already ran with this content is not retried, even if
+     * some of its statements failed.
+     */
+    private boolean isLegacyAlreadyRun(ScriptMigration migration, String checksum) {
+        AppliedMigration existing = applied.get(String.valueOf(migration.version()));
+        return migration.version() <= LAST_LEGACY_VERSION
+                && existing != null && existing.checksum().equals(checksum);
+    }
+
+    /**
+     * Legacy scripts first, then versioned scripts from db/migration ordered by version.
+     */
+    private List<ScriptMigration> collectScriptMigrations() throws IOException {
+        List<ScriptMigration> migrations = new ArrayList<>();
+        migrations.add(new ScriptMigration(1, "language fields", new ClassPathResource("migrate-language-fields.sql")));
+        migrations.add(new ScriptMigration(2, "data seed", new ClassPathResource("data-seed.sql")));
+
+        Resource[] resources = new PathMatchingResourcePatternResolver().getResources(MIGRATION_LOCATION);
+        for (Resource resource : resources) {
+            Matcher matcher = VERSION_PATTERN.matcher(resource.getFilename() != null ? resource.getFilename() : "");
+            if (matcher.matches()) {
+                migrations.add(new ScriptMigration(Integer.parseInt(matcher.group(1)),
+                        matcher.group(2).replace('_', ' '), resource));
             } else {
-                log.warn("Script {} not found!", filename);
+                log.warn("Ignoring migration with invalid name: {}", resource.getFilename());
             }
-        } catch (Exception e) {
-            log.error("Failed to execute script {}: {}", filename, e.getMessage());
         }
+
+        migrations.sort(Comparator.comparingInt(ScriptMigration::version));
+        return migrations;
+    }
+
+    /**
+     * Execute a script migration if pending.
+     *
+     * @return true if the script was executed
+     */
+    private boolean applyScript(ScriptMigration migration) {
+        Resource resource = migration.resource();
+        if (!resource.exists()) {
+            log.warn("Script {} not found!", resource.getFilename());
+            return false;
+        }
+
+        String sql;
+        try {
+            sql = resource.getContentAsString(StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new IllegalStateException("Could not read migration " + resource.getFilename(), e);
+        }
+        String version = String.valueOf(migration.version());
+        String checksum = checksum(sql);
+
+        if (isUpToDate(version, checksum) || isLegacyAlreadyRun(migration, checksum)) {
+            return false;
+        }
+
+        log.info("Applying migration V{}: {} ({})", version, migration.description(), resource.getFilename());
+        long start = System.currentTimeMillis();
+        int failures = executeScript(resource.getFilename(), sql);
+        recordMigration(version, migration.description(), resource.getFilename(), checksum,
+                System.currentTimeMillis() - start, failures == 0);
+
+        if (failures > 0 && migration.version() > LAST_LEGACY_VERSION) {
+            throw new IllegalStateException("Migration V" + version + " (" + resource.getFilename() + ") failed: "
+                    + failures + " statement(s) could not be executed, see the log above");
+        }
+        return true;
+    }
+
+    /**
+     * Execute script statements.
+     *
+     * @return number of failed statements
+     */
+    private int executeScript(String filename, String sql) {
+        // Handle DO blocks (PostgreSQL) - they must be executed as single statements
+        // If SQL contains DO $$ block, execute as single statement
+        String sqlUpper = sql.toUpperCase().trim();
+        if (sqlUpper.startsWith("DO $$") || sqlUpper.startsWith("--") && sqlUpper.contains("DO $$")) {
+            try {
+                jdbcTemplate.execute(sql);
+                log.info("Executed DO block from {}", filename);
+                return 0;
+            } catch (Exception e) {
+                log.warn("Error executing DO block in {}: {}", filename, e.getMessage());
+                return 1;
+            }
+        }
+
+        int failures = 0;
+
+        // Split by semicolon to get individual statements
+        for (String statement : sql.split(";")) {
+            // Drop comment lines (lines starting with --) so a header comment does not
+            // hide the statement that follows it
+            String trimmed = stripCommentLines(statement).trim();
+
+            // Skip empty and comment-only statements
+            if (trimmed.isEmpty()) {
+                continue;
+            }
+
+            // Skip multi-line comments (/* ... */)
+            if (trimmed.startsWith("/*") || trimmed.contains("/*")) {
+                continue;
+            }
+
+            try {
+                jdbcTemplate.execute(trimmed);
+            } catch (Exception e) {
+                // Log but continue, as some changes might already be applied (idempotency)
+                failures++;
+                log.warn("Error executing statement in {}: {}. Error: {}",
+                        filename,
+                        trimmed.substring(0, Math.min(trimmed.length(), 50)) + "...",
+                        e.getMessage());
+            }
+        }
+        return failures;
+    }
+
+    private static String stripCommentLines(String statement) {
+        StringBuilder result = new StringBuilder(statement.length());
+        for (String line : statement.split("\\R")) {
+            if (!line.trim().startsWith("--")) {
+                result.append(line).append('\n');
+            }
+        }
+        return result.toString();
+    }
+
+    private void recordMigration(String version, String description, String script, String checksum,
+                                 long executionMs, boolean success) {
+        jdbcTemplate.update("INSERT INTO schema_migrations (version, description, script, checksum, execution_ms, success, installed_on) " +
+                        "VALUES (?, ?, ?, ?, ?, ?, CURRENT_TIMESTAMP) " +
+                        "ON CONFLICT (version) DO UPDATE SET description = EXCLUDED.description, script = EXCLUDED.script, " +
+                        "checksum = EXCLUDED.checksum, execution_ms = EXCLUDED.execution_ms, success = EXCLUDED.success, " +
+                        "installed_on = EXCLUDED.installed_on",
+                version, description, script, checksum, executionMs, success ? "Y" : "N");
+        applied.put(version, new AppliedMigration(checksum, success));
+
+        if (success) {
+            log.info("Migration {} applied in {} ms", version, executionMs);
+        } else {
+            log.warn("Migration {} completed with errors", version);
+        }
+    }
+
+    private static String checksum(String content) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(content.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    private record ScriptMigration(int version, String description, Resource resource) {
+    }
+
+    private record AppliedMigration(String checksum, boolean success) {
     }
 }
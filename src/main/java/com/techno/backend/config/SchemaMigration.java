@@ -11,11 +11,12 @@ import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Component;
 
 /**
- * Migration component to handle schema changes that Hibernate's ddl-auto=update
- * might miss.
- * 
- * Runs early in the application lifecycle to ensure schema is correct before
- * data.sql executes.
+ * Seeding component for reference data that needs application services
+ * (e.g. password encoding for the admin accounts).
+ *
+ * Schema changes live in versioned scripts under db/migration and are applied
+ * by {@link DatabaseInitializer}. The seeds below are registered there as Java
+ * migrations, so they run once instead of probing the database on every boot.
  */
 @Component
 @RequiredArgsConstructor
@@ -26,62 +27,19 @@ public class SchemaMigration implements CommandLineRunner {
 
         private final JdbcTemplate jdbcTemplate;
         private final org.springframework.security.crypto.password.PasswordEncoder passwordEncoder;
+        private final DatabaseInitializer databaseInitializer;
 
         /**
-         * Run schema migrations as early as possible.
-         * This ensures the schema is correct before data.sql executes.
+         * Apply pending Java seed migrations.
          */
         @Override
         public void run(String... args) {
                 log.info("Running SchemaMigration...");
                 try {
-                        // Ensure is_paid column exists (handles cases where table was created by
-                        // Hibernate)
-                        // Note: schema.sql should handle this, but this is a backup
-                        String checkColumnSql = "DO $$ " +
-                                        "BEGIN " +
-                                        "  IF NOT EXISTS (SELECT 1 FROM information_schema.columns WHERE table_name = 'eids_holidays' AND column_name = 'is_paid') THEN "
-                                        +
-                                        "    ALTER TABLE eids_holidays ADD COLUMN is_paid VARCHAR(1) DEFAULT 'Y'; " +
-                                        "    UPDATE eids_holidays SET is_paid = 'Y' WHERE is_paid IS NULL; " +
-                                        "    ALTER TABLE eids_holidays ALTER COLUMN is_paid SET NOT NULL; " +
-                                        "  END IF; " +
-                                        "END $$;";
-
-                        jdbcTemplate.execute(checkColumnSql);
-
-                        log.info("SchemaMigration completed successfully: verified is_paid column exists in eids_holidays");
-
-                        // Add foreign key constraint to notifications table if employees_details exists
-                        try {
-                                // Check if employees_details table exists and foreign key doesn't exist yet
-                                String checkTableSql = "SELECT COUNT(*) FROM information_schema.tables " +
-                                                "WHERE table_schema = 'public' AND table_name = 'employees_details'";
-                                Integer tableCount = jdbcTemplate.queryForObject(checkTableSql, Integer.class);
-
-                                if (tableCount != null && tableCount > 0) {
-                                        // Check if foreign key already exists
-                                        String checkFkSql = "SELECT COUNT(*) FROM information_schema.table_constraints "
-                                                        +
-                                                        "WHERE constraint_schema = 'public' AND constraint_name = 'fk_notification_employee'";
-                                        Integer fkCount = jdbcTemplate.queryForObject(checkFkSql, Integer.class);
-
-                                        if (fkCount == null || fkCount == 0) {
-                                                jdbcTemplate.execute(
-                                                                "ALTER TABLE notifications ADD CONSTRAINT fk_notification_employee "
-                                                                                +
-                                                                                "FOREIGN KEY (employee_no) REFERENCES employees_details(employee_no)");
-                                                log.info("Added foreign key constraint fk_notification_employee to notifications table");
-                                        }
-                                }
-                        } catch (Exception e) {
-                                log.debug("Could not add foreign key constraint (employees_details may not exist yet): {}",
-                                                e.getMessage());
-                        }
-
-                        seedContractTypes();
-                        seedAdminUserAndEmployee();
-
+                        databaseInitializer.applyOnce("J1", "seed contract types", "contract-types-v1",
+                                        this::seedContractTypes);
+                        databaseInitializer.applyOnce("J2", "seed admin users", "admin-users-v1",
+                                        this::seedAdminUserAndEmployee);
                 } catch (Exception e) {
                         log.warn("SchemaMigration skipped or partially failed: {}", e.getMessage());
                 }
@@ -130,6 +88,7 @@ public class SchemaMigration implements CommandLineRunner {
                         }
                 } catch (Exception e) {
                         log.error("Failed to seed contract types: {}", e.getMessage());
+                        throw new IllegalStateException(e.getMessage(), e);
                 }
         }
 
@@ -257,6 +216,7 @@ public class SchemaMigration implements CommandLineRunner {
 
                 } catch (Exception e) {
                         log.error("Failed to seed Admin/Superadmin User/Employee: {}", e.getMessage());
+                        throw new IllegalStateException(e.getMessage(), e);
                 }
         }
 }
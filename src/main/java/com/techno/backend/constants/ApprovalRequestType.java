@@ -0,0 +1,43 @@
+package com.techno.backend.constants;
+
+import java.util.List;
+
+/**
+ * Request types shown in the approvals inbox.
+ *
+ * @author Techno HR System
+ * @version 1.0
+ */
+public final class ApprovalRequestType {
+
+    // Prevent instantiation
+    private ApprovalRequestType() {
+        throw new UnsupportedOperationException("هذه فئة مساعدة ولا يمكن إنشاء مثيل منها");
+    }
+
+    public static final String LEAVE = "LEAVE";
+    public static final String LOAN = "LOAN";
+    public static final String LOAN_POSTPONEMENT = "LOAN_POSTPONEMENT";
+    public static final String ALLOWANCE = "ALLOWANCE";
+    public static final String DEDUCTION = "DEDUCTION";
+    public static final String MANUAL_ATTENDANCE = "MANUAL_ATTENDANCE";
+    public static final String TRANSFER = "TRANSFER";
+    public static final String PAYMENT_REQUEST = "PAYMENT_REQUEST";
+    public static final String LABOR_REQUEST = "LABOR_REQUEST";
+
+    /**
+     * All inbox request types
+     */
+    public static final List<String> ALL = List.of(LEAVE, LOAN, LOAN_POSTPONEMENT, ALLOWANCE, DEDUCTION,
+            MANUAL_ATTENDANCE, TRANSFER, PAYMENT_REQUEST, LABOR_REQUEST);
+
+    /**
+     * Check if a type is valid
+     *
+     * @param type Type to check
+     * @return true if the type is one of {@link #ALL}
+     */
+    public static boolean isValid(String type) {
+        return ALL.contains(type);
+    }
+}
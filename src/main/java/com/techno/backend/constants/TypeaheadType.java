@@ -0,0 +1,39 @@
+package com.techno.backend.constants;
+
+import java.util.List;
+
+/**
+ * Record types served by the typeahead endpoint.
+ *
+ * @author Techno HR System
+ * @version 1.0
+ */
+public final class TypeaheadType {
+
+    // Prevent instantiation
+    private TypeaheadType() {
+        throw new UnsupportedOperationException("هذه فئة مساعدة ولا يمكن إنشاء مثيل منها");
+    }
+
+    public static final String EMPLOYEE = "EMPLOYEE";
+    public static final String PROJECT = "PROJECT";
+    public static final String DEPARTMENT = "DEPARTMENT";
+    public static final String STORE = "STORE";
+    public static final String ITEM = "ITEM";
+    public static final String SUPPLIER = "SUPPLIER";
+
+    /**
+     * All typeahead types
+     */
+    public static final List<String> ALL = List.of(EMPLOYEE, PROJECT, DEPARTMENT, STORE, ITEM, SUPPLIER);
+
+    /**
+     * Check if a type is valid
+     *
+     * @param type Type to check
+     * @return true if the type is one of {@link #ALL}
+     */
+    public static boolean isValid(String type) {
+        return ALL.contains(type);
+    }
+}
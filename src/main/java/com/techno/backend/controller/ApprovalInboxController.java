@@ -0,0 +1,143 @@
+package com.techno.backend.controller;
+
+import com.techno.backend.dto.ApiResponse;
+import com.techno.backend.dto.approval.ApprovalDecisionRequest;
+import com.techno.backend.dto.approval.ApprovalDecisionResponse;
+import com.techno.backend.dto.approval.ApprovalInboxResponse;
+import com.techno.backend.exception.ResourceNotFoundException;
+import com.techno.backend.service.ApprovalInboxService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * REST Controller for the unified approvals inbox.
+ * Lists leaves, loans, postponements, allowances, deductions, manual attendance,
+ * transfers, payment requests and labor requests waiting for the current user,
+ * and approves or rejects a selection of them at once.
+ *
+ * @author Techno HR System
+ * @version 1.0
+ */
+@RestController
+@RequestMapping("/approvals/inbox")
+@RequiredArgsConstructor
+@Slf4j
+public class ApprovalInboxController {
+
+    private final ApprovalInboxService approvalInboxService;
+
+    /**
+     * Get requests waiting for the current user, oldest first.
+     *
+     * GET /api/approvals/inbox?types=LEAVE,LOAN&page=0&size=20
+     *
+     * @param types Request types to list; all if omitted
+     * @param page Page number (0-based)
+     * @param size Page size (default 20, at most 100)
+     * @return Page of pending requests with counts per type
+     */
+    @GetMapping
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<ApiResponse<ApprovalInboxResponse>> getInbox(
+            @RequestParam(value = "types", required = false) List<String> types,
+            @RequestParam(value = "page", required = false) Integer page,
+            @RequestParam(value = "size", required = false) Integer size) {
+        Long approverNo = getCurrentEmployeeNo();
+        log.info("GET /api/approvals/inbox - approver: {}, types: {}, page: {}", approverNo, types, page);
+
+        ApprovalInboxResponse response = approvalInboxService.getInbox(approverNo, types, page, size);
+        return ResponseEntity.ok(ApiResponse.success("تم استرجاع الطلبات المعلقة بنجاح", response));
+    }
+
+    /**
+     * Count requests waiting for the current user, per type.
+     *
+     * GET /api/approvals/inbox/counts
+     *
+     * @return Count per request type
+     */
+    @GetMapping("/counts")
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<ApiResponse<Map<String, Long>>> getCounts() {
+        Long approverNo = getCurrentEmployeeNo();
+        log.debug("GET /api/approvals/inbox/counts - approver: {}", approverNo);
+
+        return ResponseEntity.ok(ApiResponse.success("تم استرجاع عدد الطلبات المعلقة بنجاح",
+                approvalInboxService.countPending(approverNo)));
+    }
+
+    /**
+     * Approve the selected requests; if any cannot be approved, none are.
+     *
+     * POST /api/approvals/inbox/approve
+     *
+     * @param request Selected requests and optional notes
+     * @return Number approved and remaining counts per type
+     */
+    @PostMapping("/approve")
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<ApiResponse<ApprovalDecisionResponse>> approve(
+            @Valid @RequestBody ApprovalDecisionRequest request) {
+        Long approverNo = getCurrentEmployeeNo();
+        log.info("POST /api/approvals/inbox/approve - approver: {}, {} requests", approverNo, request.getItems().size());
+
+        int processed = approvalInboxService.approveAll(approverNo, request);
+        return ResponseEntity.ok(ApiResponse.success("تم اعتماد الطلبات بنجاح", decision(approverNo, processed)));
+    }
+
+    /**
+     * Reject the selected requests; if any cannot be rejected, none are.
+     *
+     * POST /api/approvals/inbox/reject
+     *
+     * @param request Selected requests and rejection reason
+     * @return Number rejected and remaining counts per type
+     */
+    @PostMapping("/reject")
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<ApiResponse<ApprovalDecisionResponse>> reject(
+            @Valid @RequestBody ApprovalDecisionRequest request) {
+        Long approverNo = getCurrentEmployeeNo();
+        log.info("POST /api/approvals/inbox/reject - approver: {}, {} requests", approverNo, request.getItems().size());
+
+        int processed = approvalInboxService.rejectAll(approverNo, request);
+        return ResponseEntity.ok(ApiResponse.success("تم رفض الطلبات بنجاح", decision(approverNo, processed)));
+    }
+
+    // Counted after the decision has committed
+    private ApprovalDecisionResponse decision(Long approverNo, int processed) {
+        return ApprovalDecisionResponse.builder()
+                .processed(processed)
+                .remainingByType(approvalInboxService.countPending(approverNo))
+                .build();
+    }
+
+    private Long getCurrentEmployeeNo() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+
+        if (authentication == null || !authentication.isAuthenticated()) {
+            throw new ResourceNotFoundException("المستخدم غير مصادق عليه");
+        }
+
+        try {
+            return Long.parseLong(authentication.getName());
+        } catch (NumberFormatException e) {
+            log.error("Failed to parse employee number from authentication: {}", authentication.getName());
+            throw new ResourceNotFoundException("رقم الموظف غير صالح في سياق المصادقة");
+        }
+    }
+}
@@ -1,13 +1,18 @@
 package com.techno.backend.controller;
 
 import com.techno.backend.dto.*;
+import com.techno.backend.exception.BadRequestException;
 import com.techno.backend.exception.ResourceNotFoundException;
+import com.techno.backend.service.AttendanceRollupService;
 import com.techno.backend.service.AttendanceService;
+import com.techno.backend.service.ProjectGeofenceService;
 import com.techno.backend.service.UserService;
+import com.techno.backend.entity.AttendanceMonthlyRollup;
 import com.techno.backend.entity.UserAccount;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -21,6 +26,8 @@ import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.*;
 
 import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -48,6 +55,8 @@ import java.util.Map;
 public class AttendanceController {
 
         private final AttendanceService attendanceService;
+        private final AttendanceRollupService attendanceRollupService;
+        private final ProjectGeofenceService projectGeofenceService;
         private final UserService userService;
 
         /**
@@ -78,19 +87,37 @@ public class AttendanceController {
          *
          * POST /api/attendance/check-in
          *
+         * Clients may send an Idempotency-Key header (or idempotencyKey in the body);
+         * repeating the request with the same key returns the original check-in.
+         *
          * @param request Check-in request with GPS coordinates
+         * @param idempotencyKey Optional client request key
          * @return Check-in response with entry details
          */
         @PostMapping("/check-in")
         @PreAuthorize("hasAnyRole('ADMIN', 'EMPLOYEE')")
         public ResponseEntity<ApiResponse<CheckInResponse>> checkIn(
-                        @Valid @RequestBody CheckInRequest request) {
+                        @Valid @RequestBody CheckInRequest request,
+                        @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey) {
 
                 Long employeeNo = getCurrentEmployeeNo();
                 log.info("POST /api/attendance/check-in - Employee {} checking in at project {}",
                                 employeeNo, request.getProjectCode());
 
-                CheckInResponse response = attendanceService.checkIn(employeeNo, request);
+                if (idempotencyKey != null && !idempotencyKey.isBlank()) {
+                        if (idempotencyKey.length() > 64) {
+                                throw new BadRequestException("يجب ألا يتجاوز مفتاح الطلب 64 حرفاً");
+                        }
+                        request.setIdempotencyKey(idempotencyKey);
+                }
+
+                CheckInResponse response;
+                try {
+                        response = attendanceService.checkIn(employeeNo, request);
+                } catch (DataIntegrityViolationException e) {
+                        // Another check-in for the same employee and day committed first
+                        response = attendanceService.resolveCheckInConflict(employeeNo, request, e);
+                }
 
                 return ResponseEntity.status(HttpStatus.CREATED).body(ApiResponse.success(
                                 "تم تسجيل الدخول بنجاح!",
@@ -397,6 +424,87 @@ public class AttendanceController {
                                 response));
         }
 
+        /**
+         * Scroll all attendance records with cursor (keyset) pagination.
+         * Same filters as /list; page cost stays constant with depth, suited to
+         * infinite scrolling and exports over long date ranges.
+         *
+         * GET
+         * /api/attendance/list/scroll?startDate=2025-01-01&endDate=2025-12-31&size=50&cursor=...
+         *
+         * @param startDate     Start date (optional)
+         * @param endDate       End date (optional)
+         * @param employeeNo    Employee number (optional)
+         * @param projectCode   Project code (optional)
+         * @param cursor        nextCursor from the previous page (omit for first page)
+         * @param size          Page size (default: 50, max: 500)
+         * @param sortDirection Sort direction by attendance date (default: desc)
+         * @return Page of attendance records with next cursor
+         */
+        @GetMapping("/list/scroll")
+        @PreAuthorize("hasAnyRole('ADMIN', 'GENERAL_MANAGER', 'HR_MANAGER', 'FINANCE_MANAGER', 'PROJECT_MANAGER', 'EMPLOYEE')")
+        public ResponseEntity<ApiResponse<CursorPageResponse<AttendanceResponse>>> scrollAllAttendance(
+                        @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+                        @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+                        @RequestParam(required = false) Long employeeNo,
+                        @RequestParam(required = false) Long projectCode,
+                        @RequestParam(required = false) String cursor,
+                        @RequestParam(defaultValue = "50") int size,
+                        @RequestParam(defaultValue = "desc") String sortDirection) {
+
+                log.debug("GET /api/attendance/list/scroll - from {} to {}, employee: {}, project: {}",
+                                startDate, endDate, employeeNo, projectCode);
+
+                // Employees can only see their own attendance
+                Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+                if (authentication != null && authentication.getAuthorities().stream()
+                                .anyMatch(a -> a.getAuthority().equals("ROLE_EMPLOYEE"))) {
+                        employeeNo = getCurrentEmployeeNo();
+                }
+
+                CursorPageResponse<AttendanceResponse> response = attendanceService.scrollAttendance(
+                                startDate, endDate, employeeNo, projectCode,
+                                cursor, size, sortDirection.equalsIgnoreCase("asc"));
+
+                return ResponseEntity.ok(ApiResponse.success(
+                                "تم استرجاع سجلات الحضور بنجاح",
+                                response));
+        }
+
+        /**
+         * Scroll attendance records of an employee with cursor (keyset) pagination.
+         *
+         * GET /api/attendance/employee/{employeeNo}/scroll?startDate=2025-01-01&size=50&cursor=...
+         *
+         * @param employeeNo    Employee number
+         * @param startDate     Start date (optional)
+         * @param endDate       End date (optional)
+         * @param cursor        nextCursor from the previous page (omit for first page)
+         * @param size          Page size (default: 50, max: 500)
+         * @param sortDirection Sort direction by attendance date (default: desc)
+         * @return Page of attendance records with next cursor
+         */
+        @GetMapping("/employee/{employeeNo}/scroll")
+        @PreAuthorize("hasAnyRole('ADMIN', 'GENERAL_MANAGER', 'HR_MANAGER', 'FINANCE_MANAGER', 'PROJECT_MANAGER')")
+        public ResponseEntity<ApiResponse<CursorPageResponse<AttendanceResponse>>> scrollEmployeeAttendance(
+                        @PathVariable Long employeeNo,
+                        @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+                        @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+                        @RequestParam(required = false) String cursor,
+                        @RequestParam(defaultValue = "50") int size,
+                        @RequestParam(defaultValue = "desc") String sortDirection) {
+
+                log.debug("GET /api/attendance/employee/{}/scroll - from {} to {}", employeeNo, startDate, endDate);
+
+                CursorPageResponse<AttendanceResponse> response = attendanceService.scrollAttendance(
+                                startDate, endDate, employeeNo, null,
+                                cursor, size, sortDirection.equalsIgnoreCase("asc"));
+
+                return ResponseEntity.ok(ApiResponse.success(
+                                "تم استرجاع سجلات الحضور بنجاح",
+                                response));
+        }
+
         /**
          * Get employee timesheet for a specific month.
          * Returns day-by-day attendance calendar with status for each day.
@@ -432,6 +540,83 @@ public class AttendanceController {
                                 response));
         }
 
+        /**
+         * Get monthly attendance rollups (one row per employee).
+         *
+         * GET /api/attendance/rollups?month={YYYY-MM}&employeeNo={id}
+         *
+         * @param month      Month in YYYY-MM format
+         * @param employeeNo Employee number (optional, all employees if omitted)
+         * @return Rollup rows for the month
+         */
+        @GetMapping("/rollups")
+        @PreAuthorize("hasAnyRole('ADMIN', 'GENERAL_MANAGER', 'HR_MANAGER', 'FINANCE_MANAGER', 'PROJECT_MANAGER')")
+        public ResponseEntity<ApiResponse<List<AttendanceMonthlyRollup>>> getMonthlyRollups(
+                        @RequestParam @DateTimeFormat(pattern = "yyyy-MM") YearMonth month,
+                        @RequestParam(required = false) Long employeeNo) {
+                log.info("GET /api/attendance/rollups - Month: {}, Employee: {}", month, employeeNo);
+
+                List<AttendanceMonthlyRollup> rollups = employeeNo != null
+                                ? List.of(attendanceRollupService.getRollup(employeeNo, month))
+                                : attendanceRollupService.getMonthRollups(month);
+
+                return ResponseEntity.ok(ApiResponse.success(
+                                "تم استرجاع ملخص الحضور الشهري بنجاح",
+                                rollups));
+        }
+
+        /**
+         * Rebuild monthly attendance rollups from raw attendance records.
+         * Verifies every row of the month and corrects rows that drifted.
+         *
+         * POST /api/attendance/rollups/rebuild?month={YYYY-MM}
+         *
+         * @param month Month in YYYY-MM format
+         * @return Verification report
+         */
+        @PostMapping("/rollups/rebuild")
+        @PreAuthorize("hasAnyRole('ADMIN', 'HR_MANAGER')")
+        public ResponseEntity<ApiResponse<AttendanceRollupRebuildResponse>> rebuildMonthlyRollups(
+                        @RequestParam @DateTimeFormat(pattern = "yyyy-MM") YearMonth month) {
+                log.info("POST /api/attendance/rollups/rebuild - Month: {}", month);
+
+                AttendanceRollupRebuildResponse response = attendanceRollupService.rebuildMonth(month);
+
+                return ResponseEntity.ok(ApiResponse.success(
+                                "تم إعادة احتساب ملخص الحضور الشهري بنجاح",
+                                response));
+        }
+
+        /**
+         * Find check-ins recorded outside the geofence of their project.
+         *
+         * GET /api/attendance/location-check?startDate={date}&endDate={date}&projectCode={code}
+         *
+         * @param startDate   Start date (inclusive)
+         * @param endDate     End date (inclusive)
+         * @param projectCode Project code (optional, all projects if omitted)
+         * @return Flagged check-ins with the nearest project site
+         */
+        @GetMapping("/location-check")
+        @PreAuthorize("hasAnyRole('ADMIN', 'GENERAL_MANAGER', 'HR_MANAGER', 'PROJECT_MANAGER')")
+        public ResponseEntity<ApiResponse<List<AttendanceLocationFlag>>> checkAttendanceLocations(
+                        @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+                        @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+                        @RequestParam(required = false) Long projectCode) {
+                log.info("GET /api/attendance/location-check - {} to {}, Project: {}", startDate, endDate, projectCode);
+
+                if (endDate.isBefore(startDate)) {
+                        throw new BadRequestException("تاريخ النهاية يجب أن يكون بعد تاريخ البداية");
+                }
+
+                List<AttendanceLocationFlag> flags = projectGeofenceService.findSuspiciousCheckIns(
+                                startDate, endDate, projectCode);
+
+                return ResponseEntity.ok(ApiResponse.success(
+                                "تم فحص مواقع تسجيل الحضور بنجاح",
+                                flags));
+        }
+
         @GetMapping("/daily-overview")
         @PreAuthorize("hasAnyRole('ADMIN', 'EMPLOYEE')")
         public ResponseEntity<ApiResponse<DailyOverviewDto>> getDailyOverview(
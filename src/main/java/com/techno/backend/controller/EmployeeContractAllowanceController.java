@@ -33,7 +33,7 @@ public class EmployeeContractAllowanceController {
      * @return List of all allowances
      */
     @GetMapping
-    @PreAuthorize("hasAnyRole('ADMIN', 'HR_MANAGER')")
+    @PreAuthorize("hasPermission(null, 'MANAGE_EMPLOYEES')")
     public ResponseEntity<ApiResponse<List<EmployeeContractAllowanceResponse>>> getAllAllowances() {
         log.info("GET /employee-contract-allowances - Fetching all allowances");
         List<EmployeeContractAllowanceResponse> allowances = allowanceService.getAllAllowances();
@@ -48,7 +48,7 @@ public class EmployeeContractAllowanceController {
      * @return EmployeeContractAllowanceResponse
      */
     @GetMapping("/{id}")
-    @PreAuthorize("hasAnyRole('ADMIN', 'HR_MANAGER')")
+    @PreAuthorize("hasPermission(null, 'MANAGE_EMPLOYEES')")
     public ResponseEntity<ApiResponse<EmployeeContractAllowanceResponse>> getAllowanceById(@PathVariable Long id) {
         log.info("GET /employee-contract-allowances/{}", id);
         EmployeeContractAllowanceResponse allowance = allowanceService.getAllowanceById(id);
@@ -63,7 +63,7 @@ public class EmployeeContractAllowanceController {
      * @return List of allowances for the employee
      */
     @GetMapping("/employee/{employeeNo}")
-    @PreAuthorize("hasAnyRole('ADMIN', 'HR_MANAGER')")
+    @PreAuthorize("hasPermission(null, 'MANAGE_EMPLOYEES')")
     public ResponseEntity<ApiResponse<List<EmployeeContractAllowanceResponse>>> getAllowancesByEmployee(
             @PathVariable Long employeeNo) {
         log.info("GET /employee-contract-allowances/employee/{}", employeeNo);
@@ -79,7 +79,7 @@ public class EmployeeContractAllowanceController {
      * @return Created EmployeeContractAllowanceResponse
      */
     @PostMapping
-    @PreAuthorize("hasAnyRole('ADMIN', 'HR_MANAGER')")
+    @PreAuthorize("hasPermission(null, 'MANAGE_EMPLOYEES')")
     public ResponseEntity<ApiResponse<EmployeeContractAllowanceResponse>> createAllowance(
             @Valid @RequestBody EmployeeContractAllowanceRequest request) {
         log.info("POST /employee-contract-allowances - Creating allowance for employee: {}, type: {}",
@@ -98,7 +98,7 @@ public class EmployeeContractAllowanceController {
      * @return Updated EmployeeContractAllowanceResponse
      */
     @PutMapping("/{id}")
-    @PreAuthorize("hasAnyRole('ADMIN', 'HR_MANAGER')")
+    @PreAuthorize("hasPermission(null, 'MANAGE_EMPLOYEES')")
     public ResponseEntity<ApiResponse<EmployeeContractAllowanceResponse>> updateAllowance(
             @PathVariable Long id,
             @Valid @RequestBody EmployeeContractAllowanceRequest request) {
@@ -1,7 +1,6 @@
 package com.techno.backend.controller;
 
 import com.techno.backend.dto.*;
-import com.techno.backend.entity.Attachment;
 import com.techno.backend.entity.Employee;
 import com.techno.backend.exception.ResourceNotFoundException;
 import com.techno.backend.repository.EmployeeRepository;
@@ -211,7 +210,7 @@ public class EmployeeController {
      * @return Created employee details
      */
     @PostMapping
-    @PreAuthorize("hasAnyRole('ADMIN', 'HR_MANAGER')")
+    @PreAuthorize("hasPermission(null, 'MANAGE_EMPLOYEES')")
     public ResponseEntity<ApiResponse<EmployeeResponse>> createEmployee(
             @Valid @RequestBody EmployeeRequest request) {
 
@@ -232,7 +231,7 @@ public class EmployeeController {
      * @return Updated employee details
      */
     @PutMapping("/{id}")
-    @PreAuthorize("hasAnyRole('ADMIN', 'HR_MANAGER')")
+    @PreAuthorize("hasPermission(null, 'MANAGE_EMPLOYEES')")
     public ResponseEntity<ApiResponse<EmployeeResponse>> updateEmployee(
             @PathVariable Long id,
             @Valid @RequestBody EmployeeRequest request) {
@@ -389,10 +388,12 @@ public class EmployeeController {
      */
     @GetMapping("/{id}/documents")
     @PreAuthorize("hasAnyRole('ADMIN', 'GENERAL_MANAGER', 'HR_MANAGER', 'FINANCE_MANAGER', 'PROJECT_MANAGER')")
-    public ResponseEntity<ApiResponse<List<Attachment>>> getEmployeeDocuments(@PathVariable Long id) {
+    public ResponseEntity<ApiResponse<List<AttachmentResponse>>> getEmployeeDocuments(@PathVariable Long id) {
         log.info("GET /api/employees/{}/documents", id);
 
-        List<Attachment> attachments = fileStorageService.getEmployeeAttachments(id);
+        List<AttachmentResponse> attachments = fileStorageService.getEmployeeAttachments(id).stream()
+                .map(AttachmentResponse::from)
+                .toList();
 
         return ResponseEntity.ok(ApiResponse.success(
                 String.format("ØªÙ… Ø§Ù„Ø¹Ø«ÙˆØ± Ø¹Ù„Ù‰ %d ÙˆØ«ÙŠÙ‚Ø© Ù„Ù„Ù…ÙˆØ¸Ù", attachments.size()),
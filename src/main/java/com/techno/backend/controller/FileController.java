@@ -1,6 +1,7 @@
 package com.techno.backend.controller;
 
 import com.techno.backend.dto.ApiResponse;
+import com.techno.backend.dto.AttachmentResponse;
 import com.techno.backend.entity.Attachment;
 import com.techno.backend.service.FileStorageService;
 import lombok.RequiredArgsConstructor;
@@ -46,7 +47,7 @@ public class FileController {
          */
         @PostMapping("/upload")
         @PreAuthorize("hasAnyRole('ADMIN', 'HR', 'MANAGER', 'EMPLOYEE')")
-        public ResponseEntity<ApiResponse<Attachment>> uploadFile(
+        public ResponseEntity<ApiResponse<AttachmentResponse>> uploadFile(
                         @RequestParam("file") MultipartFile file,
                         @RequestParam("referenceType") String referenceType,
                         @RequestParam("referenceId") Long referenceId,
@@ -64,7 +65,7 @@ public class FileController {
 
                 return ResponseEntity.status(HttpStatus.CREATED).body(ApiResponse.success(
                                 "تم رفع الملف بنجاح",
-                                attachment));
+                                AttachmentResponse.from(attachment)));
         }
 
         /**
@@ -88,6 +89,48 @@ public class FileController {
                                 .body(resource);
         }
 
+        /**
+         * Download thumbnail of an image attachment (falls back to original file)
+         *
+         * @param id Attachment ID
+         * @return Thumbnail resource
+         */
+        @GetMapping("/{id}/thumbnail")
+        @PreAuthorize("hasAnyRole('ADMIN', 'HR', 'MANAGER', 'EMPLOYEE')")
+        public ResponseEntity<Resource> downloadThumbnail(@PathVariable Long id) {
+                log.info("GET /api/files/{}/thumbnail", id);
+
+                Attachment attachment = fileStorageService.getAttachment(id);
+                Resource resource = fileStorageService.downloadThumbnail(attachment);
+                MediaType mediaType = resource.getFilename() != null && resource.getFilename().endsWith("_thumb.jpg")
+                                ? MediaType.IMAGE_JPEG
+                                : MediaType.parseMediaType(attachment.getFileType());
+
+                return ResponseEntity.ok()
+                                .contentType(mediaType)
+                                .header(HttpHeaders.CONTENT_DISPOSITION,
+                                                "inline; filename=\"" + attachment.getFileName() + "\"")
+                                .body(resource);
+        }
+
+        /**
+         * Verify stored file content against its recorded hash
+         *
+         * @param id Attachment ID
+         * @return Integrity check result
+         */
+        @GetMapping("/{id}/verify")
+        @PreAuthorize("hasAnyRole('ADMIN', 'HR')")
+        public ResponseEntity<ApiResponse<Boolean>> verifyAttachment(@PathVariable Long id) {
+                log.info("GET /api/files/{}/verify", id);
+
+                boolean valid = fileStorageService.verifyIntegrity(id);
+
+                return ResponseEntity.ok(ApiResponse.success(
+                                valid ? "الملف سليم" : "الملف تالف أو مفقود",
+                                valid));
+        }
+
         /**
          * Get attachment metadata by ID
          *
@@ -96,14 +139,14 @@ public class FileController {
          */
         @GetMapping("/{id}")
         @PreAuthorize("hasAnyRole('ADMIN', 'HR', 'MANAGER', 'EMPLOYEE')")
-        public ResponseEntity<ApiResponse<Attachment>> getAttachment(@PathVariable Long id) {
+        public ResponseEntity<ApiResponse<AttachmentResponse>> getAttachment(@PathVariable Long id) {
                 log.info("GET /api/files/{}", id);
 
                 Attachment attachment = fileStorageService.getAttachment(id);
 
                 return ResponseEntity.ok(ApiResponse.success(
                                 "تم استرجاع المرفق بنجاح",
-                                attachment));
+                                AttachmentResponse.from(attachment)));
         }
 
         /**
@@ -115,13 +158,16 @@ public class FileController {
          */
         @GetMapping("/reference/{referenceType}/{referenceId}")
         @PreAuthorize("hasAnyRole('ADMIN', 'HR', 'MANAGER', 'EMPLOYEE')")
-        public ResponseEntity<ApiResponse<List<Attachment>>> getAttachmentsByReference(
+        public ResponseEntity<ApiResponse<List<AttachmentResponse>>> getAttachmentsByReference(
                         @PathVariable String referenceType,
                         @PathVariable Long referenceId) {
 
                 log.info("GET /api/files/reference/{}/{}", referenceType, referenceId);
 
-                List<Attachment> attachments = fileStorageService.getAttachmentsByReference(referenceType, referenceId);
+                List<AttachmentResponse> attachments = fileStorageService
+                                .getAttachmentsByReference(referenceType, referenceId).stream()
+                                .map(AttachmentResponse::from)
+                                .toList();
 
                 return ResponseEntity.ok(ApiResponse.success(
                                 String.format("تم العثور على %d مرفق", attachments.size()),
@@ -72,7 +72,7 @@ public class GoodsIssueController {
     }
 
     @PutMapping("/{id}")
-    @PreAuthorize("hasRole('WAREHOUSE_MANAGER') or hasRole('ADMIN')")
+    @PreAuthorize("hasPermission(null, 'MANAGE_WAREHOUSE')")
     public ResponseEntity<ApiResponse<GoodsIssueResponse>> updateGoodsIssue(
             @PathVariable Long id,
             @Valid @RequestBody GoodsIssueRequest request) {
@@ -84,7 +84,7 @@ public class GoodsIssueController {
     }
 
     @DeleteMapping("/{id}")
-    @PreAuthorize("hasRole('WAREHOUSE_MANAGER') or hasRole('ADMIN')")
+    @PreAuthorize("hasPermission(null, 'MANAGE_WAREHOUSE')")
     public ResponseEntity<ApiResponse<Void>> deleteGoodsIssue(@PathVariable Long id) {
         log.info("REST request to delete goods issue: {}", id);
 
@@ -23,7 +23,7 @@ public class GoodsReceiptController {
     private final GoodsReceiptService goodsReceiptService;
 
     @PostMapping
-    @PreAuthorize("hasRole('WAREHOUSE_MANAGER') or hasRole('ADMIN')")
+    @PreAuthorize("hasPermission(null, 'MANAGE_WAREHOUSE')")
     public ResponseEntity<ApiResponse<GoodsReceiptResponse>> createGoodsReceipt(
             @Valid @RequestBody GoodsReceiptRequest request) {
         log.info("REST request to create goods receipt for store: {}", request.getStoreCode());
@@ -72,7 +72,7 @@ public class GoodsReceiptController {
     }
 
     @PutMapping("/{id}")
-    @PreAuthorize("hasRole('WAREHOUSE_MANAGER') or hasRole('ADMIN')")
+    @PreAuthorize("hasPermission(null, 'MANAGE_WAREHOUSE')")
     public ResponseEntity<ApiResponse<GoodsReceiptResponse>> updateGoodsReceipt(
             @PathVariable Long id,
             @Valid @RequestBody GoodsReceiptRequest request) {
@@ -84,7 +84,7 @@ public class GoodsReceiptController {
     }
 
     @DeleteMapping("/{id}")
-    @PreAuthorize("hasRole('WAREHOUSE_MANAGER') or hasRole('ADMIN')")
+    @PreAuthorize("hasPermission(null, 'MANAGE_WAREHOUSE')")
     public ResponseEntity<ApiResponse<Void>> deleteGoodsReceipt(@PathVariable Long id) {
         log.info("REST request to delete goods receipt: {}", id);
 
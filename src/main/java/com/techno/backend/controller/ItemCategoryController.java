@@ -36,7 +36,7 @@ public class ItemCategoryController {
      * POST /api/warehouse/categories
      */
     @PostMapping
-    @PreAuthorize("hasRole('WAREHOUSE_MANAGER') or hasRole('ADMIN')")
+    @PreAuthorize("hasPermission(null, 'MANAGE_WAREHOUSE')")
     public ResponseEntity<ApiResponse<CategoryResponse>> createCategory(@Valid @RequestBody CategoryRequest request) {
         log.info("REST request to create item category: {}", request.getCategoryName());
 
@@ -80,7 +80,7 @@ public class ItemCategoryController {
      * PUT /api/warehouse/categories/{id}
      */
     @PutMapping("/{id}")
-    @PreAuthorize("hasRole('WAREHOUSE_MANAGER') or hasRole('ADMIN')")
+    @PreAuthorize("hasPermission(null, 'MANAGE_WAREHOUSE')")
     public ResponseEntity<ApiResponse<CategoryResponse>> updateCategory(
             @PathVariable Long id,
             @Valid @RequestBody CategoryRequest request) {
@@ -96,7 +96,7 @@ public class ItemCategoryController {
      * DELETE /api/warehouse/categories/{id}?force=false
      */
     @DeleteMapping("/{id}")
-    @PreAuthorize("hasRole('WAREHOUSE_MANAGER') or hasRole('ADMIN')")
+    @PreAuthorize("hasPermission(null, 'MANAGE_WAREHOUSE')")
     public ResponseEntity<ApiResponse<Void>> deactivateCategory(
             @PathVariable Long id,
             @RequestParam(value = "force", defaultValue = "false") boolean force) {
@@ -3,9 +3,11 @@ package com.techno.backend.controller;
 import com.techno.backend.dto.ApiResponse;
 import com.techno.backend.dto.labor.*;
 import com.techno.backend.service.LaborAllocationService;
+import com.techno.backend.service.LaborAvailabilityService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
@@ -13,6 +15,7 @@ import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDate;
 import java.util.List;
 import java.util.Map;
 
@@ -27,6 +30,7 @@ import java.util.Map;
 public class LaborAllocationController {
 
     private final LaborAllocationService laborAllocationService;
+    private final LaborAvailabilityService laborAvailabilityService;
 
     @PostMapping("/requests")
     @PreAuthorize("hasAnyRole('ADMIN', 'PROJECT_MANAGER')")
@@ -141,6 +145,33 @@ public class LaborAllocationController {
         ));
     }
 
+    /**
+     * Assign a group of workers to a labor request in one call.
+     * 
+     * POST /labor/requests/{id}/assignments
+     * 
+     * @param id Request number
+     * @param request Workers (employee, detail line, optional dates and rate) and default dates
+     * @return Result per worker: assignment number, or reason for rejection
+     */
+    @PostMapping("/requests/{id}/assignments")
+    @PreAuthorize("hasAnyRole('ADMIN', 'HR_MANAGER', 'PROJECT_MANAGER')")
+    public ResponseEntity<ApiResponse<BulkLaborAssignmentResponse>> assignLaborBulk(
+            @PathVariable Long id,
+            @Valid @RequestBody BulkLaborAssignmentDto request) {
+
+        Long currentEmployeeNo = getCurrentEmployeeNo();
+        log.info("POST /labor/requests/{}/assignments - {} workers, assigned by: {}",
+                id, request.getWorkers().size(), currentEmployeeNo);
+
+        BulkLaborAssignmentResponse response = laborAllocationService.assignLaborBulk(id, request, currentEmployeeNo);
+
+        return ResponseEntity.status(HttpStatus.CREATED).body(ApiResponse.success(
+                String.format("تم تعيين %d من %d عامل", response.getAssignedCount(), response.getTotalWorkers()),
+                response
+        ));
+    }
+
     @GetMapping("/assignments/{id}")
     @PreAuthorize("hasAnyRole('ADMIN', 'PROJECT_MANAGER', 'HR_MANAGER')")
     public ResponseEntity<ApiResponse<LaborAssignmentResponse>> getAssignmentById(@PathVariable Long id) {
@@ -196,6 +227,81 @@ public class LaborAllocationController {
         ));
     }
 
+    /**
+     * Get the assignment an employee is on for a date.
+     * 
+     * GET /labor/assignments/employee/{employeeNo}/on?date=2025-01-15
+     * 
+     * @param employeeNo Employee number
+     * @param date Date
+     * @return Labor assignment, or null if the employee is not assigned on that date
+     */
+    @GetMapping("/assignments/employee/{employeeNo}/on")
+    @PreAuthorize("hasAnyRole('ADMIN', 'PROJECT_MANAGER', 'HR_MANAGER')")
+    public ResponseEntity<ApiResponse<LaborAssignmentResponse>> getAssignmentOn(
+            @PathVariable Long employeeNo,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date) {
+
+        log.info("GET /labor/assignments/employee/{}/on?date={}", employeeNo, date);
+
+        LaborAssignmentResponse response = laborAllocationService.getAssignmentOn(employeeNo, date);
+
+        return ResponseEntity.ok(ApiResponse.success(
+                response != null ? "تم استرجاع تعيين الموظف بنجاح" : "لا يوجد تعيين للموظف في هذا التاريخ",
+                response
+        ));
+    }
+
+    /**
+     * Get employees with no active assignment in a date range.
+     * 
+     * GET /labor/availability?startDate=2025-01-01&endDate=2025-03-31
+     * 
+     * @param startDate First day
+     * @param endDate Last day (open-ended if omitted)
+     * @return Free employees
+     */
+    @GetMapping("/availability")
+    @PreAuthorize("hasAnyRole('ADMIN', 'HR_MANAGER', 'PROJECT_MANAGER')")
+    public ResponseEntity<ApiResponse<List<EmployeeAvailabilityResponse>>> getFreeEmployees(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate) {
+
+        log.info("GET /labor/availability - {} to {}", startDate, endDate);
+
+        List<EmployeeAvailabilityResponse> employees = laborAvailabilityService.findFreeEmployees(startDate, endDate);
+
+        return ResponseEntity.ok(ApiResponse.success(
+                "تم استرجاع الموظفين المتاحين بنجاح",
+                employees
+        ));
+    }
+
+    /**
+     * Check a group of employees against a labor request in one call.
+     * 
+     * POST /labor/requests/{id}/availability
+     * 
+     * @param id Request number
+     * @param request Employees and optional dates (default to the request's dates)
+     * @return Availability of each employee with its conflicting assignments
+     */
+    @PostMapping("/requests/{id}/availability")
+    @PreAuthorize("hasAnyRole('ADMIN', 'HR_MANAGER', 'PROJECT_MANAGER')")
+    public ResponseEntity<ApiResponse<List<EmployeeAvailabilityResponse>>> checkRequestAvailability(
+            @PathVariable Long id,
+            @Valid @RequestBody LaborAvailabilityCheckDto request) {
+
+        log.info("POST /labor/requests/{}/availability - {} employees", id, request.getEmployeeNos().size());
+
+        List<EmployeeAvailabilityResponse> results = laborAllocationService.checkRequestAvailability(id, request);
+
+        return ResponseEntity.ok(ApiResponse.success(
+                "تم فحص توفر الموظفين بنجاح",
+                results
+        ));
+    }
+
     /**
      * Get all labor assignments.
      * 
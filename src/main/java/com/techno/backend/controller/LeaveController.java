@@ -3,6 +3,7 @@ package com.techno.backend.controller;
 import com.techno.backend.dto.ApiResponse;
 import com.techno.backend.entity.Employee;
 import com.techno.backend.entity.EmployeeLeave;
+import com.techno.backend.entity.LeaveAccrualRun;
 import com.techno.backend.repository.EmployeeLeaveRepository;
 import com.techno.backend.repository.EmployeeRepository;
 import com.techno.backend.service.LeaveAccrualService;
@@ -315,7 +316,7 @@ public class LeaveController {
         public ResponseEntity<EmployeeLeave> getLeaveDetails(@PathVariable Long leaveId) {
                 log.info("GET /leaves/{}", leaveId);
 
-                EmployeeLeave leave = leaveRepository.findById(leaveId)
+                EmployeeLeave leave = leaveRepository.findByIdWithEmployee(leaveId)
                                 .orElseThrow(() -> new RuntimeException(
                                                 "Ø·Ù„Ø¨ Ø§Ù„Ø¥Ø¬Ø§Ø²Ø© ØºÙŠØ± Ù…ÙˆØ¬ÙˆØ¯: " + leaveId));
 
@@ -527,6 +528,17 @@ public class LeaveController {
                                 .ok(ApiResponse.success("تم إضافة 30 يومًا لجميع أرصدة إجازات الموظفين النشطين", null));
         }
 
+        /**
+         * Get leave accrual run history (annual, manual and initialization runs).
+         */
+        @GetMapping("/accrual-history")
+        @PreAuthorize("hasAnyRole('ADMIN', 'HR_MANAGER')")
+        public ResponseEntity<ApiResponse<List<LeaveAccrualRun>>> getAccrualHistory() {
+                log.info("GET /api/leaves/accrual-history");
+                List<LeaveAccrualRun> history = leaveAccrualService.getAccrualHistory();
+                return ResponseEntity.ok(ApiResponse.success("تم استرجاع سجل استحقاق الإجازات بنجاح", history));
+        }
+
         // ==================== Helper Methods ====================
 
         /**
@@ -4,6 +4,7 @@ import com.techno.backend.dto.ApiResponse;
 import com.techno.backend.entity.Employee;
 import com.techno.backend.entity.Loan;
 import com.techno.backend.entity.LoanInstallment;
+import com.techno.backend.entity.LoanMassPostponementRun;
 import com.techno.backend.entity.LoanPostponementRequest;
 import com.techno.backend.repository.EmployeeRepository;
 import com.techno.backend.repository.LoanInstallmentRepository;
@@ -594,14 +595,16 @@ public class LoanController {
                 LoanService.MassPostponeResult result = loanService.massPostponeByMonth(
                                 request.originalMonth,
                                 request.newMonth,
-                                request.reason);
+                                request.reason,
+                                getCurrentEmployeeNo());
 
                 MassPostponeResponse response = new MassPostponeResponse(
                                 result.originalMonth(),
                                 result.newMonth(),
                                 result.affectedEmployees(),
                                 result.totalInstallmentsPostponed(),
-                                result.affectedEmployeeNumbers());
+                                result.affectedEmployeeNumbers(),
+                                result.runId());
 
                 log.info("Mass postponed {} installments for {} employees from {} to {}",
                                 result.totalInstallmentsPostponed(), result.affectedEmployees(),
@@ -610,6 +613,25 @@ public class LoanController {
                 return ResponseEntity.ok(response);
         }
 
+        /**
+         * Get mass postponement history (audit record per run), newest first.
+         *
+         * GET /api/loans/postponement/mass-postpone/history
+         *
+         * @return List of mass postponement runs
+         */
+        @GetMapping("/postponement/mass-postpone/history")
+        @PreAuthorize("hasRole('ADMIN')")
+        public ResponseEntity<ApiResponse<List<LoanMassPostponementRun>>> getMassPostponementHistory() {
+                log.info("GET /api/loans/postponement/mass-postpone/history");
+
+                List<LoanMassPostponementRun> runs = loanService.getMassPostponementHistory();
+
+                return ResponseEntity.ok(ApiResponse.success(
+                                "تم استرجاع سجل التأجيل الجماعي بنجاح",
+                                runs));
+        }
+
         /**
          * Get unpaid installments for a loan.
          * Used by the postponement form to populate installment dropdown.
@@ -1144,7 +1166,8 @@ public class LoanController {
                         String newMonth,
                         int affectedEmployees,
                         int totalInstallmentsPostponed,
-                        List<Long> affectedEmployeeNumbers) {
+                        List<Long> affectedEmployeeNumbers,
+                        Long runId) {
         }
 }
 
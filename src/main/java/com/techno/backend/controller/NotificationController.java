@@ -4,17 +4,21 @@ import com.techno.backend.dto.ApiResponse;
 import com.techno.backend.dto.NotificationResponse;
 import com.techno.backend.dto.NotificationSummaryResponse;
 import com.techno.backend.entity.Notification;
+import com.techno.backend.exception.BadRequestException;
 import com.techno.backend.service.NotificationService;
+import com.techno.backend.service.NotificationStreamService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 /**
  * REST API Controller for Notifications.
@@ -22,6 +26,7 @@ import org.springframework.web.bind.annotation.*;
  * Provides endpoints for:
  * - Viewing notifications (paginated)
  * - Counting unread notifications
+ * - Streaming notification counters (server-sent events)
  * - Marking notifications as read
  * - Deleting notifications
  *
@@ -41,6 +46,7 @@ import org.springframework.web.bind.annotation.*;
 public class NotificationController {
 
     private final NotificationService notificationService;
+    private final NotificationStreamService notificationStreamService;
 
     /**
      * Get current employee number from security context.
@@ -108,7 +114,7 @@ public class NotificationController {
     @PreAuthorize("hasAnyRole('EMPLOYEE', 'ADMIN', 'GENERAL_MANAGER', 'HR_MANAGER', 'FINANCE_MANAGER', 'PROJECT_MANAGER', 'WAREHOUSE_MANAGER')")
     public ResponseEntity<ApiResponse<Long>> getUnreadCount() {
         Long employeeNo = getCurrentEmployeeNo();
-        log.info("GET /api/notifications/unread-count - employeeNo={}", employeeNo);
+        log.debug("GET /api/notifications/unread-count - employeeNo={}", employeeNo);
 
         if (employeeNo == null) {
             return ResponseEntity.ok(ApiResponse.success("تم استرجاع عدد غير المقروء", 0L));
@@ -123,33 +129,48 @@ public class NotificationController {
      *
      * GET /api/notifications/summary
      *
+     * Served from in-memory counters (no database query once loaded).
+     *
      * @return Notification summary
      */
     @GetMapping("/summary")
     @PreAuthorize("hasAnyRole('EMPLOYEE', 'ADMIN', 'GENERAL_MANAGER', 'HR_MANAGER', 'FINANCE_MANAGER', 'PROJECT_MANAGER', 'WAREHOUSE_MANAGER')")
-    public ResponseEntity<ApiResponse<NotificationSummaryResponse>> getNotificationSummary(
-            @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "1000") int size) {
-
+    public ResponseEntity<ApiResponse<NotificationSummaryResponse>> getNotificationSummary() {
         Long employeeNo = getCurrentEmployeeNo();
-        log.info("GET /api/notifications/summary - employeeNo={}", employeeNo);
+        log.debug("GET /api/notifications/summary - employeeNo={}", employeeNo);
 
-        Pageable pageable = PageRequest.of(page, size);
-        long total = notificationService.getMyNotifications(employeeNo, pageable).getTotalElements();
-        long unread = notificationService.getUnreadCount(employeeNo);
-        long urgent = notificationService.getUrgentNotifications(employeeNo, PageRequest.of(0, 1000))
-                .getTotalElements();
-
-        NotificationSummaryResponse summary = NotificationSummaryResponse.builder()
-                .totalNotifications(total)
-                .unreadCount(unread)
-                .urgentCount(urgent)
-                .highPriorityCount(0) // Can be calculated if needed
-                .build();
+        if (employeeNo == null) {
+            return ResponseEntity.ok(ApiResponse.success(NotificationSummaryResponse.builder().build()));
+        }
 
+        NotificationSummaryResponse summary = notificationService.getSummary(employeeNo);
         return ResponseEntity.ok(ApiResponse.success(summary));
     }
 
+    /**
+     * Open a server-sent event stream of notification counters.
+     *
+     * GET /api/notifications/stream
+     *
+     * Sends a "summary" event (NotificationSummaryResponse) on connect and
+     * whenever a notification is created, read or deleted for the employee.
+     * Replaces polling /summary and /unread-count.
+     *
+     * @return Event stream
+     */
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @PreAuthorize("hasAnyRole('EMPLOYEE', 'ADMIN', 'GENERAL_MANAGER', 'HR_MANAGER', 'FINANCE_MANAGER', 'PROJECT_MANAGER', 'WAREHOUSE_MANAGER')")
+    public SseEmitter streamNotifications() {
+        Long employeeNo = getCurrentEmployeeNo();
+        log.info("GET /api/notifications/stream - employeeNo={}", employeeNo);
+
+        if (employeeNo == null) {
+            throw new BadRequestException("لا يوجد موظف مرتبط بالمستخدم الحالي");
+        }
+
+        return notificationStreamService.subscribe(employeeNo);
+    }
+
     /**
      * Get unread notifications (paginated).
      *
@@ -2,8 +2,8 @@ package com.techno.backend.controller;
 
 import com.techno.backend.dto.ApiResponse;
 import com.techno.backend.entity.Employee;
-import com.techno.backend.repository.AttendanceRepository;
 import com.techno.backend.repository.EmployeeRepository;
+import com.techno.backend.service.AttendanceRollupService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
@@ -12,7 +12,6 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
-import java.time.LocalDate;
 import java.time.YearMonth;
 import java.util.ArrayList;
 import java.util.HashMap;
@@ -32,7 +31,7 @@ import java.util.Map;
 @Slf4j
 public class OvertimeAlertController {
 
-    private final AttendanceRepository attendanceRepository;
+    private final AttendanceRollupService attendanceRollupService;
     private final EmployeeRepository employeeRepository;
 
     private static final double OVERTIME_THRESHOLD_URGENT = 50.0;
@@ -49,16 +48,14 @@ public class OvertimeAlertController {
     public ResponseEntity<ApiResponse<Long>> getOvertimeAlertsCount() {
         log.info("GET /api/overtime-alerts/count");
 
-        YearMonth currentYearMonth = YearMonth.now();
-        LocalDate monthStart = currentYearMonth.atDay(1);
-        LocalDate monthEnd = currentYearMonth.atEndOfMonth();
+        // Monthly overtime of all employees from the attendance rollups (one query)
+        Map<Long, Double> overtimeByEmployee = attendanceRollupService.getOvertimeHoursByEmployee(YearMonth.now());
 
         long count = 0;
         List<Employee> activeEmployees = employeeRepository.findAllActiveEmployees();
 
         for (Employee employee : activeEmployees) {
-            Double overtimeHours = attendanceRepository.sumOvertimeHours(
-                    employee.getEmployeeNo(), monthStart, monthEnd);
+            Double overtimeHours = overtimeByEmployee.get(employee.getEmployeeNo());
             if (overtimeHours != null && overtimeHours >= OVERTIME_THRESHOLD_URGENT) {
                 count++;
             }
@@ -79,16 +76,14 @@ public class OvertimeAlertController {
     public ResponseEntity<ApiResponse<List<Map<String, Object>>>> getOvertimeAlertsList() {
         log.info("GET /api/overtime-alerts/list");
 
-        YearMonth currentYearMonth = YearMonth.now();
-        LocalDate monthStart = currentYearMonth.atDay(1);
-        LocalDate monthEnd = currentYearMonth.atEndOfMonth();
+        // Monthly overtime of all employees from the attendance rollups (one query)
+        Map<Long, Double> overtimeByEmployee = attendanceRollupService.getOvertimeHoursByEmployee(YearMonth.now());
 
         List<Map<String, Object>> alerts = new ArrayList<>();
         List<Employee> activeEmployees = employeeRepository.findAllActiveEmployees();
 
         for (Employee employee : activeEmployees) {
-            Double overtimeHours = attendanceRepository.sumOvertimeHours(
-                    employee.getEmployeeNo(), monthStart, monthEnd);
+            Double overtimeHours = overtimeByEmployee.get(employee.getEmployeeNo());
             if (overtimeHours != null && overtimeHours >= OVERTIME_THRESHOLD_URGENT) {
                 Map<String, Object> alert = new HashMap<>();
                 alert.put("employeeNo", employee.getEmployeeNo());
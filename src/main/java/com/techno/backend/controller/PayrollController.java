@@ -1,11 +1,19 @@
 package com.techno.backend.controller;
 
 import com.techno.backend.dto.ApiResponse;
+import com.techno.backend.dto.SalaryHeaderResponse;
+import com.techno.backend.dto.payroll.IncrementalPayrollResponse;
+import com.techno.backend.dto.payroll.PayrollDirtyMonthResponse;
+import com.techno.backend.dto.payroll.PayrollSimulationRequest;
+import com.techno.backend.dto.payroll.PayrollSimulationResponse;
 import com.techno.backend.entity.SalaryDetail;
 import com.techno.backend.entity.SalaryHeader;
 import com.techno.backend.repository.SalaryDetailRepository;
 import com.techno.backend.repository.SalaryHeaderRepository;
+import com.techno.backend.service.IncrementalPayrollService;
 import com.techno.backend.service.PayrollCalculationService;
+import com.techno.backend.service.PayrollDirtyService;
+import com.techno.backend.service.PayrollSimulationService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
@@ -19,8 +27,10 @@ import org.springframework.web.bind.annotation.*;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * REST API Controller for Payroll Management.
@@ -49,6 +59,9 @@ public class PayrollController {
         private final PayrollCalculationService payrollService;
         private final SalaryHeaderRepository salaryHeaderRepository;
         private final SalaryDetailRepository salaryDetailRepository;
+        private final PayrollDirtyService payrollDirtyService;
+        private final IncrementalPayrollService incrementalPayrollService;
+        private final PayrollSimulationService payrollSimulationService;
 
         /**
          * Calculate payroll for a single employee.
@@ -104,9 +117,9 @@ public class PayrollController {
 
                 // Populate transient field for UI warnings
                 if (salaries != null) {
+                        Set<Long> blocked = employeesWithUnapprovedPayrollBefore(request.salaryMonth);
                         salaries.forEach(s -> {
-                                if (salaryHeaderRepository.existsUnapprovedPreviousPayroll(s.getEmployeeNo(),
-                                                request.salaryMonth)) {
+                                if (blocked.contains(s.getEmployeeNo())) {
                                         s.setBlockingReason("يجب اعتماد الرواتب السابقة أولاً");
                                 }
                         });
@@ -167,7 +180,7 @@ public class PayrollController {
                 List<SalaryDetail> details = salaryDetailRepository
                                 .findBySalaryIdOrderByLineNoAsc(salary.getSalaryId());
 
-                SalaryDetailsResponse response = new SalaryDetailsResponse(salary, details);
+                SalaryDetailsResponse response = new SalaryDetailsResponse(SalaryHeaderResponse.from(salary), details);
                 return ResponseEntity.ok(response);
         }
 
@@ -181,10 +194,13 @@ public class PayrollController {
          */
         @GetMapping("/employee/{employeeNo}/history")
         @PreAuthorize("hasAnyRole('ADMIN', 'GENERAL_MANAGER', 'HR_MANAGER', 'FINANCE_MANAGER', 'PROJECT_MANAGER') or #employeeNo.toString() == authentication.name")
-        public ResponseEntity<List<SalaryHeader>> getPayrollHistory(@PathVariable Long employeeNo) {
+        public ResponseEntity<List<SalaryHeaderResponse>> getPayrollHistory(@PathVariable Long employeeNo) {
                 log.info("GET /api/payroll/employee/{}/history", employeeNo);
 
-                List<SalaryHeader> history = salaryHeaderRepository.findByEmployeeNoOrderByMonthDesc(employeeNo);
+                List<SalaryHeaderResponse> history = salaryHeaderRepository.findByEmployeeNoOrderByMonthDesc(employeeNo)
+                                .stream()
+                                .map(SalaryHeaderResponse::from)
+                                .toList();
 
                 return ResponseEntity.ok(history);
         }
@@ -199,7 +215,8 @@ public class PayrollController {
          */
         @GetMapping("/month/{salaryMonth}")
         @PreAuthorize("hasAnyRole('ADMIN', 'GENERAL_MANAGER', 'HR_MANAGER', 'FINANCE_MANAGER', 'PROJECT_MANAGER', 'EMPLOYEE')")
-        public ResponseEntity<ApiResponse<List<SalaryHeader>>> getSalariesForMonth(@PathVariable String salaryMonth) {
+        public ResponseEntity<ApiResponse<List<SalaryHeaderResponse>>> getSalariesForMonth(
+                        @PathVariable String salaryMonth) {
                 log.info("GET /api/payroll/month/{}", salaryMonth);
 
                 // For EMPLOYEE role, ensure they can only access their own salary
@@ -221,22 +238,8 @@ public class PayrollController {
                         salaries = salaryHeaderRepository.findAllLatestBySalaryMonth(salaryMonth);
                 }
 
-                // Populate transient field for UI warnings
-                if (salaries != null) {
-                        salaries.forEach(s -> {
-                                boolean hasUnapproved = salaryHeaderRepository
-                                                .existsUnapprovedPreviousPayroll(s.getEmployeeNo(), salaryMonth);
-                                if (hasUnapproved) {
-                                        log.info("Blocking approval for employee {} in month {}: Previous payrolls unapproved.",
-                                                        s.getEmployeeNo(), salaryMonth);
-                                        s.setBlockingReason("يجب اعتماد الرواتب السابقة أولاً");
-                                } else {
-                                        // log.debug("Employee {} month {} is clear.", s.getEmployeeNo(), salaryMonth);
-                                }
-                        });
-                }
-
-                return ResponseEntity.ok(ApiResponse.success("تم استرجاع الرواتب بنجاح", salaries));
+                return ResponseEntity.ok(ApiResponse.success("تم استرجاع الرواتب بنجاح",
+                                toResponses(salaries, salaryMonth)));
         }
 
         /**
@@ -249,23 +252,13 @@ public class PayrollController {
          */
         @GetMapping("/pending/{salaryMonth}")
         @PreAuthorize("hasAnyRole('ADMIN', 'GENERAL_MANAGER', 'HR_MANAGER', 'FINANCE_MANAGER')")
-        public ResponseEntity<List<SalaryHeader>> getPendingApprovals(@PathVariable String salaryMonth) {
+        public ResponseEntity<List<SalaryHeaderResponse>> getPendingApprovals(@PathVariable String salaryMonth) {
                 log.info("GET /api/payroll/pending/{}", salaryMonth);
 
                 List<SalaryHeader> pending = salaryHeaderRepository
                                 .findBySalaryMonthAndStatus(salaryMonth, "N");
 
-                // Populate transient field for UI warnings
-                if (pending != null) {
-                        pending.forEach(s -> {
-                                if (salaryHeaderRepository.existsUnapprovedPreviousPayroll(s.getEmployeeNo(),
-                                                salaryMonth)) {
-                                        s.setBlockingReason("يجب اعتماد الرواتب السابقة أولاً");
-                                }
-                        });
-                }
-
-                return ResponseEntity.ok(pending);
+                return ResponseEntity.ok(toResponses(pending, salaryMonth));
         }
 
         /**
@@ -296,6 +289,79 @@ public class PayrollController {
                 return ResponseEntity.ok(newVersion);
         }
 
+        /**
+         * Get calculated payrolls whose inputs changed after calculation.
+         *
+         * GET /api/payroll/dirty?salaryMonth=2025-11
+         *
+         * @param salaryMonth Salary month (optional, all months if omitted)
+         * @return Dirty employee months with the inputs that changed
+         */
+        @GetMapping("/dirty")
+        @PreAuthorize("hasAnyRole('HR_MANAGER', 'FINANCE_MANAGER', 'ADMIN')")
+        public ResponseEntity<List<PayrollDirtyMonthResponse>> getDirtyPayrolls(
+                        @RequestParam(required = false) String salaryMonth) {
+                log.info("GET /api/payroll/dirty - Month: {}", salaryMonth);
+
+                return ResponseEntity.ok(payrollDirtyService.getDirtyMonths(salaryMonth).stream()
+                                .map(PayrollDirtyMonthResponse::from)
+                                .toList());
+        }
+
+        /**
+         * Recalculate only the dirty payrolls (new version per employee).
+         *
+         * POST /api/payroll/recalculate-dirty
+         *
+         * Request body:
+         * {
+         * "salaryMonth": "2025-11",
+         * "reason": "Attendance corrections"
+         * }
+         *
+         * Both fields are optional: all dirty months are recalculated when the
+         * month is omitted, except approved salaries, which are only recalculated
+         * for an explicit month. The reason defaults to the inputs that changed.
+         *
+         * @param request Incremental recalculation request
+         * @return Old and new totals per recalculated employee
+         */
+        @PostMapping("/recalculate-dirty")
+        @PreAuthorize("hasAnyRole('HR_MANAGER', 'FINANCE_MANAGER', 'ADMIN')")
+        public ResponseEntity<IncrementalPayrollResponse> recalculateDirtyPayrolls(
+                        @RequestBody(required = false) RecalculateDirtyRequest request) {
+                String salaryMonth = request != null ? request.salaryMonth : null;
+                String reason = request != null ? request.reason : null;
+                log.info("POST /api/payroll/recalculate-dirty - Month: {}, Reason: {}", salaryMonth, reason);
+
+                return ResponseEntity.ok(incrementalPayrollService.recalculateDirty(salaryMonth, reason));
+        }
+
+        /**
+         * Simulate a month's payroll with hypothetical changes (nothing is saved).
+         *
+         * POST /api/payroll/simulate
+         *
+         * Request body:
+         * {
+         * "salaryMonth": "2025-12",
+         * "salaryChanges": [{ "employeeNo": 1, "raisePercent": 5 }],
+         * "allowanceNos": [120, 121],
+         * "postponedLoanIds": [7]
+         * }
+         *
+         * @param request Month, selection and hypothetical changes
+         * @return Current and simulated totals by department, project and component
+         */
+        @PostMapping("/simulate")
+        @PreAuthorize("hasAnyRole('HR_MANAGER', 'FINANCE_MANAGER', 'GENERAL_MANAGER', 'ADMIN')")
+        public ResponseEntity<PayrollSimulationResponse> simulatePayroll(
+                        @Valid @RequestBody PayrollSimulationRequest request) {
+                log.info("POST /api/payroll/simulate - Month: {}", request.getSalaryMonth());
+
+                return ResponseEntity.ok(payrollSimulationService.simulate(request));
+        }
+
         /**
          * Get salary breakdown by category (Allowances vs Deductions).
          *
@@ -319,7 +385,7 @@ public class PayrollController {
                                 .findBySalaryIdAndCategory(salaryId, "D");
 
                 SalaryBreakdownResponse response = new SalaryBreakdownResponse(
-                                salary, allowances, deductions);
+                                SalaryHeaderResponse.from(salary), allowances, deductions);
 
                 return ResponseEntity.ok(response);
         }
@@ -336,13 +402,13 @@ public class PayrollController {
          */
         @PostMapping("/{salaryId}/approve")
         @PreAuthorize("hasAnyRole('HR_MANAGER', 'FINANCE_MANAGER', 'GENERAL_MANAGER', 'ADMIN')")
-        public ResponseEntity<SalaryHeader> approvePayroll(
+        public ResponseEntity<SalaryHeaderResponse> approvePayroll(
                         @PathVariable Long salaryId,
                         @Valid @RequestBody PayrollApprovalRequest request) {
                 log.info("POST /api/payroll/{}/approve - Approver: {}", salaryId, request.approverNo());
 
                 SalaryHeader salary = payrollService.approvePayroll(salaryId, request.approverNo());
-                return ResponseEntity.ok(salary);
+                return ResponseEntity.ok(SalaryHeaderResponse.from(salary));
         }
 
         /**
@@ -357,7 +423,7 @@ public class PayrollController {
          */
         @PostMapping("/{salaryId}/reject")
         @PreAuthorize("hasAnyRole('HR_MANAGER', 'FINANCE_MANAGER', 'GENERAL_MANAGER', 'ADMIN')")
-        public ResponseEntity<SalaryHeader> rejectPayroll(
+        public ResponseEntity<SalaryHeaderResponse> rejectPayroll(
                         @PathVariable Long salaryId,
                         @Valid @RequestBody PayrollRejectionRequest request) {
                 log.info("POST /api/payroll/{}/reject - Approver: {}, Reason: {}",
@@ -365,7 +431,31 @@ public class PayrollController {
 
                 SalaryHeader salary = payrollService.rejectPayroll(
                                 salaryId, request.approverNo(), request.rejectionReason());
-                return ResponseEntity.ok(salary);
+                return ResponseEntity.ok(SalaryHeaderResponse.from(salary));
+        }
+
+        /**
+         * Map salary headers to responses, flagging those blocked by unapproved earlier months.
+         * Blocked employees are read with one query instead of one check per salary.
+         */
+        private List<SalaryHeaderResponse> toResponses(List<SalaryHeader> salaries, String salaryMonth) {
+                if (salaries == null || salaries.isEmpty()) {
+                        return List.of();
+                }
+                Set<Long> blocked = employeesWithUnapprovedPayrollBefore(salaryMonth);
+                return salaries.stream()
+                                .map(s -> {
+                                        SalaryHeaderResponse response = SalaryHeaderResponse.from(s);
+                                        if (blocked.contains(s.getEmployeeNo())) {
+                                                response.setBlockingReason("يجب اعتماد الرواتب السابقة أولاً");
+                                        }
+                                        return response;
+                                })
+                                .toList();
+        }
+
+        private Set<Long> employeesWithUnapprovedPayrollBefore(String salaryMonth) {
+                return new HashSet<>(salaryHeaderRepository.findEmployeesWithUnapprovedPayrollBefore(salaryMonth));
         }
 
         /**
@@ -413,6 +503,11 @@ public class PayrollController {
                         @NotBlank(message = "السبب مطلوب") String reason) {
         }
 
+        public record RecalculateDirtyRequest(
+                        String salaryMonth,
+                        String reason) {
+        }
+
         public record BatchCalculationResponse(
                         int totalCalculated,
                         String salaryMonth,
@@ -420,12 +515,12 @@ public class PayrollController {
         }
 
         public record SalaryDetailsResponse(
-                        SalaryHeader header,
+                        SalaryHeaderResponse header,
                         List<SalaryDetail> details) {
         }
 
         public record SalaryBreakdownResponse(
-                        SalaryHeader header,
+                        SalaryHeaderResponse header,
                         List<SalaryDetail> allowances,
                         List<SalaryDetail> deductions) {
         }
@@ -24,7 +24,7 @@ public class ProjectStoreController {
     private final ProjectStoreService storeService;
 
     @PostMapping
-    @PreAuthorize("hasRole('WAREHOUSE_MANAGER') or hasRole('ADMIN')")
+    @PreAuthorize("hasPermission(null, 'MANAGE_WAREHOUSE')")
     public ResponseEntity<ApiResponse<StoreResponse>> createStore(@Valid @RequestBody StoreRequest request) {
         log.info("REST request to create project store: {}", request.getStoreName());
 
@@ -66,7 +66,7 @@ public class ProjectStoreController {
     }
 
     @PutMapping("/{id}")
-    @PreAuthorize("hasRole('WAREHOUSE_MANAGER') or hasRole('ADMIN')")
+    @PreAuthorize("hasPermission(null, 'MANAGE_WAREHOUSE')")
     public ResponseEntity<ApiResponse<StoreResponse>> updateStore(
             @PathVariable Long id,
             @Valid @RequestBody StoreRequest request) {
@@ -78,7 +78,7 @@ public class ProjectStoreController {
     }
 
     @DeleteMapping("/{id}")
-    @PreAuthorize("hasRole('WAREHOUSE_MANAGER') or hasRole('ADMIN')")
+    @PreAuthorize("hasPermission(null, 'MANAGE_WAREHOUSE')")
     public ResponseEntity<ApiResponse<Void>> deactivateStore(
             @PathVariable Long id,
             @RequestParam(value = "force", defaultValue = "false") boolean force) {
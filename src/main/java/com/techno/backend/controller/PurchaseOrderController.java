@@ -25,7 +25,7 @@ public class PurchaseOrderController {
     private final PurchaseOrderService purchaseOrderService;
 
     @PostMapping
-    @PreAuthorize("hasRole('WAREHOUSE_MANAGER') or hasRole('ADMIN')")
+    @PreAuthorize("hasPermission(null, 'MANAGE_WAREHOUSE')")
     public ResponseEntity<ApiResponse<PurchaseOrderResponse>> createPurchaseOrder(
             @Valid @RequestBody PurchaseOrderRequest request) {
         log.info("REST request to create purchase order for store: {}", request.getStoreCode());
@@ -76,7 +76,7 @@ public class PurchaseOrderController {
     }
 
     @PutMapping("/{id}")
-    @PreAuthorize("hasRole('WAREHOUSE_MANAGER') or hasRole('ADMIN')")
+    @PreAuthorize("hasPermission(null, 'MANAGE_WAREHOUSE')")
     public ResponseEntity<ApiResponse<PurchaseOrderResponse>> updatePurchaseOrder(
             @PathVariable Long id,
             @Valid @RequestBody PurchaseOrderRequest request) {
@@ -88,7 +88,7 @@ public class PurchaseOrderController {
     }
 
     @DeleteMapping("/{id}")
-    @PreAuthorize("hasRole('WAREHOUSE_MANAGER') or hasRole('ADMIN')")
+    @PreAuthorize("hasPermission(null, 'MANAGE_WAREHOUSE')")
     public ResponseEntity<ApiResponse<Void>> deletePurchaseOrder(@PathVariable Long id) {
         log.info("REST request to delete purchase order: {}", id);
 
@@ -98,7 +98,7 @@ public class PurchaseOrderController {
     }
 
     @PostMapping("/{id}/submit")
-    @PreAuthorize("hasRole('WAREHOUSE_MANAGER') or hasRole('ADMIN')")
+    @PreAuthorize("hasPermission(null, 'MANAGE_WAREHOUSE')")
     public ResponseEntity<ApiResponse<PurchaseOrderResponse>> submitForApproval(@PathVariable Long id) {
         log.info("REST request to submit purchase order for approval: {}", id);
 
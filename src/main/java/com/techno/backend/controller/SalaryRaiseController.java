@@ -1,5 +1,8 @@
 package com.techno.backend.controller;
 
+import com.techno.backend.dto.ApiResponse;
+import com.techno.backend.dto.salary.BulkSalaryRaiseRequest;
+import com.techno.backend.dto.salary.BulkSalaryRaiseResponse;
 import com.techno.backend.entity.Employee;
 import com.techno.backend.service.SalaryRaiseService;
 import jakarta.validation.Valid;
@@ -23,6 +26,7 @@ import java.time.LocalDate;
  * - Processing approved salary raises
  * - Calculating raise percentages
  * - Calculating new salary from percentage
+ * - Previewing and processing bulk salary raises
  *
  * @author Techno HR System
  * @version 1.0
@@ -79,6 +83,43 @@ public class SalaryRaiseController {
                 return ResponseEntity.ok(response);
         }
 
+        /**
+         * Preview a bulk salary raise without saving it.
+         *
+         * POST /api/salary-raise/bulk/preview
+         *
+         * @param request Employee selection and raise rule
+         * @return Old and new salary and components per employee
+         */
+        @PostMapping("/bulk/preview")
+        @PreAuthorize("hasAnyRole('HR_MANAGER', 'ADMIN')")
+        public ResponseEntity<ApiResponse<BulkSalaryRaiseResponse>> previewBulkRaise(
+                        @Valid @RequestBody BulkSalaryRaiseRequest request) {
+                log.info("POST /api/salary-raise/bulk/preview - Rule: {}", request.getRuleType());
+
+                BulkSalaryRaiseResponse response = salaryRaiseService.previewBulkRaise(request);
+                return ResponseEntity.ok(ApiResponse.success("تم حساب معاينة زيادة الرواتب بنجاح", response));
+        }
+
+        /**
+         * Process a bulk salary raise.
+         *
+         * POST /api/salary-raise/bulk
+         *
+         * @param request Employee selection and raise rule
+         * @return Old and new salary and components per raised employee, and employees skipped
+         */
+        @PostMapping("/bulk")
+        @PreAuthorize("hasAnyRole('HR_MANAGER', 'ADMIN')")
+        public ResponseEntity<ApiResponse<BulkSalaryRaiseResponse>> processBulkRaise(
+                        @Valid @RequestBody BulkSalaryRaiseRequest request) {
+                log.info("POST /api/salary-raise/bulk - Rule: {}, Effective: {}",
+                                request.getRuleType(), request.getEffectiveDate());
+
+                BulkSalaryRaiseResponse response = salaryRaiseService.processBulkRaise(request);
+                return ResponseEntity.ok(ApiResponse.success("تم تنفيذ زيادة الرواتب بنجاح", response));
+        }
+
         /**
          * Calculate the raise percentage between two salary amounts.
          *
@@ -2,14 +2,19 @@ package com.techno.backend.controller;
 
 import com.techno.backend.dto.ApiResponse;
 import com.techno.backend.dto.warehouse.BalanceResponse;
+import com.techno.backend.dto.warehouse.StockAsOfResponse;
+import com.techno.backend.dto.warehouse.StockSnapshotResponse;
+import com.techno.backend.service.StockSnapshotService;
 import com.techno.backend.service.StoreBalanceService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
 import java.math.BigDecimal;
+import java.time.LocalDate;
 import java.util.List;
 
 @RestController
@@ -19,6 +24,7 @@ import java.util.List;
 public class StoreBalanceController {
 
     private final StoreBalanceService balanceService;
+    private final StockSnapshotService stockSnapshotService;
 
     @GetMapping
     @PreAuthorize("hasAnyRole('ADMIN', 'GENERAL_MANAGER', 'HR_MANAGER', 'FINANCE_MANAGER', 'PROJECT_MANAGER', 'WAREHOUSE_MANAGER')")
@@ -63,6 +69,40 @@ public class StoreBalanceController {
         return ResponseEntity.ok(ApiResponse.success(balance));
     }
 
+    @GetMapping("/valuation")
+    @PreAuthorize("hasAnyRole('ADMIN', 'GENERAL_MANAGER', 'FINANCE_MANAGER', 'WAREHOUSE_MANAGER')")
+    public ResponseEntity<ApiResponse<List<BalanceResponse>>> getStockValuation(
+            @RequestParam(required = false) Long storeCode) {
+        log.info("REST request to get stock valuation - storeCode: {}", storeCode);
+
+        List<BalanceResponse> balances = balanceService.getStockValuation(storeCode);
+
+        return ResponseEntity.ok(ApiResponse.success(balances));
+    }
+
+    @GetMapping("/as-of")
+    @PreAuthorize("hasAnyRole('ADMIN', 'GENERAL_MANAGER', 'FINANCE_MANAGER', 'WAREHOUSE_MANAGER')")
+    public ResponseEntity<ApiResponse<StockAsOfResponse>> getStockAsOf(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
+            @RequestParam(required = false) List<Long> storeCodes) {
+        log.info("REST request to get stock as of {} - storeCodes: {}", date, storeCodes);
+
+        StockAsOfResponse stock = stockSnapshotService.getStockAsOf(date, storeCodes);
+
+        return ResponseEntity.ok(ApiResponse.success(stock));
+    }
+
+    @PostMapping("/snapshots")
+    @PreAuthorize("hasAnyRole('ADMIN', 'WAREHOUSE_MANAGER')")
+    public ResponseEntity<ApiResponse<StockSnapshotResponse>> takeSnapshot(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date) {
+        log.info("REST request to take stock snapshot for {}", date);
+
+        StockSnapshotResponse snapshot = stockSnapshotService.takeSnapshot(date);
+
+        return ResponseEntity.ok(ApiResponse.success(snapshot));
+    }
+
     @GetMapping("/low-stock")
     @PreAuthorize("hasAnyRole('ADMIN', 'GENERAL_MANAGER', 'HR_MANAGER', 'FINANCE_MANAGER', 'PROJECT_MANAGER', 'WAREHOUSE_MANAGER')")
     public ResponseEntity<ApiResponse<List<BalanceResponse>>> getLowStockItems(
@@ -40,7 +40,7 @@ public class StoreItemController {
      * POST /api/warehouse/items
      */
     @PostMapping
-    @PreAuthorize("hasRole('WAREHOUSE_MANAGER') or hasRole('ADMIN')")
+    @PreAuthorize("hasPermission(null, 'MANAGE_WAREHOUSE')")
     public ResponseEntity<ApiResponse<ItemResponse>> createItem(@Valid @RequestBody ItemRequest request) {
         log.info("REST request to create store item: {}", request.getItemName());
 
@@ -72,6 +72,25 @@ public class StoreItemController {
         return ResponseEntity.ok(ApiResponse.success(items));
     }
 
+    /**
+     * Search store items by name (paginated)
+     * GET /api/warehouse/items/search?q=...&page=0&size=10
+     */
+    @GetMapping("/search")
+    @PreAuthorize("hasAnyRole('ADMIN', 'GENERAL_MANAGER', 'HR_MANAGER', 'FINANCE_MANAGER', 'PROJECT_MANAGER', 'WAREHOUSE_MANAGER', 'EMPLOYEE')")
+    public ResponseEntity<ApiResponse<Page<ItemSummary>>> searchItems(
+            @RequestParam(value = "q", required = false) String q,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "10") int size) {
+        log.info("REST request to search store items (q: {}, page: {}, size: {})", q, page, size);
+
+        Pageable pageable = PageRequest.of(page, size, Sort.by("itemName").ascending());
+
+        Page<ItemSummary> items = itemService.searchItems(q, pageable);
+
+        return ResponseEntity.ok(ApiResponse.success(items));
+    }
+
     /**
      * Get store item by code
      * GET /api/warehouse/items/{id}
@@ -113,7 +132,7 @@ public class StoreItemController {
      * PUT /api/warehouse/items/{id}
      */
     @PutMapping("/{id}")
-    @PreAuthorize("hasRole('WAREHOUSE_MANAGER') or hasRole('ADMIN')")
+    @PreAuthorize("hasPermission(null, 'MANAGE_WAREHOUSE')")
     public ResponseEntity<ApiResponse<ItemResponse>> updateItem(
             @PathVariable Long id,
             @Valid @RequestBody ItemRequest request) {
@@ -129,7 +148,7 @@ public class StoreItemController {
      * DELETE /api/warehouse/items/{id}?force=false
      */
     @DeleteMapping("/{id}")
-    @PreAuthorize("hasRole('WAREHOUSE_MANAGER') or hasRole('ADMIN')")
+    @PreAuthorize("hasPermission(null, 'MANAGE_WAREHOUSE')")
     public ResponseEntity<ApiResponse<Void>> deactivateItem(
             @PathVariable Long id,
             @RequestParam(value = "force", defaultValue = "false") boolean force) {
@@ -23,7 +23,7 @@ public class StoreTransferController {
     private final StoreTransferService storeTransferService;
 
     @PostMapping
-    @PreAuthorize("hasRole('WAREHOUSE_MANAGER') or hasRole('ADMIN')")
+    @PreAuthorize("hasPermission(null, 'MANAGE_WAREHOUSE')")
     public ResponseEntity<ApiResponse<StoreTransferResponse>> createStoreTransfer(
             @Valid @RequestBody StoreTransferRequest request) {
         log.info("REST request to create store transfer from store: {} to store: {}", 
@@ -82,7 +82,7 @@ public class StoreTransferController {
     }
 
     @PutMapping("/{id}")
-    @PreAuthorize("hasRole('WAREHOUSE_MANAGER') or hasRole('ADMIN')")
+    @PreAuthorize("hasPermission(null, 'MANAGE_WAREHOUSE')")
     public ResponseEntity<ApiResponse<StoreTransferResponse>> updateStoreTransfer(
             @PathVariable Long id,
             @Valid @RequestBody StoreTransferRequest request) {
@@ -94,7 +94,7 @@ public class StoreTransferController {
     }
 
     @DeleteMapping("/{id}")
-    @PreAuthorize("hasRole('WAREHOUSE_MANAGER') or hasRole('ADMIN')")
+    @PreAuthorize("hasPermission(null, 'MANAGE_WAREHOUSE')")
     public ResponseEntity<ApiResponse<Void>> deleteStoreTransfer(@PathVariable Long id) {
         log.info("REST request to delete store transfer: {}", id);
 
@@ -104,7 +104,7 @@ public class StoreTransferController {
     }
 
     @PostMapping("/{id}/complete")
-    @PreAuthorize("hasRole('WAREHOUSE_MANAGER') or hasRole('ADMIN')")
+    @PreAuthorize("hasPermission(null, 'MANAGE_WAREHOUSE')")
     public ResponseEntity<ApiResponse<StoreTransferResponse>> completeStoreTransfer(@PathVariable Long id) {
         log.info("REST request to complete store transfer: {}", id);
 
@@ -40,6 +40,22 @@ public class SupplierController {
         return ResponseEntity.ok(ApiResponse.success("ØªÙ… Ø§Ø³ØªØ±Ø¬Ø§Ø¹ Ø§Ù„Ù…ÙˆØ±Ø¯ÙŠÙ† Ø¨Ù†Ø¬Ø§Ø­", suppliers));
     }
 
+    /**
+     * GET /api/suppliers/search?q=
+     * Search suppliers by name
+     * 
+     * @param q the search text
+     * @return Matching suppliers
+     */
+    @GetMapping("/search")
+    @PreAuthorize("hasAnyRole('ADMIN', 'GENERAL_MANAGER', 'WAREHOUSE_MANAGER', 'FINANCE_MANAGER', 'PROJECT_MANAGER')")
+    public ResponseEntity<ApiResponse<List<SupplierResponse>>> searchSuppliers(
+            @RequestParam(value = "q", required = false) String q) {
+        log.info("GET /api/suppliers/search - q: {}", q);
+        List<SupplierResponse> suppliers = supplierService.searchSuppliers(q);
+        return ResponseEntity.ok(ApiResponse.success("تم استرجاع الموردين بنجاح", suppliers));
+    }
+
     /**
      * GET /api/suppliers/{id}
      * Get supplier by ID
@@ -0,0 +1,54 @@
+package com.techno.backend.controller;
+
+import com.techno.backend.dto.ApiResponse;
+import com.techno.backend.dto.TypeaheadResult;
+import com.techno.backend.service.TypeaheadService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+/**
+ * REST Controller for typeahead pickers.
+ * Matches names and codes of employees, projects, departments, stores,
+ * items and suppliers from the in-memory index.
+ *
+ * @author Techno HR System
+ * @version 1.0
+ */
+@RestController
+@RequestMapping("/typeahead")
+@RequiredArgsConstructor
+@Slf4j
+public class TypeaheadController {
+
+    private final TypeaheadService typeaheadService;
+
+    /**
+     * Find records matching the typed text.
+     *
+     * GET /api/typeahead?q=احمد&types=EMPLOYEE,PROJECT&limit=10
+     *
+     * @param q Typed text (name or code)
+     * @param types Types to search (EMPLOYEE, PROJECT, DEPARTMENT, STORE, ITEM, SUPPLIER); all if omitted
+     * @param limit Maximum number of results (default 10, at most 50)
+     * @return Matches, best first
+     */
+    @GetMapping
+    @PreAuthorize("hasAnyRole('ADMIN', 'GENERAL_MANAGER', 'HR_MANAGER', 'FINANCE_MANAGER', 'PROJECT_MANAGER', 'WAREHOUSE_MANAGER')")
+    public ResponseEntity<ApiResponse<List<TypeaheadResult>>> search(
+            @RequestParam(value = "q", required = false) String q,
+            @RequestParam(value = "types", required = false) List<String> types,
+            @RequestParam(value = "limit", required = false) Integer limit) {
+        log.debug("GET /api/typeahead - q: {}, types: {}", q, types);
+
+        List<TypeaheadResult> results = typeaheadService.search(q, types, limit);
+        return ResponseEntity.ok(ApiResponse.success("تم استرجاع النتائج بنجاح", results));
+    }
+}
@@ -17,6 +17,7 @@ import org.springframework.web.bind.annotation.*;
  * - POST /api/reports/warehouse/stock-movement - Stock Movement
  * - POST /api/reports/warehouse/purchase-orders - Purchase Orders
  * - POST /api/reports/warehouse/low-stock-alert - Low Stock Alert
+ * - POST /api/reports/warehouse/stock-valuation - Stock Valuation
  *
  * All endpoints support both PDF and Excel formats via the 'format' parameter.
  *
@@ -148,6 +149,31 @@ public class WarehouseReportController extends BaseReportController {
                 getMimeType(request.getNormalizedFormat()));
     }
 
+    /**
+     * Generate Stock Valuation Report.
+     *
+     * Shows quantity, moving-average cost and value per store and item.
+     *
+     * @param request Report request with optional projectCode, storeCode filters
+     * @return PDF or Excel file for download
+     */
+    @PostMapping("/stock-valuation")
+    @PreAuthorize("hasAnyRole('WAREHOUSE_MANAGER', 'GENERAL_MANAGER', 'FINANCE_MANAGER')")
+    public ResponseEntity<byte[]> generateStockValuation(@RequestBody ReportRequest request) {
+        log.info("Request for Stock Valuation Report: projectCode={}, format={}",
+                request.getProjectCode(), request.getFormat());
+
+        validateRequest(request);
+
+        byte[] reportContent = warehouseReportService.generateStockValuation(request);
+
+        String filename = buildFilename("تقييم_المخزون",
+                request.getNormalizedFormat());
+
+        return buildResponse(reportContent, filename,
+                getMimeType(request.getNormalizedFormat()));
+    }
+
     /**
      * Build filename with timestamp and extension.
      */
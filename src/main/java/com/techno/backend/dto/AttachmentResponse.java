@@ -0,0 +1,69 @@
+package com.techno.backend.dto;
+
+import com.techno.backend.entity.Attachment;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Response DTO for Attachment entity.
+ *
+ * Returns the attachment metadata; the file itself is served by the
+ * download endpoints, so the server storage path is not exposed.
+ *
+ * @author Techno ERP Team
+ * @version 2.0
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class AttachmentResponse {
+
+    private Long attachmentId;
+    private String referenceType;
+    private Long referenceId;
+    private String fileName;
+    private String contentHash;
+    private Long fileSize;
+    private String fileType;
+    private String fileExtension;
+    private Long uploadedBy;
+    private LocalDateTime uploadedDate;
+    private String description;
+    private LocalDateTime createdDate;
+
+    public static AttachmentResponse from(Attachment attachment) {
+        return AttachmentResponse.builder()
+                .attachmentId(attachment.getAttachmentId())
+                .referenceType(attachment.getReferenceType())
+                .referenceId(attachment.getReferenceId())
+                .fileName(attachment.getFileName())
+                .contentHash(attachment.getContentHash())
+                .fileSize(attachment.getFileSize())
+                .fileType(attachment.getFileType())
+                .fileExtension(attachment.getFileExtension())
+                .uploadedBy(attachment.getUploadedBy())
+                .uploadedDate(attachment.getUploadedDate())
+                .description(attachment.getDescription())
+                .createdDate(attachment.getCreatedDate())
+                .build();
+    }
+
+    /**
+     * Check if file is an image
+     */
+    public boolean isImage() {
+        return fileType != null && fileType.startsWith("image/");
+    }
+
+    /**
+     * Check if file is a PDF
+     */
+    public boolean isPdf() {
+        return "application/pdf".equalsIgnoreCase(fileType);
+    }
+}
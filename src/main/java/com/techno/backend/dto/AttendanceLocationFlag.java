@@ -0,0 +1,37 @@
+package com.techno.backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * DTO for a check-in recorded outside the geofence of its project.
+ *
+ * Reasons:
+ * - OTHER_SITE: the location is inside the geofence of another project
+ * - NO_SITE: the location is not inside any project geofence
+ *
+ * @author Techno ERP Team
+ * @version 1.0
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class AttendanceLocationFlag {
+
+    private Long transactionId;
+    private Long employeeNo;
+    private LocalDate attendanceDate;
+    private Long projectCode;
+    private BigDecimal entryLatitude;
+    private BigDecimal entryLongitude;
+    private Double distanceFromProjectMeters;
+    private Long nearestProjectCode;
+    private Double nearestDistanceMeters;
+    private String reason;
+}
@@ -0,0 +1,30 @@
+package com.techno.backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * DTO for the result of rebuilding a month of attendance rollups.
+ *
+ * Lists the employees whose rollup rows did not match the raw attendance
+ * records and were corrected (an empty list means the rollups were in sync).
+ *
+ * @author Techno ERP Team
+ * @version 1.0
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class AttendanceRollupRebuildResponse {
+
+    private String month;
+    private Integer employeesChecked;
+    private Integer rowsCorrected;
+    private Integer rowsCreated;
+    private List<Long> mismatchedEmployees;
+}
@@ -3,6 +3,7 @@ package com.techno.backend.dto;
 import jakarta.validation.constraints.DecimalMax;
 import jakarta.validation.constraints.DecimalMin;
 import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -30,8 +31,8 @@ public class CheckInRequest {
     /**
      * Project code where employee is checking in.
      * Must match an active project in the system.
+     * Optional: when omitted, the project whose geofence contains the GPS location is used.
      */
-    @NotNull(message = "رمز المشروع مطلوب")
     private Long projectCode;
 
     /**
@@ -51,4 +52,11 @@ public class CheckInRequest {
     @DecimalMin(value = "-180.0", message = "يجب أن تكون خطوط الطول بين -180 و +180 درجة")
     @DecimalMax(value = "180.0", message = "يجب أن تكون خطوط الطول بين -180 و +180 درجة")
     private BigDecimal longitude;
+
+    /**
+     * Optional client-generated idempotency key (also accepted as the Idempotency-Key header).
+     * Retrying a check-in with the same key returns the original check-in instead of an error.
+     */
+    @Size(max = 64, message = "يجب ألا يتجاوز مفتاح الطلب 64 حرفاً")
+    private String idempotencyKey;
 }
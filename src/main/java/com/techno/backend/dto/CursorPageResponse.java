@@ -0,0 +1,31 @@
+package com.techno.backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * DTO for cursor (keyset) paginated responses.
+ *
+ * Pass nextCursor back as the cursor parameter to get the following page.
+ * totalElements is served from a short-lived cache and may be slightly behind
+ * (null when not yet computed for the filter).
+ *
+ * @author Techno ERP Team
+ * @version 1.0
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CursorPageResponse<T> {
+
+    private List<T> content;
+    private String nextCursor;
+    private Boolean hasNext;
+    private Integer pageSize;
+    private Long totalElements;
+}
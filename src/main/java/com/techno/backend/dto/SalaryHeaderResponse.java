@@ -0,0 +1,118 @@
+package com.techno.backend.dto;
+
+import com.techno.backend.entity.SalaryHeader;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Response DTO for SalaryHeader entity.
+ *
+ * Carries the header columns only; detail lines are returned by the salary
+ * details/breakdown endpoints. Built from loaded columns, so it can be
+ * serialized without an open persistence session.
+ *
+ * @author Techno HR System
+ * @version 1.0
+ * @since Phase 4 - Payroll System
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SalaryHeaderResponse {
+
+    private Long salaryId;
+    private Long employeeNo;
+    private String salaryMonth;
+    private Integer salaryVersion;
+    private String isLatest;
+    private BigDecimal grossSalary;
+    private BigDecimal totalAllowances;
+    private BigDecimal totalDeductions;
+    private BigDecimal totalOvertime;
+    private BigDecimal totalAbsence;
+    private BigDecimal totalLoans;
+    private BigDecimal netSalary;
+    private String salaryType;
+    private LocalDate calculationDate;
+    private String transStatus;
+    private Long nextApproval;
+    private Integer nextAppLevel;
+    private Long approvedBy;
+    private LocalDateTime approvedDate;
+    private Long recalculatedBy;
+    private LocalDateTime recalculatedDate;
+    private String recalculationReason;
+    private String rejectionReason;
+    private Long calculatedBy;
+    private Long createdBy;
+    private LocalDateTime createdDate;
+    private Long modifiedBy;
+    private LocalDateTime modifiedDate;
+
+    /**
+     * Reason approval is blocked (e.g. earlier months not yet approved), null if none
+     */
+    private String blockingReason;
+
+    public static SalaryHeaderResponse from(SalaryHeader salary) {
+        return SalaryHeaderResponse.builder()
+                .salaryId(salary.getSalaryId())
+                .employeeNo(salary.getEmployeeNo())
+                .salaryMonth(salary.getSalaryMonth())
+                .salaryVersion(salary.getSalaryVersion())
+                .isLatest(salary.getIsLatest())
+                .grossSalary(salary.getGrossSalary())
+                .totalAllowances(salary.getTotalAllowances())
+                .totalDeductions(salary.getTotalDeductions())
+                .totalOvertime(salary.getTotalOvertime())
+                .totalAbsence(salary.getTotalAbsence())
+                .totalLoans(salary.getTotalLoans())
+                .netSalary(salary.getNetSalary())
+                .salaryType(salary.getSalaryType())
+                .calculationDate(salary.getCalculationDate())
+                .transStatus(salary.getTransStatus())
+                .nextApproval(salary.getNextApproval())
+                .nextAppLevel(salary.getNextAppLevel())
+                .approvedBy(salary.getApprovedBy())
+                .approvedDate(salary.getApprovedDate())
+                .recalculatedBy(salary.getRecalculatedBy())
+                .recalculatedDate(salary.getRecalculatedDate())
+                .recalculationReason(salary.getRecalculationReason())
+                .rejectionReason(salary.getRejectionReason())
+                .calculatedBy(salary.getCalculatedBy())
+                .createdBy(salary.getCreatedBy())
+                .createdDate(salary.getCreatedDate())
+                .modifiedBy(salary.getModifiedBy())
+                .modifiedDate(salary.getModifiedDate())
+                .blockingReason(salary.getBlockingReason())
+                .build();
+    }
+
+    /**
+     * Check if salary is approved
+     */
+    public boolean isApproved() {
+        return "A".equals(transStatus);
+    }
+
+    /**
+     * Check if salary is rejected
+     */
+    public boolean isRejected() {
+        return "R".equals(transStatus);
+    }
+
+    /**
+     * Check if salary is pending approval
+     */
+    public boolean isPending() {
+        return "N".equals(transStatus);
+    }
+}
@@ -0,0 +1,26 @@
+package com.techno.backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO for a typeahead match.
+ *
+ * Types: EMPLOYEE, PROJECT, DEPARTMENT, STORE, ITEM, SUPPLIER
+ * (see {@link com.techno.backend.constants.TypeaheadType}).
+ *
+ * @author Techno ERP Team
+ * @version 1.0
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TypeaheadResult {
+
+    private String type;
+    private Long id;
+    private String label;
+}
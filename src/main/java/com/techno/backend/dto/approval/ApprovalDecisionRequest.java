@@ -0,0 +1,52 @@
+package com.techno.backend.dto.approval;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * DTO for approving or rejecting a selection of inbox requests at once.
+ *
+ * @author Techno HR System
+ * @version 1.0
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ApprovalDecisionRequest {
+
+    @NotEmpty(message = "يجب اختيار طلب واحد على الأقل")
+    @Size(max = 200, message = "لا يمكن معالجة أكثر من 200 طلب في مرة واحدة")
+    private List<@Valid @NotNull(message = "بيانات الطلب مطلوبة") Item> items;
+
+    /**
+     * Rejection reason (required when rejecting) or approval notes
+     */
+    @Size(max = 500, message = "السبب لا يجب أن يتجاوز 500 حرف")
+    private String reason;
+
+    /**
+     * Selected request.
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class Item {
+
+        @NotBlank(message = "نوع الطلب مطلوب")
+        private String requestType;
+
+        @NotNull(message = "رقم الطلب مطلوب")
+        private Long requestId;
+    }
+}
@@ -0,0 +1,31 @@
+package com.techno.backend.dto.approval;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+/**
+ * DTO for the outcome of a bulk approve or reject.
+ *
+ * @author Techno HR System
+ * @version 1.0
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ApprovalDecisionResponse {
+
+    /**
+     * Number of requests approved or rejected
+     */
+    private int processed;
+
+    /**
+     * Requests still pending for the approver, per type
+     */
+    private Map<String, Long> remainingByType;
+}
@@ -0,0 +1,51 @@
+package com.techno.backend.dto.approval;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * DTO for one request waiting for the current approver.
+ *
+ * @author Techno HR System
+ * @version 1.0
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ApprovalInboxItem {
+
+    /**
+     * Request type (LEAVE, LOAN, TRANSFER, ...)
+     */
+    private String requestType;
+
+    /**
+     * Request number in its own module
+     */
+    private Long requestId;
+
+    /**
+     * Employee the request is for (requester for payment and labor requests)
+     */
+    private Long employeeNo;
+
+    private String employeeName;
+
+    private LocalDate requestDate;
+
+    /**
+     * Amount (loans, allowances, deductions and payment requests only)
+     */
+    private BigDecimal amount;
+
+    /**
+     * Current approval level
+     */
+    private Integer approvalLevel;
+}
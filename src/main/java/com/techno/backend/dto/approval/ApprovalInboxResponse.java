@@ -0,0 +1,41 @@
+package com.techno.backend.dto.approval;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * DTO for a page of the approvals inbox with pending counts per request type.
+ *
+ * @author Techno HR System
+ * @version 1.0
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ApprovalInboxResponse {
+
+    /**
+     * Pending requests on this page, oldest first
+     */
+    private List<ApprovalInboxItem> items;
+
+    private int page;
+
+    private int size;
+
+    /**
+     * Pending requests of the selected types
+     */
+    private long totalItems;
+
+    /**
+     * Pending requests per type, over all types
+     */
+    private Map<String, Long> countsByType;
+}
@@ -0,0 +1,67 @@
+package com.techno.backend.dto.labor;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Digits;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * DTO for assigning a group of workers to a labor request in one call.
+ * Dates not given per worker default to these dates, then to the request's dates.
+ *
+ * @since Phase 10 - Projects
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BulkLaborAssignmentDto {
+
+    @NotEmpty(message = "قائمة العمال مطلوبة")
+    @Size(max = 500, message = "لا يمكن تعيين أكثر من 500 عامل في طلب واحد")
+    private List<@Valid @NotNull(message = "بيانات العامل مطلوبة") Worker> workers;
+
+    private LocalDate startDate;
+
+    private LocalDate endDate;
+
+    @Size(max = 500, message = "الملاحظات لا يجب أن تتجاوز 500 حرف")
+    private String notes;
+
+    /**
+     * One worker to assign.
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class Worker {
+
+        @NotNull(message = "رقم الموظف مطلوب")
+        private Long employeeNo;
+
+        @NotNull(message = "رقم التسلسل مطلوب")
+        private Integer sequenceNo;
+
+        private LocalDate startDate;
+
+        private LocalDate endDate;
+
+        /**
+         * Daily rate; defaults to the rate of the request detail line
+         */
+        @DecimalMin(value = "0.0", inclusive = false, message = "يجب أن يكون المعدل اليومي أكبر من 0")
+        @Digits(integer = 10, fraction = 4, message = "تنسيق المعدل اليومي غير صالح")
+        private BigDecimal dailyRate;
+    }
+}
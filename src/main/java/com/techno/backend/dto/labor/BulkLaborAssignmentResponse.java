@@ -0,0 +1,93 @@
+package com.techno.backend.dto.labor;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * DTO for the outcome of a bulk labor assignment, with one result per worker.
+ *
+ * @author Techno HR System
+ * @version 1.0
+ * @since Phase 10 - Projects
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BulkLaborAssignmentResponse {
+
+    /**
+     * Labor request number
+     */
+    private Long requestNo;
+
+    /**
+     * Project code of the request
+     */
+    private Long projectCode;
+
+    /**
+     * Number of workers submitted
+     */
+    private Integer totalWorkers;
+
+    /**
+     * Number of workers assigned
+     */
+    private Integer assignedCount;
+
+    /**
+     * Number of workers rejected
+     */
+    private Integer rejectedCount;
+
+    /**
+     * Result per worker, in submitted order
+     */
+    private List<WorkerResult> results;
+
+    /**
+     * Result for one worker.
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class WorkerResult {
+
+        private Long employeeNo;
+
+        private String employeeName;
+
+        private Integer sequenceNo;
+
+        /**
+         * True if an assignment was created
+         */
+        private Boolean assigned;
+
+        /**
+         * Created assignment number (null if rejected)
+         */
+        private Long assignmentNo;
+
+        private LocalDate startDate;
+
+        private LocalDate endDate;
+
+        /**
+         * Reason for rejection (null if assigned)
+         */
+        private String message;
+
+        /**
+         * Existing assignments overlapping the requested dates
+         */
+        private List<AssignmentOverlapInfo> conflicts;
+    }
+}
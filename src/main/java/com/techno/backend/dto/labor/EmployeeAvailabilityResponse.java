@@ -0,0 +1,42 @@
+package com.techno.backend.dto.labor;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * DTO for an employee's availability over a date range.
+ *
+ * @author Techno HR System
+ * @version 1.0
+ * @since Phase 10 - Projects
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class EmployeeAvailabilityResponse {
+
+    /**
+     * Employee number
+     */
+    private Long employeeNo;
+
+    /**
+     * Employee name for display
+     */
+    private String employeeName;
+
+    /**
+     * True if the employee has no active assignment in the range
+     */
+    private Boolean available;
+
+    /**
+     * Active assignments overlapping the range (empty if available)
+     */
+    private List<AssignmentOverlapInfo> conflicts;
+}
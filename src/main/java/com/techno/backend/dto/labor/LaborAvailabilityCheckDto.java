@@ -0,0 +1,33 @@
+package com.techno.backend.dto.labor;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * DTO for checking a group of employees against a labor request.
+ * Dates default to the request's start and end dates.
+ *
+ * @since Phase 10 - Projects
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class LaborAvailabilityCheckDto {
+
+    @NotEmpty(message = "قائمة الموظفين مطلوبة")
+    @Size(max = 500, message = "لا يمكن فحص أكثر من 500 موظف في طلب واحد")
+    private List<@NotNull(message = "رقم الموظف مطلوب") Long> employeeNos;
+
+    private LocalDate startDate;
+
+    private LocalDate endDate;
+}
@@ -0,0 +1,116 @@
+package com.techno.backend.dto.payroll;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * DTO for the outcome of an incremental payroll run: what was recalculated
+ * and how each salary changed.
+ *
+ * @author Techno HR System
+ * @version 1.0
+ * @since Phase 4 - Payroll System
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class IncrementalPayrollResponse {
+
+    /**
+     * Month run for, or null if all dirty months were run
+     */
+    private String salaryMonth;
+
+    /**
+     * Number of dirty (employee, month) pairs found
+     */
+    private Integer dirtyCount;
+
+    /**
+     * Number recalculated into a new version
+     */
+    private Integer recalculatedCount;
+
+    /**
+     * Number whose totals differ from the previous version
+     */
+    private Integer changedCount;
+
+    /**
+     * Number skipped: no calculated salary left, or approved in a run over all months
+     */
+    private Integer skippedCount;
+
+    /**
+     * Number that failed (left dirty)
+     */
+    private Integer failedCount;
+
+    /**
+     * Sum of net salary differences over all recalculated employees
+     */
+    private BigDecimal totalNetDifference;
+
+    /**
+     * Result per (employee, month), by month and employee
+     */
+    private List<EmployeeResult> results;
+
+    /**
+     * Result for one employee and month.
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class EmployeeResult {
+
+        private Long employeeNo;
+
+        private String employeeName;
+
+        private String salaryMonth;
+
+        /**
+         * Inputs that changed (e.g. "ALLOWANCE,ATTENDANCE")
+         */
+        private String changeSources;
+
+        /**
+         * RECALCULATED, SKIPPED (no calculated salary left, or approved and no month given) or FAILED
+         */
+        private String status;
+
+        private Integer oldVersion;
+
+        private Integer newVersion;
+
+        private BigDecimal oldGrossSalary;
+
+        private BigDecimal newGrossSalary;
+
+        private BigDecimal oldTotalAllowances;
+
+        private BigDecimal newTotalAllowances;
+
+        private BigDecimal oldTotalDeductions;
+
+        private BigDecimal newTotalDeductions;
+
+        private BigDecimal oldNetSalary;
+
+        private BigDecimal newNetSalary;
+
+        private BigDecimal netDifference;
+
+        private Boolean changed;
+
+        private String message;
+    }
+}
@@ -0,0 +1,49 @@
+package com.techno.backend.dto.payroll;
+
+import com.techno.backend.entity.PayrollDirtyMonth;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Response DTO for an out-of-date payroll month of an employee.
+ *
+ * @author Techno HR System
+ * @version 1.0
+ * @since Phase 4 - Payroll System
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PayrollDirtyMonthResponse {
+
+    private Long employeeNo;
+
+    private String salaryMonth;
+
+    /**
+     * Inputs that changed (e.g. "ALLOWANCE,ATTENDANCE")
+     */
+    private String changeSources;
+
+    /**
+     * Number of changes since the month was last calculated
+     */
+    private Integer changeCount;
+
+    private LocalDateTime lastMarkedDate;
+
+    public static PayrollDirtyMonthResponse from(PayrollDirtyMonth mark) {
+        return PayrollDirtyMonthResponse.builder()
+                .employeeNo(mark.getEmployeeNo())
+                .salaryMonth(mark.getSalaryMonth())
+                .changeSources(mark.getChangeSources())
+                .changeCount(mark.getChangeCount())
+                .lastMarkedDate(mark.getLastMarkedDate())
+                .build();
+    }
+}
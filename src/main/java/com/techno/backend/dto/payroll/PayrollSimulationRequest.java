@@ -0,0 +1,101 @@
+package com.techno.backend.dto.payroll;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Digits;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Pattern;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * DTO for a what-if payroll simulation of one month.
+ *
+ * The payroll of every eligible employee (optionally limited to departments
+ * and/or projects) is calculated twice in memory: once from current data and
+ * once with the hypothetical changes below applied. Nothing is saved.
+ *
+ * Hypothetical changes:
+ * - salaryChanges: new salary, or raise percent, per employee
+ * - allowanceNos / deductionNos: pending requests counted as approved
+ * - extraAllowances / extraDeductions: additional lines per employee
+ * - postponedLoanIds: loans whose installments are not deducted this month
+ *
+ * @author Techno HR System
+ * @version 1.0
+ * @since Phase 4 - Payroll System
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PayrollSimulationRequest {
+
+    @NotBlank(message = "شهر الراتب مطلوب")
+    @Pattern(regexp = "^\\d{4}-(0[1-9]|1[0-2])$", message = "شهر الراتب يجب أن يكون بالصيغة YYYY-MM")
+    private String salaryMonth;
+
+    private List<Long> departmentCodes;
+
+    private List<Long> projectCodes;
+
+    private List<@Valid @NotNull(message = "بيانات تعديل الراتب مطلوبة") SalaryChange> salaryChanges;
+
+    private List<Long> allowanceNos;
+
+    private List<Long> deductionNos;
+
+    private List<@Valid @NotNull(message = "بيانات البدل مطلوبة") Adjustment> extraAllowances;
+
+    private List<@Valid @NotNull(message = "بيانات الخصم مطلوبة") Adjustment> extraDeductions;
+
+    private List<Long> postponedLoanIds;
+
+    /**
+     * New monthly salary of an employee: either {@code newSalary}
+     * or a raise of {@code raisePercent} percent on the current salary.
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class SalaryChange {
+
+        @NotNull(message = "رقم الموظف مطلوب")
+        private Long employeeNo;
+
+        @DecimalMin(value = "0.0", inclusive = false, message = "الراتب الجديد يجب أن يكون أكبر من 0")
+        @Digits(integer = 10, fraction = 4, message = "تنسيق الراتب غير صالح")
+        private BigDecimal newSalary;
+
+        @Digits(integer = 3, fraction = 4, message = "تنسيق نسبة الزيادة غير صالح")
+        private BigDecimal raisePercent;
+    }
+
+    /**
+     * Hypothetical allowance or deduction line.
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class Adjustment {
+
+        @NotNull(message = "رقم الموظف مطلوب")
+        private Long employeeNo;
+
+        @NotNull(message = "نوع المعاملة مطلوب")
+        private Long typeCode;
+
+        @NotNull(message = "المبلغ مطلوب")
+        @DecimalMin(value = "0.0", inclusive = false, message = "المبلغ يجب أن يكون أكبر من 0")
+        @Digits(integer = 10, fraction = 4, message = "تنسيق المبلغ غير صالح")
+        private BigDecimal amount;
+    }
+}
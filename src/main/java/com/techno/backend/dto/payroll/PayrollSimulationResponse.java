@@ -0,0 +1,106 @@
+package com.techno.backend.dto.payroll;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * DTO for the outcome of a payroll simulation: current and simulated totals
+ * for the whole selection, per department, per project and per component.
+ *
+ * @author Techno HR System
+ * @version 1.0
+ * @since Phase 4 - Payroll System
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PayrollSimulationResponse {
+
+    private String salaryMonth;
+
+    /**
+     * Number of employees simulated
+     */
+    private Integer employeeCount;
+
+    /**
+     * Totals from current data
+     */
+    private Totals baseline;
+
+    /**
+     * Totals with the hypothetical changes applied
+     */
+    private Totals simulated;
+
+    /**
+     * Simulated minus baseline net salary
+     */
+    private BigDecimal netDifference;
+
+    private List<GroupTotals> byDepartment;
+
+    private List<GroupTotals> byProject;
+
+    private List<ComponentTotals> byComponent;
+
+    /**
+     * Time spent calculating, in milliseconds
+     */
+    private Long elapsedMillis;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class Totals {
+        private BigDecimal grossSalary;
+        private BigDecimal totalAllowances;
+        private BigDecimal totalDeductions;
+        private BigDecimal netSalary;
+    }
+
+    /**
+     * Totals of the employees of one department or project
+     * (code and name are null for employees without one).
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class GroupTotals {
+        private Long code;
+        private String name;
+        private Integer employeeCount;
+        private Totals baseline;
+        private Totals simulated;
+        private BigDecimal netDifference;
+    }
+
+    /**
+     * Total of one salary component (transaction type).
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class ComponentTotals {
+        private Long typeCode;
+        private String typeName;
+
+        /**
+         * A (allowance) or D (deduction)
+         */
+        private String category;
+
+        private BigDecimal baselineAmount;
+        private BigDecimal simulatedAmount;
+        private BigDecimal difference;
+    }
+}
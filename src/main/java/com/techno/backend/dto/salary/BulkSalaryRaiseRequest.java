@@ -0,0 +1,99 @@
+package com.techno.backend.dto.salary;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Digits;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * DTO for raising the salaries of a group of employees by one rule.
+ *
+ * Employees are selected by department, contract type, category and/or number;
+ * selection lists left empty do not filter, so an empty selection covers every
+ * employee who is not terminated.
+ *
+ * Rules:
+ * - PERCENT: raise by {@code value} percent (e.g. 5 for 5%)
+ * - FIXED: raise by {@code value} SAR
+ * - SALARY_BAND: raise by the percent of the band the current salary falls in
+ *
+ * @since Phase 7 - Payroll Approval
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BulkSalaryRaiseRequest {
+
+    public static final String RULE_PERCENT = "PERCENT";
+    public static final String RULE_FIXED = "FIXED";
+    public static final String RULE_SALARY_BAND = "SALARY_BAND";
+
+    private List<Long> departmentCodes;
+
+    private List<String> contractTypes;
+
+    private List<String> employeeCategories;
+
+    private List<Long> employeeNos;
+
+    @NotBlank(message = "نوع قاعدة الزيادة مطلوب")
+    @Pattern(regexp = "^(PERCENT|FIXED|SALARY_BAND)$",
+            message = "نوع قاعدة الزيادة يجب أن يكون PERCENT أو FIXED أو SALARY_BAND")
+    private String ruleType;
+
+    /**
+     * Percent or amount for PERCENT and FIXED rules
+     */
+    @DecimalMin(value = "0.0", inclusive = false, message = "قيمة الزيادة يجب أن تكون أكبر من 0")
+    @Digits(integer = 10, fraction = 4, message = "تنسيق قيمة الزيادة غير صالح")
+    private BigDecimal value;
+
+    /**
+     * Salary bands for the SALARY_BAND rule
+     */
+    @Size(max = 50, message = "لا يمكن تحديد أكثر من 50 شريحة")
+    private List<@Valid @NotNull(message = "بيانات الشريحة مطلوبة") SalaryBand> bands;
+
+    /**
+     * Date the new salaries take effect (default: today)
+     */
+    private LocalDate effectiveDate;
+
+    @NotBlank(message = "السبب مطلوب")
+    @Size(max = 500, message = "السبب لا يجب أن يتجاوز 500 حرف")
+    private String reason;
+
+    /**
+     * Raise percent for current salaries from {@code fromSalary} (inclusive)
+     * up to {@code toSalary} (exclusive, open-ended if null).
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class SalaryBand {
+
+        @NotNull(message = "بداية الشريحة مطلوبة")
+        @DecimalMin(value = "0.0", message = "بداية الشريحة لا يمكن أن تكون سالبة")
+        private BigDecimal fromSalary;
+
+        private BigDecimal toSalary;
+
+        @NotNull(message = "نسبة الزيادة للشريحة مطلوبة")
+        @DecimalMin(value = "0.0", inclusive = false, message = "نسبة الزيادة يجب أن تكون أكبر من 0")
+        @Digits(integer = 3, fraction = 4, message = "تنسيق نسبة الزيادة غير صالح")
+        private BigDecimal percent;
+    }
+}
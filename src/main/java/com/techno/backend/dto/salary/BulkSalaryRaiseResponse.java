@@ -0,0 +1,124 @@
+package com.techno.backend.dto.salary;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * DTO for a bulk salary raise preview or result: totals, the old and new
+ * salary and salary components of every employee, and the employees skipped.
+ *
+ * @author Techno HR System
+ * @version 1.0
+ * @since Phase 7 - Payroll Approval
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BulkSalaryRaiseResponse {
+
+    /**
+     * True for a preview (nothing saved)
+     */
+    private Boolean dryRun;
+
+    private String ruleType;
+
+    private LocalDate effectiveDate;
+
+    /**
+     * Number of employees raised (or to be raised)
+     */
+    private Integer employeeCount;
+
+    private BigDecimal totalOldSalary;
+
+    private BigDecimal totalNewSalary;
+
+    private BigDecimal totalIncrease;
+
+    /**
+     * Change per employee, by employee number
+     */
+    private List<EmployeeChange> employees;
+
+    /**
+     * Selected employees that were not raised, with the reason
+     */
+    private List<SkippedEmployee> skipped;
+
+    /**
+     * Salary change for one employee.
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class EmployeeChange {
+
+        private Long employeeNo;
+
+        private String employeeName;
+
+        private Long departmentCode;
+
+        private String contractType;
+
+        private BigDecimal oldSalary;
+
+        private BigDecimal newSalary;
+
+        private BigDecimal increase;
+
+        /**
+         * Percentage increase (e.g. 10.5 for 10.5%)
+         */
+        private BigDecimal raisePercentage;
+
+        /**
+         * Salary components before and after, by transaction type
+         */
+        private List<ComponentChange> components;
+    }
+
+    /**
+     * One salary component before and after the raise.
+     * Old amount is null for new components, new amount is null for dropped ones.
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class ComponentChange {
+
+        private Long transTypeCode;
+
+        private BigDecimal oldAmount;
+
+        private BigDecimal newAmount;
+
+        private BigDecimal percentage;
+    }
+
+    /**
+     * Employee left out of the raise.
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class SkippedEmployee {
+
+        private Long employeeNo;
+
+        private String employeeName;
+
+        private String reason;
+    }
+}
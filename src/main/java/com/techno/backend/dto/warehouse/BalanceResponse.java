@@ -25,6 +25,8 @@ public class BalanceResponse {
     private BigDecimal quantityOnHand;
     private BigDecimal quantityReserved;
     private BigDecimal availableQuantity;
+    private BigDecimal averageCost;
+    private BigDecimal totalValue;
     private LocalDateTime lastTransactionDate;
     private Boolean isBelowReorderLevel;
     private BigDecimal reorderLevel;
@@ -53,6 +53,14 @@ public class ItemRequest {
     @Digits(integer = 12, fraction = 4, message = "تنسيق الكمية الأولية غير صالح")
     private BigDecimal initialQuantity;
 
+    /**
+     * Unit cost of the initial quantity.
+     * If omitted, the quantity is valued at the current average cost of the balance.
+     */
+    @DecimalMin(value = "0.0", message = "تكلفة الوحدة الأولية يجب أن تكون أكبر من أو تساوي 0")
+    @Digits(integer = 12, fraction = 4, message = "تنسيق تكلفة الوحدة الأولية غير صالح")
+    private BigDecimal initialUnitCost;
+
     /**
      * Store code where initial quantity should be set.
      * Required if initialQuantity is provided.
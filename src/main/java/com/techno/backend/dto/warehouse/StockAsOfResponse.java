@@ -0,0 +1,66 @@
+package com.techno.backend.dto.warehouse;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Stock on hand per store and item at the end of a day, rebuilt from the
+ * nearest snapshot and the ledger movements in between.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class StockAsOfResponse {
+
+    private LocalDate asOfDate;
+
+    /**
+     * Snapshot day the balances were rebuilt from (null when rebuilt from current balances)
+     */
+    private LocalDate baseSnapshotDate;
+
+    /**
+     * FORWARD (movements after the snapshot added), BACKWARD (later movements
+     * subtracted) or NONE (snapshot of the same day)
+     */
+    private String replayDirection;
+
+    /**
+     * Number of ledger movements replayed
+     */
+    private Long replayedMovements;
+
+    /**
+     * Replayed movements recorded before moving-average costing; their value
+     * is unknown and counted as 0, so totalValue is approximate when this is not 0
+     */
+    private Long unpricedMovements;
+
+    private Integer storeCount;
+    private BigDecimal totalValue;
+    private List<Line> balances;
+    private Long elapsedMillis;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public static class Line {
+        private Long storeCode;
+        private String storeName;
+        private Long itemCode;
+        private String itemName;
+        private BigDecimal quantityOnHand;
+        private BigDecimal totalValue;
+    }
+}
@@ -0,0 +1,34 @@
+package com.techno.backend.dto.warehouse;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * Result of taking the stock snapshot of a day.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class StockSnapshotResponse {
+
+    private LocalDate snapshotDate;
+
+    /**
+     * Store and item balances written (balances without stock are not kept)
+     */
+    private Integer balanceCount;
+
+    /**
+     * Rows of an earlier snapshot of the same day that were replaced
+     */
+    private Integer replacedCount;
+
+    private BigDecimal totalValue;
+    private Long elapsedMillis;
+}
@@ -23,8 +23,10 @@ import java.time.LocalDateTime;
  * - LEAVE: Leave request attachments (medical certificates)
  * - LOAN: Loan request documents
  *
- * File storage structure: /uploads/{year}/{month}/{filename}
- * Example: /uploads/2025/11/passport_12345.pdf
+ * File storage structure: /uploads/blobs/{hash[0..2]}/{hash[2..4]}/{hash}
+ * Identical content is stored once and shared through {@link FileBlob}.
+ * Legacy uploads keep their original /uploads/{year}/{month}/{filename} path
+ * and have no content hash.
  *
  * @author Techno ERP Team
  * @version 2.0
@@ -33,7 +35,8 @@ import java.time.LocalDateTime;
 @Table(name = "attachments", indexes = {
     @Index(name = "idx_attachment_reference", columnList = "reference_type, reference_id"),
     @Index(name = "idx_attachment_uploaded_by", columnList = "uploaded_by"),
-    @Index(name = "idx_attachment_uploaded_date", columnList = "uploaded_date")
+    @Index(name = "idx_attachment_uploaded_date", columnList = "uploaded_date"),
+    @Index(name = "idx_attachment_content_hash", columnList = "content_hash")
 })
 @Data
 @EqualsAndHashCode(callSuper = false)
@@ -85,6 +88,14 @@ public class Attachment extends BaseEntity {
     @Column(name = "file_path", nullable = false, length = 1000)
     private String filePath;
 
+    /**
+     * SHA-256 hash of the file content, referencing FILE_BLOBS.content_hash.
+     * Null for legacy attachments stored before content addressing.
+     */
+    @Size(max = 64, message = "بصمة الملف لا يجب أن تتجاوز 64 حرف")
+    @Column(name = "content_hash", length = 64)
+    private String contentHash;
+
     /**
      * File size in bytes
      */
@@ -134,6 +145,13 @@ public class Attachment extends BaseEntity {
 
     // Helper methods
 
+    /**
+     * Check if attachment is stored in the content-addressed blob store
+     */
+    public boolean isContentAddressed() {
+        return contentHash != null && !contentHash.isBlank();
+    }
+
     /**
      * Get file extension from filename
      */
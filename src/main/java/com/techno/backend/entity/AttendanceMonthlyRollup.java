@@ -0,0 +1,121 @@
+package com.techno.backend.entity;
+
+import jakarta.persistence.*;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Pattern;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Entity representing the monthly attendance totals of one employee.
+ *
+ * One row per (employee, month), kept in step with emp_attendance_transactions
+ * by AttendanceRollupService in the same transaction as every attendance write
+ * (check-in/out, manual entry and edit, delete, auto-checkout, absence marking).
+ * Monthly consumers (overtime alerts, dashboard, delay deductions, timesheet
+ * totals) read these rows instead of aggregating the raw attendance records.
+ *
+ * Business Rules:
+ * - Hour totals and day counts always reflect all attendance records of the month
+ * - The rebuild command recalculates a month from raw data and reports drift
+ *
+ * @author Techno HR System
+ * @version 1.0
+ * @since Phase 4 - Attendance System
+ */
+@Entity
+@Table(name = "attendance_monthly_rollups", uniqueConstraints = {
+    @UniqueConstraint(name = "uk_attendance_rollup_emp_month", columnNames = {"employee_no", "rollup_month"})
+}, indexes = {
+    @Index(name = "idx_attendance_rollup_month", columnList = "rollup_month")
+})
+@Data
+@EqualsAndHashCode(callSuper = false)
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class AttendanceMonthlyRollup extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "rollup_id")
+    private Long rollupId;
+
+    @NotNull(message = "رقم الموظف مطلوب")
+    @Column(name = "employee_no", nullable = false)
+    private Long employeeNo;
+
+    /**
+     * Month in format YYYY-MM (e.g., "2025-11")
+     */
+    @NotNull(message = "الشهر مطلوب")
+    @Pattern(regexp = "^\\d{4}-\\d{2}$", message = "الشهر يجب أن يكون بصيغة YYYY-MM")
+    @Column(name = "rollup_month", length = 7, nullable = false)
+    private String rollupMonth;
+
+    // Hour totals
+
+    @Column(name = "working_hours", precision = 8, scale = 2, nullable = false)
+    @Builder.Default
+    private BigDecimal workingHours = BigDecimal.ZERO;
+
+    @Column(name = "overtime_hours", precision = 8, scale = 2, nullable = false)
+    @Builder.Default
+    private BigDecimal overtimeHours = BigDecimal.ZERO;
+
+    @Column(name = "delay_hours", precision = 8, scale = 2, nullable = false)
+    @Builder.Default
+    private BigDecimal delayHours = BigDecimal.ZERO;
+
+    @Column(name = "early_out_hours", precision = 8, scale = 2, nullable = false)
+    @Builder.Default
+    private BigDecimal earlyOutHours = BigDecimal.ZERO;
+
+    @Column(name = "shortage_hours", precision = 8, scale = 2, nullable = false)
+    @Builder.Default
+    private BigDecimal shortageHours = BigDecimal.ZERO;
+
+    // Day counts
+
+    /**
+     * Days with an attendance record that is not an absence
+     */
+    @Column(name = "present_days", nullable = false)
+    @Builder.Default
+    private Integer presentDays = 0;
+
+    @Column(name = "absent_days", nullable = false)
+    @Builder.Default
+    private Integer absentDays = 0;
+
+    @Column(name = "holiday_days", nullable = false)
+    @Builder.Default
+    private Integer holidayDays = 0;
+
+    @Column(name = "weekend_days", nullable = false)
+    @Builder.Default
+    private Integer weekendDays = 0;
+
+    /**
+     * Days with delayed_calc > 0 (used by the monthly delay deduction)
+     */
+    @Column(name = "delay_days", nullable = false)
+    @Builder.Default
+    private Integer delayDays = 0;
+
+    /**
+     * Number of attendance records the totals were calculated from
+     */
+    @Column(name = "record_count", nullable = false)
+    @Builder.Default
+    private Integer recordCount = 0;
+
+    @Column(name = "last_calculated_date")
+    private LocalDateTime lastCalculatedDate;
+}
@@ -27,7 +27,9 @@ import java.time.LocalDateTime;
     @Index(name = "idx_attendance_emp", columnList = "employee_no"),
     @Index(name = "idx_attendance_date", columnList = "attendance_date"),
     @Index(name = "idx_attendance_emp_date", columnList = "employee_no, attendance_date", unique = true),
-    @Index(name = "idx_attendance_project", columnList = "project_code")
+    @Index(name = "idx_attendance_project", columnList = "project_code"),
+    @Index(name = "idx_attendance_date_id", columnList = "attendance_date, transaction_id"),
+    @Index(name = "idx_attendance_project_date_id", columnList = "project_code, attendance_date, transaction_id")
 })
 @Data
 @EqualsAndHashCode(callSuper = false, exclude = {"employee", "project"})
@@ -38,7 +40,8 @@ import java.time.LocalDateTime;
 public class AttendanceTransaction extends BaseEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "attendance_transaction_seq")
+    @SequenceGenerator(name = "attendance_transaction_seq", sequenceName = "attendance_transaction_seq", allocationSize = 50)
     @Column(name = "transaction_id")
     private Long transactionId;
 
@@ -66,6 +69,9 @@ public class AttendanceTransaction extends BaseEntity {
     @Column(name = "entry_distance_meters")
     private Double entryDistanceMeters; // Calculated distance from project location
 
+    @Column(name = "entry_request_key", length = 64)
+    private String entryRequestKey; // Client idempotency key of the check-in request
+
     // ===== Check-out details =====
     @Column(name = "exit_time")
     private LocalDateTime exitTime;
@@ -47,7 +47,8 @@ import java.time.LocalDateTime;
 public class EmpMonthlyAllowance {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "emp_monthly_allowance_seq")
+    @SequenceGenerator(name = "emp_monthly_allowance_seq", sequenceName = "emp_monthly_allowance_seq", allocationSize = 50)
     @Column(name = "transaction_no")
     private Long transactionNo;
 
@@ -47,7 +47,8 @@ import java.time.LocalDateTime;
 public class EmpMonthlyDeduction {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "emp_monthly_deduction_seq")
+    @SequenceGenerator(name = "emp_monthly_deduction_seq", sequenceName = "emp_monthly_deduction_seq", allocationSize = 50)
     @Column(name = "transaction_no")
     private Long transactionNo;
 
@@ -45,7 +45,8 @@ public class EmpPayrollTransaction extends BaseEntity {
      * Transaction ID - Primary Key
      */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "payroll_transaction_seq")
+    @SequenceGenerator(name = "payroll_transaction_seq", sequenceName = "payroll_transaction_seq", allocationSize = 50)
     @Column(name = "transaction_id")
     private Long transactionId;
 
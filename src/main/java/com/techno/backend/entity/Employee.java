@@ -1,5 +1,6 @@
 package com.techno.backend.entity;
 
+import com.techno.backend.util.ArabicTextNormalizer;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.*;
 import lombok.AllArgsConstructor;
@@ -53,6 +54,12 @@ public class Employee extends BaseEntity {
     @Column(name = "employee_name", nullable = false, length = 250)
     private String employeeName;
 
+    /**
+     * Normalized employee name for search (see ArabicTextNormalizer), kept in step on save
+     */
+    @Column(name = "search_key", length = 250)
+    private String searchKey;
+
     /**
      * National ID or Iqama number - Unique identifier
      */
@@ -303,6 +310,15 @@ public class Employee extends BaseEntity {
         return java.time.temporal.ChronoUnit.MONTHS.between(hireDate, endDate);
     }
 
+    /**
+     * Keep the search key in step with the name
+     */
+    @PrePersist
+    @PreUpdate
+    private void updateSearchKey() {
+        searchKey = ArabicTextNormalizer.normalize(employeeName);
+    }
+
     // Auto-generated Lombok methods
     public Long getPrimaryDeptCode() {
         return primaryDeptCode;
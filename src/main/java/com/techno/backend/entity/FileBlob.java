@@ -0,0 +1,104 @@
+package com.techno.backend.entity;
+
+import jakarta.persistence.*;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * Entity representing a unique stored file blob (content-addressed storage).
+ * Maps to FILE_BLOBS table in database.
+ *
+ * Each physical file on disk is identified by the SHA-256 hash of its content.
+ * Several {@link Attachment} rows may point to the same blob (e.g. the same
+ * iqama scan uploaded for several requests), so the blob keeps a reference
+ * count. When the count drops to zero the blob becomes orphaned and is removed
+ * later by the background garbage collector in FileStorageService.
+ *
+ * File storage structure: /uploads/blobs/{hash[0..2]}/{hash[2..4]}/{hash}
+ *
+ * @author Techno ERP Team
+ * @version 2.0
+ */
+@Entity
+@Table(name = "file_blobs", indexes = {
+    @Index(name = "idx_file_blob_orphaned", columnList = "reference_count, orphaned_since")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class FileBlob extends BaseEntity {
+
+    /**
+     * SHA-256 content hash (hex, 64 chars) - Primary Key
+     */
+    @Id
+    @Size(max = 64, message = "بصمة الملف لا يجب أن تتجاوز 64 حرف")
+    @Column(name = "content_hash", nullable = false, length = 64)
+    private String contentHash;
+
+    /**
+     * Relative storage path of the blob on server
+     * Example: "uploads/blobs/3f/a2/3fa2...e9"
+     */
+    @NotBlank(message = "مسار الملف مطلوب")
+    @Size(max = 1000, message = "مسار الملف لا يجب أن يتجاوز 1000 حرف")
+    @Column(name = "storage_path", nullable = false, length = 1000)
+    private String storagePath;
+
+    /**
+     * Blob size in bytes
+     */
+    @Min(value = 0, message = "حجم الملف لا يمكن أن يكون سالباً")
+    @Column(name = "file_size")
+    private Long fileSize;
+
+    /**
+     * MIME type of the first upload of this content
+     */
+    @Size(max = 50, message = "نوع الملف لا يجب أن يتجاوز 50 حرف")
+    @Column(name = "content_type", length = 50)
+    private String contentType;
+
+    /**
+     * Optional thumbnail derivative path (images only)
+     */
+    @Size(max = 1000, message = "مسار الصورة المصغرة لا يجب أن يتجاوز 1000 حرف")
+    @Column(name = "thumbnail_path", length = 1000)
+    private String thumbnailPath;
+
+    /**
+     * Number of attachments referencing this blob
+     */
+    @Builder.Default
+    @Column(name = "reference_count", nullable = false)
+    private Integer referenceCount = 1;
+
+    /**
+     * Timestamp when the reference count dropped to zero.
+     * Null while the blob is referenced.
+     */
+    @Column(name = "orphaned_since")
+    private LocalDateTime orphanedSince;
+
+    // Helper methods
+
+    /**
+     * Check if blob is no longer referenced by any attachment
+     */
+    public boolean isOrphaned() {
+        return referenceCount == null || referenceCount <= 0;
+    }
+
+    /**
+     * Check if blob has a thumbnail derivative
+     */
+    public boolean hasThumbnail() {
+        return thumbnailPath != null && !thumbnailPath.isBlank();
+    }
+}
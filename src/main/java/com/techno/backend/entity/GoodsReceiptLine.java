@@ -32,6 +32,12 @@ public class GoodsReceiptLine extends BaseEntity {
     @Column(name = "quantity", nullable = false, precision = 12, scale = 4)
     private BigDecimal quantity;
 
+    /**
+     * Unit price of the item on the purchase order, stored when received
+     */
+    @Column(name = "unit_price", precision = 12, scale = 4)
+    private BigDecimal unitPrice;
+
     @Column(name = "notes", length = 500)
     private String notes;
 
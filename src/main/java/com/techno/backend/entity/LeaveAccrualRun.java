@@ -0,0 +1,76 @@
+package com.techno.backend.entity;
+
+import jakarta.persistence.*;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Leave Accrual Run Entity
+ * History of leave balance accrual runs (one row per executed run).
+ *
+ * Scheduled runs carry a unique accrual key (e.g. "ANNUAL-2026") so the same
+ * yearly accrual can never be applied twice, even if the job fires again.
+ * Manual runs have no key and are always recorded.
+ */
+@Entity
+@Table(name = "leave_accrual_runs", uniqueConstraints = {
+    @UniqueConstraint(name = "uk_leave_accrual_key", columnNames = "accrual_key")
+}, indexes = {
+    @Index(name = "idx_leave_accrual_run_date", columnList = "run_date")
+})
+@Data
+@EqualsAndHashCode(callSuper = false)
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class LeaveAccrualRun extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "run_id")
+    private Long runId;
+
+    /**
+     * Run type: ANNUAL, MANUAL, INITIALIZE
+     */
+    @NotBlank(message = "نوع الاستحقاق مطلوب")
+    @Size(max = 20, message = "نوع الاستحقاق لا يجب أن يتجاوز 20 حرفاً")
+    @Column(name = "accrual_type", nullable = false, length = 20)
+    private String accrualType;
+
+    /**
+     * Idempotency key for scheduled runs (e.g. "ANNUAL-2026"), null for manual runs
+     */
+    @Size(max = 50, message = "مفتاح الاستحقاق لا يجب أن يتجاوز 50 حرفاً")
+    @Column(name = "accrual_key", length = 50)
+    private String accrualKey;
+
+    /**
+     * Days added (ANNUAL/MANUAL) or starting balance set (INITIALIZE)
+     */
+    @NotNull(message = "عدد الأيام مطلوب")
+    @Column(name = "accrual_days", nullable = false, precision = 5, scale = 2)
+    private BigDecimal accrualDays;
+
+    /**
+     * Number of employees updated by this run
+     */
+    @Column(name = "employees_affected")
+    private Integer employeesAffected;
+
+    /**
+     * Timestamp when the run was executed
+     */
+    @NotNull(message = "تاريخ التنفيذ مطلوب")
+    @Column(name = "run_date", nullable = false)
+    private LocalDateTime runDate;
+}
@@ -48,7 +48,8 @@ import java.time.LocalDateTime;
 public class LoanInstallment {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "loan_installment_seq")
+    @SequenceGenerator(name = "loan_installment_seq", sequenceName = "loan_installment_seq", allocationSize = 50)
     @Column(name = "installment_id")
     private Long installmentId;
 
@@ -0,0 +1,83 @@
+package com.techno.backend.entity;
+
+import jakarta.persistence.*;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Loan Mass Postponement Run Entity
+ * Audit record of a mass postponement (one row per executed run).
+ *
+ * Mass postponement moves every unpaid installment of a month in one set-based
+ * update, so individual installments keep no history of it; this row records
+ * who moved which month, to which due date, and how many installments, loans
+ * and employees were affected.
+ */
+@Entity
+@Table(name = "loan_mass_postponement_runs", indexes = {
+    @Index(name = "idx_loan_mass_postpone_run_date", columnList = "run_date")
+})
+@Data
+@EqualsAndHashCode(callSuper = false)
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class LoanMassPostponementRun extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "run_id")
+    private Long runId;
+
+    /**
+     * Month the installments were due in (YYYY-MM)
+     */
+    @NotNull(message = "الشهر الأصلي مطلوب")
+    @Pattern(regexp = "^\\d{4}-\\d{2}$", message = "الشهر يجب أن يكون بصيغة YYYY-MM")
+    @Column(name = "original_month", length = 7, nullable = false)
+    private String originalMonth;
+
+    /**
+     * Month the installments were moved to (YYYY-MM)
+     */
+    @NotNull(message = "الشهر الجديد مطلوب")
+    @Pattern(regexp = "^\\d{4}-\\d{2}$", message = "الشهر يجب أن يكون بصيغة YYYY-MM")
+    @Column(name = "new_month", length = 7, nullable = false)
+    private String newMonth;
+
+    @NotNull(message = "تاريخ الاستحقاق الجديد مطلوب")
+    @Column(name = "new_due_date", nullable = false)
+    private LocalDate newDueDate;
+
+    @Size(max = 500, message = "سبب التأجيل لا يجب أن يتجاوز 500 حرف")
+    @Column(name = "reason", length = 500)
+    private String reason;
+
+    @Column(name = "installments_postponed", nullable = false)
+    private Integer installmentsPostponed;
+
+    @Column(name = "loans_affected", nullable = false)
+    private Integer loansAffected;
+
+    @Column(name = "employees_affected", nullable = false)
+    private Integer employeesAffected;
+
+    /**
+     * Employee number of the admin who executed the run
+     */
+    @Column(name = "executed_by")
+    private Long executedBy;
+
+    @NotNull(message = "تاريخ التنفيذ مطلوب")
+    @Column(name = "run_date", nullable = false)
+    private LocalDateTime runDate;
+}
@@ -0,0 +1,71 @@
+package com.techno.backend.entity;
+
+import jakarta.persistence.*;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Pattern;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Entity marking an employee's payroll for a month as out of date.
+ *
+ * A row is written when a payroll input (allowance, deduction, loan installment,
+ * attendance record or employee salary fields) changes for a month that already
+ * has a calculated salary. The incremental payroll run recalculates only the
+ * marked (employee, month) pairs and removes their rows.
+ *
+ * @author Techno HR System
+ * @version 1.0
+ * @since Phase 4 - Payroll System
+ */
+@Entity
+@Table(name = "payroll_dirty_months", uniqueConstraints = {
+    @UniqueConstraint(name = "uk_payroll_dirty_emp_month", columnNames = {"employee_no", "salary_month"})
+}, indexes = {
+    @Index(name = "idx_payroll_dirty_month", columnList = "salary_month")
+})
+@Data
+@EqualsAndHashCode(callSuper = false)
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PayrollDirtyMonth extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "dirty_id")
+    private Long dirtyId;
+
+    @NotNull(message = "رقم الموظف مطلوب")
+    @Column(name = "employee_no", nullable = false)
+    private Long employeeNo;
+
+    /**
+     * Month in format YYYY-MM (e.g., "2025-11")
+     */
+    @NotNull(message = "شهر الراتب مطلوب")
+    @Pattern(regexp = "^\\d{4}-\\d{2}$", message = "شهر الراتب يجب أن يكون بصيغة YYYY-MM")
+    @Column(name = "salary_month", length = 7, nullable = false)
+    private String salaryMonth;
+
+    /**
+     * Kinds of input that changed, comma-separated (e.g., "ALLOWANCE,ATTENDANCE")
+     */
+    @Column(name = "change_sources", length = 200, nullable = false)
+    private String changeSources;
+
+    /**
+     * Number of changes since the month was last calculated
+     */
+    @Column(name = "change_count", nullable = false)
+    @Builder.Default
+    private Integer changeCount = 1;
+
+    @Column(name = "last_marked_date", nullable = false)
+    private LocalDateTime lastMarkedDate;
+}
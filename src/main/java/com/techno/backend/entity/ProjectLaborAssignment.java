@@ -58,7 +58,8 @@ public class ProjectLaborAssignment extends BaseEntity {
      * Assignment ID - Primary Key
      */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "labor_assignment_seq")
+    @SequenceGenerator(name = "labor_assignment_seq", sequenceName = "labor_assignment_seq", allocationSize = 50)
     @Column(name = "assignment_no")
     private Long assignmentNo;
 
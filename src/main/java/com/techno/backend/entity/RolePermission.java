@@ -1,5 +1,6 @@
 package com.techno.backend.entity;
 
+import com.techno.backend.security.Permission;
 import jakarta.persistence.*;
 import lombok.*;
 
@@ -67,5 +68,26 @@ public class RolePermission extends BaseEntity {
     @Builder.Default
     @Column(name = "can_manage_settings", length = 1)
     private Character canManageSettings = 'N';
-}
 
+    /**
+     * Compile permission flags into a bitmask (bit positions from {@link Permission})
+     */
+    public int toBitmask() {
+        int mask = 0;
+        mask |= flagBit(canManageEmployees, Permission.MANAGE_EMPLOYEES);
+        mask |= flagBit(canManageAttendance, Permission.MANAGE_ATTENDANCE);
+        mask |= flagBit(canManageLeave, Permission.MANAGE_LEAVE);
+        mask |= flagBit(canManageLoans, Permission.MANAGE_LOANS);
+        mask |= flagBit(canManagePayroll, Permission.MANAGE_PAYROLL);
+        mask |= flagBit(canManageProjects, Permission.MANAGE_PROJECTS);
+        mask |= flagBit(canManageWarehouse, Permission.MANAGE_WAREHOUSE);
+        mask |= flagBit(canViewReports, Permission.VIEW_REPORTS);
+        mask |= flagBit(canApprove, Permission.APPROVE);
+        mask |= flagBit(canManageSettings, Permission.MANAGE_SETTINGS);
+        return mask;
+    }
+
+    private static int flagBit(Character flag, Permission permission) {
+        return flag != null && flag == 'Y' ? permission.bit() : 0;
+    }
+}
@@ -51,7 +51,8 @@ import java.time.LocalDateTime;
 public class SalaryDetail {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "salary_detail_seq")
+    @SequenceGenerator(name = "salary_detail_seq", sequenceName = "salary_detail_seq", allocationSize = 50)
     @Column(name = "detail_id")
     private Long detailId;
 
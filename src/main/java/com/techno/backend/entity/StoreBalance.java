@@ -7,12 +7,17 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 
 import java.math.BigDecimal;
+import java.math.RoundingMode;
 import java.time.LocalDateTime;
 
 /**
  * Entity representing the balance of an item in a specific warehouse.
  * Tracks quantity on hand, reserved quantity, and last transaction date.
  *
+ * Also keeps the moving-average valuation of the stock: every movement
+ * updates the average unit cost and total value through {@link #receive}
+ * and {@link #issue}, so stock value is read directly from the balance.
+ *
  * @author Techno HR System
  * @version 1.0
  * @since Phase 11 - Warehouse Management
@@ -47,6 +52,20 @@ public class StoreBalance extends BaseEntity {
     @Builder.Default
     private BigDecimal quantityReserved = BigDecimal.ZERO;
 
+    /**
+     * Moving-average unit cost of the quantity on hand
+     */
+    @Column(name = "average_cost", precision = 14, scale = 4)
+    @Builder.Default
+    private BigDecimal averageCost = BigDecimal.ZERO;
+
+    /**
+     * Value of the quantity on hand (quantity x average cost)
+     */
+    @Column(name = "total_value", precision = 16, scale = 4)
+    @Builder.Default
+    private BigDecimal totalValue = BigDecimal.ZERO;
+
     @Column(name = "last_transaction_date")
     private LocalDateTime lastTransactionDate;
 
@@ -88,4 +107,66 @@ public class StoreBalance extends BaseEntity {
         }
         return quantityOnHand.compareTo(item.getReorderLevel()) < 0;
     }
+
+    /**
+     * Add stock at a unit cost and recalculate the moving-average cost.
+     * A null unit cost brings the stock in at the current average cost
+     * (e.g. receipts without a purchase order or reversals).
+     *
+     * @param quantity Quantity received (positive)
+     * @param unitCost Unit cost of the received quantity, or null
+     * @return Value added to the balance
+     */
+    public BigDecimal receive(BigDecimal quantity, BigDecimal unitCost) {
+        BigDecimal cost = unitCost != null ? unitCost : getCurrentAverageCost();
+        BigDecimal value = quantity.multiply(cost).setScale(4, RoundingMode.HALF_UP);
+
+        quantityOnHand = quantityOnHand.add(quantity);
+        totalValue = getCurrentTotalValue().add(value);
+        averageCost = quantityOnHand.signum() > 0
+                ? totalValue.divide(quantityOnHand, 4, RoundingMode.HALF_UP)
+                : cost;
+        return value;
+    }
+
+    /**
+     * Remove stock at the current average cost. The average cost does not
+     * change; issuing the whole quantity removes the whole value so no
+     * rounding remainder is left on an empty balance.
+     *
+     * @param quantity Quantity issued (positive)
+     * @return Value removed from the balance
+     */
+    public BigDecimal issue(BigDecimal quantity) {
+        BigDecimal remaining = quantityOnHand.subtract(quantity);
+        BigDecimal value = remaining.signum() == 0
+                ? getCurrentTotalValue()
+                : quantity.multiply(getCurrentAverageCost()).setScale(4, RoundingMode.HALF_UP);
+
+        quantityOnHand = remaining;
+        totalValue = getCurrentTotalValue().subtract(value);
+        averageCost = getCurrentAverageCost();
+        return value;
+    }
+
+    /**
+     * Set the quantity on hand directly (opening balances) and value it at
+     * the given unit cost. A null unit cost keeps the current average cost.
+     *
+     * @param quantity New quantity on hand
+     * @param unitCost Unit cost of the whole quantity, or null
+     */
+    public void resetQuantity(BigDecimal quantity, BigDecimal unitCost) {
+        quantityOnHand = quantity;
+        averageCost = unitCost != null ? unitCost : getCurrentAverageCost();
+        totalValue = quantity.multiply(averageCost).setScale(4, RoundingMode.HALF_UP);
+    }
+
+    private BigDecimal getCurrentAverageCost() {
+        return averageCost != null ? averageCost : BigDecimal.ZERO;
+    }
+
+    private BigDecimal getCurrentTotalValue() {
+        return totalValue != null ? totalValue : BigDecimal.ZERO;
+    }
 }
@@ -0,0 +1,59 @@
+package com.techno.backend.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * Entity holding the balance of an item in a store at the end of a day.
+ *
+ * Snapshots are compact copies of {@link StoreBalance} (codes and amounts only,
+ * one row per store and item with stock) taken daily. Stock on hand at any date
+ * is the nearest snapshot plus the {@link StoreTransaction} ledger movements
+ * between the snapshot and that date.
+ *
+ * @author Techno HR System
+ * @version 1.0
+ * @since Phase 11 - Warehouse Management
+ */
+@Entity
+@Table(name = "STORE_BALANCE_SNAPSHOTS", uniqueConstraints = {
+    @UniqueConstraint(name = "uk_store_balance_snapshot", columnNames = {"snapshot_date", "store_code", "item_code"})
+})
+@Data
+@EqualsAndHashCode(callSuper = false)
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class StoreBalanceSnapshot extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "store_balance_snapshot_seq")
+    @SequenceGenerator(name = "store_balance_snapshot_seq", sequenceName = "store_balance_snapshot_seq", allocationSize = 50)
+    @Column(name = "snapshot_id")
+    private Long snapshotId;
+
+    /**
+     * Day the balance applies to (balance after all movements of that day)
+     */
+    @Column(name = "snapshot_date", nullable = false)
+    private LocalDate snapshotDate;
+
+    @Column(name = "store_code", nullable = false)
+    private Long storeCode;
+
+    @Column(name = "item_code", nullable = false)
+    private Long itemCode;
+
+    @Column(name = "quantity_on_hand", nullable = false, precision = 12, scale = 4)
+    private BigDecimal quantityOnHand;
+
+    @Column(name = "total_value", precision = 16, scale = 4)
+    private BigDecimal totalValue;
+}
@@ -1,5 +1,6 @@
 package com.techno.backend.entity;
 
+import com.techno.backend.util.ArabicTextNormalizer;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -38,6 +39,12 @@ public class StoreItem extends BaseEntity {
     @Column(name = "item_name", nullable = false, length = 250)
     private String itemName;
 
+    /**
+     * Normalized item name for search (see ArabicTextNormalizer), kept in step on save
+     */
+    @Column(name = "search_key", length = 250)
+    private String searchKey;
+
     @Column(name = "unit_of_measure", nullable = false, length = 50)
     private String unitOfMeasure; // EA, KG, L, M, etc.
 
@@ -59,6 +66,15 @@ public class StoreItem extends BaseEntity {
     @Builder.Default
     private List<StoreBalance> balances = new ArrayList<>();
 
+    /**
+     * Keep the search key in step with the item name
+     */
+    @PrePersist
+    @PreUpdate
+    private void updateSearchKey() {
+        searchKey = ArabicTextNormalizer.normalize(itemName);
+    }
+
     /**
      * Check if item is active
      */
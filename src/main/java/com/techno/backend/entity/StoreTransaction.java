@@ -18,7 +18,8 @@ import java.time.LocalDateTime;
 public class StoreTransaction extends BaseEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "store_transaction_seq")
+    @SequenceGenerator(name = "store_transaction_seq", sequenceName = "store_transaction_seq", allocationSize = 50)
     @Column(name = "transaction_id")
     private Long transactionId;
 
@@ -48,6 +49,22 @@ public class StoreTransaction extends BaseEntity {
     @Column(name = "balance_after", nullable = false, precision = 12, scale = 4)
     private BigDecimal balanceAfter;
 
+    /**
+     * Unit cost of the movement (purchase price for receipts,
+     * moving-average cost for issues and transfers)
+     */
+    @Column(name = "unit_cost", precision = 14, scale = 4)
+    private BigDecimal unitCost;
+
+    @Column(name = "total_cost", precision = 16, scale = 4)
+    private BigDecimal totalCost; // Positive for IN, Negative for OUT
+
+    /**
+     * Stock value of the balance after the movement
+     */
+    @Column(name = "value_after", precision = 16, scale = 4)
+    private BigDecimal valueAfter;
+
     @Column(name = "notes", length = 500)
     private String notes;
 
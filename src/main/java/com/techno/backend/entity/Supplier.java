@@ -1,5 +1,6 @@
 package com.techno.backend.entity;
 
+import com.techno.backend.util.ArabicTextNormalizer;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.Email;
 import jakarta.validation.constraints.NotBlank;
@@ -31,6 +32,12 @@ public class Supplier extends BaseEntity {
     @Column(name = "supplier_name", nullable = false, unique = true, length = 250)
     private String supplierName;
 
+    /**
+     * Normalized supplier name for search (see ArabicTextNormalizer), kept in step on save
+     */
+    @Column(name = "search_key", length = 250)
+    private String searchKey;
+
     @Size(max = 100, message = "اسم الشخص المسؤول لا يجب أن يتجاوز 100 حرف")
     @Column(name = "contact_person", length = 100)
     private String contactPerson;
@@ -51,4 +58,13 @@ public class Supplier extends BaseEntity {
     @Builder.Default
     @Column(name = "is_active", length = 1)
     private Character isActive = 'Y';
+
+    /**
+     * Keep the search key in step with the supplier name
+     */
+    @PrePersist
+    @PreUpdate
+    private void updateSearchKey() {
+        searchKey = ArabicTextNormalizer.normalize(supplierName);
+    }
 }
@@ -0,0 +1,59 @@
+package com.techno.backend.event;
+
+import com.techno.backend.service.FileStorageService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Listener for FileBlobStoredEvent.
+ *
+ * - After commit: creates the thumbnail of an image blob on the async executor,
+ *   so the upload request does not wait for image decoding and scaling.
+ * - After rollback: removes the blob file written by the failed upload.
+ *
+ * @author Techno ERP Team
+ * @version 1.0
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class FileBlobEventListener {
+
+    private final FileStorageService fileStorageService;
+
+    /**
+     * Create the thumbnail once the blob record is committed.
+     *
+     * @param event Stored blob
+     */
+    @Async
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleBlobCommitted(FileBlobStoredEvent event) {
+        if (!event.isThumbnailRequested()) {
+            return;
+        }
+        try {
+            fileStorageService.createThumbnail(event.getContentHash(), event.getStoragePath());
+        } catch (Exception e) {
+            log.error("Error creating thumbnail for {}: {}", event, e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Remove the blob file of an upload whose transaction rolled back.
+     *
+     * @param event Stored blob
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_ROLLBACK)
+    public void handleBlobRolledBack(FileBlobStoredEvent event) {
+        try {
+            fileStorageService.discardUncommittedBlob(event.getContentHash(), event.getStoragePath());
+        } catch (Exception e) {
+            log.error("Error removing blob of rolled back upload {}: {}", event, e.getMessage(), e);
+        }
+    }
+}
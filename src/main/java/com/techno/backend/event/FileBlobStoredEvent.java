@@ -0,0 +1,53 @@
+package com.techno.backend.event;
+
+import lombok.Getter;
+import org.springframework.context.ApplicationEvent;
+
+/**
+ * Published when an upload writes a new blob file to the content-addressed store.
+ *
+ * The file is written before the upload transaction commits. The listener
+ * creates the thumbnail after commit and removes the file again if the
+ * transaction rolls back, so no blob is left on disk without its record.
+ *
+ * @author Techno ERP Team
+ * @version 1.0
+ */
+@Getter
+public class FileBlobStoredEvent extends ApplicationEvent {
+
+    /**
+     * SHA-256 hash of the blob content
+     */
+    private final String contentHash;
+
+    /**
+     * Location of the blob file
+     */
+    private final String storagePath;
+
+    /**
+     * Whether a thumbnail derivative should be created after commit
+     */
+    private final boolean thumbnailRequested;
+
+    /**
+     * Constructor
+     *
+     * @param source             Source object (typically the service that published the event)
+     * @param contentHash        SHA-256 hash of the blob content
+     * @param storagePath        Location of the blob file
+     * @param thumbnailRequested Whether a thumbnail should be created after commit
+     */
+    public FileBlobStoredEvent(Object source, String contentHash, String storagePath, boolean thumbnailRequested) {
+        super(source);
+        this.contentHash = contentHash;
+        this.storagePath = storagePath;
+        this.thumbnailRequested = thumbnailRequested;
+    }
+
+    @Override
+    public String toString() {
+        return "FileBlobStoredEvent{contentHash=" + contentHash + ", thumbnailRequested=" + thumbnailRequested + "}";
+    }
+}
@@ -0,0 +1,42 @@
+package com.techno.backend.event;
+
+import lombok.Getter;
+import org.springframework.context.ApplicationEvent;
+
+import java.util.List;
+
+/**
+ * Batch of notification events published by bulk operations.
+ *
+ * Bulk operations (e.g. mass loan postponement) publish one batch event instead
+ * of one NotificationEvent per recipient, so the listener creates all in-app
+ * notifications in a single transaction with batched inserts.
+ *
+ * @author Techno HR System
+ * @version 1.0
+ * @since Phase 9 - Notifications & Email System
+ */
+@Getter
+public class NotificationBatchEvent extends ApplicationEvent {
+
+    /**
+     * Individual notification events (one per recipient notification)
+     */
+    private final List<NotificationEvent> events;
+
+    /**
+     * Constructor
+     *
+     * @param source Source object (typically the service that published the event)
+     * @param events Individual notification events
+     */
+    public NotificationBatchEvent(Object source, List<NotificationEvent> events) {
+        super(source);
+        this.events = List.copyOf(events);
+    }
+
+    @Override
+    public String toString() {
+        return "NotificationBatchEvent{size=" + events.size() + "}";
+    }
+}
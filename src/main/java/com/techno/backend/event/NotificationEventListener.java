@@ -106,6 +106,29 @@ public class NotificationEventListener {
         }
     }
 
+    /**
+     * Handle a batch of notification events after successful transaction commit.
+     * All notifications of the batch are created in one transaction.
+     *
+     * @param batch NotificationBatchEvent published by a bulk operation
+     */
+    @Async
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleNotificationBatchEvent(NotificationBatchEvent batch) {
+        try {
+            if (batch == null || batch.getEvents().isEmpty()) {
+                return;
+            }
+
+            log.info("Processing notification batch: size={}", batch.getEvents().size());
+            notificationService.handleNotificationEvents(batch.getEvents());
+
+        } catch (Exception e) {
+            // Log error but don't propagate - notification failures shouldn't break business logic
+            log.error("Error processing notification batch: {}", e.getMessage(), e);
+        }
+    }
+
     /**
      * Fallback event listener (non-transactional).
      *
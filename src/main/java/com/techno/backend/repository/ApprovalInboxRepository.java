@@ -0,0 +1,167 @@
+package com.techno.backend.repository;
+
+import com.techno.backend.constants.ApprovalRequestType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Pending approvals of every request type for one approver.
+ *
+ * Each request table keeps its own workflow columns (next_approval,
+ * next_app_level, trans_status), so the inbox is a single UNION ALL over
+ * the pending rows of each table, one branch per request type. Every branch
+ * is served by a partial index on next_approval over pending rows
+ * (V14__approval_inbox_indexes.sql).
+ *
+ * @author Techno HR System
+ * @version 1.0
+ */
+@Repository
+@RequiredArgsConstructor
+public class ApprovalInboxRepository {
+
+    // Transfers and payment requests mark pending rows 'P', the other requests 'N'
+    private static final String PENDING_UNION =
+            "SELECT '" + ApprovalRequestType.LEAVE + "' AS request_type, l.leave_id AS request_id, " +
+            "l.employee_no AS employee_no, l.request_date AS request_date, " +
+            "CAST(NULL AS NUMERIC) AS amount, l.next_app_level AS approval_level " +
+            "FROM employee_leaves l WHERE l.next_approval = :approverNo AND l.trans_status = 'N' " +
+            "UNION ALL " +
+            "SELECT '" + ApprovalRequestType.LOAN + "', lo.loan_id, lo.employee_no, lo.request_date, " +
+            "lo.loan_amount, lo.next_app_level " +
+            "FROM loans lo WHERE lo.next_approval = :approverNo AND lo.trans_status = 'N' " +
+            "UNION ALL " +
+            "SELECT '" + ApprovalRequestType.LOAN_POSTPONEMENT + "', p.request_id, lp.employee_no, p.request_date, " +
+            "CAST(NULL AS NUMERIC), p.next_app_level " +
+            "FROM loan_postponement_requests p JOIN loans lp ON lp.loan_id = p.loan_id " +
+            "WHERE p.next_approval = :approverNo AND p.trans_status = 'N' " +
+            "UNION ALL " +
+            "SELECT '" + ApprovalRequestType.ALLOWANCE + "', a.transaction_no, a.employee_no, a.transaction_date, " +
+            "a.allowance_amount, a.next_app_level " +
+            "FROM emp_monthly_allowances a WHERE a.next_approval = :approverNo AND a.trans_status = 'N' " +
+            "AND a.is_deleted = 'N' " +
+            "UNION ALL " +
+            "SELECT '" + ApprovalRequestType.DEDUCTION + "', d.transaction_no, d.employee_no, d.transaction_date, " +
+            "d.deduction_amount, d.next_app_level " +
+            "FROM emp_monthly_deductions d WHERE d.next_approval = :approverNo AND d.trans_status = 'N' " +
+            "AND d.is_deleted = 'N' " +
+            "UNION ALL " +
+            "SELECT '" + ApprovalRequestType.MANUAL_ATTENDANCE + "', m.request_id, m.employee_no, m.request_date, " +
+            "CAST(NULL AS NUMERIC), m.next_app_level " +
+            "FROM manual_attendance_requests m WHERE m.next_approval = :approverNo AND m.trans_status = 'N' " +
+            "UNION ALL " +
+            "SELECT '" + ApprovalRequestType.TRANSFER + "', t.transfer_no, t.employee_no, t.transfer_date, " +
+            "CAST(NULL AS NUMERIC), t.next_app_level " +
+            "FROM project_transfer_requests t WHERE t.next_approval = :approverNo AND t.trans_status = 'P' " +
+            "AND t.is_deleted = 'N' " +
+            "UNION ALL " +
+            "SELECT '" + ApprovalRequestType.PAYMENT_REQUEST + "', pr.request_no, pr.requested_by, pr.request_date, " +
+            "pr.payment_amount, pr.next_app_level " +
+            "FROM project_payment_request pr WHERE pr.next_approval = :approverNo AND pr.trans_status = 'P' " +
+            "AND pr.is_deleted = 'N' " +
+            "UNION ALL " +
+            "SELECT '" + ApprovalRequestType.LABOR_REQUEST + "', lr.request_no, lr.requested_by, lr.request_date, " +
+            "CAST(NULL AS NUMERIC), lr.next_app_level " +
+            "FROM project_labor_request_header lr WHERE lr.next_approval = :approverNo AND lr.trans_status = 'N' " +
+            "AND lr.is_deleted = 'N' AND lr.request_status <> 'CANCELLED'";
+
+    private static final RowMapper<PendingApproval> PENDING_APPROVAL_MAPPER = (rs, rowNum) -> {
+        Date requestDate = rs.getDate("request_date");
+        return new PendingApproval(
+                rs.getString("request_type"),
+                rs.getLong("request_id"),
+                rs.getObject("employee_no") != null ? rs.getLong("employee_no") : null,
+                requestDate != null ? requestDate.toLocalDate() : null,
+                rs.getBigDecimal("amount"),
+                rs.getObject("approval_level") != null ? rs.getInt("approval_level") : null);
+    };
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    /**
+     * Find a page of pending requests, oldest first.
+     *
+     * @param approverNo Approver employee number
+     * @param types Request types to include
+     * @param offset Rows to skip
+     * @param limit Maximum rows to return
+     * @return Pending requests
+     */
+    public List<PendingApproval> findPending(Long approverNo, Collection<String> types, int offset, int limit) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("approverNo", approverNo)
+                .addValue("types", types)
+                .addValue("offset", offset)
+                .addValue("limit", limit);
+
+        return jdbcTemplate.query(
+                "SELECT * FROM (" + PENDING_UNION + ") inbox WHERE inbox.request_type IN (:types) " +
+                "ORDER BY inbox.request_date, inbox.request_type, inbox.request_id " +
+                "LIMIT :limit OFFSET :offset",
+                params,
+                PENDING_APPROVAL_MAPPER);
+    }
+
+    /**
+     * Find which of the given requests are pending for an approver.
+     * Request numbers are only unique per type, so callers match the
+     * returned rows on type and number.
+     *
+     * @param approverNo Approver employee number
+     * @param requestIds Request numbers to look up
+     * @return Pending requests among them
+     */
+    public List<PendingApproval> findPendingByRequestIds(Long approverNo, Collection<Long> requestIds) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("approverNo", approverNo)
+                .addValue("requestIds", requestIds);
+
+        return jdbcTemplate.query(
+                "SELECT * FROM (" + PENDING_UNION + ") inbox WHERE inbox.request_id IN (:requestIds)",
+                params,
+                PENDING_APPROVAL_MAPPER);
+    }
+
+    /**
+     * Count pending requests per type.
+     *
+     * @param approverNo Approver employee number
+     * @return Count per request type (types without pending requests are omitted)
+     */
+    public Map<String, Long> countPendingByType(Long approverNo) {
+        Map<String, Long> counts = new LinkedHashMap<>();
+        jdbcTemplate.query(
+                "SELECT inbox.request_type, COUNT(*) AS pending FROM (" + PENDING_UNION + ") inbox " +
+                "GROUP BY inbox.request_type",
+                new MapSqlParameterSource("approverNo", approverNo),
+                rs -> {
+                    counts.put(rs.getString("request_type"), rs.getLong("pending"));
+                });
+        return counts;
+    }
+
+    /**
+     * Pending request row.
+     *
+     * @param requestType Request type (see {@link ApprovalRequestType})
+     * @param requestId Request number in its own table
+     * @param employeeNo Employee the request is for (requester for payment and labor requests)
+     * @param requestDate Request date
+     * @param amount Amount, for loans, allowances, deductions and payment requests
+     * @param approvalLevel Current approval level
+     */
+    public record PendingApproval(String requestType, Long requestId, Long employeeNo, LocalDate requestDate,
+                                  BigDecimal amount, Integer approvalLevel) {
+    }
+}
@@ -0,0 +1,93 @@
+package com.techno.backend.repository;
+
+import com.techno.backend.entity.AttendanceMonthlyRollup;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Repository interface for AttendanceMonthlyRollup entity.
+ * Provides access to per-employee monthly attendance totals.
+ *
+ * @author Techno HR System
+ * @version 1.0
+ * @since Phase 4 - Attendance System
+ */
+@Repository
+public interface AttendanceMonthlyRollupRepository extends JpaRepository<AttendanceMonthlyRollup, Long> {
+
+    /**
+     * Find the rollup row of an employee for a month.
+     *
+     * @param employeeNo Employee number
+     * @param rollupMonth Month in YYYY-MM format
+     * @return Optional rollup row
+     */
+    Optional<AttendanceMonthlyRollup> findByEmployeeNoAndRollupMonth(Long employeeNo, String rollupMonth);
+
+    /**
+     * Create an empty rollup row for an employee and month unless it exists.
+     * Lets the first concurrent writers of a month agree on one row before it is
+     * locked: a row lock cannot be taken on a row that does not exist yet.
+     * The conflict target is left out (also accepted by H2); the employee/month
+     * key is the only unique key besides the generated id.
+     *
+     * @param employeeNo Employee number
+     * @param rollupMonth Month in YYYY-MM format
+     * @return Number of rows inserted (0 or 1)
+     */
+    @Modifying
+    @Query(value = "INSERT INTO attendance_monthly_rollups (employee_no, rollup_month, working_hours, " +
+                   "overtime_hours, delay_hours, early_out_hours, shortage_hours, present_days, absent_days, " +
+                   "holiday_days, weekend_days, delay_days, record_count, created_date) " +
+                   "VALUES (:employeeNo, :rollupMonth, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, CURRENT_TIMESTAMP) " +
+                   "ON CONFLICT DO NOTHING",
+           nativeQuery = true)
+    int insertIfAbsent(@Param("employeeNo") Long employeeNo, @Param("rollupMonth") String rollupMonth);
+
+    /**
+     * Find and lock the rollup row of an employee for a month.
+     * Serializes concurrent attendance writes of the same employee and month,
+     * so each recalculation sees the records committed before it.
+     * Call {@link #insertIfAbsent} first so the row exists.
+     *
+     * @param employeeNo Employee number
+     * @param rollupMonth Month in YYYY-MM format
+     * @return Optional rollup row (locked until the transaction ends)
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT r FROM AttendanceMonthlyRollup r WHERE " +
+           "r.employeeNo = :employeeNo AND r.rollupMonth = :rollupMonth")
+    Optional<AttendanceMonthlyRollup> findForUpdate(
+            @Param("employeeNo") Long employeeNo,
+            @Param("rollupMonth") String rollupMonth);
+
+    /**
+     * Find all rollup rows of a month.
+     *
+     * @param rollupMonth Month in YYYY-MM format
+     * @return Rollup rows ordered by employee number
+     */
+    List<AttendanceMonthlyRollup> findByRollupMonthOrderByEmployeeNo(String rollupMonth);
+
+    /**
+     * Find rollup rows of active employees with at least one delayed day in a month.
+     * Used by the month-end delay deduction job.
+     *
+     * @param rollupMonth Month in YYYY-MM format
+     * @return Rollup rows ordered by employee number
+     */
+    @Query("SELECT r FROM AttendanceMonthlyRollup r WHERE " +
+           "r.rollupMonth = :rollupMonth AND " +
+           "r.delayDays > 0 AND " +
+           "r.employeeNo IN (SELECT e.employeeNo FROM Employee e WHERE e.employmentStatus = 'ACTIVE') " +
+           "ORDER BY r.employeeNo")
+    List<AttendanceMonthlyRollup> findDelayedForActiveEmployees(@Param("rollupMonth") String rollupMonth);
+}
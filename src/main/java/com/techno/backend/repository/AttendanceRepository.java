@@ -9,6 +9,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
@@ -250,6 +251,42 @@ public interface AttendanceRepository extends JpaRepository<AttendanceTransactio
             @Param("startDate") LocalDate startDate,
             @Param("endDate") LocalDate endDate);
 
+    /**
+     * Monthly totals for one employee in a date range.
+     * Used to recalculate the employee's attendance rollup row.
+     *
+     * @param employeeNo Employee number
+     * @param startDate Start date
+     * @param endDate End date
+     * @return Totals, empty if the employee has no records in the range
+     */
+    @Query("SELECT a.employeeNo AS employeeNo, " + MONTHLY_TOTALS_SELECT +
+           "FROM AttendanceTransaction a WHERE " +
+           "a.employeeNo = :employeeNo AND " +
+           "a.attendanceDate BETWEEN :startDate AND :endDate " +
+           "GROUP BY a.employeeNo")
+    Optional<MonthlyAttendanceTotals> summarizeEmployeeMonth(
+            @Param("employeeNo") Long employeeNo,
+            @Param("startDate") LocalDate startDate,
+            @Param("endDate") LocalDate endDate);
+
+    /**
+     * Monthly totals per employee in a date range.
+     * One grouped query used to rebuild and verify a whole month of rollup rows.
+     *
+     * @param startDate Start date
+     * @param endDate End date
+     * @return One row per employee with at least one record in the range
+     */
+    @Query("SELECT a.employeeNo AS employeeNo, " + MONTHLY_TOTALS_SELECT +
+           "FROM AttendanceTransaction a WHERE " +
+           "a.attendanceDate BETWEEN :startDate AND :endDate " +
+           "GROUP BY a.employeeNo " +
+           "ORDER BY a.employeeNo")
+    List<MonthlyAttendanceTotals> summarizeMonthByEmployee(
+            @Param("startDate") LocalDate startDate,
+            @Param("endDate") LocalDate endDate);
+
     /**
      * Find manual attendance entries (created/modified by HR).
      *
@@ -315,4 +352,123 @@ public interface AttendanceRepository extends JpaRepository<AttendanceTransactio
             @Param("employeeNo") Long employeeNo,
             @Param("projectCode") Long projectCode,
             Pageable pageable);
+
+    /**
+     * Select list shared by the monthly totals queries
+     * (same rules as sumWorkingHours, countAttendanceDays and countAbsenceDays).
+     */
+    String MONTHLY_TOTALS_SELECT =
+            "SUM(CASE WHEN a.absenceFlag = 'N' THEN a.workingHours END) AS workingHours, " +
+            "SUM(a.overtimeCalc) AS overtimeHours, " +
+            "SUM(a.delayedCalc) AS delayHours, " +
+            "SUM(a.earlyOutCalc) AS earlyOutHours, " +
+            "SUM(a.shortageHours) AS shortageHours, " +
+            "SUM(CASE WHEN a.absenceFlag = 'N' THEN 1 ELSE 0 END) AS presentDays, " +
+            "SUM(CASE WHEN a.absenceFlag = 'Y' THEN 1 ELSE 0 END) AS absentDays, " +
+            "SUM(CASE WHEN a.isHolidayWork = 'Y' THEN 1 ELSE 0 END) AS holidayDays, " +
+            "SUM(CASE WHEN a.isWeekendWork = 'Y' THEN 1 ELSE 0 END) AS weekendDays, " +
+            "SUM(CASE WHEN a.delayedCalc > 0 THEN 1 ELSE 0 END) AS delayDays, " +
+            "COUNT(a) AS recordCount ";
+
+    /**
+     * Per-employee monthly totals returned by {@link #summarizeEmployeeMonth} and
+     * {@link #summarizeMonthByEmployee}. Hour sums are null when no record has a value.
+     */
+    interface MonthlyAttendanceTotals {
+        Long getEmployeeNo();
+
+        BigDecimal getWorkingHours();
+
+        BigDecimal getOvertimeHours();
+
+        BigDecimal getDelayHours();
+
+        BigDecimal getEarlyOutHours();
+
+        BigDecimal getShortageHours();
+
+        Long getPresentDays();
+
+        Long getAbsentDays();
+
+        Long getHolidayDays();
+
+        Long getWeekendDays();
+
+        Long getDelayDays();
+
+        Long getRecordCount();
+    }
+
+    /**
+     * Find check-in locations of attendance records in a date range.
+     * Used by the bulk geofence check; records without entry coordinates are skipped.
+     *
+     * @param startDate Start date (inclusive)
+     * @param endDate End date (inclusive)
+     * @param projectCode Project code (optional, null for all projects)
+     * @return Check-in locations ordered by date and transaction ID
+     */
+    @Query("SELECT a.transactionId AS transactionId, a.employeeNo AS employeeNo, " +
+           "a.attendanceDate AS attendanceDate, a.projectCode AS projectCode, " +
+           "a.entryLatitude AS entryLatitude, a.entryLongitude AS entryLongitude " +
+           "FROM AttendanceTransaction a WHERE " +
+           "a.attendanceDate BETWEEN :startDate AND :endDate AND " +
+           "(:projectCode IS NULL OR a.projectCode = :projectCode) AND " +
+           "a.entryLatitude IS NOT NULL AND a.entryLongitude IS NOT NULL " +
+           "ORDER BY a.attendanceDate ASC, a.transactionId ASC")
+    List<EntryLocation> findEntryLocations(
+            @Param("startDate") LocalDate startDate,
+            @Param("endDate") LocalDate endDate,
+            @Param("projectCode") Long projectCode);
+
+    /**
+     * Check-in location of an attendance record, returned by {@link #findEntryLocations}.
+     */
+    interface EntryLocation {
+        Long getTransactionId();
+
+        Long getEmployeeNo();
+
+        LocalDate getAttendanceDate();
+
+        Long getProjectCode();
+
+        BigDecimal getEntryLatitude();
+
+        BigDecimal getEntryLongitude();
+    }
+
+    /**
+     * Present and absent record counts per active employee and day in a date range,
+     * in one query (same rules as countAttendanceDays and countAbsenceDays).
+     * Used by the dashboard attendance overview.
+     *
+     * @param startDate Start date (inclusive)
+     * @param endDate End date (inclusive)
+     * @return Counts per employee and day; days without records are not returned
+     */
+    @Query("SELECT a.employeeNo AS employeeNo, a.attendanceDate AS attendanceDate, " +
+           "SUM(CASE WHEN a.absenceFlag = 'N' THEN 1 ELSE 0 END) AS presentCount, " +
+           "SUM(CASE WHEN a.absenceFlag = 'Y' THEN 1 ELSE 0 END) AS absentCount " +
+           "FROM AttendanceTransaction a, Employee e WHERE " +
+           "e.employeeNo = a.employeeNo AND e.employmentStatus = 'ACTIVE' AND " +
+           "a.attendanceDate BETWEEN :startDate AND :endDate " +
+           "GROUP BY a.employeeNo, a.attendanceDate")
+    List<EmployeeDayCounts> countActiveEmployeeDays(
+            @Param("startDate") LocalDate startDate,
+            @Param("endDate") LocalDate endDate);
+
+    /**
+     * Per employee and day counts returned by {@link #countActiveEmployeeDays}.
+     */
+    interface EmployeeDayCounts {
+        Long getEmployeeNo();
+
+        LocalDate getAttendanceDate();
+
+        Long getPresentCount();
+
+        Long getAbsentCount();
+    }
 }
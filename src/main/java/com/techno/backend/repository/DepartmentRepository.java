@@ -2,6 +2,7 @@ package com.techno.backend.repository;
 
 import com.techno.backend.entity.Department;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -52,5 +53,21 @@ public interface DepartmentRepository extends JpaRepository<Department, Long> {
      * @return List of active root departments
      */
     List<Department> findByParentDeptCodeIsNullAndIsActive(Character isActive);
+
+    /**
+     * Find names of active departments (typeahead index)
+     * @return List of department codes and names
+     */
+    @Query("SELECT d.deptCode AS deptCode, d.deptName AS deptName FROM Department d WHERE d.isActive = 'Y'")
+    List<DepartmentName> findActiveNames();
+
+    /**
+     * Department code and name projection
+     */
+    interface DepartmentName {
+        Long getDeptCode();
+
+        String getDeptName();
+    }
 }
 
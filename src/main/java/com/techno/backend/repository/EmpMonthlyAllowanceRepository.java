@@ -11,11 +11,26 @@ import org.springframework.stereotype.Repository;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface EmpMonthlyAllowanceRepository extends JpaRepository<EmpMonthlyAllowance, Long> {
 
-       List<EmpMonthlyAllowance> findByEmployeeNoAndIsDeleted(Long employeeNo, String isDeleted);
+       /**
+        * Records of an employee with employee and transaction type loaded,
+        * ready to be mapped to responses outside the transaction.
+        */
+       @Query("SELECT a FROM EmpMonthlyAllowance a " +
+                     "LEFT JOIN FETCH a.employee LEFT JOIN FETCH a.transactionType " +
+                     "WHERE a.employeeNo = :employeeNo AND a.isDeleted = :isDeleted")
+       List<EmpMonthlyAllowance> findByEmployeeNoAndIsDeleted(
+                     @Param("employeeNo") Long employeeNo,
+                     @Param("isDeleted") String isDeleted);
+
+       @Query("SELECT a FROM EmpMonthlyAllowance a " +
+                     "LEFT JOIN FETCH a.employee LEFT JOIN FETCH a.transactionType " +
+                     "WHERE a.transactionNo = :transactionNo")
+       Optional<EmpMonthlyAllowance> findByIdWithDetails(@Param("transactionNo") Long transactionNo);
 
        @Query("SELECT a FROM EmpMonthlyAllowance a WHERE " +
                      "a.employeeNo = :employeeNo AND " +
@@ -27,6 +42,16 @@ public interface EmpMonthlyAllowanceRepository extends JpaRepository<EmpMonthlyA
                      @Param("employeeNo") Long employeeNo,
                      @Param("date") LocalDate date);
 
+       /**
+        * Find the active allowances of all employees on a date (payroll simulation)
+        */
+       @Query("SELECT a FROM EmpMonthlyAllowance a WHERE " +
+                     "a.isDeleted = 'N' AND " +
+                     "a.transStatus = 'A' AND " +
+                     "(a.allowanceStartDate IS NULL OR a.allowanceStartDate <= :date) AND " +
+                     "(a.allowanceEndDate IS NULL OR a.allowanceEndDate >= :date)")
+       List<EmpMonthlyAllowance> findActiveAllowancesOnDate(@Param("date") LocalDate date);
+
        @Query("SELECT a FROM EmpMonthlyAllowance a WHERE " +
                      "a.employeeNo = :employeeNo AND " +
                      "a.typeCode = :typeCode AND " +
@@ -37,14 +62,16 @@ public interface EmpMonthlyAllowanceRepository extends JpaRepository<EmpMonthlyA
                      @Param("typeCode") Long typeCode);
 
        // Phase 6: Additional queries for approval workflow
-       @Query("SELECT a FROM EmpMonthlyAllowance a WHERE " +
+       @Query("SELECT a FROM EmpMonthlyAllowance a " +
+                     "LEFT JOIN FETCH a.employee LEFT JOIN FETCH a.transactionType WHERE " +
                      "a.nextApproval = :approverId AND " +
                      "a.transStatus = 'N' AND " +
                      "a.isDeleted = 'N'")
        List<EmpMonthlyAllowance> findPendingAllowancesByApprover(
                      @Param("approverId") Long approverId);
 
-       @Query("SELECT a FROM EmpMonthlyAllowance a WHERE " +
+       @Query("SELECT a FROM EmpMonthlyAllowance a " +
+                     "LEFT JOIN FETCH a.employee LEFT JOIN FETCH a.transactionType WHERE " +
                      "a.transactionDate BETWEEN :startDate AND :endDate AND " +
                      "a.isDeleted = 'N'")
        List<EmpMonthlyAllowance> findByTransactionDateBetween(
@@ -75,8 +102,16 @@ public interface EmpMonthlyAllowanceRepository extends JpaRepository<EmpMonthlyA
        /**
         * Find all allowance records filtered to TECHNO contract employees only.
         */
-       @Query("SELECT a FROM EmpMonthlyAllowance a " +
-                     "JOIN Employee e ON a.employeeNo = e.employeeNo " +
+       @Query(value = "SELECT a FROM EmpMonthlyAllowance a " +
+                     "JOIN FETCH a.employee e LEFT JOIN FETCH a.transactionType " +
+                     "WHERE e.empContractType = 'TECHNO' " +
+                     "AND a.isDeleted = 'N' " +
+                     "AND (:transStatus IS NULL OR a.transStatus = :transStatus) " +
+                     "AND (:employeeNo IS NULL OR a.employeeNo = :employeeNo) " +
+                     "AND a.transactionDate >= :startDate " +
+                     "AND a.transactionDate <= :endDate",
+                     countQuery = "SELECT COUNT(a) FROM EmpMonthlyAllowance a " +
+                     "JOIN a.employee e " +
                      "WHERE e.empContractType = 'TECHNO' " +
                      "AND a.isDeleted = 'N' " +
                      "AND (:transStatus IS NULL OR a.transStatus = :transStatus) " +
@@ -10,11 +10,26 @@ import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface EmpMonthlyDeductionRepository extends JpaRepository<EmpMonthlyDeduction, Long> {
 
-        List<EmpMonthlyDeduction> findByEmployeeNoAndIsDeleted(Long employeeNo, String isDeleted);
+        /**
+         * Records of an employee with employee and transaction type loaded,
+         * ready to be mapped to responses outside the transaction.
+         */
+        @Query("SELECT d FROM EmpMonthlyDeduction d " +
+                        "LEFT JOIN FETCH d.employee LEFT JOIN FETCH d.transactionType " +
+                        "WHERE d.employeeNo = :employeeNo AND d.isDeleted = :isDeleted")
+        List<EmpMonthlyDeduction> findByEmployeeNoAndIsDeleted(
+                        @Param("employeeNo") Long employeeNo,
+                        @Param("isDeleted") String isDeleted);
+
+        @Query("SELECT d FROM EmpMonthlyDeduction d " +
+                        "LEFT JOIN FETCH d.employee LEFT JOIN FETCH d.transactionType " +
+                        "WHERE d.transactionNo = :transactionNo")
+        Optional<EmpMonthlyDeduction> findByIdWithDetails(@Param("transactionNo") Long transactionNo);
 
         @Query("SELECT d FROM EmpMonthlyDeduction d WHERE " +
                         "d.employeeNo = :employeeNo AND " +
@@ -26,6 +41,16 @@ public interface EmpMonthlyDeductionRepository extends JpaRepository<EmpMonthlyD
                         @Param("employeeNo") Long employeeNo,
                         @Param("date") LocalDate date);
 
+        /**
+         * Find the active deductions of all employees on a date (payroll simulation)
+         */
+        @Query("SELECT d FROM EmpMonthlyDeduction d WHERE " +
+                        "d.isDeleted = 'N' AND " +
+                        "d.transStatus = 'A' AND " +
+                        "(d.deductionStartDate IS NULL OR d.deductionStartDate <= :date) AND " +
+                        "(d.deductionEndDate IS NULL OR d.deductionEndDate >= :date)")
+        List<EmpMonthlyDeduction> findActiveDeductionsOnDate(@Param("date") LocalDate date);
+
         @Query("SELECT d FROM EmpMonthlyDeduction d WHERE " +
                         "d.employeeNo = :employeeNo AND " +
                         "d.typeCode = :typeCode AND " +
@@ -36,14 +61,16 @@ public interface EmpMonthlyDeductionRepository extends JpaRepository<EmpMonthlyD
                         @Param("typeCode") Long typeCode);
 
         // Phase 6: Additional queries for approval workflow
-        @Query("SELECT d FROM EmpMonthlyDeduction d WHERE " +
+        @Query("SELECT d FROM EmpMonthlyDeduction d " +
+                        "LEFT JOIN FETCH d.employee LEFT JOIN FETCH d.transactionType WHERE " +
                         "d.nextApproval = :approverId AND " +
                         "d.transStatus = 'N' AND " +
                         "d.isDeleted = 'N'")
         List<EmpMonthlyDeduction> findPendingDeductionsByApprover(
                         @Param("approverId") Long approverId);
 
-        @Query("SELECT d FROM EmpMonthlyDeduction d WHERE " +
+        @Query("SELECT d FROM EmpMonthlyDeduction d " +
+                        "LEFT JOIN FETCH d.employee LEFT JOIN FETCH d.transactionType WHERE " +
                         "d.transactionDate BETWEEN :startDate AND :endDate AND " +
                         "d.isDeleted = 'N'")
         List<EmpMonthlyDeduction> findByTransactionDateBetween(
@@ -53,6 +80,21 @@ public interface EmpMonthlyDeductionRepository extends JpaRepository<EmpMonthlyD
         boolean existsByEmployeeNoAndTypeCodeAndTransactionDate(
                         Long employeeNo, Long typeCode, LocalDate transactionDate);
 
+        /**
+         * Employees that already have a deduction of the given type on the given
+         * date whose reason contains the keyword, in any approval status. Bulk form
+         * of the duplicate check used for auto-generated deductions.
+         */
+        @Query("SELECT DISTINCT d.employeeNo FROM EmpMonthlyDeduction d WHERE " +
+                        "d.typeCode = :typeCode AND " +
+                        "d.transactionDate = :transactionDate AND " +
+                        "d.entryReason LIKE CONCAT('%', :reasonKeyword, '%') AND " +
+                        "d.isDeleted = 'N'")
+        List<Long> findEmployeesWithDeduction(
+                        @Param("typeCode") Long typeCode,
+                        @Param("transactionDate") LocalDate transactionDate,
+                        @Param("reasonKeyword") String reasonKeyword);
+
         /**
          * Find all deduction records with optional filters.
          * Note: Service layer provides default dates for null parameters.
@@ -64,7 +106,14 @@ public interface EmpMonthlyDeductionRepository extends JpaRepository<EmpMonthlyD
          * @param pageable    Pagination parameters
          * @return Page of deduction records
          */
-        @Query("SELECT d FROM EmpMonthlyDeduction d " +
+        @Query(value = "SELECT d FROM EmpMonthlyDeduction d " +
+                        "LEFT JOIN FETCH d.employee LEFT JOIN FETCH d.transactionType " +
+                        "WHERE d.isDeleted = 'N' " +
+                        "AND (:transStatus IS NULL OR d.transStatus = :transStatus) " +
+                        "AND (:employeeNo IS NULL OR d.employeeNo = :employeeNo) " +
+                        "AND d.transactionDate >= :startDate " +
+                        "AND d.transactionDate <= :endDate",
+                        countQuery = "SELECT COUNT(d) FROM EmpMonthlyDeduction d " +
                         "WHERE d.isDeleted = 'N' " +
                         "AND (:transStatus IS NULL OR d.transStatus = :transStatus) " +
                         "AND (:employeeNo IS NULL OR d.employeeNo = :employeeNo) " +
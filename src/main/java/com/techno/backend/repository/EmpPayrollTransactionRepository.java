@@ -7,6 +7,7 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -25,6 +26,12 @@ public interface EmpPayrollTransactionRepository extends JpaRepository<EmpPayrol
     @Query("SELECT t FROM EmpPayrollTransaction t WHERE t.employeeNo = :employeeNo AND t.isActive = 'Y' ORDER BY t.transTypeCode ASC")
     List<EmpPayrollTransaction> findActiveByEmployeeNo(@Param("employeeNo") Long employeeNo);
 
+    /**
+     * Find all active payroll transactions for a group of employees (bulk salary changes)
+     */
+    @Query("SELECT t FROM EmpPayrollTransaction t WHERE t.employeeNo IN :employeeNos AND t.isActive = 'Y' ORDER BY t.employeeNo ASC, t.transTypeCode ASC")
+    List<EmpPayrollTransaction> findActiveByEmployeeNoIn(@Param("employeeNos") Collection<Long> employeeNos);
+
     /**
      * Find all payroll transactions for a specific employee (active and inactive)
      */
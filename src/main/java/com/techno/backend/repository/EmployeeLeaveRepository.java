@@ -11,6 +11,7 @@ import org.springframework.stereotype.Repository;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
 /**
  * Repository interface for EmployeeLeave entity.
@@ -29,9 +30,16 @@ public interface EmployeeLeaveRepository extends JpaRepository<EmployeeLeave, Lo
        Page<EmployeeLeave> findByEmployeeNo(Long employeeNo, Pageable pageable);
 
        /**
-        * Find all leaves for a specific employee ordered by request date
+        * Find all leaves for a specific employee ordered by request date (employee loaded)
         */
-       List<EmployeeLeave> findByEmployeeNoOrderByRequestDateDesc(Long employeeNo);
+       @Query("SELECT l FROM EmployeeLeave l LEFT JOIN FETCH l.employee WHERE l.employeeNo = :employeeNo ORDER BY l.requestDate DESC")
+       List<EmployeeLeave> findByEmployeeNoOrderByRequestDateDesc(@Param("employeeNo") Long employeeNo);
+
+       /**
+        * Find a leave with its employee loaded
+        */
+       @Query("SELECT l FROM EmployeeLeave l LEFT JOIN FETCH l.employee WHERE l.leaveId = :leaveId")
+       Optional<EmployeeLeave> findByIdWithEmployee(@Param("leaveId") Long leaveId);
 
        /**
         * Find leaves by employee and status
@@ -45,9 +53,9 @@ public interface EmployeeLeaveRepository extends JpaRepository<EmployeeLeave, Lo
        List<EmployeeLeave> findAllPendingLeaves();
 
        /**
-        * Find pending leaves for a specific approver
+        * Find pending leaves for a specific approver (employee loaded)
         */
-       @Query("SELECT l FROM EmployeeLeave l WHERE l.nextApproval = :approverId AND l.transStatus = 'N' ORDER BY l.requestDate ASC")
+       @Query("SELECT l FROM EmployeeLeave l LEFT JOIN FETCH l.employee WHERE l.nextApproval = :approverId AND l.transStatus = 'N' ORDER BY l.requestDate ASC")
        List<EmployeeLeave> findPendingLeavesByApprover(@Param("approverId") Long approverId);
 
        /**
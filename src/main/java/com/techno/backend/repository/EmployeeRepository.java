@@ -5,11 +5,16 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -70,14 +75,22 @@ public interface EmployeeRepository extends JpaRepository<Employee, Long>, JpaSp
        Page<Employee> findByEmployeeCategory(String employeeCategory, Pageable pageable);
 
        /**
-        * Search employees by name (Arabic or English) or national ID
-        * Uses LIKE for partial matching
+        * Search employees by name (Arabic or English).
+        * Matches the stored normalized name, so the trigram index on search_key is used.
+        *
+        * @param searchPattern Pattern from ArabicTextNormalizer.containsPattern
         */
-       @Query("SELECT e FROM Employee e WHERE " +
-                     "LOWER(e.employeeName) LIKE LOWER(CONCAT('%', :searchText, '%')) OR " +
-                     "LOWER(e.employeeName) LIKE LOWER(CONCAT('%', :searchText, '%')) OR " +
-                     "LOWER(e.nationalId) LIKE LOWER(CONCAT('%', :searchText, '%'))")
-       Page<Employee> searchByText(@Param("searchText") String searchText, Pageable pageable);
+       @Query("SELECT e FROM Employee e WHERE e.searchKey LIKE :searchPattern ESCAPE '\\'")
+       Page<Employee> searchByText(@Param("searchPattern") String searchPattern, Pageable pageable);
+
+       /**
+        * Search employees by part of the national ID (numeric search text).
+        * Kept apart from the name search so each query can use its own index.
+        *
+        * @param searchPattern Pattern from ArabicTextNormalizer.containsPattern
+        */
+       @Query("SELECT e FROM Employee e WHERE e.nationalId LIKE :searchPattern ESCAPE '\\'")
+       Page<Employee> searchByNationalId(@Param("searchPattern") String searchPattern, Pageable pageable);
 
        /**
         * Find employees with expiring passports (within specified days)
@@ -185,6 +198,44 @@ public interface EmployeeRepository extends JpaRepository<Employee, Long>, JpaSp
        @Query("SELECT e FROM Employee e WHERE e.employmentStatus = 'ACTIVE' ORDER BY e.employeeNo ASC")
        List<Employee> findAllActiveEmployees();
 
+       /**
+        * Find employees eligible for payroll (TECHNO contract, active or on leave)
+        */
+       @Query("SELECT e FROM Employee e WHERE e.empContractType = 'TECHNO' AND " +
+                     "e.employmentStatus IN ('ACTIVE', 'ON_LEAVE') ORDER BY e.employeeNo ASC")
+       List<Employee> findPayrollEligibleEmployees();
+
+       /**
+        * Add leave days to every active employee in one bulk UPDATE (leave accrual)
+        *
+        * @return Number of employees updated
+        */
+       @Modifying(flushAutomatically = true, clearAutomatically = true)
+       @Query("UPDATE Employee e SET e.leaveBalanceDays = COALESCE(e.leaveBalanceDays, 0) + :days, " +
+              "e.modifiedDate = :now WHERE e.employmentStatus = 'ACTIVE'")
+       int addLeaveBalanceToActiveEmployees(@Param("days") BigDecimal days, @Param("now") LocalDateTime now);
+
+       /**
+        * Set starting leave balance for active employees with null/zero balance in one bulk UPDATE
+        *
+        * @return Number of employees updated
+        */
+       @Modifying(flushAutomatically = true, clearAutomatically = true)
+       @Query("UPDATE Employee e SET e.leaveBalanceDays = :startingBalance, e.modifiedDate = :now " +
+              "WHERE e.employmentStatus = 'ACTIVE' AND (e.leaveBalanceDays IS NULL OR e.leaveBalanceDays = 0)")
+       int initializeZeroLeaveBalances(@Param("startingBalance") BigDecimal startingBalance,
+                                       @Param("now") LocalDateTime now);
+
+       /**
+        * Reset out-of-range salaries in one bulk UPDATE (startup data fix)
+        *
+        * @return Number of employees updated
+        */
+       @Transactional
+       @Modifying
+       @Query("UPDATE Employee e SET e.monthlySalary = :replacement WHERE e.monthlySalary > :maxSalary")
+       int resetSalariesAbove(@Param("maxSalary") BigDecimal maxSalary, @Param("replacement") BigDecimal replacement);
+
        /**
         * Find employees hired in a specific month/year (for anniversary reports)
         */
@@ -220,4 +271,28 @@ public interface EmployeeRepository extends JpaRepository<Employee, Long>, JpaSp
                      @Param("departmentCode") Long departmentCode,
                      @Param("employmentStatus") String employmentStatus,
                      Pageable pageable);
+
+       /**
+        * Employee names for a set of employee numbers, in one query.
+        * Used by list mappings instead of a findById per row.
+        */
+       @Query("SELECT e.employeeNo AS employeeNo, e.employeeName AS employeeName FROM Employee e " +
+                     "WHERE e.employeeNo IN :employeeNos")
+       List<EmployeeName> findNamesByEmployeeNoIn(@Param("employeeNos") Collection<Long> employeeNos);
+
+       /**
+        * Names of all employees that are not terminated (typeahead index)
+        */
+       @Query("SELECT e.employeeNo AS employeeNo, e.employeeName AS employeeName FROM Employee e " +
+                     "WHERE e.employmentStatus <> 'TERMINATED'")
+       List<EmployeeName> findNamesNotTerminated();
+
+       /**
+        * Employee number and name projection
+        */
+       interface EmployeeName {
+              Long getEmployeeNo();
+
+              String getEmployeeName();
+       }
 }
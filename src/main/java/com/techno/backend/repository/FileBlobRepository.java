@@ -0,0 +1,81 @@
+package com.techno.backend.repository;
+
+import com.techno.backend.entity.FileBlob;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Repository interface for FileBlob entity.
+ * Provides reference counting for the content-addressed attachment store.
+ *
+ * @author Techno ERP Team
+ * @version 2.0
+ */
+@Repository
+public interface FileBlobRepository extends JpaRepository<FileBlob, String> {
+
+    /**
+     * Register one more reference to a blob, inserting it if the content is new.
+     * Executed as a single atomic upsert so concurrent uploads of the same
+     * content never collide on the primary key.
+     *
+     * @return Number of rows affected (always 1)
+     */
+    @Modifying
+    @Query(value = "INSERT INTO file_blobs (content_hash, storage_path, file_size, content_type, " +
+                   "reference_count, orphaned_since, created_date) " +
+                   "VALUES (:contentHash, :storagePath, :fileSize, :contentType, 1, NULL, CURRENT_TIMESTAMP) " +
+                   "ON CONFLICT (content_hash) DO UPDATE SET " +
+                   "reference_count = file_blobs.reference_count + 1, orphaned_since = NULL, " +
+                   "modified_date = CURRENT_TIMESTAMP",
+           nativeQuery = true)
+    int addReference(@Param("contentHash") String contentHash,
+                     @Param("storagePath") String storagePath,
+                     @Param("fileSize") Long fileSize,
+                     @Param("contentType") String contentType);
+
+    /**
+     * Release references to a blob. Marks the blob orphaned when no reference is left.
+     *
+     * @return Number of blobs updated (0 or 1)
+     */
+    @Modifying
+    @Query("UPDATE FileBlob b SET b.referenceCount = b.referenceCount - :count, " +
+           "b.orphanedSince = CASE WHEN b.referenceCount - :count <= 0 THEN :now ELSE NULL END " +
+           "WHERE b.contentHash = :contentHash")
+    int releaseReferences(@Param("contentHash") String contentHash,
+                          @Param("count") int count,
+                          @Param("now") LocalDateTime now);
+
+    /**
+     * Set thumbnail derivative path for a blob
+     */
+    @Modifying
+    @Query("UPDATE FileBlob b SET b.thumbnailPath = :thumbnailPath WHERE b.contentHash = :contentHash")
+    int updateThumbnailPath(@Param("contentHash") String contentHash,
+                            @Param("thumbnailPath") String thumbnailPath);
+
+    /**
+     * Find blobs orphaned before the given cutoff (garbage collection candidates)
+     */
+    @Query("SELECT b FROM FileBlob b WHERE b.referenceCount <= 0 AND b.orphanedSince < :cutoff")
+    List<FileBlob> findOrphanedBefore(@Param("cutoff") LocalDateTime cutoff);
+
+    /**
+     * Delete a blob only if it is still unreferenced.
+     * Guards against a concurrent upload re-referencing the blob during collection.
+     *
+     * @return Number of blobs deleted (0 or 1)
+     */
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM FileBlob b WHERE b.contentHash = :contentHash AND b.referenceCount <= 0")
+    int deleteIfOrphaned(@Param("contentHash") String contentHash);
+}
@@ -1,6 +1,7 @@
 package com.techno.backend.repository;
 
 import com.techno.backend.entity.Holiday;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -57,10 +58,12 @@ public interface HolidayRepository extends JpaRepository<Holiday, Long> {
 
     /**
      * Check if a specific date is a holiday.
+     * Cached per date; HolidayService evicts the cache on every holiday change.
      *
      * @param date Date to check
      * @return true if the date is an active holiday
      */
+    @Cacheable("holidays")
     @Query("SELECT CASE WHEN COUNT(h) > 0 THEN true ELSE false END FROM Holiday h " +
            "WHERE h.holidayDate = :date AND h.isActive = 'Y'")
     boolean isHoliday(@Param("date") LocalDate date);
@@ -0,0 +1,41 @@
+package com.techno.backend.repository;
+
+import com.techno.backend.entity.LeaveAccrualRun;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * Repository interface for LeaveAccrualRun entity
+ * Provides access to the leave accrual history
+ */
+@Repository
+public interface LeaveAccrualRunRepository extends JpaRepository<LeaveAccrualRun, Long> {
+
+    /**
+     * Check if a scheduled accrual was already applied
+     * @param accrualKey the idempotency key (e.g. "ANNUAL-2026")
+     * @return true if a run with this key exists
+     */
+    boolean existsByAccrualKey(String accrualKey);
+
+    /**
+     * Get accrual history, newest first
+     * @return all runs ordered by run date descending
+     */
+    List<LeaveAccrualRun> findAllByOrderByRunDateDesc();
+
+    /**
+     * Record the number of employees a run updated
+     * @param runId the run
+     * @param employeesAffected number of employees updated
+     * @return number of runs updated (0 or 1)
+     */
+    @Modifying
+    @Query("UPDATE LeaveAccrualRun r SET r.employeesAffected = :employeesAffected WHERE r.runId = :runId")
+    int updateEmployeesAffected(@Param("runId") Long runId, @Param("employeesAffected") int employeesAffected);
+}
@@ -8,6 +8,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.List;
 
@@ -43,6 +44,36 @@ public interface LoanInstallmentRepository extends JpaRepository<LoanInstallment
                      "ORDER BY i.loanId, i.installmentNo")
        List<LoanInstallment> findUnpaidInstallmentsDueInMonth(@Param("year") int year, @Param("month") int month);
 
+       /**
+        * Find installments of an employee already paid through a salary month
+        * (kept as deduction lines when that month is recalculated)
+        */
+       @Query("SELECT i FROM LoanInstallment i " +
+                     "JOIN i.loan l " +
+                     "WHERE l.employeeNo = :employeeNo AND " +
+                     "i.paymentStatus = 'PAID' AND " +
+                     "i.salaryMonth = :salaryMonth " +
+                     "ORDER BY i.dueDate")
+       List<LoanInstallment> findPaidInstallmentsForEmployeeInSalaryMonth(
+                     @Param("employeeNo") Long employeeNo,
+                     @Param("salaryMonth") String salaryMonth);
+
+       /**
+        * Find the installments every employee has deducted in a salary month
+        * (payroll simulation): unpaid installments due in the month and
+        * installments already paid through it
+        */
+       @Query("SELECT i.installmentId AS installmentId, i.loanId AS loanId, l.employeeNo AS employeeNo, " +
+                     "COALESCE(i.paidAmount, i.installmentAmount) AS amount FROM LoanInstallment i " +
+                     "JOIN i.loan l " +
+                     "WHERE (i.paymentStatus IN ('UNPAID', 'POSTPONED') AND " +
+                     "i.dueDate BETWEEN :monthStart AND :monthEnd) OR " +
+                     "(i.paymentStatus = 'PAID' AND i.salaryMonth = :salaryMonth)")
+       List<SalaryMonthInstallment> findInstallmentsForSalaryMonth(
+                     @Param("monthStart") LocalDate monthStart,
+                     @Param("monthEnd") LocalDate monthEnd,
+                     @Param("salaryMonth") String salaryMonth);
+
        /**
         * Find unpaid installments for employee in specific month
         */
@@ -136,4 +167,56 @@ public interface LoanInstallmentRepository extends JpaRepository<LoanInstallment
                      @Param("startDate") LocalDate startDate,
                      @Param("endDate") LocalDate endDate,
                      Pageable pageable);
+
+       /**
+        * Postpone all UNPAID installments due in a date range in one statement.
+        *
+        * Set-based replacement for loading and saving installments one by one:
+        * the UPDATE returns the loan of every postponed installment and the
+        * result is grouped per loan with its employee (PostgreSQL UPDATE ... RETURNING).
+        *
+        * @param startDate  Start of the original month (inclusive)
+        * @param endDate    End of the original month (inclusive)
+        * @param newDueDate New due date for all postponed installments
+        * @param modifiedBy Employee number executing the postponement
+        * @return One row per affected loan
+        */
+       @Query(value = "WITH postponed AS (" +
+                     "UPDATE loan_installments SET due_date = :newDueDate, payment_status = 'POSTPONED', " +
+                     "modified_by = :modifiedBy, modified_date = CURRENT_TIMESTAMP " +
+                     "WHERE due_date BETWEEN :startDate AND :endDate AND payment_status = 'UNPAID' " +
+                     "RETURNING loan_id) " +
+                     "SELECT p.loan_id AS loanId, l.employee_no AS employeeNo, COUNT(*) AS installmentCount " +
+                     "FROM postponed p JOIN loans l ON l.loan_id = p.loan_id " +
+                     "GROUP BY p.loan_id, l.employee_no " +
+                     "ORDER BY l.employee_no, p.loan_id", nativeQuery = true)
+       List<PostponedLoan> postponeUnpaidDueBetween(
+                     @Param("startDate") LocalDate startDate,
+                     @Param("endDate") LocalDate endDate,
+                     @Param("newDueDate") LocalDate newDueDate,
+                     @Param("modifiedBy") Long modifiedBy);
+
+       /**
+        * Loan affected by {@link #postponeUnpaidDueBetween}.
+        */
+       interface PostponedLoan {
+              Long getLoanId();
+
+              Long getEmployeeNo();
+
+              Long getInstallmentCount();
+       }
+
+       /**
+        * Installment deducted in a salary month, see {@link #findInstallmentsForSalaryMonth}.
+        */
+       interface SalaryMonthInstallment {
+              Long getInstallmentId();
+
+              Long getLoanId();
+
+              Long getEmployeeNo();
+
+              BigDecimal getAmount();
+       }
 }
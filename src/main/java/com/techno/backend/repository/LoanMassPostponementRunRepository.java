@@ -0,0 +1,21 @@
+package com.techno.backend.repository;
+
+import com.techno.backend.entity.LoanMassPostponementRun;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * Repository interface for LoanMassPostponementRun entity
+ * Provides access to the mass postponement audit history
+ */
+@Repository
+public interface LoanMassPostponementRunRepository extends JpaRepository<LoanMassPostponementRun, Long> {
+
+    /**
+     * Get mass postponement history, newest first
+     * @return all runs ordered by run date descending
+     */
+    List<LoanMassPostponementRun> findAllByOrderByRunDateDesc();
+}
@@ -82,6 +82,19 @@ public interface NotificationRepository extends JpaRepository<Notification, Long
      */
     long countByEmployeeNoAndIsRead(Long employeeNo, String isRead);
 
+    /**
+     * Total, unread and urgent/high priority unread counts for an employee in one query.
+     * Seeds the in-memory counters in NotificationCounterCache.
+     *
+     * @param employeeNo Employee number
+     * @return Notification counts
+     */
+    @Query("SELECT COUNT(n) AS totalCount, " +
+           "COALESCE(SUM(CASE WHEN n.isRead = 'N' THEN 1 ELSE 0 END), 0) AS unreadCount, " +
+           "COALESCE(SUM(CASE WHEN n.isRead = 'N' AND n.priority IN ('URGENT', 'HIGH') THEN 1 ELSE 0 END), 0) AS urgentCount " +
+           "FROM Notification n WHERE n.employeeNo = :employeeNo")
+    NotificationCounts countSummary(@Param("employeeNo") Long employeeNo);
+
     /**
      * Count all notifications for a specific employee
      *
@@ -211,4 +224,15 @@ public interface NotificationRepository extends JpaRepository<Notification, Long
     @Query("SELECT n FROM Notification n WHERE n.employeeNo = :employeeNo " +
            "ORDER BY n.createdDate DESC")
     List<Notification> findLatestNotifications(@Param("employeeNo") Long employeeNo, Pageable pageable);
+
+    /**
+     * Notification counts returned by {@link #countSummary}.
+     */
+    interface NotificationCounts {
+        Long getTotalCount();
+
+        Long getUnreadCount();
+
+        Long getUrgentCount();
+    }
 }
@@ -0,0 +1,78 @@
+package com.techno.backend.repository;
+
+import com.techno.backend.entity.PayrollDirtyMonth;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Repository for PayrollDirtyMonth entity.
+ * Holds the (employee, month) pairs waiting for incremental payroll recalculation.
+ *
+ * @author Techno HR System
+ * @version 1.0
+ * @since Phase 4 - Payroll System
+ */
+@Repository
+public interface PayrollDirtyMonthRepository extends JpaRepository<PayrollDirtyMonth, Long> {
+
+    /**
+     * Create the mark of an employee and month unless it exists.
+     * A concurrent insert of the same mark waits for the other transaction and
+     * then inserts nothing, so the unique key is never violated.
+     *
+     * @return Number of rows inserted (0 or 1)
+     */
+    @Modifying
+    @Query(value = "INSERT INTO payroll_dirty_months (employee_no, salary_month, change_sources, change_count, " +
+                   "last_marked_date, created_date) " +
+                   "VALUES (:employeeNo, :salaryMonth, :source, 1, :markedDate, CURRENT_TIMESTAMP) " +
+                   "ON CONFLICT DO NOTHING",
+           nativeQuery = true)
+    int insertIfAbsent(@Param("employeeNo") Long employeeNo,
+                       @Param("salaryMonth") String salaryMonth,
+                       @Param("source") String source,
+                       @Param("markedDate") LocalDateTime markedDate);
+
+    /**
+     * Record one more change on an existing mark, adding the source if it is new.
+     *
+     * @return Number of rows updated (0 or 1)
+     */
+    @Modifying
+    @Query("UPDATE PayrollDirtyMonth d SET d.changeCount = d.changeCount + 1, d.lastMarkedDate = :markedDate, " +
+           "d.changeSources = CASE WHEN CONCAT(',', d.changeSources, ',') LIKE CONCAT('%,', :source, ',%') " +
+           "THEN d.changeSources ELSE CONCAT(d.changeSources, ',', :source) END " +
+           "WHERE d.employeeNo = :employeeNo AND d.salaryMonth = :salaryMonth")
+    int addChange(@Param("employeeNo") Long employeeNo,
+                  @Param("salaryMonth") String salaryMonth,
+                  @Param("source") String source,
+                  @Param("markedDate") LocalDateTime markedDate);
+
+    /**
+     * Find all marks of a month, by employee
+     */
+    @Query("SELECT d FROM PayrollDirtyMonth d WHERE d.salaryMonth = :salaryMonth ORDER BY d.employeeNo ASC")
+    List<PayrollDirtyMonth> findBySalaryMonth(@Param("salaryMonth") String salaryMonth);
+
+    /**
+     * Find all marks, by month and employee
+     */
+    @Query("SELECT d FROM PayrollDirtyMonth d ORDER BY d.salaryMonth ASC, d.employeeNo ASC")
+    List<PayrollDirtyMonth> findAllOrdered();
+
+    /**
+     * Remove a mark unless it was marked again after the given time
+     * (a change made while the employee was being recalculated stays dirty).
+     *
+     * @return Number of rows deleted (0 or 1)
+     */
+    @Modifying
+    @Query("DELETE FROM PayrollDirtyMonth d WHERE d.dirtyId = :dirtyId AND d.lastMarkedDate <= :markedBefore")
+    int deleteIfNotMarkedSince(@Param("dirtyId") Long dirtyId, @Param("markedBefore") LocalDateTime markedBefore);
+}
@@ -6,6 +6,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.List;
 
@@ -71,4 +72,21 @@ public interface ProjectDuePaymentRepository extends JpaRepository<ProjectDuePay
            "p.projectCode = :projectCode AND " +
            "p.paymentStatus IN ('PENDING', 'PARTIAL')")
     long countUnpaidPaymentsByProject(@Param("projectCode") Long projectCode);
+
+    /**
+     * Sum of paid amounts per project (payments received), in one query
+     */
+    @Query("SELECT p.projectCode AS projectCode, SUM(p.paidAmount) AS amount FROM ProjectDuePayment p " +
+           "WHERE p.paymentStatus = 'PAID' " +
+           "GROUP BY p.projectCode")
+    List<ProjectAmount> sumPaidAmountByProject();
+
+    /**
+     * Amount per project projection
+     */
+    interface ProjectAmount {
+        Long getProjectCode();
+
+        BigDecimal getAmount();
+    }
 }
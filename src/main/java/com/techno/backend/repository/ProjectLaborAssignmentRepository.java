@@ -7,6 +7,7 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -91,6 +92,20 @@ public interface ProjectLaborAssignmentRepository extends JpaRepository<ProjectL
             @Param("startDate") LocalDate startDate,
             @Param("endDate") LocalDate endDate);
 
+    /**
+     * Find active assignments of several employees overlapping a date range, in one query
+     */
+    @Query("SELECT la FROM ProjectLaborAssignment la WHERE " +
+           "la.employeeNo IN :employeeNos AND " +
+           "la.assignmentStatus = 'ACTIVE' AND " +
+           "la.isDeleted = 'N' AND " +
+           "la.startDate <= :endDate AND " +
+           "(la.endDate IS NULL OR la.endDate >= :startDate)")
+    List<ProjectLaborAssignment> findOverlappingAssignmentsForEmployees(
+            @Param("employeeNos") Collection<Long> employeeNos,
+            @Param("startDate") LocalDate startDate,
+            @Param("endDate") LocalDate endDate);
+
     /**
      * Check if employee has any active assignments
      */
@@ -132,4 +147,29 @@ public interface ProjectLaborAssignmentRepository extends JpaRepository<ProjectL
     List<ProjectLaborAssignment> findAssignmentsInDateRange(
             @Param("startDate") LocalDate startDate,
             @Param("endDate") LocalDate endDate);
+
+    /**
+     * Dates of all active assignments (availability index)
+     */
+    @Query("SELECT la.assignmentNo AS assignmentNo, la.employeeNo AS employeeNo, " +
+           "la.projectCode AS projectCode, la.startDate AS startDate, la.endDate AS endDate " +
+           "FROM ProjectLaborAssignment la WHERE " +
+           "la.assignmentStatus = 'ACTIVE' AND " +
+           "la.isDeleted = 'N'")
+    List<AssignmentInterval> findActiveIntervals();
+
+    /**
+     * Assignment dates projection
+     */
+    interface AssignmentInterval {
+        Long getAssignmentNo();
+
+        Long getEmployeeNo();
+
+        Long getProjectCode();
+
+        LocalDate getStartDate();
+
+        LocalDate getEndDate();
+    }
 }
@@ -69,4 +69,19 @@ public interface ProjectLaborRequestDetailRepository
     @Modifying
     @Query("DELETE FROM ProjectLaborRequestDetail ld WHERE ld.id.requestNo = :requestNo")
     void deleteByRequestNo(@Param("requestNo") Long requestNo);
+
+    /**
+     * Add to the assigned count of a detail line in one UPDATE, without going over its quantity
+     *
+     * @return 1 if updated, 0 if the line does not exist or has too few open positions
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE ProjectLaborRequestDetail ld SET ld.assignedCount = ld.assignedCount + :count WHERE " +
+           "ld.id.requestNo = :requestNo AND " +
+           "ld.id.sequenceNo = :sequenceNo AND " +
+           "ld.assignedCount + :count <= ld.quantity")
+    int incrementAssignedCount(
+            @Param("requestNo") Long requestNo,
+            @Param("sequenceNo") Integer sequenceNo,
+            @Param("count") int count);
 }
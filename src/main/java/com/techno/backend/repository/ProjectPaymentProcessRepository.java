@@ -6,6 +6,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
@@ -59,4 +60,21 @@ public interface ProjectPaymentProcessRepository extends JpaRepository<ProjectPa
      * Check if request has been processed
      */
     boolean existsByRequestNo(Long requestNo);
+
+    /**
+     * Sum of processed payment amounts per project (payments made), in one query
+     */
+    @Query("SELECT r.projectCode AS projectCode, SUM(pp.paidAmount) AS amount " +
+           "FROM ProjectPaymentProcess pp JOIN pp.paymentRequest r " +
+           "GROUP BY r.projectCode")
+    List<ProjectAmount> sumPaidAmountByProject();
+
+    /**
+     * Amount per project projection
+     */
+    interface ProjectAmount {
+        Long getProjectCode();
+
+        BigDecimal getAmount();
+    }
 }
@@ -9,6 +9,7 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -128,4 +129,27 @@ public interface ProjectRepository extends JpaRepository<Project, Long> {
      * Check if Techno suffix exists
      */
     boolean existsByTechnoSuffix(String technoSuffix);
+
+    /**
+     * Project names for a set of project codes, in one query
+     */
+    @Query("SELECT p.projectCode AS projectCode, p.projectName AS projectName FROM Project p " +
+           "WHERE p.projectCode IN :projectCodes")
+    List<ProjectName> findNamesByProjectCodeIn(@Param("projectCodes") Collection<Long> projectCodes);
+
+    /**
+     * Names of all projects that are not cancelled (typeahead index)
+     */
+    @Query("SELECT p.projectCode AS projectCode, p.projectName AS projectName FROM Project p " +
+           "WHERE p.projectStatus <> 'CANCELLED'")
+    List<ProjectName> findNamesNotCancelled();
+
+    /**
+     * Project code and name projection
+     */
+    interface ProjectName {
+        Long getProjectCode();
+
+        String getProjectName();
+    }
 }
@@ -28,4 +28,20 @@ public interface ProjectStoreRepository extends JpaRepository<ProjectStore, Long
 
     @Query("SELECT COUNT(s) > 0 FROM ProjectStore s WHERE (s.storeName = :arName OR s.storeName = :enName) AND s.storeCode != :storeCode AND s.isDeleted = false")
     boolean existsByNameExcludingId(String arName, String enName, Long storeCode);
+
+    @Query("SELECT s.storeCode AS storeCode, s.storeName AS storeName FROM ProjectStore s "
+            + "WHERE s.isActive = true AND s.isDeleted = false")
+    List<StoreName> findActiveNames();
+
+    /**
+     * Codes and names of all stores, including inactive ones
+     */
+    @Query("SELECT s.storeCode AS storeCode, s.storeName AS storeName FROM ProjectStore s WHERE s.isDeleted = false")
+    List<StoreName> findAllNames();
+
+    interface StoreName {
+        Long getStoreCode();
+
+        String getStoreName();
+    }
 }
@@ -47,6 +47,15 @@ public interface ProjectTransferRequestRepository extends JpaRepository<ProjectT
            "ORDER BY tr.transferDate DESC")
     List<ProjectTransferRequest> findByToProjectCode(@Param("projectCode") Long projectCode);
 
+    /**
+     * Find transfers from or to a specific project
+     */
+    @Query("SELECT tr FROM ProjectTransferRequest tr WHERE " +
+           "(tr.fromProjectCode = :projectCode OR tr.toProjectCode = :projectCode) AND " +
+           "tr.isDeleted = 'N' " +
+           "ORDER BY tr.transferDate DESC")
+    List<ProjectTransferRequest> findByProjectCode(@Param("projectCode") Long projectCode);
+
     /**
      * Find pending transfer requests for a specific approver
      */
@@ -107,4 +116,12 @@ public interface ProjectTransferRequestRepository extends JpaRepository<ProjectT
     List<ProjectTransferRequest> findByTransferDateBetween(
             @Param("startDate") LocalDate startDate,
             @Param("endDate") LocalDate endDate);
+
+    /**
+     * Find all non-deleted transfers
+     */
+    @Query("SELECT tr FROM ProjectTransferRequest tr WHERE " +
+           "tr.isDeleted IS NULL OR tr.isDeleted <> 'Y' " +
+           "ORDER BY tr.transferNo ASC")
+    List<ProjectTransferRequest> findAllNotDeleted();
 }
@@ -3,8 +3,10 @@ package com.techno.backend.repository;
 import com.techno.backend.entity.Role;
 import com.techno.backend.entity.RolePermission;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -33,5 +35,11 @@ public interface RolePermissionRepository extends JpaRepository<RolePermission,
      * @param role the role whose permissions should be deleted
      */
     void deleteByRole(Role role);
-}
 
+    /**
+     * Load all permissions with their roles in one query (permission cache warm-up)
+     * @return all role permissions with role fetched
+     */
+    @Query("SELECT rp FROM RolePermission rp JOIN FETCH rp.role r WHERE r.isActive = 'Y'")
+    List<RolePermission> findAllActiveWithRole();
+}
@@ -11,9 +11,12 @@ import java.util.List;
 @Repository
 public interface SalaryDetailRepository extends JpaRepository<SalaryDetail, Long> {
 
-    List<SalaryDetail> findBySalaryIdOrderByLineNoAsc(Long salaryId);
+    @Query("SELECT d FROM SalaryDetail d LEFT JOIN FETCH d.transactionType WHERE " +
+           "d.salaryId = :salaryId " +
+           "ORDER BY d.lineNo ASC")
+    List<SalaryDetail> findBySalaryIdOrderByLineNoAsc(@Param("salaryId") Long salaryId);
 
-    @Query("SELECT d FROM SalaryDetail d WHERE " +
+    @Query("SELECT d FROM SalaryDetail d LEFT JOIN FETCH d.transactionType WHERE " +
            "d.salaryId = :salaryId AND " +
            "d.transCategory = :category " +
            "ORDER BY d.lineNo ASC")
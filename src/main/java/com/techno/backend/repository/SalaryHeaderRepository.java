@@ -6,6 +6,8 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.math.BigDecimal;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -20,12 +22,34 @@ public interface SalaryHeaderRepository extends JpaRepository<SalaryHeader, Long
                      @Param("employeeNo") Long employeeNo,
                      @Param("salaryMonth") String salaryMonth);
 
+       /**
+        * Months between two months (inclusive, YYYY-MM) for which the employees
+        * have a calculated salary
+        */
+       @Query("SELECT s.employeeNo AS employeeNo, s.salaryMonth AS salaryMonth FROM SalaryHeader s WHERE " +
+                     "s.employeeNo IN :employeeNos AND " +
+                     "s.isLatest = 'Y' AND " +
+                     "s.salaryMonth >= :fromMonth AND " +
+                     "s.salaryMonth <= :toMonth")
+       List<EmployeeMonth> findCalculatedMonthsBetween(
+                     @Param("employeeNos") Collection<Long> employeeNos,
+                     @Param("fromMonth") String fromMonth,
+                     @Param("toMonth") String toMonth);
+
        @Query("SELECT s FROM SalaryHeader s WHERE " +
                      "s.salaryMonth = :salaryMonth AND " +
                      "s.isLatest = 'Y' " +
                      "ORDER BY s.employeeNo ASC")
        List<SalaryHeader> findAllLatestBySalaryMonth(@Param("salaryMonth") String salaryMonth);
 
+       /**
+        * Total net salary of the latest versions for a month (null when there are none)
+        */
+       @Query("SELECT SUM(s.netSalary) FROM SalaryHeader s WHERE " +
+                     "s.salaryMonth = :salaryMonth AND " +
+                     "s.isLatest = 'Y'")
+       BigDecimal sumLatestNetSalaryBySalaryMonth(@Param("salaryMonth") String salaryMonth);
+
        @Query("SELECT s FROM SalaryHeader s WHERE " +
                      "s.employeeNo = :employeeNo " +
                      "ORDER BY s.salaryMonth DESC, s.salaryVersion DESC")
@@ -47,4 +71,23 @@ public interface SalaryHeaderRepository extends JpaRepository<SalaryHeader, Long
        boolean existsUnapprovedPreviousPayroll(
                      @Param("employeeNo") Long employeeNo,
                      @Param("currentMonth") String currentMonth);
+
+       /**
+        * Employees with an unapproved payroll in a month before the given one.
+        * Set-based form of existsUnapprovedPreviousPayroll for month lists.
+        */
+       @Query("SELECT DISTINCT s.employeeNo FROM SalaryHeader s WHERE " +
+                     "s.salaryMonth < :currentMonth AND " +
+                     "s.transStatus <> 'A' AND " +
+                     "s.isLatest = 'Y'")
+       List<Long> findEmployeesWithUnapprovedPayrollBefore(@Param("currentMonth") String currentMonth);
+
+       /**
+        * Employee number and salary month projection
+        */
+       interface EmployeeMonth {
+              Long getEmployeeNo();
+
+              String getSalaryMonth();
+       }
 }
@@ -1,12 +1,15 @@
 package com.techno.backend.repository;
 
 import com.techno.backend.entity.StoreBalance;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.math.BigDecimal;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -19,6 +22,15 @@ public interface StoreBalanceRepository extends JpaRepository<StoreBalance, Long
     @Query("SELECT b FROM StoreBalance b WHERE b.store.storeCode = :storeCode AND b.item.itemCode = :itemCode AND b.isDeleted = false")
     Optional<StoreBalance> findByStoreAndItem(Long storeCode, Long itemCode);
 
+    /**
+     * Find a balance and lock it until the transaction ends, so concurrent
+     * movements of the same item update quantity and moving-average cost in turn.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT b FROM StoreBalance b WHERE b.store.storeCode = :storeCode AND b.item.itemCode = :itemCode AND b.isDeleted = false")
+    Optional<StoreBalance> findByStoreAndItemForUpdate(@Param("storeCode") Long storeCode,
+                                                       @Param("itemCode") Long itemCode);
+
     @Query("SELECT b FROM StoreBalance b WHERE b.store.storeCode = :storeCode AND b.isDeleted = false ORDER BY b.item.itemName")
     List<StoreBalance> findByStoreCode(Long storeCode);
 
@@ -37,6 +49,43 @@ public interface StoreBalanceRepository extends JpaRepository<StoreBalance, Long
     @Query("SELECT b FROM StoreBalance b WHERE b.item.reorderLevel IS NOT NULL AND b.quantityOnHand <= b.item.reorderLevel AND b.isDeleted = false")
     List<StoreBalance> findItemsBelowReorderLevel();
 
+    /**
+     * Stock valuation: balances with stock together with their store, item and
+     * category in one query, optionally limited to one store.
+     */
+    default List<StoreBalance> findValuation(Long storeCode) {
+        return storeCode == null ? findValuationOfAllStores() : findValuationByStoreCode(storeCode);
+    }
+
+    @Query("SELECT b FROM StoreBalance b JOIN FETCH b.store s JOIN FETCH b.item i JOIN FETCH i.category " +
+           "WHERE b.isDeleted = false AND b.quantityOnHand > 0 " +
+           "ORDER BY s.storeCode, i.itemName")
+    List<StoreBalance> findValuationOfAllStores();
+
+    /**
+     * Valuation of one store; the store filter can use idx_store_balances_valuation
+     */
+    @Query("SELECT b FROM StoreBalance b JOIN FETCH b.store s JOIN FETCH b.item i JOIN FETCH i.category " +
+           "WHERE b.isDeleted = false AND b.quantityOnHand > 0 AND s.storeCode = :storeCode " +
+           "ORDER BY i.itemName")
+    List<StoreBalance> findValuationByStoreCode(@Param("storeCode") Long storeCode);
+
+    /**
+     * Current quantity and value of every balance (codes only), for stock snapshots.
+     */
+    @Query("SELECT b.store.storeCode AS storeCode, b.item.itemCode AS itemCode, " +
+           "b.quantityOnHand AS quantityOnHand, b.totalValue AS totalValue " +
+           "FROM StoreBalance b WHERE b.isDeleted = false")
+    List<BalanceAmount> findAllAmounts();
+
+    /**
+     * Current quantity and value of the balances of some stores (codes only).
+     */
+    @Query("SELECT b.store.storeCode AS storeCode, b.item.itemCode AS itemCode, " +
+           "b.quantityOnHand AS quantityOnHand, b.totalValue AS totalValue " +
+           "FROM StoreBalance b WHERE b.store.storeCode IN :storeCodes AND b.isDeleted = false")
+    List<BalanceAmount> findAmountsByStoreCodes(@Param("storeCodes") Collection<Long> storeCodes);
+
     /**
      * Count balances by store code excluding deleted balances
      */
@@ -53,4 +102,17 @@ public interface StoreBalanceRepository extends JpaRepository<StoreBalance, Long
            nativeQuery = true)
     BigDecimal getAvailableQuantityNative(@Param("storeCode") Long storeCode,
                                          @Param("itemCode") Long itemCode);
+
+    /**
+     * Quantity and value of one store and item
+     */
+    interface BalanceAmount {
+        Long getStoreCode();
+
+        Long getItemCode();
+
+        BigDecimal getQuantityOnHand();
+
+        BigDecimal getTotalValue();
+    }
 }
@@ -0,0 +1,49 @@
+package com.techno.backend.repository;
+
+import com.techno.backend.entity.StoreBalanceSnapshot;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Repository for StoreBalanceSnapshot entity.
+ *
+ * @author Techno HR System
+ * @version 1.0
+ * @since Phase 11 - Warehouse Management
+ */
+@Repository
+public interface StoreBalanceSnapshotRepository extends JpaRepository<StoreBalanceSnapshot, Long> {
+
+    /**
+     * Latest snapshot day on or before a date (null if none)
+     */
+    @Query("SELECT MAX(s.snapshotDate) FROM StoreBalanceSnapshot s WHERE s.snapshotDate <= :date")
+    LocalDate findLatestDateOnOrBefore(@Param("date") LocalDate date);
+
+    /**
+     * Earliest snapshot day after a date (null if none)
+     */
+    @Query("SELECT MIN(s.snapshotDate) FROM StoreBalanceSnapshot s WHERE s.snapshotDate > :date")
+    LocalDate findEarliestDateAfter(@Param("date") LocalDate date);
+
+    @Query("SELECT s FROM StoreBalanceSnapshot s WHERE s.snapshotDate = :date AND s.storeCode IN :storeCodes")
+    List<StoreBalanceSnapshot> findBySnapshotDateAndStoreCodes(@Param("date") LocalDate date,
+                                                              @Param("storeCodes") Collection<Long> storeCodes);
+
+    @Query("SELECT s FROM StoreBalanceSnapshot s WHERE s.snapshotDate = :date")
+    List<StoreBalanceSnapshot> findBySnapshotDate(@Param("date") LocalDate date);
+
+    /**
+     * Remove a day's snapshot before it is taken again
+     */
+    @Modifying
+    @Query("DELETE FROM StoreBalanceSnapshot s WHERE s.snapshotDate = :date")
+    int deleteBySnapshotDate(@Param("date") LocalDate date);
+}
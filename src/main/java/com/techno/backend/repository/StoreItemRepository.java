@@ -5,8 +5,10 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -52,10 +54,12 @@ public interface StoreItemRepository extends JpaRepository<StoreItem, Long> {
     List<StoreItem> findActiveByCategoryCode(Long categoryCode);
 
     /**
-     * Search items by name (Arabic or English)
+     * Search items by name (Arabic or English) against the stored normalized name,
+     * so the trigram index on search_key is used.
+     * The pattern comes from ArabicTextNormalizer.containsPattern.
      */
-    @Query("SELECT i FROM StoreItem i WHERE (LOWER(i.itemName) LIKE LOWER(CONCAT('%', :searchTerm, '%')) OR LOWER(i.itemName) LIKE LOWER(CONCAT('%', :searchTerm, '%'))) AND i.isDeleted = false")
-    Page<StoreItem> searchByName(String searchTerm, Pageable pageable);
+    @Query("SELECT i FROM StoreItem i WHERE i.searchKey LIKE :searchPattern ESCAPE '\\' AND i.isDeleted = false")
+    Page<StoreItem> searchByName(String searchPattern, Pageable pageable);
 
     /**
      * Check if item name (Arabic) already exists
@@ -74,5 +78,27 @@ public interface StoreItemRepository extends JpaRepository<StoreItem, Long> {
      */
     @Query("SELECT COUNT(i) FROM StoreItem i WHERE i.category.categoryCode = :categoryCode AND i.isDeleted = false")
     long countByCategoryCodeAndIsDeletedFalse(Long categoryCode);
+
+    /**
+     * Find names of all active items (typeahead index)
+     */
+    @Query("SELECT i.itemCode AS itemCode, i.itemName AS itemName FROM StoreItem i "
+            + "WHERE i.isActive = true AND i.isDeleted = false")
+    List<ItemName> findActiveNames();
+
+    /**
+     * Find names of items by code, including inactive and deleted items (history)
+     */
+    @Query("SELECT i.itemCode AS itemCode, i.itemName AS itemName FROM StoreItem i WHERE i.itemCode IN :itemCodes")
+    List<ItemName> findNamesByItemCodeIn(@Param("itemCodes") Collection<Long> itemCodes);
+
+    /**
+     * Item code and name projection
+     */
+    interface ItemName {
+        Long getItemCode();
+
+        String getItemName();
+    }
 }
 
@@ -3,9 +3,12 @@ package com.techno.backend.repository;
 import com.techno.backend.entity.StoreTransaction;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -22,4 +25,70 @@ public interface StoreTransactionRepository extends JpaRepository<StoreTransacti
 
     @Query("SELECT t FROM StoreTransaction t WHERE t.transactionDate BETWEEN :startDate AND :endDate AND t.isDeleted = false ORDER BY t.transactionDate DESC")
     List<StoreTransaction> findByDateRange(LocalDateTime startDate, LocalDateTime endDate);
+
+    /**
+     * Movements of one type created by a document, latest first
+     * (e.g. the ISSUE movements of a goods issue).
+     */
+    @Query("SELECT t FROM StoreTransaction t WHERE t.referenceType = :referenceType AND t.referenceId = :referenceId " +
+           "AND t.transactionType = :transactionType AND t.isDeleted = false ORDER BY t.transactionId DESC")
+    List<StoreTransaction> findByReference(@Param("referenceType") String referenceType,
+                                           @Param("referenceId") Long referenceId,
+                                           @Param("transactionType") String transactionType);
+
+    /**
+     * Net ledger movement per store and item in [from, to), for the given stores.
+     * Used to roll a stock snapshot forward or back to another date.
+     */
+    @Query("SELECT t.store.storeCode AS storeCode, t.item.itemCode AS itemCode, " +
+           "SUM(t.quantity) AS quantity, SUM(COALESCE(t.totalCost, 0)) AS value, COUNT(t) AS movements, " +
+           "SUM(CASE WHEN t.totalCost IS NULL THEN 1 ELSE 0 END) AS unpricedMovements " +
+           "FROM StoreTransaction t WHERE t.store.storeCode IN :storeCodes " +
+           "AND t.transactionDate >= :from AND t.transactionDate < :to AND t.isDeleted = false " +
+           "GROUP BY t.store.storeCode, t.item.itemCode")
+    List<LedgerDelta> sumMovementsBetween(@Param("storeCodes") Collection<Long> storeCodes,
+                                          @Param("from") LocalDateTime from,
+                                          @Param("to") LocalDateTime to);
+
+    /**
+     * Net ledger movement per store and item from a time on, for the given stores.
+     */
+    @Query("SELECT t.store.storeCode AS storeCode, t.item.itemCode AS itemCode, " +
+           "SUM(t.quantity) AS quantity, SUM(COALESCE(t.totalCost, 0)) AS value, COUNT(t) AS movements, " +
+           "SUM(CASE WHEN t.totalCost IS NULL THEN 1 ELSE 0 END) AS unpricedMovements " +
+           "FROM StoreTransaction t WHERE t.store.storeCode IN :storeCodes " +
+           "AND t.transactionDate >= :from AND t.isDeleted = false " +
+           "GROUP BY t.store.storeCode, t.item.itemCode")
+    List<LedgerDelta> sumMovementsSince(@Param("storeCodes") Collection<Long> storeCodes,
+                                        @Param("from") LocalDateTime from);
+
+    /**
+     * Net ledger movement per store and item from a time on, for all stores.
+     */
+    @Query("SELECT t.store.storeCode AS storeCode, t.item.itemCode AS itemCode, " +
+           "SUM(t.quantity) AS quantity, SUM(COALESCE(t.totalCost, 0)) AS value, COUNT(t) AS movements, " +
+           "SUM(CASE WHEN t.totalCost IS NULL THEN 1 ELSE 0 END) AS unpricedMovements " +
+           "FROM StoreTransaction t WHERE t.transactionDate >= :from AND t.isDeleted = false " +
+           "GROUP BY t.store.storeCode, t.item.itemCode")
+    List<LedgerDelta> sumAllMovementsSince(@Param("from") LocalDateTime from);
+
+    /**
+     * Net quantity and value movement of one store and item
+     */
+    interface LedgerDelta {
+        Long getStoreCode();
+
+        Long getItemCode();
+
+        BigDecimal getQuantity();
+
+        BigDecimal getValue();
+
+        Long getMovements();
+
+        /**
+         * Movements without a cost (recorded before moving-average costing), counted as value 0
+         */
+        Long getUnpricedMovements();
+    }
 }
@@ -2,6 +2,8 @@ package com.techno.backend.repository;
 
 import com.techno.backend.entity.Supplier;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -50,5 +52,29 @@ public interface SupplierRepository extends JpaRepository<Supplier, Long> {
      * @return Optional containing the supplier if found
      */
     Optional<Supplier> findBySupplierName(String supplierName);
+
+    /**
+     * Search suppliers by name against the stored normalized name
+     * @param searchPattern pattern from ArabicTextNormalizer.containsPattern
+     * @return Matching suppliers ordered by name
+     */
+    @Query("SELECT s FROM Supplier s WHERE s.searchKey LIKE :searchPattern ESCAPE '\\' ORDER BY s.supplierName")
+    List<Supplier> searchByName(@Param("searchPattern") String searchPattern);
+
+    /**
+     * Find names of active suppliers (typeahead index)
+     * @return List of supplier IDs and names
+     */
+    @Query("SELECT s.supplierId AS supplierId, s.supplierName AS supplierName FROM Supplier s WHERE s.isActive = 'Y'")
+    List<SupplierName> findActiveNames();
+
+    /**
+     * Supplier ID and name projection
+     */
+    interface SupplierName {
+        Long getSupplierId();
+
+        String getSupplierName();
+    }
 }
 
@@ -1,6 +1,8 @@
 package com.techno.backend.repository;
 
 import com.techno.backend.entity.WeekendDay;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -41,10 +43,12 @@ public interface WeekendDayRepository extends JpaRepository<WeekendDay, Long> {
 
     /**
      * Check if a specific day of week is a weekend.
+     * Cached per day of week; evicted whenever weekend days are changed.
      *
      * @param dayOfWeek Day of week (1=Monday, 7=Sunday)
      * @return true if the day is an active weekend day
      */
+    @Cacheable("weekendDays")
     @Query("SELECT CASE WHEN COUNT(w) > 0 THEN true ELSE false END FROM WeekendDay w " +
            "WHERE w.dayOfWeek = :dayOfWeek AND w.isActive = 'Y'")
     boolean isWeekendDay(@Param("dayOfWeek") Integer dayOfWeek);
@@ -56,4 +60,27 @@ public interface WeekendDayRepository extends JpaRepository<WeekendDay, Long> {
      */
     @Query("SELECT w.dayOfWeek FROM WeekendDay w WHERE w.isActive = 'Y' ORDER BY w.dayOfWeek ASC")
     List<Integer> findAllWeekendDayNumbers();
+
+    // Weekend days have no service of their own; every write through this repository
+    // evicts the isWeekendDay cache.
+
+    @Override
+    @CacheEvict(value = "weekendDays", allEntries = true)
+    <S extends WeekendDay> S save(S weekendDay);
+
+    @Override
+    @CacheEvict(value = "weekendDays", allEntries = true)
+    <S extends WeekendDay> List<S> saveAll(Iterable<S> weekendDays);
+
+    @Override
+    @CacheEvict(value = "weekendDays", allEntries = true)
+    void delete(WeekendDay weekendDay);
+
+    @Override
+    @CacheEvict(value = "weekendDays", allEntries = true)
+    void deleteById(Long id);
+
+    @Override
+    @CacheEvict(value = "weekendDays", allEntries = true)
+    void deleteAll();
 }
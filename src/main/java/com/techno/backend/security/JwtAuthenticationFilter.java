@@ -3,6 +3,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import com.techno.backend.config.JwtConfig;
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -48,10 +49,14 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             String jwt = getJwtFromRequest(request);
             log.debug("JWT token extracted: {}", jwt != null ? "present" : "not present");
 
-            if (StringUtils.hasText(jwt) && tokenProvider.validateToken(jwt)) {
-                String username = tokenProvider.getUsernameFromToken(jwt);
-                String userType = tokenProvider.getUserTypeFromToken(jwt);
-                Long employeeNo = tokenProvider.getEmployeeNoFromToken(jwt);
+            // Verify the token once and read all claims from the parsed result
+            Claims claims = StringUtils.hasText(jwt) ? tokenProvider.parseValidClaims(jwt) : null;
+
+            if (claims != null) {
+                String username = claims.getSubject();
+                String userType = claims.get("userType", String.class);
+                Object employeeNoClaim = claims.get("employeeNo");
+                Long employeeNo = employeeNoClaim instanceof Number ? ((Number) employeeNoClaim).longValue() : null;
                 log.debug("Token validated for user: {}, type: {}, employeeNo: {}", username, userType, employeeNo);
 
                 if (username != null && SecurityContextHolder.getContext().getAuthentication() == null) {
@@ -221,30 +221,42 @@ public class JwtTokenProvider {
      * @return true if valid
      */
     public Boolean validateToken(String token) {
+        return parseValidClaims(token) != null;
+    }
+
+    /**
+     * Verify token signature and expiration and return its claims.
+     * Lets callers read every claim with a single signature verification.
+     * 
+     * @param token the JWT token
+     * @return claims, or null if the token is invalid or expired
+     */
+    public Claims parseValidClaims(String token) {
         try {
-            Jwts.parser()
-                    .verifyWith(getSigningKey())
-                    .build()
-                    .parseSignedClaims(token);
-            return !isTokenExpired(token);
+            Claims claims = getAllClaimsFromToken(token);
+            Date expiration = claims.getExpiration();
+            if (expiration != null && expiration.before(new Date())) {
+                return null;
+            }
+            return claims;
         } catch (SignatureException e) {
             log.error("Invalid JWT signature: {}", e.getMessage());
-            return false;
+            return null;
         } catch (MalformedJwtException e) {
             log.error("Invalid JWT token: {}", e.getMessage());
-            return false;
+            return null;
         } catch (ExpiredJwtException e) {
             log.error("Expired JWT token: {}", e.getMessage());
-            return false;
+            return null;
         } catch (UnsupportedJwtException e) {
             log.error("Unsupported JWT token: {}", e.getMessage());
-            return false;
+            return null;
         } catch (IllegalArgumentException e) {
             log.error("JWT claims string is empty: {}", e.getMessage());
-            return false;
+            return null;
         } catch (Exception e) {
             log.error("Token validation error: {}", e.getMessage());
-            return false;
+            return null;
         }
     }
 
@@ -0,0 +1,40 @@
+package com.techno.backend.security;
+
+/**
+ * Role permissions compiled into a bitmask.
+ *
+ * Each constant corresponds to one flag column of ROLE_PERMISSIONS.
+ * The ordinal is the bit position, so the order of the constants must never
+ * change - append new permissions at the end only.
+ */
+public enum Permission {
+    MANAGE_EMPLOYEES,
+    MANAGE_ATTENDANCE,
+    MANAGE_LEAVE,
+    MANAGE_LOANS,
+    MANAGE_PAYROLL,
+    MANAGE_PROJECTS,
+    MANAGE_WAREHOUSE,
+    VIEW_REPORTS,
+    APPROVE,
+    MANAGE_SETTINGS;
+
+    /**
+     * Mask with all permissions set
+     */
+    public static final int ALL = (1 << values().length) - 1;
+
+    /**
+     * Bit of this permission within the mask
+     */
+    public int bit() {
+        return 1 << ordinal();
+    }
+
+    /**
+     * Check if this permission is set in the given mask
+     */
+    public boolean isGrantedIn(int mask) {
+        return (mask & bit()) != 0;
+    }
+}
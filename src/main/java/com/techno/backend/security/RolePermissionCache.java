@@ -0,0 +1,97 @@
+package com.techno.backend.security;
+
+import com.techno.backend.entity.RolePermission;
+import com.techno.backend.repository.RolePermissionRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * In-process cache of compiled role permission bitmasks.
+ *
+ * All role permissions are loaded with one query on first use and kept as an
+ * immutable snapshot keyed by role key (role name normalized to the user type
+ * form, e.g. "HR Manager" -> "HR_MANAGER"). Permission checks then
+ * cost a map lookup and a bit test, with no database access.
+ *
+ * The snapshot is dropped by {@link #invalidate()} whenever role permissions
+ * change (RoleService create/update/delete) and rebuilt lazily.
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class RolePermissionCache {
+
+    private final RolePermissionRepository rolePermissionRepository;
+
+    private volatile Snapshot snapshot;
+
+    /**
+     * Get permission mask for a role key / user type (e.g. "HR_MANAGER")
+     */
+    public int getMaskByRoleKey(String roleKey) {
+        if (roleKey == null) {
+            return 0;
+        }
+        return currentSnapshot().maskByRoleKey.getOrDefault(toRoleKey(roleKey), 0);
+    }
+
+    /**
+     * Drop cached masks; next lookup reloads them.
+     * Inside a transaction the snapshot is dropped again after commit, so a
+     * reload racing with the change cannot keep stale permissions.
+     */
+    public void invalidate() {
+        snapshot = null;
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    snapshot = null;
+                }
+            });
+        }
+        log.debug("Role permission cache invalidated");
+    }
+
+    /**
+     * Normalize a role name to its role key: upper case, words joined by underscore
+     */
+    public static String toRoleKey(String roleName) {
+        return roleName.trim().toUpperCase(Locale.ROOT).replaceAll("[^A-Z0-9]+", "_");
+    }
+
+    private Snapshot currentSnapshot() {
+        Snapshot current = snapshot;
+        if (current == null) {
+            synchronized (this) {
+                current = snapshot;
+                if (current == null) {
+                    current = load();
+                    snapshot = current;
+                }
+            }
+        }
+        return current;
+    }
+
+    private Snapshot load() {
+        Map<String, Integer> byKey = new HashMap<>();
+
+        for (RolePermission permission : rolePermissionRepository.findAllActiveWithRole()) {
+            byKey.put(toRoleKey(permission.getRole().getRoleName()), permission.toBitmask());
+        }
+
+        log.info("Role permission cache loaded: {} roles", byKey.size());
+        return new Snapshot(Map.copyOf(byKey));
+    }
+
+    private record Snapshot(Map<String, Integer> maskByRoleKey) {
+    }
+}
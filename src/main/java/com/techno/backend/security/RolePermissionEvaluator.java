@@ -0,0 +1,69 @@
+package com.techno.backend.security;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.access.PermissionEvaluator;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.stereotype.Component;
+
+import java.io.Serializable;
+
+/**
+ * Permission evaluator backed by the role permission bitmask cache.
+ *
+ * Usage in controllers:
+ * {@code @PreAuthorize("hasPermission(null, 'MANAGE_PAYROLL')")}
+ *
+ * The role is taken from the ROLE_ authority set by JwtAuthenticationFilter.
+ * ADMIN is granted every permission.
+ */
+@Component
+@RequiredArgsConstructor
+public class RolePermissionEvaluator implements PermissionEvaluator {
+
+    private static final String ROLE_PREFIX = "ROLE_";
+    private static final String ADMIN_ROLE = "ADMIN";
+
+    private final RolePermissionCache rolePermissionCache;
+
+    @Override
+    public boolean hasPermission(Authentication authentication, Object targetDomainObject, Object permission) {
+        if (authentication == null || !authentication.isAuthenticated() || permission == null) {
+            return false;
+        }
+
+        Permission required;
+        try {
+            required = Permission.valueOf(permission.toString());
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+
+        return required.isGrantedIn(resolveMask(authentication));
+    }
+
+    @Override
+    public boolean hasPermission(Authentication authentication, Serializable targetId, String targetType,
+                                 Object permission) {
+        return hasPermission(authentication, null, permission);
+    }
+
+    /**
+     * Resolve combined permission mask of all roles of the authenticated user
+     */
+    public int resolveMask(Authentication authentication) {
+        int mask = 0;
+        for (GrantedAuthority authority : authentication.getAuthorities()) {
+            String name = authority.getAuthority();
+            if (name == null || !name.startsWith(ROLE_PREFIX)) {
+                continue;
+            }
+            String roleKey = name.substring(ROLE_PREFIX.length());
+            if (ADMIN_ROLE.equals(roleKey)) {
+                return Permission.ALL;
+            }
+            mask |= rolePermissionCache.getMaskByRoleKey(roleKey);
+        }
+        return mask;
+    }
+}
@@ -57,6 +57,7 @@ public class AllowanceService {
     private final TransactionTypeRepository transactionTypeRepository;
     private final ApprovalWorkflowService approvalWorkflowService;
     private final ApplicationEventPublisher eventPublisher;
+    private final PayrollDirtyService payrollDirtyService;
 
     private static final String REQUEST_TYPE = "ALLOW";
 
@@ -139,6 +140,9 @@ public class AllowanceService {
                 .build();
 
         allowance = allowanceRepository.save(allowance);
+        if ("A".equals(allowance.getTransStatus())) {
+            payrollDirtyService.markAllowance(allowance);
+        }
 
         log.info("Allowance submitted successfully: {}", allowance.getTransactionNo());
 
@@ -161,7 +165,7 @@ public class AllowanceService {
         log.info("Approving allowance {} by approver {}", allowanceId, approverNo);
 
         // Validate allowance exists
-        EmpMonthlyAllowance allowance = allowanceRepository.findById(allowanceId)
+        EmpMonthlyAllowance allowance = allowanceRepository.findByIdWithDetails(allowanceId)
                 .orElseThrow(() -> new ResourceNotFoundException(
                         "Ø§Ù„Ø¨Ø¯Ù„ ØºÙŠØ± Ù…ÙˆØ¬ÙˆØ¯: " + allowanceId));
 
@@ -213,6 +217,7 @@ public class AllowanceService {
 
             // Save and publish approval notification
             allowance = allowanceRepository.save(allowance);
+            payrollDirtyService.markAllowance(allowance);
             TransactionType transactionType = transactionTypeRepository.findById(allowance.getTypeCode())
                     .orElse(null);
             publishAllowanceApprovedNotification(allowance, employee, transactionType);
@@ -239,7 +244,7 @@ public class AllowanceService {
         log.info("Rejecting allowance {} by approver {}", allowanceId, approverNo);
 
         // Validate allowance exists
-        EmpMonthlyAllowance allowance = allowanceRepository.findById(allowanceId)
+        EmpMonthlyAllowance allowance = allowanceRepository.findByIdWithDetails(allowanceId)
                 .orElseThrow(() -> new ResourceNotFoundException(
                         "Ø§Ù„Ø¨Ø¯Ù„ ØºÙŠØ± Ù…ÙˆØ¬ÙˆØ¯: " + allowanceId));
 
@@ -367,7 +372,7 @@ public class AllowanceService {
      */
     @Transactional(readOnly = true)
     public EmpMonthlyAllowance getAllowanceById(Long allowanceId) {
-        return allowanceRepository.findById(allowanceId)
+        return allowanceRepository.findByIdWithDetails(allowanceId)
                 .orElseThrow(() -> new ResourceNotFoundException(
                         "Ø§Ù„Ø¨Ø¯Ù„ ØºÙŠØ± Ù…ÙˆØ¬ÙˆØ¯: " + allowanceId));
     }
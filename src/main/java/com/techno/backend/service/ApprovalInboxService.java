@@ -0,0 +1,252 @@
+package com.techno.backend.service;
+
+import com.techno.backend.constants.ApprovalRequestType;
+import com.techno.backend.dto.approval.ApprovalDecisionRequest;
+import com.techno.backend.dto.approval.ApprovalInboxItem;
+import com.techno.backend.dto.approval.ApprovalInboxResponse;
+import com.techno.backend.exception.BadRequestException;
+import com.techno.backend.repository.ApprovalInboxRepository;
+import com.techno.backend.repository.EmployeeRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Service for the unified approvals inbox.
+ *
+ * Lists the requests of every module waiting for one approver from a single
+ * query, with pending counts per request type, and approves or rejects a
+ * selection of them in one transaction. Every selected request must be
+ * pending for the approver, since some module methods leave that check to
+ * their controller's role guard. Each decision then goes through the owning
+ * module's approve/reject method, so approval levels, authorization checks and
+ * notifications are the same as when approving one request at a time.
+ *
+ * @author Techno HR System
+ * @version 1.0
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class ApprovalInboxService {
+
+    private static final int DEFAULT_PAGE_SIZE = 20;
+    private static final int MAX_PAGE_SIZE = 100;
+
+    private final ApprovalInboxRepository inboxRepository;
+    private final EmployeeRepository employeeRepository;
+    private final LeaveService leaveService;
+    private final LoanService loanService;
+    private final AllowanceService allowanceService;
+    private final DeductionService deductionService;
+    private final ManualAttendanceRequestService manualAttendanceRequestService;
+    private final TransferService transferService;
+    private final PaymentRequestService paymentRequestService;
+    private final LaborAllocationService laborAllocationService;
+
+    /**
+     * Get a page of requests waiting for an approver, oldest first.
+     *
+     * @param approverNo Approver employee number
+     * @param types Request types to list (null or empty for all)
+     * @param page Page number (0-based)
+     * @param size Page size (default 20, at most 100)
+     * @return Page of pending requests with counts per type
+     */
+    @Transactional(readOnly = true)
+    public ApprovalInboxResponse getInbox(Long approverNo, List<String> types, Integer page, Integer size) {
+        List<String> selected = types == null || types.isEmpty() ? ApprovalRequestType.ALL : types;
+        selected.forEach(this::validateType);
+        int pageNo = page == null ? 0 : Math.max(0, page);
+        int pageSize = size == null ? DEFAULT_PAGE_SIZE : Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+
+        Map<String, Long> counts = inboxRepository.countPendingByType(approverNo);
+        long totalItems = selected.stream().mapToLong(type -> counts.getOrDefault(type, 0L)).sum();
+
+        List<ApprovalInboxRepository.PendingApproval> rows = totalItems == 0 ? List.of()
+                : inboxRepository.findPending(approverNo, selected, pageNo * pageSize, pageSize);
+
+        Set<Long> employeeNos = rows.stream()
+                .map(ApprovalInboxRepository.PendingApproval::employeeNo)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        Map<Long, String> employeeNames = employeeNos.isEmpty() ? Map.of()
+                : employeeRepository.findNamesByEmployeeNoIn(employeeNos).stream()
+                        .filter(e -> e.getEmployeeName() != null)
+                        .collect(Collectors.toMap(EmployeeRepository.EmployeeName::getEmployeeNo,
+                                EmployeeRepository.EmployeeName::getEmployeeName));
+
+        List<ApprovalInboxItem> items = rows.stream()
+                .map(row -> ApprovalInboxItem.builder()
+                        .requestType(row.requestType())
+                        .requestId(row.requestId())
+                        .employeeNo(row.employeeNo())
+                        .employeeName(row.employeeNo() != null ? employeeNames.get(row.employeeNo()) : null)
+                        .requestDate(row.requestDate())
+                        .amount(row.amount())
+                        .approvalLevel(row.approvalLevel())
+                        .build())
+                .collect(Collectors.toList());
+
+        return ApprovalInboxResponse.builder()
+                .items(items)
+                .page(pageNo)
+                .size(pageSize)
+                .totalItems(totalItems)
+                .countsByType(counts)
+                .build();
+    }
+
+    /**
+     * Count requests waiting for an approver, per type.
+     *
+     * @param approverNo Approver employee number
+     * @return Count per request type (types without pending requests are omitted)
+     */
+    @Transactional(readOnly = true)
+    public Map<String, Long> countPending(Long approverNo) {
+        return inboxRepository.countPendingByType(approverNo);
+    }
+
+    /**
+     * Count all requests waiting for an approver.
+     *
+     * @param approverNo Approver employee number
+     * @return Number of pending requests
+     */
+    @Transactional(readOnly = true)
+    public long countAllPending(Long approverNo) {
+        return countPending(approverNo).values().stream().mapToLong(Long::longValue).sum();
+    }
+
+    /**
+     * Approve a selection of requests in one transaction.
+     * If any request cannot be approved, none are.
+     *
+     * @param approverNo Approver employee number
+     * @param request Selected requests and optional notes
+     * @return Number of requests approved
+     */
+    @Transactional
+    public int approveAll(Long approverNo, ApprovalDecisionRequest request) {
+        log.info("Bulk approving {} requests by approver {}", request.getItems().size(), approverNo);
+        request.getItems().forEach(item -> validateType(item.getRequestType()));
+        requirePending(approverNo, request.getItems());
+
+        for (ApprovalDecisionRequest.Item item : request.getItems()) {
+            try {
+                approve(item.getRequestType(), item.getRequestId(), approverNo, request.getReason());
+            } catch (RuntimeException e) {
+                throw new BadRequestException(String.format("تعذر اعتماد الطلب %s رقم %d: %s",
+                        item.getRequestType(), item.getRequestId(), e.getMessage()));
+            }
+        }
+        return request.getItems().size();
+    }
+
+    /**
+     * Reject a selection of requests in one transaction.
+     * If any request cannot be rejected, none are.
+     *
+     * @param approverNo Approver employee number
+     * @param request Selected requests and rejection reason
+     * @return Number of requests rejected
+     */
+    @Transactional
+    public int rejectAll(Long approverNo, ApprovalDecisionRequest request) {
+        log.info("Bulk rejecting {} requests by approver {}", request.getItems().size(), approverNo);
+        if (request.getReason() == null || request.getReason().isBlank()) {
+            throw new BadRequestException("سبب الرفض مطلوب");
+        }
+        request.getItems().forEach(item -> validateType(item.getRequestType()));
+        requirePending(approverNo, request.getItems());
+
+        for (ApprovalDecisionRequest.Item item : request.getItems()) {
+            try {
+                reject(item.getRequestType(), item.getRequestId(), approverNo, request.getReason());
+            } catch (RuntimeException e) {
+                throw new BadRequestException(String.format("تعذر رفض الطلب %s رقم %d: %s",
+                        item.getRequestType(), item.getRequestId(), e.getMessage()));
+            }
+        }
+        return request.getItems().size();
+    }
+
+    private void approve(String type, Long id, Long approverNo, String notes) {
+        switch (type) {
+            case ApprovalRequestType.LEAVE -> leaveService.approveLeave(id, approverNo);
+            case ApprovalRequestType.LOAN -> loanService.approveLoan(id, approverNo);
+            case ApprovalRequestType.LOAN_POSTPONEMENT -> loanService.approvePostponement(id, approverNo);
+            case ApprovalRequestType.ALLOWANCE -> allowanceService.approveAllowance(id, approverNo);
+            case ApprovalRequestType.DEDUCTION -> deductionService.approveDeduction(id, approverNo);
+            case ApprovalRequestType.MANUAL_ATTENDANCE -> manualAttendanceRequestService.approveRequest(id, approverNo);
+            case ApprovalRequestType.TRANSFER -> transferService.approveTransferRequest(id, approverNo);
+            case ApprovalRequestType.PAYMENT_REQUEST -> paymentRequestService.approvePaymentRequest(id, approverNo);
+            case ApprovalRequestType.LABOR_REQUEST -> laborAllocationService.approveLaborRequest(id, approverNo, notes);
+            default -> throw new BadRequestException("نوع الطلب غير صالح: " + type);
+        }
+    }
+
+    private void reject(String type, Long id, Long approverNo, String reason) {
+        switch (type) {
+            case ApprovalRequestType.LEAVE -> leaveService.rejectLeave(id, approverNo, reason);
+            case ApprovalRequestType.LOAN -> loanService.rejectLoan(id, approverNo, reason);
+            case ApprovalRequestType.LOAN_POSTPONEMENT -> loanService.rejectPostponement(id, approverNo, reason);
+            case ApprovalRequestType.ALLOWANCE -> allowanceService.rejectAllowance(id, approverNo, reason);
+            case ApprovalRequestType.DEDUCTION -> deductionService.rejectDeduction(id, approverNo, reason);
+            case ApprovalRequestType.MANUAL_ATTENDANCE -> manualAttendanceRequestService.rejectRequest(id, approverNo, reason);
+            case ApprovalRequestType.TRANSFER -> transferService.rejectTransferRequest(id, approverNo, reason);
+            case ApprovalRequestType.PAYMENT_REQUEST -> paymentRequestService.rejectPaymentRequest(id, approverNo, reason);
+            case ApprovalRequestType.LABOR_REQUEST -> laborAllocationService.rejectLaborRequest(id, approverNo, reason);
+            default -> throw new BadRequestException("نوع الطلب غير صالح: " + type);
+        }
+    }
+
+    /**
+     * Check that every selected request is waiting for this approver, once
+     * each, before any decision is made.
+     */
+    private void requirePending(Long approverNo, List<ApprovalDecisionRequest.Item> items) {
+        Set<String> selected = new HashSet<>();
+        for (ApprovalDecisionRequest.Item item : items) {
+            if (!selected.add(key(item.getRequestType(), item.getRequestId()))) {
+                throw new BadRequestException(String.format("الطلب %s رقم %d مكرر في الاختيار",
+                        item.getRequestType(), item.getRequestId()));
+            }
+        }
+
+        Set<Long> requestIds = items.stream()
+                .map(ApprovalDecisionRequest.Item::getRequestId)
+                .collect(Collectors.toSet());
+        Set<String> pending = inboxRepository.findPendingByRequestIds(approverNo, requestIds).stream()
+                .map(row -> key(row.requestType(), row.requestId()))
+                .collect(Collectors.toSet());
+
+        for (ApprovalDecisionRequest.Item item : items) {
+            if (!pending.contains(key(item.getRequestType(), item.getRequestId()))) {
+                log.warn("Approver {} selected {} {} which is not pending for them",
+                        approverNo, item.getRequestType(), item.getRequestId());
+                throw new BadRequestException(String.format("الطلب %s رقم %d غير معلق لديك للاعتماد",
+                        item.getRequestType(), item.getRequestId()));
+            }
+        }
+    }
+
+    private static String key(String type, Long id) {
+        return type + ":" + id;
+    }
+
+    private void validateType(String type) {
+        if (!ApprovalRequestType.isValid(type)) {
+            throw new BadRequestException("نوع الطلب غير صالح: " + type);
+        }
+    }
+}
@@ -1,9 +1,9 @@
 package com.techno.backend.service;
 
+import com.techno.backend.entity.AttendanceMonthlyRollup;
 import com.techno.backend.entity.AttendanceTransaction;
 import com.techno.backend.entity.EmpMonthlyAllowance;
 import com.techno.backend.entity.EmpMonthlyDeduction;
-import com.techno.backend.repository.AttendanceRepository;
 import com.techno.backend.repository.EmpMonthlyAllowanceRepository;
 import com.techno.backend.repository.EmpMonthlyDeductionRepository;
 import lombok.RequiredArgsConstructor;
@@ -15,7 +15,10 @@ import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 /**
  * Service for auto-creating allowances and deductions from attendance calculations.
@@ -46,13 +49,16 @@ public class AttendanceAllowanceDeductionService {
 
     private final EmpMonthlyAllowanceRepository allowanceRepository;
     private final EmpMonthlyDeductionRepository deductionRepository;
-    private final AttendanceRepository attendanceRepository;
+    private final AttendanceRollupService attendanceRollupService;
+    private final PayrollDirtyService payrollDirtyService;
 
     // Transaction type codes
     private static final Long TYPE_CODE_OVERTIME = 9L;
     private static final Long TYPE_CODE_LATE = 20L;
     private static final Long TYPE_CODE_ABSENCE = 21L;
 
+    private static final String MONTHLY_DELAY_REASON = "Monthly delay aggregation";
+
     /**
      * Process attendance transaction and auto-create related allowances/deductions.
      * Called after attendance calculations are complete.
@@ -275,7 +281,7 @@ public class AttendanceAllowanceDeductionService {
      * Aggregate monthly delay deductions for an employee.
      * 
      * This method is called at month-end to:
-     * 1. Sum all delay hours from attendance records for the month
+     * 1. Read the month's delay hours and delay days from the employee's attendance rollup
      * 2. Create a single monthly deduction record
      * 
      * @param employeeNo Employee number
@@ -285,54 +291,104 @@ public class AttendanceAllowanceDeductionService {
     @Transactional
     public EmpMonthlyDeduction aggregateMonthlyDelayDeductions(Long employeeNo, YearMonth yearMonth) {
         LocalDate monthStart = yearMonth.atDay(1);
-        LocalDate monthEnd = yearMonth.atEndOfMonth();
         
         log.info("Aggregating monthly delay deductions for employee {} for month {}", employeeNo, yearMonth);
         
-        // Use existing repository method to sum delayed hours
-        Double totalDelayHoursDouble = attendanceRepository.sumDelayedHours(employeeNo, monthStart, monthEnd);
+        // Monthly totals are kept in the employee's rollup row
+        AttendanceMonthlyRollup rollup = attendanceRollupService.getRollup(employeeNo, yearMonth);
         
-        if (totalDelayHoursDouble == null || totalDelayHoursDouble <= 0) {
+        if (rollup.getDelayHours() == null || rollup.getDelayHours().signum() <= 0) {
             log.debug("No delays to aggregate for employee {} in month {}", employeeNo, yearMonth);
             return null;
         }
         
-        BigDecimal totalDelayHours = BigDecimal.valueOf(totalDelayHoursDouble)
-                .setScale(2, java.math.RoundingMode.HALF_UP);
+        BigDecimal totalDelayHours = rollup.getDelayHours().setScale(2, java.math.RoundingMode.HALF_UP);
         
-        // Count days with delay for the reason field
-        List<AttendanceTransaction> delayRecords = attendanceRepository.findLateArrivalsByDateRange(monthStart, monthEnd);
-        long delayDays = delayRecords.stream()
-                .filter(a -> a.getEmployeeNo().equals(employeeNo))
-                .count();
+        // Days with delay for the reason field
+        long delayDays = rollup.getDelayDays();
         
         // Check if monthly deduction already exists for this month
         LocalDate monthDate = monthStart.plusDays(14); // Mid-month date for lookup
-        if (isDuplicateDeduction(employeeNo, TYPE_CODE_LATE, monthDate, "Monthly delay aggregation")) {
+        if (isDuplicateDeduction(employeeNo, TYPE_CODE_LATE, monthDate, MONTHLY_DELAY_REASON)) {
             log.debug("Monthly delay deduction already exists for employee {} in month {}", employeeNo, yearMonth);
             return null;
         }
         
         // Create single monthly deduction record
-        EmpMonthlyDeduction deduction = EmpMonthlyDeduction.builder()
+        EmpMonthlyDeduction deduction = buildMonthlyDelayDeduction(employeeNo, yearMonth, totalDelayHours,
+                delayDays, LocalDateTime.now());
+        
+        deduction = deductionRepository.save(deduction);
+        payrollDirtyService.markDeduction(deduction);
+        log.info("Created monthly delay deduction {} for employee {} month {}: {} hours ({} days)",
+                deduction.getTransactionNo(), employeeNo, yearMonth, totalDelayHours, delayDays);
+        
+        return deduction;
+    }
+
+    /**
+     * Aggregate monthly delay deductions for all active employees.
+     *
+     * Delay totals for the whole month are read from the attendance rollups, existing
+     * monthly deductions are detected with one bulk lookup, and the new deduction
+     * records are saved in a single batch.
+     *
+     * @param yearMonth Year and month to aggregate (e.g., 2025-01)
+     * @return Created deduction records (employees without delays or already aggregated are skipped)
+     */
+    @Transactional
+    public List<EmpMonthlyDeduction> aggregateMonthlyDelayDeductionsForAll(YearMonth yearMonth) {
+        LocalDate monthDate = yearMonth.atDay(15);
+
+        List<AttendanceMonthlyRollup> summaries = attendanceRollupService.getDelayedActiveEmployees(yearMonth);
+        if (summaries.isEmpty()) {
+            log.info("No delays to aggregate for month {}", yearMonth);
+            return List.of();
+        }
+
+        Set<Long> alreadyAggregated = new HashSet<>(
+                deductionRepository.findEmployeesWithDeduction(TYPE_CODE_LATE, monthDate, MONTHLY_DELAY_REASON));
+
+        LocalDateTime now = LocalDateTime.now();
+        List<EmpMonthlyDeduction> deductions = new ArrayList<>(summaries.size());
+        for (AttendanceMonthlyRollup summary : summaries) {
+            if (alreadyAggregated.contains(summary.getEmployeeNo())
+                    || summary.getDelayHours() == null
+                    || summary.getDelayHours().signum() <= 0) {
+                continue;
+            }
+            BigDecimal totalDelayHours = summary.getDelayHours().setScale(2, java.math.RoundingMode.HALF_UP);
+            deductions.add(buildMonthlyDelayDeduction(summary.getEmployeeNo(), yearMonth, totalDelayHours,
+                    summary.getDelayDays(), now));
+        }
+
+        if (!deductions.isEmpty()) {
+            deductions = deductionRepository.saveAll(deductions);
+            payrollDirtyService.markDeductions(
+                    deductions.stream().map(EmpMonthlyDeduction::getEmployeeNo).toList(), yearMonth);
+        }
+        log.info("Created {} monthly delay deductions for month {} ({} employees with delays, {} already aggregated)",
+                deductions.size(), yearMonth, summaries.size(), alreadyAggregated.size());
+
+        return deductions;
+    }
+
+    private EmpMonthlyDeduction buildMonthlyDelayDeduction(Long employeeNo, YearMonth yearMonth,
+                                                           BigDecimal totalDelayHours, long delayDays,
+                                                           LocalDateTime approvedDate) {
+        return EmpMonthlyDeduction.builder()
                 .employeeNo(employeeNo)
                 .typeCode(TYPE_CODE_LATE)
-                .transactionDate(monthDate) // Use mid-month date for monthly deductions
+                .transactionDate(yearMonth.atDay(15)) // Use mid-month date for monthly deductions
                 .deductionAmount(totalDelayHours)
                 .transStatus("A") // Auto-approved
                 .isManualEntry("N") // System-generated
                 .isDeleted("N")
-                .entryReason(String.format("Monthly delay aggregation for %s (%d days with delay)", 
+                .entryReason(String.format(MONTHLY_DELAY_REASON + " for %s (%d days with delay)",
                         yearMonth.toString(), delayDays))
                 .approvedBy(null) // System approval
-                .approvedDate(LocalDateTime.now())
+                .approvedDate(approvedDate)
                 .build();
-        
-        deduction = deductionRepository.save(deduction);
-        log.info("Created monthly delay deduction {} for employee {} month {}: {} hours ({} days)",
-                deduction.getTransactionNo(), employeeNo, yearMonth, totalDelayHours, delayDays);
-        
-        return deduction;
     }
     
     /**
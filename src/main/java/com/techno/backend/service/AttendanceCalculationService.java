@@ -4,7 +4,6 @@ import com.techno.backend.entity.AttendanceTransaction;
 import com.techno.backend.entity.Holiday;
 import com.techno.backend.entity.TimeSchedule;
 import com.techno.backend.repository.HolidayRepository;
-import com.techno.backend.repository.TimeScheduleRepository;
 import com.techno.backend.repository.WeekendDayRepository;
 import com.techno.backend.util.AttendanceCalculator;
 import lombok.RequiredArgsConstructor;
@@ -41,7 +40,7 @@ public class AttendanceCalculationService {
 
     private final HolidayRepository holidayRepository;
     private final WeekendDayRepository weekendDayRepository;
-    private final TimeScheduleRepository timeScheduleRepository;
+    private final TimeScheduleLookupService timeScheduleLookupService;
 
     /**
      * Performs all automatic calculations for an attendance record.
@@ -66,7 +65,7 @@ public class AttendanceCalculationService {
             return;
         }
 
-        log.info("Calculating attendance hours for Employee {} on {}",
+        log.debug("Calculating attendance hours for Employee {} on {}",
                 attendance.getEmployeeNo(), attendance.getAttendanceDate());
 
         // Step 1: Detect holiday and weekend work
@@ -86,7 +85,7 @@ public class AttendanceCalculationService {
 
         BigDecimal scheduledHours = schedule.getRequiredHours();
         attendance.setScheduledHours(scheduledHours);
-        log.info("Set scheduledHours to {} for employee {} (from schedule: {})",
+        log.debug("Set scheduledHours to {} for employee {} (from schedule: {})",
                 scheduledHours, attendance.getEmployeeNo(), schedule.getScheduleName());
 
         // Step 3: Calculate working hours (if both entry and exit times are present)
@@ -146,13 +145,15 @@ public class AttendanceCalculationService {
             attendance.setEarlyOutCalc(BigDecimal.ZERO);
         }
 
-        log.info("Attendance calculation completed for Employee {}: Working={}, Overtime={}, Delayed={}, EarlyOut={}, Shortage={}",
-                attendance.getEmployeeNo(),
-                attendance.getWorkingHours(),
-                attendance.getOvertimeCalc(),
-                attendance.getDelayedCalc(),
-                attendance.getEarlyOutCalc(),
-                attendance.getShortageHours());
+        if (log.isDebugEnabled()) {
+            log.debug("Attendance calculation completed for Employee {}: Working={}, Overtime={}, Delayed={}, EarlyOut={}, Shortage={}",
+                    attendance.getEmployeeNo(),
+                    attendance.getWorkingHours(),
+                    attendance.getOvertimeCalc(),
+                    attendance.getDelayedCalc(),
+                    attendance.getEarlyOutCalc(),
+                    attendance.getShortageHours());
+        }
     }
 
     /**
@@ -167,9 +168,10 @@ public class AttendanceCalculationService {
             return false;
         }
         boolean isHoliday = holidayRepository.isHoliday(date);
-        if (isHoliday) {
+        // Holiday name lookup is only needed for the debug log - skip the query otherwise
+        if (isHoliday && log.isDebugEnabled()) {
             Optional<Holiday> holiday = holidayRepository.findByHolidayDate(date);
-            holiday.ifPresent(h -> log.info("Date {} is a holiday: {}", date, h.getHolidayName()));
+            holiday.ifPresent(h -> log.debug("Date {} is a holiday: {}", date, h.getHolidayName()));
         }
         return isHoliday;
     }
@@ -200,63 +202,17 @@ public class AttendanceCalculationService {
     /**
      * Finds the applicable time schedule for an employee.
      * Priority: Project schedule > Department schedule > Default schedule.
+     * The lookup is cached by TimeScheduleLookupService; every call returns a
+     * new detached copy, so callers may modify it.
      *
      * @param departmentCode Employee's department code
      * @param projectCode Employee's project code (may be null)
      * @return TimeSchedule or null if not found
      */
-    @Transactional(readOnly = true)
     public TimeSchedule findApplicableSchedule(Long departmentCode, Long projectCode) {
-
-        log.debug("Finding schedule for departmentCode: {}, projectCode: {}", departmentCode, projectCode);
-
-        // Priority 1: Project-specific schedule
-        if (projectCode != null) {
-            Optional<TimeSchedule> projectSchedule = timeScheduleRepository
-                    .findByProjectCodeAndIsActive(projectCode, "Y");
-            if (projectSchedule.isPresent()) {
-                TimeSchedule schedule = projectSchedule.get();
-                log.info("Found project-specific schedule: ID={}, Name={}, RequiredHours={}, Start={}, End={}",
-                        schedule.getScheduleId(), schedule.getScheduleName(), schedule.getRequiredHours(),
-                        schedule.getScheduledStartTime(), schedule.getScheduledEndTime());
-                return schedule;
-            } else {
-                log.warn("No active project schedule found for projectCode: {}. " +
-                        "Please check if a schedule with project_code={} and is_active='Y' exists in the time_schedule table.",
-                        projectCode, projectCode);
-            }
-        }
-
-        // Priority 2: Department-specific schedule
-        if (departmentCode != null) {
-            Optional<TimeSchedule> deptSchedule = timeScheduleRepository
-                    .findByDepartmentCodeAndIsActive(departmentCode, "Y");
-            if (deptSchedule.isPresent()) {
-                TimeSchedule schedule = deptSchedule.get();
-                log.info("Found department-specific schedule: ID={}, Name={}, RequiredHours={}, Start={}, End={}",
-                        schedule.getScheduleId(), schedule.getScheduleName(), schedule.getRequiredHours(),
-                        schedule.getScheduledStartTime(), schedule.getScheduledEndTime());
-                return schedule;
-            } else {
-                log.debug("No active department schedule found for departmentCode: {}", departmentCode);
-            }
-        }
-
-        // Priority 3: Default/general schedule
-        Optional<TimeSchedule> defaultSchedule = timeScheduleRepository.findDefaultSchedule();
-        if (defaultSchedule.isPresent()) {
-            TimeSchedule schedule = defaultSchedule.get();
-            log.info("Using default schedule: ID={}, Name={}, RequiredHours={}, Start={}, End={}",
-                    schedule.getScheduleId(), schedule.getScheduleName(), schedule.getRequiredHours(),
-                    schedule.getScheduledStartTime(), schedule.getScheduledEndTime());
-            return schedule;
-        } else {
-            log.warn("No default schedule found in database");
-        }
-
-        log.warn("No schedule found for department {} or project {}. Will use hardcoded default (8 hours).",
-                departmentCode, projectCode);
-        return null;
+        TimeScheduleLookupService.CachedSchedule schedule =
+                timeScheduleLookupService.findApplicableSchedule(departmentCode, projectCode);
+        return schedule != null ? schedule.toTimeSchedule() : null;
     }
 
     /**
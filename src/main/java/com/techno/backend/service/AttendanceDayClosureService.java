@@ -7,6 +7,8 @@ import com.techno.backend.repository.AttendanceDayClosureRepository;
 import com.techno.backend.repository.EmployeeRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -74,10 +76,12 @@ public class AttendanceDayClosureService {
 
     /**
      * Check if a date is closed.
+     * Cached per date; closing or reopening the date evicts its entry.
      *
      * @param attendanceDate Attendance date to check
      * @return true if the date is closed, false otherwise
      */
+    @Cacheable("attendanceClosures")
     @Transactional(readOnly = true)
     public boolean isDateClosed(LocalDate attendanceDate) {
         return closureRepository.isDateClosed(attendanceDate);
@@ -97,6 +101,7 @@ public class AttendanceDayClosureService {
      * @return Created or updated closure record
      */
     @Transactional
+    @CacheEvict(value = "attendanceClosures", key = "#attendanceDate")
     public AttendanceDayClosure closeDay(LocalDate attendanceDate, Long closedBy, String notes) {
         log.info("Closing attendance day: {}, closed by: {}", attendanceDate, closedBy);
 
@@ -157,6 +162,7 @@ public class AttendanceDayClosureService {
      * @return Updated closure record
      */
     @Transactional
+    @CacheEvict(value = "attendanceClosures", key = "#attendanceDate")
     public AttendanceDayClosure reopenDay(LocalDate attendanceDate, Long reopenedBy, String notes) {
         log.info("Reopening attendance day: {}, reopened by: {}", attendanceDate, reopenedBy);
 
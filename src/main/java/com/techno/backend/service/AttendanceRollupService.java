@@ -0,0 +1,265 @@
+package com.techno.backend.service;
+
+import com.techno.backend.dto.AttendanceRollupRebuildResponse;
+import com.techno.backend.entity.AttendanceMonthlyRollup;
+import com.techno.backend.repository.AttendanceMonthlyRollupRepository;
+import com.techno.backend.repository.AttendanceRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Service maintaining per-employee monthly attendance rollups.
+ *
+ * Every attendance write calls {@link #refresh} inside its own transaction. The
+ * employee's rollup row for the month is locked (created first with an
+ * insert-or-ignore on the unique employee/month key if missing) and recalculated with one
+ * indexed aggregate over that employee's records, so the row commits or rolls
+ * back together with the attendance change and concurrent writes for the same
+ * employee and month are applied one after the other. The refresh also marks the
+ * employee's month for payroll recalculation if its salary was already calculated.
+ *
+ * Monthly consumers read one row per employee; {@link #rebuildMonth} recalculates
+ * a whole month from raw data with one grouped query and reports any drift.
+ *
+ * @author Techno HR System
+ * @version 1.0
+ * @since Phase 4 - Attendance System
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class AttendanceRollupService {
+
+    private final AttendanceMonthlyRollupRepository rollupRepository;
+    private final AttendanceRepository attendanceRepository;
+    private final PayrollDirtyService payrollDirtyService;
+
+    /**
+     * Recalculate the rollup row of the month containing an attendance date.
+     * Must be called after the attendance record was saved or deleted.
+     *
+     * @param employeeNo Employee number
+     * @param attendanceDate Date of the changed attendance record
+     */
+    @Transactional
+    public void refresh(Long employeeNo, LocalDate attendanceDate) {
+        YearMonth month = YearMonth.from(attendanceDate);
+        String rollupMonth = month.toString();
+
+        AttendanceMonthlyRollup rollup = rollupRepository.findForUpdate(employeeNo, rollupMonth)
+                .orElseGet(() -> {
+                    // First write of the month: concurrent writers both insert-or-ignore the
+                    // row and then wait on the same row lock
+                    rollupRepository.insertIfAbsent(employeeNo, rollupMonth);
+                    return rollupRepository.findForUpdate(employeeNo, rollupMonth)
+                            .orElseThrow(() -> new IllegalStateException("Attendance rollup row missing for employee "
+                                    + employeeNo + ", month " + rollupMonth));
+                });
+
+        AttendanceRepository.MonthlyAttendanceTotals totals = attendanceRepository
+                .summarizeEmployeeMonth(employeeNo, month.atDay(1), month.atEndOfMonth())
+                .orElse(null);
+        applyTotals(rollup, totals);
+        rollupRepository.save(rollup);
+        payrollDirtyService.markAttendance(employeeNo, attendanceDate);
+
+        log.debug("Attendance rollup refreshed: employee {}, month {}, records {}",
+                employeeNo, rollupMonth, rollup.getRecordCount());
+    }
+
+    /**
+     * Get the rollup of an employee for a month.
+     * Returns an empty (all zero) rollup when the employee has no attendance in the month.
+     *
+     * @param employeeNo Employee number
+     * @param month Year-month
+     * @return Rollup row
+     */
+    @Transactional(readOnly = true)
+    public AttendanceMonthlyRollup getRollup(Long employeeNo, YearMonth month) {
+        return rollupRepository.findByEmployeeNoAndRollupMonth(employeeNo, month.toString())
+                .orElseGet(() -> AttendanceMonthlyRollup.builder()
+                        .employeeNo(employeeNo)
+                        .rollupMonth(month.toString())
+                        .build());
+    }
+
+    /**
+     * Get all rollup rows of a month.
+     *
+     * @param month Year-month
+     * @return Rollup rows ordered by employee number
+     */
+    @Transactional(readOnly = true)
+    public List<AttendanceMonthlyRollup> getMonthRollups(YearMonth month) {
+        return rollupRepository.findByRollupMonthOrderByEmployeeNo(month.toString());
+    }
+
+    /**
+     * Overtime hours per employee for a month (employees without attendance are absent from the map).
+     *
+     * @param month Year-month
+     * @return Map of employee number to overtime hours
+     */
+    @Transactional(readOnly = true)
+    public Map<Long, Double> getOvertimeHoursByEmployee(YearMonth month) {
+        return getMonthRollups(month).stream()
+                .collect(Collectors.toMap(AttendanceMonthlyRollup::getEmployeeNo,
+                        r -> r.getOvertimeHours().doubleValue()));
+    }
+
+    /**
+     * Rollup rows of active employees with at least one delayed day in a month.
+     *
+     * @param month Year-month
+     * @return Rollup rows ordered by employee number
+     */
+    @Transactional(readOnly = true)
+    public List<AttendanceMonthlyRollup> getDelayedActiveEmployees(YearMonth month) {
+        return rollupRepository.findDelayedForActiveEmployees(month.toString());
+    }
+
+    /**
+     * Recalculate all rollup rows of a month from raw attendance data.
+     *
+     * Rows that differ from the raw totals are corrected, missing rows are created
+     * and rows of employees without records in the month are reset to zero.
+     * The response lists the employees whose rows were out of date.
+     *
+     * @param month Year-month
+     * @return Verification report
+     */
+    @Transactional
+    public AttendanceRollupRebuildResponse rebuildMonth(YearMonth month) {
+        String rollupMonth = month.toString();
+        log.info("Rebuilding attendance rollups for month {}", rollupMonth);
+
+        Map<Long, AttendanceRepository.MonthlyAttendanceTotals> rawTotals = attendanceRepository
+                .summarizeMonthByEmployee(month.atDay(1), month.atEndOfMonth()).stream()
+                .collect(Collectors.toMap(AttendanceRepository.MonthlyAttendanceTotals::getEmployeeNo,
+                        Function.identity()));
+        Map<Long, AttendanceMonthlyRollup> existing = new HashMap<>(getMonthRollups(month).stream()
+                .collect(Collectors.toMap(AttendanceMonthlyRollup::getEmployeeNo, Function.identity())));
+
+        List<Long> mismatchedEmployees = new ArrayList<>();
+        List<AttendanceMonthlyRollup> changed = new ArrayList<>();
+        int created = 0;
+
+        for (AttendanceRepository.MonthlyAttendanceTotals totals : rawTotals.values()) {
+            AttendanceMonthlyRollup rollup = existing.remove(totals.getEmployeeNo());
+            if (rollup == null) {
+                rollup = AttendanceMonthlyRollup.builder()
+                        .employeeNo(totals.getEmployeeNo())
+                        .rollupMonth(rollupMonth)
+                        .build();
+                created++;
+            }
+            if (reconcile(rollup, totals)) {
+                mismatchedEmployees.add(totals.getEmployeeNo());
+                changed.add(rollup);
+            }
+        }
+        // Remaining rows have no attendance left in the month
+        for (AttendanceMonthlyRollup rollup : existing.values()) {
+            if (reconcile(rollup, null)) {
+                mismatchedEmployees.add(rollup.getEmployeeNo());
+                changed.add(rollup);
+            }
+        }
+
+        if (!changed.isEmpty()) {
+            rollupRepository.saveAll(changed);
+        }
+        mismatchedEmployees.sort(null);
+
+        log.info("Attendance rollups for {} rebuilt: {} employees checked, {} out of date ({} created)",
+                rollupMonth, rawTotals.size(), mismatchedEmployees.size(), created);
+
+        return AttendanceRollupRebuildResponse.builder()
+                .month(rollupMonth)
+                .employeesChecked(rawTotals.size())
+                .rowsCorrected(mismatchedEmployees.size())
+                .rowsCreated(created)
+                .mismatchedEmployees(mismatchedEmployees)
+                .build();
+    }
+
+    /**
+     * Apply raw totals to a rollup row if they differ.
+     *
+     * @return true if the row was out of date
+     */
+    private boolean reconcile(AttendanceMonthlyRollup rollup, AttendanceRepository.MonthlyAttendanceTotals totals) {
+        AttendanceMonthlyRollup expected = AttendanceMonthlyRollup.builder().build();
+        applyTotals(expected, totals);
+        boolean matches = rollup.getRollupId() != null
+                && expected.getWorkingHours().compareTo(rollup.getWorkingHours()) == 0
+                && expected.getOvertimeHours().compareTo(rollup.getOvertimeHours()) == 0
+                && expected.getDelayHours().compareTo(rollup.getDelayHours()) == 0
+                && expected.getEarlyOutHours().compareTo(rollup.getEarlyOutHours()) == 0
+                && expected.getShortageHours().compareTo(rollup.getShortageHours()) == 0
+                && Objects.equals(expected.getPresentDays(), rollup.getPresentDays())
+                && Objects.equals(expected.getAbsentDays(), rollup.getAbsentDays())
+                && Objects.equals(expected.getHolidayDays(), rollup.getHolidayDays())
+                && Objects.equals(expected.getWeekendDays(), rollup.getWeekendDays())
+                && Objects.equals(expected.getDelayDays(), rollup.getDelayDays())
+                && Objects.equals(expected.getRecordCount(), rollup.getRecordCount());
+        if (matches) {
+            return false;
+        }
+        applyTotals(rollup, totals);
+        return true;
+    }
+
+    private void applyTotals(AttendanceMonthlyRollup rollup, AttendanceRepository.MonthlyAttendanceTotals totals) {
+        if (totals == null) {
+            rollup.setWorkingHours(BigDecimal.ZERO);
+            rollup.setOvertimeHours(BigDecimal.ZERO);
+            rollup.setDelayHours(BigDecimal.ZERO);
+            rollup.setEarlyOutHours(BigDecimal.ZERO);
+            rollup.setShortageHours(BigDecimal.ZERO);
+            rollup.setPresentDays(0);
+            rollup.setAbsentDays(0);
+            rollup.setHolidayDays(0);
+            rollup.setWeekendDays(0);
+            rollup.setDelayDays(0);
+            rollup.setRecordCount(0);
+        } else {
+            rollup.setWorkingHours(hours(totals.getWorkingHours()));
+            rollup.setOvertimeHours(hours(totals.getOvertimeHours()));
+            rollup.setDelayHours(hours(totals.getDelayHours()));
+            rollup.setEarlyOutHours(hours(totals.getEarlyOutHours()));
+            rollup.setShortageHours(hours(totals.getShortageHours()));
+            rollup.setPresentDays(days(totals.getPresentDays()));
+            rollup.setAbsentDays(days(totals.getAbsentDays()));
+            rollup.setHolidayDays(days(totals.getHolidayDays()));
+            rollup.setWeekendDays(days(totals.getWeekendDays()));
+            rollup.setDelayDays(days(totals.getDelayDays()));
+            rollup.setRecordCount(days(totals.getRecordCount()));
+        }
+        rollup.setLastCalculatedDate(LocalDateTime.now());
+    }
+
+    private static BigDecimal hours(BigDecimal value) {
+        return value != null ? value.setScale(2, RoundingMode.HALF_UP) : BigDecimal.ZERO.setScale(2);
+    }
+
+    private static int days(Long value) {
+        return value != null ? value.intValue() : 0;
+    }
+}
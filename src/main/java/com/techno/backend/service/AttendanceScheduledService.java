@@ -45,6 +45,7 @@ public class AttendanceScheduledService {
     private final HolidayService holidayService;
     private final AttendanceDayClosureService closureService;
     private final AttendanceAllowanceDeductionService allowanceDeductionService;
+    private final AttendanceRollupService attendanceRollupService;
 
     /**
      * Automatically check out employees who forgot to check out.
@@ -218,8 +219,9 @@ public class AttendanceScheduledService {
 
         // Save updated record
         attendanceRepository.save(attendance);
+        attendanceRollupService.refresh(attendance.getEmployeeNo(), attendance.getAttendanceDate());
 
-        log.info("Auto-checkout successful for employee {} on {}. Exit time: {}",
+        log.debug("Auto-checkout successful for employee {} on {}. Exit time: {}",
                 attendance.getEmployeeNo(),
                 attendance.getAttendanceDate(),
                 exitTime);
@@ -260,8 +262,9 @@ public class AttendanceScheduledService {
         );
 
         attendanceRepository.save(absence);
+        attendanceRollupService.refresh(employee.getEmployeeNo(), date);
 
-        log.info("Absence marked for employee {} on {}", employee.getEmployeeNo(), date);
+        log.debug("Absence marked for employee {} on {}", employee.getEmployeeNo(), date);
     }
 
     /**
@@ -399,9 +402,9 @@ public class AttendanceScheduledService {
      * Runs on the last day of each month at 11:59 PM.
      *
      * Process:
-     * 1. Get all active employees
-     * 2. For each employee, aggregate delay hours for the previous month
-     * 3. Create single monthly deduction record per employee
+     * 1. Read delay hours and delay days per active employee from the monthly attendance rollups
+     * 2. Skip employees that already have the monthly deduction (one bulk lookup)
+     * 3. Save a single monthly deduction record per employee in one batch
      *
      * This ensures:
      * - Delay deductions are aggregated monthly instead of daily
@@ -427,43 +430,14 @@ public class AttendanceScheduledService {
         log.info("=".repeat(80));
 
         try {
-            // Get all active employees
-            List<Employee> activeEmployees = employeeRepository.findAllActiveEmployees();
-            if (activeEmployees.isEmpty()) {
-                log.info("No active employees found");
-                return;
-            }
-
-            log.info("Aggregating delay deductions for {} active employees...", activeEmployees.size());
-
-            int aggregatedCount = 0;
-            int noDelayCount = 0;
-            int errorCount = 0;
-
-            for (Employee employee : activeEmployees) {
-                try {
-                    EmpMonthlyDeduction deduction = allowanceDeductionService
-                            .aggregateMonthlyDelayDeductions(employee.getEmployeeNo(), currentMonth);
-
-                    if (deduction != null) {
-                        aggregatedCount++;
-                    } else {
-                        noDelayCount++;
-                    }
-
-                } catch (Exception e) {
-                    errorCount++;
-                    log.error("Failed to aggregate delays for employee {}: {}",
-                            employee.getEmployeeNo(), e.getMessage(), e);
-                }
-            }
+            long start = System.currentTimeMillis();
+            List<EmpMonthlyDeduction> deductions = allowanceDeductionService
+                    .aggregateMonthlyDelayDeductionsForAll(currentMonth);
 
             log.info("\n" + "=".repeat(80));
             log.info("Monthly Delay Aggregation Job Summary:");
-            log.info("  - Employees with delay deductions: {}", aggregatedCount);
-            log.info("  - Employees with no delays: {}", noDelayCount);
-            log.info("  - Errors: {}", errorCount);
-            log.info("  - Total employees processed: {}", activeEmployees.size());
+            log.info("  - Employees with delay deductions: {}", deductions.size());
+            log.info("  - Duration: {} ms", System.currentTimeMillis() - start);
             log.info("=".repeat(80));
 
         } catch (Exception e) {
@@ -1,6 +1,7 @@
 package com.techno.backend.service;
 
 import com.techno.backend.dto.*;
+import com.techno.backend.entity.AttendanceMonthlyRollup;
 import com.techno.backend.entity.AttendanceTransaction;
 import com.techno.backend.entity.Employee;
 import com.techno.backend.entity.EmployeeLeave;
@@ -16,12 +17,18 @@ import com.techno.backend.util.AttendanceCalculator;
 import com.techno.backend.util.GPSCalculator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import jakarta.persistence.criteria.Predicate;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
 import java.time.DayOfWeek;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -57,10 +64,20 @@ public class AttendanceService {
     private final AttendanceCalculationService calculationService;
     private final AttendanceAllowanceDeductionService attendanceAllowanceDeductionService;
     private final AttendanceDayClosureService closureService;
+    private final AttendanceRollupService attendanceRollupService;
+    private final ProjectGeofenceService projectGeofenceService;
     private final EmployeeLeaveRepository leaveRepository;
-    private final com.techno.backend.repository.ProjectLaborAssignmentRepository assignmentRepository;
+    private final LaborAvailabilityService laborAvailabilityService;
     private final com.techno.backend.repository.HolidayRepository holidayRepository;
 
+    private static final int MAX_SCROLL_PAGE_SIZE = 500;
+    private static final int MAX_CACHED_COUNTS = 1000;
+
+    private final Map<String, CachedCount> countCache = new java.util.concurrent.ConcurrentHashMap<>();
+
+    @Value("${attendance.list.count-cache-seconds:300}")
+    private long countCacheSeconds;
+
     /**
      * Employee checks in with GPS validation.
      *
@@ -70,6 +87,10 @@ public class AttendanceService {
      * - Employee hasn't already checked in today
      * - GPS coordinates are within allowed radius (if required)
      *
+     * A retry carrying the idempotency key of today's check-in returns that check-in.
+     * Concurrent check-ins that both pass the "already checked in" test are settled by
+     * the unique (employee_no, attendance_date) index; see {@link #resolveCheckInConflict}.
+     *
      * @param employeeNo Employee number (from JWT token)
      * @param request    Check-in request with GPS coordinates
      * @return Check-in response with entry details
@@ -84,12 +105,28 @@ public class AttendanceService {
         Employee employee = findEmployeeOrThrow(employeeNo);
         validateEmployeeActive(employee);
 
+        // Detect project from the GPS location when the client did not choose one
+        if (request.getProjectCode() == null) {
+            Long detectedProject = projectGeofenceService.detectProject(request.getLatitude(), request.getLongitude());
+            if (detectedProject == null) {
+                throw new BadRequestException("لا يوجد موقع مشروع يشمل موقعك الحالي. يرجى اختيار المشروع.");
+            }
+            log.info("Detected project {} from check-in location of employee {}", detectedProject, employeeNo);
+            request.setProjectCode(detectedProject);
+        }
+
         // Validate project
         Project project = findProjectOrThrow(request.getProjectCode());
 
         // Check if already checked in today
         LocalDate today = LocalDate.now();
         if (attendanceRepository.hasCheckedInToday(employeeNo, today)) {
+            AttendanceTransaction retried = findRetriedCheckIn(employeeNo, today, request.getIdempotencyKey());
+            if (retried != null) {
+                log.info("Repeated check-in request for employee {} - returning transaction {}",
+                        employeeNo, retried.getTransactionId());
+                return buildCheckInResponse(retried, employee, project);
+            }
             log.warn("Employee {} already checked in today ({})", employeeNo, today);
             throw new BadRequestException("لقد قمت بتسجيل الدخول اليوم بالفعل. يرجى تسجيل الخروج أولاً.");
         }
@@ -163,14 +200,9 @@ public class AttendanceService {
         // Validate GPS coordinates if required
         Double distanceMeters = null;
         if ("Y".equals(project.getRequireGpsCheck())) {
-            validateGPSLocation(request.getLatitude(), request.getLongitude(),
+            distanceMeters = validateGPSLocation(request.getLatitude(), request.getLongitude(),
                     project.getProjectLatitude(), project.getProjectLongitude(),
                     project.getGpsRadiusMeters(), project.getProjectName());
-
-            // Calculate actual distance
-            distanceMeters = GPSCalculator.calculateDistance(
-                    request.getLatitude(), request.getLongitude(),
-                    project.getProjectLatitude(), project.getProjectLongitude());
         }
 
         // Create attendance record
@@ -182,6 +214,7 @@ public class AttendanceService {
                 .entryLatitude(request.getLatitude())
                 .entryLongitude(request.getLongitude())
                 .entryDistanceMeters(distanceMeters)
+                .entryRequestKey(request.getIdempotencyKey())
                 .absenceFlag("N")
                 .isAutoCheckout("N")
                 .isManualEntry("N")
@@ -195,6 +228,7 @@ public class AttendanceService {
 
         // Save attendance record
         attendance = attendanceRepository.save(attendance);
+        attendanceRollupService.refresh(employeeNo, attendance.getAttendanceDate());
 
         log.info("Check-in successful for employee {} at project {}. Transaction ID: {}",
                 employeeNo, request.getProjectCode(), attendance.getTransactionId());
@@ -203,6 +237,37 @@ public class AttendanceService {
         return buildCheckInResponse(attendance, employee, project);
     }
 
+    /**
+     * Resolve a check-in rejected by the unique (employee_no, attendance_date) index.
+     *
+     * Called after the failed check-in transaction rolled back: the competing check-in
+     * has committed by then. If it carries the same idempotency key it is returned,
+     * otherwise the request is answered as an "already checked in" error.
+     *
+     * @param employeeNo Employee number (from JWT token)
+     * @param request    Check-in request that lost the race
+     * @param conflict   Constraint violation raised by the check-in
+     * @return Check-in response of the existing record
+     * @throws BadRequestException if the existing record belongs to another request
+     */
+    @Transactional(readOnly = true)
+    public CheckInResponse resolveCheckInConflict(Long employeeNo, CheckInRequest request,
+            DataIntegrityViolationException conflict) {
+        LocalDate today = LocalDate.now();
+        AttendanceTransaction existing = attendanceRepository.findByEmployeeNoAndAttendanceDate(employeeNo, today)
+                .orElseThrow(() -> conflict);
+
+        if (request.getIdempotencyKey() == null
+                || !request.getIdempotencyKey().equals(existing.getEntryRequestKey())) {
+            log.warn("Concurrent check-in for employee {} on {} rejected", employeeNo, today);
+            throw new BadRequestException("لقد قمت بتسجيل الدخول اليوم بالفعل. يرجى تسجيل الخروج أولاً.");
+        }
+
+        log.info("Concurrent repeat of check-in {} for employee {} resolved", existing.getTransactionId(), employeeNo);
+        return buildCheckInResponse(existing, findEmployeeOrThrow(employeeNo),
+                findProjectOrThrow(existing.getProjectCode()));
+    }
+
     /**
      * Employee checks out with GPS validation and automatic calculations.
      *
@@ -248,13 +313,9 @@ public class AttendanceService {
         // Validate GPS coordinates if required
         Double distanceMeters = null;
         if ("Y".equals(project.getRequireGpsCheck())) {
-            validateGPSLocation(request.getLatitude(), request.getLongitude(),
+            distanceMeters = validateGPSLocation(request.getLatitude(), request.getLongitude(),
                     project.getProjectLatitude(), project.getProjectLongitude(),
                     project.getGpsRadiusMeters(), project.getProjectName());
-
-            distanceMeters = GPSCalculator.calculateDistance(
-                    request.getLatitude(), request.getLongitude(),
-                    project.getProjectLatitude(), project.getProjectLongitude());
         }
 
         // Update attendance with exit details
@@ -274,6 +335,7 @@ public class AttendanceService {
 
         // Save updated record
         attendance = attendanceRepository.save(attendance);
+        attendanceRollupService.refresh(employeeNo, attendance.getAttendanceDate());
 
         log.info("Check-out successful for employee {}. Working hours: {}, Overtime: {}",
                 employeeNo, attendance.getWorkingHours(), attendance.getOvertimeCalc());
@@ -330,6 +392,7 @@ public class AttendanceService {
 
         // Save record
         attendance = attendanceRepository.save(attendance);
+        attendanceRollupService.refresh(attendance.getEmployeeNo(), attendance.getAttendanceDate());
 
         log.info("Manual attendance created successfully. Transaction ID: {}", attendance.getTransactionId());
 
@@ -399,6 +462,7 @@ public class AttendanceService {
         attendanceAllowanceDeductionService.processAttendanceForAllowancesDeductions(attendance);
 
         attendance = attendanceRepository.save(attendance);
+        attendanceRollupService.refresh(attendance.getEmployeeNo(), attendance.getAttendanceDate());
 
         log.info("Attendance updated successfully. Transaction ID: {}, Auto-checkout edit: {}", 
                 transactionId, isAutoCheckoutEdit);
@@ -493,45 +557,202 @@ public class AttendanceService {
         Page<AttendanceTransaction> attendancePage = attendanceRepository
                 .findAllByDateRange(startDate, endDate, employeeNo, projectCode, pageable);
 
+        // Fetch all employees and projects of the page in bulk
+        AttendanceLookups lookups = loadLookups(attendancePage.getContent());
+
+        // Map attendance records to responses
+        return attendancePage.map(attendance -> toResponse(attendance, lookups));
+    }
+
+    /**
+     * Scroll attendance records with keyset (cursor) pagination.
+     *
+     * Records are ordered by (attendance_date, transaction_id) and each page
+     * continues after the last row of the previous one, so page cost does not
+     * grow with depth and no COUNT query runs per page. The total is computed
+     * once per filter and cached for a few minutes.
+     *
+     * @param startDate   Start date (optional)
+     * @param endDate     End date (optional)
+     * @param employeeNo  Employee number (optional)
+     * @param projectCode Project code (optional)
+     * @param cursor      Cursor from the previous page (null for first page)
+     * @param size        Page size
+     * @param ascending   true for oldest first, false for newest first
+     * @return Page of attendance records with next cursor
+     * @throws BadRequestException if the cursor is invalid
+     */
+    @Transactional(readOnly = true)
+    public CursorPageResponse<AttendanceResponse> scrollAttendance(LocalDate startDate, LocalDate endDate,
+            Long employeeNo, Long projectCode,
+            String cursor, int size, boolean ascending) {
+        int pageSize = Math.max(1, Math.min(size, MAX_SCROLL_PAGE_SIZE));
+        Specification<AttendanceTransaction> filter = attendanceFilter(startDate, endDate, employeeNo, projectCode);
+
+        Specification<AttendanceTransaction> spec = filter;
+        if (cursor != null && !cursor.isBlank()) {
+            spec = filter.and(afterCursor(AttendanceCursor.decode(cursor), ascending));
+        }
+
+        Sort.Direction direction = ascending ? Sort.Direction.ASC : Sort.Direction.DESC;
+        Sort sort = Sort.by(direction, "attendanceDate").and(Sort.by(direction, "transactionId"));
+
+        // Fetch one extra row to know whether another page exists
+        List<AttendanceTransaction> rows = attendanceRepository.findBy(spec,
+                query -> query.sortBy(sort).limit(pageSize + 1).all());
+
+        boolean hasNext = rows.size() > pageSize;
+        List<AttendanceTransaction> pageRows = hasNext ? rows.subList(0, pageSize) : rows;
+
+        String nextCursor = null;
+        if (hasNext) {
+            AttendanceTransaction last = pageRows.get(pageRows.size() - 1);
+            nextCursor = new AttendanceCursor(last.getAttendanceDate(), last.getTransactionId()).encode();
+        }
+
+        AttendanceLookups lookups = loadLookups(pageRows);
+        List<AttendanceResponse> content = pageRows.stream()
+                .map(attendance -> toResponse(attendance, lookups))
+                .collect(Collectors.toList());
+
+        String countKey = startDate + "|" + endDate + "|" + employeeNo + "|" + projectCode;
+        Long total = cursor == null || cursor.isBlank()
+                ? cachedCount(countKey, filter)
+                : cachedCountIfPresent(countKey);
+
+        return CursorPageResponse.<AttendanceResponse>builder()
+                .content(content)
+                .nextCursor(nextCursor)
+                .hasNext(hasNext)
+                .pageSize(pageSize)
+                .totalElements(total)
+                .build();
+    }
+
+    private Specification<AttendanceTransaction> attendanceFilter(LocalDate startDate, LocalDate endDate,
+            Long employeeNo, Long projectCode) {
+        return (root, query, cb) -> {
+            List<Predicate> predicates = new ArrayList<>();
+            if (startDate != null) {
+                predicates.add(cb.greaterThanOrEqualTo(root.get("attendanceDate"), startDate));
+            }
+            if (endDate != null) {
+                predicates.add(cb.lessThanOrEqualTo(root.get("attendanceDate"), endDate));
+            }
+            if (employeeNo != null) {
+                predicates.add(cb.equal(root.get("employeeNo"), employeeNo));
+            }
+            if (projectCode != null) {
+                predicates.add(cb.equal(root.get("projectCode"), projectCode));
+            }
+            return cb.and(predicates.toArray(new Predicate[0]));
+        };
+    }
+
+    /**
+     * Rows strictly after the cursor in (attendance_date, transaction_id) order
+     */
+    private Specification<AttendanceTransaction> afterCursor(AttendanceCursor cursor, boolean ascending) {
+        return (root, query, cb) -> {
+            jakarta.persistence.criteria.Path<LocalDate> date = root.get("attendanceDate");
+            jakarta.persistence.criteria.Path<Long> id = root.get("transactionId");
+            if (ascending) {
+                return cb.or(cb.greaterThan(date, cursor.attendanceDate()),
+                        cb.and(cb.equal(date, cursor.attendanceDate()), cb.greaterThan(id, cursor.transactionId())));
+            }
+            return cb.or(cb.lessThan(date, cursor.attendanceDate()),
+                    cb.and(cb.equal(date, cursor.attendanceDate()), cb.lessThan(id, cursor.transactionId())));
+        };
+    }
+
+    private Long cachedCount(String key, Specification<AttendanceTransaction> filter) {
+        CachedCount cached = countCache.get(key);
+        if (cached != null && cached.expiresAt() > System.currentTimeMillis()) {
+            return cached.count();
+        }
+        long count = attendanceRepository.count(filter);
+        countCache.put(key, new CachedCount(count, System.currentTimeMillis() + countCacheSeconds * 1000L));
+        if (countCache.size() > MAX_CACHED_COUNTS) {
+            long now = System.currentTimeMillis();
+            countCache.values().removeIf(entry -> entry.expiresAt() <= now);
+        }
+        return count;
+    }
+
+    private Long cachedCountIfPresent(String key) {
+        CachedCount cached = countCache.get(key);
+        return cached != null ? cached.count() : null;
+    }
+
+    private AttendanceLookups loadLookups(List<AttendanceTransaction> records) {
         // Extract unique employee numbers and project codes
-        java.util.Set<Long> employeeNos = new java.util.HashSet<>();
-        java.util.Set<Long> projectCodes = new java.util.HashSet<>();
+        Set<Long> employeeNos = new HashSet<>();
+        Set<Long> projectCodes = new HashSet<>();
 
-        attendancePage.getContent().forEach(attendance -> {
+        records.forEach(attendance -> {
             employeeNos.add(attendance.getEmployeeNo());
             if (attendance.getProjectCode() != null) {
                 projectCodes.add(attendance.getProjectCode());
             }
         });
 
-        // Fetch all employees and projects in bulk
-        java.util.Map<Long, Employee> employeeMap = new java.util.HashMap<>();
+        Map<Long, Employee> employeeMap = new HashMap<>();
         if (!employeeNos.isEmpty()) {
             employeeRepository.findAllById(employeeNos).forEach(emp -> employeeMap.put(emp.getEmployeeNo(), emp));
         }
 
-        java.util.Map<Long, Project> projectMap = new java.util.HashMap<>();
+        Map<Long, Project> projectMap = new HashMap<>();
         if (!projectCodes.isEmpty()) {
             projectRepository.findAllById(projectCodes).forEach(proj -> projectMap.put(proj.getProjectCode(), proj));
         }
 
-        // Map attendance records to responses
-        return attendancePage.map(attendance -> {
-            Employee employee = employeeMap.get(attendance.getEmployeeNo());
-            if (employee == null) {
-                log.warn("Employee {} not found for attendance record {}", attendance.getEmployeeNo(),
-                        attendance.getTransactionId());
-                // Create a minimal employee object to avoid null pointer
-                employee = Employee.builder()
-                        .employeeNo(attendance.getEmployeeNo())
-                        .employeeName("غير معروف")
-                        .build();
+        return new AttendanceLookups(employeeMap, projectMap);
+    }
+
+    private AttendanceResponse toResponse(AttendanceTransaction attendance, AttendanceLookups lookups) {
+        Employee employee = lookups.employees().get(attendance.getEmployeeNo());
+        if (employee == null) {
+            log.warn("Employee {} not found for attendance record {}", attendance.getEmployeeNo(),
+                    attendance.getTransactionId());
+            // Create a minimal employee object to avoid null pointer
+            employee = Employee.builder()
+                    .employeeNo(attendance.getEmployeeNo())
+                    .employeeName("غير معروف")
+                    .build();
+        }
+        Project project = attendance.getProjectCode() != null
+                ? lookups.projects().get(attendance.getProjectCode())
+                : null;
+        return mapToResponse(attendance, employee, project);
+    }
+
+    private record AttendanceLookups(Map<Long, Employee> employees, Map<Long, Project> projects) {
+    }
+
+    private record CachedCount(long count, long expiresAt) {
+    }
+
+    /**
+     * Keyset position: last (attendance_date, transaction_id) of a page.
+     * Encoded as an opaque URL-safe string.
+     */
+    private record AttendanceCursor(LocalDate attendanceDate, Long transactionId) {
+
+        String encode() {
+            String raw = attendanceDate + ":" + transactionId;
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+        }
+
+        static AttendanceCursor decode(String cursor) {
+            try {
+                String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+                int separator = raw.indexOf(':');
+                return new AttendanceCursor(LocalDate.parse(raw.substring(0, separator)),
+                        Long.parseLong(raw.substring(separator + 1)));
+            } catch (RuntimeException e) {
+                throw new BadRequestException("مؤشر الصفحة غير صالح");
             }
-            Project project = attendance.getProjectCode() != null
-                    ? projectMap.get(attendance.getProjectCode())
-                    : null;
-            return mapToResponse(attendance, employee, project);
-        });
+        }
     }
 
     @Transactional(readOnly = true)
@@ -559,17 +780,9 @@ public class AttendanceService {
             project = projectRepository.findById(employee.getPrimaryProjectCode()).orElse(null);
         } else {
             // Priority 3: Check for active assignment if Priority 1 & 2 are null
-            List<com.techno.backend.entity.ProjectLaborAssignment> activeAssignments = assignmentRepository
-                    .findActiveAssignmentsByEmployee(employeeNo);
-
-            for (com.techno.backend.entity.ProjectLaborAssignment assignment : activeAssignments) {
-                if ((assignment.getStartDate().isBefore(today) || assignment.getStartDate().isEqual(today)) &&
-                        (assignment.getEndDate() == null || assignment.getEndDate().isAfter(today)
-                                || assignment.getEndDate().isEqual(today))) {
-                    project = projectRepository.findById(assignment.getProjectCode()).orElse(null);
-                    if (project != null)
-                        break;
-                }
+            Long assignedProjectCode = laborAvailabilityService.findProjectOn(employeeNo, today);
+            if (assignedProjectCode != null) {
+                project = projectRepository.findById(assignedProjectCode).orElse(null);
             }
         }
 
@@ -609,6 +822,8 @@ public class AttendanceService {
     /**
      * Get employee timesheet for a specific month.
      * Returns day-by-day attendance status with summary statistics.
+     * Overtime and late hour totals come from the employee's monthly attendance
+     * rollup, the same figures the month-end delay deduction uses.
      *
      * @param employeeNo Employee number
      * @param month      Month in YYYY-MM format
@@ -637,10 +852,6 @@ public class AttendanceService {
                 .filter(leave -> "A".equals(leave.getTransStatus()))
                 .collect(Collectors.toList());
 
-        // Get project assignments for the month to check for "No Project" status
-        List<com.techno.backend.entity.ProjectLaborAssignment> assignments = assignmentRepository
-                .findOverlappingAssignments(employeeNo, monthStart, monthEnd);
-
         // Build day-by-day calendar
         List<TimesheetResponse.TimesheetDay> days = new ArrayList<>();
         int present = 0;
@@ -648,8 +859,6 @@ public class AttendanceService {
         int onLeave = 0;
         int late = 0;
         int weekends = 0;
-        BigDecimal totalOvertimeHours = BigDecimal.ZERO;
-        BigDecimal totalLateHours = BigDecimal.ZERO;
 
         // Create a map of attendance by date
         Map<LocalDate, AttendanceTransaction> attendanceMap = attendances.stream()
@@ -714,12 +923,6 @@ public class AttendanceService {
                         present++;
                         if (wasLate) {
                             late++;
-                            if (attendance.getDelayedCalc() != null) {
-                                totalLateHours = totalLateHours.add(attendance.getDelayedCalc());
-                            }
-                        }
-                        if (attendance.getOvertimeCalc() != null) {
-                            totalOvertimeHours = totalOvertimeHours.add(attendance.getOvertimeCalc());
                         }
                     }
                 } else {
@@ -730,10 +933,7 @@ public class AttendanceService {
                         day.setTextColor("#9CA3AF");
                     } else {
                         // Check if employee had a project assignment on this date
-                        final LocalDate finalCurrentDate = currentDate;
-                        boolean hasProject = assignments.stream()
-                                .anyMatch(a -> !finalCurrentDate.isBefore(a.getStartDate()) &&
-                                        (a.getEndDate() == null || !finalCurrentDate.isAfter(a.getEndDate())));
+                        boolean hasProject = laborAvailabilityService.findProjectOn(employeeNo, currentDate) != null;
 
                         if (hasProject) {
                             day.setStatus("غائب");
@@ -754,6 +954,8 @@ public class AttendanceService {
             currentDate = currentDate.plusDays(1);
         }
 
+        AttendanceMonthlyRollup rollup = attendanceRollupService.getRollup(employeeNo, yearMonth);
+
         return TimesheetResponse.builder()
                 .employeeNo(employeeNo)
                 .employeeName(employee.getEmployeeName())
@@ -764,8 +966,8 @@ public class AttendanceService {
                 .onLeave(onLeave)
                 .late(late)
                 .weekends(weekends)
-                .totalOvertimeHours(totalOvertimeHours)
-                .totalLateHours(totalLateHours)
+                .totalOvertimeHours(rollup.getOvertimeHours())
+                .totalLateHours(rollup.getDelayHours())
                 .days(days)
                 .build();
     }
@@ -782,6 +984,7 @@ public class AttendanceService {
 
         AttendanceTransaction attendance = findAttendanceOrThrow(transactionId);
         attendanceRepository.delete(attendance);
+        attendanceRollupService.refresh(attendance.getEmployeeNo(), attendance.getAttendanceDate());
 
         log.info("Attendance deleted successfully");
     }
@@ -798,6 +1001,18 @@ public class AttendanceService {
                 .orElseThrow(() -> new ResourceNotFoundException("المشروع غير موجود برقم: " + projectCode));
     }
 
+    /**
+     * Today's check-in of the employee if it was created with the given idempotency key.
+     */
+    private AttendanceTransaction findRetriedCheckIn(Long employeeNo, LocalDate date, String idempotencyKey) {
+        if (idempotencyKey == null) {
+            return null;
+        }
+        return attendanceRepository.findByEmployeeNoAndAttendanceDate(employeeNo, date)
+                .filter(existing -> idempotencyKey.equals(existing.getEntryRequestKey()))
+                .orElse(null);
+    }
+
     private AttendanceTransaction findAttendanceOrThrow(Long transactionId) {
         return attendanceRepository.findById(transactionId)
                 .orElseThrow(() -> new ResourceNotFoundException("سجل الحضور غير موجود برقم: " + transactionId));
@@ -809,7 +1024,12 @@ public class AttendanceService {
         }
     }
 
-    private void validateGPSLocation(java.math.BigDecimal empLat, java.math.BigDecimal empLon,
+    /**
+     * Validate that the employee is within the project radius.
+     *
+     * @return Distance from the project location in meters
+     */
+    private Double validateGPSLocation(java.math.BigDecimal empLat, java.math.BigDecimal empLon,
             java.math.BigDecimal projLat, java.math.BigDecimal projLon,
             Integer radiusMeters, String projectName) {
 
@@ -821,15 +1041,19 @@ public class AttendanceService {
             throw new BadRequestException("إحداثيات GPS المقدمة غير صالحة.");
         }
 
-        boolean withinRadius = GPSCalculator.isWithinRadius(empLat, empLon, projLat, projLon, radiusMeters);
-        if (!withinRadius) {
-            Double distance = GPSCalculator.calculateDistance(empLat, empLon, projLat, projLon);
+        if (radiusMeters == null || radiusMeters < 0) {
+            throw new IllegalArgumentException("يجب أن يكون النطاق المسموح غير فارغ وغير سالب");
+        }
+
+        Double distance = GPSCalculator.calculateDistance(empLat, empLon, projLat, projLon);
+        if (distance > radiusMeters) {
             String formattedDistance = GPSCalculator.formatDistance(distance);
 
             throw new BadRequestException(
                     String.format("فشل التحقق من GPS. أنت على بعد %s من %s (المسموح: %d م)",
                             formattedDistance, projectName, radiusMeters));
         }
+        return distance;
     }
 
     private CheckInResponse buildCheckInResponse(AttendanceTransaction attendance,
@@ -967,24 +1191,12 @@ public class AttendanceService {
                         projectCode, attendance.getTransactionId(), employee.getEmployeeNo());
             } else {
                 // Priority 3: Check for active labor assignment for the attendance date
-                try {
-                    List<com.techno.backend.entity.ProjectLaborAssignment> activeAssignments = 
-                            assignmentRepository.findActiveAssignmentsByEmployee(employee.getEmployeeNo());
-                    
-                    LocalDate attendanceDate = attendance.getAttendanceDate();
-                    for (com.techno.backend.entity.ProjectLaborAssignment assignment : activeAssignments) {
-                        if ((assignment.getStartDate().isBefore(attendanceDate) || assignment.getStartDate().isEqual(attendanceDate)) &&
-                                (assignment.getEndDate() == null || assignment.getEndDate().isAfter(attendanceDate)
-                                        || assignment.getEndDate().isEqual(attendanceDate))) {
-                            projectCode = assignment.getProjectCode();
-                            log.debug("Found active assignment: project {} for transaction {} (employee {}, date {})",
-                                    projectCode, attendance.getTransactionId(), employee.getEmployeeNo(), attendanceDate);
-                            break;
-                        }
-                    }
-                } catch (Exception e) {
-                    log.warn("Error finding labor assignment for transaction {}: {}", 
-                            attendance.getTransactionId(), e.getMessage());
+                projectCode = laborAvailabilityService.findProjectOn(
+                        employee.getEmployeeNo(), attendance.getAttendanceDate());
+                if (projectCode != null) {
+                    log.debug("Found active assignment: project {} for transaction {} (employee {}, date {})",
+                            projectCode, attendance.getTransactionId(), employee.getEmployeeNo(),
+                            attendance.getAttendanceDate());
                 }
             }
         }
@@ -1034,22 +1246,8 @@ public class AttendanceService {
                 projectCode = employee.getPrimaryProjectCode();
             } else {
                 // Check for active labor assignment for the attendance date
-                try {
-                    List<com.techno.backend.entity.ProjectLaborAssignment> activeAssignments = 
-                            assignmentRepository.findActiveAssignmentsByEmployee(employee.getEmployeeNo());
-                    
-                    LocalDate attendanceDate = attendance.getAttendanceDate();
-                    for (com.techno.backend.entity.ProjectLaborAssignment assignment : activeAssignments) {
-                        if ((assignment.getStartDate().isBefore(attendanceDate) || assignment.getStartDate().isEqual(attendanceDate)) &&
-                                (assignment.getEndDate() == null || assignment.getEndDate().isAfter(attendanceDate)
-                                        || assignment.getEndDate().isEqual(attendanceDate))) {
-                            projectCode = assignment.getProjectCode();
-                            break;
-                        }
-                    }
-                } catch (Exception e) {
-                    log.debug("Error finding project for response mapping: {}", e.getMessage());
-                }
+                projectCode = laborAvailabilityService.findProjectOn(
+                        employee.getEmployeeNo(), attendance.getAttendanceDate());
             }
             
             // If we found a projectCode, fetch the project entity
@@ -12,7 +12,9 @@ import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.YearMonth;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Service for dashboard statistics and data aggregation.
@@ -30,11 +32,10 @@ public class DashboardService {
     private final EmployeeRepository employeeRepository;
     private final ProjectRepository projectRepository;
     private final SalaryHeaderRepository salaryHeaderRepository;
-    private final LeaveService leaveService;
-    private final LoanService loanService;
-    private final AllowanceService allowanceService;
+    private final ApprovalInboxService approvalInboxService;
     private final EmployeeService employeeService;
     private final AttendanceRepository attendanceRepository;
+    private final AttendanceRollupService attendanceRollupService;
 
     /**
      * Get dashboard statistics.
@@ -49,8 +50,6 @@ public class DashboardService {
         // Get current month in YYYY-MM format
         YearMonth currentYearMonth = YearMonth.now();
         String currentMonth = currentYearMonth.toString(); // e.g., "2025-12"
-        LocalDate monthStart = currentYearMonth.atDay(1);
-        LocalDate monthEnd = currentYearMonth.atEndOfMonth();
 
         // Employee counts
         Long totalEmployees = employeeRepository.count();
@@ -63,24 +62,19 @@ public class DashboardService {
         // Monthly payroll - sum netSalary for current month (latest versions only)
         BigDecimal monthlyPayroll = BigDecimal.ZERO;
         try {
-            List<com.techno.backend.entity.SalaryHeader> salaries = salaryHeaderRepository
-                    .findAllLatestBySalaryMonth(currentMonth);
-            monthlyPayroll = salaries.stream()
-                    .map(com.techno.backend.entity.SalaryHeader::getNetSalary)
-                    .reduce(BigDecimal.ZERO, BigDecimal::add);
+            BigDecimal netTotal = salaryHeaderRepository.sumLatestNetSalaryBySalaryMonth(currentMonth);
+            if (netTotal != null) {
+                monthlyPayroll = netTotal;
+            }
         } catch (Exception e) {
             log.warn("Error calculating monthly payroll: {}", e.getMessage());
         }
 
-        // Pending approvals - sum of pending leaves, loans, and allowances for current
-        // approver
+        // Pending approvals - all request types waiting for the current approver (one count query)
         long pendingApprovals = 0;
         if (currentEmployeeNo != null) {
             try {
-                long pendingLeaves = leaveService.getPendingLeavesForApprover(currentEmployeeNo).size();
-                long pendingLoans = loanService.getPendingLoansForApprover(currentEmployeeNo).size();
-                long pendingAllowances = allowanceService.getPendingAllowances(currentEmployeeNo).size();
-                pendingApprovals = pendingLeaves + pendingLoans + pendingAllowances;
+                pendingApprovals = approvalInboxService.countAllPending(currentEmployeeNo);
             } catch (Exception e) {
                 log.warn("Error calculating pending approvals: {}", e.getMessage());
             }
@@ -98,9 +92,9 @@ public class DashboardService {
         long overtimeAlerts = 0;
         try {
             List<Employee> activeEmployeesList = employeeRepository.findAllActiveEmployees();
+            Map<Long, Double> overtimeByEmployee = attendanceRollupService.getOvertimeHoursByEmployee(currentYearMonth);
             for (Employee employee : activeEmployeesList) {
-                Double overtimeHours = attendanceRepository.sumOvertimeHours(
-                        employee.getEmployeeNo(), monthStart, monthEnd);
+                Double overtimeHours = overtimeByEmployee.get(employee.getEmployeeNo());
                 if (overtimeHours != null && overtimeHours >= 50.0) {
                     overtimeAlerts++;
                 }
@@ -162,8 +156,19 @@ public class DashboardService {
         int daysInMonth = monthEnd.getDayOfMonth();
         int daysPerWeek = (int) Math.ceil(daysInMonth / 4.0);
 
-        // Get all active employees to calculate attendance
-        List<Employee> activeEmployees = employeeRepository.findAllActiveEmployees();
+        // Present/absent counts per active employee and day for the whole month (one query),
+        // bucketed per week and employee: [0] = attendance days, [1] = absence days
+        long activeEmployees = employeeRepository.countActiveEmployees();
+        List<Map<Long, long[]>> weekCounts = new ArrayList<>();
+        for (int week = 1; week <= 4; week++) {
+            weekCounts.add(new HashMap<>());
+        }
+        for (AttendanceRepository.EmployeeDayCounts day : attendanceRepository.countActiveEmployeeDays(monthStart, monthEnd)) {
+            int week = Math.min(3, (day.getAttendanceDate().getDayOfMonth() - 1) / daysPerWeek);
+            long[] counts = weekCounts.get(week).computeIfAbsent(day.getEmployeeNo(), k -> new long[2]);
+            counts[0] += day.getPresentCount();
+            counts[1] += day.getAbsentCount();
+        }
 
         for (int week = 1; week <= 4; week++) {
             LocalDate weekStart = monthStart.plusDays((week - 1) * daysPerWeek);
@@ -177,27 +182,20 @@ public class DashboardService {
             long absentCount = 0;
             long onLeaveCount = 0;
 
-            for (Employee employee : activeEmployees) {
-                Long attendanceDays = attendanceRepository.countAttendanceDays(
-                        employee.getEmployeeNo(), weekStart, weekEnd);
-                Long absenceDays = attendanceRepository.countAbsenceDays(
-                        employee.getEmployeeNo(), weekStart, weekEnd);
-
-                if (attendanceDays != null && attendanceDays > 0) {
-                    presentCount += attendanceDays;
-                }
-                if (absenceDays != null && absenceDays > 0) {
-                    absentCount += absenceDays;
-                }
-                // On leave calculation would require checking leave records
-                // For now, estimate based on difference
-                long expectedDays = java.time.temporal.ChronoUnit.DAYS.between(weekStart, weekEnd) + 1;
-                long accountedDays = (attendanceDays != null ? attendanceDays : 0) +
-                        (absenceDays != null ? absenceDays : 0);
+            // On leave calculation would require checking leave records
+            // For now, estimate based on difference
+            long expectedDays = java.time.temporal.ChronoUnit.DAYS.between(weekStart, weekEnd) + 1;
+            Map<Long, long[]> employeeCounts = weekCounts.get(week - 1);
+            for (long[] counts : employeeCounts.values()) {
+                presentCount += counts[0];
+                absentCount += counts[1];
+                long accountedDays = counts[0] + counts[1];
                 if (accountedDays < expectedDays) {
                     onLeaveCount += (expectedDays - accountedDays);
                 }
             }
+            // Active employees without any record this week
+            onLeaveCount += Math.max(0, activeEmployees - employeeCounts.size()) * expectedDays;
 
             present.add(presentCount);
             absent.add(absentCount);
@@ -54,6 +54,7 @@ public class DeductionService {
     private final TransactionTypeRepository transactionTypeRepository;
     private final ApprovalWorkflowService approvalWorkflowService;
     private final ApplicationEventPublisher eventPublisher;
+    private final PayrollDirtyService payrollDirtyService;
 
     private static final String REQUEST_TYPE = "DEDUCT";
 
@@ -124,6 +125,9 @@ public class DeductionService {
                 .build();
 
         deduction = deductionRepository.save(deduction);
+        if ("A".equals(deduction.getTransStatus())) {
+            payrollDirtyService.markDeduction(deduction);
+        }
 
         log.info("Deduction submitted successfully: {}", deduction.getTransactionNo());
 
@@ -146,7 +150,7 @@ public class DeductionService {
         log.info("Approving deduction {} by approver {}", deductionId, approverNo);
 
         // Validate deduction exists
-        EmpMonthlyDeduction deduction = deductionRepository.findById(deductionId)
+        EmpMonthlyDeduction deduction = deductionRepository.findByIdWithDetails(deductionId)
                 .orElseThrow(() -> new ResourceNotFoundException(
                         "Ø§Ù„Ø®ØµÙ… ØºÙŠØ± Ù…ÙˆØ¬ÙˆØ¯: " + deductionId));
 
@@ -201,6 +205,7 @@ public class DeductionService {
 
             // Save and publish approval notification
             deduction = deductionRepository.save(deduction);
+            payrollDirtyService.markDeduction(deduction);
             TransactionType transactionType = transactionTypeRepository.findById(deduction.getTypeCode())
                     .orElse(null);
             publishDeductionApprovedNotification(deduction, employee, transactionType);
@@ -227,7 +232,7 @@ public class DeductionService {
         log.info("Rejecting deduction {} by approver {}", deductionId, approverNo);
 
         // Validate deduction exists
-        EmpMonthlyDeduction deduction = deductionRepository.findById(deductionId)
+        EmpMonthlyDeduction deduction = deductionRepository.findByIdWithDetails(deductionId)
                 .orElseThrow(() -> new ResourceNotFoundException(
                         "Ø§Ù„Ø®ØµÙ… ØºÙŠØ± Ù…ÙˆØ¬ÙˆØ¯: " + deductionId));
 
@@ -308,6 +313,7 @@ public class DeductionService {
         // Cancel deduction
         deduction.setTransStatus("C");
         deductionRepository.save(deduction);
+        payrollDirtyService.markDeduction(deduction);
 
         log.info("Deduction {} cancelled by {}", deductionId, requestorNo);
     }
@@ -391,7 +397,7 @@ public class DeductionService {
      */
     @Transactional(readOnly = true)
     public EmpMonthlyDeduction getDeductionById(Long deductionId) {
-        return deductionRepository.findById(deductionId)
+        return deductionRepository.findByIdWithDetails(deductionId)
                 .orElseThrow(() -> new ResourceNotFoundException(
                         "Ø§Ù„Ø®ØµÙ… ØºÙŠØ± Ù…ÙˆØ¬ÙˆØ¯: " + deductionId));
     }
@@ -1,6 +1,7 @@
 package com.techno.backend.service;
 
 import com.techno.backend.constant.DepartmentConstants;
+import com.techno.backend.constants.TypeaheadType;
 import com.techno.backend.dto.DepartmentRequest;
 import com.techno.backend.dto.DepartmentResponse;
 import com.techno.backend.entity.Department;
@@ -29,6 +30,7 @@ public class DepartmentService {
     private final DepartmentRepository departmentRepository;
     private final EmployeeRepository employeeRepository;
     private final UserService userService;
+    private final TypeaheadService typeaheadService;
 
     /**
      * Get all departments
@@ -91,6 +93,7 @@ public class DepartmentService {
                 .build();
 
         Department saved = departmentRepository.save(department);
+        updateTypeahead(saved);
         log.info("Department created successfully: {} ({})", saved.getDeptName(), saved.getDeptCode());
         return mapToResponse(saved);
     }
@@ -142,6 +145,7 @@ public class DepartmentService {
         department.setDeptMgrCode(request.getDeptMgrCode());
 
         Department saved = departmentRepository.save(department);
+        updateTypeahead(saved);
         log.info("Department updated successfully: {} ({})", saved.getDeptName(), saved.getDeptCode());
         return mapToResponse(saved);
     }
@@ -173,6 +177,7 @@ public class DepartmentService {
 
         department.setIsActive(DepartmentConstants.INACTIVE);
         departmentRepository.save(department);
+        updateTypeahead(department);
         log.info("Department deleted (deactivated): {} ({})", department.getDeptName(), department.getDeptCode());
     }
 
@@ -269,6 +274,14 @@ public class DepartmentService {
         return false;
     }
 
+    /**
+     * Keep the typeahead index in step with a saved department.
+     */
+    private void updateTypeahead(Department department) {
+        typeaheadService.update(TypeaheadType.DEPARTMENT, department.getDeptCode(), department.getDeptName(),
+                DepartmentConstants.ACTIVE.equals(department.getIsActive()));
+    }
+
     /**
      * Map Department entity to DepartmentResponse DTO
      *
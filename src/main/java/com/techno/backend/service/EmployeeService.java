@@ -1,10 +1,12 @@
 package com.techno.backend.service;
 
+import com.techno.backend.constants.TypeaheadType;
 import com.techno.backend.dto.*;
 import com.techno.backend.entity.*;
 import com.techno.backend.exception.BadRequestException;
 import com.techno.backend.exception.ResourceNotFoundException;
 import com.techno.backend.repository.*;
+import com.techno.backend.util.ArabicTextNormalizer;
 import jakarta.persistence.criteria.Predicate;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -17,6 +19,7 @@ import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
 import java.util.stream.Collectors;
 
 /**
@@ -39,6 +42,8 @@ public class EmployeeService {
     private final SalaryBreakdownPercentageRepository salaryBreakdownRepository;
     private final EmpPayrollTransactionRepository empPayrollTransactionRepository;
     private final UserService userService;
+    private final TypeaheadService typeaheadService;
+    private final PayrollDirtyService payrollDirtyService;
 
     private static final int DEFAULT_DOCUMENT_EXPIRY_THRESHOLD_DAYS = 14;
 
@@ -141,6 +146,7 @@ public class EmployeeService {
         // Create employee entity
         Employee employee = mapToEntity(request);
         employee = employeeRepository.save(employee);
+        updateTypeahead(employee);
 
         log.info("Employee created successfully with ID: {}", employee.getEmployeeNo());
 
@@ -208,10 +214,13 @@ public class EmployeeService {
         // Check if salary or category changed - need to recalculate breakdown
         boolean salaryChanged = !employee.getMonthlySalary().equals(request.getMonthlySalary());
         boolean categoryChanged = !employee.getEmployeeCategory().equals(request.getEmployeeCategory());
+        LocalDate oldHireDate = employee.getHireDate();
+        LocalDate oldTerminationDate = employee.getTerminationDate();
 
         // Update employee fields
         updateEmployeeFields(employee, request);
         employee = employeeRepository.save(employee);
+        updateTypeahead(employee);
 
         // Recalculate salary breakdown if salary or category changed
         if (salaryChanged || categoryChanged) {
@@ -219,6 +228,13 @@ public class EmployeeService {
             recalculateSalaryBreakdown(employee);
         }
 
+        // Calculated payrolls affected by the change need recalculation
+        LocalDate payrollChangeDate = payrollChangeDate(salaryChanged || categoryChanged,
+                oldHireDate, employee.getHireDate(), oldTerminationDate, employee.getTerminationDate());
+        if (payrollChangeDate != null) {
+            payrollDirtyService.markEmployees(List.of(employeeNo), payrollChangeDate);
+        }
+
         log.info("Employee updated successfully: {}", employeeNo);
         return mapToResponse(employee);
     }
@@ -236,6 +252,8 @@ public class EmployeeService {
         employee.setTerminationReason("Deleted by system administrator");
 
         employeeRepository.save(employee);
+        updateTypeahead(employee);
+        payrollDirtyService.markEmployees(List.of(employeeNo), employee.getTerminationDate());
         log.info("Employee soft-deleted successfully: {}", employeeNo);
     }
 
@@ -390,6 +408,34 @@ public class EmployeeService {
         initializeSalaryBreakdown(employee);
     }
 
+    /**
+     * First day a change to salary fields affects payroll, or null if none changed.
+     * Salary and category changes apply from the current month, hire and
+     * termination date changes from the earlier of the old and new dates.
+     */
+    private LocalDate payrollChangeDate(boolean salaryChanged, LocalDate oldHireDate, LocalDate newHireDate,
+                                        LocalDate oldTerminationDate, LocalDate newTerminationDate) {
+        LocalDate from = salaryChanged ? LocalDate.now().withDayOfMonth(1) : null;
+        if (!Objects.equals(oldHireDate, newHireDate)) {
+            from = earliest(from, earliest(oldHireDate, newHireDate));
+        }
+        if (!Objects.equals(oldTerminationDate, newTerminationDate)) {
+            from = earliest(from, earliest(oldTerminationDate, newTerminationDate));
+        }
+        return from;
+    }
+
+    private static boolean isNumeric(String text) {
+        return text.chars().allMatch(Character::isDigit);
+    }
+
+    private static LocalDate earliest(LocalDate a, LocalDate b) {
+        if (a == null) {
+            return b;
+        }
+        return b == null || a.isBefore(b) ? a : b;
+    }
+
     /**
      * Build search specification from search criteria
      */
@@ -397,30 +443,13 @@ public class EmployeeService {
         return (root, query, criteriaBuilder) -> {
             List<Predicate> predicates = new ArrayList<>();
 
-            // Search text (name or national ID)
+            // Search text: digits are matched against the national ID, anything else against
+            // the stored normalized name. One column per query, so either index can be used.
             if (searchRequest.getSearchText() != null && !searchRequest.getSearchText().isBlank()) {
-                String originalSearchText = searchRequest.getSearchText().toLowerCase();
-                String normalizedSearchText = normalizeArabicText(originalSearchText);
-                String likePattern = "%" + normalizedSearchText + "%";
-
-                // Normalize DB columns for comparison
-                jakarta.persistence.criteria.Expression<String> employeeNameExp = root.get("employeeName");
-                jakarta.persistence.criteria.Expression<String> normalizedNameExp = applyArabicNormalization(
-                        employeeNameExp, criteriaBuilder);
-
-                // For National ID, we just check original and normalized text just in case,
-                // though it's usually numeric
-                // But sometimes people search name in the "search text" field which covers both
-                jakarta.persistence.criteria.Expression<String> nationalIdExp = root.get("nationalId");
-
-                Predicate namePredicate = criteriaBuilder.or(
-                        // Match normalized name against normalized query
-                        criteriaBuilder.like(normalizedNameExp, likePattern),
-                        // Also match original (non-normalized) just in case
-                        criteriaBuilder.like(criteriaBuilder.lower(employeeNameExp), "%" + originalSearchText + "%"),
-                        // Match national ID
-                        criteriaBuilder.like(criteriaBuilder.lower(nationalIdExp), "%" + originalSearchText + "%"));
-                predicates.add(namePredicate);
+                String searchText = searchRequest.getSearchText().trim();
+                String likePattern = ArabicTextNormalizer.containsPattern(searchText);
+                String column = isNumeric(searchText) ? "nationalId" : "searchKey";
+                predicates.add(criteriaBuilder.like(root.<String>get(column), likePattern, '\\'));
             }
 
             // Filter by employee category
@@ -460,56 +489,11 @@ public class EmployeeService {
     }
 
     /**
-     * Normalize Arabic text for search.
-     * Unifies Alef forms, Ta Marbuta/Ha, and Ya/Alef Maqsura.
-     */
-    /**
-     * Normalize Arabic text for search.
-     * Unifies Alef forms, Ta Marbuta/Ha, Ya/Alef Maqsura, and removes Tashkeel
-     * (Diacritics).
-     */
-    private String normalizeArabicText(String text) {
-        if (text == null)
-            return null;
-        text = text.replaceAll("[\\u064B-\\u065F]", ""); // Remove all Tashkeel/Diacritics
-        return text
-                .replaceAll("[أإآ]", "ا") // Normalize Alefs
-                .replaceAll("ة", "ه") // Normalize Ta Marbuta to Ha
-                .replaceAll("ى", "ي"); // Normalize Alef Maqsura to Ya
-    }
-
-    /**
-     * Build a CriteriaBuilder expression to normalize Arabic text in the database.
-     * Applies nested REPLACE functions for chars and diacritics.
+     * Keep the typeahead index in step with a saved employee.
      */
-    private jakarta.persistence.criteria.Expression<String> applyArabicNormalization(
-            jakarta.persistence.criteria.Expression<String> expression,
-            jakarta.persistence.criteria.CriteriaBuilder cb) {
-
-        jakarta.persistence.criteria.Expression<String> exp = expression;
-
-        // Strip Diacritics (Tashkeel) - Range 064B to 0652 usually
-        // Common ones: Fathatan, Dammatan, Kasratan, Fatha, Damma, Kasra, Shadda, Sukun
-        char[] diacritics = {
-                '\u064B', '\u064C', '\u064D', '\u064E', '\u064F', '\u0650', '\u0651', '\u0652'
-        };
-
-        for (char d : diacritics) {
-            exp = cb.function("REPLACE", String.class, exp, cb.literal(String.valueOf(d)), cb.literal(""));
-        }
-
-        // Normalize Alefs (أ, إ, آ -> ا)
-        exp = cb.function("REPLACE", String.class, exp, cb.literal("أ"), cb.literal("ا"));
-        exp = cb.function("REPLACE", String.class, exp, cb.literal("إ"), cb.literal("ا"));
-        exp = cb.function("REPLACE", String.class, exp, cb.literal("آ"), cb.literal("ا"));
-
-        // Normalize Ta Marbuta (ة -> ه)
-        exp = cb.function("REPLACE", String.class, exp, cb.literal("ة"), cb.literal("ه"));
-
-        // Normalize Alef Maqsura (ى -> ي)
-        exp = cb.function("REPLACE", String.class, exp, cb.literal("ى"), cb.literal("ي"));
-
-        return exp;
+    private void updateTypeahead(Employee employee) {
+        typeaheadService.update(TypeaheadType.EMPLOYEE, employee.getEmployeeNo(), employee.getEmployeeName(),
+                !"TERMINATED".equals(employee.getEmploymentStatus()));
     }
 
     /**
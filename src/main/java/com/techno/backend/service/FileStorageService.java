@@ -1,37 +1,66 @@
 package com.techno.backend.service;
 
 import com.techno.backend.entity.Attachment;
+import com.techno.backend.entity.FileBlob;
+import com.techno.backend.event.FileBlobStoredEvent;
 import com.techno.backend.exception.BadRequestException;
 import com.techno.backend.exception.ResourceNotFoundException;
 import com.techno.backend.repository.AttachmentRepository;
+import com.techno.backend.repository.FileBlobRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.core.io.Resource;
 import org.springframework.core.io.UrlResource;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.StringUtils;
 import org.springframework.web.multipart.MultipartFile;
 
+import javax.imageio.ImageIO;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.net.MalformedURLException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.FileAlreadyExistsException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.nio.file.StandardCopyOption;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
 import java.util.Arrays;
+import java.util.HexFormat;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
 /**
  * Service class for File Storage management.
  * Handles file upload, download, and deletion operations.
  *
- * Files are stored in the file system with the following structure:
- * /uploads/{year}/{month}/{filename}
+ * Files are stored content-addressed: each upload is hashed (SHA-256) while it
+ * is streamed to a temporary file, and unique content is kept once under
+ * /uploads/blobs/{hash[0..2]}/{hash[2..4]}/{hash}. Attachments sharing the same
+ * content reference one {@link FileBlob} with a reference count, so uploading a
+ * duplicate costs no extra disk write. Unreferenced blobs are removed by the
+ * scheduled garbage collector after a grace period.
+ *
+ * A new blob file is announced with a {@link FileBlobStoredEvent}: the
+ * thumbnail is created asynchronously after commit, and the file is removed
+ * again if the upload transaction rolls back.
+ *
+ * Legacy files stored under /uploads/{year}/{month}/{filename} are still served
+ * and deleted directly.
  *
  * @author Techno ERP Team
  * @version 2.0
@@ -42,6 +71,8 @@ import java.util.UUID;
 public class FileStorageService {
 
     private final AttachmentRepository attachmentRepository;
+    private final FileBlobRepository fileBlobRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Value("${file.upload-dir:uploads}")
     private String uploadDir;
@@ -49,6 +80,19 @@ public class FileStorageService {
     @Value("${file.max-size-mb:10}")
     private long maxFileSizeMB;
 
+    @Value("${file.thumbnail.enabled:true}")
+    private boolean thumbnailEnabled;
+
+    @Value("${file.thumbnail.max-dimension:256}")
+    private int thumbnailMaxDimension;
+
+    @Value("${file.gc.grace-hours:24}")
+    private long gcGraceHours;
+
+    private static final String BLOB_DIR = "blobs";
+    private static final String TEMP_DIR = "tmp";
+    private static final String HASH_ALGORITHM = "SHA-256";
+
     // Allowed file types
     private static final List<String> ALLOWED_CONTENT_TYPES = Arrays.asList(
             "application/pdf",
@@ -66,7 +110,11 @@ public class FileStorageService {
     );
 
     /**
-     * Upload file and create attachment record
+     * Upload file and create attachment record.
+     *
+     * The content is hashed while streamed to a temporary file. If a blob with
+     * the same hash already exists the temporary file is discarded and only the
+     * blob reference count is incremented.
      */
     @Transactional
     public Attachment uploadFile(MultipartFile file, String referenceType, Long referenceId,
@@ -76,48 +124,68 @@ public class FileStorageService {
         // Validate file
         validateFile(file);
 
-        // Generate unique filename
         String originalFilename = StringUtils.cleanPath(file.getOriginalFilename());
+        Path tempFile = null;
 
         try {
-            String uniqueFilename = generateUniqueFilename(originalFilename);
+            // Stream upload to temp file while hashing: uploads/tmp/<uuid>
+            Path tempPath = Paths.get(uploadDir, TEMP_DIR);
+            Files.createDirectories(tempPath);
+            tempFile = tempPath.resolve(UUID.randomUUID().toString());
+
+            MessageDigest digest = MessageDigest.getInstance(HASH_ALGORITHM);
+            long size;
+            try (InputStream in = new DigestInputStream(file.getInputStream(), digest)) {
+                size = Files.copy(in, tempFile, StandardCopyOption.REPLACE_EXISTING);
+            }
+            String contentHash = HexFormat.of().formatHex(digest.digest());
 
-            // Create directory structure: uploads/YYYY/MM/
-            LocalDateTime now = LocalDateTime.now();
-            String year = now.format(DateTimeFormatter.ofPattern("yyyy"));
-            String month = now.format(DateTimeFormatter.ofPattern("MM"));
+            // Move into content-addressed location unless the content is already stored
+            Path blobPath = resolveBlobPath(contentHash);
+            boolean newBlob = storeBlob(tempFile, blobPath);
+            String storagePath = blobPath.toString();
 
-            Path uploadPath = Paths.get(uploadDir, year, month);
-            Files.createDirectories(uploadPath);
+            fileBlobRepository.addReference(contentHash, storagePath, size, file.getContentType());
 
-            // Copy file to destination
-            Path destinationPath = uploadPath.resolve(uniqueFilename);
-            Files.copy(file.getInputStream(), destinationPath, StandardCopyOption.REPLACE_EXISTING);
+            // A concurrent garbage collection may have removed the file between the
+            // existence check and the reference registration - restore it in that case
+            if (!newBlob && Files.notExists(blobPath) && Files.exists(tempFile)) {
+                storeBlob(tempFile, blobPath);
+                newBlob = true;
+            }
 
-            // Create relative path for database storage
-            String relativePath = String.format("/%s/%s/%s/%s", uploadDir, year, month, uniqueFilename);
+            if (newBlob) {
+                eventPublisher.publishEvent(new FileBlobStoredEvent(this, contentHash, storagePath,
+                        thumbnailEnabled && isImageContentType(file.getContentType())));
+            }
 
             // Create attachment record
             Attachment attachment = Attachment.builder()
                     .referenceType(referenceType)
                     .referenceId(referenceId)
                     .fileName(originalFilename)
-                    .filePath(relativePath)
-                    .fileSize(file.getSize())
+                    .filePath(storagePath)
+                    .contentHash(contentHash)
+                    .fileSize(size)
                     .fileType(file.getContentType())
                     .uploadedBy(uploadedBy)
-                    .uploadedDate(now)
+                    .uploadedDate(LocalDateTime.now())
                     .description(description)
                     .build();
 
             attachment = attachmentRepository.save(attachment);
-            log.info("File uploaded successfully: {}", attachment.getAttachmentId());
+            log.info("File uploaded successfully: {} (hash: {}, deduplicated: {})",
+                    attachment.getAttachmentId(), contentHash, !newBlob);
 
             return attachment;
 
         } catch (IOException e) {
             log.error("Failed to upload file: {}", originalFilename, e);
             throw new BadRequestException("فشل تحميل الملف: " + e.getMessage());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(HASH_ALGORITHM + " not available", e);
+        } finally {
+            deleteQuietly(tempFile);
         }
     }
 
@@ -131,6 +199,13 @@ public class FileStorageService {
         Attachment attachment = attachmentRepository.findById(attachmentId)
                 .orElseThrow(() -> new ResourceNotFoundException("المرفق غير موجود برقم: " + attachmentId));
 
+        return downloadFile(attachment);
+    }
+
+    /**
+     * Download the file of an attachment already loaded by the caller
+     */
+    public Resource downloadFile(Attachment attachment) {
         try {
             Path filePath = Paths.get(attachment.getFilePath()).normalize();
             Resource resource = new UrlResource(filePath.toUri());
@@ -158,6 +233,60 @@ public class FileStorageService {
                 .orElseThrow(() -> new ResourceNotFoundException("المرفق غير موجود برقم: " + attachmentId));
     }
 
+    /**
+     * Download thumbnail derivative of an image attachment already loaded by
+     * the caller. Falls back to the original file when no thumbnail exists.
+     */
+    @Transactional(readOnly = true)
+    public Resource downloadThumbnail(Attachment attachment) {
+        if (attachment.isContentAddressed()) {
+            FileBlob blob = fileBlobRepository.findById(attachment.getContentHash()).orElse(null);
+            if (blob != null && blob.hasThumbnail()) {
+                try {
+                    Resource resource = new UrlResource(Paths.get(blob.getThumbnailPath()).normalize().toUri());
+                    if (resource.exists() && resource.isReadable()) {
+                        return resource;
+                    }
+                } catch (MalformedURLException e) {
+                    log.warn("Invalid thumbnail path: {}", blob.getThumbnailPath());
+                }
+            }
+        }
+
+        return downloadFile(attachment);
+    }
+
+    /**
+     * Verify integrity of a stored attachment by re-hashing its content.
+     *
+     * @return true if the stored content matches the recorded hash
+     *         (legacy attachments without hash are only checked for existence)
+     */
+    @Transactional(readOnly = true)
+    public boolean verifyIntegrity(Long attachmentId) {
+        Attachment attachment = getAttachment(attachmentId);
+        Path filePath = Paths.get(attachment.getFilePath()).normalize();
+
+        if (Files.notExists(filePath)) {
+            log.warn("Integrity check failed - file missing for attachment {}: {}", attachmentId, filePath);
+            return false;
+        }
+        if (!attachment.isContentAddressed()) {
+            return true;
+        }
+
+        try {
+            boolean valid = attachment.getContentHash().equals(hashFile(filePath));
+            if (!valid) {
+                log.warn("Integrity check failed - hash mismatch for attachment {}", attachmentId);
+            }
+            return valid;
+        } catch (IOException e) {
+            log.error("Failed to verify attachment {}: {}", attachmentId, e.getMessage());
+            return false;
+        }
+    }
+
     /**
      * Get all attachments for a reference
      */
@@ -177,7 +306,8 @@ public class FileStorageService {
     }
 
     /**
-     * Delete attachment (deletes file and database record)
+     * Delete attachment (releases blob reference and deletes database record).
+     * The physical blob is removed by the garbage collector once unreferenced.
      */
     @Transactional
     public void deleteAttachment(Long attachmentId) {
@@ -186,14 +316,10 @@ public class FileStorageService {
         Attachment attachment = attachmentRepository.findById(attachmentId)
                 .orElseThrow(() -> new ResourceNotFoundException("المرفق غير موجود برقم: " + attachmentId));
 
-        // Delete physical file
-        try {
-            Path filePath = Paths.get(attachment.getFilePath()).normalize();
-            Files.deleteIfExists(filePath);
-            log.info("Physical file deleted: {}", filePath);
-        } catch (IOException e) {
-            log.warn("Failed to delete physical file: {}", attachment.getFilePath(), e);
-            // Continue with database deletion even if file deletion fails
+        if (attachment.isContentAddressed()) {
+            fileBlobRepository.releaseReferences(attachment.getContentHash(), 1, LocalDateTime.now());
+        } else {
+            deleteLegacyFile(attachment);
         }
 
         // Delete database record
@@ -202,7 +328,8 @@ public class FileStorageService {
     }
 
     /**
-     * Delete all attachments for a reference
+     * Delete all attachments for a reference.
+     * Blob references are released with one update per distinct content hash.
      */
     @Transactional
     public void deleteAttachmentsByReference(String referenceType, Long referenceId) {
@@ -210,21 +337,114 @@ public class FileStorageService {
 
         List<Attachment> attachments = attachmentRepository.findByReferenceTypeAndReferenceId(referenceType, referenceId);
 
-        for (Attachment attachment : attachments) {
-            // Delete physical file
-            try {
-                Path filePath = Paths.get(attachment.getFilePath()).normalize();
-                Files.deleteIfExists(filePath);
-            } catch (IOException e) {
-                log.warn("Failed to delete physical file: {}", attachment.getFilePath(), e);
-            }
-        }
+        Map<String, Long> referencesByHash = attachments.stream()
+                .filter(Attachment::isContentAddressed)
+                .collect(Collectors.groupingBy(Attachment::getContentHash, Collectors.counting()));
+
+        LocalDateTime now = LocalDateTime.now();
+        referencesByHash.forEach((hash, count) ->
+                fileBlobRepository.releaseReferences(hash, count.intValue(), now));
+
+        attachments.stream()
+                .filter(attachment -> !attachment.isContentAddressed())
+                .forEach(this::deleteLegacyFile);
 
         // Delete database records
         attachmentRepository.deleteByReferenceTypeAndReferenceId(referenceType, referenceId);
         log.info("All attachments deleted for {}/{}", referenceType, referenceId);
     }
 
+    /**
+     * Background garbage collection of unreferenced blobs.
+     *
+     * Runs daily at 03:30 AM Saudi Arabia time. Only blobs orphaned for longer than
+     * the grace period are collected; the database row is removed first (guarded by
+     * reference_count = 0) and the files only when that delete succeeded, so a blob
+     * re-referenced by a concurrent upload is never lost.
+     *
+     * @return Number of blobs collected
+     */
+    @Scheduled(cron = "0 30 3 * * *", zone = "Asia/Riyadh")
+    public int collectOrphanedBlobs() {
+        LocalDateTime cutoff = LocalDateTime.now().minusHours(gcGraceHours);
+        List<FileBlob> orphans = fileBlobRepository.findOrphanedBefore(cutoff);
+
+        if (orphans.isEmpty()) {
+            log.debug("No orphaned file blobs to collect");
+            return 0;
+        }
+
+        int collected = 0;
+        long freedBytes = 0;
+        for (FileBlob blob : orphans) {
+            if (fileBlobRepository.deleteIfOrphaned(blob.getContentHash()) == 0) {
+                continue;
+            }
+            deleteQuietly(Paths.get(blob.getStoragePath()));
+            if (blob.hasThumbnail()) {
+                deleteQuietly(Paths.get(blob.getThumbnailPath()));
+            }
+            collected++;
+            freedBytes += blob.getFileSize() != null ? blob.getFileSize() : 0;
+        }
+
+        log.info("File blob garbage collection: {} blobs removed, {} bytes freed", collected, freedBytes);
+        return collected;
+    }
+
+    /**
+     * Create a downscaled JPEG thumbnail next to the blob.
+     * Called after the upload commits; failures are logged only - the thumbnail
+     * is an optional derivative.
+     */
+    @Transactional
+    public void createThumbnail(String contentHash, String storagePath) {
+        Path blobPath = Paths.get(storagePath);
+        try {
+            BufferedImage source = ImageIO.read(blobPath.toFile());
+            if (source == null) {
+                return;
+            }
+
+            double scale = Math.min(1.0, (double) thumbnailMaxDimension
+                    / Math.max(source.getWidth(), source.getHeight()));
+            int width = Math.max(1, (int) Math.round(source.getWidth() * scale));
+            int height = Math.max(1, (int) Math.round(source.getHeight() * scale));
+
+            BufferedImage thumbnail = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+            Graphics2D graphics = thumbnail.createGraphics();
+            try {
+                graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+                graphics.drawImage(source, 0, 0, width, height, null);
+            } finally {
+                graphics.dispose();
+            }
+
+            Path thumbnailPath = blobPath.resolveSibling(contentHash + "_thumb.jpg");
+            ImageIO.write(thumbnail, "jpg", thumbnailPath.toFile());
+            fileBlobRepository.updateThumbnailPath(contentHash, thumbnailPath.toString());
+            log.debug("Thumbnail created for blob {}: {}x{}", contentHash, width, height);
+        } catch (IOException | RuntimeException e) {
+            log.warn("Failed to create thumbnail for blob {}: {}", contentHash, e.getMessage());
+        }
+    }
+
+    /**
+     * Remove the blob file written by an upload whose transaction rolled back.
+     * The file is kept if another upload of the same content has committed a
+     * blob record in the meantime.
+     *
+     * @return true if the file was removed
+     */
+    public boolean discardUncommittedBlob(String contentHash, String storagePath) {
+        if (fileBlobRepository.existsById(contentHash)) {
+            return false;
+        }
+        deleteQuietly(Paths.get(storagePath));
+        log.info("Removed blob {} of rolled back upload", contentHash);
+        return true;
+    }
+
     // ===== Private Helper Methods =====
 
     /**
@@ -281,19 +501,84 @@ public class FileStorageService {
     }
 
     /**
-     * Generate unique filename to prevent collisions
+     * Resolve content-addressed blob location: uploads/blobs/ab/cd/abcd...
      */
-    private String generateUniqueFilename(String originalFilename) {
-        String fileExtension = getFileExtension(originalFilename);
-        String filenameWithoutExtension = originalFilename.substring(0, originalFilename.lastIndexOf("."));
+    private Path resolveBlobPath(String contentHash) {
+        return Paths.get(uploadDir, BLOB_DIR, contentHash.substring(0, 2), contentHash.substring(2, 4), contentHash);
+    }
+
+    /**
+     * Move temp file into blob location if not already present.
+     *
+     * @return true if a new blob file was written
+     */
+    private boolean storeBlob(Path tempFile, Path blobPath) throws IOException {
+        if (Files.exists(blobPath)) {
+            return false;
+        }
+        Files.createDirectories(blobPath.getParent());
+        try {
+            Files.move(tempFile, blobPath, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            try {
+                Files.move(tempFile, blobPath);
+            } catch (FileAlreadyExistsException alreadyStored) {
+                return false;
+            }
+        } catch (FileAlreadyExistsException alreadyStored) {
+            // Same content stored concurrently
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Compute SHA-256 hash of a stored file
+     */
+    private String hashFile(Path filePath) throws IOException {
+        try {
+            MessageDigest digest = MessageDigest.getInstance(HASH_ALGORITHM);
+            try (InputStream in = new DigestInputStream(Files.newInputStream(filePath), digest)) {
+                in.transferTo(OutputStream.nullOutputStream());
+            }
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(HASH_ALGORITHM + " not available", e);
+        }
+    }
 
-        // Clean filename (remove special characters)
-        filenameWithoutExtension = filenameWithoutExtension.replaceAll("[^a-zA-Z0-9_-]", "_");
+    /**
+     * Check if content type is an image with a thumbnail derivative
+     */
+    private boolean isImageContentType(String contentType) {
+        return contentType != null && contentType.toLowerCase().startsWith("image/");
+    }
 
-        // Generate UUID
-        String uuid = UUID.randomUUID().toString();
+    /**
+     * Delete physical file of a legacy (non content-addressed) attachment
+     */
+    private void deleteLegacyFile(Attachment attachment) {
+        try {
+            Path filePath = Paths.get(attachment.getFilePath()).normalize();
+            Files.deleteIfExists(filePath);
+            log.info("Physical file deleted: {}", filePath);
+        } catch (IOException e) {
+            // Continue with database deletion even if file deletion fails
+            log.warn("Failed to delete physical file: {}", attachment.getFilePath(), e);
+        }
+    }
 
-        // Combine: cleanedName_UUID.extension
-        return String.format("%s_%s.%s", filenameWithoutExtension, uuid, fileExtension);
+    /**
+     * Delete file ignoring errors
+     */
+    private void deleteQuietly(Path path) {
+        if (path == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.warn("Failed to delete file: {}", path, e);
+        }
     }
 }
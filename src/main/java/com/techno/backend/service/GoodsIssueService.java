@@ -36,15 +36,17 @@ public class GoodsIssueService {
 
     /**
      * CRITICAL: Validate and decrease balance
-     * This method ensures we NEVER allow negative balances
+     * This method ensures we NEVER allow negative balances.
+     * Issues go out at the moving-average cost of the (locked) balance;
+     * reversals come back at unitCost, the cost the original issue went out at.
      */
     private void updateStoreBalance(ProjectStore store, StoreItem item, BigDecimal quantity,
-                                     String transactionType, Long referenceId) {
+                                     BigDecimal unitCost, String transactionType, Long referenceId) {
         log.info("Decreasing store balance: store={}, item={}, quantity={}",
                 store.getStoreCode(), item.getItemCode(), quantity);
 
         StoreBalance balance = balanceRepository
-                .findByStoreAndItem(store.getStoreCode(), item.getItemCode())
+                .findByStoreAndItemForUpdate(store.getStoreCode(), item.getItemCode())
                 .orElseThrow(() -> new BadRequestException("Ù„Ù… ÙŠØªÙ… Ø§Ù„Ø¹Ø«ÙˆØ± Ø¹Ù„Ù‰ Ø±ØµÙŠØ¯ Ù„Ù„ØµÙ†Ù ÙÙŠ Ù‡Ø°Ø§ Ø§Ù„Ù…Ø®Ø²Ù†"));
 
         BigDecimal oldBalance = balance.getQuantityOnHand();
@@ -59,7 +61,16 @@ public class GoodsIssueService {
                             quantity.abs()));
         }
 
-        balance.setQuantityOnHand(newBalance);
+        // Update balance and value (quantity is negative for issues, positive for reversals)
+        BigDecimal movementCost;
+        BigDecimal totalCost;
+        if (quantity.signum() < 0) {
+            movementCost = balance.getAverageCost();
+            totalCost = balance.issue(quantity.negate()).negate();
+        } else {
+            totalCost = balance.receive(quantity, unitCost);
+            movementCost = unitCost != null ? unitCost : balance.getAverageCost();
+        }
         balance.setLastTransactionDate(LocalDateTime.now());
         balanceRepository.save(balance);
 
@@ -73,6 +84,9 @@ public class GoodsIssueService {
                 .referenceType("GOODS_ISSUE")
                 .referenceId(referenceId)
                 .balanceAfter(newBalance)
+                .unitCost(movementCost)
+                .totalCost(totalCost)
+                .valueAfter(balance.getTotalValue())
                 .build();
         transactionRepository.save(transaction);
 
@@ -159,7 +173,7 @@ public class GoodsIssueService {
             StoreItem item = line.getItem();
 
             // CRITICAL: Update balance (ISSUE = SUBTRACT quantity, so pass negative)
-            updateStoreBalance(store, item, line.getQuantity().negate(), "ISSUE", issue.getIssueId());
+            updateStoreBalance(store, item, line.getQuantity().negate(), null, "ISSUE", issue.getIssueId());
         }
 
         log.info("Goods issue created successfully with {} lines", issue.getIssueLines().size());
@@ -210,6 +224,14 @@ public class GoodsIssueService {
         ProjectStore originalStore = issue.getStore();
         java.util.Map<Long, BigDecimal> originalQuantities = new java.util.HashMap<>();
         java.util.Map<Long, BigDecimal> balancesBeforeRestore = new java.util.HashMap<>();
+
+        // Cost each item was last issued at, so the restored stock returns at the same value
+        java.util.Map<Long, BigDecimal> issueCosts = new java.util.HashMap<>();
+        for (StoreTransaction issued : transactionRepository.findByReference("GOODS_ISSUE", issueId, "ISSUE")) {
+            if (issued.getUnitCost() != null) {
+                issueCosts.putIfAbsent(issued.getItem().getItemCode(), issued.getUnitCost());
+            }
+        }
         
         for (GoodsIssueLine originalLine : issue.getIssueLines()) {
             if (!Boolean.TRUE.equals(originalLine.getIsDeleted())) {
@@ -228,7 +250,8 @@ public class GoodsIssueService {
                 balancesBeforeRestore.put(item.getItemCode(), balanceBefore);
                 
                 // Add back the original quantity (restore stock) - use original store
-                updateStoreBalance(originalStore, item, originalLine.getQuantity(), "ISSUE_REVERSAL", issueId);
+                updateStoreBalance(originalStore, item, originalLine.getQuantity(),
+                        issueCosts.get(item.getItemCode()), "ISSUE_REVERSAL", issueId);
                 log.info("Restored {} units of item {} to stock in store {}. Balance before: {}, after restore should be: {}",
                         originalLine.getQuantity(), item.getItemName(), originalStore.getStoreCode(),
                         balanceBefore, balanceBefore.add(originalLine.getQuantity()));
@@ -328,7 +351,7 @@ public class GoodsIssueService {
         for (GoodsIssueLine line : issue.getIssueLines()) {
             StoreItem item = line.getItem();
             // CRITICAL: Update balance (ISSUE = SUBTRACT quantity, so pass negative)
-            updateStoreBalance(store, item, line.getQuantity().negate(), "ISSUE", issue.getIssueId());
+            updateStoreBalance(store, item, line.getQuantity().negate(), null, "ISSUE", issue.getIssueId());
         }
 
         log.info("Goods issue updated successfully with {} lines", issue.getIssueLines().size());
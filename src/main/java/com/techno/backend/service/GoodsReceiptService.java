@@ -18,7 +18,9 @@ import org.springframework.transaction.annotation.Transactional;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 @Service
@@ -36,17 +38,19 @@ public class GoodsReceiptService {
 
     /**
      * CRITICAL: Balance tracking algorithm - INCREASE balance
-     * This method is ACID-compliant and prevents data corruption
+     * This method is ACID-compliant and prevents data corruption.
+     * The balance row is locked, and its moving-average cost is updated with the
+     * unit cost of the receipt (current average cost when unitCost is null).
      */
     @Transactional
     public void updateStoreBalance(ProjectStore store, StoreItem item, BigDecimal quantity,
-                                     String transactionType, Long referenceId) {
-        log.info("Updating store balance: store={}, item={}, quantity={}, type={}",
-                store.getStoreCode(), item.getItemCode(), quantity, transactionType);
+                                     BigDecimal unitCost, String transactionType, Long referenceId) {
+        log.info("Updating store balance: store={}, item={}, quantity={}, unitCost={}, type={}",
+                store.getStoreCode(), item.getItemCode(), quantity, unitCost, transactionType);
 
         // Find or create balance
         StoreBalance balance = balanceRepository
-                .findByStoreAndItem(store.getStoreCode(), item.getItemCode())
+                .findByStoreAndItemForUpdate(store.getStoreCode(), item.getItemCode())
                 .orElseGet(() -> {
                     log.info("Creating new balance record for store={}, item={}",
                             store.getStoreCode(), item.getItemCode());
@@ -70,8 +74,8 @@ public class GoodsReceiptService {
                             oldBalance, quantity.abs()));
         }
 
-        // Update balance
-        balance.setQuantityOnHand(newBalance);
+        // Update balance and moving-average cost
+        BigDecimal value = balance.receive(quantity, unitCost);
         balance.setLastTransactionDate(LocalDateTime.now());
         balanceRepository.save(balance);
 
@@ -85,11 +89,14 @@ public class GoodsReceiptService {
                 .referenceType("GOODS_RECEIPT")
                 .referenceId(referenceId)
                 .balanceAfter(newBalance)
+                .unitCost(unitCost != null ? unitCost : balance.getAverageCost())
+                .totalCost(value)
+                .valueAfter(balance.getTotalValue())
                 .build();
         transactionRepository.save(transaction);
 
-        log.info("Balance updated successfully: oldBalance={}, newBalance={}, item={}",
-                oldBalance, newBalance, item.getItemName());
+        log.info("Balance updated successfully: oldBalance={}, newBalance={}, averageCost={}, item={}",
+                oldBalance, newBalance, balance.getAverageCost(), item.getItemName());
     }
 
     @Transactional
@@ -139,6 +146,7 @@ public class GoodsReceiptService {
         log.info("Set createdBy to: {} for goods receipt: {}", receipt.getCreatedBy(), receiptNumber);
 
         // Add receipt lines
+        Map<Long, BigDecimal> unitPrices = getUnitPrices(po);
         for (GoodsReceiptLineRequest lineRequest : request.getReceiptLines()) {
             StoreItem item = itemRepository.findById(lineRequest.getItemCode())
                     .orElseThrow(() -> new ResourceNotFoundException("Ø§Ù„ØµÙ†Ù ØºÙŠØ± Ù…ÙˆØ¬ÙˆØ¯: " + lineRequest.getItemCode()));
@@ -147,6 +155,7 @@ public class GoodsReceiptService {
                     .goodsReceipt(receipt)
                     .item(item)
                     .quantity(lineRequest.getQuantity())
+                    .unitPrice(unitPrices.get(item.getItemCode()))
                     .notes(lineRequest.getNotes())
                     .isDeleted(false)
                     .build();
@@ -165,7 +174,7 @@ public class GoodsReceiptService {
 
             StoreItem item = line.getItem();
             // CRITICAL: Update balance (RECEIPT = ADD quantity)
-            updateStoreBalance(store, item, line.getQuantity(), "RECEIPT", receipt.getReceiptId());
+            updateStoreBalance(store, item, line.getQuantity(), line.getUnitPrice(), "RECEIPT", receipt.getReceiptId());
         }
 
         // Update PO status if applicable
@@ -179,6 +188,24 @@ public class GoodsReceiptService {
         return mapToResponse(receipt);
     }
 
+    /**
+     * Unit price per item on a purchase order (first non-deleted line of each item),
+     * built once per receipt instead of scanning the order lines for every receipt line.
+     */
+    private Map<Long, BigDecimal> getUnitPrices(PurchaseOrder po) {
+        Map<Long, BigDecimal> unitPrices = new HashMap<>();
+        if (po == null || po.getOrderLines() == null) {
+            return unitPrices;
+        }
+        for (PurchaseOrderLine poLine : po.getOrderLines()) {
+            if (poLine.getItem() != null && poLine.getUnitPrice() != null
+                    && !Boolean.TRUE.equals(poLine.getIsDeleted())) {
+                unitPrices.putIfAbsent(poLine.getItem().getItemCode(), poLine.getUnitPrice());
+            }
+        }
+        return unitPrices;
+    }
+
     private String generateReceiptNumber() {
         // Generate receipt number in format: GR-YYYYMMDD-XXXX
         String prefix = "GR-" + LocalDate.now().format(java.time.format.DateTimeFormatter.ofPattern("yyyyMMdd")) + "-";
@@ -232,6 +259,7 @@ public class GoodsReceiptService {
 
         // Clear and update receipt lines
         receipt.getReceiptLines().clear();
+        Map<Long, BigDecimal> unitPrices = getUnitPrices(po);
         for (GoodsReceiptLineRequest lineRequest : request.getReceiptLines()) {
             StoreItem item = itemRepository.findById(lineRequest.getItemCode())
                     .orElseThrow(() -> new ResourceNotFoundException("Ø§Ù„ØµÙ†Ù ØºÙŠØ± Ù…ÙˆØ¬ÙˆØ¯: " + lineRequest.getItemCode()));
@@ -240,6 +268,7 @@ public class GoodsReceiptService {
                     .goodsReceipt(receipt)
                     .item(item)
                     .quantity(lineRequest.getQuantity())
+                    .unitPrice(unitPrices.get(item.getItemCode()))
                     .notes(lineRequest.getNotes())
                     .isDeleted(false)
                     .build();
@@ -362,29 +391,11 @@ public class GoodsReceiptService {
                     .itemName(line.getItem().getItemName());
         }
 
-        // If receipt has PO, try to get unit price from PO line
-        if (line.getGoodsReceipt().getPurchaseOrder() != null) {
-            PurchaseOrder po = line.getGoodsReceipt().getPurchaseOrder();
-            
-            // Ensure orderLines are loaded (might be lazy)
-            if (po.getOrderLines() == null || po.getOrderLines().isEmpty()) {
-                // Fetch PO with orderLines if not loaded
-                po = purchaseOrderRepository.findById(po.getPoId())
-                        .orElse(null);
-            }
-            
-            if (po != null && po.getOrderLines() != null) {
-                po.getOrderLines().stream()
-                        .filter(poLine -> poLine.getItem() != null && 
-                                poLine.getItem().getItemCode().equals(line.getItem().getItemCode()))
-                        .filter(poLine -> !Boolean.TRUE.equals(poLine.getIsDeleted()))
-                        .findFirst()
-                        .ifPresent(poLine -> {
-                            builder.unitPrice(poLine.getUnitPrice());
-                            if (poLine.getUnitPrice() != null && line.getQuantity() != null) {
-                                builder.lineTotal(line.getQuantity().multiply(poLine.getUnitPrice()));
-                            }
-                        });
+        // Unit price stored from the PO line when the goods were received
+        if (line.getUnitPrice() != null) {
+            builder.unitPrice(line.getUnitPrice());
+            if (line.getQuantity() != null) {
+                builder.lineTotal(line.getQuantity().multiply(line.getUnitPrice()));
             }
         }
 
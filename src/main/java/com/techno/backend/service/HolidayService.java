@@ -8,6 +8,7 @@ import com.techno.backend.exception.ResourceNotFoundException;
 import com.techno.backend.repository.HolidayRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -130,6 +131,7 @@ public class HolidayService {
      * @return Created holiday
      */
     @Transactional
+    @CacheEvict(value = "holidays", allEntries = true)
     public HolidayResponse createHoliday(HolidayRequest request) {
         log.info("Creating new holiday: {} on {}", request.getHolidayName(), request.getHolidayDate());
 
@@ -154,6 +156,7 @@ public class HolidayService {
      * @return Updated holiday
      */
     @Transactional
+    @CacheEvict(value = "holidays", allEntries = true)
     public HolidayResponse updateHoliday(Long holidayId, HolidayRequest request) {
         log.info("Updating holiday ID: {}", holidayId);
 
@@ -180,6 +183,7 @@ public class HolidayService {
      * @param holidayId Holiday ID
      */
     @Transactional
+    @CacheEvict(value = "holidays", allEntries = true)
     public void deleteHoliday(Long holidayId) {
         log.info("Deleting holiday ID: {}", holidayId);
 
@@ -0,0 +1,167 @@
+package com.techno.backend.service;
+
+import com.techno.backend.dto.payroll.IncrementalPayrollResponse;
+import com.techno.backend.entity.PayrollDirtyMonth;
+import com.techno.backend.entity.SalaryHeader;
+import com.techno.backend.repository.EmployeeRepository;
+import com.techno.backend.repository.SalaryHeaderRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Service for incremental payroll runs.
+ *
+ * Recalculates only the (employee, month) pairs marked by
+ * {@link PayrollDirtyService}, each through
+ * {@link PayrollCalculationService#recalculatePayroll} in its own transaction,
+ * and reports the old and new totals of every recalculated salary.
+ *
+ * A mark is cleared after its recalculation commits, unless it was marked
+ * again in the meantime. A failed recalculation leaves the mark in place for
+ * the next run.
+ *
+ * Approved salaries are only recalculated when their month is given
+ * explicitly. A run over all months reports them as SKIPPED and keeps their
+ * marks, so an old correction (e.g. of a hire date) does not reopen every
+ * approved month back to it.
+ *
+ * @author Techno HR System
+ * @version 1.0
+ * @since Phase 4 - Payroll System
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class IncrementalPayrollService {
+
+    public static final String STATUS_RECALCULATED = "RECALCULATED";
+    public static final String STATUS_SKIPPED = "SKIPPED";
+    public static final String STATUS_FAILED = "FAILED";
+
+    private final PayrollDirtyService payrollDirtyService;
+    private final PayrollCalculationService payrollCalculationService;
+    private final SalaryHeaderRepository salaryHeaderRepository;
+    private final EmployeeRepository employeeRepository;
+
+    /**
+     * Recalculate every dirty payroll of a month, or of all months.
+     *
+     * @param salaryMonth Month (YYYY-MM), or null for all dirty months of unapproved salaries
+     * @param reason Recalculation reason; defaults to the inputs that changed
+     * @return Result per recalculated employee and month
+     */
+    public IncrementalPayrollResponse recalculateDirty(String salaryMonth, String reason) {
+        List<PayrollDirtyMonth> marks = payrollDirtyService.getDirtyMonths(salaryMonth);
+        log.info("Incremental payroll run for {}: {} dirty employee months",
+                salaryMonth != null ? salaryMonth : "all months", marks.size());
+
+        Set<Long> employeeNos = marks.stream().map(PayrollDirtyMonth::getEmployeeNo).collect(Collectors.toSet());
+        Map<Long, String> employeeNames = employeeNos.isEmpty() ? Map.of()
+                : employeeRepository.findNamesByEmployeeNoIn(employeeNos).stream()
+                        .filter(e -> e.getEmployeeName() != null)
+                        .collect(Collectors.toMap(EmployeeRepository.EmployeeName::getEmployeeNo,
+                                EmployeeRepository.EmployeeName::getEmployeeName));
+
+        List<IncrementalPayrollResponse.EmployeeResult> results = new ArrayList<>(marks.size());
+        for (PayrollDirtyMonth mark : marks) {
+            IncrementalPayrollResponse.EmployeeResult.EmployeeResultBuilder result =
+                    IncrementalPayrollResponse.EmployeeResult.builder()
+                            .employeeNo(mark.getEmployeeNo())
+                            .employeeName(employeeNames.get(mark.getEmployeeNo()))
+                            .salaryMonth(mark.getSalaryMonth())
+                            .changeSources(mark.getChangeSources());
+
+            SalaryHeader before = salaryHeaderRepository
+                    .findLatestByEmployeeAndMonth(mark.getEmployeeNo(), mark.getSalaryMonth())
+                    .orElse(null);
+            if (before == null) {
+                payrollDirtyService.clear(mark);
+                results.add(result.status(STATUS_SKIPPED)
+                        .message("لا يوجد راتب محسوب لهذا الشهر")
+                        .build());
+                continue;
+            }
+
+            if (salaryMonth == null && before.isApproved()) {
+                results.add(result.status(STATUS_SKIPPED)
+                        .oldVersion(before.getSalaryVersion())
+                        .oldNetSalary(before.getNetSalary())
+                        .message("الراتب معتمد، حدد الشهر لإعادة احتسابه")
+                        .build());
+                continue;
+            }
+
+            try {
+                SalaryHeader after = payrollCalculationService.recalculatePayroll(mark.getEmployeeNo(),
+                        mark.getSalaryMonth(),
+                        reason != null && !reason.isBlank() ? reason : "تعديل بيانات: " + mark.getChangeSources());
+                payrollDirtyService.clear(mark);
+
+                results.add(result.status(STATUS_RECALCULATED)
+                        .oldVersion(before.getSalaryVersion())
+                        .newVersion(after.getSalaryVersion())
+                        .oldGrossSalary(before.getGrossSalary())
+                        .newGrossSalary(after.getGrossSalary())
+                        .oldTotalAllowances(before.getTotalAllowances())
+                        .newTotalAllowances(after.getTotalAllowances())
+                        .oldTotalDeductions(before.getTotalDeductions())
+                        .newTotalDeductions(after.getTotalDeductions())
+                        .oldNetSalary(before.getNetSalary())
+                        .newNetSalary(after.getNetSalary())
+                        .netDifference(difference(before.getNetSalary(), after.getNetSalary()))
+                        .changed(!sameAmount(before.getGrossSalary(), after.getGrossSalary())
+                                || !sameAmount(before.getTotalAllowances(), after.getTotalAllowances())
+                                || !sameAmount(before.getTotalDeductions(), after.getTotalDeductions())
+                                || !sameAmount(before.getNetSalary(), after.getNetSalary()))
+                        .build());
+            } catch (RuntimeException e) {
+                log.error("Incremental payroll failed for employee {} month {}: {}",
+                        mark.getEmployeeNo(), mark.getSalaryMonth(), e.getMessage(), e);
+                results.add(result.status(STATUS_FAILED)
+                        .oldVersion(before.getSalaryVersion())
+                        .oldNetSalary(before.getNetSalary())
+                        .message(e.getMessage())
+                        .build());
+            }
+        }
+
+        List<IncrementalPayrollResponse.EmployeeResult> recalculated = results.stream()
+                .filter(r -> STATUS_RECALCULATED.equals(r.getStatus()))
+                .toList();
+        IncrementalPayrollResponse response = IncrementalPayrollResponse.builder()
+                .salaryMonth(salaryMonth)
+                .dirtyCount(marks.size())
+                .recalculatedCount(recalculated.size())
+                .changedCount((int) recalculated.stream().filter(IncrementalPayrollResponse.EmployeeResult::getChanged).count())
+                .skippedCount((int) results.stream().filter(r -> STATUS_SKIPPED.equals(r.getStatus())).count())
+                .failedCount((int) results.stream().filter(r -> STATUS_FAILED.equals(r.getStatus())).count())
+                .totalNetDifference(recalculated.stream()
+                        .map(IncrementalPayrollResponse.EmployeeResult::getNetDifference)
+                        .filter(Objects::nonNull)
+                        .reduce(BigDecimal.ZERO, BigDecimal::add))
+                .results(results)
+                .build();
+
+        log.info("Incremental payroll run completed: {} recalculated, {} changed, {} skipped, {} failed",
+                response.getRecalculatedCount(), response.getChangedCount(), response.getSkippedCount(),
+                response.getFailedCount());
+        return response;
+    }
+
+    private static BigDecimal difference(BigDecimal before, BigDecimal after) {
+        return (after != null ? after : BigDecimal.ZERO).subtract(before != null ? before : BigDecimal.ZERO);
+    }
+
+    private static boolean sameAmount(BigDecimal before, BigDecimal after) {
+        return difference(before, after).signum() == 0;
+    }
+}
@@ -9,6 +9,7 @@ import com.techno.backend.exception.AssignmentOverlapException;
 import com.techno.backend.exception.BadRequestException;
 import com.techno.backend.exception.ResourceNotFoundException;
 import com.techno.backend.repository.*;
+import com.techno.backend.util.LaborIntervalIndex;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.ApplicationEventPublisher;
@@ -18,9 +19,13 @@ import org.springframework.transaction.annotation.Transactional;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 /**
@@ -41,6 +46,7 @@ public class LaborAllocationService {
     private final DepartmentRepository departmentRepository;
     private final ApplicationEventPublisher eventPublisher;
     private final ApprovalWorkflowService approvalWorkflowService;
+    private final LaborAvailabilityService laborAvailabilityService;
 
     @Transactional
     public LaborRequestResponse createLaborRequest(LaborRequestDto request, Long requestedBy) {
@@ -154,21 +160,209 @@ public class LaborAllocationService {
                 .build();
 
         assignment = assignmentRepository.save(assignment);
+        laborAvailabilityService.assignmentSaved(assignment);
 
         if (request.getRequestNo() != null && request.getSequenceNo() != null) {
-            ProjectLaborRequestDetailId detailId = new ProjectLaborRequestDetailId(
-                    request.getRequestNo(), request.getSequenceNo());
-
-            detailRepository.findById(detailId).ifPresent(detail -> {
-                detail.setAssignedCount(detail.getAssignedCount() + 1);
-                detailRepository.save(detail);
-            });
+            int updated = detailRepository.incrementAssignedCount(
+                    request.getRequestNo(), request.getSequenceNo(), 1);
+            if (updated == 0) {
+                // Line missing or already filled: roll back the assignment
+                throw new BadRequestException("لا توجد وظائف شاغرة في بند الطلب " + request.getSequenceNo()
+                        + " للطلب رقم " + request.getRequestNo());
+            }
         }
 
         log.info("Labor assigned: Assignment#{}", assignment.getAssignmentNo());
         return getAssignmentById(assignment.getAssignmentNo());
     }
 
+    /**
+     * Assign a group of workers to a labor request in one call.
+     * 
+     * All workers are checked against existing assignments with one overlap query,
+     * the accepted assignments are inserted in one batch and each detail line's
+     * assigned count is raised with a single UPDATE. Workers that cannot be assigned
+     * (unknown employee or line, invalid dates, overlap, no open position) are
+     * reported without stopping the others.
+     * 
+     * @param requestNo  Labor request number
+     * @param request    Workers and default dates
+     * @param assignedBy Employee number of assigner
+     * @return Result per worker
+     */
+    @Transactional
+    public BulkLaborAssignmentResponse assignLaborBulk(Long requestNo, BulkLaborAssignmentDto request,
+            Long assignedBy) {
+        List<BulkLaborAssignmentDto.Worker> workers = request.getWorkers();
+        log.info("Bulk assigning {} workers to labor request {} by: {}", workers.size(), requestNo, assignedBy);
+
+        ProjectLaborRequestHeader header = headerRepository.findById(requestNo)
+                .orElseThrow(() -> new ResourceNotFoundException(
+                        "Labor request not found: " + requestNo));
+
+        if (header.isDeleted() || header.isCancelled() || header.isClosed()) {
+            throw new BadRequestException("لا يمكن التعيين على طلب عمالة مغلق أو ملغى أو محذوف");
+        }
+
+        Map<Integer, ProjectLaborRequestDetail> details = detailRepository.findByRequestNo(requestNo).stream()
+                .collect(Collectors.toMap(ProjectLaborRequestDetail::getSequenceNo, detail -> detail));
+        Map<Integer, Integer> openPositions = new HashMap<>();
+        details.forEach((sequenceNo, detail) -> openPositions.put(sequenceNo, detail.getRemainingPositions()));
+
+        Set<Long> employeeNos = workers.stream()
+                .map(BulkLaborAssignmentDto.Worker::getEmployeeNo)
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+        Map<Long, String> employeeNames = employeeRepository.findNamesByEmployeeNoIn(employeeNos).stream()
+                .collect(Collectors.toMap(EmployeeRepository.EmployeeName::getEmployeeNo,
+                        e -> e.getEmployeeName() != null ? e.getEmployeeName() : ""));
+
+        // Resolve dates, then check every worker against existing assignments in one query
+        List<BulkLaborAssignmentResponse.WorkerResult> results = new ArrayList<>(workers.size());
+        LocalDate minStart = null;
+        LocalDate maxEnd = null;
+        for (BulkLaborAssignmentDto.Worker worker : workers) {
+            LocalDate startDate = firstNonNull(worker.getStartDate(), request.getStartDate(), header.getStartDate());
+            LocalDate endDate = firstNonNull(worker.getEndDate(), request.getEndDate(), header.getEndDate());
+            results.add(BulkLaborAssignmentResponse.WorkerResult.builder()
+                    .employeeNo(worker.getEmployeeNo())
+                    .employeeName(employeeNames.get(worker.getEmployeeNo()))
+                    .sequenceNo(worker.getSequenceNo())
+                    .startDate(startDate)
+                    .endDate(endDate)
+                    .assigned(false)
+                    .conflicts(List.of())
+                    .build());
+            if (startDate != null && endDate != null && !endDate.isBefore(startDate)) {
+                minStart = minStart == null || startDate.isBefore(minStart) ? startDate : minStart;
+                maxEnd = maxEnd == null || endDate.isAfter(maxEnd) ? endDate : maxEnd;
+            }
+        }
+
+        Map<Long, List<ProjectLaborAssignment>> existingByEmployee = minStart == null ? Map.of()
+                : assignmentRepository.findOverlappingAssignmentsForEmployees(employeeNos, minStart, maxEnd)
+                        .stream()
+                        .collect(Collectors.groupingBy(ProjectLaborAssignment::getEmployeeNo));
+
+        Map<Long, List<BulkLaborAssignmentResponse.WorkerResult>> acceptedByEmployee = new HashMap<>();
+        Map<BulkLaborAssignmentResponse.WorkerResult, List<ProjectLaborAssignment>> conflicts = new IdentityHashMap<>();
+        List<ProjectLaborAssignment> toSave = new ArrayList<>();
+        List<BulkLaborAssignmentResponse.WorkerResult> accepted = new ArrayList<>();
+        Map<Integer, Integer> addedPerLine = new HashMap<>();
+
+        for (int i = 0; i < workers.size(); i++) {
+            BulkLaborAssignmentDto.Worker worker = workers.get(i);
+            BulkLaborAssignmentResponse.WorkerResult result = results.get(i);
+            LocalDate startDate = result.getStartDate();
+            LocalDate endDate = result.getEndDate();
+            ProjectLaborRequestDetail detail = details.get(worker.getSequenceNo());
+
+            if (!employeeNames.containsKey(worker.getEmployeeNo())) {
+                result.setMessage("الموظف غير موجود");
+                continue;
+            }
+            if (detail == null) {
+                result.setMessage("بند الطلب غير موجود: " + worker.getSequenceNo());
+                continue;
+            }
+            if (startDate == null || endDate == null) {
+                result.setMessage("تاريخ البدء وتاريخ الانتهاء مطلوبان");
+                continue;
+            }
+            if (endDate.isBefore(startDate)) {
+                result.setMessage("يجب أن يكون تاريخ الانتهاء بعد تاريخ البدء");
+                continue;
+            }
+
+            List<ProjectLaborAssignment> overlapping = existingByEmployee
+                    .getOrDefault(worker.getEmployeeNo(), List.of()).stream()
+                    .filter(a -> !a.getStartDate().isAfter(endDate)
+                            && (a.getEndDate() == null || !a.getEndDate().isBefore(startDate)))
+                    .collect(Collectors.toList());
+            if (!overlapping.isEmpty()) {
+                result.setMessage("الموظف لديه تعيين متداخل مع الفترة المطلوبة");
+                conflicts.put(result, overlapping);
+                continue;
+            }
+
+            boolean overlapsInBatch = acceptedByEmployee.getOrDefault(worker.getEmployeeNo(), List.of()).stream()
+                    .anyMatch(other -> !other.getStartDate().isAfter(endDate)
+                            && !other.getEndDate().isBefore(startDate));
+            if (overlapsInBatch) {
+                result.setMessage("الموظف مكرر في نفس الطلب بفترة متداخلة");
+                continue;
+            }
+
+            if (openPositions.getOrDefault(worker.getSequenceNo(), 0) <= 0) {
+                result.setMessage("لا توجد وظائف شاغرة في بند الطلب: " + worker.getSequenceNo());
+                continue;
+            }
+
+            openPositions.merge(worker.getSequenceNo(), -1, Integer::sum);
+            addedPerLine.merge(worker.getSequenceNo(), 1, Integer::sum);
+            acceptedByEmployee.computeIfAbsent(worker.getEmployeeNo(), no -> new ArrayList<>()).add(result);
+            accepted.add(result);
+            toSave.add(ProjectLaborAssignment.builder()
+                    .employeeNo(worker.getEmployeeNo())
+                    .projectCode(header.getProjectCode())
+                    .requestNo(requestNo)
+                    .startDate(startDate)
+                    .endDate(endDate)
+                    .dailyRate(worker.getDailyRate() != null ? worker.getDailyRate() : detail.getDailyRate())
+                    .assignedBy(assignedBy)
+                    .assignmentNotes(request.getNotes())
+                    .build());
+        }
+
+        // Pooled ids let Hibernate send the inserts as one JDBC batch
+        List<ProjectLaborAssignment> saved = assignmentRepository.saveAll(toSave);
+        for (int i = 0; i < saved.size(); i++) {
+            accepted.get(i).setAssigned(true);
+            accepted.get(i).setAssignmentNo(saved.get(i).getAssignmentNo());
+            laborAvailabilityService.assignmentSaved(saved.get(i));
+        }
+
+        addedPerLine.forEach((sequenceNo, count) -> {
+            if (detailRepository.incrementAssignedCount(requestNo, sequenceNo, count) == 0) {
+                // Filled concurrently since it was read: roll back the whole batch
+                throw new BadRequestException("تم شغل وظائف بند الطلب " + sequenceNo
+                        + " أثناء التعيين، يرجى إعادة المحاولة");
+            }
+        });
+
+        if (!conflicts.isEmpty()) {
+            Map<Long, ProjectLaborAssignment> conflicting = new HashMap<>();
+            conflicts.values().forEach(list -> list.forEach(a -> conflicting.putIfAbsent(a.getAssignmentNo(), a)));
+            Map<Long, AssignmentOverlapInfo> overlapInfo = buildOverlapInfo(new ArrayList<>(conflicting.values()))
+                    .stream()
+                    .collect(Collectors.toMap(AssignmentOverlapInfo::getAssignmentNo, info -> info));
+            conflicts.forEach((result, overlapping) -> result.setConflicts(overlapping.stream()
+                    .map(a -> overlapInfo.get(a.getAssignmentNo()))
+                    .collect(Collectors.toList())));
+        }
+
+        log.info("Bulk assignment for labor request {}: {} assigned, {} rejected",
+                requestNo, saved.size(), workers.size() - saved.size());
+
+        return BulkLaborAssignmentResponse.builder()
+                .requestNo(requestNo)
+                .projectCode(header.getProjectCode())
+                .totalWorkers(workers.size())
+                .assignedCount(saved.size())
+                .rejectedCount(workers.size() - saved.size())
+                .results(results)
+                .build();
+    }
+
+    @SafeVarargs
+    private static <T> T firstNonNull(T... values) {
+        for (T value : values) {
+            if (value != null) {
+                return value;
+            }
+        }
+        return null;
+    }
+
     @Transactional(readOnly = true)
     public LaborRequestResponse getRequestById(Long requestNo) {
         ProjectLaborRequestHeader header = headerRepository.findById(requestNo)
@@ -681,6 +875,7 @@ public class LaborAllocationService {
         }
 
         assignment = assignmentRepository.save(assignment);
+        laborAvailabilityService.assignmentSaved(assignment);
         log.info("Labor assignment {} updated successfully", assignmentNo);
 
         Project project = projectRepository.findById(assignment.getProjectCode()).orElse(null);
@@ -708,6 +903,7 @@ public class LaborAllocationService {
         // Soft delete
         assignment.softDelete();
         assignmentRepository.save(assignment);
+        laborAvailabilityService.assignmentSaved(assignment);
 
         // If assignment was linked to a request detail, decrement assigned count
         if (assignment.getRequestNo() != null) {
@@ -718,6 +914,40 @@ public class LaborAllocationService {
         log.info("Labor assignment {} deleted successfully", assignmentNo);
     }
 
+    /**
+     * Check a group of employees against a labor request in one call.
+     * Dates not given default to the request's start and end dates.
+     * 
+     * @param requestNo Request number
+     * @param request   Employees and optional dates
+     * @return Availability of each employee with its conflicting assignments
+     */
+    @Transactional(readOnly = true)
+    public List<EmployeeAvailabilityResponse> checkRequestAvailability(Long requestNo,
+            LaborAvailabilityCheckDto request) {
+        ProjectLaborRequestHeader header = headerRepository.findById(requestNo)
+                .orElseThrow(() -> new ResourceNotFoundException(
+                        "Labor request not found: " + requestNo));
+
+        LocalDate startDate = request.getStartDate() != null ? request.getStartDate() : header.getStartDate();
+        LocalDate endDate = request.getEndDate() != null ? request.getEndDate() : header.getEndDate();
+
+        return laborAvailabilityService.checkAvailability(request.getEmployeeNos(), startDate, endDate);
+    }
+
+    /**
+     * Get the assignment an employee is on for a date.
+     * 
+     * @param employeeNo Employee number
+     * @param date       Date
+     * @return Labor assignment, or null if the employee is not assigned on that date
+     */
+    @Transactional(readOnly = true)
+    public LaborAssignmentResponse getAssignmentOn(Long employeeNo, LocalDate date) {
+        LaborIntervalIndex.Interval assignment = laborAvailabilityService.findAssignmentOn(employeeNo, date);
+        return assignment != null ? getAssignmentById(assignment.assignmentNo()) : null;
+    }
+
     /**
      * Approve a labor request.
      * Sets approvedBy, approvalDate, and updates request notes if provided.
@@ -0,0 +1,218 @@
+package com.techno.backend.service;
+
+import com.techno.backend.dto.labor.AssignmentOverlapInfo;
+import com.techno.backend.dto.labor.EmployeeAvailabilityResponse;
+import com.techno.backend.entity.ProjectLaborAssignment;
+import com.techno.backend.exception.BadRequestException;
+import com.techno.backend.exception.ResourceNotFoundException;
+import com.techno.backend.repository.EmployeeRepository;
+import com.techno.backend.repository.ProjectLaborAssignmentRepository;
+import com.techno.backend.repository.ProjectRepository;
+import com.techno.backend.util.LaborIntervalIndex;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Service answering labor availability questions from memory.
+ *
+ * Active labor assignments are held in a {@link LaborIntervalIndex}, built once
+ * at startup from a date projection. Which project an employee is on for a day,
+ * whether an employee is free over a range and which employees are free are
+ * answered without touching the database.
+ *
+ * {@link LaborAllocationService} reports every saved assignment through
+ * {@link #assignmentSaved}; inside a transaction the change is applied after
+ * commit. Completed, cancelled and deleted assignments are not indexed.
+ *
+ * @author Techno HR System
+ * @version 1.0
+ * @since Phase 10 - Projects
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class LaborAvailabilityService {
+
+    private final ProjectLaborAssignmentRepository assignmentRepository;
+    private final EmployeeRepository employeeRepository;
+    private final ProjectRepository projectRepository;
+
+    private volatile LaborIntervalIndex index = new LaborIntervalIndex();
+
+    /**
+     * Find the project an employee is assigned to on a date.
+     *
+     * @param employeeNo Employee number
+     * @param date Date
+     * @return Project code, or null if the employee has no active assignment on that date
+     */
+    public Long findProjectOn(Long employeeNo, LocalDate date) {
+        LaborIntervalIndex.Interval assignment = findAssignmentOn(employeeNo, date);
+        return assignment != null ? assignment.projectCode() : null;
+    }
+
+    /**
+     * Find the active assignment covering a date.
+     *
+     * @param employeeNo Employee number
+     * @param date Date
+     * @return Assignment interval, or null if none
+     */
+    public LaborIntervalIndex.Interval findAssignmentOn(Long employeeNo, LocalDate date) {
+        if (employeeNo == null || date == null) {
+            return null;
+        }
+        return index.findCovering(employeeNo, date);
+    }
+
+    /**
+     * Find employees (not terminated) with no active assignment in a date range.
+     *
+     * @param startDate First day
+     * @param endDate Last day, or null for open-ended
+     * @return Free employees
+     */
+    public List<EmployeeAvailabilityResponse> findFreeEmployees(LocalDate startDate, LocalDate endDate) {
+        LocalDate end = validateRange(startDate, endDate);
+
+        return employeeRepository.findNamesNotTerminated().stream()
+                .filter(e -> index.isFree(e.getEmployeeNo(), startDate, end))
+                .map(e -> EmployeeAvailabilityResponse.builder()
+                        .employeeNo(e.getEmployeeNo())
+                        .employeeName(e.getEmployeeName())
+                        .available(true)
+                        .conflicts(List.of())
+                        .build())
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Check a group of employees against a date range in one call.
+     * Project names of all conflicts are fetched in one query.
+     *
+     * @param employeeNos Employees to check (duplicates are checked once)
+     * @param startDate First day
+     * @param endDate Last day, or null for open-ended
+     * @return One result per employee, in the given order
+     */
+    public List<EmployeeAvailabilityResponse> checkAvailability(Collection<Long> employeeNos,
+                                                                LocalDate startDate, LocalDate endDate) {
+        LocalDate end = validateRange(startDate, endDate);
+        Set<Long> distinct = new LinkedHashSet<>(employeeNos);
+
+        Map<Long, String> employeeNames = employeeRepository.findNamesByEmployeeNoIn(distinct).stream()
+                .collect(Collectors.toMap(EmployeeRepository.EmployeeName::getEmployeeNo,
+                        e -> e.getEmployeeName() != null ? e.getEmployeeName() : ""));
+        List<Long> missing = distinct.stream().filter(no -> !employeeNames.containsKey(no)).toList();
+        if (!missing.isEmpty()) {
+            throw new ResourceNotFoundException("الموظفون غير موجودين: " + missing);
+        }
+
+        Map<Long, List<LaborIntervalIndex.Interval>> overlaps = new LinkedHashMap<>();
+        Set<Long> projectCodes = new LinkedHashSet<>();
+        for (Long employeeNo : distinct) {
+            List<LaborIntervalIndex.Interval> found = index.findOverlapping(employeeNo, startDate, end);
+            overlaps.put(employeeNo, found);
+            found.forEach(interval -> projectCodes.add(interval.projectCode()));
+        }
+
+        Map<Long, String> projectNames = projectCodes.isEmpty() ? Map.of()
+                : projectRepository.findNamesByProjectCodeIn(projectCodes).stream()
+                        .filter(p -> p.getProjectName() != null)
+                        .collect(Collectors.toMap(ProjectRepository.ProjectName::getProjectCode,
+                                ProjectRepository.ProjectName::getProjectName));
+
+        List<EmployeeAvailabilityResponse> results = new ArrayList<>(distinct.size());
+        overlaps.forEach((employeeNo, found) -> results.add(EmployeeAvailabilityResponse.builder()
+                .employeeNo(employeeNo)
+                .employeeName(employeeNames.get(employeeNo))
+                .available(found.isEmpty())
+                .conflicts(found.stream()
+                        .map(interval -> AssignmentOverlapInfo.builder()
+                                .assignmentNo(interval.assignmentNo())
+                                .projectCode(interval.projectCode())
+                                .projectName(projectNames.get(interval.projectCode()))
+                                .startDate(interval.startDate())
+                                .endDate(interval.endDate())
+                                .assignmentStatus("ACTIVE")
+                                .build())
+                        .collect(Collectors.toList()))
+                .build()));
+        return results;
+    }
+
+    /**
+     * Record a saved assignment (created, updated, completed, cancelled or deleted).
+     *
+     * @param assignment Saved assignment
+     */
+    public void assignmentSaved(ProjectLaborAssignment assignment) {
+        if (assignment == null || assignment.getAssignmentNo() == null) {
+            return;
+        }
+        long assignmentNo = assignment.getAssignmentNo();
+        Runnable change = assignment.isActive() && !assignment.isDeleted()
+                ? () -> index.put(new LaborIntervalIndex.Interval(assignmentNo, assignment.getEmployeeNo(),
+                        assignment.getProjectCode(), assignment.getStartDate(), assignment.getEndDate()))
+                : () -> index.remove(assignmentNo);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    change.run();
+                }
+            });
+        } else {
+            change.run();
+        }
+    }
+
+    /**
+     * Build the index from the database and swap it in.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        long start = System.currentTimeMillis();
+        LaborIntervalIndex loaded = new LaborIntervalIndex();
+
+        assignmentRepository.findActiveIntervals().forEach(a ->
+                loaded.put(new LaborIntervalIndex.Interval(a.getAssignmentNo(), a.getEmployeeNo(),
+                        a.getProjectCode(), a.getStartDate(), a.getEndDate())));
+
+        index = loaded;
+        log.info("Labor availability index built: {} assignments in {} ms",
+                loaded.size(), System.currentTimeMillis() - start);
+    }
+
+    /**
+     * @return End date to query (open-ended ranges run to the end of time)
+     */
+    private LocalDate validateRange(LocalDate startDate, LocalDate endDate) {
+        if (startDate == null) {
+            throw new BadRequestException("تاريخ البدء مطلوب");
+        }
+        if (endDate == null) {
+            return LocalDate.MAX;
+        }
+        if (endDate.isBefore(startDate)) {
+            throw new BadRequestException("يجب أن يكون تاريخ الانتهاء بعد تاريخ البدء");
+        }
+        return endDate;
+    }
+}
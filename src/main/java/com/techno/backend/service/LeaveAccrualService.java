@@ -1,7 +1,8 @@
 package com.techno.backend.service;
 
-import com.techno.backend.entity.Employee;
+import com.techno.backend.entity.LeaveAccrualRun;
 import com.techno.backend.repository.EmployeeRepository;
+import com.techno.backend.repository.LeaveAccrualRunRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.scheduling.annotation.Scheduled;
@@ -9,25 +10,41 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.util.List;
 
 /**
  * Service for automated leave accrual.
- * 
+ *
  * Rules:
  * - Every ACTIVE employee earns 30 days of leave per year.
  * - Accrual happens on the 1st of January every year at 00:01 AM.
  * - Unused leave balance is carried over (not reset).
- * 
+ *
+ * Balances are updated with a single bulk UPDATE per run (no employee entities
+ * are loaded), and every run is recorded in LEAVE_ACCRUAL_RUNS. The yearly run
+ * is keyed by year ("ANNUAL-2026") so firing the job twice applies it once.
+ * The year is taken in Asia/Riyadh, the zone the job is scheduled in, so the
+ * run at 00:01 on 1 January gets the new year's key on a UTC host too.
+ *
  * @author Techno HR System
- * @version 1.0
+ * @version 1.1
  */
 @Service
 @Slf4j
 @RequiredArgsConstructor
 public class LeaveAccrualService {
 
+    private static final BigDecimal ANNUAL_ACCRUAL_DAYS = BigDecimal.valueOf(30.0);
+    private static final ZoneId ACCRUAL_ZONE = ZoneId.of("Asia/Riyadh");
+
     private final EmployeeRepository employeeRepository;
+    private final LeaveAccrualRunRepository leaveAccrualRunRepository;
+
+    private Clock clock = Clock.system(ACCRUAL_ZONE);
 
     /**
      * Annual leave accrual task.
@@ -37,29 +54,30 @@ public class LeaveAccrualService {
     @Scheduled(cron = "0 1 0 1 1 *", zone = "Asia/Riyadh")
     @Transactional
     public void performAnnualAccrual() {
-        log.info("Starting annual leave accrual job...");
+        int year = LocalDate.now(clock).getYear();
+        String accrualKey = "ANNUAL-" + year;
+        log.info("Starting annual leave accrual job for {}...", year);
 
-        List<Employee> activeEmployees = employeeRepository.findAllActiveEmployees();
-        if (activeEmployees.isEmpty()) {
-            log.info("No active employees found for accrual.");
+        if (leaveAccrualRunRepository.existsByAccrualKey(accrualKey)) {
+            log.warn("Annual leave accrual for {} already applied. Skipping.", year);
             return;
         }
 
-        BigDecimal accrualAmount = BigDecimal.valueOf(30.0);
-        int count = 0;
-
-        for (Employee employee : activeEmployees) {
-            BigDecimal currentBalance = employee.getLeaveBalanceDays() != null
-                    ? employee.getLeaveBalanceDays()
-                    : BigDecimal.ZERO;
-
-            BigDecimal newBalance = currentBalance.add(accrualAmount);
-            employee.setLeaveBalanceDays(newBalance);
-            count++;
-        }
-
-        employeeRepository.saveAll(activeEmployees);
-        log.info("Annual leave accrual completed. Updated {} employees with {} days each.", count, accrualAmount);
+        // Record the run first: the unique accrual key rejects a concurrent duplicate
+        // run before any balance is touched
+        LocalDateTime now = LocalDateTime.now(clock);
+        LeaveAccrualRun run = leaveAccrualRunRepository.saveAndFlush(LeaveAccrualRun.builder()
+                .accrualType("ANNUAL")
+                .accrualKey(accrualKey)
+                .accrualDays(ANNUAL_ACCRUAL_DAYS)
+                .runDate(now)
+                .build());
+
+        // The bulk update clears the persistence context, so the count is written explicitly
+        int count = employeeRepository.addLeaveBalanceToActiveEmployees(ANNUAL_ACCRUAL_DAYS, now);
+        leaveAccrualRunRepository.updateEmployeesAffected(run.getRunId(), count);
+
+        log.info("Annual leave accrual completed. Updated {} employees with {} days each.", count, ANNUAL_ACCRUAL_DAYS);
     }
 
     /**
@@ -71,27 +89,14 @@ public class LeaveAccrualService {
     public void addAnnualAllowanceToEmployees(BigDecimal allowanceAmount) {
         log.info("Adding {} days annual leave allowance to all active employees", allowanceAmount);
 
-        List<Employee> activeEmployees = employeeRepository.findAllActiveEmployees();
-        if (activeEmployees.isEmpty()) {
+        LocalDateTime now = LocalDateTime.now();
+        int count = employeeRepository.addLeaveBalanceToActiveEmployees(allowanceAmount, now);
+        if (count == 0) {
             log.info("No active employees found to add allowance.");
             return;
         }
 
-        int count = 0;
-        for (Employee employee : activeEmployees) {
-            BigDecimal currentBalance = employee.getLeaveBalanceDays() != null
-                    ? employee.getLeaveBalanceDays()
-                    : BigDecimal.ZERO;
-
-            BigDecimal newBalance = currentBalance.add(allowanceAmount);
-            employee.setLeaveBalanceDays(newBalance);
-
-            log.debug("Employee {}: {} + {} = {} days",
-                    employee.getEmployeeNo(), currentBalance, allowanceAmount, newBalance);
-            count++;
-        }
-
-        employeeRepository.saveAll(activeEmployees);
+        recordRun("MANUAL", allowanceAmount, count, now);
         log.info("Added {} days allowance to {} active employees.", allowanceAmount, count);
     }
 
@@ -103,21 +108,29 @@ public class LeaveAccrualService {
     public void initializeEmployeesWithZeroBalance(BigDecimal startingBalance) {
         log.info("Initializing employees with zero/null balance to: {}", startingBalance);
 
-        List<Employee> employees = employeeRepository.findAllActiveEmployees();
-        int count = 0;
-
-        for (Employee employee : employees) {
-            BigDecimal currentBalance = employee.getLeaveBalanceDays();
-            if (currentBalance == null || currentBalance.compareTo(BigDecimal.ZERO) == 0) {
-                employee.setLeaveBalanceDays(startingBalance);
-                count++;
-                log.debug("Initialized employee {} with {} days", employee.getEmployeeNo(), startingBalance);
-            }
-        }
+        LocalDateTime now = LocalDateTime.now();
+        int count = employeeRepository.initializeZeroLeaveBalances(startingBalance, now);
 
         if (count > 0) {
-            employeeRepository.saveAll(employees);
+            recordRun("INITIALIZE", startingBalance, count, now);
         }
         log.info("Initialized {} employees with zero balance.", count);
     }
+
+    /**
+     * Get leave accrual history, newest first.
+     */
+    @Transactional(readOnly = true)
+    public List<LeaveAccrualRun> getAccrualHistory() {
+        return leaveAccrualRunRepository.findAllByOrderByRunDateDesc();
+    }
+
+    private void recordRun(String accrualType, BigDecimal days, int employeesAffected, LocalDateTime runDate) {
+        leaveAccrualRunRepository.save(LeaveAccrualRun.builder()
+                .accrualType(accrualType)
+                .accrualDays(days)
+                .employeesAffected(employeesAffected)
+                .runDate(runDate)
+                .build());
+    }
 }
@@ -6,10 +6,13 @@ import com.techno.backend.exception.BadRequestException;
 import com.techno.backend.entity.Employee;
 import com.techno.backend.entity.Loan;
 import com.techno.backend.entity.LoanInstallment;
+import com.techno.backend.entity.LoanMassPostponementRun;
 import com.techno.backend.entity.LoanPostponementRequest;
+import com.techno.backend.event.NotificationBatchEvent;
 import com.techno.backend.event.NotificationEvent;
 import com.techno.backend.repository.EmployeeRepository;
 import com.techno.backend.repository.LoanInstallmentRepository;
+import com.techno.backend.repository.LoanMassPostponementRunRepository;
 import com.techno.backend.repository.LoanPostponementRequestRepository;
 import com.techno.backend.repository.LoanRepository;
 import lombok.RequiredArgsConstructor;
@@ -27,7 +30,6 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.HashMap;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -69,6 +71,8 @@ public class LoanService {
     private final EmployeeRepository employeeRepository;
     private final ApprovalWorkflowService approvalWorkflowService;
     private final ApplicationEventPublisher eventPublisher;
+    private final LoanMassPostponementRunRepository massPostponementRunRepository;
+    private final PayrollDirtyService payrollDirtyService;
 
     private static final String REQUEST_TYPE = "LOAN";
     private static final String POSTPONEMENT_REQUEST_TYPE = "POSTLOAN";
@@ -460,6 +464,10 @@ public class LoanService {
         }
 
         installmentRepository.saveAll(installments);
+        if (!installments.isEmpty()) {
+            payrollDirtyService.markLoanInstallments(List.of(loan.getEmployeeNo()),
+                    installments.get(0).getDueDate(), installments.get(installments.size() - 1).getDueDate());
+        }
 
         log.info("Generated {} installments for loan {}", installments.size(), loan.getLoanId());
     }
@@ -670,9 +678,13 @@ public class LoanService {
             LoanInstallment installment = installmentRepository.findById(request.getInstallmentId())
                     .orElseThrow(() -> new RuntimeException("Ø§Ù„Ù‚Ø³Ø· ØºÙŠØ± Ù…ÙˆØ¬ÙˆØ¯"));
 
+            LocalDate originalDueDate = installment.getDueDate();
             installment.setDueDate(request.getNewDueDate());
             installment.setPaymentStatus("POSTPONED");
             installmentRepository.save(installment);
+            payrollDirtyService.markLoanInstallments(List.of(loan.getEmployeeNo()), originalDueDate, originalDueDate);
+            payrollDirtyService.markLoanInstallments(List.of(loan.getEmployeeNo()),
+                    request.getNewDueDate(), request.getNewDueDate());
 
             request.setApprovedDate(LocalDateTime.now());
             request.setApprovedBy(approverNo);
@@ -863,13 +875,20 @@ public class LoanService {
      * Admin-only operation for bulk postponement (e.g., postpone all Ramadan
      * installments).
      *
+     * The installments are moved with one set-based UPDATE that returns the
+     * affected loans and employees, the run is recorded in
+     * loan_mass_postponement_runs, and one notification per affected loan is
+     * published as a single batch after commit.
+     *
      * @param originalMonth Original month in YYYY-MM format
      * @param newMonth      New month in YYYY-MM format
      * @param reason        Postponement reason
+     * @param executedBy    Employee number of the admin executing the run
      * @return Result summary with affected employees and installment count
      */
     @Transactional
-    public MassPostponeResult massPostponeByMonth(String originalMonth, String newMonth, String reason) {
+    public MassPostponeResult massPostponeByMonth(String originalMonth, String newMonth, String reason,
+            Long executedBy) {
         log.info("Mass postponing installments from {} to {}", originalMonth, newMonth);
 
         // Parse month dates
@@ -877,42 +896,60 @@ public class LoanService {
         LocalDate endDate = startDate.plusMonths(1).minusDays(1);
         LocalDate newDueDate = LocalDate.parse(newMonth + "-15"); // Standard mid-month due date
 
-        // Find all UNPAID installments in the original month
-        List<LoanInstallment> installments = installmentRepository
-                .findByDueDateBetweenAndPaymentStatus(startDate, endDate, "UNPAID");
-
-        if (installments.isEmpty()) {
-            log.info("No unpaid installments found for month {}", originalMonth);
-            return new MassPostponeResult(originalMonth, newMonth, 0, 0, new ArrayList<>(), reason);
-        }
+        // Postpone all UNPAID installments in the original month in one statement
+        List<LoanInstallmentRepository.PostponedLoan> postponedLoans = installmentRepository
+                .postponeUnpaidDueBetween(startDate, endDate, newDueDate, executedBy);
 
-        // Track affected employees
-        Set<Long> affectedEmployeeNos = new HashSet<>();
-
-        // Update all installments
-        for (LoanInstallment installment : installments) {
-            installment.setDueDate(newDueDate);
-            installment.setPaymentStatus("POSTPONED");
-            installmentRepository.save(installment);
+        int installmentCount = postponedLoans.stream()
+                .mapToInt(p -> p.getInstallmentCount().intValue())
+                .sum();
+        List<Long> affectedEmployeeNos = postponedLoans.stream()
+                .map(LoanInstallmentRepository.PostponedLoan::getEmployeeNo)
+                .distinct()
+                .collect(Collectors.toList());
+        payrollDirtyService.markLoanInstallments(affectedEmployeeNos, startDate, endDate);
+        payrollDirtyService.markLoanInstallments(affectedEmployeeNos, newDueDate, newDueDate);
 
-            // Track affected employee
-            Loan loan = loanRepository.findById(installment.getLoanId())
-                    .orElse(null);
-            if (loan != null) {
-                affectedEmployeeNos.add(loan.getEmployeeNo());
-            }
+        LoanMassPostponementRun run = massPostponementRunRepository.save(LoanMassPostponementRun.builder()
+                .originalMonth(originalMonth)
+                .newMonth(newMonth)
+                .newDueDate(newDueDate)
+                .reason(reason)
+                .installmentsPostponed(installmentCount)
+                .loansAffected(postponedLoans.size())
+                .employeesAffected(affectedEmployeeNos.size())
+                .executedBy(executedBy)
+                .runDate(LocalDateTime.now())
+                .build());
+
+        if (postponedLoans.isEmpty()) {
+            log.info("No unpaid installments found for month {}", originalMonth);
+        } else {
+            publishMassPostponementNotifications(postponedLoans, newDueDate, reason);
         }
 
-        log.info("Mass postponed {} installments for {} employees from {} to {}",
-                installments.size(), affectedEmployeeNos.size(), originalMonth, newMonth);
+        log.info("Mass postponed {} installments of {} loans for {} employees from {} to {} (run {})",
+                installmentCount, postponedLoans.size(), affectedEmployeeNos.size(),
+                originalMonth, newMonth, run.getRunId());
 
         return new MassPostponeResult(
                 originalMonth,
                 newMonth,
                 affectedEmployeeNos.size(),
-                installments.size(),
-                new ArrayList<>(affectedEmployeeNos),
-                reason);
+                installmentCount,
+                affectedEmployeeNos,
+                reason,
+                run.getRunId());
+    }
+
+    /**
+     * Get mass postponement history, newest first.
+     *
+     * @return Audit records of all mass postponement runs
+     */
+    @Transactional(readOnly = true)
+    public List<LoanMassPostponementRun> getMassPostponementHistory() {
+        return massPostponementRunRepository.findAllByOrderByRunDateDesc();
     }
 
     /**
@@ -924,7 +961,8 @@ public class LoanService {
             int affectedEmployees,
             int totalInstallmentsPostponed,
             List<Long> affectedEmployeeNumbers,
-            String reason) {
+            String reason,
+            Long runId) {
     }
 
     // ==================== Notification Helper Methods ====================
@@ -1149,6 +1187,36 @@ public class LoanService {
         }
     }
 
+    /**
+     * Publish one notification per loan affected by a mass postponement, as a single batch.
+     */
+    private void publishMassPostponementNotifications(List<LoanInstallmentRepository.PostponedLoan> postponedLoans,
+            LocalDate newDueDate, String reason) {
+        try {
+            List<NotificationEvent> events = new ArrayList<>(postponedLoans.size());
+            for (LoanInstallmentRepository.PostponedLoan postponed : postponedLoans) {
+                Map<String, Object> variables = new HashMap<>();
+                variables.put("nextDueDate", newDueDate.toString());
+                variables.put("postponementReason", reason);
+                variables.put("linkUrl", "/loans/" + postponed.getLoanId());
+
+                events.add(new NotificationEvent(
+                        this,
+                        NotificationEventType.LOAN_POSTPONEMENT_APPROVED,
+                        postponed.getEmployeeNo(),
+                        NotificationPriority.HIGH,
+                        "LOAN",
+                        postponed.getLoanId(),
+                        variables));
+            }
+            eventPublisher.publishEvent(new NotificationBatchEvent(this, events));
+
+            log.debug("Published {} mass postponement notifications", events.size());
+        } catch (Exception e) {
+            log.error("Failed to publish mass postponement notifications: {}", e.getMessage(), e);
+        }
+    }
+
     /**
      * Publish notification when postponement request is rejected.
      */
@@ -9,10 +9,8 @@ import com.techno.backend.event.NotificationEvent;
 import com.techno.backend.exception.BadRequestException;
 import com.techno.backend.exception.ResourceNotFoundException;
 import com.techno.backend.entity.Project;
-import com.techno.backend.entity.ProjectLaborAssignment;
 import com.techno.backend.repository.EmployeeRepository;
 import com.techno.backend.repository.ManualAttendanceRequestRepository;
-import com.techno.backend.repository.ProjectLaborAssignmentRepository;
 import com.techno.backend.repository.ProjectRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -58,7 +56,7 @@ public class ManualAttendanceRequestService {
     private final AttendanceCalculationService calculationService;
     private final ApplicationEventPublisher eventPublisher;
     private final ProjectRepository projectRepository;
-    private final ProjectLaborAssignmentRepository assignmentRepository;
+    private final LaborAvailabilityService laborAvailabilityService;
 
     private static final String REQUEST_TYPE = "MANUAL_ATTENDANCE";
     private static final int GRACE_PERIOD_MINUTES = 60; // 60 minutes grace period for manual requests
@@ -368,19 +366,11 @@ public class ManualAttendanceRequestService {
                     projectCode, request.getEmployeeNo(), request.getAttendanceDate());
         } else {
             // Priority 2: Check for active assignment for the specific date
-            List<ProjectLaborAssignment> activeAssignments = assignmentRepository
-                    .findActiveAssignmentsByEmployee(request.getEmployeeNo());
-
-            LocalDate attendanceDate = request.getAttendanceDate();
-            for (ProjectLaborAssignment assignment : activeAssignments) {
-                if ((assignment.getStartDate().isBefore(attendanceDate) || assignment.getStartDate().isEqual(attendanceDate)) &&
-                        (assignment.getEndDate() == null || assignment.getEndDate().isAfter(attendanceDate)
-                                || assignment.getEndDate().isEqual(attendanceDate))) {
-                    projectCode = assignment.getProjectCode();
-                    log.debug("Found active assignment: project {} for employee {} on date {}",
-                            projectCode, request.getEmployeeNo(), attendanceDate);
-                    break;
-                }
+            projectCode = laborAvailabilityService.findProjectOn(
+                    request.getEmployeeNo(), request.getAttendanceDate());
+            if (projectCode != null) {
+                log.debug("Found active assignment: project {} for employee {} on date {}",
+                        projectCode, request.getEmployeeNo(), request.getAttendanceDate());
             }
         }
 
@@ -0,0 +1,205 @@
+package com.techno.backend.service;
+
+import com.techno.backend.dto.NotificationSummaryResponse;
+import com.techno.backend.repository.NotificationRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * In-memory notification counters per employee (total, unread, urgent unread).
+ *
+ * Counters for an employee are seeded lazily with one aggregate query on first
+ * access and then maintained by NotificationService as notifications are
+ * created, read and deleted. Badge polling and the notification stream read
+ * from here without touching the database.
+ *
+ * Bulk operations that cannot be tracked per employee (retention cleanup)
+ * drop the counters, which are then reloaded on next access.
+ *
+ * Changes are applied after their transaction commits, and only to counters
+ * that are already loaded. The count query runs outside the map lock, and
+ * its result is only kept when no change for the employee was in flight
+ * while it ran; otherwise it might already include a change that is about to
+ * be applied again. Callers bracket each change with {@link #changeStarted}
+ * (before commit) and {@link #changeFinished} (after completion). Change
+ * tracking is only kept for employees with a change or load in progress.
+ *
+ * @author Techno HR System
+ * @version 1.0
+ * @since Phase 9 - Notifications & Email System
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class NotificationCounterCache {
+
+    private final NotificationRepository notificationRepository;
+
+    private final Map<Long, Counts> counters = new ConcurrentHashMap<>();
+
+    private final Map<Long, ChangeState> changes = new ConcurrentHashMap<>();
+
+    private final AtomicLong invalidations = new AtomicLong();
+
+    /**
+     * Get notification summary for an employee, loading counters on first access
+     */
+    public NotificationSummaryResponse getSummary(Long employeeNo) {
+        Counts counts = getCounts(employeeNo);
+        return NotificationSummaryResponse.builder()
+                .totalNotifications(counts.total())
+                .unreadCount(counts.unread())
+                .urgentCount(counts.urgent())
+                .highPriorityCount(0)
+                .build();
+    }
+
+    /**
+     * Get unread count for an employee
+     */
+    public long getUnreadCount(Long employeeNo) {
+        return getCounts(employeeNo).unread();
+    }
+
+    /**
+     * A change for an employee is about to be committed
+     */
+    public void changeStarted(Long employeeNo) {
+        changes.compute(employeeNo, (key, state) -> {
+            ChangeState tracked = state != null ? state : new ChangeState();
+            tracked.inFlight++;
+            return tracked;
+        });
+    }
+
+    /**
+     * A change for an employee was committed (and applied) or rolled back
+     */
+    public void changeFinished(Long employeeNo) {
+        changes.computeIfPresent(employeeNo, (key, state) -> {
+            state.version++;
+            state.inFlight--;
+            return state.isIdle() ? null : state;
+        });
+    }
+
+    /**
+     * A new unread notification was created
+     */
+    public void notificationCreated(Long employeeNo, boolean urgent) {
+        counters.computeIfPresent(employeeNo, (key, c) ->
+                new Counts(c.total() + 1, c.unread() + 1, c.urgent() + (urgent ? 1 : 0)));
+    }
+
+    /**
+     * An unread notification was marked as read
+     */
+    public void notificationRead(Long employeeNo, boolean urgent) {
+        counters.computeIfPresent(employeeNo, (key, c) ->
+                new Counts(c.total(), decrement(c.unread(), true), decrement(c.urgent(), urgent)));
+    }
+
+    /**
+     * All notifications of an employee were marked as read
+     */
+    public void allNotificationsRead(Long employeeNo) {
+        counters.computeIfPresent(employeeNo, (key, c) -> new Counts(c.total(), 0, 0));
+    }
+
+    /**
+     * A notification was deleted
+     */
+    public void notificationDeleted(Long employeeNo, boolean unread, boolean urgent) {
+        counters.computeIfPresent(employeeNo, (key, c) ->
+                new Counts(decrement(c.total(), true), decrement(c.unread(), unread),
+                        decrement(c.urgent(), unread && urgent)));
+    }
+
+    /**
+     * Drop all counters; they are reloaded on next access
+     */
+    public void invalidateAll() {
+        invalidations.incrementAndGet();
+        counters.clear();
+        log.debug("Notification counters invalidated");
+    }
+
+    /**
+     * Cached counters, or freshly loaded ones. The loaded counters are cached
+     * only if no change or invalidation overlapped the query; the check runs
+     * under the same map lock that applies changes. The load keeps the
+     * employee's change tracking in place until the check is done.
+     */
+    private Counts getCounts(Long employeeNo) {
+        Counts cached = counters.get(employeeNo);
+        if (cached != null) {
+            return cached;
+        }
+
+        ChangeState state = changes.compute(employeeNo, (key, tracked) -> {
+            ChangeState loading = tracked != null ? tracked : new ChangeState();
+            loading.loads++;
+            return loading;
+        });
+        try {
+            long version = state.version;
+            long invalidation = invalidations.get();
+            Counts loaded = load(employeeNo);
+
+            Counts result = counters.compute(employeeNo, (key, existing) -> {
+                if (existing != null) {
+                    return existing;
+                }
+                boolean quiet = state.inFlight == 0
+                        && state.version == version
+                        && invalidations.get() == invalidation;
+                return quiet ? loaded : null;
+            });
+            return result != null ? result : loaded;
+        } finally {
+            changes.computeIfPresent(employeeNo, (key, tracked) -> {
+                tracked.loads--;
+                return tracked.isIdle() ? null : tracked;
+            });
+        }
+    }
+
+    private Counts load(Long employeeNo) {
+        NotificationRepository.NotificationCounts counts = notificationRepository.countSummary(employeeNo);
+        if (counts == null) {
+            return new Counts(0, 0, 0);
+        }
+        return new Counts(valueOf(counts.getTotalCount()), valueOf(counts.getUnreadCount()),
+                valueOf(counts.getUrgentCount()));
+    }
+
+    private static long valueOf(Long value) {
+        return value != null ? value : 0L;
+    }
+
+    private static long decrement(long value, boolean apply) {
+        return apply ? Math.max(0, value - 1) : value;
+    }
+
+    private record Counts(long total, long unread, long urgent) {
+    }
+
+    /**
+     * Changes and loads in progress for one employee. Updated only inside
+     * compute calls on the changes map; removed from it once idle.
+     */
+    private static final class ChangeState {
+        private volatile int inFlight;
+        private volatile int loads;
+        private volatile long version;
+
+        boolean isIdle() {
+            return inFlight == 0 && loads == 0;
+        }
+    }
+}
@@ -2,6 +2,7 @@ package com.techno.backend.service;
 
 import com.techno.backend.constants.NotificationEventType;
 import com.techno.backend.constants.NotificationPriority;
+import com.techno.backend.dto.NotificationSummaryResponse;
 import com.techno.backend.entity.Employee;
 import com.techno.backend.entity.EmailTemplate;
 import com.techno.backend.entity.Notification;
@@ -15,10 +16,19 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 /**
  * Service for notification management.
@@ -30,6 +40,7 @@ import java.util.Optional;
  * - Deleting notifications
  * - Counting unread notifications
  * - Generating notification content (bilingual)
+ * - Keeping in-memory counters and open notification streams up to date
  *
  * Notification Creation Flow:
  * 1. NotificationEvent published by business service
@@ -58,6 +69,8 @@ public class NotificationService {
     private final EmailTemplateRepository emailTemplateRepository;
     private final EmployeeRepository employeeRepository;
     private final EmailService emailService;
+    private final NotificationCounterCache notificationCounterCache;
+    private final NotificationStreamService notificationStreamService;
 
     /**
      * Handle notification event - main entry point from event listener.
@@ -98,7 +111,11 @@ public class NotificationService {
             if (templateOpt.isEmpty()) {
                 log.warn("Email template not found for event type: {}", event.getEventType());
                 // Create notification without template (fallback)
-                createFallbackNotification(event, employee);
+                Notification notification = buildFallbackNotification(event, employee);
+                notificationRepository.save(notification);
+                notificationCreated(notification);
+                log.warn("Created fallback notification for missing template: type={}, employee={}",
+                        event.getEventType(), employee.getEmployeeNo());
                 return;
             }
 
@@ -109,6 +126,7 @@ public class NotificationService {
 
             // Save notification
             notificationRepository.save(notification);
+            notificationCreated(notification);
             log.info("Notification created: id={}, type={}, employee={}",
                     notification.getNotificationId(), notification.getNotificationType(),
                     notification.getEmployeeNo());
@@ -128,6 +146,62 @@ public class NotificationService {
         }
     }
 
+    /**
+     * Handle a batch of notification events (e.g. one per employee affected by a bulk operation).
+     *
+     * Recipients are loaded with one query, each template once per event type,
+     * and all notifications are saved in one batch. Emails are sent as for
+     * single events.
+     *
+     * @param events Notification events
+     */
+    @Transactional
+    public void handleNotificationEvents(List<NotificationEvent> events) {
+        try {
+            Set<Long> recipientNos = events.stream()
+                    .map(NotificationEvent::getRecipientEmployeeNo)
+                    .filter(Objects::nonNull)
+                    .collect(Collectors.toSet());
+            Map<Long, Employee> employees = employeeRepository.findAllById(recipientNos).stream()
+                    .collect(Collectors.toMap(Employee::getEmployeeNo, Function.identity()));
+            Map<String, Optional<EmailTemplate>> templates = new HashMap<>();
+
+            List<Notification> notifications = new ArrayList<>(events.size());
+            List<NotificationEvent> emailEvents = new ArrayList<>();
+            for (NotificationEvent event : events) {
+                Employee employee = employees.get(event.getRecipientEmployeeNo());
+                if (employee == null) {
+                    log.warn("Employee not found: employeeNo={}, eventType={}",
+                            event.getRecipientEmployeeNo(), event.getEventType());
+                    continue;
+                }
+                Optional<EmailTemplate> template = templates.computeIfAbsent(event.getEventType(),
+                        emailTemplateRepository::findActiveTemplateByCode);
+                if (template.isPresent()) {
+                    notifications.add(createNotificationFromTemplate(event, employee, template.get()));
+                    if (employee.getEmail() != null && !employee.getEmail().isEmpty()) {
+                        emailEvents.add(event);
+                    }
+                } else {
+                    notifications.add(buildFallbackNotification(event, employee));
+                }
+            }
+
+            notificationRepository.saveAll(notifications);
+            notifications.forEach(this::notificationCreated);
+            log.info("Notification batch created: {} notifications for {} events", notifications.size(), events.size());
+
+            for (NotificationEvent event : emailEvents) {
+                emailService.sendNotificationEmail(employees.get(event.getRecipientEmployeeNo()),
+                        templates.get(event.getEventType()).get(), event.getTemplateVariables());
+            }
+
+        } catch (Exception e) {
+            log.error("Error handling notification batch: size={}, error={}", events.size(), e.getMessage(), e);
+            // Don't rethrow - notification failures shouldn't break business logic
+        }
+    }
+
     /**
      * Create notification from email template.
      *
@@ -176,13 +250,14 @@ public class NotificationService {
     }
 
     /**
-     * Create fallback notification when template is missing.
+     * Build fallback notification when template is missing.
      * Uses template variables to create meaningful notification content.
      *
      * @param event    Notification event
      * @param employee Recipient employee
+     * @return Notification entity
      */
-    private void createFallbackNotification(NotificationEvent event, Employee employee) {
+    private Notification buildFallbackNotification(NotificationEvent event, Employee employee) {
         String category = NotificationEventType.getCategory(event.getEventType());
         Map<String, Object> variables = event.getTemplateVariables();
 
@@ -210,7 +285,7 @@ public class NotificationService {
             linkUrl = buildLinkUrl(event.getReferenceType(), event.getReferenceId());
         }
 
-        Notification notification = Notification.builder()
+        return Notification.builder()
                 .employeeNo(employee.getEmployeeNo())
                 .notificationType(event.getEventType())
                 .titleEn(titleEn)
@@ -225,10 +300,6 @@ public class NotificationService {
                 .sentViaEmail("N")
                 .createdDate(LocalDateTime.now())
                 .build();
-
-        notificationRepository.save(notification);
-        log.warn("Created fallback notification for missing template: type={}, employee={}",
-                event.getEventType(), employee.getEmployeeNo());
     }
 
     /**
@@ -312,9 +383,19 @@ public class NotificationService {
      * @param employeeNo Employee number
      * @return Count of unread notifications
      */
-    @Transactional(readOnly = true)
     public long getUnreadCount(Long employeeNo) {
-        return notificationRepository.countByEmployeeNoAndIsRead(employeeNo, "N");
+        return notificationCounterCache.getUnreadCount(employeeNo);
+    }
+
+    /**
+     * Get notification summary (total, unread, urgent) for an employee.
+     * Served from in-memory counters.
+     *
+     * @param employeeNo Employee number
+     * @return Notification summary
+     */
+    public NotificationSummaryResponse getSummary(Long employeeNo) {
+        return notificationCounterCache.getSummary(employeeNo);
     }
 
     /**
@@ -336,6 +417,8 @@ public class NotificationService {
         if (notification.isUnread()) {
             notification.markAsRead();
             notificationRepository.save(notification);
+            boolean urgent = NotificationPriority.isHighPriority(notification.getPriority());
+            afterCommit(employeeNo, () -> notificationCounterCache.notificationRead(employeeNo, urgent));
             log.debug("Marked notification as read: id={}", notificationId);
         }
 
@@ -351,6 +434,9 @@ public class NotificationService {
     @Transactional
     public int markAllAsRead(Long employeeNo) {
         int count = notificationRepository.markAllAsRead(employeeNo, LocalDateTime.now());
+        if (count > 0) {
+            afterCommit(employeeNo, () -> notificationCounterCache.allNotificationsRead(employeeNo));
+        }
         log.info("Marked all notifications as read: employeeNo={}, count={}", employeeNo, count);
         return count;
     }
@@ -371,6 +457,9 @@ public class NotificationService {
                         "Notification not found or access denied: " + notificationId));
 
         notificationRepository.delete(notification);
+        boolean unread = notification.isUnread();
+        boolean urgent = NotificationPriority.isHighPriority(notification.getPriority());
+        afterCommit(employeeNo, () -> notificationCounterCache.notificationDeleted(employeeNo, unread, urgent));
         log.info("Deleted notification: id={}, employeeNo={}", notificationId, employeeNo);
     }
 
@@ -410,7 +499,61 @@ public class NotificationService {
     public int deleteOldNotifications(int retentionDays) {
         LocalDateTime cutoffDate = LocalDateTime.now().minusDays(retentionDays);
         int count = notificationRepository.deleteOldNotifications(cutoffDate);
+        if (count > 0) {
+            afterCommit(null, notificationCounterCache::invalidateAll);
+        }
         log.info("Deleted old notifications: count={}, cutoffDate={}", count, cutoffDate);
         return count;
     }
+
+    private void notificationCreated(Notification notification) {
+        Long employeeNo = notification.getEmployeeNo();
+        boolean urgent = NotificationPriority.isHighPriority(notification.getPriority());
+        afterCommit(employeeNo, () -> notificationCounterCache.notificationCreated(employeeNo, urgent));
+    }
+
+    /**
+     * Apply a counter change once the transaction commits (immediately when no
+     * transaction is active), then push the new summary to the employee's streams.
+     * Rolled-back changes never reach the counters. The change is reported to
+     * the counter cache as in flight until the transaction completes, so a
+     * concurrent load does not count it twice.
+     *
+     * @param employeeNo Employee whose counters change and streams are notified (null for none)
+     * @param counterUpdate Counter change
+     */
+    private void afterCommit(Long employeeNo, Runnable counterUpdate) {
+        Runnable action = () -> {
+            counterUpdate.run();
+            if (employeeNo != null) {
+                notificationStreamService.publishSummary(employeeNo);
+            }
+        };
+        if (employeeNo != null) {
+            notificationCounterCache.changeStarted(employeeNo);
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    if (employeeNo != null) {
+                        notificationCounterCache.changeFinished(employeeNo);
+                    }
+                }
+            });
+        } else {
+            try {
+                action.run();
+            } finally {
+                if (employeeNo != null) {
+                    notificationCounterCache.changeFinished(employeeNo);
+                }
+            }
+        }
+    }
 }
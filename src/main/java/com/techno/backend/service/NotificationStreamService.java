@@ -0,0 +1,122 @@
+package com.techno.backend.service;
+
+import com.techno.backend.dto.NotificationSummaryResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Server-sent event stream of notification counters per logged-in employee.
+ *
+ * Each open client holds an SseEmitter. On subscribe the current summary is
+ * sent once; afterwards a "summary" event is pushed only when the employee's
+ * counters change (notification created, read or deleted), so idle clients
+ * cost no database work. A periodic comment line keeps proxies from closing
+ * idle connections.
+ *
+ * @author Techno HR System
+ * @version 1.0
+ * @since Phase 9 - Notifications & Email System
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class NotificationStreamService {
+
+    public static final String SUMMARY_EVENT = "summary";
+
+    private final NotificationCounterCache notificationCounterCache;
+
+    private final Map<Long, List<SseEmitter>> emitters = new ConcurrentHashMap<>();
+
+    @Value("${notification.stream.timeout-ms:1800000}")
+    private long streamTimeoutMs;
+
+    /**
+     * Open a stream for an employee and send the current summary.
+     *
+     * @param employeeNo Employee number
+     * @return Emitter bound to the request
+     */
+    public SseEmitter subscribe(Long employeeNo) {
+        SseEmitter emitter = new SseEmitter(streamTimeoutMs);
+        List<SseEmitter> employeeEmitters = emitters.compute(employeeNo, (key, list) -> {
+            List<SseEmitter> result = list != null ? list : new CopyOnWriteArrayList<>();
+            result.add(emitter);
+            return result;
+        });
+
+        emitter.onCompletion(() -> remove(employeeNo, emitter));
+        emitter.onTimeout(() -> remove(employeeNo, emitter));
+        emitter.onError(e -> remove(employeeNo, emitter));
+
+        send(employeeNo, emitter, notificationCounterCache.getSummary(employeeNo));
+        log.debug("Notification stream opened: employeeNo={}, streams={}", employeeNo, employeeEmitters.size());
+        return emitter;
+    }
+
+    /**
+     * Push the current summary to all open streams of an employee.
+     * No-op (and no counter load) when the employee has no open stream.
+     *
+     * @param employeeNo Employee number
+     */
+    public void publishSummary(Long employeeNo) {
+        List<SseEmitter> employeeEmitters = emitters.get(employeeNo);
+        if (employeeEmitters == null || employeeEmitters.isEmpty()) {
+            return;
+        }
+        NotificationSummaryResponse summary = notificationCounterCache.getSummary(employeeNo);
+        for (SseEmitter emitter : employeeEmitters) {
+            send(employeeNo, emitter, summary);
+        }
+    }
+
+    /**
+     * Number of open streams (all employees)
+     */
+    public int getOpenStreamCount() {
+        return emitters.values().stream().mapToInt(List::size).sum();
+    }
+
+    /**
+     * Heartbeat comment every 25 seconds to keep connections open through proxies.
+     */
+    @Scheduled(fixedRate = 25000)
+    public void sendHeartbeat() {
+        emitters.forEach((employeeNo, employeeEmitters) -> {
+            for (SseEmitter emitter : employeeEmitters) {
+                try {
+                    emitter.send(SseEmitter.event().comment("ping"));
+                } catch (IOException | IllegalStateException e) {
+                    remove(employeeNo, emitter);
+                }
+            }
+        });
+    }
+
+    private void send(Long employeeNo, SseEmitter emitter, NotificationSummaryResponse summary) {
+        try {
+            emitter.send(SseEmitter.event().name(SUMMARY_EVENT).data(summary));
+        } catch (IOException | IllegalStateException e) {
+            log.debug("Notification stream closed: employeeNo={}, reason={}", employeeNo, e.getMessage());
+            remove(employeeNo, emitter);
+        }
+    }
+
+    private void remove(Long employeeNo, SseEmitter emitter) {
+        emitters.computeIfPresent(employeeNo, (key, list) -> {
+            list.remove(emitter);
+            return list.isEmpty() ? null : list;
+        });
+    }
+}
@@ -4,7 +4,6 @@ import com.techno.backend.constants.NotificationEventType;
 import com.techno.backend.constants.NotificationPriority;
 import com.techno.backend.entity.Employee;
 import com.techno.backend.event.NotificationEvent;
-import com.techno.backend.repository.AttendanceRepository;
 import com.techno.backend.repository.EmployeeRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -47,7 +46,7 @@ import java.util.*;
 @RequiredArgsConstructor
 public class OvertimeAlertService {
 
-    private final AttendanceRepository attendanceRepository;
+    private final AttendanceRollupService attendanceRollupService;
     private final EmployeeRepository employeeRepository;
     private final ApplicationEventPublisher eventPublisher;
     private final SystemConfigService systemConfigService;
@@ -79,7 +78,7 @@ public class OvertimeAlertService {
      * Process:
      * 1. Get the current month's date range
      * 2. Find all active employees
-     * 3. For each employee, calculate total overtime hours for the month
+     * 3. Read each employee's overtime hours for the month from the attendance rollups
      * 4. Check if overtime exceeds 30 hours (NORMAL) or 50 hours (URGENT)
      * 5. Log appropriate alerts for management
      * 6. Track alerted employees to avoid duplicate alerts
@@ -119,6 +118,8 @@ public class OvertimeAlertService {
 
             log.info("Checking overtime for {} active employees...", activeEmployees.size());
 
+            Map<Long, Double> overtimeByEmployee = attendanceRollupService.getOvertimeHoursByEmployee(currentMonth);
+
             // Track statistics
             int urgentAlerts = 0;
             int normalAlerts = 0;
@@ -127,7 +128,7 @@ public class OvertimeAlertService {
             // Check each employee's overtime
             for (Employee employee : activeEmployees) {
                 try {
-                    checkEmployeeOvertime(employee, monthStart, monthEnd, currentMonth);
+                    checkEmployeeOvertime(employee, overtimeByEmployee.get(employee.getEmployeeNo()), currentMonth);
 
                     // Update statistics based on alerts
                     String urgentKey = getAlertKey(employee.getEmployeeNo(), currentMonth, OVERTIME_THRESHOLD_URGENT);
@@ -166,19 +167,10 @@ public class OvertimeAlertService {
      * Check overtime hours for a single employee and log alerts if thresholds are exceeded.
      *
      * @param employee Employee to check
-     * @param monthStart Start date of the month
-     * @param monthEnd End date of the month
+     * @param overtimeHours Total overtime hours for the month (null if no attendance)
      * @param currentMonth Current year-month
      */
-    private void checkEmployeeOvertime(Employee employee, LocalDate monthStart,
-                                      LocalDate monthEnd, YearMonth currentMonth) {
-        // Calculate total overtime hours for the month
-        Double overtimeHours = attendanceRepository.sumOvertimeHours(
-                employee.getEmployeeNo(),
-                monthStart,
-                monthEnd
-        );
-
+    private void checkEmployeeOvertime(Employee employee, Double overtimeHours, YearMonth currentMonth) {
         // Skip if no overtime
         if (overtimeHours == null || overtimeHours <= 0) {
             log.debug("Employee #{} ({}): No overtime this month",
@@ -207,8 +199,8 @@ public class OvertimeAlertService {
         }
 
         // Log info for employees approaching threshold
-        if (overtimeHours >= 20) {
-            log.info("Employee #{} ({}): {} hours overtime - Approaching threshold",
+        if (overtimeHours >= 20 && log.isDebugEnabled()) {
+            log.debug("Employee #{} ({}): {} hours overtime - Approaching threshold",
                     employee.getEmployeeNo(), employee.getEmployeeName(),
                     String.format("%.2f", overtimeHours));
         }
@@ -222,21 +214,14 @@ public class OvertimeAlertService {
      * @param month Current month
      */
     private void logUrgentOvertimeAlert(Employee employee, Double overtimeHours, YearMonth month) {
-        log.error("\n" + "!".repeat(80));
-        log.error("URGENT OVERTIME ALERT - {} | Employee #{}", month, employee.getEmployeeNo());
-        log.error("!".repeat(80));
-        log.error("Employee: {} ({})", employee.getEmployeeName(), employee.getEmployeeName());
-        log.error("National ID: {}", employee.getNationalId());
-        log.error("Department Code: {}", employee.getPrimaryDeptCode());
-        log.error("Project Code: {}", employee.getPrimaryProjectCode());
-        log.error("Total Overtime: {} hours (THRESHOLD: {} hours)",
-                String.format("%.2f", overtimeHours), String.format("%.0f", OVERTIME_THRESHOLD_URGENT));
-        log.error("Excess: {} hours over urgent threshold",
-                String.format("%.2f", overtimeHours - OVERTIME_THRESHOLD_URGENT));
-        log.error("Priority: URGENT (HIGH)");
-        log.error("Recipients: HR Manager, Finance Manager, General Manager");
-        log.error("Action Required: Immediate review of workload and resource allocation");
-        log.error("!".repeat(80) + "\n");
+        if (log.isErrorEnabled()) {
+            log.error("URGENT OVERTIME ALERT - {} | Employee #{} {} | National ID: {} | Dept: {} | Project: {} | " +
+                            "Overtime: {} hours (threshold {}, excess {}) | Recipients: HR, Finance, General Manager",
+                    month, employee.getEmployeeNo(), employee.getEmployeeName(), employee.getNationalId(),
+                    employee.getPrimaryDeptCode(), employee.getPrimaryProjectCode(),
+                    String.format("%.2f", overtimeHours), String.format("%.0f", OVERTIME_THRESHOLD_URGENT),
+                    String.format("%.2f", overtimeHours - OVERTIME_THRESHOLD_URGENT));
+        }
 
         // Send notification to employee
         publishOvertimeAlertNotification(employee, overtimeHours, month, "URGENT");
@@ -250,21 +235,14 @@ public class OvertimeAlertService {
      * @param month Current month
      */
     private void logNormalOvertimeAlert(Employee employee, Double overtimeHours, YearMonth month) {
-        log.warn("\n" + "*".repeat(80));
-        log.warn("OVERTIME ALERT - {} | Employee #{}", month, employee.getEmployeeNo());
-        log.warn("*".repeat(80));
-        log.warn("Employee: {} ({})", employee.getEmployeeName(), employee.getEmployeeName());
-        log.warn("National ID: {}", employee.getNationalId());
-        log.warn("Department Code: {}", employee.getPrimaryDeptCode());
-        log.warn("Project Code: {}", employee.getPrimaryProjectCode());
-        log.warn("Total Overtime: {} hours (THRESHOLD: {} hours)",
-                String.format("%.2f", overtimeHours), String.format("%.0f", OVERTIME_THRESHOLD_NORMAL));
-        log.warn("Excess: {} hours over normal threshold",
-                String.format("%.2f", overtimeHours - OVERTIME_THRESHOLD_NORMAL));
-        log.warn("Priority: NORMAL");
-        log.warn("Recipients: HR Manager, Finance Manager, General Manager");
-        log.warn("Action: Review workload if overtime continues to increase");
-        log.warn("*".repeat(80) + "\n");
+        if (log.isWarnEnabled()) {
+            log.warn("OVERTIME ALERT - {} | Employee #{} {} | National ID: {} | Dept: {} | Project: {} | " +
+                            "Overtime: {} hours (threshold {}, excess {}) | Recipients: HR, Finance, General Manager",
+                    month, employee.getEmployeeNo(), employee.getEmployeeName(), employee.getNationalId(),
+                    employee.getPrimaryDeptCode(), employee.getPrimaryProjectCode(),
+                    String.format("%.2f", overtimeHours), String.format("%.0f", OVERTIME_THRESHOLD_NORMAL),
+                    String.format("%.2f", overtimeHours - OVERTIME_THRESHOLD_NORMAL));
+        }
 
         // Send notification to employee
         publishOvertimeAlertNotification(employee, overtimeHours, month, "NORMAL");
@@ -313,8 +291,6 @@ public class OvertimeAlertService {
     public String performManualCheck() {
         LocalDate today = LocalDate.now();
         YearMonth currentMonth = YearMonth.from(today);
-        LocalDate monthStart = currentMonth.atDay(1);
-        LocalDate monthEnd = currentMonth.atEndOfMonth();
 
         log.info("Manual overtime check triggered for {}", currentMonth);
 
@@ -324,9 +300,10 @@ public class OvertimeAlertService {
         int normalCount = 0;
         int safeCount = 0;
 
+        Map<Long, Double> overtimeByEmployee = attendanceRollupService.getOvertimeHoursByEmployee(currentMonth);
+
         for (Employee employee : activeEmployees) {
-            Double overtimeHours = attendanceRepository.sumOvertimeHours(
-                    employee.getEmployeeNo(), monthStart, monthEnd);
+            Double overtimeHours = overtimeByEmployee.get(employee.getEmployeeNo());
 
             if (overtimeHours != null) {
                 if (overtimeHours >= OVERTIME_THRESHOLD_URGENT) {
@@ -52,6 +52,8 @@ import java.util.concurrent.atomic.AtomicInteger;
 @RequiredArgsConstructor
 public class PayrollCalculationService {
 
+    static final long LOAN_INSTALLMENT_TYPE_CODE = 30L;
+
     private final EmployeeRepository employeeRepository;
     private final SalaryHeaderRepository salaryHeaderRepository;
     private final SalaryDetailRepository salaryDetailRepository;
@@ -98,7 +100,7 @@ public class PayrollCalculationService {
         }
 
         // STEP 1-3: Calculate pro-rated gross salary
-        BigDecimal grossSalary = calculateProRatedGrossSalary(employee, monthStart, monthEnd);
+        BigDecimal grossSalary = calculateProRatedGrossSalary(employee, employee.getMonthlySalary(), monthStart, monthEnd);
         log.info("Gross salary calculated: {}", grossSalary);
 
         // Initialize approval workflow for payroll
@@ -230,7 +232,7 @@ public class PayrollCalculationService {
         LocalDate monthStart = yearMonth.atDay(1);
         LocalDate monthEnd = yearMonth.atEndOfMonth();
 
-        BigDecimal grossSalary = calculateProRatedGrossSalary(employee, monthStart, monthEnd);
+        BigDecimal grossSalary = calculateProRatedGrossSalary(employee, employee.getMonthlySalary(), monthStart, monthEnd);
 
         SalaryHeader newVersion = SalaryHeader.builder()
                 .employeeNo(employeeNo)
@@ -277,20 +279,22 @@ public class PayrollCalculationService {
      * - Pro-rating for employees terminated during the month
      *
      * Formula: (Monthly Salary Ã—Days Worked) Ã· 30
+     *
+     * Also used by {@link PayrollSimulationService}, so it must stay free of side effects.
      */
-    private BigDecimal calculateProRatedGrossSalary(Employee employee, LocalDate monthStart, LocalDate monthEnd) {
-        BigDecimal monthlySalary = employee.getMonthlySalary();
+    static BigDecimal calculateProRatedGrossSalary(Employee employee, BigDecimal monthlySalary,
+            LocalDate monthStart, LocalDate monthEnd) {
         int totalDaysInMonth = 30; // Always use 30 for calculation (as per spec)
 
         // Guard: Employee hired AFTER this month ends (Future hire)
         if (employee.getHireDate() != null && employee.getHireDate().isAfter(monthEnd)) {
-            log.info("Employee hired in future ({}), returning 0 salary", employee.getHireDate());
+            log.debug("Employee hired in future ({}), returning 0 salary", employee.getHireDate());
             return BigDecimal.ZERO;
         }
 
         // Guard: Employee terminated BEFORE this month starts (Past employee)
         if (employee.getTerminationDate() != null && employee.getTerminationDate().isBefore(monthStart)) {
-            log.info("Employee terminated in past ({}), returning 0 salary", employee.getTerminationDate());
+            log.debug("Employee terminated in past ({}), returning 0 salary", employee.getTerminationDate());
             return BigDecimal.ZERO;
         }
 
@@ -302,7 +306,7 @@ public class PayrollCalculationService {
                 employee.getHireDate().isAfter(monthStart) &&
                 !employee.getHireDate().isAfter(monthEnd)) {
             actualStartDate = employee.getHireDate();
-            log.info("Employee hired on {} (during month), pro-rating salary", actualStartDate);
+            log.debug("Employee hired on {} (during month), pro-rating salary", actualStartDate);
         }
 
         // Pro-rate if terminated during the month
@@ -310,7 +314,7 @@ public class PayrollCalculationService {
                 !employee.getTerminationDate().isBefore(monthStart) &&
                 employee.getTerminationDate().isBefore(monthEnd)) {
             actualEndDate = employee.getTerminationDate();
-            log.info("Employee terminated on {} (during month), pro-rating salary", actualEndDate);
+            log.debug("Employee terminated on {} (during month), pro-rating salary", actualEndDate);
         }
 
         // CRITICAL VALIDATION: Ensure termination date is not before hire date
@@ -323,7 +327,7 @@ public class PayrollCalculationService {
 
         // Check if full month (no pro-rating needed)
         if (actualStartDate.equals(monthStart) && actualEndDate.equals(monthEnd)) {
-            log.info("Full month worked, returning full monthly salary: {}", monthlySalary);
+            log.debug("Full month worked, returning full monthly salary: {}", monthlySalary);
             return monthlySalary;
         }
 
@@ -336,7 +340,7 @@ public class PayrollCalculationService {
                 .divide(BigDecimal.valueOf(totalDaysInMonth), 4, RoundingMode.HALF_UP);
 
         if (daysWorked < totalDaysInMonth) {
-            log.info("Salary pro-rated: {} days worked out of 30. Salary: {} â†’ {}",
+            log.debug("Salary pro-rated: {} days worked out of 30. Salary: {} â†’ {}",
                     daysWorked, monthlySalary, proRatedSalary);
         }
 
@@ -358,36 +362,11 @@ public class PayrollCalculationService {
         if (breakdowns.isEmpty()) {
             log.warn("No salary breakdown found for category {}. Using full amount as basic salary.",
                     employee.getEmployeeCategory());
-            // Add full salary as one line
-            SalaryDetail detail = SalaryDetail.builder()
-                    .salaryId(header.getSalaryId())
-                    .lineNo(lineNo.getAndIncrement())
-                    .transTypeCode(1L) // Assuming 1 is basic salary type
-                    .transAmount(grossSalary)
-                    .transCategory("A") // Allowance
-                    .build();
-            header.addDetail(detail);
-            salaryDetailRepository.save(detail);
-            return;
-        }
-
-        for (SalaryBreakdownPercentage breakdown : breakdowns) {
-            BigDecimal componentAmount = grossSalary
-                    .multiply(breakdown.getSalaryPercentage())
-                    .divide(BigDecimal.ONE, 4, RoundingMode.HALF_UP);
-
-            SalaryDetail detail = SalaryDetail.builder()
-                    .salaryId(header.getSalaryId())
-                    .lineNo(lineNo.getAndIncrement())
-                    .transTypeCode(breakdown.getTransTypeCode())
-                    .transAmount(componentAmount)
-                    .transCategory("A") // Allowance
-                    .build();
-
-            header.addDetail(detail);
-            salaryDetailRepository.save(detail);
+        }
 
-            log.debug("Added breakdown: type {} = {}", breakdown.getTransTypeCode(), componentAmount);
+        for (SalaryDetail detail : breakdownLines(grossSalary, breakdowns)) {
+            addLine(header, detail, lineNo);
+            log.debug("Added breakdown: type {} = {}", detail.getTransTypeCode(), detail.getTransAmount());
         }
     }
 
@@ -407,18 +386,7 @@ public class PayrollCalculationService {
         log.info("Found {} active allowances for employee {}", allowances.size(), employee.getEmployeeNo());
 
         for (EmpMonthlyAllowance allowance : allowances) {
-            SalaryDetail detail = SalaryDetail.builder()
-                    .salaryId(header.getSalaryId())
-                    .lineNo(lineNo.getAndIncrement())
-                    .transTypeCode(allowance.getTypeCode())
-                    .transAmount(allowance.getAllowanceAmount())
-                    .transCategory("A") // Allowance
-                    .referenceTable("emp_monthly_allowances")
-                    .referenceId(allowance.getTransactionNo())
-                    .build();
-
-            header.addDetail(detail);
-            salaryDetailRepository.save(detail);
+            addLine(header, allowanceLine(allowance), lineNo);
 
             log.debug("Added allowance: type {} = {}", allowance.getTypeCode(), allowance.getAllowanceAmount());
         }
@@ -440,18 +408,7 @@ public class PayrollCalculationService {
         log.info("Found {} active deductions for employee {}", deductions.size(), employee.getEmployeeNo());
 
         for (EmpMonthlyDeduction deduction : deductions) {
-            SalaryDetail detail = SalaryDetail.builder()
-                    .salaryId(header.getSalaryId())
-                    .lineNo(lineNo.getAndIncrement())
-                    .transTypeCode(deduction.getTypeCode())
-                    .transAmount(deduction.getDeductionAmount())
-                    .transCategory("D") // Deduction
-                    .referenceTable("emp_monthly_deductions")
-                    .referenceId(deduction.getTransactionNo())
-                    .build();
-
-            header.addDetail(detail);
-            salaryDetailRepository.save(detail);
+            addLine(header, deductionLine(deduction), lineNo);
 
             log.debug("Added deduction: type {} = {}", deduction.getTypeCode(), deduction.getDeductionAmount());
         }
@@ -460,6 +417,7 @@ public class PayrollCalculationService {
     /**
      * STEP 7: Process loan installments.
      *
+     * Keeps installments already paid through this month (recalculation).
      * Gets unpaid installments due this month.
      * Adds them as deductions.
      * Marks installments as PAID.
@@ -468,6 +426,15 @@ public class PayrollCalculationService {
      */
     private void processLoanInstallments(SalaryHeader header, Employee employee,
             YearMonth yearMonth, AtomicInteger lineNo) {
+        // Installments paid by an earlier version of this month stay deducted, without paying them again
+        List<LoanInstallment> paidInstallments = loanInstallmentRepository
+                .findPaidInstallmentsForEmployeeInSalaryMonth(employee.getEmployeeNo(), yearMonth.toString());
+        for (LoanInstallment installment : paidInstallments) {
+            addLine(header, loanInstallmentLine(installment.getInstallmentId(),
+                    installment.getPaidAmount() != null
+                            ? installment.getPaidAmount() : installment.getInstallmentAmount()), lineNo);
+        }
+
         List<LoanInstallment> unpaidInstallments = loanInstallmentRepository
                 .findUnpaidInstallmentsForEmployeeInMonth(
                         employee.getEmployeeNo(),
@@ -479,18 +446,8 @@ public class PayrollCalculationService {
 
         for (LoanInstallment installment : unpaidInstallments) {
             // Add to salary details as deduction
-            SalaryDetail detail = SalaryDetail.builder()
-                    .salaryId(header.getSalaryId())
-                    .lineNo(lineNo.getAndIncrement())
-                    .transTypeCode(30L) // Fixed: 30 is loan installment type code
-                    .transAmount(installment.getInstallmentAmount())
-                    .transCategory("D") // Deduction
-                    .referenceTable("loan_installments")
-                    .referenceId(installment.getInstallmentId())
-                    .build();
-
-            header.addDetail(detail);
-            salaryDetailRepository.save(detail);
+            addLine(header, loanInstallmentLine(installment.getInstallmentId(),
+                    installment.getInstallmentAmount()), lineNo);
 
             // Mark installment as PAID
             installment.markAsPaid(
@@ -514,6 +471,68 @@ public class PayrollCalculationService {
         }
     }
 
+    private void addLine(SalaryHeader header, SalaryDetail detail, AtomicInteger lineNo) {
+        detail.setSalaryId(header.getSalaryId());
+        detail.setLineNo(lineNo.getAndIncrement());
+        header.addDetail(detail);
+        salaryDetailRepository.save(detail);
+    }
+
+    // ==================== Salary Lines (shared with PayrollSimulationService) ====================
+
+    /**
+     * Salary component lines by nationality percentages.
+     * Without percentages the full amount is one basic salary line.
+     */
+    static List<SalaryDetail> breakdownLines(BigDecimal grossSalary, List<SalaryBreakdownPercentage> breakdowns) {
+        if (breakdowns.isEmpty()) {
+            return List.of(SalaryDetail.builder()
+                    .transTypeCode(1L) // Assuming 1 is basic salary type
+                    .transAmount(grossSalary)
+                    .transCategory("A") // Allowance
+                    .build());
+        }
+        return breakdowns.stream()
+                .map(breakdown -> SalaryDetail.builder()
+                        .transTypeCode(breakdown.getTransTypeCode())
+                        .transAmount(grossSalary
+                                .multiply(breakdown.getSalaryPercentage())
+                                .divide(BigDecimal.ONE, 4, RoundingMode.HALF_UP))
+                        .transCategory("A") // Allowance
+                        .build())
+                .toList();
+    }
+
+    static SalaryDetail allowanceLine(EmpMonthlyAllowance allowance) {
+        return SalaryDetail.builder()
+                .transTypeCode(allowance.getTypeCode())
+                .transAmount(allowance.getAllowanceAmount())
+                .transCategory("A") // Allowance
+                .referenceTable("emp_monthly_allowances")
+                .referenceId(allowance.getTransactionNo())
+                .build();
+    }
+
+    static SalaryDetail deductionLine(EmpMonthlyDeduction deduction) {
+        return SalaryDetail.builder()
+                .transTypeCode(deduction.getTypeCode())
+                .transAmount(deduction.getDeductionAmount())
+                .transCategory("D") // Deduction
+                .referenceTable("emp_monthly_deductions")
+                .referenceId(deduction.getTransactionNo())
+                .build();
+    }
+
+    static SalaryDetail loanInstallmentLine(Long installmentId, BigDecimal amount) {
+        return SalaryDetail.builder()
+                .transTypeCode(LOAN_INSTALLMENT_TYPE_CODE)
+                .transAmount(amount)
+                .transCategory("D") // Deduction
+                .referenceTable("loan_installments")
+                .referenceId(installmentId)
+                .build();
+    }
+
     /**
      * Validate employee eligibility for payroll.
      */
@@ -0,0 +1,180 @@
+package com.techno.backend.service;
+
+import com.techno.backend.entity.EmpMonthlyAllowance;
+import com.techno.backend.entity.EmpMonthlyDeduction;
+import com.techno.backend.entity.PayrollDirtyMonth;
+import com.techno.backend.repository.PayrollDirtyMonthRepository;
+import com.techno.backend.repository.SalaryHeaderRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.temporal.ChronoUnit;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Service tracking which calculated payrolls are out of date.
+ *
+ * Services that change a payroll input call one of the {@code mark*} methods
+ * in the same transaction as the change. Only months that already have a
+ * calculated salary for the employee are marked (one indexed lookup), so
+ * changes to a month that has not been calculated yet cost a single query
+ * and leave no row. The marks commit or roll back with the change itself.
+ *
+ * {@link IncrementalPayrollService} recalculates the marked (employee, month)
+ * pairs and clears them.
+ *
+ * @author Techno HR System
+ * @version 1.0
+ * @since Phase 4 - Payroll System
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class PayrollDirtyService {
+
+    public static final String SOURCE_ALLOWANCE = "ALLOWANCE";
+    public static final String SOURCE_DEDUCTION = "DEDUCTION";
+    public static final String SOURCE_LOAN_INSTALLMENT = "LOAN_INSTALLMENT";
+    public static final String SOURCE_ATTENDANCE = "ATTENDANCE";
+    public static final String SOURCE_EMPLOYEE = "EMPLOYEE";
+
+    private static final String FIRST_MONTH = "0000-01";
+    private static final String LAST_MONTH = "9999-12";
+
+    private final PayrollDirtyMonthRepository dirtyMonthRepository;
+    private final SalaryHeaderRepository salaryHeaderRepository;
+
+    /**
+     * Mark the months an allowance applies to.
+     * Allowances without a start date count from their transaction date.
+     *
+     * @param allowance Saved allowance
+     */
+    @Transactional
+    public void markAllowance(EmpMonthlyAllowance allowance) {
+        LocalDate from = allowance.getAllowanceStartDate() != null
+                ? allowance.getAllowanceStartDate() : allowance.getTransactionDate();
+        mark(List.of(allowance.getEmployeeNo()), from, allowance.getAllowanceEndDate(), SOURCE_ALLOWANCE);
+    }
+
+    /**
+     * Mark the months a deduction applies to.
+     * Deductions without a start date count from their transaction date.
+     *
+     * @param deduction Saved deduction
+     */
+    @Transactional
+    public void markDeduction(EmpMonthlyDeduction deduction) {
+        LocalDate from = deduction.getDeductionStartDate() != null
+                ? deduction.getDeductionStartDate() : deduction.getTransactionDate();
+        mark(List.of(deduction.getEmployeeNo()), from, deduction.getDeductionEndDate(), SOURCE_DEDUCTION);
+    }
+
+    /**
+     * Mark one month of deductions for a group of employees
+     * (e.g. monthly delay deductions generated for all employees).
+     *
+     * @param employeeNos Employees with a new or changed deduction
+     * @param month Month the deductions apply to
+     */
+    @Transactional
+    public void markDeductions(Collection<Long> employeeNos, YearMonth month) {
+        mark(employeeNos, month.atDay(1), month.atEndOfMonth(), SOURCE_DEDUCTION);
+    }
+
+    /**
+     * Mark the months loan installments are due in.
+     *
+     * @param employeeNos Borrowers
+     * @param fromDueDate Earliest due date changed
+     * @param toDueDate Latest due date changed
+     */
+    @Transactional
+    public void markLoanInstallments(Collection<Long> employeeNos, LocalDate fromDueDate, LocalDate toDueDate) {
+        mark(employeeNos, fromDueDate, toDueDate, SOURCE_LOAN_INSTALLMENT);
+    }
+
+    /**
+     * Mark the month of a changed attendance record.
+     *
+     * @param employeeNo Employee number
+     * @param attendanceDate Attendance date
+     */
+    @Transactional
+    public void markAttendance(Long employeeNo, LocalDate attendanceDate) {
+        mark(List.of(employeeNo), attendanceDate, attendanceDate, SOURCE_ATTENDANCE);
+    }
+
+    /**
+     * Mark the months from a date on after a change to salary fields
+     * (salary, category, hire or termination date).
+     *
+     * @param employeeNos Employees changed
+     * @param fromDate First day the change applies to
+     */
+    @Transactional
+    public void markEmployees(Collection<Long> employeeNos, LocalDate fromDate) {
+        mark(employeeNos, fromDate, null, SOURCE_EMPLOYEE);
+    }
+
+    /**
+     * Get the marks of a month, or of all months.
+     *
+     * @param salaryMonth Month (YYYY-MM), or null for all months
+     * @return Marks by month and employee
+     */
+    @Transactional(readOnly = true)
+    public List<PayrollDirtyMonth> getDirtyMonths(String salaryMonth) {
+        return salaryMonth != null
+                ? dirtyMonthRepository.findBySalaryMonth(salaryMonth)
+                : dirtyMonthRepository.findAllOrdered();
+    }
+
+    /**
+     * Remove a mark after its month was recalculated, unless it was marked
+     * again in the meantime.
+     *
+     * @param mark Mark as read before the recalculation
+     * @return True if the mark was removed
+     */
+    @Transactional
+    public boolean clear(PayrollDirtyMonth mark) {
+        return dirtyMonthRepository.deleteIfNotMarkedSince(mark.getDirtyId(), mark.getLastMarkedDate()) > 0;
+    }
+
+    /**
+     * Mark the calculated months between two dates (null for unbounded).
+     * Missing marks are inserted (insert-or-ignore on the unique employee/month
+     * key) and existing ones updated, so concurrent marks never collide.
+     */
+    private void mark(Collection<Long> employeeNos, LocalDate fromDate, LocalDate toDate, String source) {
+        if (employeeNos.isEmpty() || employeeNos.stream().anyMatch(Objects::isNull)) {
+            return;
+        }
+        String fromMonth = fromDate != null ? YearMonth.from(fromDate).toString() : FIRST_MONTH;
+        String toMonth = toDate != null ? YearMonth.from(toDate).toString() : LAST_MONTH;
+
+        List<SalaryHeaderRepository.EmployeeMonth> calculated =
+                salaryHeaderRepository.findCalculatedMonthsBetween(employeeNos, fromMonth, toMonth);
+        if (calculated.isEmpty()) {
+            return;
+        }
+
+        // Stored timestamps keep microseconds; clear() compares against this value
+        LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+        for (SalaryHeaderRepository.EmployeeMonth month : calculated) {
+            if (dirtyMonthRepository.insertIfAbsent(month.getEmployeeNo(), month.getSalaryMonth(), source, now) == 0) {
+                dirtyMonthRepository.addChange(month.getEmployeeNo(), month.getSalaryMonth(), source, now);
+            }
+        }
+
+        log.debug("Marked {} payroll months dirty ({})", calculated.size(), source);
+    }
+}
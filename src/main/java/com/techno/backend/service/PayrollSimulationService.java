@@ -0,0 +1,429 @@
+package com.techno.backend.service;
+
+import com.techno.backend.dto.payroll.PayrollSimulationRequest;
+import com.techno.backend.dto.payroll.PayrollSimulationResponse;
+import com.techno.backend.entity.Department;
+import com.techno.backend.entity.EmpMonthlyAllowance;
+import com.techno.backend.entity.EmpMonthlyDeduction;
+import com.techno.backend.entity.Employee;
+import com.techno.backend.entity.SalaryBreakdownPercentage;
+import com.techno.backend.entity.SalaryDetail;
+import com.techno.backend.entity.SalaryHeader;
+import com.techno.backend.entity.TransactionType;
+import com.techno.backend.exception.BadRequestException;
+import com.techno.backend.repository.DepartmentRepository;
+import com.techno.backend.repository.EmpMonthlyAllowanceRepository;
+import com.techno.backend.repository.EmpMonthlyDeductionRepository;
+import com.techno.backend.repository.EmployeeRepository;
+import com.techno.backend.repository.LoanInstallmentRepository;
+import com.techno.backend.repository.ProjectRepository;
+import com.techno.backend.repository.SalaryBreakdownPercentageRepository;
+import com.techno.backend.repository.TransactionTypeRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Service for what-if payroll simulations.
+ *
+ * Runs the salary lines of {@link PayrollCalculationService} (pro-rated gross,
+ * component breakdown, allowances, deductions, loan installments) and
+ * {@link SalaryHeader#recalculateTotals} on in-memory salary headers, once from
+ * current data and once with hypothetical changes applied. Nothing is saved,
+ * no installment is paid and no notification is published.
+ *
+ * All inputs of the month are loaded with one query per table; the
+ * per-employee calculation then runs in parallel without touching the
+ * database, so the number of queries does not grow with the workforce.
+ *
+ * @author Techno HR System
+ * @version 1.0
+ * @since Phase 4 - Payroll System
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class PayrollSimulationService {
+
+    private final EmployeeRepository employeeRepository;
+    private final SalaryBreakdownPercentageRepository salaryBreakdownRepository;
+    private final EmpMonthlyAllowanceRepository allowanceRepository;
+    private final EmpMonthlyDeductionRepository deductionRepository;
+    private final LoanInstallmentRepository installmentRepository;
+    private final DepartmentRepository departmentRepository;
+    private final ProjectRepository projectRepository;
+    private final TransactionTypeRepository transactionTypeRepository;
+
+    /**
+     * Simulate the payroll of a month with hypothetical changes.
+     *
+     * @param request Month, selection and hypothetical changes
+     * @return Current and simulated totals by department, project and component
+     */
+    @Transactional(readOnly = true)
+    public PayrollSimulationResponse simulate(PayrollSimulationRequest request) {
+        long startTime = System.currentTimeMillis();
+        YearMonth month = YearMonth.parse(request.getSalaryMonth());
+        LocalDate monthStart = month.atDay(1);
+        LocalDate monthEnd = month.atEndOfMonth();
+        LocalDate monthDate = month.atDay(15); // Mid-month for date checks, as in the payroll run
+
+        List<Employee> employees = employeeRepository.findPayrollEligibleEmployees().stream()
+                .filter(e -> isEmpty(request.getDepartmentCodes())
+                        || request.getDepartmentCodes().contains(e.getPrimaryDeptCode()))
+                .filter(e -> isEmpty(request.getProjectCodes())
+                        || request.getProjectCodes().contains(e.getPrimaryProjectCode()))
+                .toList();
+        Set<Long> employeeNos = employees.stream().map(Employee::getEmployeeNo).collect(Collectors.toSet());
+
+        Overlay overlay = buildOverlay(request, employeeNos, monthDate);
+
+        Map<String, List<SalaryBreakdownPercentage>> breakdowns = salaryBreakdownRepository.findAllActive().stream()
+                .collect(Collectors.groupingBy(SalaryBreakdownPercentage::getEmployeeCategory));
+        Map<Long, List<EmpMonthlyAllowance>> allowances = allowanceRepository.findActiveAllowancesOnDate(monthDate)
+                .stream()
+                .filter(a -> employeeNos.contains(a.getEmployeeNo()))
+                .collect(Collectors.groupingBy(EmpMonthlyAllowance::getEmployeeNo));
+        Map<Long, List<EmpMonthlyDeduction>> deductions = deductionRepository.findActiveDeductionsOnDate(monthDate)
+                .stream()
+                .filter(d -> employeeNos.contains(d.getEmployeeNo()))
+                .collect(Collectors.groupingBy(EmpMonthlyDeduction::getEmployeeNo));
+        Map<Long, List<LoanInstallmentRepository.SalaryMonthInstallment>> installments = installmentRepository
+                .findInstallmentsForSalaryMonth(monthStart, monthEnd, month.toString()).stream()
+                .filter(i -> employeeNos.contains(i.getEmployeeNo()))
+                .collect(Collectors.groupingBy(LoanInstallmentRepository.SalaryMonthInstallment::getEmployeeNo));
+
+        log.info("Simulating payroll for {} employees for month {}", employees.size(), month);
+
+        // Inputs are read-only from here on; each employee is calculated independently
+        List<EmployeeSimulation> results = employees.parallelStream()
+                .map(employee -> {
+                    Long employeeNo = employee.getEmployeeNo();
+                    List<SalaryBreakdownPercentage> employeeBreakdowns =
+                            breakdowns.getOrDefault(employee.getEmployeeCategory(), List.of());
+                    List<EmpMonthlyAllowance> employeeAllowances = allowances.getOrDefault(employeeNo, List.of());
+                    List<EmpMonthlyDeduction> employeeDeductions = deductions.getOrDefault(employeeNo, List.of());
+                    List<LoanInstallmentRepository.SalaryMonthInstallment> employeeInstallments =
+                            installments.getOrDefault(employeeNo, List.of());
+
+                    SalaryHeader baseline = calculate(employee, employee.getMonthlySalary(), month,
+                            employeeBreakdowns, employeeAllowances, employeeDeductions, employeeInstallments,
+                            List.of(), List.of());
+                    SalaryHeader simulated = calculate(employee, overlay.salary(employee), month,
+                            employeeBreakdowns,
+                            concat(employeeAllowances, overlay.approvedAllowances.get(employeeNo)),
+                            concat(employeeDeductions, overlay.approvedDeductions.get(employeeNo)),
+                            employeeInstallments.stream()
+                                    .filter(i -> !overlay.postponedLoanIds.contains(i.getLoanId()))
+                                    .toList(),
+                            overlay.extraAllowances.getOrDefault(employeeNo, List.of()),
+                            overlay.extraDeductions.getOrDefault(employeeNo, List.of()));
+                    return new EmployeeSimulation(employee, baseline, simulated);
+                })
+                .toList();
+
+        PayrollSimulationResponse response = summarize(month, results);
+        response.setElapsedMillis(System.currentTimeMillis() - startTime);
+
+        log.info("Payroll simulation for {} completed in {} ms: net {} -> {}", month,
+                response.getElapsedMillis(), response.getBaseline().getNetSalary(),
+                response.getSimulated().getNetSalary());
+        return response;
+    }
+
+    /**
+     * One employee's salary, calculated in memory with the same lines and
+     * totals as a payroll run.
+     */
+    private SalaryHeader calculate(Employee employee, BigDecimal monthlySalary, YearMonth month,
+                                   List<SalaryBreakdownPercentage> breakdowns,
+                                   List<EmpMonthlyAllowance> allowances,
+                                   List<EmpMonthlyDeduction> deductions,
+                                   List<LoanInstallmentRepository.SalaryMonthInstallment> installments,
+                                   List<PayrollSimulationRequest.Adjustment> extraAllowances,
+                                   List<PayrollSimulationRequest.Adjustment> extraDeductions) {
+        BigDecimal grossSalary = PayrollCalculationService.calculateProRatedGrossSalary(employee,
+                monthlySalary != null ? monthlySalary : BigDecimal.ZERO, month.atDay(1), month.atEndOfMonth());
+
+        SalaryHeader header = SalaryHeader.builder()
+                .employeeNo(employee.getEmployeeNo())
+                .salaryMonth(month.toString())
+                .grossSalary(grossSalary)
+                .build();
+        PayrollCalculationService.breakdownLines(grossSalary, breakdowns).forEach(header::addDetail);
+        allowances.forEach(a -> header.addDetail(PayrollCalculationService.allowanceLine(a)));
+        extraAllowances.forEach(a -> header.addDetail(adjustmentLine(a, "A")));
+        deductions.forEach(d -> header.addDetail(PayrollCalculationService.deductionLine(d)));
+        extraDeductions.forEach(d -> header.addDetail(adjustmentLine(d, "D")));
+        installments.forEach(i -> header.addDetail(
+                PayrollCalculationService.loanInstallmentLine(i.getInstallmentId(), i.getAmount())));
+        header.recalculateTotals();
+        return header;
+    }
+
+    private static SalaryDetail adjustmentLine(PayrollSimulationRequest.Adjustment adjustment, String category) {
+        return SalaryDetail.builder()
+                .transTypeCode(adjustment.getTypeCode())
+                .transAmount(adjustment.getAmount())
+                .transCategory(category)
+                .build();
+    }
+
+    /**
+     * Validate the hypothetical changes and index them by employee.
+     */
+    private Overlay buildOverlay(PayrollSimulationRequest request, Set<Long> employeeNos, LocalDate monthDate) {
+        Overlay overlay = new Overlay();
+        Set<Long> outOfScope = new TreeSet<>();
+
+        for (PayrollSimulationRequest.SalaryChange change : nullToEmpty(request.getSalaryChanges())) {
+            if ((change.getNewSalary() == null) == (change.getRaisePercent() == null)) {
+                throw new BadRequestException(
+                        "يجب تحديد الراتب الجديد أو نسبة الزيادة للموظف " + change.getEmployeeNo());
+            }
+            checkScope(change.getEmployeeNo(), employeeNos, outOfScope);
+            overlay.salaryChanges.put(change.getEmployeeNo(), change);
+        }
+        for (PayrollSimulationRequest.Adjustment adjustment : nullToEmpty(request.getExtraAllowances())) {
+            checkScope(adjustment.getEmployeeNo(), employeeNos, outOfScope);
+            overlay.extraAllowances.computeIfAbsent(adjustment.getEmployeeNo(), k -> new ArrayList<>()).add(adjustment);
+        }
+        for (PayrollSimulationRequest.Adjustment adjustment : nullToEmpty(request.getExtraDeductions())) {
+            checkScope(adjustment.getEmployeeNo(), employeeNos, outOfScope);
+            overlay.extraDeductions.computeIfAbsent(adjustment.getEmployeeNo(), k -> new ArrayList<>()).add(adjustment);
+        }
+
+        // Pending requests count as approved if they apply to the month
+        if (!isEmpty(request.getAllowanceNos())) {
+            List<EmpMonthlyAllowance> pending = findPending(request.getAllowanceNos(),
+                    allowanceRepository.findAllById(request.getAllowanceNos()),
+                    EmpMonthlyAllowance::getTransactionNo, EmpMonthlyAllowance::getTransStatus,
+                    EmpMonthlyAllowance::getIsDeleted, "البدل");
+            for (EmpMonthlyAllowance allowance : pending) {
+                checkScope(allowance.getEmployeeNo(), employeeNos, outOfScope);
+                if (appliesOn(allowance.getAllowanceStartDate(), allowance.getAllowanceEndDate(), monthDate)) {
+                    overlay.approvedAllowances.computeIfAbsent(allowance.getEmployeeNo(), k -> new ArrayList<>())
+                            .add(allowance);
+                }
+            }
+        }
+        if (!isEmpty(request.getDeductionNos())) {
+            List<EmpMonthlyDeduction> pending = findPending(request.getDeductionNos(),
+                    deductionRepository.findAllById(request.getDeductionNos()),
+                    EmpMonthlyDeduction::getTransactionNo, EmpMonthlyDeduction::getTransStatus,
+                    EmpMonthlyDeduction::getIsDeleted, "الخصم");
+            for (EmpMonthlyDeduction deduction : pending) {
+                checkScope(deduction.getEmployeeNo(), employeeNos, outOfScope);
+                if (appliesOn(deduction.getDeductionStartDate(), deduction.getDeductionEndDate(), monthDate)) {
+                    overlay.approvedDeductions.computeIfAbsent(deduction.getEmployeeNo(), k -> new ArrayList<>())
+                            .add(deduction);
+                }
+            }
+        }
+        overlay.postponedLoanIds.addAll(nullToEmpty(request.getPostponedLoanIds()));
+
+        if (!outOfScope.isEmpty()) {
+            throw new BadRequestException("التعديلات تشير إلى موظفين خارج نطاق المحاكاة: " + outOfScope);
+        }
+        return overlay;
+    }
+
+    private static <T> List<T> findPending(Collection<Long> requestedNos, List<T> found,
+                                           Function<T, Long> idOf, Function<T, String> statusOf,
+                                           Function<T, String> deletedOf, String label) {
+        Set<Long> foundNos = found.stream().map(idOf).collect(Collectors.toSet());
+        List<Long> missing = requestedNos.stream().filter(no -> !foundNos.contains(no)).distinct().toList();
+        if (!missing.isEmpty()) {
+            throw new BadRequestException(label + " غير موجود: " + missing);
+        }
+        List<Long> notPending = found.stream()
+                .filter(item -> !"N".equals(statusOf.apply(item)) || "Y".equals(deletedOf.apply(item)))
+                .map(idOf)
+                .toList();
+        if (!notPending.isEmpty()) {
+            throw new BadRequestException(label + " ليس قيد الاعتماد: " + notPending);
+        }
+        return found;
+    }
+
+    private static void checkScope(Long employeeNo, Set<Long> employeeNos, Set<Long> outOfScope) {
+        if (!employeeNos.contains(employeeNo)) {
+            outOfScope.add(employeeNo);
+        }
+    }
+
+    private static boolean appliesOn(LocalDate startDate, LocalDate endDate, LocalDate date) {
+        return (startDate == null || !startDate.isAfter(date)) && (endDate == null || !endDate.isBefore(date));
+    }
+
+    // ==================== Totals ====================
+
+    private PayrollSimulationResponse summarize(YearMonth month, List<EmployeeSimulation> results) {
+        Map<Long, List<EmployeeSimulation>> byDepartment = new LinkedHashMap<>();
+        Map<Long, List<EmployeeSimulation>> byProject = new LinkedHashMap<>();
+        Map<ComponentKey, BigDecimal[]> byComponent = new HashMap<>();
+        for (EmployeeSimulation result : results) {
+            byDepartment.computeIfAbsent(result.employee.getPrimaryDeptCode(), k -> new ArrayList<>()).add(result);
+            byProject.computeIfAbsent(result.employee.getPrimaryProjectCode(), k -> new ArrayList<>()).add(result);
+            addComponents(byComponent, result.baseline, 0);
+            addComponents(byComponent, result.simulated, 1);
+        }
+
+        Map<Long, String> departmentNames = departmentRepository.findAllById(nonNullKeys(byDepartment)).stream()
+                .collect(Collectors.toMap(Department::getDeptCode, d -> Objects.toString(d.getDeptName(), "")));
+        Map<Long, String> projectNames = nonNullKeys(byProject).isEmpty() ? Map.of()
+                : projectRepository.findNamesByProjectCodeIn(nonNullKeys(byProject)).stream()
+                        .collect(Collectors.toMap(ProjectRepository.ProjectName::getProjectCode,
+                                p -> Objects.toString(p.getProjectName(), "")));
+        Set<Long> typeCodes = byComponent.keySet().stream().map(ComponentKey::typeCode).collect(Collectors.toSet());
+        Map<Long, String> typeNames = transactionTypeRepository.findAllById(typeCodes).stream()
+                .collect(Collectors.toMap(TransactionType::getTypeCode, t -> Objects.toString(t.getTypeName(), "")));
+
+        PayrollSimulationResponse.Totals baseline = totals(results, r -> r.baseline);
+        PayrollSimulationResponse.Totals simulated = totals(results, r -> r.simulated);
+        return PayrollSimulationResponse.builder()
+                .salaryMonth(month.toString())
+                .employeeCount(results.size())
+                .baseline(baseline)
+                .simulated(simulated)
+                .netDifference(simulated.getNetSalary().subtract(baseline.getNetSalary()))
+                .byDepartment(groupTotals(byDepartment, departmentNames))
+                .byProject(groupTotals(byProject, projectNames))
+                .byComponent(byComponent.entrySet().stream()
+                        .sorted(Map.Entry.comparingByKey(Comparator.comparing(ComponentKey::category)
+                                .thenComparing(ComponentKey::typeCode)))
+                        .map(entry -> PayrollSimulationResponse.ComponentTotals.builder()
+                                .typeCode(entry.getKey().typeCode())
+                                .typeName(typeNames.get(entry.getKey().typeCode()))
+                                .category(entry.getKey().category())
+                                .baselineAmount(entry.getValue()[0])
+                                .simulatedAmount(entry.getValue()[1])
+                                .difference(entry.getValue()[1].subtract(entry.getValue()[0]))
+                                .build())
+                        .toList())
+                .build();
+    }
+
+    private static void addComponents(Map<ComponentKey, BigDecimal[]> byComponent, SalaryHeader header, int index) {
+        for (SalaryDetail detail : header.getSalaryDetails()) {
+            BigDecimal[] amounts = byComponent.computeIfAbsent(
+                    new ComponentKey(detail.getTransTypeCode(), detail.getTransCategory()),
+                    k -> new BigDecimal[] {BigDecimal.ZERO, BigDecimal.ZERO});
+            amounts[index] = amounts[index].add(detail.getTransAmount());
+        }
+    }
+
+    private static List<PayrollSimulationResponse.GroupTotals> groupTotals(
+            Map<Long, List<EmployeeSimulation>> groups, Map<Long, String> names) {
+        return groups.entrySet().stream()
+                .sorted(Map.Entry.comparingByKey(Comparator.nullsLast(Comparator.naturalOrder())))
+                .map(entry -> {
+                    PayrollSimulationResponse.Totals baseline = totals(entry.getValue(), r -> r.baseline);
+                    PayrollSimulationResponse.Totals simulated = totals(entry.getValue(), r -> r.simulated);
+                    return PayrollSimulationResponse.GroupTotals.builder()
+                            .code(entry.getKey())
+                            .name(entry.getKey() != null ? names.get(entry.getKey()) : null)
+                            .employeeCount(entry.getValue().size())
+                            .baseline(baseline)
+                            .simulated(simulated)
+                            .netDifference(simulated.getNetSalary().subtract(baseline.getNetSalary()))
+                            .build();
+                })
+                .toList();
+    }
+
+    private static PayrollSimulationResponse.Totals totals(List<EmployeeSimulation> results,
+                                                           Function<EmployeeSimulation, SalaryHeader> header) {
+        BigDecimal gross = BigDecimal.ZERO;
+        BigDecimal allowances = BigDecimal.ZERO;
+        BigDecimal deductions = BigDecimal.ZERO;
+        BigDecimal net = BigDecimal.ZERO;
+        for (EmployeeSimulation result : results) {
+            SalaryHeader salary = header.apply(result);
+            gross = gross.add(salary.getGrossSalary());
+            allowances = allowances.add(salary.getTotalAllowances());
+            deductions = deductions.add(salary.getTotalDeductions());
+            net = net.add(salary.getNetSalary());
+        }
+        return PayrollSimulationResponse.Totals.builder()
+                .grossSalary(gross)
+                .totalAllowances(allowances)
+                .totalDeductions(deductions)
+                .netSalary(net)
+                .build();
+    }
+
+    private static Set<Long> nonNullKeys(Map<Long, ?> map) {
+        Set<Long> keys = new HashSet<>(map.keySet());
+        keys.remove(null);
+        return keys;
+    }
+
+    private static <T> List<T> concat(List<T> current, List<T> extra) {
+        if (extra == null || extra.isEmpty()) {
+            return current;
+        }
+        List<T> all = new ArrayList<>(current);
+        all.addAll(extra);
+        return all;
+    }
+
+    private static <T> List<T> nullToEmpty(List<T> list) {
+        return list != null ? list : List.of();
+    }
+
+    private static boolean isEmpty(Collection<?> collection) {
+        return collection == null || collection.isEmpty();
+    }
+
+    /**
+     * Hypothetical changes indexed by employee; read-only once built.
+     */
+    private static class Overlay {
+        private final Map<Long, PayrollSimulationRequest.SalaryChange> salaryChanges = new HashMap<>();
+        private final Map<Long, List<EmpMonthlyAllowance>> approvedAllowances = new HashMap<>();
+        private final Map<Long, List<EmpMonthlyDeduction>> approvedDeductions = new HashMap<>();
+        private final Map<Long, List<PayrollSimulationRequest.Adjustment>> extraAllowances = new HashMap<>();
+        private final Map<Long, List<PayrollSimulationRequest.Adjustment>> extraDeductions = new HashMap<>();
+        private final Set<Long> postponedLoanIds = new HashSet<>();
+
+        private BigDecimal salary(Employee employee) {
+            PayrollSimulationRequest.SalaryChange change = salaryChanges.get(employee.getEmployeeNo());
+            if (change == null || (change.getNewSalary() == null && employee.getMonthlySalary() == null)) {
+                return employee.getMonthlySalary();
+            }
+            if (change.getNewSalary() != null) {
+                return change.getNewSalary();
+            }
+            return employee.getMonthlySalary()
+                    .multiply(BigDecimal.ONE.add(change.getRaisePercent().divide(BigDecimal.valueOf(100), 6,
+                            RoundingMode.HALF_UP)))
+                    .setScale(4, RoundingMode.HALF_UP);
+        }
+    }
+
+    private record EmployeeSimulation(Employee employee, SalaryHeader baseline, SalaryHeader simulated) {
+    }
+
+    private record ComponentKey(Long typeCode, String category) {
+    }
+}
@@ -0,0 +1,176 @@
+package com.techno.backend.service;
+
+import com.techno.backend.dto.AttendanceLocationFlag;
+import com.techno.backend.entity.Project;
+import com.techno.backend.repository.AttendanceRepository;
+import com.techno.backend.repository.ProjectRepository;
+import com.techno.backend.util.GeofenceIndex;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Service answering geofence questions for active project sites.
+ *
+ * The coordinates and GPS radius of every active project are loaded with one
+ * query on first use into a {@link GeofenceIndex} snapshot, so "which sites
+ * contain this point" and "nearest site" are answered in memory. Used to detect
+ * the project at check-in and to flag check-ins recorded away from their project.
+ *
+ * The snapshot is dropped by {@link #invalidate()} whenever a project changes
+ * (ProjectService create/update/deactivate) and rebuilt lazily.
+ *
+ * @author Techno HR System
+ * @version 1.0
+ * @since Phase 4 - Attendance System
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class ProjectGeofenceService {
+
+    private final ProjectRepository projectRepository;
+    private final AttendanceRepository attendanceRepository;
+
+    private volatile GeofenceIndex index;
+
+    /**
+     * Find active projects whose geofence contains a location.
+     *
+     * @param latitude Latitude in decimal degrees
+     * @param longitude Longitude in decimal degrees
+     * @return Matches ordered by distance from the project site (empty if none)
+     */
+    public List<GeofenceIndex.Match> findContainingProjects(BigDecimal latitude, BigDecimal longitude) {
+        return currentIndex().findContaining(latitude.doubleValue(), longitude.doubleValue());
+    }
+
+    /**
+     * Find the active project site nearest to a location.
+     *
+     * @param latitude Latitude in decimal degrees
+     * @param longitude Longitude in decimal degrees
+     * @return Nearest project site, or null if no project has GPS coordinates
+     */
+    public GeofenceIndex.Match findNearestProject(BigDecimal latitude, BigDecimal longitude) {
+        return currentIndex().findNearest(latitude.doubleValue(), longitude.doubleValue());
+    }
+
+    /**
+     * Detect the project an employee is checking in at.
+     *
+     * @param latitude Latitude in decimal degrees
+     * @param longitude Longitude in decimal degrees
+     * @return Code of the nearest project whose geofence contains the location, or null
+     */
+    public Long detectProject(BigDecimal latitude, BigDecimal longitude) {
+        List<GeofenceIndex.Match> matches = findContainingProjects(latitude, longitude);
+        return matches.isEmpty() ? null : matches.get(0).siteId();
+    }
+
+    /**
+     * Find check-ins recorded outside the geofence of their project.
+     * Records of projects without GPS coordinates are not checked.
+     *
+     * @param startDate Start date (inclusive)
+     * @param endDate End date (inclusive)
+     * @param projectCode Project code (optional, null for all projects)
+     * @return Flagged check-ins ordered by date
+     */
+    @Transactional(readOnly = true)
+    public List<AttendanceLocationFlag> findSuspiciousCheckIns(LocalDate startDate, LocalDate endDate,
+                                                               Long projectCode) {
+        GeofenceIndex geofences = currentIndex();
+        List<AttendanceRepository.EntryLocation> locations =
+                attendanceRepository.findEntryLocations(startDate, endDate, projectCode);
+
+        List<AttendanceLocationFlag> flags = new ArrayList<>();
+        for (AttendanceRepository.EntryLocation location : locations) {
+            if (location.getProjectCode() == null || !geofences.contains(location.getProjectCode())) {
+                continue;
+            }
+            double latitude = location.getEntryLatitude().doubleValue();
+            double longitude = location.getEntryLongitude().doubleValue();
+
+            List<GeofenceIndex.Match> containing = geofences.findContaining(latitude, longitude);
+            if (containing.stream().anyMatch(m -> m.siteId() == location.getProjectCode())) {
+                continue;
+            }
+
+            GeofenceIndex.Match nearest = containing.isEmpty()
+                    ? geofences.findNearest(latitude, longitude)
+                    : containing.get(0);
+            flags.add(AttendanceLocationFlag.builder()
+                    .transactionId(location.getTransactionId())
+                    .employeeNo(location.getEmployeeNo())
+                    .attendanceDate(location.getAttendanceDate())
+                    .projectCode(location.getProjectCode())
+                    .entryLatitude(location.getEntryLatitude())
+                    .entryLongitude(location.getEntryLongitude())
+                    .distanceFromProjectMeters(geofences.distanceTo(location.getProjectCode(), latitude, longitude))
+                    .nearestProjectCode(nearest.siteId())
+                    .nearestDistanceMeters(nearest.distanceMeters())
+                    .reason(containing.isEmpty() ? "NO_SITE" : "OTHER_SITE")
+                    .build());
+        }
+
+        log.info("Geofence check {} to {}: {} check-ins checked, {} flagged",
+                startDate, endDate, locations.size(), flags.size());
+        return flags;
+    }
+
+    /**
+     * Drop the geofence snapshot; next lookup reloads it.
+     * Inside a transaction the snapshot is dropped again after commit, so a
+     * reload racing with the change cannot keep stale coordinates.
+     */
+    public void invalidate() {
+        index = null;
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    index = null;
+                }
+            });
+        }
+        log.debug("Project geofence index invalidated");
+    }
+
+    private GeofenceIndex currentIndex() {
+        GeofenceIndex current = index;
+        if (current == null) {
+            synchronized (this) {
+                current = index;
+                if (current == null) {
+                    current = load();
+                    index = current;
+                }
+            }
+        }
+        return current;
+    }
+
+    private GeofenceIndex load() {
+        GeofenceIndex.Builder builder = GeofenceIndex.builder();
+        for (Project project : projectRepository.findProjectsWithGps()) {
+            if ("ACTIVE".equals(project.getProjectStatus()) && project.getGpsRadiusMeters() != null) {
+                builder.add(project.getProjectCode(),
+                        project.getProjectLatitude().doubleValue(),
+                        project.getProjectLongitude().doubleValue(),
+                        project.getGpsRadiusMeters());
+            }
+        }
+        GeofenceIndex loaded = builder.build();
+        log.info("Project geofence index loaded: {} sites", loaded.size());
+        return loaded;
+    }
+}
@@ -81,21 +81,18 @@ public class ProjectReportService {
         BigDecimal totalReceived = BigDecimal.ZERO;
         BigDecimal totalMade = BigDecimal.ZERO;
 
+        // Payments received (paid due payments) and made (payment processes, linked through
+        // payment requests), summed per project in one grouped query each
+        Map<Long, BigDecimal> receivedByProject = new HashMap<>();
+        duePaymentRepository.sumPaidAmountByProject()
+                .forEach(r -> receivedByProject.put(r.getProjectCode(), r.getAmount()));
+        Map<Long, BigDecimal> madeByProject = new HashMap<>();
+        paymentProcessRepository.sumPaidAmountByProject()
+                .forEach(r -> madeByProject.put(r.getProjectCode(), r.getAmount()));
+
         for (Project project : projects) {
-            // Calculate payments received (from project due payments)
-            BigDecimal received = duePaymentRepository.findByProjectCodeOrderBySequenceNoAsc(project.getProjectCode())
-                    .stream()
-                    .filter(p -> "PAID".equals(p.getPaymentStatus()))
-                    .map(ProjectDuePayment::getPaidAmount)
-                    .reduce(BigDecimal.ZERO, BigDecimal::add);
-
-            // Calculate payments made (from payment processes - linked through payment requests)
-            BigDecimal made = paymentProcessRepository.findAll()
-                    .stream()
-                    .filter(p -> p.getPaymentRequest() != null && 
-                            project.getProjectCode().equals(p.getPaymentRequest().getProjectCode()))
-                    .map(ProjectPaymentProcess::getPaidAmount)
-                    .reduce(BigDecimal.ZERO, BigDecimal::add);
+            BigDecimal received = receivedByProject.getOrDefault(project.getProjectCode(), BigDecimal.ZERO);
+            BigDecimal made = madeByProject.getOrDefault(project.getProjectCode(), BigDecimal.ZERO);
 
             BigDecimal outstanding = project.getTotalProjectAmount()
                     .subtract(received)
@@ -252,16 +249,18 @@ public class ProjectReportService {
 
         List<List<Object>> data = new ArrayList<>();
         Map<Long, Integer> employeeAssignmentCount = new HashMap<>();
+        Map<Long, String> employeeNames = employeeNames(assignments.stream()
+                .map(ProjectLaborAssignment::getEmployeeNo).collect(Collectors.toSet()));
+        Map<Long, String> projectNames = projectNames(assignments.stream()
+                .map(ProjectLaborAssignment::getProjectCode).collect(Collectors.toSet()));
 
         for (ProjectLaborAssignment assignment : assignments) {
-            Employee employee = employeeRepository.findById(assignment.getEmployeeNo()).orElse(null);
-            Project project = projectRepository.findById(assignment.getProjectCode()).orElse(null);
 
             data.add(Arrays.asList(
                     assignment.getEmployeeNo(),
-                    employee != null ? employee.getEmployeeName() : "ØºÙŠØ± Ù…Ø¹Ø±ÙˆÙ",
+                    employeeNames.getOrDefault(assignment.getEmployeeNo(), "ØºÙŠØ± Ù…Ø¹Ø±ÙˆÙ"),
                     assignment.getProjectCode(),
-                    project != null ? project.getProjectName() : "ØºÙŠØ± Ù…Ø¹Ø±ÙˆÙ",
+                    projectNames.getOrDefault(assignment.getProjectCode(), "ØºÙŠØ± Ù…Ø¹Ø±ÙˆÙ"),
                     assignment.getStartDate(),
                     assignment.getEndDate(),
                     assignment.getAssignmentStatus(),
@@ -275,10 +274,9 @@ public class ProjectReportService {
         // Identify over-allocated employees (multiple active assignments)
         List<String> overAllocated = employeeAssignmentCount.entrySet().stream()
                 .filter(e -> e.getValue() > 1)
-                .map(e -> {
-                    Employee emp = employeeRepository.findById(e.getKey()).orElse(null);
-                    return emp != null ? emp.getEmployeeName() : "Ø§Ù„Ù…ÙˆØ¸Ù " + e.getKey();
-                })
+                .map(e -> employeeNames.containsKey(e.getKey())
+                        ? employeeNames.get(e.getKey())
+                        : "Ø§Ù„Ù…ÙˆØ¸Ù " + e.getKey())
                 .collect(Collectors.toList());
 
         Map<String, Object> metadata = new HashMap<>();
@@ -305,8 +303,7 @@ public class ProjectReportService {
 
         List<ProjectTransferRequest> transfers;
         if (request.getProjectCode() != null) {
-            transfers = transferRequestRepository.findByFromProjectCode(request.getProjectCode());
-            transfers.addAll(transferRequestRepository.findByToProjectCode(request.getProjectCode()));
+            transfers = transferRequestRepository.findByProjectCode(request.getProjectCode());
         } else {
             transfers = transferRequestRepository.findAll();
         }
@@ -329,18 +326,23 @@ public class ProjectReportService {
         );
 
         List<List<Object>> data = new ArrayList<>();
+        Map<Long, String> employeeNames = employeeNames(transfers.stream()
+                .map(ProjectTransferRequest::getEmployeeNo).collect(Collectors.toSet()));
+        Set<Long> projectCodes = new HashSet<>();
+        transfers.forEach(t -> {
+            projectCodes.add(t.getFromProjectCode());
+            projectCodes.add(t.getToProjectCode());
+        });
+        Map<Long, String> projectNames = projectNames(projectCodes);
 
         for (ProjectTransferRequest transfer : transfers) {
-            Employee employee = employeeRepository.findById(transfer.getEmployeeNo()).orElse(null);
-            Project fromProject = projectRepository.findById(transfer.getFromProjectCode()).orElse(null);
-            Project toProject = projectRepository.findById(transfer.getToProjectCode()).orElse(null);
 
             data.add(Arrays.asList(
                     transfer.getTransferDate(),
                     transfer.getEmployeeNo(),
-                    employee != null ? employee.getEmployeeName() : "ØºÙŠØ± Ù…Ø¹Ø±ÙˆÙ",
-                    fromProject != null ? fromProject.getProjectName() : "ØºÙŠØ± Ù…Ø¹Ø±ÙˆÙ",
-                    toProject != null ? toProject.getProjectName() : "ØºÙŠØ± Ù…Ø¹Ø±ÙˆÙ",
+                    employeeNames.getOrDefault(transfer.getEmployeeNo(), "ØºÙŠØ± Ù…Ø¹Ø±ÙˆÙ"),
+                    projectNames.getOrDefault(transfer.getFromProjectCode(), "ØºÙŠØ± Ù…Ø¹Ø±ÙˆÙ"),
+                    projectNames.getOrDefault(transfer.getToProjectCode(), "ØºÙŠØ± Ù…Ø¹Ø±ÙˆÙ"),
                     transfer.getTransferReason(),
                     transfer.getTransStatus()
             ));
@@ -355,6 +357,32 @@ public class ProjectReportService {
 
     // Helper methods
 
+    /**
+     * Employee names for the given employee numbers, loaded in one query.
+     */
+    private Map<Long, String> employeeNames(Collection<Long> employeeNos) {
+        Map<Long, String> names = new HashMap<>();
+        if (!employeeNos.isEmpty()) {
+            employeeRepository.findNamesByEmployeeNoIn(employeeNos).stream()
+                    .filter(e -> e.getEmployeeName() != null)
+                    .forEach(e -> names.put(e.getEmployeeNo(), e.getEmployeeName()));
+        }
+        return names;
+    }
+
+    /**
+     * Project names for the given project codes, loaded in one query.
+     */
+    private Map<Long, String> projectNames(Collection<Long> projectCodes) {
+        Map<Long, String> names = new HashMap<>();
+        if (!projectCodes.isEmpty()) {
+            projectRepository.findNamesByProjectCodeIn(projectCodes).stream()
+                    .filter(p -> p.getProjectName() != null)
+                    .forEach(p -> names.put(p.getProjectCode(), p.getProjectName()));
+        }
+        return names;
+    }
+
     private void validateDateRange(ReportRequest request) {
         if (request.getStartDate() == null || request.getEndDate() == null) {
             throw new IllegalArgumentException("ØªØ§Ø±ÙŠØ® Ø§Ù„Ø¨Ø¯Ø¡ ÙˆØªØ§Ø±ÙŠØ® Ø§Ù„Ø§Ù†ØªÙ‡Ø§Ø¡ Ù…Ø·Ù„ÙˆØ¨Ø§Ù†");
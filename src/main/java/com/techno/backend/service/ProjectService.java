@@ -1,5 +1,6 @@
 package com.techno.backend.service;
 
+import com.techno.backend.constants.TypeaheadType;
 import com.techno.backend.dto.project.ProjectRequest;
 import com.techno.backend.dto.project.ProjectResponse;
 import com.techno.backend.dto.project.ProjectSummary;
@@ -14,6 +15,7 @@ import com.techno.backend.repository.TimeScheduleRepository;
 import com.techno.backend.entity.TimeSchedule;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -41,6 +43,8 @@ public class ProjectService {
     private final ProjectRepository projectRepository;
     private final EmployeeRepository employeeRepository;
     private final TimeScheduleRepository timeScheduleRepository;
+    private final ProjectGeofenceService projectGeofenceService;
+    private final TypeaheadService typeaheadService;
 
     /**
      * Create a new project.
@@ -49,6 +53,7 @@ public class ProjectService {
      * @return Created project response
      */
     @Transactional
+    @CacheEvict(value = "timeSchedules", allEntries = true)
     public ProjectResponse createProject(ProjectRequest request) {
         log.info("Creating new project: {}", request.getProjectName());
 
@@ -95,6 +100,8 @@ public class ProjectService {
                 .build();
 
         project = projectRepository.save(project);
+        updateTypeahead(project);
+        projectGeofenceService.invalidate();
         log.info("Project created successfully with code: {}", project.getProjectCode());
 
         // Assign schedule to project if provided
@@ -111,6 +118,7 @@ public class ProjectService {
      * @return Updated project response
      */
     @Transactional
+    @CacheEvict(value = "timeSchedules", allEntries = true)
     public ProjectResponse updateProject(Long projectCode, ProjectUpdateRequest request) {
         log.info("Updating project: {}", projectCode);
 
@@ -198,6 +206,8 @@ public class ProjectService {
         }
 
         project = projectRepository.save(project);
+        updateTypeahead(project);
+        projectGeofenceService.invalidate();
         log.info("Project {} updated successfully", projectCode);
 
         // Assign schedule to project if scheduleId is provided in update request
@@ -323,10 +333,20 @@ public class ProjectService {
 
         project.setProjectStatus("CANCELLED");
         projectRepository.save(project);
+        updateTypeahead(project);
+        projectGeofenceService.invalidate();
 
         log.info("Project {} deactivated successfully", projectCode);
     }
 
+    /**
+     * Keep the typeahead index in step with a saved project.
+     */
+    private void updateTypeahead(Project project) {
+        typeaheadService.update(TypeaheadType.PROJECT, project.getProjectCode(), project.getProjectName(),
+                !"CANCELLED".equals(project.getProjectStatus()));
+    }
+
     // ==================== Mapping Methods ====================
 
     /**
@@ -475,6 +495,7 @@ public class ProjectService {
      * @param scheduleId  Schedule ID to assign (null to remove assignment)
      */
     @Transactional
+    @CacheEvict(value = "timeSchedules", allEntries = true)
     public void assignSchedule(Long projectCode, Long scheduleId) {
         // Validate project exists
         if (!projectRepository.existsById(projectCode)) {
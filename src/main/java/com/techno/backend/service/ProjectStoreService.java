@@ -1,5 +1,6 @@
 package com.techno.backend.service;
 
+import com.techno.backend.constants.TypeaheadType;
 import com.techno.backend.dto.warehouse.StoreRequest;
 import com.techno.backend.dto.warehouse.StoreResponse;
 import com.techno.backend.dto.warehouse.StoreSummary;
@@ -29,6 +30,7 @@ public class ProjectStoreService {
     private final ProjectRepository projectRepository;
     private final EmployeeRepository employeeRepository;
     private final StoreBalanceRepository balanceRepository;
+    private final TypeaheadService typeaheadService;
 
     @Transactional
     public StoreResponse createStore(StoreRequest request) {
@@ -57,6 +59,7 @@ public class ProjectStoreService {
                 .build();
 
         store = storeRepository.save(store);
+        updateTypeahead(store);
         log.info("Project store created successfully with code: {}", store.getStoreCode());
 
         return mapToResponse(store);
@@ -92,6 +95,7 @@ public class ProjectStoreService {
         }
 
         store = storeRepository.save(store);
+        updateTypeahead(store);
         log.info("Project store updated successfully: {}", storeCode);
 
         return mapToResponse(store);
@@ -143,6 +147,7 @@ public class ProjectStoreService {
 
         store.setIsDeleted(true);
         storeRepository.save(store);
+        updateTypeahead(store);
 
         log.info("Project store deactivated successfully: {}", storeCode);
     }
@@ -161,10 +166,19 @@ public class ProjectStoreService {
         // No balance check - force delete
         store.setIsDeleted(true);
         storeRepository.save(store);
+        updateTypeahead(store);
 
         log.warn("Project store force deactivated successfully: {} (balances check was bypassed)", storeCode);
     }
 
+    /**
+     * Keep the typeahead index in step with a saved store.
+     */
+    private void updateTypeahead(ProjectStore store) {
+        typeaheadService.update(TypeaheadType.STORE, store.getStoreCode(), store.getStoreName(),
+                Boolean.TRUE.equals(store.getIsActive()) && !Boolean.TRUE.equals(store.getIsDeleted()));
+    }
+
     private StoreResponse mapToResponse(ProjectStore store) {
         String managerName = null;
         if (store.getStoreManagerId() != null) {
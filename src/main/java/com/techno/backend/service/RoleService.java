@@ -9,6 +9,7 @@ import com.techno.backend.exception.BadRequestException;
 import com.techno.backend.exception.ResourceNotFoundException;
 import com.techno.backend.repository.RolePermissionRepository;
 import com.techno.backend.repository.RoleRepository;
+import com.techno.backend.security.RolePermissionCache;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
@@ -32,6 +33,7 @@ public class RoleService {
 
     private final RoleRepository roleRepository;
     private final RolePermissionRepository rolePermissionRepository;
+    private final RolePermissionCache rolePermissionCache;
 
     /**
      * Get all roles with pagination
@@ -122,6 +124,7 @@ public class RoleService {
                 .build();
 
         rolePermissionRepository.save(permissions);
+        rolePermissionCache.invalidate();
 
         log.info("Role created successfully with ID: {}", role.getRoleId());
         return mapToResponse(role);
@@ -169,6 +172,7 @@ public class RoleService {
         permissions.setCanManageSettings(booleanToChar(request.getCanManageSettings()));
 
         rolePermissionRepository.save(permissions);
+        rolePermissionCache.invalidate();
 
         log.info("Role updated successfully: {}", roleId);
         return mapToResponse(role);
@@ -189,6 +193,7 @@ public class RoleService {
         // Soft delete - set isActive to 'N'
         role.setIsActive('N');
         roleRepository.save(role);
+        rolePermissionCache.invalidate();
 
         log.info("Role deleted successfully: {}", roleId);
     }
@@ -1,20 +1,35 @@
 package com.techno.backend.service;
 
+import com.techno.backend.dto.salary.BulkSalaryRaiseRequest;
+import com.techno.backend.dto.salary.BulkSalaryRaiseResponse;
 import com.techno.backend.entity.Employee;
 import com.techno.backend.entity.EmpPayrollTransaction;
 import com.techno.backend.entity.SalaryBreakdownPercentage;
+import com.techno.backend.exception.BadRequestException;
 import com.techno.backend.repository.EmployeeRepository;
 import com.techno.backend.repository.EmpPayrollTransactionRepository;
 import com.techno.backend.repository.SalaryBreakdownPercentageRepository;
+import jakarta.persistence.criteria.Predicate;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.math.BigDecimal;
 import java.math.RoundingMode;
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 /**
  * Service for processing salary raises.
@@ -25,6 +40,12 @@ import java.util.List;
  * 3. Creates new payroll transactions with recalculated amounts
  *    based on salary breakdown percentages
  *
+ * Bulk raises apply one rule (percent, fixed amount or salary bands) to a
+ * selection of employees. New salaries and components are computed in memory
+ * from one query per chunk of employees, and each chunk of 500 is saved in
+ * its own transaction with batched writes. A preview runs the same
+ * calculation without saving.
+ *
  * @author Techno HR System
  * @version 1.0
  * @since Phase 7 - Payroll Approval
@@ -34,9 +55,16 @@ import java.util.List;
 @Slf4j
 public class SalaryRaiseService {
 
+    /**
+     * Employees saved per transaction in a bulk raise
+     */
+    private static final int CHUNK_SIZE = 500;
+
     private final EmployeeRepository employeeRepository;
     private final EmpPayrollTransactionRepository payrollTransactionRepository;
     private final SalaryBreakdownPercentageRepository salaryBreakdownRepository;
+    private final PlatformTransactionManager transactionManager;
+    private final PayrollDirtyService payrollDirtyService;
 
     /**
      * Process a salary raise for an employee.
@@ -79,6 +107,7 @@ public class SalaryRaiseService {
         // Update employee salary
         employee.setMonthlySalary(newSalary);
         employee = employeeRepository.save(employee);
+        payrollDirtyService.markEmployees(List.of(employeeNo), effectiveDate);
         log.info("Updated employee {} salary from {} to {}", employeeNo, oldSalary, newSalary);
 
         // Deactivate current payroll transactions
@@ -125,6 +154,298 @@ public class SalaryRaiseService {
         return employee;
     }
 
+    /**
+     * Preview a bulk salary raise without saving anything.
+     *
+     * @param request Employee selection and raise rule
+     * @return Old and new salary and components per employee, and employees skipped
+     */
+    @Transactional(readOnly = true)
+    public BulkSalaryRaiseResponse previewBulkRaise(BulkSalaryRaiseRequest request) {
+        validateRule(request);
+        LocalDate effectiveDate = request.getEffectiveDate() != null ? request.getEffectiveDate() : LocalDate.now();
+        Map<String, List<SalaryBreakdownPercentage>> breakdowns = loadBreakdowns();
+
+        List<Long> employeeNos = findSelectedEmployeeNos(request);
+        RaisePlan plan = new RaisePlan();
+        for (int from = 0; from < employeeNos.size(); from += CHUNK_SIZE) {
+            List<Long> chunk = employeeNos.subList(from, Math.min(from + CHUNK_SIZE, employeeNos.size()));
+            plan.add(planChunk(chunk, request, breakdowns, false, effectiveDate));
+        }
+
+        log.info("Previewed bulk salary raise ({}): {} employees, {} skipped",
+                request.getRuleType(), plan.changes.size(), plan.skipped.size());
+        return toResponse(true, request, effectiveDate, plan);
+    }
+
+    /**
+     * Process a bulk salary raise.
+     *
+     * Each chunk of employees is saved in its own transaction. If a chunk
+     * fails, its employees are reported as skipped and the remaining chunks
+     * are still processed, so the raise can be repeated for the skipped
+     * employees alone.
+     *
+     * @param request Employee selection and raise rule
+     * @return Old and new salary and components per raised employee, and employees skipped
+     */
+    public BulkSalaryRaiseResponse processBulkRaise(BulkSalaryRaiseRequest request) {
+        validateRule(request);
+        LocalDate effectiveDate = request.getEffectiveDate() != null ? request.getEffectiveDate() : LocalDate.now();
+        Map<String, List<SalaryBreakdownPercentage>> breakdowns = loadBreakdowns();
+
+        List<Long> employeeNos = findSelectedEmployeeNos(request);
+        log.info("Processing bulk salary raise ({}) for {} employees effective {}",
+                request.getRuleType(), employeeNos.size(), effectiveDate);
+
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        RaisePlan plan = new RaisePlan();
+        for (int from = 0; from < employeeNos.size(); from += CHUNK_SIZE) {
+            List<Long> chunk = employeeNos.subList(from, Math.min(from + CHUNK_SIZE, employeeNos.size()));
+            try {
+                plan.add(transactionTemplate.execute(status ->
+                        planChunk(chunk, request, breakdowns, true, effectiveDate)));
+            } catch (RuntimeException e) {
+                log.error("Bulk salary raise failed for employees {} to {}: {}",
+                        chunk.get(0), chunk.get(chunk.size() - 1), e.getMessage(), e);
+                chunk.forEach(employeeNo -> plan.skipped.add(BulkSalaryRaiseResponse.SkippedEmployee.builder()
+                        .employeeNo(employeeNo)
+                        .reason("تعذر حفظ الزيادة: " + e.getMessage())
+                        .build()));
+            }
+        }
+
+        log.info("Bulk salary raise completed: {} employees raised, {} skipped. Reason: {}",
+                plan.changes.size(), plan.skipped.size(), request.getReason());
+        return toResponse(false, request, effectiveDate, plan);
+    }
+
+    /**
+     * Compute the raise for a chunk of employees and, if {@code apply}, save it:
+     * new salaries, old components deactivated and new components inserted.
+     */
+    private RaisePlan planChunk(List<Long> employeeNos, BulkSalaryRaiseRequest request,
+                                Map<String, List<SalaryBreakdownPercentage>> breakdowns,
+                                boolean apply, LocalDate effectiveDate) {
+        List<Employee> employees = new ArrayList<>(employeeRepository.findAllById(employeeNos));
+        employees.sort(Comparator.comparing(Employee::getEmployeeNo));
+        Map<Long, List<EmpPayrollTransaction>> currentByEmployee = payrollTransactionRepository
+                .findActiveByEmployeeNoIn(employeeNos).stream()
+                .collect(Collectors.groupingBy(EmpPayrollTransaction::getEmployeeNo));
+
+        RaisePlan plan = new RaisePlan();
+        List<EmpPayrollTransaction> created = new ArrayList<>();
+        for (Employee employee : employees) {
+            String skipReason = null;
+            BigDecimal oldSalary = employee.getMonthlySalary();
+            BigDecimal newSalary = null;
+            if (employee.isTerminated()) {
+                skipReason = "الموظف منتهي الخدمة";
+            } else if (oldSalary == null || oldSalary.compareTo(BigDecimal.ZERO) <= 0) {
+                skipReason = "لا يوجد راتب حالي للموظف";
+            } else {
+                newSalary = calculateRaisedSalary(oldSalary, request);
+                if (newSalary == null) {
+                    skipReason = "لا توجد شريحة رواتب تناسب الراتب الحالي " + oldSalary;
+                }
+            }
+            if (skipReason != null) {
+                plan.skipped.add(BulkSalaryRaiseResponse.SkippedEmployee.builder()
+                        .employeeNo(employee.getEmployeeNo())
+                        .employeeName(employee.getEmployeeName())
+                        .reason(skipReason)
+                        .build());
+                continue;
+            }
+
+            List<EmpPayrollTransaction> current = currentByEmployee.getOrDefault(employee.getEmployeeNo(), List.of());
+            List<EmpPayrollTransaction> replacements = buildComponents(employee, newSalary,
+                    breakdowns.getOrDefault(employee.getEmployeeCategory(), List.of()), effectiveDate);
+            plan.changes.add(BulkSalaryRaiseResponse.EmployeeChange.builder()
+                    .employeeNo(employee.getEmployeeNo())
+                    .employeeName(employee.getEmployeeName())
+                    .departmentCode(employee.getPrimaryDeptCode())
+                    .contractType(employee.getEmpContractType())
+                    .oldSalary(oldSalary)
+                    .newSalary(newSalary)
+                    .increase(newSalary.subtract(oldSalary))
+                    .raisePercentage(calculateRaisePercentage(oldSalary, newSalary))
+                    .components(diffComponents(current, replacements))
+                    .build());
+
+            if (apply) {
+                // Managed entities: changes are flushed as batched updates at commit
+                employee.setMonthlySalary(newSalary);
+                current.forEach(EmpPayrollTransaction::deactivate);
+                created.addAll(replacements);
+            }
+        }
+
+        if (apply && !created.isEmpty()) {
+            payrollTransactionRepository.saveAll(created);
+        }
+        if (apply && !plan.changes.isEmpty()) {
+            payrollDirtyService.markEmployees(plan.changes.stream()
+                    .map(BulkSalaryRaiseResponse.EmployeeChange::getEmployeeNo)
+                    .toList(), effectiveDate);
+        }
+        return plan;
+    }
+
+    /**
+     * New salary under the request's rule, or null if no salary band matches.
+     */
+    private BigDecimal calculateRaisedSalary(BigDecimal oldSalary, BulkSalaryRaiseRequest request) {
+        return switch (request.getRuleType()) {
+            case BulkSalaryRaiseRequest.RULE_PERCENT -> calculateNewSalary(oldSalary, request.getValue());
+            case BulkSalaryRaiseRequest.RULE_FIXED -> oldSalary.add(request.getValue()).setScale(4, RoundingMode.HALF_UP);
+            default -> request.getBands().stream()
+                    .filter(band -> oldSalary.compareTo(band.getFromSalary()) >= 0
+                            && (band.getToSalary() == null || oldSalary.compareTo(band.getToSalary()) < 0))
+                    .findFirst()
+                    .map(band -> calculateNewSalary(oldSalary, band.getPercent()))
+                    .orElse(null);
+        };
+    }
+
+    /**
+     * Salary components for a new salary, one per breakdown of the employee's
+     * category, or a single component for the full salary if none is defined.
+     */
+    private List<EmpPayrollTransaction> buildComponents(Employee employee, BigDecimal newSalary,
+                                                        List<SalaryBreakdownPercentage> breakdowns,
+                                                        LocalDate effectiveDate) {
+        if (breakdowns.isEmpty()) {
+            return List.of(EmpPayrollTransaction.builder()
+                    .employeeNo(employee.getEmployeeNo())
+                    .transTypeCode(1L)
+                    .transAmount(newSalary)
+                    .transPercentage(BigDecimal.ONE)
+                    .effectiveDate(effectiveDate)
+                    .isActive("Y")
+                    .build());
+        }
+        return breakdowns.stream()
+                .map(breakdown -> EmpPayrollTransaction.builder()
+                        .employeeNo(employee.getEmployeeNo())
+                        .transTypeCode(breakdown.getTransTypeCode())
+                        .transAmount(breakdown.calculateAmount(newSalary))
+                        .transPercentage(breakdown.getSalaryPercentage())
+                        .effectiveDate(effectiveDate)
+                        .isActive("Y")
+                        .build())
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Old and new amount per transaction type.
+     */
+    private List<BulkSalaryRaiseResponse.ComponentChange> diffComponents(List<EmpPayrollTransaction> current,
+                                                                         List<EmpPayrollTransaction> replacements) {
+        Map<Long, BigDecimal> oldAmounts = current.stream()
+                .collect(Collectors.toMap(EmpPayrollTransaction::getTransTypeCode,
+                        EmpPayrollTransaction::getTransAmount, BigDecimal::add, TreeMap::new));
+        Map<Long, EmpPayrollTransaction> newComponents = replacements.stream()
+                .collect(Collectors.toMap(EmpPayrollTransaction::getTransTypeCode, Function.identity()));
+
+        TreeSet<Long> typeCodes = new TreeSet<>(oldAmounts.keySet());
+        typeCodes.addAll(newComponents.keySet());
+        return typeCodes.stream()
+                .map(typeCode -> {
+                    EmpPayrollTransaction replacement = newComponents.get(typeCode);
+                    return BulkSalaryRaiseResponse.ComponentChange.builder()
+                            .transTypeCode(typeCode)
+                            .oldAmount(oldAmounts.get(typeCode))
+                            .newAmount(replacement != null ? replacement.getTransAmount() : null)
+                            .percentage(replacement != null ? replacement.getTransPercentage() : null)
+                            .build();
+                })
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Employee numbers matching the selection, in order.
+     * Empty selection lists do not filter.
+     */
+    private List<Long> findSelectedEmployeeNos(BulkSalaryRaiseRequest request) {
+        Specification<Employee> selection = (root, query, criteriaBuilder) -> {
+            List<Predicate> predicates = new ArrayList<>();
+            predicates.add(criteriaBuilder.notEqual(root.get("employmentStatus"), "TERMINATED"));
+            if (request.getDepartmentCodes() != null && !request.getDepartmentCodes().isEmpty()) {
+                predicates.add(root.get("primaryDeptCode").in(request.getDepartmentCodes()));
+            }
+            if (request.getContractTypes() != null && !request.getContractTypes().isEmpty()) {
+                predicates.add(root.get("empContractType").in(request.getContractTypes()));
+            }
+            if (request.getEmployeeCategories() != null && !request.getEmployeeCategories().isEmpty()) {
+                predicates.add(root.get("employeeCategory").in(request.getEmployeeCategories()));
+            }
+            if (request.getEmployeeNos() != null && !request.getEmployeeNos().isEmpty()) {
+                predicates.add(root.get("employeeNo").in(request.getEmployeeNos()));
+            }
+            return criteriaBuilder.and(predicates.toArray(new Predicate[0]));
+        };
+
+        return employeeRepository.findAll(selection, Sort.by("employeeNo")).stream()
+                .map(Employee::getEmployeeNo)
+                .collect(Collectors.toList());
+    }
+
+    private Map<String, List<SalaryBreakdownPercentage>> loadBreakdowns() {
+        return salaryBreakdownRepository.findAllActive().stream()
+                .collect(Collectors.groupingBy(SalaryBreakdownPercentage::getEmployeeCategory));
+    }
+
+    private void validateRule(BulkSalaryRaiseRequest request) {
+        if (BulkSalaryRaiseRequest.RULE_SALARY_BAND.equals(request.getRuleType())) {
+            if (request.getBands() == null || request.getBands().isEmpty()) {
+                throw new BadRequestException("شرائح الرواتب مطلوبة لقاعدة الزيادة حسب الشريحة");
+            }
+            for (BulkSalaryRaiseRequest.SalaryBand band : request.getBands()) {
+                if (band.getToSalary() != null && band.getToSalary().compareTo(band.getFromSalary()) <= 0) {
+                    throw new BadRequestException("نهاية الشريحة يجب أن تكون أكبر من بدايتها");
+                }
+            }
+        } else if (request.getValue() == null) {
+            throw new BadRequestException("قيمة الزيادة مطلوبة");
+        }
+    }
+
+    private BulkSalaryRaiseResponse toResponse(boolean dryRun, BulkSalaryRaiseRequest request,
+                                               LocalDate effectiveDate, RaisePlan plan) {
+        BigDecimal totalOld = plan.changes.stream()
+                .map(BulkSalaryRaiseResponse.EmployeeChange::getOldSalary)
+                .reduce(BigDecimal.ZERO, BigDecimal::add);
+        BigDecimal totalNew = plan.changes.stream()
+                .map(BulkSalaryRaiseResponse.EmployeeChange::getNewSalary)
+                .reduce(BigDecimal.ZERO, BigDecimal::add);
+
+        return BulkSalaryRaiseResponse.builder()
+                .dryRun(dryRun)
+                .ruleType(request.getRuleType())
+                .effectiveDate(effectiveDate)
+                .employeeCount(plan.changes.size())
+                .totalOldSalary(totalOld)
+                .totalNewSalary(totalNew)
+                .totalIncrease(totalNew.subtract(totalOld))
+                .employees(plan.changes)
+                .skipped(plan.skipped)
+                .build();
+    }
+
+    /**
+     * Changes and skipped employees, accumulated chunk by chunk.
+     */
+    private static class RaisePlan {
+        private final List<BulkSalaryRaiseResponse.EmployeeChange> changes = new ArrayList<>();
+        private final List<BulkSalaryRaiseResponse.SkippedEmployee> skipped = new ArrayList<>();
+
+        void add(RaisePlan other) {
+            changes.addAll(other.changes);
+            skipped.addAll(other.skipped);
+        }
+    }
+
     /**
      * Create a payroll transaction.
      */
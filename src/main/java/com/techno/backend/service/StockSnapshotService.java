@@ -0,0 +1,322 @@
+package com.techno.backend.service;
+
+import com.techno.backend.dto.warehouse.StockAsOfResponse;
+import com.techno.backend.dto.warehouse.StockSnapshotResponse;
+import com.techno.backend.entity.StoreBalanceSnapshot;
+import com.techno.backend.exception.BadRequestException;
+import com.techno.backend.repository.ProjectStoreRepository;
+import com.techno.backend.repository.StoreBalanceRepository;
+import com.techno.backend.repository.StoreBalanceSnapshotRepository;
+import com.techno.backend.repository.StoreItemRepository;
+import com.techno.backend.repository.StoreTransactionRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Isolation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Service for daily stock snapshots and point-in-time stock balances.
+ *
+ * A snapshot keeps the balance of every store and item with stock at the end
+ * of a day. It is taken each night for the previous day from the current
+ * balances, minus the ledger movements made since that day ended.
+ *
+ * Stock at the end of any day starts from the nearest base - a snapshot before
+ * or after the day, or the current balances - and replays only the ledger
+ * movements between the base and the day: added when the base is earlier,
+ * subtracted when it is later. All requested stores are read together, with
+ * one grouped range query on the ledger, so the cost depends on the number of
+ * movements between the base and the day, not on the length of the ledger.
+ *
+ * Both operations read balances and ledger in one REPEATABLE_READ transaction
+ * so movements committed meanwhile are counted in both or in neither.
+ *
+ * Days are Asia/Riyadh days, the zone the job is scheduled in, so the run at
+ * 00:15 snapshots the day that has just ended on a UTC host too. Ledger rows
+ * are stamped with the JVM's local time, so each day boundary is Riyadh
+ * midnight expressed in the JVM zone before it is compared with them.
+ *
+ * Values are only as complete as the ledger costs. Movements recorded before
+ * moving-average costing (migration V17) have no total cost and replay with
+ * value 0; their quantity is still exact. Replays over such movements report
+ * how many there were in unpricedMovements, so the value of those days can
+ * be read as approximate.
+ *
+ * @author Techno HR System
+ * @version 1.1
+ * @since Phase 11 - Warehouse Management
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class StockSnapshotService {
+
+    public static final String REPLAY_FORWARD = "FORWARD";
+    public static final String REPLAY_BACKWARD = "BACKWARD";
+    public static final String REPLAY_NONE = "NONE";
+
+    private static final ZoneId SNAPSHOT_ZONE = ZoneId.of("Asia/Riyadh");
+
+    private static final Comparator<BalanceKey> BALANCE_ORDER =
+            Comparator.comparing(BalanceKey::storeCode).thenComparing(BalanceKey::itemCode);
+
+    private final StoreBalanceSnapshotRepository snapshotRepository;
+    private final StoreBalanceRepository balanceRepository;
+    private final StoreTransactionRepository transactionRepository;
+    private final ProjectStoreRepository storeRepository;
+    private final StoreItemRepository itemRepository;
+
+    private Clock clock = Clock.system(SNAPSHOT_ZONE);
+
+    // Zone of StoreTransaction.transactionDate (written with LocalDateTime.now())
+    private ZoneId ledgerZone = ZoneId.systemDefault();
+
+    /**
+     * Daily stock snapshot job.
+     *
+     * Runs at 00:15 Saudi Arabia time and takes the snapshot of the previous day.
+     */
+    @Scheduled(cron = "0 15 0 * * *", zone = "Asia/Riyadh")
+    @Transactional(isolation = Isolation.REPEATABLE_READ)
+    public void takeDailySnapshot() {
+        LocalDate day = LocalDate.now(clock).minusDays(1);
+        log.info("Starting daily stock snapshot for {}", day);
+
+        try {
+            StockSnapshotResponse result = takeSnapshot(day);
+            log.info("Daily stock snapshot for {} completed: {} balances, value {}, {} ms",
+                    day, result.getBalanceCount(), result.getTotalValue(), result.getElapsedMillis());
+        } catch (Exception e) {
+            log.error("Daily stock snapshot for {} failed: {}", day, e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Take (or retake) the stock snapshot of a finished day.
+     *
+     * @param snapshotDate Day to snapshot; must be before today
+     * @return Number of balances written and their value
+     */
+    @Transactional(isolation = Isolation.REPEATABLE_READ)
+    public StockSnapshotResponse takeSnapshot(LocalDate snapshotDate) {
+        if (snapshotDate == null || !snapshotDate.isBefore(LocalDate.now(clock))) {
+            throw new BadRequestException("لا يمكن أخذ لقطة المخزون إلا ليوم منتهٍ");
+        }
+        long start = System.currentTimeMillis();
+
+        // Current balances, rolled back to the end of the day
+        Map<BalanceKey, Amount> amounts = new HashMap<>();
+        for (StoreBalanceRepository.BalanceAmount balance : balanceRepository.findAllAmounts()) {
+            amount(amounts, balance.getStoreCode(), balance.getItemCode())
+                    .add(balance.getQuantityOnHand(), balance.getTotalValue());
+        }
+        Replayed rolledBack = replay(amounts, transactionRepository.sumAllMovementsSince(endOf(snapshotDate)), false);
+        if (rolledBack.unpricedMovements() > 0) {
+            log.warn("Stock snapshot for {}: {} movements without cost were rolled back with value 0",
+                    snapshotDate, rolledBack.unpricedMovements());
+        }
+
+        int replaced = snapshotRepository.deleteBySnapshotDate(snapshotDate);
+
+        List<StoreBalanceSnapshot> rows = new ArrayList<>();
+        BigDecimal totalValue = BigDecimal.ZERO;
+        for (Map.Entry<BalanceKey, Amount> entry : amounts.entrySet()) {
+            Amount amount = entry.getValue();
+            if (amount.isZero()) {
+                continue;
+            }
+            rows.add(StoreBalanceSnapshot.builder()
+                    .snapshotDate(snapshotDate)
+                    .storeCode(entry.getKey().storeCode())
+                    .itemCode(entry.getKey().itemCode())
+                    .quantityOnHand(amount.quantity)
+                    .totalValue(amount.value)
+                    .build());
+            totalValue = totalValue.add(amount.value);
+        }
+        snapshotRepository.saveAll(rows);
+
+        log.info("Stock snapshot for {}: {} balances written, {} replaced", snapshotDate, rows.size(), replaced);
+        return StockSnapshotResponse.builder()
+                .snapshotDate(snapshotDate)
+                .balanceCount(rows.size())
+                .replacedCount(replaced)
+                .totalValue(totalValue)
+                .elapsedMillis(System.currentTimeMillis() - start)
+                .build();
+    }
+
+    /**
+     * Get stock on hand at the end of a day.
+     *
+     * @param asOfDate Day; today gives the balances after today's movements so far
+     * @param storeCodes Stores to include, or null/empty for all stores
+     * @return Quantity and value per store and item with stock on that day
+     */
+    @Transactional(readOnly = true, isolation = Isolation.REPEATABLE_READ)
+    public StockAsOfResponse getStockAsOf(LocalDate asOfDate, List<Long> storeCodes) {
+        LocalDate today = LocalDate.now(clock);
+        if (asOfDate == null || asOfDate.isAfter(today)) {
+            throw new BadRequestException("تاريخ الرصيد لا يمكن أن يكون في المستقبل");
+        }
+        long start = System.currentTimeMillis();
+
+        Map<Long, String> storeNames = storeRepository.findAllNames().stream()
+                .collect(Collectors.toMap(ProjectStoreRepository.StoreName::getStoreCode,
+                        s -> s.getStoreName() != null ? s.getStoreName() : "", (a, b) -> a));
+        Set<Long> stores = storeCodes == null || storeCodes.isEmpty()
+                ? storeNames.keySet() : new LinkedHashSet<>(storeCodes);
+
+        StockAsOfResponse.StockAsOfResponseBuilder response = StockAsOfResponse.builder()
+                .asOfDate(asOfDate)
+                .storeCount(stores.size());
+        if (stores.isEmpty()) {
+            return response.replayedMovements(0L).unpricedMovements(0L).totalValue(BigDecimal.ZERO)
+                    .balances(List.of()).elapsedMillis(System.currentTimeMillis() - start).build();
+        }
+
+        // Nearest base: snapshot on/before the day, snapshot after it, or the current balances
+        LocalDate before = snapshotRepository.findLatestDateOnOrBefore(asOfDate);
+        LocalDate after = asOfDate.equals(before) ? null : snapshotRepository.findEarliestDateAfter(asOfDate);
+        long currentDistance = ChronoUnit.DAYS.between(asOfDate, today);
+        long beforeDistance = before != null ? ChronoUnit.DAYS.between(before, asOfDate) : Long.MAX_VALUE;
+        long afterDistance = after != null ? ChronoUnit.DAYS.between(asOfDate, after) : Long.MAX_VALUE;
+
+        Map<BalanceKey, Amount> amounts = new HashMap<>();
+        LocalDateTime dayEnd = endOf(asOfDate);
+        Replayed replayed;
+        if (beforeDistance <= afterDistance && beforeDistance <= currentDistance) {
+            loadSnapshot(amounts, before, stores);
+            replayed = beforeDistance == 0 ? Replayed.NONE
+                    : replay(amounts, transactionRepository.sumMovementsBetween(stores, endOf(before), dayEnd), true);
+            response.baseSnapshotDate(before).replayDirection(beforeDistance == 0 ? REPLAY_NONE : REPLAY_FORWARD);
+        } else if (afterDistance <= currentDistance) {
+            loadSnapshot(amounts, after, stores);
+            replayed = replay(amounts, transactionRepository.sumMovementsBetween(stores, dayEnd, endOf(after)), false);
+            response.baseSnapshotDate(after).replayDirection(REPLAY_BACKWARD);
+        } else {
+            for (StoreBalanceRepository.BalanceAmount balance : balanceRepository.findAmountsByStoreCodes(stores)) {
+                amount(amounts, balance.getStoreCode(), balance.getItemCode())
+                        .add(balance.getQuantityOnHand(), balance.getTotalValue());
+            }
+            replayed = replay(amounts, transactionRepository.sumMovementsSince(stores, dayEnd), false);
+            response.replayDirection(REPLAY_BACKWARD);
+        }
+
+        Map<BalanceKey, Amount> inStock = amounts.entrySet().stream()
+                .filter(e -> !e.getValue().isZero())
+                .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
+        Set<Long> itemCodes = inStock.keySet().stream().map(BalanceKey::itemCode).collect(Collectors.toSet());
+        Map<Long, String> itemNames = itemCodes.isEmpty() ? Map.of()
+                : itemRepository.findNamesByItemCodeIn(itemCodes).stream()
+                        .filter(i -> i.getItemName() != null)
+                        .collect(Collectors.toMap(StoreItemRepository.ItemName::getItemCode,
+                                StoreItemRepository.ItemName::getItemName));
+
+        List<StockAsOfResponse.Line> lines = inStock.entrySet().stream()
+                .sorted(Map.Entry.comparingByKey(BALANCE_ORDER))
+                .map(e -> StockAsOfResponse.Line.builder()
+                        .storeCode(e.getKey().storeCode())
+                        .storeName(storeNames.get(e.getKey().storeCode()))
+                        .itemCode(e.getKey().itemCode())
+                        .itemName(itemNames.get(e.getKey().itemCode()))
+                        .quantityOnHand(e.getValue().quantity)
+                        .totalValue(e.getValue().value)
+                        .build())
+                .toList();
+
+        log.info("Stock as of {} for {} stores: {} balances, {} movements replayed ({} without cost)",
+                asOfDate, stores.size(), lines.size(), replayed.movements(), replayed.unpricedMovements());
+        return response
+                .replayedMovements(replayed.movements())
+                .unpricedMovements(replayed.unpricedMovements())
+                .totalValue(lines.stream().map(StockAsOfResponse.Line::getTotalValue)
+                        .reduce(BigDecimal.ZERO, BigDecimal::add))
+                .balances(lines)
+                .elapsedMillis(System.currentTimeMillis() - start)
+                .build();
+    }
+
+    private void loadSnapshot(Map<BalanceKey, Amount> amounts, LocalDate snapshotDate, Collection<Long> stores) {
+        for (StoreBalanceSnapshot row : snapshotRepository.findBySnapshotDateAndStoreCodes(snapshotDate, stores)) {
+            amount(amounts, row.getStoreCode(), row.getItemCode()).add(row.getQuantityOnHand(), row.getTotalValue());
+        }
+    }
+
+    /**
+     * Add (forward) or subtract (backward) ledger movements.
+     *
+     * @return Number of movements replayed, and of those without a cost
+     */
+    private static Replayed replay(Map<BalanceKey, Amount> amounts,
+                                   List<StoreTransactionRepository.LedgerDelta> deltas, boolean forward) {
+        long movements = 0;
+        long unpriced = 0;
+        for (StoreTransactionRepository.LedgerDelta delta : deltas) {
+            Amount amount = amount(amounts, delta.getStoreCode(), delta.getItemCode());
+            if (forward) {
+                amount.add(delta.getQuantity(), delta.getValue());
+            } else {
+                amount.subtract(delta.getQuantity(), delta.getValue());
+            }
+            movements += delta.getMovements() != null ? delta.getMovements() : 0;
+            unpriced += delta.getUnpricedMovements() != null ? delta.getUnpricedMovements() : 0;
+        }
+        return new Replayed(movements, unpriced);
+    }
+
+    private static Amount amount(Map<BalanceKey, Amount> amounts, Long storeCode, Long itemCode) {
+        return amounts.computeIfAbsent(new BalanceKey(storeCode, itemCode), k -> new Amount());
+    }
+
+    /**
+     * Start of the next Riyadh day in ledger time: movements before it belong to the day
+     */
+    private LocalDateTime endOf(LocalDate day) {
+        return day.plusDays(1).atStartOfDay(SNAPSHOT_ZONE).withZoneSameInstant(ledgerZone).toLocalDateTime();
+    }
+
+    private record BalanceKey(Long storeCode, Long itemCode) {
+    }
+
+    private record Replayed(long movements, long unpricedMovements) {
+        static final Replayed NONE = new Replayed(0, 0);
+    }
+
+    private static final class Amount {
+        private BigDecimal quantity = BigDecimal.ZERO;
+        private BigDecimal value = BigDecimal.ZERO;
+
+        void add(BigDecimal quantity, BigDecimal value) {
+            this.quantity = this.quantity.add(quantity != null ? quantity : BigDecimal.ZERO);
+            this.value = this.value.add(value != null ? value : BigDecimal.ZERO);
+        }
+
+        void subtract(BigDecimal quantity, BigDecimal value) {
+            this.quantity = this.quantity.subtract(quantity != null ? quantity : BigDecimal.ZERO);
+            this.value = this.value.subtract(value != null ? value : BigDecimal.ZERO);
+        }
+
+        boolean isZero() {
+            return quantity.signum() == 0 && value.signum() == 0;
+        }
+    }
+}
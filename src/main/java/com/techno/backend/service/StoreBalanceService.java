@@ -79,6 +79,21 @@ public class StoreBalanceService {
                 .collect(Collectors.toList());
     }
 
+    /**
+     * Stock valuation at moving-average cost, read from the balances in one query.
+     *
+     * @param storeCode Store code, or null for all stores
+     * @return Balances with stock and their value
+     */
+    @Transactional(readOnly = true)
+    public List<BalanceResponse> getStockValuation(Long storeCode) {
+        log.info("Retrieving stock valuation - storeCode: {}", storeCode);
+
+        return balanceRepository.findValuation(storeCode).stream()
+                .map(this::mapToResponse)
+                .collect(Collectors.toList());
+    }
+
     private BalanceResponse mapToResponse(StoreBalance balance) {
         return BalanceResponse.builder()
                 .balanceId(balance.getBalanceId())
@@ -92,6 +107,8 @@ public class StoreBalanceService {
                 .quantityOnHand(balance.getQuantityOnHand())
                 .quantityReserved(balance.getQuantityReserved())
                 .availableQuantity(balance.getAvailableQuantity())
+                .averageCost(balance.getAverageCost())
+                .totalValue(balance.getTotalValue())
                 .lastTransactionDate(balance.getLastTransactionDate())
                 .isBelowReorderLevel(balance.isBelowReorderLevel())
                 .reorderLevel(balance.getItem().getReorderLevel())
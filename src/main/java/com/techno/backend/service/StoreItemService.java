@@ -1,5 +1,6 @@
 package com.techno.backend.service;
 
+import com.techno.backend.constants.TypeaheadType;
 import com.techno.backend.dto.warehouse.ItemRequest;
 import com.techno.backend.dto.warehouse.ItemResponse;
 import com.techno.backend.dto.warehouse.ItemSummary;
@@ -9,10 +10,13 @@ import com.techno.backend.exception.BadRequestException;
 import com.techno.backend.exception.ResourceNotFoundException;
 import com.techno.backend.entity.ProjectStore;
 import com.techno.backend.entity.StoreBalance;
+import com.techno.backend.entity.StoreTransaction;
 import com.techno.backend.repository.ItemCategoryRepository;
 import com.techno.backend.repository.StoreItemRepository;
 import com.techno.backend.repository.StoreBalanceRepository;
 import com.techno.backend.repository.ProjectStoreRepository;
+import com.techno.backend.repository.StoreTransactionRepository;
+import com.techno.backend.util.ArabicTextNormalizer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
@@ -43,6 +47,8 @@ public class StoreItemService {
     private final ItemCategoryRepository categoryRepository;
     private final StoreBalanceRepository balanceRepository;
     private final ProjectStoreRepository storeRepository;
+    private final StoreTransactionRepository transactionRepository;
+    private final TypeaheadService typeaheadService;
 
     /**
      * Create a new store item
@@ -75,6 +81,7 @@ public class StoreItemService {
                 .build();
 
         item = itemRepository.save(item);
+        updateTypeahead(item);
         log.info("Store item created successfully with code: {}", item.getItemCode());
 
         // Handle initial quantity if provided
@@ -82,7 +89,8 @@ public class StoreItemService {
             if (request.getStoreCode() == null) {
                 throw new BadRequestException("Ø±Ù…Ø² Ø§Ù„Ù…ØªØ¬Ø± Ù…Ø·Ù„ÙˆØ¨ Ø¹Ù†Ø¯ ØªÙˆÙÙŠØ± Ø§Ù„ÙƒÙ…ÙŠØ© Ø§Ù„Ø£ÙˆÙ„ÙŠØ©");
             }
-            createOrUpdateInitialBalance(item, request.getStoreCode(), request.getInitialQuantity());
+            createOrUpdateInitialBalance(item, request.getStoreCode(), request.getInitialQuantity(),
+                    request.getInitialUnitCost());
         }
 
         return mapToResponse(item);
@@ -119,6 +127,7 @@ public class StoreItemService {
         }
 
         item = itemRepository.save(item);
+        updateTypeahead(item);
         log.info("Store item updated successfully: {}", itemCode);
 
         // Handle initial quantity if provided
@@ -127,7 +136,8 @@ public class StoreItemService {
                 throw new BadRequestException("Ø±Ù…Ø² Ø§Ù„Ù…ØªØ¬Ø± Ù…Ø·Ù„ÙˆØ¨ Ø¹Ù†Ø¯ ØªÙˆÙÙŠØ± Ø§Ù„ÙƒÙ…ÙŠØ© Ø§Ù„Ø£ÙˆÙ„ÙŠØ©");
             }
             log.info("Processing initial quantity: {} for store: {}", request.getInitialQuantity(), request.getStoreCode());
-            createOrUpdateInitialBalance(item, request.getStoreCode(), request.getInitialQuantity());
+            createOrUpdateInitialBalance(item, request.getStoreCode(), request.getInitialQuantity(),
+                    request.getInitialUnitCost());
         } else {
             log.debug("No initial quantity provided or quantity is zero");
         }
@@ -169,6 +179,29 @@ public class StoreItemService {
         return itemsPage.map(item -> mapToSummaryWithQuantity(item, totalQuantitiesMap.getOrDefault(item.getItemCode(), BigDecimal.ZERO)));
     }
 
+    /**
+     * Search items by name with pagination.
+     * Diacritics and Alef/Ta Marbuta/Alef Maqsura forms are ignored on both sides.
+     */
+    @Transactional(readOnly = true)
+    public Page<ItemSummary> searchItems(String searchText, Pageable pageable) {
+        log.info("Searching store items for: {}", searchText);
+
+        if (searchText == null || searchText.isBlank()) {
+            return getAllItems(pageable);
+        }
+
+        Page<StoreItem> itemsPage = itemRepository.searchByName(
+                ArabicTextNormalizer.containsPattern(searchText), pageable);
+
+        List<Long> itemCodes = itemsPage.getContent().stream()
+                .map(StoreItem::getItemCode)
+                .collect(Collectors.toList());
+        Map<Long, BigDecimal> totalQuantitiesMap = calculateTotalQuantitiesForItems(itemCodes);
+
+        return itemsPage.map(item -> mapToSummaryWithQuantity(item, totalQuantitiesMap.getOrDefault(item.getItemCode(), BigDecimal.ZERO)));
+    }
+
     /**
      * Get items by category with pagination
      */
@@ -213,6 +246,7 @@ public class StoreItemService {
 
         item.setIsDeleted(true);
         itemRepository.save(item);
+        updateTypeahead(item);
 
         log.info("Store item deactivated successfully: {}", itemCode);
     }
@@ -231,10 +265,19 @@ public class StoreItemService {
         // No stock check - force delete
         item.setIsDeleted(true);
         itemRepository.save(item);
+        updateTypeahead(item);
 
         log.warn("Store item force deactivated successfully: {} (stock was not checked)", itemCode);
     }
 
+    /**
+     * Keep the typeahead index in step with a saved item.
+     */
+    private void updateTypeahead(StoreItem item) {
+        typeaheadService.update(TypeaheadType.ITEM, item.getItemCode(), item.getItemName(),
+                Boolean.TRUE.equals(item.getIsActive()) && !Boolean.TRUE.equals(item.getIsDeleted()));
+    }
+
     /**
      * Map entity to response DTO
      */
@@ -330,11 +373,13 @@ public class StoreItemService {
     }
 
     /**
-     * Create or update balance record with initial quantity
+     * Create or update balance record with initial quantity, valued at the
+     * given unit cost or, when none is given, at the current average cost
      */
-    private void createOrUpdateInitialBalance(StoreItem item, Long storeCode, BigDecimal quantity) {
-        log.info("Setting initial balance for item={}, store={}, quantity={}", 
-                item.getItemCode(), storeCode, quantity);
+    private void createOrUpdateInitialBalance(StoreItem item, Long storeCode, BigDecimal quantity,
+            BigDecimal unitCost) {
+        log.info("Setting initial balance for item={}, store={}, quantity={}, unitCost={}", 
+                item.getItemCode(), storeCode, quantity, unitCost);
 
         // Validate store exists
         ProjectStore store = storeRepository.findById(storeCode)
@@ -353,11 +398,30 @@ public class StoreItemService {
                             .build();
                 });
 
-        // Set the initial quantity
-        balance.setQuantityOnHand(quantity);
+        // Set the initial quantity and its value
+        BigDecimal oldQuantity = balance.getQuantityOnHand();
+        BigDecimal oldValue = balance.getTotalValue() != null ? balance.getTotalValue() : BigDecimal.ZERO;
+        balance.resetQuantity(quantity, unitCost);
         balance.setLastTransactionDate(java.time.LocalDateTime.now());
         
         balanceRepository.save(balance);
+
+        // Record the change as an adjustment so the ledger replays to the same balance
+        if (quantity.compareTo(oldQuantity) != 0 || balance.getTotalValue().compareTo(oldValue) != 0) {
+            transactionRepository.save(StoreTransaction.builder()
+                    .store(store)
+                    .item(item)
+                    .transactionType("ADJUSTMENT")
+                    .transactionDate(balance.getLastTransactionDate())
+                    .quantity(quantity.subtract(oldQuantity))
+                    .referenceType("ITEM_INITIAL_BALANCE")
+                    .referenceId(item.getItemCode())
+                    .balanceAfter(quantity)
+                    .unitCost(balance.getAverageCost())
+                    .totalCost(balance.getTotalValue().subtract(oldValue))
+                    .valueAfter(balance.getTotalValue())
+                    .build());
+        }
         log.info("Balance record created/updated: store={}, item={}, quantity={}", 
                 storeCode, item.getItemCode(), quantity);
     }
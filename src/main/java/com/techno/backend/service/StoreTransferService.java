@@ -35,16 +35,20 @@ public class StoreTransferService {
 
         /**
          * CRITICAL: Atomic balance update for transfers
-         * Updates balance and creates transaction log in a single operation
+         * Updates balance and creates transaction log in a single operation.
+         * Stock leaves the source at its moving-average cost and enters the
+         * destination at unitCost (the cost it left the source at).
+         *
+         * @return Unit cost of the movement
          */
-        private void updateStoreBalance(ProjectStore store, StoreItem item, BigDecimal quantity,
-                        String transactionType, Long referenceId) {
+        private BigDecimal updateStoreBalance(ProjectStore store, StoreItem item, BigDecimal quantity,
+                        BigDecimal unitCost, String transactionType, Long referenceId) {
                 log.info("Transfer balance update: store={}, item={}, quantity={}, type={}",
                                 store.getStoreCode(), item.getItemCode(), quantity, transactionType);
 
                 // Find or create balance
                 StoreBalance balance = balanceRepository
-                                .findByStoreAndItem(store.getStoreCode(), item.getItemCode())
+                                .findByStoreAndItemForUpdate(store.getStoreCode(), item.getItemCode())
                                 .orElseGet(() -> {
                                         log.info("Creating new balance for destination store={}, item={}",
                                                         store.getStoreCode(), item.getItemCode());
@@ -67,7 +71,16 @@ public class StoreTransferService {
                                                         oldBalance, quantity.abs()));
                 }
 
-                balance.setQuantityOnHand(newBalance);
+                // Update balance and value (quantity is negative for TRANSFER_OUT)
+                BigDecimal movementCost;
+                BigDecimal totalCost;
+                if (quantity.signum() < 0) {
+                        movementCost = balance.getAverageCost();
+                        totalCost = balance.issue(quantity.negate()).negate();
+                } else {
+                        totalCost = balance.receive(quantity, unitCost);
+                        movementCost = unitCost != null ? unitCost : balance.getAverageCost();
+                }
                 balance.setLastTransactionDate(LocalDateTime.now());
                 balanceRepository.save(balance);
 
@@ -81,10 +94,14 @@ public class StoreTransferService {
                                 .referenceType("TRANSFER")
                                 .referenceId(referenceId)
                                 .balanceAfter(newBalance)
+                                .unitCost(movementCost)
+                                .totalCost(totalCost)
+                                .valueAfter(balance.getTotalValue())
                                 .build();
                 transactionRepository.save(transaction);
 
                 log.info("Transfer balance updated: oldBalance={}, newBalance={}", oldBalance, newBalance);
+                return movementCost;
         }
 
         @Transactional
@@ -311,10 +328,11 @@ public class StoreTransferService {
 
                         // CRITICAL ATOMIC OPERATION:
                         // Step 1: Decrease source store (negative quantity)
-                        updateStoreBalance(fromStore, item, line.getQuantity().negate(), "TRANSFER_OUT", transferId);
+                        BigDecimal unitCost = updateStoreBalance(fromStore, item, line.getQuantity().negate(),
+                                        null, "TRANSFER_OUT", transferId);
 
-                        // Step 2: Increase destination store (positive quantity)
-                        updateStoreBalance(toStore, item, line.getQuantity(), "TRANSFER_IN", transferId);
+                        // Step 2: Increase destination store (positive quantity) at the source cost
+                        updateStoreBalance(toStore, item, line.getQuantity(), unitCost, "TRANSFER_IN", transferId);
 
                         log.info("Transfer line completed: item={}, quantity={}, from={}, to={}",
                                         item.getItemName(), line.getQuantity(),
@@ -1,11 +1,13 @@
 package com.techno.backend.service;
 
+import com.techno.backend.constants.TypeaheadType;
 import com.techno.backend.dto.SupplierRequest;
 import com.techno.backend.dto.SupplierResponse;
 import com.techno.backend.entity.Supplier;
 import com.techno.backend.exception.BadRequestException;
 import com.techno.backend.exception.ResourceNotFoundException;
 import com.techno.backend.repository.SupplierRepository;
+import com.techno.backend.util.ArabicTextNormalizer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -24,6 +26,7 @@ import java.util.stream.Collectors;
 public class SupplierService {
 
     private final SupplierRepository supplierRepository;
+    private final TypeaheadService typeaheadService;
 
     /**
      * Get all suppliers
@@ -38,6 +41,23 @@ public class SupplierService {
                 .collect(Collectors.toList());
     }
 
+    /**
+     * Search suppliers by name.
+     * Diacritics and Alef/Ta Marbuta/Alef Maqsura forms are ignored on both sides.
+     * 
+     * @param searchText the text entered by the user
+     * @return Matching suppliers ordered by name
+     */
+    @Transactional(readOnly = true)
+    public List<SupplierResponse> searchSuppliers(String searchText) {
+        if (searchText == null || searchText.isBlank()) {
+            return getAllSuppliers();
+        }
+        return supplierRepository.searchByName(ArabicTextNormalizer.containsPattern(searchText)).stream()
+                .map(this::mapToResponse)
+                .collect(Collectors.toList());
+    }
+
     /**
      * Get supplier by ID
      * 
@@ -67,6 +87,7 @@ public class SupplierService {
 
         Supplier supplier = mapToEntity(request);
         Supplier saved = supplierRepository.save(supplier);
+        updateTypeahead(saved);
         
         log.info("Supplier created successfully: {} ({})", saved.getSupplierName(), saved.getSupplierId());
         return mapToResponse(saved);
@@ -106,6 +127,7 @@ public class SupplierService {
         }
 
         Supplier updated = supplierRepository.save(supplier);
+        updateTypeahead(updated);
         
         log.info("Supplier updated successfully: {} ({})", updated.getSupplierName(), updated.getSupplierId());
         return mapToResponse(updated);
@@ -122,6 +144,7 @@ public class SupplierService {
         Supplier supplier = findSupplierOrThrow(id);
         supplier.setIsActive('N');
         supplierRepository.save(supplier);
+        updateTypeahead(supplier);
         
         log.info("Supplier deleted (soft delete) successfully: {} ({})", supplier.getSupplierName(), supplier.getSupplierId());
     }
@@ -133,6 +156,14 @@ public class SupplierService {
                 .orElseThrow(() -> new ResourceNotFoundException("Ø§Ù„Ù…ÙˆØ±Ø¯ ØºÙŠØ± Ù…ÙˆØ¬ÙˆØ¯ Ø¨Ø±Ù‚Ù…: " + id));
     }
 
+    /**
+     * Keep the typeahead index in step with a saved supplier.
+     */
+    private void updateTypeahead(Supplier supplier) {
+        typeaheadService.update(TypeaheadType.SUPPLIER, supplier.getSupplierId(), supplier.getSupplierName(),
+                Character.valueOf('Y').equals(supplier.getIsActive()));
+    }
+
     private Supplier mapToEntity(SupplierRequest request) {
         Supplier.SupplierBuilder builder = Supplier.builder()
                 .supplierName(request.getSupplierName())
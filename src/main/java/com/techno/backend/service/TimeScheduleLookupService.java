@@ -0,0 +1,130 @@
+package com.techno.backend.service;
+
+import com.techno.backend.entity.TimeSchedule;
+import com.techno.backend.repository.TimeScheduleRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalTime;
+import java.util.Optional;
+
+/**
+ * Cached lookup of the time schedule that applies to a department / project.
+ *
+ * The result is cached per (department, project) as an immutable
+ * {@link CachedSchedule} rather than the TimeSchedule entity, so no caller can
+ * change the cached value. Entries are evicted whenever a schedule or a
+ * project's schedule assignment changes (TimeScheduleService, ProjectService).
+ *
+ * Callers use AttendanceCalculationService.findApplicableSchedule, which
+ * returns a TimeSchedule copy.
+ *
+ * @author Techno HR System
+ * @version 1.0
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class TimeScheduleLookupService {
+
+    private final TimeScheduleRepository timeScheduleRepository;
+
+    /**
+     * Find the applicable schedule.
+     * Priority: Project schedule > Department schedule > Default schedule.
+     *
+     * @param departmentCode Employee's department code
+     * @param projectCode Employee's project code (may be null)
+     * @return Schedule values or null if not found
+     */
+    @Cacheable("timeSchedules")
+    @Transactional(readOnly = true)
+    public CachedSchedule findApplicableSchedule(Long departmentCode, Long projectCode) {
+
+        log.debug("Finding schedule for departmentCode: {}, projectCode: {}", departmentCode, projectCode);
+
+        // Priority 1: Project-specific schedule
+        if (projectCode != null) {
+            Optional<TimeSchedule> projectSchedule = timeScheduleRepository
+                    .findByProjectCodeAndIsActive(projectCode, "Y");
+            if (projectSchedule.isPresent()) {
+                TimeSchedule schedule = projectSchedule.get();
+                log.debug("Found project-specific schedule: ID={}, Name={}, RequiredHours={}, Start={}, End={}",
+                        schedule.getScheduleId(), schedule.getScheduleName(), schedule.getRequiredHours(),
+                        schedule.getScheduledStartTime(), schedule.getScheduledEndTime());
+                return CachedSchedule.of(schedule);
+            } else {
+                log.warn("No active project schedule found for projectCode: {}. " +
+                        "Please check if a schedule with project_code={} and is_active='Y' exists in the time_schedule table.",
+                        projectCode, projectCode);
+            }
+        }
+
+        // Priority 2: Department-specific schedule
+        if (departmentCode != null) {
+            Optional<TimeSchedule> deptSchedule = timeScheduleRepository
+                    .findByDepartmentCodeAndIsActive(departmentCode, "Y");
+            if (deptSchedule.isPresent()) {
+                TimeSchedule schedule = deptSchedule.get();
+                log.debug("Found department-specific schedule: ID={}, Name={}, RequiredHours={}, Start={}, End={}",
+                        schedule.getScheduleId(), schedule.getScheduleName(), schedule.getRequiredHours(),
+                        schedule.getScheduledStartTime(), schedule.getScheduledEndTime());
+                return CachedSchedule.of(schedule);
+            } else {
+                log.debug("No active department schedule found for departmentCode: {}", departmentCode);
+            }
+        }
+
+        // Priority 3: Default/general schedule
+        Optional<TimeSchedule> defaultSchedule = timeScheduleRepository.findDefaultSchedule();
+        if (defaultSchedule.isPresent()) {
+            TimeSchedule schedule = defaultSchedule.get();
+            log.debug("Using default schedule: ID={}, Name={}, RequiredHours={}, Start={}, End={}",
+                    schedule.getScheduleId(), schedule.getScheduleName(), schedule.getRequiredHours(),
+                    schedule.getScheduledStartTime(), schedule.getScheduledEndTime());
+            return CachedSchedule.of(schedule);
+        } else {
+            log.warn("No default schedule found in database");
+        }
+
+        log.warn("No schedule found for department {} or project {}. Will use hardcoded default (8 hours).",
+                departmentCode, projectCode);
+        return null;
+    }
+
+    /**
+     * Immutable copy of the schedule fields used by attendance calculations
+     */
+    public record CachedSchedule(Long scheduleId, String scheduleName, Long departmentCode, Long projectCode,
+                                 LocalTime scheduledStartTime, LocalTime scheduledEndTime,
+                                 BigDecimal requiredHours, Integer gracePeriodMinutes, String isActive) {
+
+        static CachedSchedule of(TimeSchedule schedule) {
+            return new CachedSchedule(schedule.getScheduleId(), schedule.getScheduleName(),
+                    schedule.getDepartmentCode(), schedule.getProjectCode(),
+                    schedule.getScheduledStartTime(), schedule.getScheduledEndTime(),
+                    schedule.getRequiredHours(), schedule.getGracePeriodMinutes(), schedule.getIsActive());
+        }
+
+        /**
+         * New detached TimeSchedule with these values
+         */
+        public TimeSchedule toTimeSchedule() {
+            return TimeSchedule.builder()
+                    .scheduleId(scheduleId)
+                    .scheduleName(scheduleName)
+                    .departmentCode(departmentCode)
+                    .projectCode(projectCode)
+                    .scheduledStartTime(scheduledStartTime)
+                    .scheduledEndTime(scheduledEndTime)
+                    .requiredHours(requiredHours)
+                    .gracePeriodMinutes(gracePeriodMinutes)
+                    .isActive(isActive)
+                    .build();
+        }
+    }
+}
@@ -11,6 +11,7 @@ import com.techno.backend.repository.TimeScheduleRepository;
 import com.techno.backend.util.AttendanceCalculator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
@@ -119,6 +120,7 @@ public class TimeScheduleService {
      * @return Created schedule
      */
     @Transactional
+    @CacheEvict(value = "timeSchedules", allEntries = true)
     public TimeScheduleResponse createSchedule(TimeScheduleRequest request) {
         log.info("Creating new time schedule: {}", request.getScheduleName());
 
@@ -171,6 +173,7 @@ public class TimeScheduleService {
      * @return Updated schedule
      */
     @Transactional
+    @CacheEvict(value = "timeSchedules", allEntries = true)
     public TimeScheduleResponse updateSchedule(Long scheduleId, TimeScheduleRequest request) {
         log.info("Updating time schedule ID: {}", scheduleId);
 
@@ -223,6 +226,7 @@ public class TimeScheduleService {
      * @param scheduleId Schedule ID
      */
     @Transactional
+    @CacheEvict(value = "timeSchedules", allEntries = true)
     public void deleteSchedule(Long scheduleId) {
         log.info("Deleting time schedule ID: {}", scheduleId);
 
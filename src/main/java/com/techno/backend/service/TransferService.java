@@ -16,10 +16,15 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * Service class for Employee Transfer Management.
@@ -404,17 +409,7 @@ public class TransferService {
 
                 List<ProjectTransferRequest> requests = transferRepository.findPendingTransfersByApprover(approverNo);
 
-                return requests.stream()
-                                .map(transfer -> {
-                                        Employee employee = employeeRepository.findById(transfer.getEmployeeNo())
-                                                        .orElse(null);
-                                        Project fromProject = projectRepository.findById(transfer.getFromProjectCode())
-                                                        .orElse(null);
-                                        Project toProject = projectRepository.findById(transfer.getToProjectCode())
-                                                        .orElse(null);
-                                        return mapToResponse(transfer, employee, fromProject, toProject);
-                                })
-                                .collect(Collectors.toList());
+                return mapToResponses(requests);
         }
 
         /**
@@ -428,17 +423,7 @@ public class TransferService {
 
                 List<ProjectTransferRequest> requests = transferRepository.findByStatus("P");
 
-                return requests.stream()
-                                .map(transfer -> {
-                                        Employee employee = employeeRepository.findById(transfer.getEmployeeNo())
-                                                        .orElse(null);
-                                        Project fromProject = projectRepository.findById(transfer.getFromProjectCode())
-                                                        .orElse(null);
-                                        Project toProject = projectRepository.findById(transfer.getToProjectCode())
-                                                        .orElse(null);
-                                        return mapToResponse(transfer, employee, fromProject, toProject);
-                                })
-                                .collect(Collectors.toList());
+                return mapToResponses(requests);
         }
 
         /**
@@ -451,24 +436,9 @@ public class TransferService {
         public List<TransferResponse> getRequestsByProject(Long projectCode) {
                 log.debug("Fetching transfers for project: {}", projectCode);
 
-                List<ProjectTransferRequest> fromTransfers = transferRepository.findByFromProjectCode(projectCode);
-                List<ProjectTransferRequest> toTransfers = transferRepository.findByToProjectCode(projectCode);
-
-                // Combine and deduplicate
-                fromTransfers.addAll(toTransfers);
+                List<ProjectTransferRequest> transfers = transferRepository.findByProjectCode(projectCode);
 
-                return fromTransfers.stream()
-                                .distinct()
-                                .map(transfer -> {
-                                        Employee employee = employeeRepository.findById(transfer.getEmployeeNo())
-                                                        .orElse(null);
-                                        Project fromProject = projectRepository.findById(transfer.getFromProjectCode())
-                                                        .orElse(null);
-                                        Project toProject = projectRepository.findById(transfer.getToProjectCode())
-                                                        .orElse(null);
-                                        return mapToResponse(transfer, employee, fromProject, toProject);
-                                })
-                                .collect(Collectors.toList());
+                return mapToResponses(transfers);
         }
 
         /**
@@ -482,17 +452,7 @@ public class TransferService {
 
                 List<ProjectTransferRequest> requests = transferRepository.findApprovedNotExecuted();
 
-                return requests.stream()
-                                .map(transfer -> {
-                                        Employee employee = employeeRepository.findById(transfer.getEmployeeNo())
-                                                        .orElse(null);
-                                        Project fromProject = projectRepository.findById(transfer.getFromProjectCode())
-                                                        .orElse(null);
-                                        Project toProject = projectRepository.findById(transfer.getToProjectCode())
-                                                        .orElse(null);
-                                        return mapToResponse(transfer, employee, fromProject, toProject);
-                                })
-                                .collect(Collectors.toList());
+                return mapToResponses(requests);
         }
 
         // ==================== Mapping Methods ====================
@@ -502,28 +462,7 @@ public class TransferService {
          */
         private TransferResponse mapToResponse(ProjectTransferRequest transfer, Employee employee,
                         Project fromProject, Project toProject) {
-                TransferResponse response = TransferResponse.builder()
-                                .transferNo(transfer.getTransferNo())
-                                .employeeNo(transfer.getEmployeeNo())
-                                .fromProjectCode(transfer.getFromProjectCode())
-                                .toProjectCode(transfer.getToProjectCode())
-                                .transferDate(transfer.getTransferDate())
-                                .transferReason(transfer.getTransferReason())
-                                .transStatus(transfer.getTransStatus())
-                                .nextApproval(transfer.getNextApproval())
-                                .nextAppLevel(transfer.getNextAppLevel())
-                                .requestedBy(transfer.getRequestedBy())
-                                .approvedDate(transfer.getApprovedDate() != null
-                                                ? transfer.getApprovedDate().toLocalDate()
-                                                : null)
-                                .approvedBy(transfer.getApprovedBy())
-                                .rejectionReason(transfer.getRejectionReason())
-                                .executionStatus(transfer.getIsExecuted())
-                                .createdDate(transfer.getCreatedDate())
-                                .createdBy(transfer.getCreatedBy())
-                                .modifiedDate(transfer.getModifiedDate())
-                                .modifiedBy(transfer.getModifiedBy())
-                                .build();
+                TransferResponse response = baseResponse(transfer);
 
                 // Add employee details if available
                 if (employee != null) {
@@ -557,6 +496,76 @@ public class TransferService {
                 return response;
         }
 
+        /**
+         * Map a list of transfers to responses.
+         * Employee and project names are loaded with one query each for the whole list.
+         */
+        private List<TransferResponse> mapToResponses(List<ProjectTransferRequest> transfers) {
+                if (transfers.isEmpty()) {
+                        return new ArrayList<>();
+                }
+
+                Set<Long> employeeNos = new HashSet<>();
+                Set<Long> projectCodes = new HashSet<>();
+                for (ProjectTransferRequest transfer : transfers) {
+                        Stream.of(transfer.getEmployeeNo(), transfer.getRequestedBy(),
+                                        transfer.getNextApproval(), transfer.getApprovedBy())
+                                        .filter(Objects::nonNull)
+                                        .forEach(employeeNos::add);
+                        Stream.of(transfer.getFromProjectCode(), transfer.getToProjectCode())
+                                        .filter(Objects::nonNull)
+                                        .forEach(projectCodes::add);
+                }
+
+                Map<Long, String> employeeNames = new HashMap<>();
+                employeeRepository.findNamesByEmployeeNoIn(employeeNos)
+                                .forEach(e -> employeeNames.put(e.getEmployeeNo(), e.getEmployeeName()));
+                Map<Long, String> projectNames = new HashMap<>();
+                projectRepository.findNamesByProjectCodeIn(projectCodes)
+                                .forEach(p -> projectNames.put(p.getProjectCode(), p.getProjectName()));
+
+                return transfers.stream()
+                                .map(transfer -> {
+                                        TransferResponse response = baseResponse(transfer);
+                                        response.setEmployeeName(employeeNames.get(transfer.getEmployeeNo()));
+                                        response.setFromProjectName(projectNames.get(transfer.getFromProjectCode()));
+                                        response.setToProjectName(projectNames.get(transfer.getToProjectCode()));
+                                        response.setRequestedByName(employeeNames.get(transfer.getRequestedBy()));
+                                        response.setNextApprovalName(employeeNames.get(transfer.getNextApproval()));
+                                        response.setApprovedByName(employeeNames.get(transfer.getApprovedBy()));
+                                        return response;
+                                })
+                                .collect(Collectors.toList());
+        }
+
+        /**
+         * Map the transfer columns, without related names.
+         */
+        private TransferResponse baseResponse(ProjectTransferRequest transfer) {
+                return TransferResponse.builder()
+                                .transferNo(transfer.getTransferNo())
+                                .employeeNo(transfer.getEmployeeNo())
+                                .fromProjectCode(transfer.getFromProjectCode())
+                                .toProjectCode(transfer.getToProjectCode())
+                                .transferDate(transfer.getTransferDate())
+                                .transferReason(transfer.getTransferReason())
+                                .transStatus(transfer.getTransStatus())
+                                .nextApproval(transfer.getNextApproval())
+                                .nextAppLevel(transfer.getNextAppLevel())
+                                .requestedBy(transfer.getRequestedBy())
+                                .approvedDate(transfer.getApprovedDate() != null
+                                                ? transfer.getApprovedDate().toLocalDate()
+                                                : null)
+                                .approvedBy(transfer.getApprovedBy())
+                                .rejectionReason(transfer.getRejectionReason())
+                                .executionStatus(transfer.getIsExecuted())
+                                .createdDate(transfer.getCreatedDate())
+                                .createdBy(transfer.getCreatedBy())
+                                .modifiedDate(transfer.getModifiedDate())
+                                .modifiedBy(transfer.getModifiedBy())
+                                .build();
+        }
+
         /**
          * Get all transfer requests (non-deleted).
          *
@@ -566,20 +575,8 @@ public class TransferService {
         public List<TransferResponse> getAllTransferRequests() {
                 log.debug("Fetching all transfer requests");
 
-                List<ProjectTransferRequest> requests = transferRepository.findAll().stream()
-                                .filter(tr -> tr.getIsDeleted() == null || !"Y".equals(tr.getIsDeleted()))
-                                .collect(Collectors.toList());
+                List<ProjectTransferRequest> requests = transferRepository.findAllNotDeleted();
 
-                return requests.stream()
-                                .map(transfer -> {
-                                        Employee employee = employeeRepository.findById(transfer.getEmployeeNo())
-                                                        .orElse(null);
-                                        Project fromProject = projectRepository.findById(transfer.getFromProjectCode())
-                                                        .orElse(null);
-                                        Project toProject = projectRepository.findById(transfer.getToProjectCode())
-                                                        .orElse(null);
-                                        return mapToResponse(transfer, employee, fromProject, toProject);
-                                })
-                                .collect(Collectors.toList());
+                return mapToResponses(requests);
         }
 }
@@ -0,0 +1,135 @@
+package com.techno.backend.service;
+
+import com.techno.backend.constants.TypeaheadType;
+import com.techno.backend.dto.TypeaheadResult;
+import com.techno.backend.exception.BadRequestException;
+import com.techno.backend.repository.DepartmentRepository;
+import com.techno.backend.repository.EmployeeRepository;
+import com.techno.backend.repository.ProjectRepository;
+import com.techno.backend.repository.ProjectStoreRepository;
+import com.techno.backend.repository.StoreItemRepository;
+import com.techno.backend.repository.SupplierRepository;
+import com.techno.backend.util.TypeaheadIndex;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+
+/**
+ * Service for typeahead pickers over master data.
+ *
+ * Names and codes of employees, projects, departments, stores, items and
+ * suppliers are held in a {@link TypeaheadIndex}, built once at startup from
+ * code/name projections. Lookups are answered from memory without touching
+ * the database.
+ *
+ * The owning services report every save and deactivation through
+ * {@link #update}; inside a transaction the change is applied after commit,
+ * so rolled back changes never reach the index. Inactive, terminated,
+ * cancelled and deleted records are not indexed.
+ *
+ * @author Techno HR System
+ * @version 1.0
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class TypeaheadService {
+
+    private static final int DEFAULT_LIMIT = 10;
+    private static final int MAX_LIMIT = 50;
+
+    private final EmployeeRepository employeeRepository;
+    private final ProjectRepository projectRepository;
+    private final DepartmentRepository departmentRepository;
+    private final ProjectStoreRepository storeRepository;
+    private final StoreItemRepository itemRepository;
+    private final SupplierRepository supplierRepository;
+
+    private volatile TypeaheadIndex index = new TypeaheadIndex();
+
+    /**
+     * Find records whose name or code matches the typed text.
+     *
+     * @param query Typed text
+     * @param types Types to search (null or empty for all)
+     * @param limit Maximum number of results (default 10, at most 50)
+     * @return Matches, best first
+     */
+    public List<TypeaheadResult> search(String query, List<String> types, Integer limit) {
+        if (types != null) {
+            for (String type : types) {
+                if (!TypeaheadType.isValid(type)) {
+                    throw new BadRequestException("نوع البحث غير صالح: " + type);
+                }
+            }
+        }
+        int max = limit == null ? DEFAULT_LIMIT : Math.max(1, Math.min(limit, MAX_LIMIT));
+
+        return index.search(query, types == null || types.isEmpty() ? null : types, max).stream()
+                .map(match -> TypeaheadResult.builder()
+                        .type(match.type())
+                        .id(match.id())
+                        .label(match.label())
+                        .build())
+                .toList();
+    }
+
+    /**
+     * Record a saved or deactivated record.
+     *
+     * @param type Record type (see {@link TypeaheadType})
+     * @param id Record code
+     * @param name Current name
+     * @param active Whether the record should be offered in pickers
+     */
+    public void update(String type, Long id, String name, boolean active) {
+        if (id == null) {
+            return;
+        }
+        Runnable change = active
+                ? () -> index.put(type, id, name)
+                : () -> index.remove(type, id);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    change.run();
+                }
+            });
+        } else {
+            change.run();
+        }
+    }
+
+    /**
+     * Build the index from the database and swap it in.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        long start = System.currentTimeMillis();
+        TypeaheadIndex loaded = new TypeaheadIndex();
+
+        employeeRepository.findNamesNotTerminated().forEach(e ->
+                loaded.put(TypeaheadType.EMPLOYEE, e.getEmployeeNo(), e.getEmployeeName()));
+        projectRepository.findNamesNotCancelled().forEach(p ->
+                loaded.put(TypeaheadType.PROJECT, p.getProjectCode(), p.getProjectName()));
+        departmentRepository.findActiveNames().forEach(d ->
+                loaded.put(TypeaheadType.DEPARTMENT, d.getDeptCode(), d.getDeptName()));
+        storeRepository.findActiveNames().forEach(s ->
+                loaded.put(TypeaheadType.STORE, s.getStoreCode(), s.getStoreName()));
+        itemRepository.findActiveNames().forEach(i ->
+                loaded.put(TypeaheadType.ITEM, i.getItemCode(), i.getItemName()));
+        supplierRepository.findActiveNames().forEach(s ->
+                loaded.put(TypeaheadType.SUPPLIER, s.getSupplierId(), s.getSupplierName()));
+
+        index = loaded;
+        log.info("Typeahead index built: {} records in {} ms", loaded.size(), System.currentTimeMillis() - start);
+    }
+}
@@ -21,6 +21,7 @@ import java.util.stream.Collectors;
  * 2. Stock Movement - All receipts, issues, transfers with running balance
  * 3. Purchase Orders - All POs with status
  * 4. Low Stock Alert - Items below minimum/reorder level
+ * 5. Stock Valuation - Quantity, moving-average cost and value per store and item
  *
  * @author Techno HR System
  * @version 1.0
@@ -414,6 +415,76 @@ public class WarehouseReportService {
         return generateReport(title, headers, data, metadata, request);
     }
 
+    /**
+     * Generate Stock Valuation Report.
+     *
+     * Reads quantity, moving-average cost and value kept on the balances
+     * (one query with store, item and category), without price lookups.
+     *
+     * @param request Report request with optional projectCode, storeCode filters
+     * @return Report file as byte array
+     */
+    @Transactional(readOnly = true)
+    public byte[] generateStockValuation(ReportRequest request) {
+        log.info("Generating Stock Valuation Report");
+
+        Long storeCode = null;
+        if (request.getAdditionalFilters() != null &&
+            request.getAdditionalFilters().containsKey("storeCode")) {
+            storeCode = ((Number) request.getAdditionalFilters().get("storeCode")).longValue();
+        }
+
+        List<StoreBalance> balances = balanceRepository.findValuation(storeCode);
+        if (request.getProjectCode() != null) {
+            balances = balances.stream()
+                    .filter(b -> b.getStore().getProject() != null &&
+                                 request.getProjectCode().equals(b.getStore().getProject().getProjectCode()))
+                    .collect(Collectors.toList());
+        }
+
+        String title = "تقرير تقييم المخزون";
+        List<String> headers = Arrays.asList(
+                "رمز المخزن",
+                "اسم المخزن",
+                "رمز الصنف",
+                "اسم الصنف",
+                "الفئة",
+                "الوحدة",
+                "الكمية المتوفرة",
+                "متوسط التكلفة",
+                "القيمة"
+        );
+
+        List<List<Object>> data = new ArrayList<>();
+        BigDecimal totalValue = BigDecimal.ZERO;
+
+        for (StoreBalance balance : balances) {
+            StoreItem item = balance.getItem();
+            ProjectStore store = balance.getStore();
+            BigDecimal value = balance.getTotalValue() != null ? balance.getTotalValue() : BigDecimal.ZERO;
+            totalValue = totalValue.add(value);
+
+            data.add(Arrays.asList(
+                    store.getStoreCode(),
+                    store.getStoreName(),
+                    item.getItemCode(),
+                    item.getItemName(),
+                    item.getCategory().getCategoryName(),
+                    item.getUnitOfMeasure(),
+                    balance.getQuantityOnHand(),
+                    balance.getAverageCost() != null ? balance.getAverageCost() : BigDecimal.ZERO,
+                    value
+            ));
+        }
+
+        Map<String, Object> metadata = new HashMap<>();
+        metadata.put("إجمالي الأصناف", balances.size());
+        metadata.put("إجمالي قيمة المخزون", totalValue);
+        metadata.put("تم الإنشاء في", LocalDate.now());
+
+        return generateReport(title, headers, data, metadata, request);
+    }
+
     // Helper methods
 
     private void validateDateRange(ReportRequest request) {
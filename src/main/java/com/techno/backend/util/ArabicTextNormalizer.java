@@ -0,0 +1,63 @@
+package com.techno.backend.util;
+
+/**
+ * Arabic Text Normalizer
+ *
+ * Builds the search key stored next to searchable names (employees, items,
+ * suppliers) and applied to the search text, so both sides compare in the
+ * same form:
+ * - Lower case
+ * - Tashkeel (diacritics, U+064B - U+065F) removed
+ * - Alef forms (أ, إ, آ) folded to ا
+ * - Ta Marbuta (ة) folded to ه
+ * - Alef Maqsura (ى) folded to ي
+ *
+ * A single pass over the characters, no regular expressions. The backfill in
+ * migration V12 applies the same rules in SQL; keep the two in step.
+ *
+ * @author Techno HR System
+ * @version 1.0
+ */
+public final class ArabicTextNormalizer {
+
+    private ArabicTextNormalizer() {
+    }
+
+    /**
+     * Normalize text for search.
+     *
+     * @param text Text to normalize (may be null)
+     * @return Normalized text, or null if text is null
+     */
+    public static String normalize(String text) {
+        if (text == null) {
+            return null;
+        }
+        StringBuilder result = new StringBuilder(text.length());
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c >= '\u064B' && c <= '\u065F') {
+                continue;
+            }
+            switch (c) {
+                case 'أ', 'إ', 'آ' -> result.append('ا');
+                case 'ة' -> result.append('ه');
+                case 'ى' -> result.append('ي');
+                default -> result.append(Character.toLowerCase(c));
+            }
+        }
+        return result.toString();
+    }
+
+    /**
+     * LIKE pattern matching a normalized search key anywhere in the stored key.
+     * LIKE wildcards in the search text are escaped with '\'.
+     *
+     * @param searchText Text entered by the user
+     * @return Pattern for {@code searchKey LIKE :pattern ESCAPE '\'}
+     */
+    public static String containsPattern(String searchText) {
+        String key = normalize(searchText.trim());
+        return "%" + key.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_") + "%";
+    }
+}
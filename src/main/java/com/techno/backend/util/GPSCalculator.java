@@ -85,30 +85,41 @@ public class GPSCalculator {
             throw new IllegalArgumentException("إحداثيات GPS خارج النطاق المسموح");
         }
 
+        double distanceMeters = distanceMeters(lat1, lon1, lat2, lon2);
+
+        log.debug("Calculated distance: {} meters between ({}, {}) and ({}, {})",
+                String.format("%.2f", distanceMeters), lat1, lon1, lat2, lon2);
+
+        return distanceMeters;
+    }
+
+    /**
+     * Haversine distance on primitive coordinates, without validation or logging.
+     * Used by hot paths such as the project geofence index.
+     *
+     * @param lat1 Latitude of first point in decimal degrees
+     * @param lon1 Longitude of first point in decimal degrees
+     * @param lat2 Latitude of second point in decimal degrees
+     * @param lon2 Longitude of second point in decimal degrees
+     * @return Distance in meters between the two points
+     */
+    public static double distanceMeters(double lat1, double lon1, double lat2, double lon2) {
         // Convert degrees to radians
         double lat1Rad = Math.toRadians(lat1);
-        double lon1Rad = Math.toRadians(lon1);
         double lat2Rad = Math.toRadians(lat2);
-        double lon2Rad = Math.toRadians(lon2);
 
         // Calculate differences
         double deltaLat = lat2Rad - lat1Rad;
-        double deltaLon = lon2Rad - lon1Rad;
+        double deltaLon = Math.toRadians(lon2 - lon1);
 
         // Haversine formula
-        double a = Math.sin(deltaLat / 2) * Math.sin(deltaLat / 2)
-                + Math.cos(lat1Rad) * Math.cos(lat2Rad)
-                * Math.sin(deltaLon / 2) * Math.sin(deltaLon / 2);
+        double sinLat = Math.sin(deltaLat / 2);
+        double sinLon = Math.sin(deltaLon / 2);
+        double a = sinLat * sinLat + Math.cos(lat1Rad) * Math.cos(lat2Rad) * sinLon * sinLon;
 
         double c = 2 * Math.atan2(Math.sqrt(a), Math.sqrt(1 - a));
 
-        // Calculate distance
-        double distanceMeters = EARTH_RADIUS_METERS * c;
-
-        log.debug("Calculated distance: {} meters between ({}, {}) and ({}, {})",
-                String.format("%.2f", distanceMeters), lat1, lon1, lat2, lon2);
-
-        return distanceMeters;
+        return EARTH_RADIUS_METERS * c;
     }
 
     /**
@@ -142,10 +153,10 @@ public class GPSCalculator {
 
             boolean withinRadius = actualDistance <= allowedRadiusMeters;
 
-            log.info("GPS Check: Employee at ({}, {}), Project at ({}, {}), Distance: {:.2f}m, Allowed: {}m, Result: {}",
+            log.info("GPS Check: Employee at ({}, {}), Project at ({}, {}), Distance: {}m, Allowed: {}m, Result: {}",
                     employeeLatitude, employeeLongitude,
                     projectLatitude, projectLongitude,
-                    actualDistance, allowedRadiusMeters,
+                    String.format("%.2f", actualDistance), allowedRadiusMeters,
                     withinRadius ? "WITHIN RADIUS" : "OUTSIDE RADIUS");
 
             return withinRadius;
@@ -0,0 +1,240 @@
+package com.techno.backend.util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Immutable spatial grid index over circular geofences (project sites).
+ *
+ * Site centers and radii are kept in primitive arrays. The globe is split into
+ * cells of {@link #CELL_DEGREES} degrees and every site is registered in each
+ * cell its circle overlaps, so a containment query only measures the few sites
+ * registered in the cell of the query point.
+ *
+ * Instances are built once with {@link Builder} and are safe to share between threads.
+ *
+ * @author Techno HR System
+ * @version 1.0
+ * @since Phase 4 - Attendance System
+ */
+public final class GeofenceIndex {
+
+    /**
+     * Grid cell size in degrees (about 5.5 km of latitude)
+     */
+    static final double CELL_DEGREES = 0.05;
+
+    private static final double METERS_PER_DEGREE = 111_320.0;
+    private static final int COLUMNS = (int) Math.ceil(360 / CELL_DEGREES);
+    private static final int MAX_RINGS = 20;
+
+    private final long[] siteIds;
+    private final double[] latitudes;
+    private final double[] longitudes;
+    private final double[] radii;
+    private final Map<Long, int[]> cells;
+    private final Map<Long, Integer> positions;
+
+    private GeofenceIndex(long[] siteIds, double[] latitudes, double[] longitudes, double[] radii) {
+        this.siteIds = siteIds;
+        this.latitudes = latitudes;
+        this.longitudes = longitudes;
+        this.radii = radii;
+        this.positions = new HashMap<>(siteIds.length * 2);
+        Map<Long, List<Integer>> grid = new HashMap<>();
+        for (int i = 0; i < siteIds.length; i++) {
+            positions.put(siteIds[i], i);
+            double deltaLat = radii[i] / METERS_PER_DEGREE;
+            double deltaLon = radii[i] / (METERS_PER_DEGREE * Math.max(Math.cos(Math.toRadians(latitudes[i])), 0.01));
+            int minRow = row(latitudes[i] - deltaLat);
+            int maxRow = row(latitudes[i] + deltaLat);
+            int minCol = column(longitudes[i] - deltaLon);
+            int maxCol = column(longitudes[i] + deltaLon);
+            for (int r = minRow; r <= maxRow; r++) {
+                for (int c = minCol; c <= maxCol; c++) {
+                    grid.computeIfAbsent(key(r, c), k -> new ArrayList<>()).add(i);
+                }
+            }
+        }
+        this.cells = new HashMap<>(grid.size() * 2);
+        grid.forEach((cell, sites) -> cells.put(cell, sites.stream().mapToInt(Integer::intValue).toArray()));
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Number of indexed sites.
+     */
+    public int size() {
+        return siteIds.length;
+    }
+
+    /**
+     * Check whether a site is indexed.
+     */
+    public boolean contains(long siteId) {
+        return positions.containsKey(siteId);
+    }
+
+    /**
+     * Find the sites whose geofence contains a point.
+     *
+     * @param latitude Latitude in decimal degrees
+     * @param longitude Longitude in decimal degrees
+     * @return Matches ordered by distance from the site center (empty if none)
+     */
+    public List<Match> findContaining(double latitude, double longitude) {
+        int[] candidates = cells.get(key(row(latitude), column(longitude)));
+        if (candidates == null) {
+            return List.of();
+        }
+        List<Match> matches = new ArrayList<>(2);
+        for (int i : candidates) {
+            double distance = GPSCalculator.distanceMeters(latitude, longitude, latitudes[i], longitudes[i]);
+            if (distance <= radii[i]) {
+                matches.add(new Match(siteIds[i], distance, true));
+            }
+        }
+        if (matches.size() > 1) {
+            matches.sort((a, b) -> Double.compare(a.distanceMeters(), b.distanceMeters()));
+        }
+        return matches;
+    }
+
+    /**
+     * Find the site whose center is nearest to a point.
+     *
+     * Searches rings of cells around the point and stops once no unseen site can
+     * be closer; falls back to a scan of all sites beyond {@value #MAX_RINGS} rings.
+     *
+     * @param latitude Latitude in decimal degrees
+     * @param longitude Longitude in decimal degrees
+     * @return Nearest site, or null if the index is empty
+     */
+    public Match findNearest(double latitude, double longitude) {
+        if (siteIds.length == 0) {
+            return null;
+        }
+        int row = row(latitude);
+        int column = column(longitude);
+
+        int best = -1;
+        double bestDistance = Double.MAX_VALUE;
+        for (int ring = 0; ring <= MAX_RINGS; ring++) {
+            for (int r = row - ring; r <= row + ring; r++) {
+                for (int c = column - ring; c <= column + ring; c++) {
+                    if (Math.max(Math.abs(r - row), Math.abs(c - column)) != ring) {
+                        continue;
+                    }
+                    int[] candidates = cells.get(key(r, c));
+                    if (candidates == null) {
+                        continue;
+                    }
+                    for (int i : candidates) {
+                        double distance = GPSCalculator.distanceMeters(latitude, longitude, latitudes[i], longitudes[i]);
+                        if (distance < bestDistance) {
+                            bestDistance = distance;
+                            best = i;
+                        }
+                    }
+                }
+            }
+            // A site not seen after this ring has its center at least `ring` whole cells away
+            double cellMeters = CELL_DEGREES * METERS_PER_DEGREE
+                    * Math.max(Math.cos(Math.toRadians(Math.min(Math.abs(latitude) + (ring + 1) * CELL_DEGREES, 89.9))), 0.01);
+            if (best >= 0 && bestDistance <= ring * cellMeters) {
+                return new Match(siteIds[best], bestDistance, bestDistance <= radii[best]);
+            }
+        }
+
+        for (int i = 0; i < siteIds.length; i++) {
+            double distance = GPSCalculator.distanceMeters(latitude, longitude, latitudes[i], longitudes[i]);
+            if (distance < bestDistance) {
+                bestDistance = distance;
+                best = i;
+            }
+        }
+        return new Match(siteIds[best], bestDistance, bestDistance <= radii[best]);
+    }
+
+    /**
+     * Distance from a point to a site center.
+     *
+     * @return Distance in meters, or null if the site is not indexed
+     */
+    public Double distanceTo(long siteId, double latitude, double longitude) {
+        Integer i = positions.get(siteId);
+        return i == null ? null : GPSCalculator.distanceMeters(latitude, longitude, latitudes[i], longitudes[i]);
+    }
+
+    private static int row(double latitude) {
+        return (int) Math.floor((Math.max(-90, Math.min(90, latitude)) + 90) / CELL_DEGREES);
+    }
+
+    private static int column(double longitude) {
+        return (int) Math.floor((Math.max(-180, Math.min(180, longitude)) + 180) / CELL_DEGREES);
+    }
+
+    private static long key(int row, int column) {
+        return (long) row * COLUMNS + column;
+    }
+
+    /**
+     * Site matched by a query.
+     *
+     * @param siteId Site (project) identifier
+     * @param distanceMeters Distance from the query point to the site center
+     * @param inside Whether the point is within the site radius
+     */
+    public record Match(long siteId, double distanceMeters, boolean inside) {
+    }
+
+    /**
+     * Collects sites and builds the index.
+     */
+    public static final class Builder {
+
+        private long[] siteIds = new long[16];
+        private double[] latitudes = new double[16];
+        private double[] longitudes = new double[16];
+        private double[] radii = new double[16];
+        private int size;
+
+        private Builder() {
+        }
+
+        /**
+         * Add a circular site.
+         *
+         * @param siteId Site identifier
+         * @param latitude Center latitude in decimal degrees
+         * @param longitude Center longitude in decimal degrees
+         * @param radiusMeters Radius in meters
+         * @return this builder
+         */
+        public Builder add(long siteId, double latitude, double longitude, double radiusMeters) {
+            if (size == siteIds.length) {
+                siteIds = Arrays.copyOf(siteIds, size * 2);
+                latitudes = Arrays.copyOf(latitudes, size * 2);
+                longitudes = Arrays.copyOf(longitudes, size * 2);
+                radii = Arrays.copyOf(radii, size * 2);
+            }
+            siteIds[size] = siteId;
+            latitudes[size] = latitude;
+            longitudes[size] = longitude;
+            radii[size] = radiusMeters;
+            size++;
+            return this;
+        }
+
+        public GeofenceIndex build() {
+            return new GeofenceIndex(Arrays.copyOf(siteIds, size), Arrays.copyOf(latitudes, size),
+                    Arrays.copyOf(longitudes, size), Arrays.copyOf(radii, size));
+        }
+    }
+}
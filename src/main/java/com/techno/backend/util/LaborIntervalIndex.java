@@ -0,0 +1,189 @@
+package com.techno.backend.util;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-memory index of active labor assignments as date intervals per employee.
+ *
+ * Each employee has a timeline: the assignments sorted by start date, with the
+ * running maximum of their end dates. An overlap query binary-searches the last
+ * assignment starting on or before the query end and walks back only while the
+ * running maximum still reaches the query start, so answers cost O(log n) for an
+ * employee with n assignments. Open-ended assignments (no end date) run forever.
+ *
+ * Timelines are immutable and replaced on every change, so queries need no lock;
+ * changes are serialized.
+ *
+ * @author Techno HR System
+ * @version 1.0
+ * @since Phase 10 - Projects
+ */
+public final class LaborIntervalIndex {
+
+    private static final long OPEN_END = Long.MAX_VALUE;
+
+    private final Map<Long, Timeline> timelines = new ConcurrentHashMap<>();
+    private final Map<Long, Long> employeeByAssignment = new ConcurrentHashMap<>();
+
+    /**
+     * Add an assignment, or replace it if it is already indexed (possibly under another employee).
+     */
+    public synchronized void put(Interval interval) {
+        remove(interval.assignmentNo());
+        timelines.merge(interval.employeeNo(), Timeline.of(interval), (current, added) -> current.with(interval));
+        employeeByAssignment.put(interval.assignmentNo(), interval.employeeNo());
+    }
+
+    /**
+     * Remove an assignment; does nothing if it is not indexed.
+     */
+    public synchronized void remove(long assignmentNo) {
+        Long employeeNo = employeeByAssignment.remove(assignmentNo);
+        if (employeeNo != null) {
+            timelines.computeIfPresent(employeeNo, (key, timeline) -> timeline.without(assignmentNo));
+        }
+    }
+
+    /**
+     * Number of indexed assignments.
+     */
+    public int size() {
+        return employeeByAssignment.size();
+    }
+
+    /**
+     * Find the assignments of an employee overlapping a date range (both ends inclusive).
+     *
+     * @return Overlapping assignments ordered by start date (empty if none)
+     */
+    public List<Interval> findOverlapping(long employeeNo, LocalDate startDate, LocalDate endDate) {
+        Timeline timeline = timelines.get(employeeNo);
+        return timeline == null ? List.of() : timeline.overlapping(startDate.toEpochDay(), endDate.toEpochDay());
+    }
+
+    /**
+     * Find the assignment covering a date; the latest starting one if several do.
+     *
+     * @return Covering assignment, or null if the employee is not assigned on that date
+     */
+    public Interval findCovering(long employeeNo, LocalDate date) {
+        List<Interval> covering = findOverlapping(employeeNo, date, date);
+        return covering.isEmpty() ? null : covering.get(covering.size() - 1);
+    }
+
+    /**
+     * Check whether an employee has no assignment in a date range.
+     */
+    public boolean isFree(long employeeNo, LocalDate startDate, LocalDate endDate) {
+        Timeline timeline = timelines.get(employeeNo);
+        return timeline == null || !timeline.overlaps(startDate.toEpochDay(), endDate.toEpochDay());
+    }
+
+    /**
+     * Assignment interval.
+     *
+     * @param assignmentNo Assignment number
+     * @param employeeNo Employee number
+     * @param projectCode Project code
+     * @param startDate First day (inclusive)
+     * @param endDate Last day (inclusive), or null if open-ended
+     */
+    public record Interval(long assignmentNo, long employeeNo, long projectCode,
+                           LocalDate startDate, LocalDate endDate) {
+
+        long start() {
+            return startDate.toEpochDay();
+        }
+
+        long end() {
+            return endDate == null ? OPEN_END : endDate.toEpochDay();
+        }
+    }
+
+    /**
+     * Assignments of one employee sorted by start date.
+     */
+    private static final class Timeline {
+
+        private static final Comparator<Interval> BY_START = Comparator
+                .comparingLong(Interval::start)
+                .thenComparingLong(Interval::assignmentNo);
+
+        private final Interval[] intervals;
+        private final long[] starts;
+        private final long[] maxEnds;
+
+        private Timeline(Interval[] intervals) {
+            Arrays.sort(intervals, BY_START);
+            this.intervals = intervals;
+            this.starts = new long[intervals.length];
+            this.maxEnds = new long[intervals.length];
+            long maxEnd = Long.MIN_VALUE;
+            for (int i = 0; i < intervals.length; i++) {
+                starts[i] = intervals[i].start();
+                maxEnd = Math.max(maxEnd, intervals[i].end());
+                maxEnds[i] = maxEnd;
+            }
+        }
+
+        static Timeline of(Interval interval) {
+            return new Timeline(new Interval[]{interval});
+        }
+
+        Timeline with(Interval interval) {
+            Interval[] copy = Arrays.copyOf(intervals, intervals.length + 1);
+            copy[intervals.length] = interval;
+            return new Timeline(copy);
+        }
+
+        /**
+         * @return Timeline without the assignment, or null when it becomes empty
+         */
+        Timeline without(long assignmentNo) {
+            Interval[] remaining = Arrays.stream(intervals)
+                    .filter(i -> i.assignmentNo() != assignmentNo)
+                    .toArray(Interval[]::new);
+            return remaining.length == 0 ? null : new Timeline(remaining);
+        }
+
+        boolean overlaps(long start, long end) {
+            for (int i = lastStartingBy(end); i >= 0 && maxEnds[i] >= start; i--) {
+                if (intervals[i].end() >= start) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        List<Interval> overlapping(long start, long end) {
+            List<Interval> result = new ArrayList<>(2);
+            for (int i = lastStartingBy(end); i >= 0 && maxEnds[i] >= start; i--) {
+                if (intervals[i].end() >= start) {
+                    result.add(0, intervals[i]);
+                }
+            }
+            return result;
+        }
+
+        // Index of the last interval starting on or before the day, -1 if none
+        private int lastStartingBy(long day) {
+            int low = 0;
+            int high = starts.length - 1;
+            while (low <= high) {
+                int mid = (low + high) >>> 1;
+                if (starts[mid] <= day) {
+                    low = mid + 1;
+                } else {
+                    high = mid - 1;
+                }
+            }
+            return high;
+        }
+    }
+}
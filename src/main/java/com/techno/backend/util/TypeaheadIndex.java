@@ -0,0 +1,283 @@
+package com.techno.backend.util;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory typeahead index over names and codes of master data records.
+ *
+ * Every record is kept as its normalized name (see {@link ArabicTextNormalizer})
+ * followed by its code. Each word of that text is registered under its prefixes
+ * (up to {@value #MAX_PREFIX} characters) and its trigrams, and the first word
+ * also under its own prefixes. Posting lists are kept sorted shortest name first.
+ *
+ * Matches are ranked in three tiers: text starting with the query, then every
+ * query word starting a word, then every query word contained in the text
+ * (words shorter than three characters must start a word). Each tier walks the
+ * smallest posting list that can hold its matches in name order and stops as
+ * soon as the limit is reached, so a broad query such as a single letter costs
+ * about as much as a narrow one.
+ *
+ * Records are added, replaced and removed one at a time. Reads and writes may
+ * run from different threads.
+ *
+ * @author Techno HR System
+ * @version 1.0
+ */
+public final class TypeaheadIndex {
+
+    /**
+     * Longest word prefix registered; longer query words are checked against candidates
+     */
+    static final int MAX_PREFIX = 6;
+
+    private static final char WORD_PREFIX = '\u0001';
+    private static final char FIRST_WORD_PREFIX = '\u0002';
+
+    // Shortest name first; type and code make the order total
+    private static final Comparator<Entry> NAME_ORDER = Comparator
+            .comparingInt((Entry e) -> e.label.length())
+            .thenComparing(e -> e.label)
+            .thenComparing(e -> e.type)
+            .thenComparingLong(e -> e.id);
+
+    private final Map<Key, Entry> entries = new HashMap<>();
+    private final Map<String, NavigableSet<Entry>> postings = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    /**
+     * Add a record, or replace the name of an indexed record.
+     *
+     * @param type Record type (employee, project, ...)
+     * @param id Record code
+     * @param label Display name
+     */
+    public void put(String type, long id, String label) {
+        Entry entry = new Entry(type, id, label == null ? "" : label);
+        lock.writeLock().lock();
+        try {
+            Entry previous = entries.put(new Key(type, id), entry);
+            if (previous != null) {
+                unregister(previous);
+            }
+            for (String gram : grams(entry.words)) {
+                postings.computeIfAbsent(gram, g -> new TreeSet<>(NAME_ORDER)).add(entry);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Remove a record; does nothing if it is not indexed.
+     */
+    public void remove(String type, long id) {
+        lock.writeLock().lock();
+        try {
+            Entry previous = entries.remove(new Key(type, id));
+            if (previous != null) {
+                unregister(previous);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Number of indexed records.
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return entries.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Find the best matches for a query.
+     *
+     * @param query Text typed by the user
+     * @param types Record types to search, or null for all
+     * @param limit Maximum number of matches
+     * @return Matches, best first (empty for a blank query)
+     */
+    public List<Match> search(String query, Collection<String> types, int limit) {
+        String normalized = query == null ? "" : ArabicTextNormalizer.normalize(query.trim());
+        String[] words = split(normalized);
+        if (words.length == 0 || limit <= 0) {
+            return List.of();
+        }
+        String phrase = String.join(" ", words);
+
+        lock.readLock().lock();
+        try {
+            Set<Entry> prefixed = null;
+            Set<Entry> containing = null;
+            boolean containsTier = false;
+            for (String word : words) {
+                Set<Entry> wordPrefixed = postings.get(WORD_PREFIX + prefix(word));
+                Set<Entry> wordContaining = word.length() < 3 ? wordPrefixed : smallestTrigramPosting(word);
+                if (wordContaining == null) {
+                    return List.of();
+                }
+                prefixed = smaller(prefixed, wordPrefixed == null ? Set.of() : wordPrefixed);
+                containing = smaller(containing, wordContaining);
+                containsTier |= word.length() >= 3;
+            }
+            Set<Entry> startingWith = postings.get(FIRST_WORD_PREFIX + prefix(words[0]));
+
+            List<Match> matches = new ArrayList<>(Math.min(limit, 16));
+            if (startingWith != null) {
+                collect(startingWith, 0, words, phrase, types, limit, matches);
+            }
+            collect(prefixed, 1, words, phrase, types, limit, matches);
+            if (containsTier) {
+                collect(containing, 2, words, phrase, types, limit, matches);
+            }
+            return matches;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Add candidates of one rank, in name order, until the limit is reached.
+     */
+    private static void collect(Set<Entry> candidates, int tier, String[] words, String phrase,
+                                Collection<String> types, int limit, List<Match> matches) {
+        for (Entry entry : candidates) {
+            if (matches.size() >= limit) {
+                return;
+            }
+            if ((types == null || types.contains(entry.type)) && rank(entry, words, phrase) == tier) {
+                matches.add(new Match(entry.type, entry.id, entry.label));
+            }
+        }
+    }
+
+    /**
+     * 0 = text starts with the query, 1 = every query word starts a word,
+     * 2 = contains every query word, -1 = no match.
+     */
+    private static int rank(Entry entry, String[] queryWords, String phrase) {
+        boolean allPrefixes = true;
+        for (String word : queryWords) {
+            boolean prefix = startsAnyWord(entry.words, word);
+            if (!prefix && (word.length() < 3 || !entry.text.contains(word))) {
+                return -1;
+            }
+            allPrefixes &= prefix;
+        }
+        if (entry.text.startsWith(phrase)) {
+            return 0;
+        }
+        return allPrefixes ? 1 : 2;
+    }
+
+    private static boolean startsAnyWord(String[] words, String prefix) {
+        for (String word : words) {
+            if (word.startsWith(prefix)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private Set<Entry> smallestTrigramPosting(String word) {
+        Set<Entry> smallest = null;
+        for (int i = 0; i + 3 <= word.length(); i++) {
+            Set<Entry> posting = postings.get(word.substring(i, i + 3));
+            if (posting == null) {
+                return null;
+            }
+            smallest = smaller(smallest, posting);
+        }
+        return smallest;
+    }
+
+    private static Set<Entry> smaller(Set<Entry> current, Set<Entry> candidate) {
+        return current == null || candidate.size() < current.size() ? candidate : current;
+    }
+
+    private void unregister(Entry entry) {
+        for (String gram : grams(entry.words)) {
+            Set<Entry> posting = postings.get(gram);
+            if (posting != null) {
+                posting.remove(entry);
+                if (posting.isEmpty()) {
+                    postings.remove(gram);
+                }
+            }
+        }
+    }
+
+    private static Set<String> grams(String[] words) {
+        Set<String> grams = new HashSet<>();
+        for (int w = 0; w < words.length; w++) {
+            String word = words[w];
+            for (int length = 1; length <= Math.min(word.length(), MAX_PREFIX); length++) {
+                grams.add(WORD_PREFIX + word.substring(0, length));
+                if (w == 0) {
+                    grams.add(FIRST_WORD_PREFIX + word.substring(0, length));
+                }
+            }
+            for (int i = 0; i + 3 <= word.length(); i++) {
+                grams.add(word.substring(i, i + 3));
+            }
+        }
+        return grams;
+    }
+
+    private static String prefix(String word) {
+        return word.length() > MAX_PREFIX ? word.substring(0, MAX_PREFIX) : word;
+    }
+
+    private static String[] split(String text) {
+        return text.isBlank() ? new String[0] : text.trim().split("\\s+");
+    }
+
+    /**
+     * Record matched by a query.
+     *
+     * @param type Record type
+     * @param id Record code
+     * @param label Display name
+     */
+    public record Match(String type, long id, String label) {
+    }
+
+    private record Key(String type, long id) {
+    }
+
+    /**
+     * Indexed record with its normalized text and words.
+     */
+    private static final class Entry {
+
+        private final String type;
+        private final long id;
+        private final String label;
+        private final String text;
+        private final String[] words;
+
+        private Entry(String type, long id, String label) {
+            this.type = type;
+            this.id = id;
+            this.label = label;
+            this.text = String.join(" ", split(ArabicTextNormalizer.normalize(label) + " " + id));
+            this.words = split(text);
+        }
+    }
+}
@@ -278,6 +278,8 @@ WHERE NOT EXISTS (
 -- Approval Workflow Configuration
 -- Phase 6 - Allowances & Deductions
 -- Defines approval chains for manual allowances and deductions
+-- Chains are only inserted when missing (DO NOTHING) so levels customised
+-- by administrators are never overwritten when this script runs again
 -- ====================================================================
 
 -- Allowance approval workflow (ALLOW) - Single level: HR Manager
@@ -299,17 +301,17 @@ ON CONFLICT (request_type, level_no) DO NOTHING;
 -- Level 1: HR Manager reviews payroll calculations and attendance
 INSERT INTO requests_approval_set (request_type, level_no, function_call, close_level, is_active)
 VALUES ('PAYROLL', 1, 'GetHRManager', 'N', 'Y')
-ON CONFLICT (request_type, level_no) DO UPDATE SET function_call = EXCLUDED.function_call, close_level = EXCLUDED.close_level, is_active = 'Y';
+ON CONFLICT (request_type, level_no) DO NOTHING;
 
 -- Level 2: Finance Manager verifies financial aspects and amounts
 INSERT INTO requests_approval_set (request_type, level_no, function_call, close_level, is_active)
 VALUES ('PAYROLL', 2, 'GetFinManager', 'N', 'Y')
-ON CONFLICT (request_type, level_no) DO UPDATE SET function_call = EXCLUDED.function_call, close_level = EXCLUDED.close_level, is_active = 'Y';
+ON CONFLICT (request_type, level_no) DO NOTHING;
 
 -- Level 3: General Manager final approval and authorization
 INSERT INTO requests_approval_set (request_type, level_no, function_call, close_level, is_active)
 VALUES ('PAYROLL', 3, 'GetGeneralManager', 'Y', 'Y')
-ON CONFLICT (request_type, level_no) DO UPDATE SET function_call = EXCLUDED.function_call, close_level = EXCLUDED.close_level, is_active = 'Y';
+ON CONFLICT (request_type, level_no) DO NOTHING;
 
 -- ====================================================================
 -- Leave Request (VAC) Approval Workflow Configuration
@@ -319,17 +321,17 @@ ON CONFLICT (request_type, level_no) DO UPDATE SET function_call = EXCLUDED.func
 -- Level 1: Direct Manager (from employee's department)
 INSERT INTO requests_approval_set (request_type, level_no, function_call, close_level, remarks, is_active)
 VALUES ('VAC', 1, 'GetDirectManager', 'N', 'Direct manager approval', 'Y')
-ON CONFLICT (request_type, level_no) DO UPDATE SET function_call = EXCLUDED.function_call, close_level = EXCLUDED.close_level, remarks = EXCLUDED.remarks, is_active = 'Y';
+ON CONFLICT (request_type, level_no) DO NOTHING;
 
 -- Level 2: Project Manager (from employee's primary project)
 INSERT INTO requests_approval_set (request_type, level_no, function_call, close_level, remarks, is_active)
 VALUES ('VAC', 2, 'GetProjectManager', 'N', 'Project manager approval', 'Y')
-ON CONFLICT (request_type, level_no) DO UPDATE SET function_call = EXCLUDED.function_call, close_level = EXCLUDED.close_level, remarks = EXCLUDED.remarks, is_active = 'Y';
+ON CONFLICT (request_type, level_no) DO NOTHING;
 
 -- Level 3: HR Manager final approval
 INSERT INTO requests_approval_set (request_type, level_no, function_call, close_level, remarks, is_active)
 VALUES ('VAC', 3, 'GetHRManager', 'Y', 'HR final approval', 'Y')
-ON CONFLICT (request_type, level_no) DO UPDATE SET function_call = EXCLUDED.function_call, close_level = EXCLUDED.close_level, remarks = EXCLUDED.remarks, is_active = 'Y';
+ON CONFLICT (request_type, level_no) DO NOTHING;
 
 -- ====================================================================
 -- Loan (LOAN) Approval Workflow Configuration
@@ -339,22 +341,12 @@ ON CONFLICT (request_type, level_no) DO UPDATE SET function_call = EXCLUDED.func
 -- Level 1: HR Manager reviews employee eligibility and loan terms
 INSERT INTO requests_approval_set (request_type, level_no, function_call, close_level, remarks, is_active)
 VALUES ('LOAN', 1, 'GetHRManager', 'N', 'HR Manager reviews loan eligibility', 'Y')
-ON CONFLICT (request_type, level_no) 
-DO UPDATE SET 
-    function_call = EXCLUDED.function_call,
-    close_level = EXCLUDED.close_level,
-    remarks = EXCLUDED.remarks,
-    is_active = 'Y';
+ON CONFLICT (request_type, level_no) DO NOTHING;
 
 -- Level 2: Finance Manager final approval and fund allocation
 INSERT INTO requests_approval_set (request_type, level_no, function_call, close_level, remarks, is_active)
 VALUES ('LOAN', 2, 'GetFinManager', 'Y', 'Finance Manager final approval', 'Y')
-ON CONFLICT (request_type, level_no) 
-DO UPDATE SET 
-    function_call = EXCLUDED.function_call,
-    close_level = EXCLUDED.close_level,
-    remarks = EXCLUDED.remarks,
-    is_active = 'Y';
+ON CONFLICT (request_type, level_no) DO NOTHING;
 
 -- ====================================================================
 -- Salary Increase (INCR) Approval Workflow Configuration
@@ -364,22 +356,22 @@ DO UPDATE SET
 -- Level 1: Direct Manager recommends salary increase
 INSERT INTO requests_approval_set (request_type, level_no, function_call, close_level, remarks, is_active)
 VALUES ('INCR', 1, 'GetDirectManager', 'N', 'Direct manager recommendation', 'Y')
-ON CONFLICT (request_type, level_no) DO UPDATE SET function_call = EXCLUDED.function_call, close_level = EXCLUDED.close_level, remarks = EXCLUDED.remarks, is_active = 'Y';
+ON CONFLICT (request_type, level_no) DO NOTHING;
 
 -- Level 2: HR Manager reviews and validates
 INSERT INTO requests_approval_set (request_type, level_no, function_call, close_level, remarks, is_active)
 VALUES ('INCR', 2, 'GetHRManager', 'N', 'HR Manager validation', 'Y')
-ON CONFLICT (request_type, level_no) DO UPDATE SET function_call = EXCLUDED.function_call, close_level = EXCLUDED.close_level, remarks = EXCLUDED.remarks, is_active = 'Y';
+ON CONFLICT (request_type, level_no) DO NOTHING;
 
 -- Level 3: Finance Manager budget approval
 INSERT INTO requests_approval_set (request_type, level_no, function_call, close_level, remarks, is_active)
 VALUES ('INCR', 3, 'GetFinManager', 'N', 'Finance Manager budget approval', 'Y')
-ON CONFLICT (request_type, level_no) DO UPDATE SET function_call = EXCLUDED.function_call, close_level = EXCLUDED.close_level, remarks = EXCLUDED.remarks, is_active = 'Y';
+ON CONFLICT (request_type, level_no) DO NOTHING;
 
 -- Level 4: General Manager final authorization
 INSERT INTO requests_approval_set (request_type, level_no, function_call, close_level, remarks, is_active)
 VALUES ('INCR', 4, 'GetGeneralManager', 'Y', 'General Manager final authorization', 'Y')
-ON CONFLICT (request_type, level_no) DO UPDATE SET function_call = EXCLUDED.function_call, close_level = EXCLUDED.close_level, remarks = EXCLUDED.remarks, is_active = 'Y';
+ON CONFLICT (request_type, level_no) DO NOTHING;
 
 -- ====================================================================
 -- Project Payment (PROJ_PAYMENT) Approval Workflow Configuration
@@ -389,17 +381,17 @@ ON CONFLICT (request_type, level_no) DO UPDATE SET function_call = EXCLUDED.func
 -- Level 1: Project Manager verifies project expenses
 INSERT INTO requests_approval_set (request_type, level_no, function_call, close_level, remarks, is_active)
 VALUES ('PROJ_PAYMENT', 1, 'GetProjectManager', 'N', 'Project Manager verification', 'Y')
-ON CONFLICT (request_type, level_no) DO UPDATE SET function_call = EXCLUDED.function_call, close_level = EXCLUDED.close_level, remarks = EXCLUDED.remarks, is_active = 'Y';
+ON CONFLICT (request_type, level_no) DO NOTHING;
 
 -- Level 2: Finance Manager validates budget and amount
 INSERT INTO requests_approval_set (request_type, level_no, function_call, close_level, remarks, is_active)
 VALUES ('PROJ_PAYMENT', 2, 'GetFinManager', 'N', 'Finance Manager validation', 'Y')
-ON CONFLICT (request_type, level_no) DO UPDATE SET function_call = EXCLUDED.function_call, close_level = EXCLUDED.close_level, remarks = EXCLUDED.remarks, is_active = 'Y';
+ON CONFLICT (request_type, level_no) DO NOTHING;
 
 -- Level 3: General Manager final approval for payment
 INSERT INTO requests_approval_set (request_type, level_no, function_call, close_level, remarks, is_active)
 VALUES ('PROJ_PAYMENT', 3, 'GetGeneralManager', 'Y', 'General Manager final approval', 'Y')
-ON CONFLICT (request_type, level_no) DO UPDATE SET function_call = EXCLUDED.function_call, close_level = EXCLUDED.close_level, remarks = EXCLUDED.remarks, is_active = 'Y';
+ON CONFLICT (request_type, level_no) DO NOTHING;
 
 -- ====================================================================
 -- Project Transfer (PROJ_TRANSFER) Approval Workflow Configuration
@@ -409,17 +401,17 @@ ON CONFLICT (request_type, level_no) DO UPDATE SET function_call = EXCLUDED.func
 -- Level 1: Source Project Manager (from current project) approval
 INSERT INTO requests_approval_set (request_type, level_no, function_call, close_level, remarks, is_active)
 VALUES ('PROJ_TRANSFER', 1, 'GetProjectManager', 'N', 'Source project manager approval', 'Y')
-ON CONFLICT (request_type, level_no) DO UPDATE SET function_call = EXCLUDED.function_call, close_level = EXCLUDED.close_level, remarks = EXCLUDED.remarks, is_active = 'Y';
+ON CONFLICT (request_type, level_no) DO NOTHING;
 
 -- Level 2: Target Project Manager (to new project) approval
 INSERT INTO requests_approval_set (request_type, level_no, function_call, close_level, remarks, is_active)
 VALUES ('PROJ_TRANSFER', 2, 'GetProjectManager', 'N', 'Target project manager approval', 'Y')
-ON CONFLICT (request_type, level_no) DO UPDATE SET function_call = EXCLUDED.function_call, close_level = EXCLUDED.close_level, remarks = EXCLUDED.remarks, is_active = 'Y';
+ON CONFLICT (request_type, level_no) DO NOTHING;
 
 -- Level 3: HR Manager final approval and record update
 INSERT INTO requests_approval_set (request_type, level_no, function_call, close_level, remarks, is_active)
 VALUES ('PROJ_TRANSFER', 3, 'GetHRManager', 'Y', 'HR Manager final approval', 'Y')
-ON CONFLICT (request_type, level_no) DO UPDATE SET function_call = EXCLUDED.function_call, close_level = EXCLUDED.close_level, remarks = EXCLUDED.remarks, is_active = 'Y';
+ON CONFLICT (request_type, level_no) DO NOTHING;
 
 -- ====================================================================
 -- Loan Postponement (POSTLOAN) Approval Workflow Configuration
@@ -429,17 +421,17 @@ ON CONFLICT (request_type, level_no) DO UPDATE SET function_call = EXCLUDED.func
 -- Level 1: HR Manager reviews postponement reason
 INSERT INTO requests_approval_set (request_type, level_no, function_call, close_level, remarks, is_active)
 VALUES ('POSTLOAN', 1, 'GetHRManager', 'N', 'HR Manager review', 'Y')
-ON CONFLICT (request_type, level_no) DO UPDATE SET function_call = EXCLUDED.function_call, close_level = EXCLUDED.close_level, remarks = EXCLUDED.remarks, is_active = 'Y';
+ON CONFLICT (request_type, level_no) DO NOTHING;
 
 -- Level 2: Finance Manager checks financial impact
 INSERT INTO requests_approval_set (request_type, level_no, function_call, close_level, remarks, is_active)
 VALUES ('POSTLOAN', 2, 'GetFinManager', 'N', 'Finance Manager impact check', 'Y')
-ON CONFLICT (request_type, level_no) DO UPDATE SET function_call = EXCLUDED.function_call, close_level = EXCLUDED.close_level, remarks = EXCLUDED.remarks, is_active = 'Y';
+ON CONFLICT (request_type, level_no) DO NOTHING;
 
 -- Level 3: General Manager final authorization
 INSERT INTO requests_approval_set (request_type, level_no, function_call, close_level, remarks, is_active)
 VALUES ('POSTLOAN', 3, 'GetGeneralManager', 'Y', 'General Manager final authorization', 'Y')
-ON CONFLICT (request_type, level_no) DO UPDATE SET function_call = EXCLUDED.function_call, close_level = EXCLUDED.close_level, remarks = EXCLUDED.remarks, is_active = 'Y';
+ON CONFLICT (request_type, level_no) DO NOTHING;
 
 -- ====================================================================
 -- Manual Attendance (MANUAL_ATTENDANCE) Approval Workflow Configuration
@@ -449,12 +441,12 @@ ON CONFLICT (request_type, level_no) DO UPDATE SET function_call = EXCLUDED.func
 -- Level 1: Direct Manager verifies attendance
 INSERT INTO requests_approval_set (request_type, level_no, function_call, close_level, remarks, is_active)
 VALUES ('MANUAL_ATTENDANCE', 1, 'GetDirectManager', 'N', 'Direct Manager verification', 'Y')
-ON CONFLICT (request_type, level_no) DO UPDATE SET function_call = EXCLUDED.function_call, close_level = EXCLUDED.close_level, remarks = EXCLUDED.remarks, is_active = 'Y';
+ON CONFLICT (request_type, level_no) DO NOTHING;
 
 -- Level 2: HR Manager final approval
 INSERT INTO requests_approval_set (request_type, level_no, function_call, close_level, remarks, is_active)
 VALUES ('MANUAL_ATTENDANCE', 2, 'GetHRManager', 'Y', 'HR Manager final approval', 'Y')
-ON CONFLICT (request_type, level_no) DO UPDATE SET function_call = EXCLUDED.function_call, close_level = EXCLUDED.close_level, remarks = EXCLUDED.remarks, is_active = 'Y';
+ON CONFLICT (request_type, level_no) DO NOTHING;
 
 -- ====================================================================
 -- Labor Request (LABOR_REQ) Approval Workflow Configuration
@@ -464,7 +456,7 @@ ON CONFLICT (request_type, level_no) DO UPDATE SET function_call = EXCLUDED.func
 -- Level 1: HR Manager final approval
 INSERT INTO requests_approval_set (request_type, level_no, function_call, close_level, remarks, is_active)
 VALUES ('LABOR_REQ', 1, 'GetHRManager', 'Y', 'HR Manager final approval', 'Y')
-ON CONFLICT (request_type, level_no) DO UPDATE SET function_call = EXCLUDED.function_call, close_level = EXCLUDED.close_level, remarks = EXCLUDED.remarks, is_active = 'Y';
+ON CONFLICT (request_type, level_no) DO NOTHING;
 
 -- ====================================================================
 -- PHASE 9: Notifications & Email System
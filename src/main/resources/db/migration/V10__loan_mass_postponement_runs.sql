@@ -0,0 +1,18 @@
+-- Migration: Loan mass postponement audit history
+CREATE TABLE IF NOT EXISTS loan_mass_postponement_runs (
+    run_id BIGSERIAL PRIMARY KEY,
+    original_month VARCHAR(7) NOT NULL,
+    new_month VARCHAR(7) NOT NULL,
+    new_due_date DATE NOT NULL,
+    reason VARCHAR(500),
+    installments_postponed INTEGER NOT NULL,
+    loans_affected INTEGER NOT NULL,
+    employees_affected INTEGER NOT NULL,
+    executed_by BIGINT,
+    run_date TIMESTAMP NOT NULL,
+    created_date TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    created_by BIGINT,
+    modified_date TIMESTAMP,
+    modified_by BIGINT
+);
+CREATE INDEX IF NOT EXISTS idx_loan_mass_postpone_run_date ON loan_mass_postponement_runs (run_date);
@@ -0,0 +1,5 @@
+-- Migration: Idempotent attendance check-in
+-- Concurrent check-ins are settled by the existing unique index idx_attendance_emp_date
+-- (one row per employee per day, defined on AttendanceTransaction); the request key lets
+-- clients safely retry a check-in
+ALTER TABLE emp_attendance_transactions ADD COLUMN IF NOT EXISTS entry_request_key VARCHAR(64);
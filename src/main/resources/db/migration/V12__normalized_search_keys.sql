@@ -0,0 +1,12 @@
+-- Migration: Normalized search keys for employee, item and supplier names
+-- search_key holds the name lower-cased, without tashkeel, with Alef forms folded to ا,
+-- Ta Marbuta to ه and Alef Maqsura to ي (same rules as ArabicTextNormalizer).
+-- The application keeps it in step on save; existing rows are backfilled here.
+-- The pg_trgm indexes serving substring search on the key are created in V19.
+ALTER TABLE employees_details ADD COLUMN IF NOT EXISTS search_key VARCHAR(250);
+ALTER TABLE store_items ADD COLUMN IF NOT EXISTS search_key VARCHAR(250);
+ALTER TABLE suppliers ADD COLUMN IF NOT EXISTS search_key VARCHAR(250);
+
+UPDATE employees_details SET search_key = translate(lower(regexp_replace(employee_name, '[\u064B-\u065F]', '', 'g')), 'أإآةى', 'اااهي') WHERE search_key IS NULL;
+UPDATE store_items SET search_key = translate(lower(regexp_replace(item_name, '[\u064B-\u065F]', '', 'g')), 'أإآةى', 'اااهي') WHERE search_key IS NULL;
+UPDATE suppliers SET search_key = translate(lower(regexp_replace(supplier_name, '[\u064B-\u065F]', '', 'g')), 'أإآةى', 'اااهي') WHERE search_key IS NULL;
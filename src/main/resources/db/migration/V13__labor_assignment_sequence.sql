@@ -0,0 +1,7 @@
+-- Migration: Pooled sequence for project_labor_assignments
+-- Pooled id allocation as in V7__pooled_id_sequences.sql.
+
+CREATE SEQUENCE IF NOT EXISTS labor_assignment_seq START WITH 1 INCREMENT BY 50;
+SELECT setval('labor_assignment_seq', GREATEST((SELECT COALESCE(MAX(assignment_no), 0) FROM project_labor_assignments), (SELECT last_value FROM labor_assignment_seq)));
+ALTER TABLE project_labor_assignments ALTER COLUMN assignment_no DROP IDENTITY IF EXISTS;
+ALTER TABLE project_labor_assignments ALTER COLUMN assignment_no SET DEFAULT nextval('labor_assignment_seq');
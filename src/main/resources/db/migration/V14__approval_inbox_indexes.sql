@@ -0,0 +1,31 @@
+-- Migration: Indexes for the approvals inbox
+-- The inbox reads every request table by next_approval, restricted to pending rows.
+-- Partial indexes keep only pending rows, so they stay small as history grows.
+-- Transfers and payment requests mark pending rows 'P', the other requests 'N'.
+
+CREATE INDEX IF NOT EXISTS idx_leaves_pending_approver
+    ON employee_leaves (next_approval) WHERE trans_status = 'N';
+
+CREATE INDEX IF NOT EXISTS idx_loans_pending_approver
+    ON loans (next_approval) WHERE trans_status = 'N';
+
+CREATE INDEX IF NOT EXISTS idx_loan_postponements_pending_approver
+    ON loan_postponement_requests (next_approval) WHERE trans_status = 'N';
+
+CREATE INDEX IF NOT EXISTS idx_allowances_pending_approver
+    ON emp_monthly_allowances (next_approval) WHERE trans_status = 'N' AND is_deleted = 'N';
+
+CREATE INDEX IF NOT EXISTS idx_deductions_pending_approver
+    ON emp_monthly_deductions (next_approval) WHERE trans_status = 'N' AND is_deleted = 'N';
+
+CREATE INDEX IF NOT EXISTS idx_manual_attendance_pending_approver
+    ON manual_attendance_requests (next_approval) WHERE trans_status = 'N';
+
+CREATE INDEX IF NOT EXISTS idx_transfers_pending_approver
+    ON project_transfer_requests (next_approval) WHERE trans_status = 'P' AND is_deleted = 'N';
+
+CREATE INDEX IF NOT EXISTS idx_payment_requests_pending_approver
+    ON project_payment_request (next_approval) WHERE trans_status = 'P' AND is_deleted = 'N';
+
+CREATE INDEX IF NOT EXISTS idx_labor_requests_pending_approver
+    ON project_labor_request_header (next_approval) WHERE trans_status = 'N' AND is_deleted = 'N';
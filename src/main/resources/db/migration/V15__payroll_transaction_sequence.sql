@@ -0,0 +1,7 @@
+-- Migration: Pooled sequence for emp_payroll_transactions
+-- Pooled id allocation as in V7__pooled_id_sequences.sql.
+
+CREATE SEQUENCE IF NOT EXISTS payroll_transaction_seq START WITH 1 INCREMENT BY 50;
+SELECT setval('payroll_transaction_seq', GREATEST((SELECT COALESCE(MAX(transaction_id), 0) FROM emp_payroll_transactions), (SELECT last_value FROM payroll_transaction_seq)));
+ALTER TABLE emp_payroll_transactions ALTER COLUMN transaction_id DROP IDENTITY IF EXISTS;
+ALTER TABLE emp_payroll_transactions ALTER COLUMN transaction_id SET DEFAULT nextval('payroll_transaction_seq');
@@ -0,0 +1,17 @@
+-- Migration: Dirty set for incremental payroll recalculation
+-- One row per (employee, salary month) whose payroll inputs changed after the month
+-- was calculated; the incremental run recalculates these and removes the rows
+CREATE TABLE IF NOT EXISTS payroll_dirty_months (
+    dirty_id BIGSERIAL PRIMARY KEY,
+    employee_no BIGINT NOT NULL,
+    salary_month VARCHAR(7) NOT NULL,
+    change_sources VARCHAR(200) NOT NULL,
+    change_count INTEGER NOT NULL DEFAULT 1,
+    last_marked_date TIMESTAMP NOT NULL,
+    created_date TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    created_by BIGINT,
+    modified_date TIMESTAMP,
+    modified_by BIGINT,
+    CONSTRAINT uk_payroll_dirty_emp_month UNIQUE (employee_no, salary_month)
+);
+CREATE INDEX IF NOT EXISTS idx_payroll_dirty_month ON payroll_dirty_months (salary_month);
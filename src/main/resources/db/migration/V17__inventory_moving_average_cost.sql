@@ -0,0 +1,47 @@
+-- Migration: Moving-average inventory valuation
+-- store_balances keeps the moving-average unit cost and value of the quantity on hand;
+-- every receipt, issue and transfer updates them with the balance row locked.
+-- store_transactions records the unit cost, total cost and value after each movement.
+-- goods_receipt_lines stores the purchase order unit price when the goods are received.
+ALTER TABLE store_balances ADD COLUMN IF NOT EXISTS average_cost NUMERIC(14, 4) DEFAULT 0;
+ALTER TABLE store_balances ADD COLUMN IF NOT EXISTS total_value NUMERIC(16, 4) DEFAULT 0;
+ALTER TABLE store_transactions ADD COLUMN IF NOT EXISTS unit_cost NUMERIC(14, 4);
+ALTER TABLE store_transactions ADD COLUMN IF NOT EXISTS total_cost NUMERIC(16, 4);
+ALTER TABLE store_transactions ADD COLUMN IF NOT EXISTS value_after NUMERIC(16, 4);
+ALTER TABLE goods_receipt_lines ADD COLUMN IF NOT EXISTS unit_price NUMERIC(12, 4);
+
+-- Existing receipt lines: price of the item on the receipt's purchase order
+UPDATE goods_receipt_lines grl
+SET unit_price = pol.unit_price
+FROM goods_receipts gr, purchase_order_lines pol
+WHERE grl.unit_price IS NULL
+  AND gr.receipt_id = grl.receipt_id
+  AND pol.po_id = gr.po_id
+  AND pol.item_code = grl.item_code
+  AND pol.is_deleted = false;
+
+-- Existing balances: quantity-weighted average of the priced receipts into the store
+UPDATE store_balances b
+SET average_cost = r.average_cost,
+    total_value = ROUND(b.quantity_on_hand * r.average_cost, 4)
+FROM (
+    SELECT gr.store_code, grl.item_code,
+           ROUND(SUM(grl.quantity * grl.unit_price) / SUM(grl.quantity), 4) AS average_cost
+    FROM goods_receipt_lines grl
+    JOIN goods_receipts gr ON gr.receipt_id = grl.receipt_id
+    WHERE grl.unit_price IS NOT NULL AND grl.is_deleted = false AND gr.is_deleted = false
+    GROUP BY gr.store_code, grl.item_code
+    HAVING SUM(grl.quantity) > 0
+) r
+WHERE b.store_code = r.store_code AND b.item_code = r.item_code
+  AND (b.average_cost IS NULL OR b.average_cost = 0);
+
+UPDATE store_balances SET average_cost = 0 WHERE average_cost IS NULL;
+UPDATE store_balances SET total_value = 0 WHERE total_value IS NULL;
+
+-- Balances with stock of one store, for the single-store valuation
+-- (dropped first: an earlier version of this script created it with INCLUDE columns)
+DROP INDEX IF EXISTS idx_store_balances_valuation;
+CREATE INDEX IF NOT EXISTS idx_store_balances_valuation
+    ON store_balances (store_code)
+    WHERE is_deleted = false AND quantity_on_hand > 0;
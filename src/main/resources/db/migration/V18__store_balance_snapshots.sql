@@ -0,0 +1,30 @@
+-- Migration: Daily stock snapshots for as-of-date balances
+-- One row per (day, store, item) with stock: the balance after all movements of that day.
+-- Stock at a date is the nearest snapshot plus the ledger movements in between, so the
+-- ledger is read for at most the days between the date and its nearest snapshot.
+CREATE SEQUENCE IF NOT EXISTS store_balance_snapshot_seq START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE IF NOT EXISTS store_balance_snapshots (
+    snapshot_id BIGINT PRIMARY KEY DEFAULT nextval('store_balance_snapshot_seq'),
+    snapshot_date DATE NOT NULL,
+    store_code BIGINT NOT NULL,
+    item_code BIGINT NOT NULL,
+    quantity_on_hand NUMERIC(12, 4) NOT NULL,
+    total_value NUMERIC(16, 4),
+    created_date TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    created_by BIGINT,
+    modified_date TIMESTAMP,
+    modified_by BIGINT,
+    CONSTRAINT uk_store_balance_snapshot UNIQUE (snapshot_date, store_code, item_code)
+);
+
+-- Ledger delta between a snapshot and a date for selected stores: range scan per store
+-- on transaction_date, with the summed columns included so it can be an index-only scan
+CREATE INDEX IF NOT EXISTS idx_store_transactions_store_date
+    ON store_transactions (store_code, transaction_date) INCLUDE (item_code, quantity, total_cost)
+    WHERE is_deleted = false;
+
+-- Ledger delta for all stores (nightly snapshot, no store filter): range scan on transaction_date
+CREATE INDEX IF NOT EXISTS idx_store_transactions_date
+    ON store_transactions (transaction_date) INCLUDE (store_code, item_code, quantity, total_cost)
+    WHERE is_deleted = false;
@@ -0,0 +1,21 @@
+-- Migration: pg_trgm GIN indexes for substring search (LIKE '%...%')
+-- Covers the normalized search keys from V12 and employees' national IDs, which are
+-- searched separately when the search text is numeric.
+-- Creating pg_trgm needs the CREATE privilege on the database (superuser before PostgreSQL 13).
+-- Without it the migration stops startup with the command to run, instead of a bare
+-- permission error.
+DO $$
+BEGIN
+    IF NOT EXISTS (SELECT 1 FROM pg_extension WHERE extname = 'pg_trgm') THEN
+        BEGIN
+            CREATE EXTENSION pg_trgm;
+        EXCEPTION WHEN insufficient_privilege THEN
+            RAISE EXCEPTION 'Extension pg_trgm is missing and user % may not create it. Run "CREATE EXTENSION pg_trgm;" as a database owner or superuser, then restart.', current_user;
+        END;
+    END IF;
+
+    CREATE INDEX IF NOT EXISTS idx_employee_search_key_trgm ON employees_details USING gin (search_key gin_trgm_ops);
+    CREATE INDEX IF NOT EXISTS idx_employee_national_id_trgm ON employees_details USING gin (national_id gin_trgm_ops);
+    CREATE INDEX IF NOT EXISTS idx_store_item_search_key_trgm ON store_items USING gin (search_key gin_trgm_ops);
+    CREATE INDEX IF NOT EXISTS idx_supplier_search_key_trgm ON suppliers USING gin (search_key gin_trgm_ops);
+END $$;
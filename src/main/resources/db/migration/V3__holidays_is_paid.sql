@@ -0,0 +1,5 @@
+-- Migration: Ensure eids_holidays.is_paid exists and is populated
+-- Replaces the runtime information_schema probe in SchemaMigration/DatabaseInitializer
+ALTER TABLE eids_holidays ADD COLUMN IF NOT EXISTS is_paid VARCHAR(1) DEFAULT 'Y';
+UPDATE eids_holidays SET is_paid = 'Y' WHERE is_paid IS NULL;
+ALTER TABLE eids_holidays ALTER COLUMN is_paid SET NOT NULL;
@@ -0,0 +1,5 @@
+-- Migration: Foreign key from notifications to employees_details
+-- Replaces the runtime information_schema probe in SchemaMigration
+ALTER TABLE notifications DROP CONSTRAINT IF EXISTS fk_notification_employee;
+ALTER TABLE notifications ADD CONSTRAINT fk_notification_employee
+    FOREIGN KEY (employee_no) REFERENCES employees_details(employee_no);
@@ -0,0 +1,17 @@
+-- Migration: Content-addressed attachment store
+CREATE TABLE IF NOT EXISTS file_blobs (
+    content_hash VARCHAR(64) PRIMARY KEY,
+    storage_path VARCHAR(1000) NOT NULL,
+    file_size BIGINT,
+    content_type VARCHAR(50),
+    thumbnail_path VARCHAR(1000),
+    reference_count INTEGER NOT NULL DEFAULT 1,
+    orphaned_since TIMESTAMP,
+    created_date TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    created_by BIGINT,
+    modified_date TIMESTAMP,
+    modified_by BIGINT
+);
+CREATE INDEX IF NOT EXISTS idx_file_blob_orphaned ON file_blobs (reference_count, orphaned_since);
+ALTER TABLE attachments ADD COLUMN IF NOT EXISTS content_hash VARCHAR(64);
+CREATE INDEX IF NOT EXISTS idx_attachment_content_hash ON attachments (content_hash);
@@ -0,0 +1,15 @@
+-- Migration: Leave accrual run history
+CREATE TABLE IF NOT EXISTS leave_accrual_runs (
+    run_id BIGSERIAL PRIMARY KEY,
+    accrual_type VARCHAR(20) NOT NULL,
+    accrual_key VARCHAR(50),
+    accrual_days NUMERIC(5,2) NOT NULL,
+    employees_affected INTEGER,
+    run_date TIMESTAMP NOT NULL,
+    created_date TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    created_by BIGINT,
+    modified_date TIMESTAMP,
+    modified_by BIGINT,
+    CONSTRAINT uk_leave_accrual_key UNIQUE (accrual_key)
+);
+CREATE INDEX IF NOT EXISTS idx_leave_accrual_run_date ON leave_accrual_runs (run_date);
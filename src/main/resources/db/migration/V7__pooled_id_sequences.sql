@@ -0,0 +1,46 @@
+-- Migration: Pooled sequences for write-heavy tables
+-- Entities allocate ids from these sequences in blocks of 50 (allocationSize = 50),
+-- which lets Hibernate batch inserts. Each sequence starts above the current max id,
+-- and the column default is moved off IDENTITY so ad-hoc inserts draw from the same sequence.
+
+-- emp_attendance_transactions
+CREATE SEQUENCE IF NOT EXISTS attendance_transaction_seq START WITH 1 INCREMENT BY 50;
+SELECT setval('attendance_transaction_seq', GREATEST((SELECT COALESCE(MAX(transaction_id), 0) FROM emp_attendance_transactions), (SELECT last_value FROM attendance_transaction_seq)));
+ALTER TABLE emp_attendance_transactions ALTER COLUMN transaction_id DROP IDENTITY IF EXISTS;
+ALTER TABLE emp_attendance_transactions ALTER COLUMN transaction_id SET DEFAULT nextval('attendance_transaction_seq');
+
+-- salary_detail
+CREATE SEQUENCE IF NOT EXISTS salary_detail_seq START WITH 1 INCREMENT BY 50;
+SELECT setval('salary_detail_seq', GREATEST((SELECT COALESCE(MAX(detail_id), 0) FROM salary_detail), (SELECT last_value FROM salary_detail_seq)));
+ALTER TABLE salary_detail ALTER COLUMN detail_id DROP IDENTITY IF EXISTS;
+ALTER TABLE salary_detail ALTER COLUMN detail_id SET DEFAULT nextval('salary_detail_seq');
+
+-- loan_installments
+CREATE SEQUENCE IF NOT EXISTS loan_installment_seq START WITH 1 INCREMENT BY 50;
+SELECT setval('loan_installment_seq', GREATEST((SELECT COALESCE(MAX(installment_id), 0) FROM loan_installments), (SELECT last_value FROM loan_installment_seq)));
+ALTER TABLE loan_installments ALTER COLUMN installment_id DROP IDENTITY IF EXISTS;
+ALTER TABLE loan_installments ALTER COLUMN installment_id SET DEFAULT nextval('loan_installment_seq');
+
+-- store_transactions
+CREATE SEQUENCE IF NOT EXISTS store_transaction_seq START WITH 1 INCREMENT BY 50;
+SELECT setval('store_transaction_seq', GREATEST((SELECT COALESCE(MAX(transaction_id), 0) FROM store_transactions), (SELECT last_value FROM store_transaction_seq)));
+ALTER TABLE store_transactions ALTER COLUMN transaction_id DROP IDENTITY IF EXISTS;
+ALTER TABLE store_transactions ALTER COLUMN transaction_id SET DEFAULT nextval('store_transaction_seq');
+
+-- notifications
+CREATE SEQUENCE IF NOT EXISTS notification_seq START WITH 1 INCREMENT BY 50;
+SELECT setval('notification_seq', GREATEST((SELECT COALESCE(MAX(notification_id), 0) FROM notifications), (SELECT last_value FROM notification_seq)));
+ALTER TABLE notifications ALTER COLUMN notification_id DROP IDENTITY IF EXISTS;
+ALTER TABLE notifications ALTER COLUMN notification_id SET DEFAULT nextval('notification_seq');
+
+-- emp_monthly_deductions
+CREATE SEQUENCE IF NOT EXISTS emp_monthly_deduction_seq START WITH 1 INCREMENT BY 50;
+SELECT setval('emp_monthly_deduction_seq', GREATEST((SELECT COALESCE(MAX(transaction_no), 0) FROM emp_monthly_deductions), (SELECT last_value FROM emp_monthly_deduction_seq)));
+ALTER TABLE emp_monthly_deductions ALTER COLUMN transaction_no DROP IDENTITY IF EXISTS;
+ALTER TABLE emp_monthly_deductions ALTER COLUMN transaction_no SET DEFAULT nextval('emp_monthly_deduction_seq');
+
+-- emp_monthly_allowances
+CREATE SEQUENCE IF NOT EXISTS emp_monthly_allowance_seq START WITH 1 INCREMENT BY 50;
+SELECT setval('emp_monthly_allowance_seq', GREATEST((SELECT COALESCE(MAX(transaction_no), 0) FROM emp_monthly_allowances), (SELECT last_value FROM emp_monthly_allowance_seq)));
+ALTER TABLE emp_monthly_allowances ALTER COLUMN transaction_no DROP IDENTITY IF EXISTS;
+ALTER TABLE emp_monthly_allowances ALTER COLUMN transaction_no SET DEFAULT nextval('emp_monthly_allowance_seq');
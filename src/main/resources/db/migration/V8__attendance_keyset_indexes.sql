@@ -0,0 +1,7 @@
+-- Migration: Composite indexes for keyset pagination of attendance records
+-- Scrolling orders by (attendance_date, transaction_id); the employee filter is
+-- covered by the existing unique (employee_no, attendance_date) index
+CREATE INDEX IF NOT EXISTS idx_attendance_date_id
+    ON emp_attendance_transactions (attendance_date, transaction_id);
+CREATE INDEX IF NOT EXISTS idx_attendance_project_date_id
+    ON emp_attendance_transactions (project_code, attendance_date, transaction_id);
@@ -0,0 +1,49 @@
+-- Migration: Per-employee monthly attendance rollups
+-- Rows are maintained with every attendance write; existing months are backfilled here
+CREATE TABLE IF NOT EXISTS attendance_monthly_rollups (
+    rollup_id BIGSERIAL PRIMARY KEY,
+    employee_no BIGINT NOT NULL,
+    rollup_month VARCHAR(7) NOT NULL,
+    working_hours NUMERIC(8,2) NOT NULL DEFAULT 0,
+    overtime_hours NUMERIC(8,2) NOT NULL DEFAULT 0,
+    delay_hours NUMERIC(8,2) NOT NULL DEFAULT 0,
+    early_out_hours NUMERIC(8,2) NOT NULL DEFAULT 0,
+    shortage_hours NUMERIC(8,2) NOT NULL DEFAULT 0,
+    present_days INTEGER NOT NULL DEFAULT 0,
+    absent_days INTEGER NOT NULL DEFAULT 0,
+    holiday_days INTEGER NOT NULL DEFAULT 0,
+    weekend_days INTEGER NOT NULL DEFAULT 0,
+    delay_days INTEGER NOT NULL DEFAULT 0,
+    record_count INTEGER NOT NULL DEFAULT 0,
+    last_calculated_date TIMESTAMP,
+    created_date TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    created_by BIGINT,
+    modified_date TIMESTAMP,
+    modified_by BIGINT,
+    CONSTRAINT uk_attendance_rollup_emp_month UNIQUE (employee_no, rollup_month)
+);
+CREATE INDEX IF NOT EXISTS idx_attendance_rollup_month ON attendance_monthly_rollups (rollup_month);
+
+-- Backfill from existing attendance records
+INSERT INTO attendance_monthly_rollups (
+    employee_no, rollup_month, working_hours, overtime_hours, delay_hours, early_out_hours,
+    shortage_hours, present_days, absent_days, holiday_days, weekend_days, delay_days,
+    record_count, last_calculated_date, created_date)
+SELECT employee_no,
+       TO_CHAR(attendance_date, 'YYYY-MM'),
+       COALESCE(SUM(CASE WHEN absence_flag = 'N' THEN working_hours END), 0),
+       COALESCE(SUM(overtime_calc), 0),
+       COALESCE(SUM(delayed_calc), 0),
+       COALESCE(SUM(early_out_calc), 0),
+       COALESCE(SUM(shortage_hours), 0),
+       SUM(CASE WHEN absence_flag = 'N' THEN 1 ELSE 0 END),
+       SUM(CASE WHEN absence_flag = 'Y' THEN 1 ELSE 0 END),
+       SUM(CASE WHEN is_holiday_work = 'Y' THEN 1 ELSE 0 END),
+       SUM(CASE WHEN is_weekend_work = 'Y' THEN 1 ELSE 0 END),
+       SUM(CASE WHEN delayed_calc > 0 THEN 1 ELSE 0 END),
+       COUNT(*),
+       CURRENT_TIMESTAMP,
+       CURRENT_TIMESTAMP
+FROM emp_attendance_transactions
+GROUP BY employee_no, TO_CHAR(attendance_date, 'YYYY-MM')
+ON CONFLICT (employee_no, rollup_month) DO NOTHING;
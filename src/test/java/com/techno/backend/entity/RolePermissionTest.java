@@ -0,0 +1,79 @@
+package com.techno.backend.entity;
+
+import com.techno.backend.security.Permission;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Unit tests for RolePermission entity.
+ * Tests compilation of the permission flags into a bitmask.
+ *
+ * @author Techno HR System - Testing Suite
+ */
+@DisplayName("RolePermission Entity Tests")
+class RolePermissionTest {
+
+    @Test
+    @DisplayName("Default permissions compile to an empty mask")
+    void testToBitmask_Defaults_Empty() {
+        assertThat(RolePermission.builder().build().toBitmask()).isZero();
+    }
+
+    @Test
+    @DisplayName("Each flag sets only its own bit")
+    void testToBitmask_EachFlag_OwnBit() {
+        assertThat(RolePermission.builder().canManageEmployees('Y').build().toBitmask())
+                .isEqualTo(Permission.MANAGE_EMPLOYEES.bit());
+        assertThat(RolePermission.builder().canManageAttendance('Y').build().toBitmask())
+                .isEqualTo(Permission.MANAGE_ATTENDANCE.bit());
+        assertThat(RolePermission.builder().canManageLeave('Y').build().toBitmask())
+                .isEqualTo(Permission.MANAGE_LEAVE.bit());
+        assertThat(RolePermission.builder().canManageLoans('Y').build().toBitmask())
+                .isEqualTo(Permission.MANAGE_LOANS.bit());
+        assertThat(RolePermission.builder().canManagePayroll('Y').build().toBitmask())
+                .isEqualTo(Permission.MANAGE_PAYROLL.bit());
+        assertThat(RolePermission.builder().canManageProjects('Y').build().toBitmask())
+                .isEqualTo(Permission.MANAGE_PROJECTS.bit());
+        assertThat(RolePermission.builder().canManageWarehouse('Y').build().toBitmask())
+                .isEqualTo(Permission.MANAGE_WAREHOUSE.bit());
+        assertThat(RolePermission.builder().canViewReports('Y').build().toBitmask())
+                .isEqualTo(Permission.VIEW_REPORTS.bit());
+        assertThat(RolePermission.builder().canApprove('Y').build().toBitmask())
+                .isEqualTo(Permission.APPROVE.bit());
+        assertThat(RolePermission.builder().canManageSettings('Y').build().toBitmask())
+                .isEqualTo(Permission.MANAGE_SETTINGS.bit());
+    }
+
+    @Test
+    @DisplayName("Only 'Y' grants a permission; 'N' and null do not")
+    void testToBitmask_MixedFlags() {
+        RolePermission permission = RolePermission.builder()
+                .canManageEmployees('Y')
+                .canManageAttendance('N')
+                .canManageLeave(null)
+                .canViewReports('Y')
+                .build();
+
+        int mask = permission.toBitmask();
+
+        assertThat(Permission.MANAGE_EMPLOYEES.isGrantedIn(mask)).isTrue();
+        assertThat(Permission.VIEW_REPORTS.isGrantedIn(mask)).isTrue();
+        assertThat(Permission.MANAGE_ATTENDANCE.isGrantedIn(mask)).isFalse();
+        assertThat(Permission.MANAGE_LEAVE.isGrantedIn(mask)).isFalse();
+        assertThat(Permission.MANAGE_PAYROLL.isGrantedIn(mask)).isFalse();
+    }
+
+    @Test
+    @DisplayName("All flags set compile to Permission.ALL")
+    void testToBitmask_AllFlags_All() {
+        RolePermission permission = RolePermission.builder()
+                .canManageEmployees('Y').canManageAttendance('Y').canManageLeave('Y').canManageLoans('Y')
+                .canManagePayroll('Y').canManageProjects('Y').canManageWarehouse('Y').canViewReports('Y')
+                .canApprove('Y').canManageSettings('Y')
+                .build();
+
+        assertThat(permission.toBitmask()).isEqualTo(Permission.ALL);
+    }
+}
@@ -0,0 +1,142 @@
+package com.techno.backend.entity;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Unit tests for StoreBalance entity.
+ * Tests moving-average cost and stock value on receipts and issues.
+ *
+ * @author Techno HR System - Testing Suite
+ */
+@DisplayName("StoreBalance Entity Tests")
+class StoreBalanceTest {
+
+    private StoreBalance balance;
+
+    @BeforeEach
+    void setUp() {
+        balance = StoreBalance.builder()
+                .balanceId(1L)
+                .quantityOnHand(BigDecimal.ZERO)
+                .build();
+    }
+
+    // ==================== RECEIVE TESTS ====================
+
+    @Nested
+    @DisplayName("receive() Tests")
+    class ReceiveTests {
+
+        @Test
+        @DisplayName("First receipt sets average cost to the unit cost")
+        void testReceive_FirstReceipt_SetsAverageCost() {
+            BigDecimal value = balance.receive(new BigDecimal("10"), new BigDecimal("5.0000"));
+
+            assertThat(value).isEqualByComparingTo("50");
+            assertThat(balance.getQuantityOnHand()).isEqualByComparingTo("10");
+            assertThat(balance.getAverageCost()).isEqualByComparingTo("5");
+            assertThat(balance.getTotalValue()).isEqualByComparingTo("50");
+        }
+
+        @Test
+        @DisplayName("Receipts at different costs give the quantity-weighted average")
+        void testReceive_DifferentCosts_WeightedAverage() {
+            balance.receive(new BigDecimal("10"), new BigDecimal("5"));
+            balance.receive(new BigDecimal("30"), new BigDecimal("9"));
+
+            assertThat(balance.getQuantityOnHand()).isEqualByComparingTo("40");
+            assertThat(balance.getTotalValue()).isEqualByComparingTo("320");
+            assertThat(balance.getAverageCost()).isEqualByComparingTo("8");
+        }
+
+        @Test
+        @DisplayName("Receipt without unit cost comes in at the current average cost")
+        void testReceive_NoUnitCost_UsesAverageCost() {
+            balance.receive(new BigDecimal("10"), new BigDecimal("7"));
+
+            BigDecimal value = balance.receive(new BigDecimal("5"), null);
+
+            assertThat(value).isEqualByComparingTo("35");
+            assertThat(balance.getAverageCost()).isEqualByComparingTo("7");
+            assertThat(balance.getTotalValue()).isEqualByComparingTo("105");
+        }
+
+        @Test
+        @DisplayName("Balances without valuation (null cost and value) are treated as zero")
+        void testReceive_NullValuation_TreatedAsZero() {
+            balance.setAverageCost(null);
+            balance.setTotalValue(null);
+
+            balance.receive(new BigDecimal("4"), new BigDecimal("2.5"));
+
+            assertThat(balance.getAverageCost()).isEqualByComparingTo("2.5");
+            assertThat(balance.getTotalValue()).isEqualByComparingTo("10");
+        }
+    }
+
+    // ==================== ISSUE TESTS ====================
+
+    @Nested
+    @DisplayName("issue() Tests")
+    class IssueTests {
+
+        @Test
+        @DisplayName("Issue removes value at the average cost and keeps the average")
+        void testIssue_RemovesValueAtAverageCost() {
+            balance.receive(new BigDecimal("10"), new BigDecimal("5"));
+            balance.receive(new BigDecimal("30"), new BigDecimal("9"));
+
+            BigDecimal value = balance.issue(new BigDecimal("15"));
+
+            assertThat(value).isEqualByComparingTo("120");
+            assertThat(balance.getQuantityOnHand()).isEqualByComparingTo("25");
+            assertThat(balance.getAverageCost()).isEqualByComparingTo("8");
+            assertThat(balance.getTotalValue()).isEqualByComparingTo("200");
+        }
+
+        @Test
+        @DisplayName("Issuing the whole quantity leaves no value remainder")
+        void testIssue_WholeQuantity_ZeroValue() {
+            balance.receive(new BigDecimal("1"), new BigDecimal("10"));
+            balance.receive(new BigDecimal("2"), new BigDecimal("10.0001"));
+            BigDecimal totalValue = balance.getTotalValue();
+
+            BigDecimal value = balance.issue(new BigDecimal("3"));
+
+            assertThat(value).isEqualByComparingTo(totalValue);
+            assertThat(balance.getQuantityOnHand()).isEqualByComparingTo("0");
+            assertThat(balance.getTotalValue()).isEqualByComparingTo("0");
+        }
+    }
+
+    // ==================== RESET QUANTITY TESTS ====================
+
+    @Test
+    @DisplayName("resetQuantity values the new quantity at the average cost")
+    void testResetQuantity_ValuesAtAverageCost() {
+        balance.receive(new BigDecimal("10"), new BigDecimal("4"));
+
+        balance.resetQuantity(new BigDecimal("25"), null);
+
+        assertThat(balance.getQuantityOnHand()).isEqualByComparingTo("25");
+        assertThat(balance.getAverageCost()).isEqualByComparingTo("4");
+        assertThat(balance.getTotalValue()).isEqualByComparingTo("100");
+    }
+
+    @Test
+    @DisplayName("resetQuantity values an opening balance at the given unit cost")
+    void testResetQuantity_ValuesAtGivenCost() {
+        balance.resetQuantity(new BigDecimal("20"), new BigDecimal("7.5"));
+
+        assertThat(balance.getQuantityOnHand()).isEqualByComparingTo("20");
+        assertThat(balance.getAverageCost()).isEqualByComparingTo("7.5");
+        assertThat(balance.getTotalValue()).isEqualByComparingTo("150");
+    }
+}
@@ -0,0 +1,228 @@
+package com.techno.backend.fixture;
+
+import com.techno.backend.entity.ContractType;
+import com.techno.backend.entity.Employee;
+import com.techno.backend.entity.ItemCategory;
+import com.techno.backend.entity.Project;
+import com.techno.backend.entity.ProjectStore;
+import com.techno.backend.entity.StoreItem;
+import com.techno.backend.entity.TransactionType;
+import com.techno.backend.repository.ContractTypeRepository;
+import com.techno.backend.repository.EmployeeRepository;
+import com.techno.backend.repository.ItemCategoryRepository;
+import com.techno.backend.repository.ProjectRepository;
+import com.techno.backend.repository.ProjectStoreRepository;
+import com.techno.backend.repository.StoreItemRepository;
+import com.techno.backend.repository.TransactionTypeRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.config.ConfigurableBeanFactory;
+import org.springframework.boot.test.context.TestComponent;
+import org.springframework.context.annotation.Scope;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * Reference rows for database-backed tests (H2).
+ *
+ * Creates valid contract type, transaction type, employee, project, category,
+ * store and item rows, with generated keys where the table has them, so tests
+ * run with foreign key checks on and do not reserve id ranges. Import it with
+ * {@code @Import(TestDataFixture.class)}; it is prototype scoped, so every
+ * test method gets its own instance.
+ *
+ * Tests delete the rows they add on top (attendance, ledger, salaries...)
+ * and then call {@link #cleanUp()}, which removes what the fixture created
+ * in reverse order. Tests that roll back their transaction need not call it.
+ *
+ * @author Techno HR System
+ * @version 1.0
+ */
+@TestComponent
+@Scope(ConfigurableBeanFactory.SCOPE_PROTOTYPE)
+@RequiredArgsConstructor
+public class TestDataFixture {
+
+    public static final String CONTRACT_TYPE = "TECHNO";
+    public static final LocalDate HIRE_DATE = LocalDate.of(2020, 1, 1);
+    public static final BigDecimal SITE_LATITUDE = new BigDecimal("24.71360000");
+    public static final BigDecimal SITE_LONGITUDE = new BigDecimal("46.67530000");
+
+    // National IDs are unique across every test in the JVM
+    private static final AtomicLong NATIONAL_ID_SEQUENCE = new AtomicLong();
+
+    private final ContractTypeRepository contractTypeRepository;
+    private final EmployeeRepository employeeRepository;
+    private final ProjectRepository projectRepository;
+    private final ItemCategoryRepository itemCategoryRepository;
+    private final ProjectStoreRepository projectStoreRepository;
+    private final StoreItemRepository storeItemRepository;
+    private final TransactionTypeRepository transactionTypeRepository;
+
+    private final List<String> contractTypeCodes = new ArrayList<>();
+    private final List<Long> transactionTypeCodes = new ArrayList<>();
+    private final List<Long> employeeNos = new ArrayList<>();
+    private final List<Long> projectCodes = new ArrayList<>();
+    private final List<Long> categoryCodes = new ArrayList<>();
+    private final List<Long> storeCodes = new ArrayList<>();
+    private final List<Long> itemCodes = new ArrayList<>();
+
+    /**
+     * Contract type used by fixture employees, created if missing
+     */
+    public String contractType() {
+        if (!contractTypeRepository.existsById(CONTRACT_TYPE)) {
+            contractTypeRepository.save(ContractType.builder()
+                    .contractTypeCode(CONTRACT_TYPE)
+                    .typeName("Techno Contract")
+                    .isActive('Y')
+                    .allowSelfService('Y')
+                    .calculateSalary('Y')
+                    .build());
+            contractTypeCodes.add(CONTRACT_TYPE);
+        }
+        return CONTRACT_TYPE;
+    }
+
+    /**
+     * Transaction type, created if missing (type codes are assigned, not generated)
+     *
+     * @param allowanceDeduction A for an allowance, D for a deduction
+     */
+    public Long transactionType(Long typeCode, String typeName, String allowanceDeduction) {
+        if (!transactionTypeRepository.existsById(typeCode)) {
+            transactionTypeRepository.save(TransactionType.builder()
+                    .typeCode(typeCode)
+                    .typeName(typeName)
+                    .allowanceDeduction(allowanceDeduction)
+                    .build());
+            transactionTypeCodes.add(typeCode);
+        }
+        return typeCode;
+    }
+
+    /**
+     * Active Saudi employees named "{namePrefix} {i}", hired on {@link #HIRE_DATE}
+     */
+    public List<Long> employees(int count, String namePrefix) {
+        return employees(count, namePrefix, employee -> {
+        });
+    }
+
+    /**
+     * Employees as above, adjusted by the caller before they are saved
+     */
+    public List<Long> employees(int count, String namePrefix, Consumer<Employee> customizer) {
+        String contractType = contractType();
+        List<Employee> employees = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Employee employee = Employee.builder()
+                    .employeeName(namePrefix + " " + i)
+                    .nationalId(nationalId())
+                    .nationality("Saudi")
+                    .employeeCategory("S")
+                    .hireDate(HIRE_DATE)
+                    .employmentStatus("ACTIVE")
+                    .empContractType(contractType)
+                    .monthlySalary(new BigDecimal("5000.0000"))
+                    .build();
+            customizer.accept(employee);
+            employees.add(employee);
+        }
+        List<Long> saved = employeeRepository.saveAll(employees).stream().map(Employee::getEmployeeNo).toList();
+        employeeNos.addAll(saved);
+        return saved;
+    }
+
+    /**
+     * Active projects with a GPS site; project i is i degrees east of the first site
+     */
+    public List<Project> projects(int count, String namePrefix) {
+        LocalDate today = LocalDate.now();
+        List<Project> projects = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            projects.add(Project.builder()
+                    .projectName(namePrefix + " " + i)
+                    .startDate(today.minusMonths(6))
+                    .endDate(today.plusYears(1))
+                    .totalProjectAmount(new BigDecimal("1000000.0000"))
+                    .projectLatitude(SITE_LATITUDE)
+                    .projectLongitude(SITE_LONGITUDE.add(BigDecimal.valueOf(i)))
+                    .gpsRadiusMeters(500)
+                    .requireGpsCheck("Y")
+                    .projectStatus("ACTIVE")
+                    .build());
+        }
+        List<Project> saved = projectRepository.saveAll(projects);
+        saved.forEach(project -> projectCodes.add(project.getProjectCode()));
+        return saved;
+    }
+
+    public Long itemCategory(String name) {
+        Long categoryCode = itemCategoryRepository.save(ItemCategory.builder().categoryName(name).build())
+                .getCategoryCode();
+        categoryCodes.add(categoryCode);
+        return categoryCode;
+    }
+
+    /**
+     * Stores named "{namePrefix} {i}" on one project
+     */
+    public List<Long> stores(Long projectCode, int count, String namePrefix) {
+        List<ProjectStore> stores = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            stores.add(ProjectStore.builder()
+                    .project(projectRepository.getReferenceById(projectCode))
+                    .storeName(namePrefix + " " + i)
+                    .build());
+        }
+        List<Long> saved = projectStoreRepository.saveAll(stores).stream().map(ProjectStore::getStoreCode).toList();
+        storeCodes.addAll(saved);
+        return saved;
+    }
+
+    /**
+     * Items named "{namePrefix} {i}" in one category, measured in each
+     */
+    public List<Long> items(Long categoryCode, int count, String namePrefix) {
+        List<StoreItem> items = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            items.add(StoreItem.builder()
+                    .category(itemCategoryRepository.getReferenceById(categoryCode))
+                    .itemName(namePrefix + " " + i)
+                    .unitOfMeasure("EA")
+                    .build());
+        }
+        List<Long> saved = storeItemRepository.saveAll(items).stream().map(StoreItem::getItemCode).toList();
+        itemCodes.addAll(saved);
+        return saved;
+    }
+
+    /**
+     * Delete every row this fixture created, dependents first
+     */
+    public void cleanUp() {
+        storeItemRepository.deleteAllByIdInBatch(itemCodes);
+        projectStoreRepository.deleteAllByIdInBatch(storeCodes);
+        itemCategoryRepository.deleteAllByIdInBatch(categoryCodes);
+        employeeRepository.deleteAllByIdInBatch(employeeNos);
+        projectRepository.deleteAllByIdInBatch(projectCodes);
+        transactionTypeRepository.deleteAllByIdInBatch(transactionTypeCodes);
+        contractTypeRepository.deleteAllByIdInBatch(contractTypeCodes);
+        itemCodes.clear();
+        storeCodes.clear();
+        categoryCodes.clear();
+        employeeNos.clear();
+        projectCodes.clear();
+        transactionTypeCodes.clear();
+        contractTypeCodes.clear();
+    }
+
+    private static String nationalId() {
+        return String.format("FX%010d", NATIONAL_ID_SEQUENCE.incrementAndGet());
+    }
+}
@@ -6,10 +6,13 @@ import com.techno.backend.entity.*;
 import com.techno.backend.repository.*;
 import com.techno.backend.service.ApprovalWorkflowService;
 import com.techno.backend.service.AttendanceAllowanceDeductionService;
+import com.techno.backend.service.AttendanceRollupService;
+import com.techno.backend.service.ProjectGeofenceService;
 import com.techno.backend.service.AttendanceCalculationService;
 import com.techno.backend.service.AttendanceDayClosureService;
 import com.techno.backend.service.AttendanceService;
 import com.techno.backend.service.PayrollCalculationService;
+import com.techno.backend.service.LaborAvailabilityService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -48,6 +51,12 @@ class AttendancePayrollIntegrationTest {
     @Mock
     private AttendanceRepository attendanceRepository;
 
+    @Mock
+    private AttendanceRollupService attendanceRollupService;
+
+    @Mock
+    private ProjectGeofenceService projectGeofenceService;
+
     @Mock
     private EmployeeRepository employeeRepository;
 
@@ -79,7 +88,7 @@ class AttendancePayrollIntegrationTest {
     private EmployeeLeaveRepository leaveRepository;
 
     @Mock
-    private ProjectLaborAssignmentRepository assignmentRepository;
+    private LaborAvailabilityService laborAvailabilityService;
 
     @Mock
     private HolidayRepository holidayRepository;
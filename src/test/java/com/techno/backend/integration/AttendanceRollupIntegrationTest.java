@@ -0,0 +1,125 @@
+package com.techno.backend.integration;
+
+import com.techno.backend.dto.AttendanceRollupRebuildResponse;
+import com.techno.backend.entity.AttendanceMonthlyRollup;
+import com.techno.backend.entity.AttendanceTransaction;
+import com.techno.backend.fixture.TestDataFixture;
+import com.techno.backend.repository.AttendanceMonthlyRollupRepository;
+import com.techno.backend.repository.AttendanceRepository;
+import com.techno.backend.service.AttendanceRollupService;
+import com.techno.backend.service.AttendanceService;
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Integration tests for monthly attendance rollups (H2).
+ *
+ * @author Techno HR System - Testing Suite
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Import(TestDataFixture.class)
+@Transactional
+@DisplayName("Attendance Rollup Integration Tests")
+class AttendanceRollupIntegrationTest {
+
+        private static final YearMonth MONTH = YearMonth.of(2025, 4);
+
+        @Autowired
+        private AttendanceRollupService attendanceRollupService;
+
+        @Autowired
+        private AttendanceService attendanceService;
+
+        @Autowired
+        private AttendanceRepository attendanceRepository;
+
+        @Autowired
+        private AttendanceMonthlyRollupRepository rollupRepository;
+
+        @Autowired
+        private TestDataFixture fixture;
+
+        @Test
+        @DisplayName("Refresh and delete keep the employee's month row in step with raw records")
+        void refresh_AndDelete_MaintainRollup() {
+                Long employeeNo = fixture.employees(1, "Rollup Worker").get(0);
+                save(employeeNo, MONTH.atDay(1), "N", "8.00", "1.50", "0.25");
+                save(employeeNo, MONTH.atDay(2), "N", "7.00", null, "0.50");
+                AttendanceTransaction absence = save(employeeNo, MONTH.atDay(3), "Y", null, null, null);
+                // Next month must not be counted
+                save(employeeNo, MONTH.plusMonths(1).atDay(1), "N", "8.00", "2.00", null);
+                attendanceRollupService.refresh(employeeNo, MONTH.atDay(3));
+
+                AttendanceMonthlyRollup rollup = attendanceRollupService.getRollup(employeeNo, MONTH);
+                assertThat(rollup.getWorkingHours()).isEqualByComparingTo("15.00");
+                assertThat(rollup.getOvertimeHours()).isEqualByComparingTo("1.50");
+                assertThat(rollup.getDelayHours()).isEqualByComparingTo("0.75");
+                assertThat(rollup.getPresentDays()).isEqualTo(2);
+                assertThat(rollup.getAbsentDays()).isEqualTo(1);
+                assertThat(rollup.getDelayDays()).isEqualTo(2);
+                assertThat(rollup.getRecordCount()).isEqualTo(3);
+
+                attendanceService.deleteAttendance(absence.getTransactionId());
+
+                AttendanceMonthlyRollup afterDelete = attendanceRollupService.getRollup(employeeNo, MONTH);
+                assertThat(afterDelete.getAbsentDays()).isZero();
+                assertThat(afterDelete.getRecordCount()).isEqualTo(2);
+                assertThat(attendanceRollupService.getOvertimeHoursByEmployee(MONTH)).containsEntry(employeeNo, 1.5);
+        }
+
+        @Test
+        @DisplayName("Rebuild creates missing rows, corrects drifted rows and leaves matching rows alone")
+        void rebuildMonth_VerifiesAgainstRawData() {
+                List<Long> employeeNos = fixture.employees(3, "Rollup Worker");
+                Long missing = employeeNos.get(0);
+                Long drifting = employeeNos.get(1);
+                Long matching = employeeNos.get(2);
+                save(missing, MONTH.atDay(5), "N", "8.00", "1.00", null);
+                save(drifting, MONTH.atDay(5), "N", "6.00", null, "1.00");
+                save(matching, MONTH.atDay(5), "N", "8.00", null, null);
+                attendanceRollupService.refresh(drifting, MONTH.atDay(5));
+                attendanceRollupService.refresh(matching, MONTH.atDay(5));
+
+                // Simulate drift on the second employee
+                AttendanceMonthlyRollup drifted = rollupRepository
+                                .findByEmployeeNoAndRollupMonth(drifting, MONTH.toString()).orElseThrow();
+                drifted.setDelayHours(new BigDecimal("9.00"));
+                rollupRepository.saveAndFlush(drifted);
+
+                AttendanceRollupRebuildResponse report = attendanceRollupService.rebuildMonth(MONTH);
+
+                assertThat(report.getMismatchedEmployees()).containsExactly(missing, drifting);
+                assertThat(report.getRowsCreated()).isEqualTo(1);
+                assertThat(attendanceRollupService.getRollup(missing, MONTH).getOvertimeHours())
+                                .isEqualByComparingTo("1.00");
+                assertThat(attendanceRollupService.getRollup(drifting, MONTH).getDelayHours())
+                                .isEqualByComparingTo("1.00");
+
+                AttendanceRollupRebuildResponse secondRun = attendanceRollupService.rebuildMonth(MONTH);
+                assertThat(secondRun.getMismatchedEmployees()).isEmpty();
+        }
+
+        private AttendanceTransaction save(Long employeeNo, LocalDate date, String absenceFlag,
+                        String workingHours, String overtime, String delay) {
+                return attendanceRepository.saveAndFlush(AttendanceTransaction.builder()
+                                .employeeNo(employeeNo)
+                                .attendanceDate(date)
+                                .absenceFlag(absenceFlag)
+                                .workingHours(workingHours != null ? new BigDecimal(workingHours) : null)
+                                .overtimeCalc(overtime != null ? new BigDecimal(overtime) : null)
+                                .delayedCalc(delay != null ? new BigDecimal(delay) : null)
+                                .build());
+        }
+}
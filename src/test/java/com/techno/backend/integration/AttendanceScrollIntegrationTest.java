@@ -0,0 +1,132 @@
+package com.techno.backend.integration;
+
+import com.techno.backend.dto.AttendanceResponse;
+import com.techno.backend.dto.CursorPageResponse;
+import com.techno.backend.entity.AttendanceTransaction;
+import com.techno.backend.exception.BadRequestException;
+import com.techno.backend.fixture.TestDataFixture;
+import com.techno.backend.repository.AttendanceRepository;
+import com.techno.backend.service.AttendanceService;
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Integration tests for cursor (keyset) pagination of attendance records (H2).
+ *
+ * @author Techno HR System - Testing Suite
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Import(TestDataFixture.class)
+@Transactional
+@DisplayName("Attendance Scroll Integration Tests")
+class AttendanceScrollIntegrationTest {
+
+        private static final LocalDate FIRST_DAY = LocalDate.of(2025, 3, 1);
+
+        @Autowired
+        private AttendanceService attendanceService;
+
+        @Autowired
+        private AttendanceRepository attendanceRepository;
+
+        @Autowired
+        private TestDataFixture fixture;
+
+        @Test
+        @DisplayName("Scrolling newest first visits every record once in (date, id) order")
+        void scrollAttendance_Descending_VisitsAllRecordsInOrder() {
+                // 2 employees x 12 days on the same project: ties on attendance_date use transaction_id
+                Long projectCode = fixture.projects(1, "Scroll Site").get(0).getProjectCode();
+                saveAttendance(fixture.employees(2, "Scroll Worker"), 12, projectCode);
+
+                List<AttendanceResponse> visited = new ArrayList<>();
+                String cursor = null;
+                int pages = 0;
+                Long total = null;
+                do {
+                        CursorPageResponse<AttendanceResponse> page = attendanceService.scrollAttendance(
+                                        FIRST_DAY, FIRST_DAY.plusDays(30), null, projectCode, cursor, 5, false);
+                        if (pages == 0) {
+                                total = page.getTotalElements();
+                        }
+                        visited.addAll(page.getContent());
+                        cursor = page.getNextCursor();
+                        assertThat(page.getHasNext()).isEqualTo(cursor != null);
+                        pages++;
+                } while (cursor != null);
+
+                assertThat(total).isEqualTo(24L);
+                assertThat(pages).isEqualTo(5);
+                assertThat(visited).hasSize(24);
+
+                Set<Long> ids = new HashSet<>();
+                for (int i = 0; i < visited.size(); i++) {
+                        assertThat(ids.add(visited.get(i).getTransactionId())).isTrue();
+                        if (i > 0) {
+                                AttendanceResponse previous = visited.get(i - 1);
+                                AttendanceResponse current = visited.get(i);
+                                assertThat(current.getAttendanceDate()).isBeforeOrEqualTo(previous.getAttendanceDate());
+                                if (current.getAttendanceDate().equals(previous.getAttendanceDate())) {
+                                        assertThat(current.getTransactionId()).isLessThan(previous.getTransactionId());
+                                }
+                        }
+                }
+        }
+
+        @Test
+        @DisplayName("Scrolling oldest first with employee filter")
+        void scrollAttendance_AscendingForEmployee_ReturnsOldestFirst() {
+                List<Long> employeeNos = fixture.employees(2, "Scroll Worker");
+                Long employeeNo = employeeNos.get(0);
+                saveAttendance(employeeNos, 6, null);
+
+                CursorPageResponse<AttendanceResponse> first = attendanceService.scrollAttendance(
+                                null, null, employeeNo, null, null, 4, true);
+                CursorPageResponse<AttendanceResponse> second = attendanceService.scrollAttendance(
+                                null, null, employeeNo, null, first.getNextCursor(), 4, true);
+
+                assertThat(first.getContent()).hasSize(4);
+                assertThat(first.getContent().get(0).getAttendanceDate()).isEqualTo(FIRST_DAY);
+                assertThat(second.getContent()).hasSize(2);
+                assertThat(second.getHasNext()).isFalse();
+                assertThat(second.getNextCursor()).isNull();
+                assertThat(second.getTotalElements()).isEqualTo(6L);
+                assertThat(second.getContent()).allMatch(r -> r.getEmployeeNo().equals(employeeNo));
+        }
+
+        @Test
+        @DisplayName("Invalid cursor should be rejected")
+        void scrollAttendance_InvalidCursor_ThrowsBadRequest() {
+                assertThatThrownBy(() -> attendanceService.scrollAttendance(
+                                null, null, 1L, null, "not-a-cursor", 10, false))
+                                .isInstanceOf(BadRequestException.class);
+        }
+
+        private void saveAttendance(List<Long> employeeNos, int days, Long projectCode) {
+                List<AttendanceTransaction> records = new ArrayList<>();
+                for (int day = 0; day < days; day++) {
+                        for (Long employeeNo : employeeNos) {
+                                records.add(AttendanceTransaction.builder()
+                                                .employeeNo(employeeNo)
+                                                .attendanceDate(FIRST_DAY.plusDays(day))
+                                                .projectCode(projectCode)
+                                                .build());
+                        }
+                }
+                attendanceRepository.saveAll(records);
+                attendanceRepository.flush();
+        }
+}
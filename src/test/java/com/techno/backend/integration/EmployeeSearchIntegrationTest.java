@@ -0,0 +1,72 @@
+package com.techno.backend.integration;
+
+import com.techno.backend.dto.EmployeeListResponse;
+import com.techno.backend.dto.EmployeeSearchRequest;
+import com.techno.backend.entity.Employee;
+import com.techno.backend.fixture.TestDataFixture;
+import com.techno.backend.repository.EmployeeRepository;
+import com.techno.backend.service.EmployeeService;
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Integration tests for employee search by name and national ID (H2).
+ *
+ * @author Techno HR System - Testing Suite
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Import(TestDataFixture.class)
+@Transactional
+@DisplayName("Employee Search Integration Tests")
+class EmployeeSearchIntegrationTest {
+
+        @Autowired
+        private EmployeeService employeeService;
+
+        @Autowired
+        private EmployeeRepository employeeRepository;
+
+        @Autowired
+        private JdbcTemplate jdbcTemplate;
+
+        @Autowired
+        private TestDataFixture fixture;
+
+        @Test
+        @DisplayName("Numeric search text matches the national ID only")
+        void searchEmployees_NumericText_MatchesNationalIdOnly() {
+                Long match = fixture.employees(1, "Search Worker",
+                                employee -> employee.setNationalId("1047210001")).get(0);
+                // The name contains the digits searched for, the national ID does not
+                fixture.employees(1, "Search Worker 104721");
+
+                EmployeeListResponse result = employeeService.searchEmployees(
+                                EmployeeSearchRequest.builder().searchText("104721").size(20).build());
+
+                assertThat(result.getTotalElements()).isEqualTo(1);
+                assertThat(result.getEmployees().get(0).getEmployeeNo()).isEqualTo(match);
+        }
+
+        @Test
+        @DisplayName("Search key is kept in step with the name on insert and update")
+        void searchKey_MaintainedOnWrite() {
+                Long employeeNo = fixture.employees(1, "Search Worker",
+                                employee -> employee.setEmployeeName("أَحْمَد سعيد")).get(0);
+                Employee employee = employeeRepository.findById(employeeNo).orElseThrow();
+                assertThat(employee.getSearchKey()).isEqualTo("احمد سعيد");
+
+                employee.setEmployeeName("فاطمة سعيد");
+                employeeRepository.saveAndFlush(employee);
+
+                assertThat(jdbcTemplate.queryForObject("SELECT search_key FROM employees_details WHERE employee_no = ?",
+                                String.class, employeeNo)).isEqualTo("فاطمه سعيد");
+        }
+}
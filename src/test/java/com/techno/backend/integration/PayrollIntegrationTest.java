@@ -2,8 +2,11 @@ package com.techno.backend.integration;
 
 import com.techno.backend.entity.*;
 import com.techno.backend.repository.*;
+import com.techno.backend.dto.payroll.IncrementalPayrollResponse;
 import com.techno.backend.service.ApprovalWorkflowService;
+import com.techno.backend.service.IncrementalPayrollService;
 import com.techno.backend.service.PayrollCalculationService;
+import com.techno.backend.service.PayrollDirtyService;
 import org.junit.jupiter.api.*;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
@@ -39,6 +42,12 @@ class PayrollIntegrationTest {
         @Autowired
         private PayrollCalculationService payrollCalculationService;
 
+        @Autowired
+        private PayrollDirtyService payrollDirtyService;
+
+        @Autowired
+        private IncrementalPayrollService incrementalPayrollService;
+
         @Autowired
         private EmployeeRepository employeeRepository;
 
@@ -478,4 +487,83 @@ class PayrollIntegrationTest {
                 assertThat(v1Updated).isNotNull();
                 assertThat(v1Updated.getIsLatest()).isEqualTo("N");
         }
+
+        // ==================== INTEGRATION TEST: INCREMENTAL RECALCULATION
+        // ====================
+
+        @Test
+        @Order(6)
+        @DisplayName("Incremental run recalculates only dirty payrolls and keeps paid installments")
+        @Transactional
+        void testIncrementalRecalculation_OnlyDirtyEmployees() {
+                // Arrange - two calculated salaries, one with a paid loan installment
+                testEmployee = createAndSaveEmployee(1006L, "Dirty Test Employee", new BigDecimal("5000.0000"));
+                Employee unchanged = createAndSaveEmployee(1007L, "Clean Test Employee", new BigDecimal("5000.0000"));
+                createAndSaveLoan(testEmployee.getEmployeeNo(), new BigDecimal("5000.0000"), 5);
+                payrollCalculationService.calculatePayrollForEmployee(testEmployee.getEmployeeNo(), TEST_MONTH);
+                payrollCalculationService.calculatePayrollForEmployee(unchanged.getEmployeeNo(), TEST_MONTH);
+
+                // Act - salary change for one employee; attendance for a month not calculated yet
+                testEmployee.setMonthlySalary(new BigDecimal("6000.0000"));
+                employeeRepository.save(testEmployee);
+                payrollDirtyService.markEmployees(List.of(testEmployee.getEmployeeNo()), LocalDate.of(2026, 2, 1));
+                payrollDirtyService.markAttendance(testEmployee.getEmployeeNo(), LocalDate.of(2026, 2, 10));
+                payrollDirtyService.markAttendance(unchanged.getEmployeeNo(), LocalDate.of(2026, 3, 10));
+
+                // Assert - one mark with both sources
+                List<PayrollDirtyMonth> dirty = payrollDirtyService.getDirtyMonths(null);
+                assertThat(dirty).hasSize(1);
+                assertThat(dirty.get(0).getEmployeeNo()).isEqualTo(testEmployee.getEmployeeNo());
+                assertThat(dirty.get(0).getSalaryMonth()).isEqualTo(TEST_MONTH);
+                assertThat(dirty.get(0).getChangeSources()).isEqualTo("EMPLOYEE,ATTENDANCE");
+
+                IncrementalPayrollResponse response = incrementalPayrollService.recalculateDirty(TEST_MONTH, null);
+
+                assertThat(response.getRecalculatedCount()).isEqualTo(1);
+                assertThat(response.getChangedCount()).isEqualTo(1);
+                assertThat(response.getFailedCount()).isZero();
+                IncrementalPayrollResponse.EmployeeResult result = response.getResults().get(0);
+                assertThat(result.getNewVersion()).isEqualTo(2);
+                assertThat(result.getOldNetSalary()).isEqualByComparingTo("4000.0000");
+                // Installment paid by version 1 is still deducted
+                assertThat(result.getNewTotalDeductions()).isEqualByComparingTo("1000.0000");
+                assertThat(result.getNewNetSalary()).isEqualByComparingTo("5000.0000");
+                assertThat(response.getTotalNetDifference()).isEqualByComparingTo("1000.0000");
+
+                assertThat(payrollDirtyService.getDirtyMonths(TEST_MONTH)).isEmpty();
+                assertThat(salaryHeaderRepository.findLatestByEmployeeAndMonth(unchanged.getEmployeeNo(), TEST_MONTH))
+                                .get().extracting(SalaryHeader::getSalaryVersion).isEqualTo(1);
+        }
+
+        @Test
+        @Order(7)
+        @DisplayName("Incremental run over all months skips approved payrolls until their month is given")
+        @Transactional
+        void testIncrementalRecalculation_ApprovedNeedsExplicitMonth() {
+                // Arrange - an approved salary whose inputs changed afterwards
+                testEmployee = createAndSaveEmployee(1008L, "Approved Dirty Employee", new BigDecimal("5000.0000"));
+                SalaryHeader approved = payrollCalculationService.calculatePayrollForEmployee(
+                                testEmployee.getEmployeeNo(), TEST_MONTH);
+                approved.setTransStatus("A");
+                salaryHeaderRepository.save(approved);
+                payrollDirtyService.markAttendance(testEmployee.getEmployeeNo(), LocalDate.of(2026, 2, 10));
+
+                // Act - run over all months
+                IncrementalPayrollResponse allMonths = incrementalPayrollService.recalculateDirty(null, null);
+
+                // Assert - skipped, still approved and still dirty
+                assertThat(allMonths.getRecalculatedCount()).isZero();
+                assertThat(allMonths.getSkippedCount()).isEqualTo(1);
+                assertThat(allMonths.getResults().get(0).getStatus()).isEqualTo(IncrementalPayrollService.STATUS_SKIPPED);
+                assertThat(salaryHeaderRepository.findLatestByEmployeeAndMonth(testEmployee.getEmployeeNo(), TEST_MONTH))
+                                .get().extracting(SalaryHeader::getSalaryVersion).isEqualTo(1);
+                assertThat(payrollDirtyService.getDirtyMonths(TEST_MONTH)).hasSize(1);
+
+                // Act - run for the month explicitly
+                IncrementalPayrollResponse month = incrementalPayrollService.recalculateDirty(TEST_MONTH, null);
+
+                assertThat(month.getRecalculatedCount()).isEqualTo(1);
+                assertThat(month.getResults().get(0).getNewVersion()).isEqualTo(2);
+                assertThat(payrollDirtyService.getDirtyMonths(TEST_MONTH)).isEmpty();
+        }
 }
@@ -0,0 +1,245 @@
+package com.techno.backend.performance;
+
+import com.techno.backend.controller.AttendanceController;
+import com.techno.backend.dto.ApiResponse;
+import com.techno.backend.dto.CheckInRequest;
+import com.techno.backend.dto.CheckInResponse;
+import com.techno.backend.entity.Project;
+import com.techno.backend.entity.TimeSchedule;
+import com.techno.backend.exception.BadRequestException;
+import com.techno.backend.fixture.TestDataFixture;
+import com.techno.backend.repository.AttendanceRepository;
+import com.techno.backend.repository.TimeScheduleRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.ResponseEntity;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Shift-start load test for employee check-in (H2).
+ *
+ * Starts 2,000 check-ins at once through the controller, plus a repeated
+ * request (double tap) with the same idempotency key for a share of the
+ * employees. Every employee must end up with exactly one attendance row,
+ * repeated requests must return the original check-in, and the p99 latency
+ * must stay within {@link #P99_BUDGET_MS}.
+ *
+ * @author Techno HR System
+ * @version 1.0
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Import(TestDataFixture.class)
+@DisplayName("Check-in Load Test")
+class CheckInLoadTest {
+
+    private static final Logger log = LoggerFactory.getLogger(CheckInLoadTest.class);
+
+    private static final int EMPLOYEES = 2_000;
+    private static final int DOUBLE_TAPS = 200;
+    private static final int THREADS = 64;
+
+    // Per-request p99 with 64 concurrent threads on H2 is about 2 s; the budget leaves
+    // headroom for slower machines but fails if check-in starts serializing on a lock
+    private static final long P99_BUDGET_MS = 5_000;
+
+    @Autowired
+    private AttendanceController attendanceController;
+
+    @Autowired
+    private AttendanceRepository attendanceRepository;
+
+    @Autowired
+    private TimeScheduleRepository timeScheduleRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TestDataFixture fixture;
+
+    private Project project;
+    private TimeSchedule schedule;
+    private List<Long> employeeNos;
+
+    @BeforeEach
+    void setUp() {
+        project = fixture.projects(1, "Load Test Site").get(0);
+
+        // Whole-day schedule so the test does not depend on the time it runs at
+        schedule = timeScheduleRepository.save(TimeSchedule.builder()
+                .scheduleName("Load Test Shift")
+                .projectCode(project.getProjectCode())
+                .scheduledStartTime(LocalTime.MIN)
+                .scheduledEndTime(LocalTime.of(23, 59))
+                .requiredHours(new BigDecimal("8.00"))
+                .gracePeriodMinutes(15)
+                .isActive("Y")
+                .build());
+
+        employeeNos = fixture.employees(EMPLOYEES, "Load Test Worker");
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+        String ids = employeeNos.stream().map(String::valueOf)
+                .reduce((a, b) -> a + "," + b).orElse("0");
+        jdbcTemplate.update("DELETE FROM emp_attendance_transactions WHERE employee_no IN (" + ids + ")");
+        jdbcTemplate.update("DELETE FROM attendance_monthly_rollups WHERE employee_no IN (" + ids + ")");
+        timeScheduleRepository.deleteById(schedule.getScheduleId());
+        fixture.cleanUp();
+    }
+
+    @Test
+    @DisplayName("2,000 concurrent check-ins with double taps: one row per employee, retries replayed")
+    void concurrentCheckIns_OneRowPerEmployee() throws Exception {
+        List<Callable<CheckInResponse>> calls = new ArrayList<>(EMPLOYEES + DOUBLE_TAPS);
+        for (Long employeeNo : employeeNos) {
+            calls.add(checkInCall(employeeNo, "tap-" + employeeNo));
+        }
+        for (Long employeeNo : employeeNos.subList(0, DOUBLE_TAPS)) {
+            calls.add(checkInCall(employeeNo, "tap-" + employeeNo));
+        }
+        Collections.shuffle(calls);
+
+        List<Long> latencies = Collections.synchronizedList(new ArrayList<>(calls.size()));
+        List<CheckInResponse> responses = runConcurrently(calls, latencies);
+
+        assertThat(responses).hasSize(EMPLOYEES + DOUBLE_TAPS).doesNotContainNull();
+        assertThat(responses.stream().map(CheckInResponse::getTransactionId).distinct().count())
+                .isEqualTo(EMPLOYEES);
+        for (Long employeeNo : employeeNos.subList(0, DOUBLE_TAPS)) {
+            assertThat(responses.stream().filter(r -> r.getEmployeeNo().equals(employeeNo))
+                    .map(CheckInResponse::getTransactionId).distinct().count()).isEqualTo(1);
+        }
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM emp_attendance_transactions WHERE project_code = ?",
+                Long.class, project.getProjectCode())).isEqualTo((long) EMPLOYEES);
+
+        long p99 = logPercentiles(latencies);
+        assertThat(p99).as("p99 check-in latency (ms)").isLessThanOrEqualTo(P99_BUDGET_MS);
+    }
+
+    @Test
+    @DisplayName("Concurrent check-ins with different request keys: second one is rejected")
+    void concurrentCheckIns_DifferentKeys_SecondRejected() throws Exception {
+        List<Long> sample = employeeNos.subList(0, 50);
+        List<Callable<CheckInResponse>> calls = new ArrayList<>();
+        for (Long employeeNo : sample) {
+            calls.add(checkInCall(employeeNo, "phone-" + employeeNo));
+            calls.add(checkInCall(employeeNo, "tablet-" + employeeNo));
+        }
+
+        List<Long> latencies = Collections.synchronizedList(new ArrayList<>());
+        List<CheckInResponse> responses = runConcurrently(calls, latencies);
+
+        assertThat(responses.stream().filter(r -> r != null).count()).isEqualTo(sample.size());
+        assertThat(responses.stream().filter(r -> r == null).count()).isEqualTo(sample.size());
+        for (Long employeeNo : sample) {
+            assertThat(attendanceRepository.hasCheckedInToday(employeeNo, LocalDate.now())).isTrue();
+        }
+    }
+
+    /**
+     * Check-in call as the given employee; returns null when the check-in was rejected.
+     */
+    private Callable<CheckInResponse> checkInCall(Long employeeNo, String idempotencyKey) {
+        CheckInRequest request = CheckInRequest.builder()
+                .projectCode(project.getProjectCode())
+                .latitude(project.getProjectLatitude())
+                .longitude(project.getProjectLongitude())
+                .build();
+        return () -> {
+            SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(
+                    employeeNo, null, List.of(new SimpleGrantedAuthority("ROLE_EMPLOYEE"))));
+            try {
+                ResponseEntity<ApiResponse<CheckInResponse>> response =
+                        attendanceController.checkIn(request, idempotencyKey);
+                return response.getBody().getData();
+            } catch (BadRequestException e) {
+                return null;
+            } finally {
+                SecurityContextHolder.clearContext();
+            }
+        };
+    }
+
+    /**
+     * Release all calls at once on a fixed pool and collect results and per-call latency.
+     */
+    private List<CheckInResponse> runConcurrently(List<Callable<CheckInResponse>> calls, List<Long> latencies)
+            throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<CheckInResponse>> futures = new ArrayList<>(calls.size());
+            for (Callable<CheckInResponse> call : calls) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    long begin = System.nanoTime();
+                    try {
+                        return call.call();
+                    } finally {
+                        latencies.add(System.nanoTime() - begin);
+                    }
+                }));
+            }
+
+            long begin = System.nanoTime();
+            start.countDown();
+            List<CheckInResponse> responses = new ArrayList<>(futures.size());
+            for (Future<CheckInResponse> future : futures) {
+                responses.add(future.get(2, TimeUnit.MINUTES));
+            }
+            log.info("{} check-in requests on {} threads completed in {} ms",
+                    calls.size(), THREADS, (System.nanoTime() - begin) / 1_000_000);
+            return responses;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Log latency percentiles and return the p99 in milliseconds.
+     */
+    private long logPercentiles(List<Long> latencies) {
+        List<Long> sorted = new ArrayList<>(latencies);
+        Collections.sort(sorted);
+        log.info("Check-in latency over {} requests: p50 {} ms, p95 {} ms, p99 {} ms, max {} ms",
+                sorted.size(), percentile(sorted, 50), percentile(sorted, 95), percentile(sorted, 99),
+                sorted.get(sorted.size() - 1) / 1_000_000);
+        return percentile(sorted, 99);
+    }
+
+    private static long percentile(List<Long> sorted, int percentile) {
+        int index = (int) Math.ceil(percentile / 100.0 * sorted.size()) - 1;
+        return sorted.get(Math.max(index, 0)) / 1_000_000;
+    }
+}
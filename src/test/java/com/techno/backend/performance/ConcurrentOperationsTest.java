@@ -5,10 +5,13 @@ import com.techno.backend.entity.*;
 import com.techno.backend.repository.*;
 import com.techno.backend.service.ApprovalWorkflowService;
 import com.techno.backend.service.AttendanceAllowanceDeductionService;
+import com.techno.backend.service.AttendanceRollupService;
+import com.techno.backend.service.ProjectGeofenceService;
 import com.techno.backend.service.AttendanceCalculationService;
 import com.techno.backend.service.AttendanceDayClosureService;
 import com.techno.backend.service.AttendanceService;
 import com.techno.backend.service.PayrollCalculationService;
+import com.techno.backend.service.LaborAvailabilityService;
 import org.junit.jupiter.api.BeforeEach;
 import org.springframework.context.ApplicationEventPublisher;
 import org.junit.jupiter.api.DisplayName;
@@ -50,6 +53,12 @@ class ConcurrentOperationsTest {
     @Mock
     private AttendanceRepository attendanceRepository;
 
+    @Mock
+    private AttendanceRollupService attendanceRollupService;
+
+    @Mock
+    private ProjectGeofenceService projectGeofenceService;
+
     @Mock
     private EmployeeRepository employeeRepository;
 
@@ -69,7 +78,7 @@ class ConcurrentOperationsTest {
     private EmployeeLeaveRepository leaveRepository;
 
     @Mock
-    private ProjectLaborAssignmentRepository assignmentRepository;
+    private LaborAvailabilityService laborAvailabilityService;
 
     @Mock
     private HolidayRepository holidayRepository;
@@ -0,0 +1,311 @@
+package com.techno.backend.performance;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.techno.backend.controller.AllowanceController;
+import com.techno.backend.controller.DeductionController;
+import com.techno.backend.controller.EmployeeController;
+import com.techno.backend.controller.FileController;
+import com.techno.backend.controller.LeaveController;
+import com.techno.backend.controller.PayrollController;
+import com.techno.backend.entity.Attachment;
+import com.techno.backend.entity.EmpMonthlyAllowance;
+import com.techno.backend.entity.EmpMonthlyDeduction;
+import com.techno.backend.entity.EmployeeLeave;
+import com.techno.backend.entity.SalaryDetail;
+import com.techno.backend.entity.SalaryHeader;
+import com.techno.backend.fixture.TestDataFixture;
+import com.techno.backend.repository.AttachmentRepository;
+import com.techno.backend.repository.EmpMonthlyAllowanceRepository;
+import com.techno.backend.repository.EmpMonthlyDeductionRepository;
+import com.techno.backend.repository.EmployeeLeaveRepository;
+import com.techno.backend.repository.SalaryDetailRepository;
+import com.techno.backend.repository.SalaryHeaderRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Query budgets for list endpoints that used to serialize JPA entities (H2).
+ *
+ * Each endpoint is called outside any transaction, as with open-in-view
+ * disabled, and its response is rendered to JSON. The number of JDBC
+ * statements for the call plus rendering must stay within the budget,
+ * independent of the number of rows returned. Lazy loading outside a
+ * transaction is switched off so a missing fetch fails instead of
+ * issuing hidden queries.
+ *
+ * @author Techno HR System
+ * @version 1.0
+ */
+@SpringBootTest(properties = {
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "spring.jpa.properties.hibernate.enable_lazy_load_no_trans=false"
+})
+@ActiveProfiles("test")
+@Import(TestDataFixture.class)
+@DisplayName("Endpoint Query Budget Tests")
+class EndpointQueryBudgetTest {
+
+    private static final String MONTH = "2031-06";
+    private static final String PREVIOUS_MONTH = "2031-05";
+    private static final int ROWS = 30;
+    private static final long ALLOWANCE_TYPE = 9901L;
+    private static final long DEDUCTION_TYPE = 9902L;
+
+    @Autowired
+    private PayrollController payrollController;
+
+    @Autowired
+    private FileController fileController;
+
+    @Autowired
+    private EmployeeController employeeController;
+
+    @Autowired
+    private AllowanceController allowanceController;
+
+    @Autowired
+    private DeductionController deductionController;
+
+    @Autowired
+    private LeaveController leaveController;
+
+    @Autowired
+    private SalaryHeaderRepository salaryHeaderRepository;
+
+    @Autowired
+    private SalaryDetailRepository salaryDetailRepository;
+
+    @Autowired
+    private AttachmentRepository attachmentRepository;
+
+    @Autowired
+    private EmpMonthlyAllowanceRepository allowanceRepository;
+
+    @Autowired
+    private EmpMonthlyDeductionRepository deductionRepository;
+
+    @Autowired
+    private EmployeeLeaveRepository leaveRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TestDataFixture fixture;
+
+    private QueryBudget queryBudget;
+    private List<Long> employeeNos;
+    private Long approverNo;
+    private Long firstSalaryId;
+    private Long firstAllowanceId;
+    private Long firstLeaveId;
+
+    @BeforeEach
+    void setUp() {
+        queryBudget = QueryBudget.of(entityManagerFactory);
+
+        fixture.transactionType(ALLOWANCE_TYPE, "Budget Test Allowance", "A");
+        fixture.transactionType(DEDUCTION_TYPE, "Budget Test Deduction", "D");
+        employeeNos = fixture.employees(ROWS, "Budget Test Worker");
+        approverNo = employeeNos.get(0);
+
+        List<SalaryHeader> salaries = new ArrayList<>();
+        for (int i = 0; i < ROWS; i++) {
+            salaries.add(salary(employeeNos.get(i), MONTH));
+            // Every third employee still has last month unapproved
+            if (i % 3 == 0) {
+                salaries.add(salary(employeeNos.get(i), PREVIOUS_MONTH));
+            }
+        }
+        salaries = salaryHeaderRepository.saveAll(salaries);
+        firstSalaryId = salaries.get(0).getSalaryId();
+        List<SalaryDetail> details = new ArrayList<>();
+        for (int line = 1; line <= 3; line++) {
+            details.add(SalaryDetail.builder()
+                    .salaryId(firstSalaryId)
+                    .lineNo(line)
+                    .transTypeCode(line == 3 ? DEDUCTION_TYPE : ALLOWANCE_TYPE)
+                    .transAmount(new BigDecimal("100.0000"))
+                    .transCategory(line == 3 ? "D" : "A")
+                    .build());
+        }
+        salaryDetailRepository.saveAll(details);
+
+        List<Attachment> attachments = new ArrayList<>();
+        for (int i = 0; i < ROWS; i++) {
+            attachments.add(Attachment.builder()
+                    .referenceType("EMPLOYEE")
+                    .referenceId(approverNo)
+                    .fileName("document-" + i + ".pdf")
+                    .filePath("/uploads/budget/document-" + i + ".pdf")
+                    .fileSize(1_024L)
+                    .fileType("application/pdf")
+                    .build());
+        }
+        attachmentRepository.saveAll(attachments);
+
+        List<EmpMonthlyAllowance> allowances = new ArrayList<>();
+        List<EmpMonthlyDeduction> deductions = new ArrayList<>();
+        List<EmployeeLeave> leaves = new ArrayList<>();
+        for (int i = 0; i < ROWS; i++) {
+            Long employeeNo = employeeNos.get(i % employeeNos.size());
+            LocalDate date = LocalDate.of(2031, 6, 1).plusDays(i);
+            allowances.add(EmpMonthlyAllowance.builder()
+                    .employeeNo(employeeNo)
+                    .typeCode(ALLOWANCE_TYPE)
+                    .transactionDate(date)
+                    .allowanceAmount(new BigDecimal("150.0000"))
+                    .transStatus("N")
+                    .nextApproval(approverNo)
+                    .isDeleted("N")
+                    .build());
+            deductions.add(EmpMonthlyDeduction.builder()
+                    .employeeNo(employeeNo)
+                    .typeCode(DEDUCTION_TYPE)
+                    .transactionDate(date)
+                    .deductionAmount(new BigDecimal("50.0000"))
+                    .transStatus("N")
+                    .nextApproval(approverNo)
+                    .isDeleted("N")
+                    .build());
+            leaves.add(EmployeeLeave.builder()
+                    .employeeNo(employeeNo)
+                    .leaveFromDate(date)
+                    .leaveToDate(date)
+                    .leaveDays(BigDecimal.ONE)
+                    .requestDate(date.minusDays(7))
+                    .nextApproval(approverNo)
+                    .build());
+        }
+        firstAllowanceId = allowanceRepository.saveAll(allowances).get(0).getTransactionNo();
+        deductionRepository.saveAll(deductions);
+        firstLeaveId = leaveRepository.saveAll(leaves).get(0).getLeaveId();
+
+        SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(
+                approverNo, null, List.of(new SimpleGrantedAuthority("ROLE_ADMIN"))));
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+        String ids = employeeNos.stream().map(String::valueOf).reduce((a, b) -> a + "," + b).orElse("0");
+        jdbcTemplate.update("DELETE FROM salary_detail WHERE salary_id IN "
+                + "(SELECT salary_id FROM salary_header WHERE salary_month IN (?, ?))", MONTH, PREVIOUS_MONTH);
+        jdbcTemplate.update("DELETE FROM salary_header WHERE salary_month IN (?, ?)", MONTH, PREVIOUS_MONTH);
+        jdbcTemplate.update("DELETE FROM attachments WHERE reference_id = ?", approverNo);
+        jdbcTemplate.update("DELETE FROM emp_monthly_allowances WHERE employee_no IN (" + ids + ")");
+        jdbcTemplate.update("DELETE FROM emp_monthly_deductions WHERE employee_no IN (" + ids + ")");
+        jdbcTemplate.update("DELETE FROM employee_leaves WHERE employee_no IN (" + ids + ")");
+        fixture.cleanUp();
+    }
+
+    @Test
+    @DisplayName("Payroll month list: salaries plus one blocked-employee query")
+    void salariesForMonth_WithinBudget() throws Exception {
+        String json = render(2, () -> payrollController.getSalariesForMonth(MONTH));
+
+        assertThat(json).doesNotContain("salaryDetails");
+        assertThat(count(json, "\"blockingReason\":\"")).isEqualTo(ROWS / 3);
+        assertThat(count(json, "\"salaryId\"")).isEqualTo(ROWS);
+    }
+
+    @Test
+    @DisplayName("Payroll pending list and history stay within budget")
+    void pendingAndHistory_WithinBudget() throws Exception {
+        assertThat(count(render(2, () -> payrollController.getPendingApprovals(MONTH)), "\"salaryId\""))
+                .isEqualTo(ROWS);
+        assertThat(count(render(1, () -> payrollController.getPayrollHistory(employeeNos.get(0))), "\"salaryId\""))
+                .isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Salary details: header and detail lines with transaction types")
+    void salaryDetails_WithinBudget() throws Exception {
+        String json = render(2, () -> payrollController.getSalaryDetails(employeeNos.get(0), MONTH));
+
+        assertThat(json).contains("Budget Test Allowance", "Budget Test Deduction");
+    }
+
+    @Test
+    @DisplayName("Attachment lists: one query, no storage path")
+    void attachmentLists_WithinBudget() throws Exception {
+        String byReference = render(1, () -> fileController.getAttachmentsByReference("EMPLOYEE", approverNo));
+        String documents = render(1, () -> employeeController.getEmployeeDocuments(approverNo));
+
+        assertThat(count(byReference, "\"attachmentId\"")).isEqualTo(ROWS);
+        assertThat(count(documents, "\"attachmentId\"")).isEqualTo(ROWS);
+        assertThat(byReference).doesNotContain("filePath");
+    }
+
+    @Test
+    @DisplayName("Allowance and deduction lists load employee and type names in the same query")
+    void allowanceAndDeductionLists_WithinBudget() throws Exception {
+        String pending = render(1, () -> allowanceController.getPendingAllowances(approverNo));
+        render(1, () -> allowanceController.getEmployeeAllowances(employeeNos.get(0)));
+        render(1, () -> allowanceController.getAllowanceById(firstAllowanceId));
+        String deductions = render(1, () -> deductionController.getPendingDeductions(approverNo));
+
+        assertThat(count(pending, "Budget Test Worker")).isEqualTo(ROWS);
+        assertThat(count(deductions, "Budget Test Deduction")).isEqualTo(ROWS);
+    }
+
+    @Test
+    @DisplayName("Leave lists and details include the employee without extra queries")
+    void leaveLists_WithinBudget() throws Exception {
+        String pending = render(1, () -> leaveController.getPendingApprovals());
+        String details = render(1, () -> leaveController.getLeaveDetails(firstLeaveId));
+
+        assertThat(count(pending, "Budget Test Worker")).isEqualTo(ROWS);
+        assertThat(details).contains("Budget Test Worker 0");
+    }
+
+    /**
+     * Call an endpoint, render its body to JSON and check the statements it took.
+     */
+    private String render(long budget, Callable<Object> call) throws Exception {
+        return queryBudget.assertWithin(budget, "endpoint response",
+                () -> objectMapper.writeValueAsString(call.call()));
+    }
+
+    private static SalaryHeader salary(Long employeeNo, String month) {
+        return SalaryHeader.builder()
+                .employeeNo(employeeNo)
+                .salaryMonth(month)
+                .grossSalary(new BigDecimal("5000.0000"))
+                .netSalary(new BigDecimal("5000.0000"))
+                .build();
+    }
+
+    private static int count(String json, String token) {
+        int count = 0;
+        for (int i = json.indexOf(token); i >= 0; i = json.indexOf(token, i + token.length())) {
+            count++;
+        }
+        return count;
+    }
+}
@@ -0,0 +1,229 @@
+package com.techno.backend.performance;
+
+import com.techno.backend.entity.Loan;
+import com.techno.backend.entity.LoanInstallment;
+import com.techno.backend.entity.SalaryDetail;
+import com.techno.backend.entity.SalaryHeader;
+import com.techno.backend.fixture.TestDataFixture;
+import com.techno.backend.repository.LoanInstallmentRepository;
+import com.techno.backend.repository.LoanRepository;
+import com.techno.backend.repository.SalaryDetailRepository;
+import com.techno.backend.repository.SalaryHeaderRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Insert throughput benchmark for write-heavy entities (H2).
+ *
+ * Inserts a payroll month of salary detail lines and a set of loan schedules
+ * twice: once with JDBC batching disabled (one INSERT round-trip per row, as
+ * with IDENTITY ids) and once with the configured batch size and pooled
+ * sequence ids. Prints rows/second for both runs and checks that the batched
+ * run prepares an order of magnitude fewer statements.
+ *
+ * @author Techno HR System
+ * @version 1.0
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles("test")
+@Import(TestDataFixture.class)
+@DisplayName("Insert Batching Benchmark")
+class InsertBatchingBenchmarkTest {
+
+    private static final Logger log = LoggerFactory.getLogger(InsertBatchingBenchmarkTest.class);
+
+    private static final int EMPLOYEES = 300;
+    private static final int SALARY_LINES = 12;
+    private static final int LOANS = 100;
+    private static final int INSTALLMENTS = 24;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private SalaryHeaderRepository salaryHeaderRepository;
+
+    @Autowired
+    private SalaryDetailRepository salaryDetailRepository;
+
+    @Autowired
+    private LoanRepository loanRepository;
+
+    @Autowired
+    private LoanInstallmentRepository loanInstallmentRepository;
+
+    @Autowired
+    private TestDataFixture fixture;
+
+    private Statistics statistics;
+    private TransactionTemplate transactionTemplate;
+    private List<Long> employeeNos;
+    private final List<Long> salaryIds = new ArrayList<>();
+    private final List<Long> loanIds = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        employeeNos = fixture.employees(EMPLOYEES, "Batching Worker");
+        for (int line = 1; line <= SALARY_LINES; line++) {
+            fixture.transactionType((long) line, "Batching Line " + line, line <= 8 ? "A" : "D");
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        salaryDetailRepository.deleteAllInBatch();
+        loanInstallmentRepository.deleteAllInBatch();
+        salaryHeaderRepository.deleteAllByIdInBatch(salaryIds);
+        loanRepository.deleteAllByIdInBatch(loanIds);
+        fixture.cleanUp();
+    }
+
+    @Test
+    @DisplayName("Payroll month salary details: batched inserts vs one INSERT per row")
+    void payrollMonth_BatchedInserts() {
+        InsertRun unbatched = insert("payroll month", salaryDetailRepository, salaryDetails("2031-01"), 1);
+        InsertRun batched = insert("payroll month", salaryDetailRepository, salaryDetails("2031-02"), null);
+
+        assertThat(unbatched.statements()).isGreaterThanOrEqualTo(unbatched.rows());
+        assertThat(batched.statements() * 10).isLessThan(batched.rows());
+        assertThat(salaryDetailRepository.count()).isEqualTo(2L * EMPLOYEES * SALARY_LINES);
+    }
+
+    @Test
+    @DisplayName("Loan schedules: batched inserts vs one INSERT per row")
+    void loanSchedules_BatchedInserts() {
+        InsertRun unbatched = insert("loan schedules", loanInstallmentRepository, loanInstallments(), 1);
+        InsertRun batched = insert("loan schedules", loanInstallmentRepository, loanInstallments(), null);
+
+        assertThat(unbatched.statements()).isGreaterThanOrEqualTo(unbatched.rows());
+        assertThat(batched.statements() * 10).isLessThan(batched.rows());
+        assertThat(loanInstallmentRepository.count()).isEqualTo(2L * LOANS * INSTALLMENTS);
+    }
+
+    /**
+     * Save all rows in one transaction and collect timing and prepared statement count.
+     *
+     * @param jdbcBatchSize session batch size, or null for the configured hibernate.jdbc.batch_size
+     */
+    private <T> InsertRun insert(String label, JpaRepository<T, Long> repository, List<T> rows,
+                                 Integer jdbcBatchSize) {
+        InsertRun run = transactionTemplate.execute(status -> {
+            entityManager.unwrap(Session.class).setJdbcBatchSize(jdbcBatchSize);
+            statistics.clear();
+            long start = System.nanoTime();
+            repository.saveAll(rows);
+            entityManager.flush();
+            long elapsedNanos = System.nanoTime() - start;
+            entityManager.clear();
+            return new InsertRun(rows.size(), statistics.getPrepareStatementCount(), elapsedNanos);
+        });
+
+        log.info("{} ({}): {} rows, {} statements, {} ms, {} rows/s",
+                label, jdbcBatchSize == null ? "batched" : "unbatched",
+                run.rows(), run.statements(), run.elapsedNanos() / 1_000_000, run.rowsPerSecond());
+        return run;
+    }
+
+    /**
+     * Detail lines for a new salary header of every employee in the month
+     */
+    private List<SalaryDetail> salaryDetails(String salaryMonth) {
+        List<SalaryHeader> headers = new ArrayList<>(EMPLOYEES);
+        for (Long employeeNo : employeeNos) {
+            headers.add(SalaryHeader.builder()
+                    .employeeNo(employeeNo)
+                    .salaryMonth(salaryMonth)
+                    .grossSalary(new BigDecimal("3000.0000"))
+                    .netSalary(new BigDecimal("3000.0000"))
+                    .build());
+        }
+        List<Long> monthSalaryIds = salaryHeaderRepository.saveAll(headers).stream()
+                .map(SalaryHeader::getSalaryId)
+                .toList();
+        salaryIds.addAll(monthSalaryIds);
+
+        List<SalaryDetail> details = new ArrayList<>(EMPLOYEES * SALARY_LINES);
+        for (Long salaryId : monthSalaryIds) {
+            for (int line = 1; line <= SALARY_LINES; line++) {
+                details.add(SalaryDetail.builder()
+                        .salaryId(salaryId)
+                        .lineNo(line)
+                        .transTypeCode((long) line)
+                        .transAmount(new BigDecimal("250.0000"))
+                        .transCategory(line <= 8 ? "A" : "D")
+                        .build());
+            }
+        }
+        return details;
+    }
+
+    /**
+     * Installment schedules for new loans, one loan per employee
+     */
+    private List<LoanInstallment> loanInstallments() {
+        LocalDate firstDueDate = LocalDate.of(2026, 1, 28);
+        List<Loan> loans = new ArrayList<>(LOANS);
+        for (int l = 0; l < LOANS; l++) {
+            loans.add(Loan.builder()
+                    .employeeNo(employeeNos.get(l))
+                    .loanAmount(new BigDecimal("12000.0000"))
+                    .noOfInstallments(INSTALLMENTS)
+                    .firstInstallmentDate(firstDueDate)
+                    .installmentAmount(new BigDecimal("500.0000"))
+                    .remainingBalance(new BigDecimal("12000.0000"))
+                    .build());
+        }
+        List<Long> newLoanIds = loanRepository.saveAll(loans).stream().map(Loan::getLoanId).toList();
+        loanIds.addAll(newLoanIds);
+
+        List<LoanInstallment> installments = new ArrayList<>(LOANS * INSTALLMENTS);
+        for (Long loanId : newLoanIds) {
+            for (int no = 1; no <= INSTALLMENTS; no++) {
+                installments.add(LoanInstallment.builder()
+                        .loanId(loanId)
+                        .installmentNo(no)
+                        .dueDate(firstDueDate.plusMonths(no - 1))
+                        .installmentAmount(new BigDecimal("500.0000"))
+                        .build());
+            }
+        }
+        return installments;
+    }
+
+    private record InsertRun(int rows, long statements, long elapsedNanos) {
+        long rowsPerSecond() {
+            return elapsedNanos == 0 ? rows : rows * 1_000_000_000L / elapsedNanos;
+        }
+    }
+}
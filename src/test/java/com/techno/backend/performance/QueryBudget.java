@@ -0,0 +1,63 @@
+package com.techno.backend.performance;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+
+import java.util.concurrent.Callable;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Statement counter for query budget tests (H2).
+ *
+ * Counts the JDBC statements Hibernate prepares while a call runs, so tests
+ * can assert budgets such as "checkIn takes at most N statements" or
+ * "a list takes the same number of statements for 10 or 1,000 rows".
+ * The Spring context must be started with
+ * {@code spring.jpa.properties.hibernate.generate_statistics=true}.
+ *
+ * Statistics are global to the session factory, so calls that run on other
+ * threads at the same time are counted as well.
+ *
+ * @author Techno HR System
+ * @version 1.0
+ */
+final class QueryBudget {
+
+    private final Statistics statistics;
+
+    private QueryBudget(Statistics statistics) {
+        this.statistics = statistics;
+    }
+
+    static QueryBudget of(EntityManagerFactory entityManagerFactory) {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        if (!statistics.isStatisticsEnabled()) {
+            throw new IllegalStateException(
+                    "Query budget tests need spring.jpa.properties.hibernate.generate_statistics=true");
+        }
+        return new QueryBudget(statistics);
+    }
+
+    /**
+     * Run the call and return the number of statements it prepared.
+     */
+    long count(Callable<?> call) throws Exception {
+        statistics.clear();
+        call.call();
+        return statistics.getPrepareStatementCount();
+    }
+
+    /**
+     * Run the call, check it prepared at most {@code budget} statements and return its result.
+     */
+    <T> T assertWithin(long budget, String description, Callable<T> call) throws Exception {
+        statistics.clear();
+        T result = call.call();
+        assertThat(statistics.getPrepareStatementCount())
+                .as("statements for %s", description)
+                .isLessThanOrEqualTo(budget);
+        return result;
+    }
+}
@@ -0,0 +1,200 @@
+package com.techno.backend.performance;
+
+import com.techno.backend.dto.EmployeeListResponse;
+import com.techno.backend.dto.EmployeeSearchRequest;
+import com.techno.backend.dto.warehouse.ItemSummary;
+import com.techno.backend.fixture.TestDataFixture;
+import com.techno.backend.service.EmployeeService;
+import com.techno.backend.service.StoreItemService;
+import com.techno.backend.util.ArabicTextNormalizer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Name search benchmark at 100,000 employees and 100,000 store items (H2).
+ *
+ * Names are spelled with and without hamza, Ta Marbuta and tashkeel. The
+ * search must find every spelling through the stored search key. The same
+ * count query is timed against the stored key and against the previous
+ * per-row REPLACE normalization, so the saving measured here is the
+ * normalization work alone. H2 has no trigram index and scans the table in
+ * both cases; on PostgreSQL the key is served by the pg_trgm indexes from
+ * migration V19, which this benchmark cannot show.
+ *
+ * @author Techno HR System
+ * @version 1.0
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Import(TestDataFixture.class)
+@DisplayName("Name Search Benchmark")
+class SearchBenchmarkTest {
+
+    private static final Logger log = LoggerFactory.getLogger(SearchBenchmarkTest.class);
+
+    private static final int ROWS = 100_000;
+    private static final int RUNS = 20;
+    private static final String NATIONAL_ID_PREFIX = "990410";
+
+    // Every 10th employee is an Ahmad, spelled four ways
+    private static final String[] AHMAD = {"أحمد", "احمد", "أَحْمَد", "إحمد"};
+    private static final String[] OTHER_NAMES = {"خالد", "سعيد", "فاطمة", "ليلى", "يوسف", "مريم", "عمر", "نورة", "سلمان"};
+    private static final String[] FAMILY_NAMES = {"العتيبي", "القحطاني", "الشمري", "الدوسري", "الغامدي"};
+
+    // Every 8th item is a water pump, spelled with and without Ta Marbuta
+    private static final String[] PUMP = {"مضخة مياه", "مضخه مياه"};
+    private static final String[] OTHER_ITEMS = {"أنبوب حديد", "كابل نحاس", "إسمنت أبيض", "بلاط سيراميك",
+            "دهان مائي", "مسامير فولاذ", "خشب صنوبر"};
+
+    // The normalization the employee search used to apply to the column on every row
+    private static final String LEGACY_NORMALIZED_NAME = legacyNormalization("employee_name");
+
+    @Autowired
+    private EmployeeService employeeService;
+
+    @Autowired
+    private StoreItemService storeItemService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TestDataFixture fixture;
+
+    private Long categoryCode;
+
+    @BeforeEach
+    void setUp() {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        String contractType = fixture.contractType();
+        categoryCode = fixture.itemCategory("Search Benchmark");
+
+        List<Object[]> employees = new ArrayList<>(ROWS);
+        for (int i = 0; i < ROWS; i++) {
+            String first = i % 10 == 0 ? AHMAD[(i / 10) % AHMAD.length] : OTHER_NAMES[i % OTHER_NAMES.length];
+            String name = first + " " + FAMILY_NAMES[(i / 7) % FAMILY_NAMES.length] + " " + i;
+            employees.add(new Object[]{name, ArabicTextNormalizer.normalize(name), nationalId(i),
+                    "Saudi", "S", Date.valueOf(LocalDate.of(2024, 1, 1)), "ACTIVE", contractType,
+                    new BigDecimal("5000.0000"), now});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO employees_details (employee_name, search_key, national_id, nationality, "
+                + "employee_category, hire_date, employment_status, emp_contract_type, monthly_salary, created_date) "
+                + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)", employees);
+
+        List<Object[]> items = new ArrayList<>(ROWS);
+        for (int i = 0; i < ROWS; i++) {
+            String base = i % 8 == 0 ? PUMP[(i / 8) % PUMP.length] : OTHER_ITEMS[i % OTHER_ITEMS.length];
+            String name = base + " " + i;
+            items.add(new Object[]{categoryCode, name, ArabicTextNormalizer.normalize(name), "EA", true, false, now});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO store_items (category_code, item_name, search_key, unit_of_measure, "
+                + "is_active, is_deleted, created_date) VALUES (?, ?, ?, ?, ?, ?, ?)", items);
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM employees_details WHERE national_id LIKE ?", NATIONAL_ID_PREFIX + "%");
+        jdbcTemplate.update("DELETE FROM store_items WHERE category_code = ?", categoryCode);
+        fixture.cleanUp();
+    }
+
+    @Test
+    @DisplayName("Employee search finds every spelling of a name and matches the old normalization")
+    void employeeSearch_AllSpellings() {
+        long expected = ROWS / 10;
+
+        for (String spelling : AHMAD) {
+            EmployeeSearchRequest request = EmployeeSearchRequest.builder().searchText(spelling).size(20).build();
+            assertThat(employeeService.searchEmployees(request).getTotalElements()).as(spelling).isEqualTo(expected);
+        }
+
+        EmployeeSearchRequest request = EmployeeSearchRequest.builder().searchText("أحمد الشمري").size(20).build();
+        long searchKeyMs = median(() -> jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM employees_details WHERE search_key LIKE ?",
+                Long.class, ArabicTextNormalizer.containsPattern("أحمد الشمري")));
+        long legacyMs = median(() -> jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM employees_details WHERE " + LEGACY_NORMALIZED_NAME + " LIKE ?",
+                Long.class, "%احمد الشمري%"));
+
+        EmployeeListResponse result = employeeService.searchEmployees(request);
+        assertThat(result.getTotalElements()).isEqualTo(jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM employees_details WHERE " + LEGACY_NORMALIZED_NAME + " LIKE ?",
+                Long.class, "%احمد الشمري%"));
+        assertThat(result.getEmployees()).isNotEmpty();
+        log.info("Employee search over {} rows: search key {} ms, per-row REPLACE {} ms (median of {})",
+                ROWS, searchKeyMs, legacyMs, RUNS);
+        assertThat(searchKeyMs).as("search key vs per-row REPLACE").isLessThanOrEqualTo(legacyMs);
+    }
+
+    @Test
+    @DisplayName("Item search ignores Ta Marbuta spelling")
+    void itemSearch_AllSpellings() {
+        long expected = ROWS / 8;
+
+        for (String spelling : PUMP) {
+            Page<ItemSummary> page = storeItemService.searchItems(spelling, PageRequest.of(0, 20));
+            assertThat(page.getTotalElements()).as(spelling).isEqualTo(expected);
+        }
+
+        // Same count query against the stored key and against the lower-cased name
+        long searchKeyMs = median(() -> jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM store_items WHERE search_key LIKE ?",
+                Long.class, ArabicTextNormalizer.containsPattern("مضخة")));
+        long lowerLikeMs = median(() -> jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM store_items WHERE LOWER(item_name) LIKE LOWER(?)", Long.class, "%مضخة%"));
+        log.info("Item search over {} rows: search key {} ms, LOWER() LIKE {} ms (median of {})",
+                ROWS, searchKeyMs, lowerLikeMs, RUNS);
+    }
+
+    private static String nationalId(int row) {
+        return NATIONAL_ID_PREFIX + String.format("%06d", row);
+    }
+
+    private static long median(Supplier<?> search) {
+        // Warm-up
+        search.get();
+        long[] timings = new long[RUNS];
+        for (int i = 0; i < RUNS; i++) {
+            long start = System.nanoTime();
+            search.get();
+            timings[i] = (System.nanoTime() - start) / 1_000_000;
+        }
+        Arrays.sort(timings);
+        return timings[RUNS / 2];
+    }
+
+    private static String legacyNormalization(String column) {
+        String expression = "LOWER(" + column + ")";
+        for (char diacritic = '\u064B'; diacritic <= '\u0652'; diacritic++) {
+            expression = "REPLACE(" + expression + ", '" + diacritic + "', '')";
+        }
+        String[][] folds = {{"أ", "ا"}, {"إ", "ا"}, {"آ", "ا"}, {"ة", "ه"}, {"ى", "ي"}};
+        for (String[] fold : folds) {
+            expression = "REPLACE(" + expression + ", '" + fold[0] + "', '" + fold[1] + "')";
+        }
+        return expression;
+    }
+}
@@ -0,0 +1,577 @@
+package com.techno.backend.performance;
+
+import com.techno.backend.constants.ApprovalRequestType;
+import com.techno.backend.controller.AttendanceController;
+import com.techno.backend.dto.AttendanceOverviewResponse;
+import com.techno.backend.dto.CheckInRequest;
+import com.techno.backend.dto.approval.ApprovalInboxResponse;
+import com.techno.backend.dto.labor.BulkLaborAssignmentDto;
+import com.techno.backend.dto.labor.BulkLaborAssignmentResponse;
+import com.techno.backend.dto.payroll.PayrollSimulationRequest;
+import com.techno.backend.dto.payroll.PayrollSimulationResponse;
+import com.techno.backend.dto.report.ReportRequest;
+import com.techno.backend.dto.salary.BulkSalaryRaiseRequest;
+import com.techno.backend.dto.salary.BulkSalaryRaiseResponse;
+import com.techno.backend.dto.transfer.TransferResponse;
+import com.techno.backend.entity.AttendanceTransaction;
+import com.techno.backend.entity.EmpPayrollTransaction;
+import com.techno.backend.entity.Employee;
+import com.techno.backend.entity.Project;
+import com.techno.backend.entity.ProjectDuePayment;
+import com.techno.backend.entity.ProjectLaborAssignment;
+import com.techno.backend.entity.ProjectLaborRequestDetail;
+import com.techno.backend.entity.ProjectLaborRequestDetailId;
+import com.techno.backend.entity.ProjectLaborRequestHeader;
+import com.techno.backend.entity.ProjectTransferRequest;
+import com.techno.backend.entity.TimeSchedule;
+import com.techno.backend.fixture.TestDataFixture;
+import com.techno.backend.repository.AttendanceRepository;
+import com.techno.backend.repository.EmpPayrollTransactionRepository;
+import com.techno.backend.repository.EmployeeRepository;
+import com.techno.backend.repository.ProjectDuePaymentRepository;
+import com.techno.backend.repository.ProjectLaborAssignmentRepository;
+import com.techno.backend.repository.ProjectLaborRequestDetailRepository;
+import com.techno.backend.repository.ProjectLaborRequestHeaderRepository;
+import com.techno.backend.repository.ProjectTransferRequestRepository;
+import com.techno.backend.repository.TimeScheduleRepository;
+import com.techno.backend.service.ApprovalInboxService;
+import com.techno.backend.service.DashboardService;
+import com.techno.backend.service.LaborAllocationService;
+import com.techno.backend.service.PayrollSimulationService;
+import com.techno.backend.service.ProjectReportService;
+import com.techno.backend.service.SalaryRaiseService;
+import com.techno.backend.service.TransferService;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.YearMonth;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Query budgets for service hot paths (H2).
+ *
+ * Seeds a few hundred employees with a month of attendance, a thousand
+ * transfer requests and labor assignments, and checks that list, report
+ * and dashboard calls take a fixed number of statements however many rows
+ * they return. The Mockito-based performance tests cannot see per-row
+ * lookups; these run against the real repositories.
+ *
+ * @author Techno HR System
+ * @version 1.0
+ */
+@SpringBootTest(properties = {
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "spring.jpa.properties.hibernate.enable_lazy_load_no_trans=false"
+})
+@ActiveProfiles("test")
+@Import(TestDataFixture.class)
+@DisplayName("Service Query Budget Tests")
+class ServiceQueryBudgetTest {
+
+    private static final Logger log = LoggerFactory.getLogger(ServiceQueryBudgetTest.class);
+
+    private static final int EMPLOYEES = 300;
+    private static final int PROJECTS = 20;
+    private static final int TRANSFERS = 1_000;
+    private static final int ASSIGNMENTS = 1_000;
+
+    @Autowired
+    private TransferService transferService;
+
+    @Autowired
+    private ProjectReportService projectReportService;
+
+    @Autowired
+    private DashboardService dashboardService;
+
+    @Autowired
+    private LaborAllocationService laborAllocationService;
+
+    @Autowired
+    private ApprovalInboxService approvalInboxService;
+
+    @Autowired
+    private SalaryRaiseService salaryRaiseService;
+
+    @Autowired
+    private PayrollSimulationService payrollSimulationService;
+
+    @Autowired
+    private AttendanceController attendanceController;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private ProjectTransferRequestRepository transferRepository;
+
+    @Autowired
+    private EmpPayrollTransactionRepository payrollTransactionRepository;
+
+    @Autowired
+    private ProjectLaborAssignmentRepository laborAssignmentRepository;
+
+    @Autowired
+    private ProjectLaborRequestHeaderRepository laborRequestHeaderRepository;
+
+    @Autowired
+    private ProjectLaborRequestDetailRepository laborRequestDetailRepository;
+
+    @Autowired
+    private ProjectDuePaymentRepository duePaymentRepository;
+
+    @Autowired
+    private AttendanceRepository attendanceRepository;
+
+    @Autowired
+    private TimeScheduleRepository timeScheduleRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TestDataFixture fixture;
+
+    private QueryBudget queryBudget;
+    private List<Long> employeeNos;
+    private List<Long> projectCodes;
+    private Long approverNo;
+    private List<Long> checkInEmployeeNos;
+    private TimeSchedule schedule;
+
+    @BeforeEach
+    void setUp() {
+        queryBudget = QueryBudget.of(entityManagerFactory);
+        LocalDate today = LocalDate.now();
+
+        employeeNos = new ArrayList<>(fixture.employees(EMPLOYEES + 2, "Budget Service Worker"));
+        // The last two employees have no attendance yet and are used for the check-in budget
+        checkInEmployeeNos = new ArrayList<>(employeeNos.subList(EMPLOYEES, EMPLOYEES + 2));
+        employeeNos = new ArrayList<>(employeeNos.subList(0, EMPLOYEES));
+        approverNo = employeeNos.get(0);
+        // Salary raises write the basic salary component
+        fixture.transactionType(1L, "Basic Salary", "A");
+
+        projectCodes = fixture.projects(PROJECTS, "Budget Site").stream().map(Project::getProjectCode).toList();
+
+        // Whole-day schedule so the check-in does not depend on the time it runs at
+        schedule = timeScheduleRepository.save(TimeSchedule.builder()
+                .scheduleName("Budget Shift")
+                .projectCode(projectCodes.get(0))
+                .scheduledStartTime(LocalTime.MIN)
+                .scheduledEndTime(LocalTime.of(23, 59))
+                .requiredHours(new BigDecimal("8.00"))
+                .gracePeriodMinutes(15)
+                .isActive("Y")
+                .build());
+
+        List<ProjectTransferRequest> transfers = new ArrayList<>(TRANSFERS);
+        String[] statuses = {"P", "A", "R"};
+        for (int i = 0; i < TRANSFERS; i++) {
+            String status = statuses[i % statuses.length];
+            transfers.add(ProjectTransferRequest.builder()
+                    .employeeNo(employeeNos.get(i % EMPLOYEES))
+                    .fromProjectCode(projectCodes.get(i % PROJECTS))
+                    .toProjectCode(projectCodes.get((i + 1) % PROJECTS))
+                    .transferDate(today.minusDays(i % 60))
+                    .transferReason("Budget test transfer " + i)
+                    .transStatus(status)
+                    .nextApproval("P".equals(status) ? approverNo : null)
+                    .nextAppLevel("P".equals(status) ? 1 : null)
+                    .approvedBy("A".equals(status) ? approverNo : null)
+                    .requestedBy(employeeNos.get((i + 7) % EMPLOYEES))
+                    .build());
+        }
+        transferRepository.saveAll(transfers);
+
+        List<ProjectLaborAssignment> assignments = new ArrayList<>(ASSIGNMENTS);
+        for (int i = 0; i < ASSIGNMENTS; i++) {
+            assignments.add(ProjectLaborAssignment.builder()
+                    .employeeNo(employeeNos.get(i % EMPLOYEES))
+                    .projectCode(projectCodes.get(i % PROJECTS))
+                    .startDate(today.minusDays(i % 30))
+                    .endDate(today.plusDays(30))
+                    .dailyRate(new BigDecimal("250.00"))
+                    .build());
+        }
+        laborAssignmentRepository.saveAll(assignments);
+
+        List<ProjectDuePayment> duePayments = new ArrayList<>();
+        for (Long projectCode : projectCodes) {
+            for (int sequence = 1; sequence <= 5; sequence++) {
+                boolean paid = sequence <= 2;
+                duePayments.add(ProjectDuePayment.builder()
+                        .projectCode(projectCode)
+                        .sequenceNo(sequence)
+                        .dueDate(today.plusMonths(sequence - 3))
+                        .dueAmount(new BigDecimal("100000.0000"))
+                        .paidAmount(paid ? new BigDecimal("100000.0000") : BigDecimal.ZERO)
+                        .paymentStatus(paid ? "PAID" : "PENDING")
+                        .build());
+            }
+        }
+        duePaymentRepository.saveAll(duePayments);
+
+        // A month of attendance: mostly present, some absences, some days without a record
+        YearMonth month = YearMonth.now();
+        List<AttendanceTransaction> attendance = new ArrayList<>();
+        for (int e = 0; e < EMPLOYEES; e++) {
+            for (int day = 1; day <= month.lengthOfMonth(); day++) {
+                if ((e + day) % 11 == 0) {
+                    continue;
+                }
+                attendance.add(AttendanceTransaction.builder()
+                        .employeeNo(employeeNos.get(e))
+                        .attendanceDate(month.atDay(day))
+                        .projectCode(projectCodes.get(e % PROJECTS))
+                        .absenceFlag((e + day) % 7 == 0 ? "Y" : "N")
+                        .build());
+            }
+        }
+        attendanceRepository.saveAll(attendance);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+        List<Long> allEmployees = new ArrayList<>(employeeNos);
+        allEmployees.addAll(checkInEmployeeNos);
+        String ids = allEmployees.stream().map(String::valueOf).reduce((a, b) -> a + "," + b).orElse("0");
+        String projects = projectCodes.stream().map(String::valueOf).reduce((a, b) -> a + "," + b).orElse("0");
+        jdbcTemplate.update("DELETE FROM emp_attendance_transactions WHERE employee_no IN (" + ids + ")");
+        jdbcTemplate.update("DELETE FROM attendance_monthly_rollups WHERE employee_no IN (" + ids + ")");
+        jdbcTemplate.update("DELETE FROM project_transfer_requests WHERE employee_no IN (" + ids + ")");
+        jdbcTemplate.update("DELETE FROM emp_payroll_transactions WHERE employee_no IN (" + ids + ")");
+        jdbcTemplate.update("DELETE FROM project_labor_assignments WHERE employee_no IN (" + ids + ")");
+        jdbcTemplate.update("DELETE FROM projects_due_payments WHERE project_code IN (" + projects + ")");
+        jdbcTemplate.update("DELETE FROM project_labor_request_detail WHERE request_no IN "
+                + "(SELECT request_no FROM project_labor_request_header WHERE project_code IN (" + projects + "))");
+        jdbcTemplate.update("DELETE FROM project_labor_request_header WHERE project_code IN (" + projects + ")");
+        timeScheduleRepository.deleteById(schedule.getScheduleId());
+        fixture.cleanUp();
+    }
+
+    @Test
+    @DisplayName("Transfer lists: same statements for 1,000 rows as for a few, names filled in")
+    void transferLists_WithinBudget() throws Exception {
+        List<TransferResponse> all = queryBudget.assertWithin(4, "getAllTransferRequests",
+                () -> transferService.getAllTransferRequests());
+        List<TransferResponse> pending = queryBudget.assertWithin(3, "getPendingRequestsByApprover",
+                () -> transferService.getPendingRequestsByApprover(approverNo));
+        List<TransferResponse> byProject = queryBudget.assertWithin(3, "getRequestsByProject",
+                () -> transferService.getRequestsByProject(projectCodes.get(0)));
+        queryBudget.assertWithin(3, "getAllPendingRequests", () -> transferService.getAllPendingRequests());
+        queryBudget.assertWithin(3, "getApprovedNotExecuted", () -> transferService.getApprovedNotExecuted());
+
+        assertThat(all.size()).isGreaterThanOrEqualTo(TRANSFERS);
+        assertThat(pending).hasSize((TRANSFERS + 2) / 3);
+        assertThat(byProject).hasSize(2 * TRANSFERS / PROJECTS);
+        assertThat(pending).allSatisfy(t -> {
+            assertThat(t.getEmployeeName()).startsWith("Budget Service Worker");
+            assertThat(t.getFromProjectName()).startsWith("Budget Site");
+            assertThat(t.getToProjectName()).startsWith("Budget Site");
+            assertThat(t.getRequestedByName()).startsWith("Budget Service Worker");
+            assertThat(t.getNextApprovalName()).isEqualTo("Budget Service Worker 0");
+        });
+    }
+
+    @Test
+    @DisplayName("Project reports: one query for the rows plus one per name or total lookup")
+    void projectReports_WithinBudget() throws Exception {
+        ReportRequest request = ReportRequest.builder()
+                .format("EXCEL")
+                .startDate(LocalDate.now().minusDays(90))
+                .endDate(LocalDate.now().plusDays(90))
+                .build();
+
+        byte[] financial = queryBudget.assertWithin(3, "generateProjectFinancialStatus",
+                () -> projectReportService.generateProjectFinancialStatus(request));
+        byte[] labor = queryBudget.assertWithin(3, "generateLaborAllocation",
+                () -> projectReportService.generateLaborAllocation(request));
+        byte[] history = queryBudget.assertWithin(3, "generateTransferHistory",
+                () -> projectReportService.generateTransferHistory(request));
+
+        assertThat(financial).isNotEmpty();
+        assertThat(labor).isNotEmpty();
+        assertThat(history).isNotEmpty();
+    }
+
+    @Test
+    @DisplayName("Attendance overview: fixed statements, same figures as per-employee counting")
+    void attendanceOverview_WithinBudget_MatchesPerEmployeeCounts() throws Exception {
+        AttendanceOverviewResponse overview = queryBudget.assertWithin(2, "getAttendanceOverview",
+                () -> dashboardService.getAttendanceOverview());
+
+        long perEmployeeStatements = queryBudget.count(() -> {
+            AttendanceOverviewResponse expected = overviewByEmployee();
+            assertThat(overview.getPresent()).isEqualTo(expected.getPresent());
+            assertThat(overview.getAbsent()).isEqualTo(expected.getAbsent());
+            assertThat(overview.getOnLeave()).isEqualTo(expected.getOnLeave());
+            return expected;
+        });
+        log.info("Attendance overview: per-employee counting took {} statements", perEmployeeStatements);
+    }
+
+    @Test
+    @DisplayName("Approvals inbox: one page and its counts from the pending-requests query, names in one lookup")
+    void approvalInbox_WithinBudget() throws Exception {
+        // The inbox itself is plain JDBC; the budget covers the entity-side name lookup
+        ApprovalInboxResponse first = queryBudget.assertWithin(1, "getInbox",
+                () -> approvalInboxService.getInbox(approverNo, null, 0, 50));
+        ApprovalInboxResponse last = approvalInboxService.getInbox(
+                approverNo, List.of(ApprovalRequestType.TRANSFER), (TRANSFERS + 2) / 3 / 50, 50);
+
+        assertThat(first.getCountsByType()).containsEntry(ApprovalRequestType.TRANSFER, (long) (TRANSFERS + 2) / 3);
+        assertThat(first.getTotalItems()).isEqualTo(approvalInboxService.countAllPending(approverNo));
+        assertThat(first.getItems()).hasSize(50);
+        assertThat(first.getItems()).allSatisfy(item -> {
+            assertThat(item.getRequestType()).isEqualTo(ApprovalRequestType.TRANSFER);
+            assertThat(item.getEmployeeName()).startsWith("Budget Service Worker");
+        });
+        assertThat(last.getItems()).hasSize((TRANSFERS + 2) / 3 % 50);
+    }
+
+    @Test
+    @DisplayName("Dashboard statistics stay within budget")
+    void dashboardStats_WithinBudget() throws Exception {
+        queryBudget.assertWithin(11, "getDashboardStats", () -> dashboardService.getDashboardStats(approverNo));
+    }
+
+    @Test
+    @DisplayName("Check-in stays within budget once schedules and settings are cached")
+    void checkIn_WithinBudget() throws Exception {
+        CheckInRequest request = CheckInRequest.builder()
+                .projectCode(projectCodes.get(0))
+                .latitude(TestDataFixture.SITE_LATITUDE)
+                .longitude(TestDataFixture.SITE_LONGITUDE)
+                .build();
+
+        // First check-in warms the schedule, holiday and configuration caches
+        checkIn(checkInEmployeeNos.get(0), request);
+        // 9th statement: calculated-payroll lookup for dirty tracking (no row written for an open month)
+        // 10th-11th: the employee's first write of the month creates and re-locks the rollup row
+        queryBudget.assertWithin(11, "checkIn", () -> checkIn(checkInEmployeeNos.get(1), request));
+
+        for (Long employeeNo : checkInEmployeeNos) {
+            assertThat(attendanceRepository.hasCheckedInToday(employeeNo, LocalDate.now())).isTrue();
+        }
+    }
+
+    @Test
+    @DisplayName("Bulk labor assignment: fixed statements for 250 workers, counters and rejections right")
+    void bulkLaborAssignment_WithinBudget() throws Exception {
+        LocalDate start = LocalDate.now().plusDays(60);
+        ProjectLaborRequestHeader header = laborRequestHeaderRepository.save(ProjectLaborRequestHeader.builder()
+                .projectCode(projectCodes.get(0))
+                .requestDate(LocalDate.now())
+                .startDate(start)
+                .endDate(start.plusDays(30))
+                .requestStatus("OPEN")
+                .requestedBy(approverNo)
+                .build());
+        Long requestNo = header.getRequestNo();
+        laborRequestDetailRepository.saveAll(List.of(
+                detail(requestNo, 1, 150),
+                detail(requestNo, 2, 100)));
+
+        List<BulkLaborAssignmentDto.Worker> workers = new ArrayList<>();
+        for (int i = 0; i < 250; i++) {
+            workers.add(worker(employeeNos.get(i), i < 150 ? 1 : 2, null));
+        }
+        workers.add(worker(employeeNos.get(250), 2, null));          // line 2 is full
+        workers.add(worker(employeeNos.get(251), 1, LocalDate.now())); // overlaps seeded assignments
+        workers.add(worker(employeeNos.get(0), 1, null));            // already in this batch
+        workers.add(worker(-1L, 1, null));                           // unknown employee
+        BulkLaborAssignmentDto request = BulkLaborAssignmentDto.builder().workers(workers).build();
+
+        BulkLaborAssignmentResponse response = queryBudget.assertWithin(20, "assignLaborBulk",
+                () -> laborAllocationService.assignLaborBulk(requestNo, request, approverNo));
+
+        assertThat(response.getAssignedCount()).isEqualTo(250);
+        assertThat(response.getRejectedCount()).isEqualTo(4);
+        assertThat(response.getResults().subList(0, 250)).allSatisfy(r -> {
+            assertThat(r.getAssigned()).isTrue();
+            assertThat(r.getAssignmentNo()).isNotNull();
+        });
+        List<BulkLaborAssignmentResponse.WorkerResult> rejected = response.getResults().subList(250, 254);
+        assertThat(rejected).allSatisfy(r -> assertThat(r.getAssigned()).isFalse());
+        assertThat(rejected.get(1).getConflicts()).isNotEmpty()
+                .allSatisfy(c -> assertThat(c.getProjectName()).startsWith("Budget Site"));
+
+        assertThat(laborRequestDetailRepository.findByRequestNo(requestNo))
+                .extracting(ProjectLaborRequestDetail::getAssignedCount)
+                .containsExactly(150, 100);
+        assertThat(laborAssignmentRepository.findByRequestNo(requestNo)).hasSize(250);
+    }
+
+    @Test
+    @DisplayName("Bulk salary raise: preview saves nothing, 300 raises in fixed statements with batched writes")
+    void bulkSalaryRaise_WithinBudget() throws Exception {
+        payrollTransactionRepository.saveAll(employeeNos.stream()
+                .map(employeeNo -> EmpPayrollTransaction.builder()
+                        .employeeNo(employeeNo)
+                        .transTypeCode(1L)
+                        .transAmount(new BigDecimal("5000.0000"))
+                        .transPercentage(BigDecimal.ONE)
+                        .effectiveDate(LocalDate.now().minusYears(1))
+                        .isActive("Y")
+                        .build())
+                .toList());
+        BulkSalaryRaiseRequest request = BulkSalaryRaiseRequest.builder()
+                .employeeNos(employeeNos)
+                .ruleType(BulkSalaryRaiseRequest.RULE_PERCENT)
+                .value(BigDecimal.TEN)
+                .reason("Annual raise")
+                .build();
+
+        BulkSalaryRaiseResponse preview = queryBudget.assertWithin(4, "previewBulkRaise",
+                () -> salaryRaiseService.previewBulkRaise(request));
+        assertThat(preview.getEmployeeCount()).isEqualTo(EMPLOYEES);
+        assertThat(preview.getTotalIncrease()).isEqualByComparingTo(new BigDecimal(500 * EMPLOYEES));
+        assertThat(employeeRepository.findById(approverNo).orElseThrow().getMonthlySalary())
+                .isEqualByComparingTo("5000");
+
+        BulkSalaryRaiseResponse applied = queryBudget.assertWithin(20, "processBulkRaise",
+                () -> salaryRaiseService.processBulkRaise(request));
+
+        assertThat(applied.getSkipped()).isEmpty();
+        assertThat(applied.getEmployees()).usingRecursiveFieldByFieldElementComparator()
+                .containsExactlyElementsOf(preview.getEmployees());
+        assertThat(employeeRepository.findAllById(employeeNos))
+                .allSatisfy(e -> assertThat(e.getMonthlySalary()).isEqualByComparingTo("5500"));
+        BulkSalaryRaiseResponse.EmployeeChange first = applied.getEmployees().get(0);
+        assertThat(first.getComponents()).filteredOn(c -> c.getTransTypeCode() == 1L)
+                .singleElement()
+                .satisfies(c -> assertThat(c.getOldAmount()).isEqualByComparingTo("5000"));
+        assertThat(payrollTransactionRepository.findActiveByEmployeeNo(first.getEmployeeNo()).stream()
+                .map(EmpPayrollTransaction::getTransAmount)
+                .reduce(BigDecimal.ZERO, BigDecimal::add))
+                .isEqualByComparingTo("5500");
+    }
+
+    @Test
+    @DisplayName("Payroll simulation over the workforce stays within budget and writes nothing")
+    void payrollSimulation_WithinBudget() throws Exception {
+        Integer headersBefore = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM salary_header", Integer.class);
+        PayrollSimulationRequest request = PayrollSimulationRequest.builder()
+                .salaryMonth(YearMonth.now().toString())
+                .salaryChanges(employeeNos.subList(0, 10).stream()
+                        .map(employeeNo -> PayrollSimulationRequest.SalaryChange.builder()
+                                .employeeNo(employeeNo)
+                                .raisePercent(BigDecimal.TEN)
+                                .build())
+                        .toList())
+                .extraDeductions(List.of(PayrollSimulationRequest.Adjustment.builder()
+                        .employeeNo(approverNo)
+                        .typeCode(20L)
+                        .amount(new BigDecimal("100"))
+                        .build()))
+                .build();
+
+        PayrollSimulationResponse response = queryBudget.assertWithin(8, "simulatePayroll",
+                () -> payrollSimulationService.simulate(request));
+
+        assertThat(response.getEmployeeCount()).isGreaterThanOrEqualTo(EMPLOYEES);
+        assertThat(response.getNetDifference()).isEqualByComparingTo("4900");
+        assertThat(response.getSimulated().getGrossSalary().subtract(response.getBaseline().getGrossSalary()))
+                .isEqualByComparingTo("5000");
+        assertThat(response.getByComponent())
+                .filteredOn(c -> c.getTypeCode() == 20L && "D".equals(c.getCategory()))
+                .singleElement()
+                .satisfies(c -> assertThat(c.getDifference()).isEqualByComparingTo("100"));
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM salary_header", Integer.class))
+                .isEqualTo(headersBefore);
+    }
+
+    private static ProjectLaborRequestDetail detail(Long requestNo, int sequenceNo, int quantity) {
+        return ProjectLaborRequestDetail.builder()
+                .id(new ProjectLaborRequestDetailId(requestNo, sequenceNo))
+                .jobTitleAr("عامل " + sequenceNo)
+                .jobTitleEn("Worker " + sequenceNo)
+                .quantity(quantity)
+                .dailyRate(new BigDecimal("200.00"))
+                .assignedCount(0)
+                .build();
+    }
+
+    private static BulkLaborAssignmentDto.Worker worker(Long employeeNo, int sequenceNo, LocalDate startDate) {
+        return BulkLaborAssignmentDto.Worker.builder()
+                .employeeNo(employeeNo)
+                .sequenceNo(sequenceNo)
+                .startDate(startDate)
+                .build();
+    }
+
+    private Object checkIn(Long employeeNo, CheckInRequest request) {
+        SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(
+                employeeNo, null, List.of(new SimpleGrantedAuthority("ROLE_EMPLOYEE"))));
+        try {
+            request.setIdempotencyKey(null);
+            return attendanceController.checkIn(request, "budget-" + employeeNo);
+        } finally {
+            SecurityContextHolder.clearContext();
+        }
+    }
+
+    /**
+     * The attendance overview counted one employee and week at a time, as the dashboard used to.
+     */
+    private AttendanceOverviewResponse overviewByEmployee() {
+        YearMonth month = YearMonth.now();
+        LocalDate monthStart = month.atDay(1);
+        LocalDate monthEnd = month.atEndOfMonth();
+        int daysPerWeek = (int) Math.ceil(monthEnd.getDayOfMonth() / 4.0);
+        List<Employee> activeEmployees = employeeRepository.findAllActiveEmployees();
+
+        List<Long> present = new ArrayList<>();
+        List<Long> absent = new ArrayList<>();
+        List<Long> onLeave = new ArrayList<>();
+        for (int week = 1; week <= 4; week++) {
+            LocalDate weekStart = monthStart.plusDays((week - 1) * daysPerWeek);
+            LocalDate weekEnd = week == 4 ? monthEnd : weekStart.plusDays(daysPerWeek - 1);
+            if (weekEnd.isAfter(monthEnd)) {
+                weekEnd = monthEnd;
+            }
+            long expectedDays = ChronoUnit.DAYS.between(weekStart, weekEnd) + 1;
+            long presentCount = 0;
+            long absentCount = 0;
+            long onLeaveCount = 0;
+            for (Employee employee : activeEmployees) {
+                long attendanceDays = attendanceRepository.countAttendanceDays(
+                        employee.getEmployeeNo(), weekStart, weekEnd);
+                long absenceDays = attendanceRepository.countAbsenceDays(
+                        employee.getEmployeeNo(), weekStart, weekEnd);
+                presentCount += attendanceDays;
+                absentCount += absenceDays;
+                onLeaveCount += Math.max(0, expectedDays - attendanceDays - absenceDays);
+            }
+            present.add(presentCount);
+            absent.add(absentCount);
+            onLeave.add(onLeaveCount);
+        }
+        return AttendanceOverviewResponse.builder().present(present).absent(absent).onLeave(onLeave).build();
+    }
+}
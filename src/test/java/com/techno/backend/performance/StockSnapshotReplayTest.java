@@ -0,0 +1,213 @@
+package com.techno.backend.performance;
+
+import com.techno.backend.dto.warehouse.StockAsOfResponse;
+import com.techno.backend.dto.warehouse.StockSnapshotResponse;
+import com.techno.backend.fixture.TestDataFixture;
+import com.techno.backend.service.StockSnapshotService;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Point-in-time stock balances from snapshots and ledger replay (H2).
+ *
+ * Seeds stores, items and a month of ledger movements with matching current
+ * balances, takes one snapshot, and checks that stock as of days before,
+ * on and after the snapshot (and close to today) equals a full replay of the
+ * ledger, within a fixed number of statements.
+ *
+ * @author Techno HR System
+ * @version 1.0
+ */
+@SpringBootTest(properties = {
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "spring.jpa.properties.hibernate.enable_lazy_load_no_trans=false"
+})
+@ActiveProfiles("test")
+@Import(TestDataFixture.class)
+@DisplayName("Stock Snapshot Replay Tests")
+class StockSnapshotReplayTest {
+
+    private static final int STORES = 20;
+    private static final int ITEMS = 40;
+    private static final int DAYS = 30;
+    private static final int MOVEMENTS_PER_STORE_DAY = 10;
+
+    @Autowired
+    private StockSnapshotService stockSnapshotService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private TestDataFixture fixture;
+
+    private QueryBudget queryBudget;
+    private List<Long> storeCodes;
+    private String storeList;
+
+    /**
+     * Generated movements: store, item, time, quantity, value
+     */
+    private record Movement(long storeCode, long itemCode, LocalDateTime date, BigDecimal quantity, BigDecimal value) {
+    }
+
+    private final List<Movement> movements = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        queryBudget = QueryBudget.of(entityManagerFactory);
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+        Long projectCode = fixture.projects(1, "Snapshot Site").get(0).getProjectCode();
+        storeCodes = fixture.stores(projectCode, STORES, "مخزن");
+        storeList = storeCodes.stream().map(String::valueOf).collect(Collectors.joining(","));
+        List<Long> itemCodes = fixture.items(fixture.itemCategory("Snapshot Test"), ITEMS, "صنف");
+
+        // A month of movements up to today; every (store, item) pair starts with a receipt
+        Random random = new Random(50);
+        LocalDate firstDay = LocalDate.now().minusDays(DAYS);
+        Map<String, BigDecimal[]> balances = new HashMap<>();
+        for (int d = 0; d <= DAYS; d++) {
+            LocalDate day = firstDay.plusDays(d);
+            for (long store : storeCodes) {
+                for (int m = 0; m < MOVEMENTS_PER_STORE_DAY; m++) {
+                    long item = itemCodes.get(random.nextInt(ITEMS));
+                    BigDecimal quantity = BigDecimal.valueOf(random.nextInt(40) - 15);
+                    BigDecimal value = quantity.multiply(BigDecimal.valueOf(5 + random.nextInt(10)));
+                    LocalDateTime date = day.atStartOfDay().plusMinutes(random.nextInt(24 * 60));
+                    if (date.isAfter(LocalDateTime.now())) {
+                        date = LocalDateTime.now().minusSeconds(1);
+                    }
+                    movements.add(new Movement(store, item, date, quantity, value));
+                    BigDecimal[] balance = balances.computeIfAbsent(store + "|" + item,
+                            k -> new BigDecimal[]{BigDecimal.ZERO, BigDecimal.ZERO});
+                    balance[0] = balance[0].add(quantity);
+                    balance[1] = balance[1].add(value);
+                }
+            }
+        }
+
+        List<Object[]> ledger = new ArrayList<>(movements.size());
+        for (Movement movement : movements) {
+            ledger.add(new Object[]{movement.storeCode(), movement.itemCode(),
+                    movement.quantity().signum() >= 0 ? "RECEIPT" : "ISSUE", Timestamp.valueOf(movement.date()),
+                    movement.quantity(), BigDecimal.ZERO, movement.value(), false, now});
+        }
+        // Ids come from the entity's sequence, so they never meet ids Hibernate hands out
+        jdbcTemplate.batchUpdate("INSERT INTO store_transactions (transaction_id, store_code, item_code, "
+                + "transaction_type, transaction_date, quantity, balance_after, total_cost, is_deleted, created_date) "
+                + "VALUES (NEXT VALUE FOR store_transaction_seq, ?, ?, ?, ?, ?, ?, ?, ?, ?)", ledger);
+
+        List<Object[]> balanceRows = balances.entrySet().stream()
+                .map(e -> {
+                    String[] key = e.getKey().split("\\|");
+                    return new Object[]{Long.parseLong(key[0]), Long.parseLong(key[1]), e.getValue()[0],
+                            BigDecimal.ZERO, e.getValue()[1], false, now};
+                })
+                .collect(Collectors.toList());
+        jdbcTemplate.batchUpdate("INSERT INTO store_balances (store_code, item_code, quantity_on_hand, "
+                + "quantity_reserved, total_value, is_deleted, created_date) VALUES (?, ?, ?, ?, ?, ?, ?)", balanceRows);
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM store_balance_snapshots WHERE store_code IN (" + storeList + ")");
+        jdbcTemplate.update("DELETE FROM store_transactions WHERE store_code IN (" + storeList + ")");
+        jdbcTemplate.update("DELETE FROM store_balances WHERE store_code IN (" + storeList + ")");
+        fixture.cleanUp();
+    }
+
+    @Test
+    @DisplayName("Stock as of any day equals a full ledger replay, from the nearest base")
+    void stockAsOf_MatchesFullReplay() throws Exception {
+        // The service takes today in Riyadh
+        LocalDate today = LocalDate.now(ZoneId.of("Asia/Riyadh"));
+        LocalDate snapshotDay = today.minusDays(20);
+
+        StockSnapshotResponse snapshot = stockSnapshotService.takeSnapshot(snapshotDay);
+        Integer snapshotRows = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM store_balance_snapshots WHERE snapshot_date = ? AND store_code IN ("
+                        + storeList + ")", Integer.class, snapshotDay);
+        assertThat(snapshotRows).isEqualTo(expectedAsOf(snapshotDay).size());
+
+        // Taking the same day again replaces it
+        StockSnapshotResponse retaken = stockSnapshotService.takeSnapshot(snapshotDay);
+        assertThat(retaken.getReplacedCount()).isEqualTo(snapshot.getBalanceCount());
+
+        assertAsOf(today.minusDays(24), snapshotDay, StockSnapshotService.REPLAY_BACKWARD);
+        assertAsOf(snapshotDay, snapshotDay, StockSnapshotService.REPLAY_NONE);
+        assertAsOf(today.minusDays(17), snapshotDay, StockSnapshotService.REPLAY_FORWARD);
+        assertAsOf(today.minusDays(3), null, StockSnapshotService.REPLAY_BACKWARD);
+        assertAsOf(today, null, StockSnapshotService.REPLAY_BACKWARD);
+    }
+
+    private void assertAsOf(LocalDate day, LocalDate expectedBase, String expectedDirection) throws Exception {
+        StockAsOfResponse response = queryBudget.assertWithin(6, "getStockAsOf " + day,
+                () -> stockSnapshotService.getStockAsOf(day, storeCodes));
+
+        assertThat(response.getBaseSnapshotDate()).as("base for %s", day).isEqualTo(expectedBase);
+        assertThat(response.getReplayDirection()).as("direction for %s", day).isEqualTo(expectedDirection);
+        // Every generated movement has a cost
+        assertThat(response.getUnpricedMovements()).as("unpriced movements for %s", day).isZero();
+
+        Map<String, BigDecimal[]> actual = response.getBalances().stream()
+                .collect(Collectors.toMap(l -> l.getStoreCode() + "|" + l.getItemCode(),
+                        l -> new BigDecimal[]{l.getQuantityOnHand(), l.getTotalValue()}));
+        Map<String, BigDecimal[]> expected = expectedAsOf(day);
+        assertThat(actual.keySet()).as("balances as of %s", day).isEqualTo(expected.keySet());
+        expected.forEach((key, amount) -> {
+            assertThat(actual.get(key)[0]).as("quantity of %s as of %s", key, day).isEqualByComparingTo(amount[0]);
+            assertThat(actual.get(key)[1]).as("value of %s as of %s", key, day).isEqualByComparingTo(amount[1]);
+        });
+        assertThat(response.getBalances()).allSatisfy(line -> {
+            assertThat(line.getStoreName()).isNotNull();
+            assertThat(line.getItemName()).isNotNull();
+        });
+    }
+
+    /**
+     * Full replay of the generated ledger up to the end of a Riyadh day,
+     * in the JVM zone the ledger rows are stamped in
+     */
+    private Map<String, BigDecimal[]> expectedAsOf(LocalDate day) {
+        LocalDateTime dayEnd = day.plusDays(1).atStartOfDay(ZoneId.of("Asia/Riyadh"))
+                .withZoneSameInstant(ZoneId.systemDefault()).toLocalDateTime();
+        Map<String, BigDecimal[]> amounts = new HashMap<>();
+        for (Movement movement : movements) {
+            if (!movement.date().isBefore(dayEnd)) {
+                continue;
+            }
+            BigDecimal[] amount = amounts.computeIfAbsent(movement.storeCode() + "|" + movement.itemCode(),
+                    k -> new BigDecimal[]{BigDecimal.ZERO, BigDecimal.ZERO});
+            amount[0] = amount[0].add(movement.quantity());
+            amount[1] = amount[1].add(movement.value());
+        }
+        amounts.values().removeIf(a -> a[0].signum() == 0 && a[1].signum() == 0);
+        return amounts;
+    }
+}
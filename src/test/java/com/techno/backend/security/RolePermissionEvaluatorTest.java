@@ -0,0 +1,125 @@
+package com.techno.backend.security;
+
+import com.techno.backend.entity.Role;
+import com.techno.backend.entity.RolePermission;
+import com.techno.backend.repository.RolePermissionRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for RolePermissionEvaluator with the role permission cache.
+ * Tests permission checks by role, ADMIN access, unknown input and reloading
+ * after invalidation.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Role Permission Evaluator Tests")
+class RolePermissionEvaluatorTest {
+
+    @Mock
+    private RolePermissionRepository rolePermissionRepository;
+
+    private RolePermissionCache rolePermissionCache;
+    private RolePermissionEvaluator evaluator;
+
+    @BeforeEach
+    void setUp() {
+        rolePermissionCache = new RolePermissionCache(rolePermissionRepository);
+        evaluator = new RolePermissionEvaluator(rolePermissionCache);
+    }
+
+    @Test
+    @DisplayName("Role is granted exactly the permissions of its role name")
+    void hasPermission_UsesRoleMask() {
+        when(rolePermissionRepository.findAllActiveWithRole()).thenReturn(List.of(
+                permission("Warehouse Manager", RolePermission.builder().canManageWarehouse('Y').canViewReports('Y')),
+                permission("HR Manager", RolePermission.builder().canManageEmployees('Y'))));
+
+        Authentication warehouse = user("WAREHOUSE_MANAGER");
+        assertThat(evaluator.hasPermission(warehouse, null, "MANAGE_WAREHOUSE")).isTrue();
+        assertThat(evaluator.hasPermission(warehouse, null, "VIEW_REPORTS")).isTrue();
+        assertThat(evaluator.hasPermission(warehouse, null, "MANAGE_EMPLOYEES")).isFalse();
+
+        Authentication hr = user("HR_MANAGER");
+        assertThat(evaluator.hasPermission(hr, null, "MANAGE_EMPLOYEES")).isTrue();
+        assertThat(evaluator.hasPermission(hr, null, "MANAGE_WAREHOUSE")).isFalse();
+
+        // All checks served by one load
+        verify(rolePermissionRepository, times(1)).findAllActiveWithRole();
+    }
+
+    @Test
+    @DisplayName("ADMIN has every permission without loading role masks")
+    void hasPermission_Admin_AllPermissions() {
+        Authentication admin = user("ADMIN");
+
+        for (Permission permission : Permission.values()) {
+            assertThat(evaluator.hasPermission(admin, null, permission.name())).as(permission.name()).isTrue();
+        }
+        verifyNoInteractions(rolePermissionRepository);
+    }
+
+    @Test
+    @DisplayName("Unknown role, unknown permission and missing authentication are denied")
+    void hasPermission_UnknownInput_Denied() {
+        when(rolePermissionRepository.findAllActiveWithRole()).thenReturn(List.of(
+                permission("Warehouse Manager", RolePermission.builder().canManageWarehouse('Y'))));
+
+        assertThat(evaluator.hasPermission(user("EMPLOYEE"), null, "MANAGE_WAREHOUSE")).isFalse();
+        assertThat(evaluator.hasPermission(user("WAREHOUSE_MANAGER"), null, "NOT_A_PERMISSION")).isFalse();
+        assertThat(evaluator.hasPermission(user("WAREHOUSE_MANAGER"), null, null)).isFalse();
+        assertThat(evaluator.hasPermission(null, null, "MANAGE_WAREHOUSE")).isFalse();
+        assertThat(evaluator.hasPermission(
+                new UsernamePasswordAuthenticationToken("1", null), null, "MANAGE_WAREHOUSE")).isFalse();
+    }
+
+    @Test
+    @DisplayName("Masks of several roles are combined")
+    void resolveMask_CombinesRoles() {
+        when(rolePermissionRepository.findAllActiveWithRole()).thenReturn(List.of(
+                permission("Warehouse Manager", RolePermission.builder().canManageWarehouse('Y')),
+                permission("HR Manager", RolePermission.builder().canManageEmployees('Y'))));
+
+        int mask = evaluator.resolveMask(user("WAREHOUSE_MANAGER", "HR_MANAGER"));
+
+        assertThat(mask).isEqualTo(Permission.MANAGE_WAREHOUSE.bit() | Permission.MANAGE_EMPLOYEES.bit());
+    }
+
+    @Test
+    @DisplayName("Changed permissions are picked up after invalidation")
+    void invalidate_ReloadsMasks() {
+        when(rolePermissionRepository.findAllActiveWithRole())
+                .thenReturn(List.of(permission("HR Manager", RolePermission.builder())))
+                .thenReturn(List.of(permission("HR Manager", RolePermission.builder().canManagePayroll('Y'))));
+
+        Authentication hr = user("HR_MANAGER");
+        assertThat(evaluator.hasPermission(hr, null, "MANAGE_PAYROLL")).isFalse();
+
+        rolePermissionCache.invalidate();
+
+        assertThat(evaluator.hasPermission(hr, null, "MANAGE_PAYROLL")).isTrue();
+        verify(rolePermissionRepository, times(2)).findAllActiveWithRole();
+    }
+
+    private static RolePermission permission(String roleName, RolePermission.RolePermissionBuilder builder) {
+        return builder.role(Role.builder().roleName(roleName).build()).build();
+    }
+
+    private static Authentication user(String... roles) {
+        return new UsernamePasswordAuthenticationToken("1", null, Arrays.stream(roles)
+                .map(role -> new SimpleGrantedAuthority("ROLE_" + role))
+                .toList());
+    }
+}
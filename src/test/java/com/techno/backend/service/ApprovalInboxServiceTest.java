@@ -0,0 +1,118 @@
+package com.techno.backend.service;
+
+import com.techno.backend.constants.ApprovalRequestType;
+import com.techno.backend.dto.approval.ApprovalDecisionRequest;
+import com.techno.backend.exception.BadRequestException;
+import com.techno.backend.repository.ApprovalInboxRepository;
+import com.techno.backend.repository.EmployeeRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for ApprovalInboxService.
+ * Bulk decisions are only passed to the owning module for requests that are
+ * pending for the approver.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Approval Inbox Service Tests")
+class ApprovalInboxServiceTest {
+
+    private static final Long APPROVER_NO = 1001L;
+
+    @Mock
+    private ApprovalInboxRepository inboxRepository;
+
+    @Mock
+    private EmployeeRepository employeeRepository;
+
+    @Mock
+    private LeaveService leaveService;
+
+    @Mock
+    private LoanService loanService;
+
+    @Mock
+    private AllowanceService allowanceService;
+
+    @Mock
+    private DeductionService deductionService;
+
+    @Mock
+    private ManualAttendanceRequestService manualAttendanceRequestService;
+
+    @Mock
+    private TransferService transferService;
+
+    @Mock
+    private PaymentRequestService paymentRequestService;
+
+    @Mock
+    private LaborAllocationService laborAllocationService;
+
+    @InjectMocks
+    private ApprovalInboxService approvalInboxService;
+
+    @Test
+    @DisplayName("Requests pending for the approver are rejected through their module")
+    void rejectAll_PendingRequests_Delegated() {
+        when(inboxRepository.findPendingByRequestIds(eq(APPROVER_NO), anyCollection()))
+                .thenReturn(List.of(pending(ApprovalRequestType.LABOR_REQUEST, 5L),
+                        pending(ApprovalRequestType.LEAVE, 7L)));
+
+        int rejected = approvalInboxService.rejectAll(APPROVER_NO, decision(
+                item(ApprovalRequestType.LABOR_REQUEST, 5L), item(ApprovalRequestType.LEAVE, 7L)));
+
+        assertThat(rejected).isEqualTo(2);
+        verify(laborAllocationService).rejectLaborRequest(5L, APPROVER_NO, "Not needed");
+        verify(leaveService).rejectLeave(7L, APPROVER_NO, "Not needed");
+    }
+
+    @Test
+    @DisplayName("A request not pending for the approver fails the whole batch before any decision")
+    void rejectAll_RequestNotPendingForApprover_NothingRejected() {
+        // Labor request 5 waits for someone else; a leave with the same number is pending here
+        when(inboxRepository.findPendingByRequestIds(eq(APPROVER_NO), anyCollection()))
+                .thenReturn(List.of(pending(ApprovalRequestType.LEAVE, 5L)));
+
+        assertThatThrownBy(() -> approvalInboxService.rejectAll(APPROVER_NO, decision(
+                item(ApprovalRequestType.LEAVE, 5L), item(ApprovalRequestType.LABOR_REQUEST, 5L))))
+                .isInstanceOf(BadRequestException.class);
+
+        verifyNoInteractions(leaveService, laborAllocationService);
+    }
+
+    @Test
+    @DisplayName("A request selected twice is refused")
+    void approveAll_DuplicateSelection_Refused() {
+        assertThatThrownBy(() -> approvalInboxService.approveAll(APPROVER_NO, decision(
+                item(ApprovalRequestType.LOAN, 3L), item(ApprovalRequestType.LOAN, 3L))))
+                .isInstanceOf(BadRequestException.class);
+
+        verifyNoInteractions(inboxRepository, loanService);
+    }
+
+    private static ApprovalDecisionRequest decision(ApprovalDecisionRequest.Item... items) {
+        return ApprovalDecisionRequest.builder().items(List.of(items)).reason("Not needed").build();
+    }
+
+    private static ApprovalDecisionRequest.Item item(String type, Long id) {
+        return ApprovalDecisionRequest.Item.builder().requestType(type).requestId(id).build();
+    }
+
+    private static ApprovalInboxRepository.PendingApproval pending(String type, Long id) {
+        return new ApprovalInboxRepository.PendingApproval(type, id, 2001L, LocalDate.of(2026, 10, 1), null, 1);
+    }
+}
@@ -1,9 +1,9 @@
 package com.techno.backend.service;
 
+import com.techno.backend.entity.AttendanceMonthlyRollup;
 import com.techno.backend.entity.AttendanceTransaction;
 import com.techno.backend.entity.EmpMonthlyAllowance;
 import com.techno.backend.entity.EmpMonthlyDeduction;
-import com.techno.backend.repository.AttendanceRepository;
 import com.techno.backend.repository.EmpMonthlyAllowanceRepository;
 import com.techno.backend.repository.EmpMonthlyDeductionRepository;
 import org.junit.jupiter.api.BeforeEach;
@@ -44,7 +44,10 @@ class AttendanceAllowanceDeductionServiceTest {
     private EmpMonthlyDeductionRepository deductionRepository;
 
     @Mock
-    private AttendanceRepository attendanceRepository;
+    private AttendanceRollupService attendanceRollupService;
+
+    @Mock
+    private PayrollDirtyService payrollDirtyService;
 
     @InjectMocks
     private AttendanceAllowanceDeductionService allowanceDeductionService;
@@ -146,25 +149,10 @@ class AttendanceAllowanceDeductionServiceTest {
     @DisplayName("Aggregate monthly delay deductions should create single deduction")
     void aggregateMonthlyDelayDeductions_WithDelays_CreatesDeduction() {
         YearMonth month = YearMonth.of(2025, 1);
-        LocalDate monthStart = month.atDay(1);
-        LocalDate monthEnd = month.atEndOfMonth();
-
-        // Mock that employee has delays
-        when(attendanceRepository.sumDelayedHours(1001L, monthStart, monthEnd))
-                .thenReturn(1.5); // 1.5 hours total delay
-
-        // Mock delay records for counting days
-        AttendanceTransaction delay1 = AttendanceTransaction.builder()
-                .employeeNo(1001L)
-                .delayedCalc(new BigDecimal("0.50"))
-                .build();
-        AttendanceTransaction delay2 = AttendanceTransaction.builder()
-                .employeeNo(1001L)
-                .delayedCalc(new BigDecimal("1.00"))
-                .build();
 
-        when(attendanceRepository.findLateArrivalsByDateRange(monthStart, monthEnd))
-                .thenReturn(List.of(delay1, delay2));
+        // Mock that employee has delays: 1.5 hours over 2 days (day count goes in the reason field)
+        when(attendanceRollupService.getRollup(1001L, month))
+                .thenReturn(delayRollup(1001L, new BigDecimal("1.5"), 2));
 
         // Mock that no deduction exists yet
         when(deductionRepository.findByEmployeeAndType(1001L, 20L))
@@ -191,11 +179,9 @@ class AttendanceAllowanceDeductionServiceTest {
     @DisplayName("Aggregate monthly delay deductions when no delays should return null")
     void aggregateMonthlyDelayDeductions_NoDelays_ReturnsNull() {
         YearMonth month = YearMonth.of(2025, 1);
-        LocalDate monthStart = month.atDay(1);
-        LocalDate monthEnd = month.atEndOfMonth();
 
-        when(attendanceRepository.sumDelayedHours(1001L, monthStart, monthEnd))
-                .thenReturn(0.0);
+        when(attendanceRollupService.getRollup(1001L, month))
+                .thenReturn(delayRollup(1001L, new BigDecimal("0.0"), 0));
 
         EmpMonthlyDeduction result = allowanceDeductionService.aggregateMonthlyDelayDeductions(1001L, month);
 
@@ -208,10 +194,9 @@ class AttendanceAllowanceDeductionServiceTest {
     void aggregateMonthlyDelayDeductions_AlreadyExists_ReturnsNull() {
         YearMonth month = YearMonth.of(2025, 1);
         LocalDate monthStart = month.atDay(1);
-        LocalDate monthEnd = month.atEndOfMonth();
 
-        when(attendanceRepository.sumDelayedHours(1001L, monthStart, monthEnd))
-                .thenReturn(1.5);
+        when(attendanceRollupService.getRollup(1001L, month))
+                .thenReturn(delayRollup(1001L, new BigDecimal("1.5"), 0));
 
         EmpMonthlyDeduction existingDeduction = EmpMonthlyDeduction.builder()
                 .transactionNo(1L)
@@ -222,8 +207,6 @@ class AttendanceAllowanceDeductionServiceTest {
                 .isDeleted("N")
                 .build();
 
-        when(attendanceRepository.findLateArrivalsByDateRange(monthStart, monthEnd))
-                .thenReturn(List.of());
         when(deductionRepository.findByEmployeeAndType(1001L, 20L))
                 .thenReturn(List.of(existingDeduction));
 
@@ -233,6 +216,40 @@ class AttendanceAllowanceDeductionServiceTest {
         verify(deductionRepository, never()).save(any(EmpMonthlyDeduction.class));
     }
 
+    @Test
+    @DisplayName("Aggregate monthly delays for all employees should batch-save new deductions only")
+    void aggregateMonthlyDelayDeductionsForAll_SkipsExisting_SavesBatch() {
+        YearMonth month = YearMonth.of(2025, 1);
+        LocalDate monthStart = month.atDay(1);
+
+        when(attendanceRollupService.getDelayedActiveEmployees(month))
+                .thenReturn(List.of(
+                        delayRollup(1001L, new BigDecimal("1.505"), 2),
+                        delayRollup(1002L, new BigDecimal("3.00"), 4)));
+        when(deductionRepository.findEmployeesWithDeduction(20L, monthStart.plusDays(14), "Monthly delay aggregation"))
+                .thenReturn(List.of(1002L));
+        when(deductionRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        List<EmpMonthlyDeduction> result = allowanceDeductionService.aggregateMonthlyDelayDeductionsForAll(month);
+
+        assertThat(result).hasSize(1);
+        assertThat(result.get(0).getEmployeeNo()).isEqualTo(1001L);
+        assertThat(result.get(0).getDeductionAmount()).isEqualByComparingTo(new BigDecimal("1.51"));
+        assertThat(result.get(0).getTransactionDate()).isEqualTo(monthStart.plusDays(14));
+        assertThat(result.get(0).getEntryReason()).contains("2 days with delay");
+        verify(deductionRepository, never()).save(any(EmpMonthlyDeduction.class));
+        verify(deductionRepository, never()).findByEmployeeAndType(anyLong(), anyLong());
+    }
+
+    private AttendanceMonthlyRollup delayRollup(Long employeeNo, BigDecimal hours, int days) {
+        return AttendanceMonthlyRollup.builder()
+                .employeeNo(employeeNo)
+                .rollupMonth("2025-01")
+                .delayHours(hours)
+                .delayDays(days)
+                .build();
+    }
+
     // ==================== Early Departure Deduction Tests ====================
 
     @Test
@@ -428,24 +445,11 @@ class AttendanceAllowanceDeductionServiceTest {
         @DisplayName("Delay deduction amount calculation")
         void aggregateMonthlyDelayDeductions_AmountCalculation_Correct() {
             YearMonth month = YearMonth.of(2025, 1);
-            LocalDate monthStart = month.atDay(1);
-            LocalDate monthEnd = month.atEndOfMonth();
 
             // Total delay: 2.5 hours
-            when(attendanceRepository.sumDelayedHours(1001L, monthStart, monthEnd))
-                    .thenReturn(2.5);
-
-            AttendanceTransaction delay1 = AttendanceTransaction.builder()
-                    .employeeNo(1001L)
-                    .delayedCalc(new BigDecimal("1.00"))
-                    .build();
-            AttendanceTransaction delay2 = AttendanceTransaction.builder()
-                    .employeeNo(1001L)
-                    .delayedCalc(new BigDecimal("1.50"))
-                    .build();
+            when(attendanceRollupService.getRollup(1001L, month))
+                    .thenReturn(delayRollup(1001L, new BigDecimal("2.5"), 2));
 
-            when(attendanceRepository.findLateArrivalsByDateRange(monthStart, monthEnd))
-                    .thenReturn(List.of(delay1, delay2));
             when(deductionRepository.findByEmployeeAndType(1001L, 20L))
                     .thenReturn(Collections.emptyList());
 
@@ -469,28 +473,11 @@ class AttendanceAllowanceDeductionServiceTest {
         @DisplayName("Delay deduction includes all delay types")
         void aggregateMonthlyDelayDeductions_IncludesAllDelayTypes() {
             YearMonth month = YearMonth.of(2025, 1);
-            LocalDate monthStart = month.atDay(1);
-            LocalDate monthEnd = month.atEndOfMonth();
 
             // Multiple delays from different days
-            when(attendanceRepository.sumDelayedHours(1001L, monthStart, monthEnd))
-                    .thenReturn(3.0); // Total: 3 hours
-
-            AttendanceTransaction delay1 = AttendanceTransaction.builder()
-                    .employeeNo(1001L)
-                    .delayedCalc(new BigDecimal("0.25"))
-                    .build();
-            AttendanceTransaction delay2 = AttendanceTransaction.builder()
-                    .employeeNo(1001L)
-                    .delayedCalc(new BigDecimal("0.50"))
-                    .build();
-            AttendanceTransaction delay3 = AttendanceTransaction.builder()
-                    .employeeNo(1001L)
-                    .delayedCalc(new BigDecimal("2.25"))
-                    .build();
+            when(attendanceRollupService.getRollup(1001L, month))
+                    .thenReturn(delayRollup(1001L, new BigDecimal("3.0"), 3)); // Total: 3 hours
 
-            when(attendanceRepository.findLateArrivalsByDateRange(monthStart, monthEnd))
-                    .thenReturn(List.of(delay1, delay2, delay3));
             when(deductionRepository.findByEmployeeAndType(1001L, 20L))
                     .thenReturn(Collections.emptyList());
 
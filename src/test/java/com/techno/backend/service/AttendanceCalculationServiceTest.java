@@ -10,7 +10,6 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
@@ -45,7 +44,6 @@ class AttendanceCalculationServiceTest {
     @Mock
     private TimeScheduleRepository timeScheduleRepository;
 
-    @InjectMocks
     private AttendanceCalculationService calculationService;
 
     private TimeSchedule testSchedule;
@@ -53,6 +51,8 @@ class AttendanceCalculationServiceTest {
 
     @BeforeEach
     void setUp() {
+        calculationService = new AttendanceCalculationService(holidayRepository, weekendDayRepository,
+                new TimeScheduleLookupService(timeScheduleRepository));
         testDate = LocalDate.of(2025, 1, 18); // Saturday
 
         testSchedule = TimeSchedule.builder()
@@ -72,7 +72,8 @@ class AttendanceCalculationServiceTest {
     @DisplayName("Detect holiday date should return true when date is holiday")
     void isHolidayDate_IsHoliday_ReturnsTrue() {
         when(holidayRepository.isHoliday(testDate)).thenReturn(true);
-        when(holidayRepository.findByHolidayDate(testDate))
+        // The holiday name is only looked up when debug logging is on
+        lenient().when(holidayRepository.findByHolidayDate(testDate))
                 .thenReturn(Optional.of(Holiday.builder()
                         .holidayName("Eid al-Fitr")
                         .build()));
@@ -80,6 +81,7 @@ class AttendanceCalculationServiceTest {
         boolean result = calculationService.isHolidayDate(testDate);
 
         assertThat(result).isTrue();
+        verify(holidayRepository).isHoliday(testDate);
     }
 
     @Test
@@ -235,6 +237,34 @@ class AttendanceCalculationServiceTest {
         assertThat(result).isNull();
     }
 
+    @Test
+    @DisplayName("Find schedule should return a copy that callers can change without affecting the cached schedule")
+    void findApplicableSchedule_ReturnsDetachedCopy() {
+        TimeSchedule projectSchedule = TimeSchedule.builder()
+                .scheduleId(1L)
+                .projectCode(101L)
+                .scheduledStartTime(LocalTime.of(7, 0))
+                .scheduledEndTime(LocalTime.of(16, 0))
+                .requiredHours(new BigDecimal("9.00"))
+                .gracePeriodMinutes(10)
+                .build();
+        TimeScheduleLookupService.CachedSchedule cached = TimeScheduleLookupService.CachedSchedule.of(projectSchedule);
+        TimeScheduleLookupService lookupService = mock(TimeScheduleLookupService.class);
+        when(lookupService.findApplicableSchedule(1L, 101L)).thenReturn(cached);
+        AttendanceCalculationService service =
+                new AttendanceCalculationService(holidayRepository, weekendDayRepository, lookupService);
+
+        TimeSchedule first = service.findApplicableSchedule(1L, 101L);
+        first.setGracePeriodMinutes(60);
+        first.setScheduledStartTime(LocalTime.of(9, 0));
+        TimeSchedule second = service.findApplicableSchedule(1L, 101L);
+
+        assertThat(second).isNotSameAs(first);
+        assertThat(second.getGracePeriodMinutes()).isEqualTo(10);
+        assertThat(second.getScheduledStartTime()).isEqualTo(LocalTime.of(7, 0));
+        assertThat(second.getRequiredHours()).isEqualByComparingTo(new BigDecimal("9.00"));
+    }
+
     // ==================== Calculate Attendance Hours Tests ====================
 
     @Test
@@ -41,6 +41,12 @@ class AttendanceEdgeCasesTest {
     @Mock
     private AttendanceRepository attendanceRepository;
 
+    @Mock
+    private AttendanceRollupService attendanceRollupService;
+
+    @Mock
+    private ProjectGeofenceService projectGeofenceService;
+
     @Mock
     private EmployeeRepository employeeRepository;
 
@@ -60,7 +66,7 @@ class AttendanceEdgeCasesTest {
     private EmployeeLeaveRepository leaveRepository;
 
     @Mock
-    private com.techno.backend.repository.ProjectLaborAssignmentRepository assignmentRepository;
+    private LaborAvailabilityService laborAvailabilityService;
 
     @Mock
     private com.techno.backend.repository.HolidayRepository holidayRepository;
@@ -40,6 +40,12 @@ class AttendanceIntegrationTest {
     @Mock
     private AttendanceRepository attendanceRepository;
 
+    @Mock
+    private AttendanceRollupService attendanceRollupService;
+
+    @Mock
+    private ProjectGeofenceService projectGeofenceService;
+
     @Mock
     private EmployeeRepository employeeRepository;
 
@@ -59,7 +65,7 @@ class AttendanceIntegrationTest {
     private EmployeeLeaveRepository leaveRepository;
 
     @Mock
-    private com.techno.backend.repository.ProjectLaborAssignmentRepository assignmentRepository;
+    private LaborAvailabilityService laborAvailabilityService;
 
     @Mock
     private HolidayRepository holidayRepository;
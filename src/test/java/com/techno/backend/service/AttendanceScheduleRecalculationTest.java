@@ -53,6 +53,12 @@ class AttendanceScheduleRecalculationTest {
         @Mock
         private AttendanceRepository attendanceRepository;
 
+        @Mock
+        private AttendanceRollupService attendanceRollupService;
+
+        @Mock
+        private ProjectGeofenceService projectGeofenceService;
+
         @Mock
         private EmployeeRepository employeeRepository;
 
@@ -63,7 +69,7 @@ class AttendanceScheduleRecalculationTest {
         private TimeScheduleRepository timeScheduleRepository;
 
         @Mock
-        private com.techno.backend.repository.ProjectLaborAssignmentRepository assignmentRepository;
+        private LaborAvailabilityService laborAvailabilityService;
 
         @Mock
         private AttendanceCalculationService calculationService;
@@ -171,8 +177,8 @@ class AttendanceScheduleRecalculationTest {
                 when(employeeRepository.findById(11L)).thenReturn(Optional.of(testEmployee));
 
                 // Mock: Find labor assignment for the date
-                when(assignmentRepository.findActiveAssignmentsByEmployee(11L))
-                                .thenReturn(Collections.singletonList(laborAssignment));
+                when(laborAvailabilityService.findProjectOn(eq(11L), any(LocalDate.class)))
+                                .thenReturn(laborAssignment.getProjectCode());
 
                 // Mock: Find project from labor assignment
                 when(projectRepository.findById(3L)).thenReturn(Optional.of(testProject));
@@ -202,7 +208,7 @@ class AttendanceScheduleRecalculationTest {
                 assertThat(response.getShortageHours()).isEqualByComparingTo(BigDecimal.ZERO);
 
                 // Verify: Labor assignment was queried
-                verify(assignmentRepository, atLeastOnce()).findActiveAssignmentsByEmployee(11L);
+                verify(laborAvailabilityService, atLeastOnce()).findProjectOn(eq(11L), any(LocalDate.class));
                 // Verify: Project-specific schedule was queried via calculationService
                 verify(calculationService, atLeastOnce()).findApplicableSchedule(1L, 3L);
         }
@@ -326,8 +332,8 @@ class AttendanceScheduleRecalculationTest {
                 when(employeeRepository.findById(11L)).thenReturn(Optional.of(testEmployee));
 
                 // Mock: No labor assignments
-                when(assignmentRepository.findActiveAssignmentsByEmployee(11L))
-                                .thenReturn(Collections.emptyList());
+                when(laborAvailabilityService.findProjectOn(eq(11L), any(LocalDate.class)))
+                                .thenReturn(null);
 
                 // Mock: No project or department schedule, but default exists
                 when(calculationService.findApplicableSchedule(eq(1L), any()))
@@ -425,8 +431,8 @@ class AttendanceScheduleRecalculationTest {
                 when(projectRepository.findById(3L)).thenReturn(Optional.of(testProject));
                 when(calculationService.findApplicableSchedule(1L, 3L))
                                 .thenReturn(projectSchedule);
-                when(assignmentRepository.findActiveAssignmentsByEmployee(11L))
-                                .thenReturn(Collections.singletonList(laborAssignment));
+                when(laborAvailabilityService.findProjectOn(eq(11L), any(LocalDate.class)))
+                                .thenReturn(laborAssignment.getProjectCode());
 
                 when(attendanceRepository.findByEmployeeNoAndDateRange(
                                 eq(11L), any(LocalDate.class), any(LocalDate.class), eq(pageable)))
@@ -43,6 +43,9 @@ class AttendanceScheduledServiceTest {
     @Mock
     private AttendanceRepository attendanceRepository;
 
+    @Mock
+    private AttendanceRollupService attendanceRollupService;
+
     @Mock
     private EmployeeRepository employeeRepository;
 
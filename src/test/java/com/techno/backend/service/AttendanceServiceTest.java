@@ -11,7 +11,6 @@ import com.techno.backend.entity.TimeSchedule;
 import com.techno.backend.exception.BadRequestException;
 import com.techno.backend.exception.ResourceNotFoundException;
 import com.techno.backend.repository.*;
-import com.techno.backend.repository.ProjectLaborAssignmentRepository;
 import com.techno.backend.repository.HolidayRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -47,6 +46,12 @@ class AttendanceServiceTest {
     @Mock
     private AttendanceRepository attendanceRepository;
 
+    @Mock
+    private AttendanceRollupService attendanceRollupService;
+
+    @Mock
+    private ProjectGeofenceService projectGeofenceService;
+
     @Mock
     private EmployeeRepository employeeRepository;
 
@@ -66,7 +71,7 @@ class AttendanceServiceTest {
     private EmployeeLeaveRepository leaveRepository;
 
     @Mock
-    private com.techno.backend.repository.ProjectLaborAssignmentRepository assignmentRepository;
+    private LaborAvailabilityService laborAvailabilityService;
 
     @Mock
     private com.techno.backend.repository.HolidayRepository holidayRepository;
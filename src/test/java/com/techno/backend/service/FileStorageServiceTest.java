@@ -0,0 +1,165 @@
+package com.techno.backend.service;
+
+import com.techno.backend.entity.Attachment;
+import com.techno.backend.event.FileBlobStoredEvent;
+import com.techno.backend.repository.AttachmentRepository;
+import com.techno.backend.repository.FileBlobRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for FileStorageService.
+ * Tests content hashing, deduplication, reference counting and cleanup of
+ * blobs written by rolled back uploads.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("File Storage Service Tests")
+class FileStorageServiceTest {
+
+    // SHA-256 of "hello"
+    private static final String HELLO_HASH = "2cf24dba5fb0a30e26e83b2ac5b9e29e1b161e5c1fa7425e73043362938b9824";
+
+    @Mock
+    private AttachmentRepository attachmentRepository;
+
+    @Mock
+    private FileBlobRepository fileBlobRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @InjectMocks
+    private FileStorageService fileStorageService;
+
+    @TempDir
+    Path uploadDir;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(fileStorageService, "uploadDir", uploadDir.toString());
+        ReflectionTestUtils.setField(fileStorageService, "maxFileSizeMB", 10L);
+        ReflectionTestUtils.setField(fileStorageService, "thumbnailEnabled", true);
+        ReflectionTestUtils.setField(fileStorageService, "thumbnailMaxDimension", 256);
+    }
+
+    @Test
+    @DisplayName("Upload is stored under its SHA-256 hash and registers one reference")
+    void uploadFile_StoresContentUnderHash() throws Exception {
+        when(attachmentRepository.save(any(Attachment.class))).thenAnswer(inv -> inv.getArgument(0));
+
+        Attachment attachment = fileStorageService.uploadFile(pdf("a.pdf", "hello"), "EMPLOYEE", 1L, 1L, null);
+
+        Path blobPath = uploadDir.resolve(Paths.get("blobs", "2c", "f2", HELLO_HASH));
+        assertThat(attachment.getContentHash()).isEqualTo(HELLO_HASH);
+        assertThat(attachment.getFilePath()).isEqualTo(blobPath.toString());
+        assertThat(attachment.getFileSize()).isEqualTo(5L);
+        assertThat(Files.readString(blobPath)).isEqualTo("hello");
+        verify(fileBlobRepository).addReference(HELLO_HASH, blobPath.toString(), 5L, "application/pdf");
+
+        ArgumentCaptor<FileBlobStoredEvent> event = ArgumentCaptor.forClass(FileBlobStoredEvent.class);
+        verify(eventPublisher).publishEvent(event.capture());
+        assertThat(event.getValue().getContentHash()).isEqualTo(HELLO_HASH);
+        assertThat(event.getValue().isThumbnailRequested()).isFalse();
+    }
+
+    @Test
+    @DisplayName("Duplicate content is written once and only adds a reference")
+    void uploadFile_DuplicateContent_Deduplicated() throws Exception {
+        when(attachmentRepository.save(any(Attachment.class))).thenAnswer(inv -> inv.getArgument(0));
+
+        Attachment first = fileStorageService.uploadFile(pdf("a.pdf", "hello"), "EMPLOYEE", 1L, 1L, null);
+        Attachment second = fileStorageService.uploadFile(pdf("b.pdf", "hello"), "EMPLOYEE", 2L, 1L, null);
+
+        assertThat(second.getContentHash()).isEqualTo(first.getContentHash());
+        assertThat(second.getFilePath()).isEqualTo(first.getFilePath());
+        verify(fileBlobRepository, times(2)).addReference(eq(HELLO_HASH), any(), eq(5L), any());
+        // Only the first upload wrote a blob file
+        verify(eventPublisher, times(1)).publishEvent(any(FileBlobStoredEvent.class));
+
+        try (Stream<Path> files = Files.walk(uploadDir)) {
+            assertThat(files.filter(Files::isRegularFile).count()).isEqualTo(1);
+        }
+    }
+
+    @Test
+    @DisplayName("Image uploads request a thumbnail after commit")
+    void uploadFile_Image_RequestsThumbnail() {
+        when(attachmentRepository.save(any(Attachment.class))).thenAnswer(inv -> inv.getArgument(0));
+
+        fileStorageService.uploadFile(new MockMultipartFile("file", "p.png", "image/png",
+                "not really a png".getBytes(StandardCharsets.UTF_8)), "EMPLOYEE", 1L, 1L, null);
+
+        ArgumentCaptor<FileBlobStoredEvent> event = ArgumentCaptor.forClass(FileBlobStoredEvent.class);
+        verify(eventPublisher).publishEvent(event.capture());
+        assertThat(event.getValue().isThumbnailRequested()).isTrue();
+        verify(fileBlobRepository, never()).updateThumbnailPath(any(), any());
+    }
+
+    @Test
+    @DisplayName("Deleting by reference releases references once per distinct hash")
+    void deleteAttachmentsByReference_ReleasesPerHash() throws Exception {
+        Path legacyFile = Files.writeString(uploadDir.resolve("legacy.pdf"), "legacy");
+        when(attachmentRepository.findByReferenceTypeAndReferenceId("EMPLOYEE", 1L)).thenReturn(List.of(
+                attachment("aaa", "x"), attachment("aaa", "x"), attachment("bbb", "y"),
+                attachment(null, legacyFile.toString())));
+
+        fileStorageService.deleteAttachmentsByReference("EMPLOYEE", 1L);
+
+        verify(fileBlobRepository).releaseReferences(eq("aaa"), eq(2), any());
+        verify(fileBlobRepository).releaseReferences(eq("bbb"), eq(1), any());
+        verify(fileBlobRepository, times(2)).releaseReferences(any(), anyInt(), any());
+        verify(attachmentRepository).deleteByReferenceTypeAndReferenceId("EMPLOYEE", 1L);
+        assertThat(legacyFile).doesNotExist();
+    }
+
+    @Test
+    @DisplayName("Blob of a rolled back upload is removed unless another upload committed it")
+    void discardUncommittedBlob_RemovesOnlyUnrecordedBlob() throws Exception {
+        Path blob = Files.writeString(uploadDir.resolve("blob"), "hello");
+
+        when(fileBlobRepository.existsById(HELLO_HASH)).thenReturn(true);
+        assertThat(fileStorageService.discardUncommittedBlob(HELLO_HASH, blob.toString())).isFalse();
+        assertThat(blob).exists();
+
+        when(fileBlobRepository.existsById(HELLO_HASH)).thenReturn(false);
+        assertThat(fileStorageService.discardUncommittedBlob(HELLO_HASH, blob.toString())).isTrue();
+        assertThat(blob).doesNotExist();
+    }
+
+    private MockMultipartFile pdf(String name, String content) {
+        return new MockMultipartFile("file", name, "application/pdf", content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private Attachment attachment(String contentHash, String filePath) {
+        return Attachment.builder()
+                .referenceType("EMPLOYEE")
+                .referenceId(1L)
+                .fileName("f.pdf")
+                .filePath(filePath)
+                .contentHash(contentHash)
+                .build();
+    }
+}
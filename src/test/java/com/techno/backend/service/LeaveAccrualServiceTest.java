@@ -0,0 +1,80 @@
+package com.techno.backend.service;
+
+import com.techno.backend.entity.LeaveAccrualRun;
+import com.techno.backend.repository.EmployeeRepository;
+import com.techno.backend.repository.LeaveAccrualRunRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for LeaveAccrualService.
+ * Tests the yearly accrual key and the recorded employee count.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Leave Accrual Service Tests")
+class LeaveAccrualServiceTest {
+
+    // 00:01 on 1 January 2027 in Riyadh is still 31 December 2026 in UTC
+    private static final Instant NEW_YEAR_RIYADH = Instant.parse("2026-12-31T21:01:00Z");
+
+    @Mock
+    private EmployeeRepository employeeRepository;
+
+    @Mock
+    private LeaveAccrualRunRepository leaveAccrualRunRepository;
+
+    @InjectMocks
+    private LeaveAccrualService leaveAccrualService;
+
+    @Test
+    @DisplayName("Annual accrual uses the Riyadh year and records the employee count")
+    void performAnnualAccrual_RiyadhYear_RecordsCount() {
+        ReflectionTestUtils.setField(leaveAccrualService, "clock",
+                Clock.fixed(NEW_YEAR_RIYADH, ZoneId.of("Asia/Riyadh")));
+        when(leaveAccrualRunRepository.existsByAccrualKey("ANNUAL-2027")).thenReturn(false);
+        when(leaveAccrualRunRepository.saveAndFlush(any(LeaveAccrualRun.class))).thenAnswer(inv -> {
+            LeaveAccrualRun run = inv.getArgument(0);
+            run.setRunId(7L);
+            return run;
+        });
+        when(employeeRepository.addLeaveBalanceToActiveEmployees(any(), any())).thenReturn(42);
+
+        leaveAccrualService.performAnnualAccrual();
+
+        ArgumentCaptor<LeaveAccrualRun> run = ArgumentCaptor.forClass(LeaveAccrualRun.class);
+        verify(leaveAccrualRunRepository).saveAndFlush(run.capture());
+        assertThat(run.getValue().getAccrualKey()).isEqualTo("ANNUAL-2027");
+        assertThat(run.getValue().getRunDate().getYear()).isEqualTo(2027);
+        verify(employeeRepository).addLeaveBalanceToActiveEmployees(eq(BigDecimal.valueOf(30.0)), any());
+        // The bulk update detaches the run, so the count must be written by its own update
+        verify(leaveAccrualRunRepository).updateEmployeesAffected(7L, 42);
+    }
+
+    @Test
+    @DisplayName("Annual accrual already applied for the year is skipped")
+    void performAnnualAccrual_AlreadyApplied_Skipped() {
+        ReflectionTestUtils.setField(leaveAccrualService, "clock",
+                Clock.fixed(NEW_YEAR_RIYADH, ZoneId.of("Asia/Riyadh")));
+        when(leaveAccrualRunRepository.existsByAccrualKey("ANNUAL-2027")).thenReturn(true);
+
+        leaveAccrualService.performAnnualAccrual();
+
+        verify(leaveAccrualRunRepository, never()).saveAndFlush(any());
+        verifyNoInteractions(employeeRepository);
+    }
+}
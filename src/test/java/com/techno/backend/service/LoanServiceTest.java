@@ -1,6 +1,7 @@
 package com.techno.backend.service;
 
 import com.techno.backend.entity.*;
+import com.techno.backend.event.NotificationBatchEvent;
 import com.techno.backend.exception.BadRequestException;
 import com.techno.backend.repository.*;
 import org.junit.jupiter.api.*;
@@ -34,6 +35,10 @@ class LoanServiceTest {
         private ApprovalWorkflowService approvalWorkflowService;
         @Mock
         private ApplicationEventPublisher eventPublisher;
+        @Mock
+        private LoanMassPostponementRunRepository massPostponementRunRepository;
+        @Mock
+        private PayrollDirtyService payrollDirtyService;
 
         @InjectMocks
         private LoanService loanService;
@@ -277,5 +282,78 @@ class LoanServiceTest {
                         assertThat(inst.getDueDate()).isEqualTo(newDueDate);
                         assertThat(inst.getPaymentStatus()).isEqualTo("POSTPONED");
                 }
+
+                @Test
+                @DisplayName("Mass Postpone - one bulk update, audit run and one notification batch")
+                void testMassPostponeByMonth() {
+                        LocalDate start = LocalDate.of(2026, 3, 1);
+                        LocalDate end = LocalDate.of(2026, 3, 31);
+                        LocalDate newDueDate = LocalDate.of(2026, 4, 15);
+                        when(installmentRepository.postponeUnpaidDueBetween(start, end, newDueDate, 1L))
+                                        .thenReturn(List.of(postponedLoan(1L, EMPLOYEE_NO, 2L),
+                                                        postponedLoan(2L, EMPLOYEE_NO, 1L),
+                                                        postponedLoan(3L, 2001L, 1L)));
+                        when(massPostponementRunRepository.save(any())).thenAnswer(i -> {
+                                LoanMassPostponementRun run = i.getArgument(0);
+                                run.setRunId(7L);
+                                return run;
+                        });
+
+                        LoanService.MassPostponeResult result = loanService.massPostponeByMonth(
+                                        "2026-03", "2026-04", "Ramadan", 1L);
+
+                        assertThat(result.totalInstallmentsPostponed()).isEqualTo(4);
+                        assertThat(result.affectedEmployees()).isEqualTo(2);
+                        assertThat(result.affectedEmployeeNumbers()).containsExactly(EMPLOYEE_NO, 2001L);
+                        assertThat(result.runId()).isEqualTo(7L);
+
+                        ArgumentCaptor<LoanMassPostponementRun> runCaptor = ArgumentCaptor
+                                        .forClass(LoanMassPostponementRun.class);
+                        verify(massPostponementRunRepository).save(runCaptor.capture());
+                        assertThat(runCaptor.getValue().getLoansAffected()).isEqualTo(3);
+                        assertThat(runCaptor.getValue().getExecutedBy()).isEqualTo(1L);
+
+                        ArgumentCaptor<NotificationBatchEvent> eventCaptor = ArgumentCaptor
+                                        .forClass(NotificationBatchEvent.class);
+                        verify(eventPublisher, times(1)).publishEvent(eventCaptor.capture());
+                        assertThat(eventCaptor.getValue().getEvents()).hasSize(3);
+                        verify(installmentRepository, never()).save(any());
+                        verifyNoInteractions(loanRepository);
+                }
+
+                @Test
+                @DisplayName("Mass Postpone - nothing due records the run without notifications")
+                void testMassPostponeByMonth_NothingDue() {
+                        when(installmentRepository.postponeUnpaidDueBetween(any(), any(), any(), any()))
+                                        .thenReturn(List.of());
+                        when(massPostponementRunRepository.save(any())).thenAnswer(i -> i.getArgument(0));
+
+                        LoanService.MassPostponeResult result = loanService.massPostponeByMonth(
+                                        "2026-03", "2026-04", "Ramadan", 1L);
+
+                        assertThat(result.totalInstallmentsPostponed()).isZero();
+                        verify(massPostponementRunRepository).save(any());
+                        verifyNoInteractions(eventPublisher);
+                }
+
+                private LoanInstallmentRepository.PostponedLoan postponedLoan(Long loanId, Long employeeNo,
+                                Long installments) {
+                        return new LoanInstallmentRepository.PostponedLoan() {
+                                @Override
+                                public Long getLoanId() {
+                                        return loanId;
+                                }
+
+                                @Override
+                                public Long getEmployeeNo() {
+                                        return employeeNo;
+                                }
+
+                                @Override
+                                public Long getInstallmentCount() {
+                                        return installments;
+                                }
+                        };
+                }
         }
 }
@@ -0,0 +1,144 @@
+package com.techno.backend.service;
+
+import com.techno.backend.dto.NotificationSummaryResponse;
+import com.techno.backend.repository.NotificationRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for NotificationCounterCache.
+ * Counters are loaded once per employee and then maintained in memory.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Notification Counter Cache Tests")
+class NotificationCounterCacheTest {
+
+    @Mock
+    private NotificationRepository notificationRepository;
+
+    @InjectMocks
+    private NotificationCounterCache notificationCounterCache;
+
+    @Test
+    @DisplayName("Counters are loaded once and updated in memory")
+    void getSummary_LoadsOnceAndAppliesChanges() {
+        when(notificationRepository.countSummary(1001L)).thenReturn(counts(10L, 4L, 1L));
+
+        NotificationSummaryResponse initial = notificationCounterCache.getSummary(1001L);
+        assertThat(initial.getTotalNotifications()).isEqualTo(10);
+        assertThat(initial.getUnreadCount()).isEqualTo(4);
+        assertThat(initial.getUrgentCount()).isEqualTo(1);
+
+        notificationCounterCache.notificationCreated(1001L, true);
+        notificationCounterCache.notificationRead(1001L, false);
+        notificationCounterCache.notificationDeleted(1001L, false, false);
+
+        NotificationSummaryResponse updated = notificationCounterCache.getSummary(1001L);
+        assertThat(updated.getTotalNotifications()).isEqualTo(10);
+        assertThat(updated.getUnreadCount()).isEqualTo(4);
+        assertThat(updated.getUrgentCount()).isEqualTo(2);
+
+        notificationCounterCache.allNotificationsRead(1001L);
+        assertThat(notificationCounterCache.getUnreadCount(1001L)).isZero();
+        assertThat(notificationCounterCache.getSummary(1001L).getUrgentCount()).isZero();
+
+        verify(notificationRepository, times(1)).countSummary(1001L);
+    }
+
+    @Test
+    @DisplayName("Changes for employees not yet loaded are ignored; invalidation forces reload")
+    void changesBeforeLoad_AreIgnored_InvalidateReloads() {
+        notificationCounterCache.notificationCreated(1002L, false);
+        verifyNoInteractions(notificationRepository);
+
+        when(notificationRepository.countSummary(1002L)).thenReturn(counts(1L, 1L, 0L));
+        assertThat(notificationCounterCache.getUnreadCount(1002L)).isEqualTo(1);
+
+        notificationCounterCache.invalidateAll();
+        assertThat(notificationCounterCache.getUnreadCount(1002L)).isEqualTo(1);
+        verify(notificationRepository, times(2)).countSummary(1002L);
+    }
+
+    @Test
+    @DisplayName("A load that overlaps a committing change is not cached, so the change is not counted twice")
+    void loadDuringChange_NotCached_NoDoubleCount() {
+        // The query already sees the new notification; its counter update lands while the load runs
+        when(notificationRepository.countSummary(1003L)).thenAnswer(invocation -> {
+            notificationCounterCache.changeStarted(1003L);
+            notificationCounterCache.notificationCreated(1003L, false);
+            notificationCounterCache.changeFinished(1003L);
+            return counts(3L, 3L, 0L);
+        }).thenReturn(counts(3L, 3L, 0L));
+
+        assertThat(notificationCounterCache.getUnreadCount(1003L)).isEqualTo(3);
+        assertThat(notificationCounterCache.getUnreadCount(1003L)).isEqualTo(3);
+        assertThat(notificationCounterCache.getUnreadCount(1003L)).isEqualTo(3);
+        verify(notificationRepository, times(2)).countSummary(1003L);
+    }
+
+    @Test
+    @DisplayName("A load is not cached while a change is still in flight")
+    void loadWhileChangeInFlight_NotCached() {
+        when(notificationRepository.countSummary(1004L)).thenReturn(counts(2L, 2L, 0L), counts(3L, 3L, 0L));
+
+        notificationCounterCache.changeStarted(1004L);
+        assertThat(notificationCounterCache.getUnreadCount(1004L)).isEqualTo(2);
+
+        // The change commits; it is only applied to counters that are loaded
+        notificationCounterCache.notificationCreated(1004L, false);
+        notificationCounterCache.changeFinished(1004L);
+
+        assertThat(notificationCounterCache.getUnreadCount(1004L)).isEqualTo(3);
+        assertThat(notificationCounterCache.getUnreadCount(1004L)).isEqualTo(3);
+        verify(notificationRepository, times(2)).countSummary(1004L);
+    }
+
+    @Test
+    @DisplayName("Change tracking is dropped once no change or load is in progress")
+    void changeTracking_PrunedWhenIdle() {
+        when(notificationRepository.countSummary(1005L)).thenReturn(counts(0L, 0L, 0L));
+
+        notificationCounterCache.changeStarted(1005L);
+        notificationCounterCache.changeStarted(1005L);
+        notificationCounterCache.changeFinished(1005L);
+        assertThat(trackedChanges()).containsOnlyKeys(1005L);
+
+        notificationCounterCache.changeFinished(1005L);
+        notificationCounterCache.getUnreadCount(1005L);
+        assertThat(trackedChanges()).isEmpty();
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<Long, ?> trackedChanges() {
+        return (Map<Long, ?>) ReflectionTestUtils.getField(notificationCounterCache, "changes");
+    }
+
+    private NotificationRepository.NotificationCounts counts(Long total, Long unread, Long urgent) {
+        return new NotificationRepository.NotificationCounts() {
+            @Override
+            public Long getTotalCount() {
+                return total;
+            }
+
+            @Override
+            public Long getUnreadCount() {
+                return unread;
+            }
+
+            @Override
+            public Long getUrgentCount() {
+                return urgent;
+            }
+        };
+    }
+}
@@ -3,7 +3,6 @@ package com.techno.backend.service;
 import com.techno.backend.constants.NotificationEventType;
 import com.techno.backend.entity.Employee;
 import com.techno.backend.event.NotificationEvent;
-import com.techno.backend.repository.AttendanceRepository;
 import com.techno.backend.repository.EmployeeRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -18,6 +17,7 @@ import org.springframework.context.ApplicationEventPublisher;
 import java.time.LocalDate;
 import java.time.YearMonth;
 import java.util.List;
+import java.util.Map;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
@@ -35,7 +35,7 @@ import static org.mockito.Mockito.*;
 class OvertimeAlertServiceTest {
 
     @Mock
-    private AttendanceRepository attendanceRepository;
+    private AttendanceRollupService attendanceRollupService;
 
     @Mock
     private EmployeeRepository employeeRepository;
@@ -71,12 +71,10 @@ class OvertimeAlertServiceTest {
     @DisplayName("Check overtime alerts when employee reaches 30 hours should send normal alert")
     void checkOvertimeAlerts_30Hours_SendsNormalAlert() {
         YearMonth currentMonth = YearMonth.from(today);
-        LocalDate monthStart = currentMonth.atDay(1);
-        LocalDate monthEnd = currentMonth.atEndOfMonth();
 
         when(employeeRepository.findAllActiveEmployees()).thenReturn(List.of(testEmployee));
-        when(attendanceRepository.sumOvertimeHours(1001L, monthStart, monthEnd))
-                .thenReturn(30.0);
+        when(attendanceRollupService.getOvertimeHoursByEmployee(currentMonth))
+                .thenReturn(Map.of(1001L, 30.0));
 
         ArgumentCaptor<NotificationEvent> eventCaptor = ArgumentCaptor.forClass(NotificationEvent.class);
 
@@ -101,12 +99,10 @@ class OvertimeAlertServiceTest {
     @DisplayName("Check overtime alerts when employee reaches 50 hours should send urgent alert")
     void checkOvertimeAlerts_50Hours_SendsUrgentAlert() {
         YearMonth currentMonth = YearMonth.from(today);
-        LocalDate monthStart = currentMonth.atDay(1);
-        LocalDate monthEnd = currentMonth.atEndOfMonth();
 
         when(employeeRepository.findAllActiveEmployees()).thenReturn(List.of(testEmployee));
-        when(attendanceRepository.sumOvertimeHours(1001L, monthStart, monthEnd))
-                .thenReturn(50.0);
+        when(attendanceRollupService.getOvertimeHoursByEmployee(currentMonth))
+                .thenReturn(Map.of(1001L, 50.0));
         when(systemConfigService.getHRManagerEmployeeNo()).thenReturn(2L);
         when(systemConfigService.getFinanceManagerEmployeeNo()).thenReturn(3L);
         when(systemConfigService.getGeneralManagerEmployeeNo()).thenReturn(1L);
@@ -129,12 +125,10 @@ class OvertimeAlertServiceTest {
     @DisplayName("Check overtime alerts when employee below 30 hours should not send alert")
     void checkOvertimeAlerts_Below30Hours_NoAlert() {
         YearMonth currentMonth = YearMonth.from(today);
-        LocalDate monthStart = currentMonth.atDay(1);
-        LocalDate monthEnd = currentMonth.atEndOfMonth();
 
         when(employeeRepository.findAllActiveEmployees()).thenReturn(List.of(testEmployee));
-        when(attendanceRepository.sumOvertimeHours(1001L, monthStart, monthEnd))
-                .thenReturn(25.0); // Below 30 hours
+        when(attendanceRollupService.getOvertimeHoursByEmployee(currentMonth))
+                .thenReturn(Map.of(1001L, 25.0)); // Below 30 hours
 
         overtimeAlertService.checkOvertimeAlerts();
 
@@ -150,12 +144,10 @@ class OvertimeAlertServiceTest {
     @DisplayName("Check overtime alerts should notify HR, Finance, and General Manager")
     void checkOvertimeAlerts_NotifiesAllManagers() {
         YearMonth currentMonth = YearMonth.from(today);
-        LocalDate monthStart = currentMonth.atDay(1);
-        LocalDate monthEnd = currentMonth.atEndOfMonth();
 
         when(employeeRepository.findAllActiveEmployees()).thenReturn(List.of(testEmployee));
-        when(attendanceRepository.sumOvertimeHours(1001L, monthStart, monthEnd))
-                .thenReturn(50.0);
+        when(attendanceRollupService.getOvertimeHoursByEmployee(currentMonth))
+                .thenReturn(Map.of(1001L, 50.0));
         when(systemConfigService.getHRManagerEmployeeNo()).thenReturn(2L);
         when(systemConfigService.getFinanceManagerEmployeeNo()).thenReturn(3L);
         when(systemConfigService.getGeneralManagerEmployeeNo()).thenReturn(1L);
@@ -183,12 +175,10 @@ class OvertimeAlertServiceTest {
     @DisplayName("Check overtime alerts should not send duplicate alerts for same month")
     void checkOvertimeAlerts_DuplicateAlert_Skips() {
         YearMonth currentMonth = YearMonth.from(today);
-        LocalDate monthStart = currentMonth.atDay(1);
-        LocalDate monthEnd = currentMonth.atEndOfMonth();
 
         when(employeeRepository.findAllActiveEmployees()).thenReturn(List.of(testEmployee));
-        when(attendanceRepository.sumOvertimeHours(1001L, monthStart, monthEnd))
-                .thenReturn(30.0);
+        when(attendanceRollupService.getOvertimeHoursByEmployee(currentMonth))
+                .thenReturn(Map.of(1001L, 30.0));
 
         // First call
         overtimeAlertService.checkOvertimeAlerts();
@@ -211,12 +201,10 @@ class OvertimeAlertServiceTest {
         @DisplayName("30-hour threshold alert triggered exactly at 30 hours")
         void test30HourThreshold_Exactly30Hours_TriggersAlert() {
             YearMonth currentMonth = YearMonth.from(today);
-            LocalDate monthStart = currentMonth.atDay(1);
-            LocalDate monthEnd = currentMonth.atEndOfMonth();
 
             when(employeeRepository.findAllActiveEmployees()).thenReturn(List.of(testEmployee));
-            when(attendanceRepository.sumOvertimeHours(1001L, monthStart, monthEnd))
-                    .thenReturn(30.0); // Exactly 30 hours
+            when(attendanceRollupService.getOvertimeHoursByEmployee(currentMonth))
+                    .thenReturn(Map.of(1001L, 30.0)); // Exactly 30 hours
 
             ArgumentCaptor<NotificationEvent> eventCaptor = ArgumentCaptor.forClass(NotificationEvent.class);
 
@@ -231,12 +219,10 @@ class OvertimeAlertServiceTest {
         @DisplayName("50-hour threshold alert triggered exactly at 50 hours")
         void test50HourThreshold_Exactly50Hours_TriggersAlert() {
             YearMonth currentMonth = YearMonth.from(today);
-            LocalDate monthStart = currentMonth.atDay(1);
-            LocalDate monthEnd = currentMonth.atEndOfMonth();
 
             when(employeeRepository.findAllActiveEmployees()).thenReturn(List.of(testEmployee));
-            when(attendanceRepository.sumOvertimeHours(1001L, monthStart, monthEnd))
-                    .thenReturn(50.0); // Exactly 50 hours
+            when(attendanceRollupService.getOvertimeHoursByEmployee(currentMonth))
+                    .thenReturn(Map.of(1001L, 50.0)); // Exactly 50 hours
             when(systemConfigService.getHRManagerEmployeeNo()).thenReturn(2L);
             when(systemConfigService.getFinanceManagerEmployeeNo()).thenReturn(3L);
             when(systemConfigService.getGeneralManagerEmployeeNo()).thenReturn(1L);
@@ -254,12 +240,10 @@ class OvertimeAlertServiceTest {
         @DisplayName("Overtime alert duplicate prevention")
         void testOvertimeAlert_DuplicatePrevention_OnlyOneAlert() {
             YearMonth currentMonth = YearMonth.from(today);
-            LocalDate monthStart = currentMonth.atDay(1);
-            LocalDate monthEnd = currentMonth.atEndOfMonth();
 
             when(employeeRepository.findAllActiveEmployees()).thenReturn(List.of(testEmployee));
-            when(attendanceRepository.sumOvertimeHours(1001L, monthStart, monthEnd))
-                    .thenReturn(30.0);
+            when(attendanceRollupService.getOvertimeHoursByEmployee(currentMonth))
+                    .thenReturn(Map.of(1001L, 30.0));
 
             // First call
             overtimeAlertService.checkOvertimeAlerts();
@@ -284,12 +268,10 @@ class OvertimeAlertServiceTest {
         @DisplayName("Overtime alert notification delivery")
         void testOvertimeAlert_NotificationDelivery_CorrectRecipients() {
             YearMonth currentMonth = YearMonth.from(today);
-            LocalDate monthStart = currentMonth.atDay(1);
-            LocalDate monthEnd = currentMonth.atEndOfMonth();
 
             when(employeeRepository.findAllActiveEmployees()).thenReturn(List.of(testEmployee));
-            when(attendanceRepository.sumOvertimeHours(1001L, monthStart, monthEnd))
-                    .thenReturn(50.0);
+            when(attendanceRollupService.getOvertimeHoursByEmployee(currentMonth))
+                    .thenReturn(Map.of(1001L, 50.0));
             when(systemConfigService.getHRManagerEmployeeNo()).thenReturn(2L);
             when(systemConfigService.getFinanceManagerEmployeeNo()).thenReturn(3L);
             when(systemConfigService.getGeneralManagerEmployeeNo()).thenReturn(1L);
@@ -312,8 +294,6 @@ class OvertimeAlertServiceTest {
             // Scheduled job runs at 9:00 AM
             // All employees checked, alerts sent for those exceeding thresholds
             YearMonth currentMonth = YearMonth.from(today);
-            LocalDate monthStart = currentMonth.atDay(1);
-            LocalDate monthEnd = currentMonth.atEndOfMonth();
 
             Employee employee1 = Employee.builder()
                     .employeeNo(1001L)
@@ -332,17 +312,16 @@ class OvertimeAlertServiceTest {
                     .build();
 
             when(employeeRepository.findAllActiveEmployees()).thenReturn(List.of(employee1, employee2, employee3));
-            when(attendanceRepository.sumOvertimeHours(1001L, monthStart, monthEnd)).thenReturn(30.0);
-            when(attendanceRepository.sumOvertimeHours(1002L, monthStart, monthEnd)).thenReturn(50.0);
-            when(attendanceRepository.sumOvertimeHours(1003L, monthStart, monthEnd)).thenReturn(10.0);
+            when(attendanceRollupService.getOvertimeHoursByEmployee(currentMonth))
+                    .thenReturn(Map.of(1001L, 30.0, 1002L, 50.0, 1003L, 10.0));
             when(systemConfigService.getHRManagerEmployeeNo()).thenReturn(2L);
             when(systemConfigService.getFinanceManagerEmployeeNo()).thenReturn(3L);
             when(systemConfigService.getGeneralManagerEmployeeNo()).thenReturn(1L);
 
             overtimeAlertService.checkOvertimeAlerts();
 
-            // Verify all employees were checked
-            verify(attendanceRepository, times(3)).sumOvertimeHours(anyLong(), any(), any());
+            // Verify all employees were checked from one read of the month's rollups
+            verify(attendanceRollupService, times(1)).getOvertimeHoursByEmployee(currentMonth);
         }
     }
 }
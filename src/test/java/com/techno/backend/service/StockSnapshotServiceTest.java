@@ -0,0 +1,132 @@
+package com.techno.backend.service;
+
+import com.techno.backend.dto.warehouse.StockAsOfResponse;
+import com.techno.backend.exception.BadRequestException;
+import com.techno.backend.repository.ProjectStoreRepository;
+import com.techno.backend.repository.StoreBalanceRepository;
+import com.techno.backend.repository.StoreBalanceSnapshotRepository;
+import com.techno.backend.repository.StoreItemRepository;
+import com.techno.backend.repository.StoreTransactionRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for StockSnapshotService.
+ * Tests the Riyadh day used by the snapshot job and the reporting of
+ * replayed movements that have no cost.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Stock Snapshot Service Tests")
+class StockSnapshotServiceTest {
+
+    // 00:15 on 1 January 2027 in Riyadh is still 31 December 2026 in UTC
+    private static final Instant JOB_TIME = Instant.parse("2026-12-31T21:15:00Z");
+
+    // Ledger rows stamped by a JVM running in UTC
+    private static final ZoneId LEDGER_ZONE = ZoneId.of("UTC");
+
+    @Mock
+    private StoreBalanceSnapshotRepository snapshotRepository;
+
+    @Mock
+    private StoreBalanceRepository balanceRepository;
+
+    @Mock
+    private StoreTransactionRepository transactionRepository;
+
+    @Mock
+    private ProjectStoreRepository storeRepository;
+
+    @Mock
+    private StoreItemRepository itemRepository;
+
+    @InjectMocks
+    private StockSnapshotService stockSnapshotService;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(stockSnapshotService, "clock",
+                Clock.fixed(JOB_TIME, ZoneId.of("Asia/Riyadh")));
+        ReflectionTestUtils.setField(stockSnapshotService, "ledgerZone", LEDGER_ZONE);
+    }
+
+    @Test
+    @DisplayName("Daily snapshot takes the Riyadh day that has just ended, bounded in ledger time")
+    void takeDailySnapshot_RiyadhYesterday() {
+        when(balanceRepository.findAllAmounts()).thenReturn(List.of());
+        when(transactionRepository.sumAllMovementsSince(any())).thenReturn(List.of());
+
+        stockSnapshotService.takeDailySnapshot();
+
+        // Riyadh midnight is 21:00 the evening before on the UTC ledger
+        verify(transactionRepository).sumAllMovementsSince(LocalDateTime.of(2026, 12, 31, 21, 0));
+        verify(snapshotRepository).deleteBySnapshotDate(LocalDate.of(2026, 12, 31));
+    }
+
+    @Test
+    @DisplayName("Today in Riyadh cannot be snapshotted yet")
+    void takeSnapshot_RiyadhToday_Rejected() {
+        assertThatThrownBy(() -> stockSnapshotService.takeSnapshot(LocalDate.of(2027, 1, 1)))
+                .isInstanceOf(BadRequestException.class);
+        verifyNoInteractions(snapshotRepository);
+    }
+
+    @Test
+    @DisplayName("Stock as of a day reports replayed movements without cost")
+    void getStockAsOf_ReportsUnpricedMovements() {
+        LocalDate day = LocalDate.of(2026, 12, 30);
+        ProjectStoreRepository.StoreName store = mock(ProjectStoreRepository.StoreName.class);
+        when(store.getStoreCode()).thenReturn(1L);
+        when(store.getStoreName()).thenReturn("Main Store");
+        when(storeRepository.findAllNames()).thenReturn(List.of(store));
+
+        StoreBalanceRepository.BalanceAmount balance = mock(StoreBalanceRepository.BalanceAmount.class);
+        when(balance.getStoreCode()).thenReturn(1L);
+        when(balance.getItemCode()).thenReturn(2L);
+        when(balance.getQuantityOnHand()).thenReturn(new BigDecimal("10"));
+        when(balance.getTotalValue()).thenReturn(new BigDecimal("100"));
+        when(balanceRepository.findAmountsByStoreCodes(anyCollection())).thenReturn(List.of(balance));
+
+        // Three later movements, two of them recorded before costing
+        StoreTransactionRepository.LedgerDelta delta = mock(StoreTransactionRepository.LedgerDelta.class);
+        when(delta.getStoreCode()).thenReturn(1L);
+        when(delta.getItemCode()).thenReturn(2L);
+        when(delta.getQuantity()).thenReturn(new BigDecimal("4"));
+        when(delta.getValue()).thenReturn(new BigDecimal("20"));
+        when(delta.getMovements()).thenReturn(3L);
+        when(delta.getUnpricedMovements()).thenReturn(2L);
+        when(transactionRepository.sumMovementsSince(anyCollection(), eq(LocalDateTime.of(2026, 12, 30, 21, 0))))
+                .thenReturn(List.of(delta));
+
+        StockAsOfResponse response = stockSnapshotService.getStockAsOf(day, null);
+
+        assertThat(response.getReplayDirection()).isEqualTo(StockSnapshotService.REPLAY_BACKWARD);
+        assertThat(response.getReplayedMovements()).isEqualTo(3L);
+        assertThat(response.getUnpricedMovements()).isEqualTo(2L);
+        assertThat(response.getBalances()).singleElement().satisfies(line -> {
+            assertThat(line.getQuantityOnHand()).isEqualByComparingTo("6");
+            assertThat(line.getTotalValue()).isEqualByComparingTo("80");
+        });
+    }
+}
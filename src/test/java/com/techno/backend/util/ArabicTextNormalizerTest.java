@@ -0,0 +1,49 @@
+package com.techno.backend.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for ArabicTextNormalizer.
+ *
+ * @author Techno HR System
+ * @version 1.0
+ */
+@DisplayName("Arabic Text Normalizer Tests")
+class ArabicTextNormalizerTest {
+
+    @Test
+    @DisplayName("Alef forms, Ta Marbuta and Alef Maqsura are folded")
+    void normalize_FoldsLetterForms() {
+        assertThat(ArabicTextNormalizer.normalize("أحمد إبراهيم آل")).isEqualTo("احمد ابراهيم ال");
+        assertThat(ArabicTextNormalizer.normalize("فاطمة")).isEqualTo("فاطمه");
+        assertThat(ArabicTextNormalizer.normalize("ليلى")).isEqualTo("ليلي");
+    }
+
+    @Test
+    @DisplayName("Tashkeel is removed and Latin text is lower-cased")
+    void normalize_RemovesDiacriticsAndLowercases() {
+        assertThat(ArabicTextNormalizer.normalize("مُحَمَّدٌ")).isEqualTo("محمد");
+        assertThat(ArabicTextNormalizer.normalize("Water PUMP 2\"")).isEqualTo("water pump 2\"");
+        assertThat(ArabicTextNormalizer.normalize(null)).isNull();
+    }
+
+    @Test
+    @DisplayName("Spellings of the same name share one key")
+    void normalize_VariantsShareKey() {
+        String key = ArabicTextNormalizer.normalize("احمد");
+
+        assertThat(ArabicTextNormalizer.normalize("أحمد")).isEqualTo(key);
+        assertThat(ArabicTextNormalizer.normalize("أَحْمَد")).isEqualTo(key);
+        assertThat(ArabicTextNormalizer.normalize("إحمد")).isEqualTo(key);
+    }
+
+    @Test
+    @DisplayName("Contains pattern is normalized, trimmed and escapes LIKE wildcards")
+    void containsPattern_NormalizesAndEscapes() {
+        assertThat(ArabicTextNormalizer.containsPattern("  مدرسة ")).isEqualTo("%مدرسه%");
+        assertThat(ArabicTextNormalizer.containsPattern("50%_a\\b")).isEqualTo("%50\\%\\_a\\\\b%");
+    }
+}
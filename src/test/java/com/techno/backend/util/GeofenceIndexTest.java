@@ -0,0 +1,131 @@
+package com.techno.backend.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for the GeofenceIndex grid index.
+ * Results are compared against a brute-force scan using GPSCalculator.
+ *
+ * @author Techno HR System
+ * @version 1.0
+ */
+@DisplayName("Geofence Index Tests")
+class GeofenceIndexTest {
+
+    // Riyadh area
+    private static final double BASE_LAT = 24.7136;
+    private static final double BASE_LON = 46.6753;
+
+    @Test
+    @DisplayName("Point inside overlapping sites returns both, nearest center first")
+    void findContaining_OverlappingSites_OrderedByDistance() {
+        GeofenceIndex index = GeofenceIndex.builder()
+                .add(1L, BASE_LAT, BASE_LON, 500)
+                .add(2L, BASE_LAT + 0.003, BASE_LON, 600)
+                .add(3L, BASE_LAT + 0.5, BASE_LON + 0.5, 500)
+                .build();
+
+        List<GeofenceIndex.Match> matches = index.findContaining(BASE_LAT + 0.002, BASE_LON);
+
+        assertThat(matches).extracting(GeofenceIndex.Match::siteId).containsExactly(2L, 1L);
+        assertThat(matches).allMatch(GeofenceIndex.Match::inside);
+    }
+
+    @Test
+    @DisplayName("Point outside every radius returns no site")
+    void findContaining_OutsideAllSites_ReturnsEmpty() {
+        GeofenceIndex index = GeofenceIndex.builder()
+                .add(1L, BASE_LAT, BASE_LON, 200)
+                .build();
+
+        // About 330 m north of the site
+        assertThat(index.findContaining(BASE_LAT + 0.003, BASE_LON)).isEmpty();
+        assertThat(index.findContaining(-BASE_LAT, -BASE_LON)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Site radius spanning a cell boundary is found from the neighbouring cell")
+    void findContaining_RadiusAcrossCellBoundary_Found() {
+        // Center just below a cell edge, query point just above it
+        double edge = Math.floor((BASE_LAT + 90) / GeofenceIndex.CELL_DEGREES) * GeofenceIndex.CELL_DEGREES - 90
+                + GeofenceIndex.CELL_DEGREES;
+        GeofenceIndex index = GeofenceIndex.builder()
+                .add(7L, edge - 0.001, BASE_LON, 1_000)
+                .build();
+
+        assertThat(index.findContaining(edge + 0.001, BASE_LON))
+                .extracting(GeofenceIndex.Match::siteId).containsExactly(7L);
+    }
+
+    @Test
+    @DisplayName("Nearest site and containment match a brute-force scan")
+    void findNearest_MatchesBruteForce() {
+        Random random = new Random(42);
+        int sites = 500;
+        double[][] coordinates = new double[sites][3];
+        GeofenceIndex.Builder builder = GeofenceIndex.builder();
+        for (int i = 0; i < sites; i++) {
+            coordinates[i][0] = BASE_LAT + (random.nextDouble() - 0.5) * 4;
+            coordinates[i][1] = BASE_LON + (random.nextDouble() - 0.5) * 4;
+            coordinates[i][2] = 200 + random.nextInt(1_800);
+            builder.add(i, coordinates[i][0], coordinates[i][1], coordinates[i][2]);
+        }
+        GeofenceIndex index = builder.build();
+
+        for (int q = 0; q < 2_000; q++) {
+            // Include points far outside the sites' area to exercise the full-scan fallback
+            double spread = q % 10 == 0 ? 20 : 4;
+            double lat = BASE_LAT + (random.nextDouble() - 0.5) * spread;
+            double lon = BASE_LON + (random.nextDouble() - 0.5) * spread;
+
+            int expectedNearest = -1;
+            double expectedDistance = Double.MAX_VALUE;
+            long expectedInside = 0;
+            for (int i = 0; i < sites; i++) {
+                double distance = GPSCalculator.distanceMeters(lat, lon, coordinates[i][0], coordinates[i][1]);
+                if (distance < expectedDistance) {
+                    expectedDistance = distance;
+                    expectedNearest = i;
+                }
+                if (distance <= coordinates[i][2]) {
+                    expectedInside++;
+                }
+            }
+
+            GeofenceIndex.Match nearest = index.findNearest(lat, lon);
+            assertThat(nearest.siteId()).isEqualTo(expectedNearest);
+            assertThat(nearest.distanceMeters()).isEqualTo(expectedDistance);
+            assertThat(index.findContaining(lat, lon)).hasSize((int) expectedInside);
+        }
+    }
+
+    @Test
+    @DisplayName("Empty index has no nearest site and unknown sites have no distance")
+    void emptyIndex_ReturnsNothing() {
+        GeofenceIndex index = GeofenceIndex.builder().build();
+
+        assertThat(index.size()).isZero();
+        assertThat(index.findNearest(BASE_LAT, BASE_LON)).isNull();
+        assertThat(index.findContaining(BASE_LAT, BASE_LON)).isEmpty();
+        assertThat(index.distanceTo(1L, BASE_LAT, BASE_LON)).isNull();
+    }
+
+    @Test
+    @DisplayName("Primitive distance matches the BigDecimal calculation")
+    void distanceMeters_MatchesCalculateDistance() {
+        double expected = GPSCalculator.calculateDistance(
+                new BigDecimal("24.7136"), new BigDecimal("46.6753"),
+                new BigDecimal("21.4858"), new BigDecimal("39.1925"));
+
+        assertThat(GPSCalculator.distanceMeters(24.7136, 46.6753, 21.4858, 39.1925)).isEqualTo(expected);
+        // Riyadh - Jeddah is roughly 850 km
+        assertThat(expected).isBetween(840_000.0, 860_000.0);
+    }
+}
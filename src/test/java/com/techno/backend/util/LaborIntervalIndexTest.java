@@ -0,0 +1,143 @@
+package com.techno.backend.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for the LaborIntervalIndex.
+ * Results are compared against a brute-force scan of all assignments.
+ *
+ * @author Techno HR System
+ * @version 1.0
+ */
+@DisplayName("Labor Interval Index Tests")
+class LaborIntervalIndexTest {
+
+    private static final Logger log = LoggerFactory.getLogger(LaborIntervalIndexTest.class);
+
+    private static final LocalDate BASE = LocalDate.of(2026, 1, 1);
+
+    @Test
+    @DisplayName("Covering assignment is found on its first and last day, not outside")
+    void findCovering_InclusiveBounds() {
+        LaborIntervalIndex index = new LaborIntervalIndex();
+        index.put(interval(1, 11, 3, "2026-01-18", "2026-01-30"));
+
+        assertThat(index.findCovering(11, LocalDate.parse("2026-01-18")).projectCode()).isEqualTo(3L);
+        assertThat(index.findCovering(11, LocalDate.parse("2026-01-30")).projectCode()).isEqualTo(3L);
+        assertThat(index.findCovering(11, LocalDate.parse("2026-01-17"))).isNull();
+        assertThat(index.findCovering(11, LocalDate.parse("2026-01-31"))).isNull();
+        assertThat(index.findCovering(12, LocalDate.parse("2026-01-20"))).isNull();
+    }
+
+    @Test
+    @DisplayName("Open-ended assignments overlap every later range")
+    void isFree_OpenEnded() {
+        LaborIntervalIndex index = new LaborIntervalIndex();
+        index.put(interval(1, 11, 3, "2026-03-01", null));
+
+        assertThat(index.isFree(11, LocalDate.parse("2026-01-01"), LocalDate.parse("2026-02-28"))).isTrue();
+        assertThat(index.isFree(11, LocalDate.parse("2030-01-01"), LocalDate.parse("2030-01-01"))).isFalse();
+        assertThat(index.isFree(11, LocalDate.parse("2026-02-01"), LocalDate.MAX)).isFalse();
+    }
+
+    @Test
+    @DisplayName("A long early assignment is found behind later short ones")
+    void findOverlapping_LongAssignmentBehindShortOnes() {
+        LaborIntervalIndex index = new LaborIntervalIndex();
+        index.put(interval(1, 11, 1, "2026-01-01", "2026-12-31"));
+        index.put(interval(2, 11, 2, "2026-02-01", "2026-02-05"));
+        index.put(interval(3, 11, 3, "2026-03-01", "2026-03-05"));
+
+        assertThat(index.findOverlapping(11, LocalDate.parse("2026-06-01"), LocalDate.parse("2026-06-30")))
+                .extracting(LaborIntervalIndex.Interval::assignmentNo)
+                .containsExactly(1L);
+        assertThat(index.findOverlapping(11, LocalDate.parse("2026-02-03"), LocalDate.parse("2026-03-01")))
+                .extracting(LaborIntervalIndex.Interval::assignmentNo)
+                .containsExactly(1L, 2L, 3L);
+        // Latest starting assignment wins
+        assertThat(index.findCovering(11, LocalDate.parse("2026-03-02")).projectCode()).isEqualTo(3L);
+    }
+
+    @Test
+    @DisplayName("Moved and removed assignments leave no stale intervals")
+    void putRemove_KeepsIndexInStep() {
+        LaborIntervalIndex index = new LaborIntervalIndex();
+        index.put(interval(1, 11, 3, "2026-01-01", "2026-01-31"));
+        index.put(interval(2, 11, 4, "2026-02-01", "2026-02-28"));
+
+        // Moved to another employee and new dates
+        index.put(interval(1, 12, 3, "2026-05-01", "2026-05-31"));
+        assertThat(index.isFree(11, LocalDate.parse("2026-01-01"), LocalDate.parse("2026-01-31"))).isTrue();
+        assertThat(index.findCovering(12, LocalDate.parse("2026-05-10")).assignmentNo()).isEqualTo(1L);
+
+        index.remove(2);
+        index.remove(99);
+        assertThat(index.isFree(11, BASE, LocalDate.MAX)).isTrue();
+        assertThat(index.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Random assignments and ranges match a brute-force scan")
+    void findOverlapping_MatchesBruteForce() {
+        Random random = new Random(43);
+        LaborIntervalIndex index = new LaborIntervalIndex();
+        Map<Long, LaborIntervalIndex.Interval> all = new HashMap<>();
+        int employees = 2_000;
+        for (long no = 1; no <= 40_000; no++) {
+            LocalDate start = BASE.plusDays(random.nextInt(730));
+            LocalDate end = random.nextInt(20) == 0 ? null : start.plusDays(random.nextInt(random.nextBoolean() ? 30 : 400));
+            LaborIntervalIndex.Interval interval = new LaborIntervalIndex.Interval(
+                    no, 1 + random.nextInt(employees), random.nextInt(50), start, end);
+            index.put(interval);
+            all.put(no, interval);
+        }
+        for (long no = 1; no <= 40_000; no += 5) {
+            index.remove(no);
+            all.remove(no);
+        }
+
+        long[] timings = new long[2_000];
+        for (int run = 0; run < timings.length; run++) {
+            long employeeNo = 1 + random.nextInt(employees);
+            LocalDate start = BASE.plusDays(random.nextInt(800));
+            LocalDate end = start.plusDays(random.nextInt(60));
+
+            List<LaborIntervalIndex.Interval> expected = new ArrayList<>(all.values().stream()
+                    .filter(i -> i.employeeNo() == employeeNo)
+                    .filter(i -> !i.startDate().isAfter(end) && (i.endDate() == null || !i.endDate().isBefore(start)))
+                    .sorted(Comparator.comparing(LaborIntervalIndex.Interval::startDate)
+                            .thenComparingLong(LaborIntervalIndex.Interval::assignmentNo))
+                    .toList());
+
+            long begin = System.nanoTime();
+            List<LaborIntervalIndex.Interval> found = index.findOverlapping(employeeNo, start, end);
+            timings[run] = System.nanoTime() - begin;
+
+            assertThat(found).containsExactlyElementsOf(expected);
+            assertThat(index.isFree(employeeNo, start, end)).isEqualTo(expected.isEmpty());
+        }
+        Arrays.sort(timings);
+        log.info("Labor interval lookups over {} assignments: median {} ns, p99 {} ns", index.size(),
+                timings[timings.length / 2], timings[timings.length * 99 / 100]);
+    }
+
+    private static LaborIntervalIndex.Interval interval(long assignmentNo, long employeeNo, long projectCode,
+                                                        String startDate, String endDate) {
+        return new LaborIntervalIndex.Interval(assignmentNo, employeeNo, projectCode,
+                LocalDate.parse(startDate), endDate == null ? null : LocalDate.parse(endDate));
+    }
+}
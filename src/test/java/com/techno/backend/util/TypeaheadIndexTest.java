@@ -0,0 +1,151 @@
+package com.techno.backend.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for the TypeaheadIndex.
+ * Results are compared against a brute-force scan of the normalized names.
+ *
+ * @author Techno HR System
+ * @version 1.0
+ */
+@DisplayName("Typeahead Index Tests")
+class TypeaheadIndexTest {
+
+    private static final Logger log = LoggerFactory.getLogger(TypeaheadIndexTest.class);
+
+    private static final String[] FIRST = {"أحمد", "محمد", "فاطمة", "خالد", "ليلى", "يوسف", "مضخة", "كابل", "مؤسسة"};
+    private static final String[] SECOND = {"العتيبي", "الشمري", "مياه", "نحاس", "الرياض", "Pump", "Cable"};
+
+    @Test
+    @DisplayName("Spellings with and without hamza, Ta Marbuta and tashkeel find the same record")
+    void search_NormalizedSpellings_Found() {
+        TypeaheadIndex index = new TypeaheadIndex();
+        index.put("EMPLOYEE", 1001L, "أحمد العتيبي");
+        index.put("ITEM", 7L, "مضخة مياه");
+
+        assertThat(index.search("احمد", null, 10)).extracting(TypeaheadIndex.Match::id).containsExactly(1001L);
+        assertThat(index.search("أَحْمَد", null, 10)).extracting(TypeaheadIndex.Match::id).containsExactly(1001L);
+        assertThat(index.search("مضخه", null, 10)).extracting(TypeaheadIndex.Match::label).containsExactly("مضخة مياه");
+    }
+
+    @Test
+    @DisplayName("Short queries match word starts, longer ones match inside words and codes")
+    void search_PrefixAndContains() {
+        TypeaheadIndex index = new TypeaheadIndex();
+        index.put("EMPLOYEE", 1001L, "خالد الشمري");
+        index.put("EMPLOYEE", 2002L, "محمد خالدي");
+
+        assertThat(index.search("خا", null, 10)).extracting(TypeaheadIndex.Match::id).containsExactly(1001L, 2002L);
+        assertThat(index.search("ال", null, 10)).extracting(TypeaheadIndex.Match::id).containsExactly(1001L);
+        assertThat(index.search("شمر", null, 10)).extracting(TypeaheadIndex.Match::id).containsExactly(1001L);
+        assertThat(index.search("200", null, 10)).extracting(TypeaheadIndex.Match::id).containsExactly(2002L);
+        assertThat(index.search("محمد خال", null, 10)).extracting(TypeaheadIndex.Match::id).containsExactly(2002L);
+        assertThat(index.search("  ", null, 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Names starting with the query rank before names containing it")
+    void search_RanksPrefixFirst() {
+        TypeaheadIndex index = new TypeaheadIndex();
+        index.put("SUPPLIER", 1L, "مؤسسة النور للتجارة");
+        index.put("SUPPLIER", 2L, "شركة النور");
+        index.put("SUPPLIER", 3L, "النور");
+        index.put("SUPPLIER", 4L, "المنورة للمقاولات");
+
+        assertThat(index.search("النور", null, 10)).extracting(TypeaheadIndex.Match::id)
+                .containsExactly(3L, 2L, 1L);
+        // Contains matches only: shorter names first
+        assertThat(index.search("نور", null, 10)).extracting(TypeaheadIndex.Match::id)
+                .containsExactly(3L, 2L, 4L, 1L);
+        assertThat(index.search("نور", null, 2)).extracting(TypeaheadIndex.Match::id)
+                .containsExactly(3L, 2L);
+    }
+
+    @Test
+    @DisplayName("Renamed and removed records leave no stale matches; types filter results")
+    void putRemove_KeepsIndexInStep() {
+        TypeaheadIndex index = new TypeaheadIndex();
+        index.put("PROJECT", 5L, "برج الرياض");
+        index.put("STORE", 5L, "مستودع الرياض");
+
+        index.put("PROJECT", 5L, "برج جدة");
+        assertThat(index.search("الرياض", null, 10)).extracting(TypeaheadIndex.Match::type).containsExactly("STORE");
+        assertThat(index.search("جده", null, 10)).extracting(TypeaheadIndex.Match::label).containsExactly("برج جدة");
+        assertThat(index.search("برج", Set.of("STORE"), 10)).isEmpty();
+
+        index.remove("STORE", 5L);
+        index.remove("STORE", 99L);
+        assertThat(index.search("الرياض", null, 10)).isEmpty();
+        assertThat(index.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Random names and queries match a brute-force scan")
+    void search_MatchesBruteForce() {
+        Random random = new Random(42);
+        TypeaheadIndex index = new TypeaheadIndex();
+        Map<Long, String> texts = new HashMap<>();
+        for (long id = 1; id <= 50_000; id++) {
+            String name = FIRST[random.nextInt(FIRST.length)] + " " + SECOND[random.nextInt(SECOND.length)];
+            index.put("ITEM", id, name);
+            texts.put(id, ArabicTextNormalizer.normalize(name) + " " + id);
+        }
+        for (long id = 1; id <= 50_000; id += 7) {
+            index.remove("ITEM", id);
+            texts.remove(id);
+        }
+
+        List<String> queries = new ArrayList<>(List.of("ا", "مح", "الش", "مياه", "pum", "فاطمه ال", "123", "مؤس"));
+        long[] timings = new long[queries.size() * 100];
+        int run = 0;
+        for (String query : queries) {
+            String[] words = ArabicTextNormalizer.normalize(query).split(" ");
+            long expected = texts.values().stream().filter(text -> matches(text, words)).count();
+
+            List<TypeaheadIndex.Match> all = index.search(query, null, Integer.MAX_VALUE);
+            assertThat(all).as(query).hasSize((int) expected);
+            assertThat(all).allMatch(m -> matches(texts.get(m.id()), words));
+
+            // Warm-up
+            for (int i = 0; i < 100; i++) {
+                index.search(query, null, 10);
+            }
+            for (int i = 0; i < 100; i++) {
+                long start = System.nanoTime();
+                index.search(query, null, 10);
+                timings[run++] = System.nanoTime() - start;
+            }
+        }
+        Arrays.sort(timings);
+        log.info("Typeahead over {} records: median {} us, p99 {} us (top 10)", index.size(),
+                timings[timings.length / 2] / 1_000, timings[timings.length * 99 / 100] / 1_000);
+    }
+
+    // Short words match word starts, longer ones anywhere
+    private static boolean matches(String text, String[] queryWords) {
+        List<String> words = Arrays.asList(text.split(" "));
+        for (String query : queryWords) {
+            boolean found = query.length() < 3
+                    ? words.stream().anyMatch(w -> w.startsWith(query))
+                    : text.contains(query);
+            if (!found) {
+                return false;
+            }
+        }
+        return true;
+    }
+}